@@ -0,0 +1,79 @@
+package backend.SSAFY_PTJ2.domain.common.dto;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.util.StreamUtils;
+
+import java.util.Random;
+
+/**
+ * 이미지 한 장이 Socket.IO 프레임에서 AI 멀티파트 전송 버퍼가 되기까지의 할당량 벤치마크
+ *
+ * <ul>
+ *   <li>copyAndResource: 0x04 마커 제거용 배열 복사 → 캐시 키 해시 → ByteArrayResource를 DataBuffer로 읽기 (기존 경로)</li>
+ *   <li>payloadView: ImagePayload 뷰 → 뷰 해시 → Netty 버퍼로 감싸기 (현재 경로)</li>
+ * </ul>
+ *
+ * gc 프로파일러의 gc.alloc.rate.norm(B/op)이 이미지 1장당 할당 바이트입니다.
+ */
+@State(Scope.Benchmark)
+public class ImagePayloadBenchmark {
+
+    private static final NettyDataBufferFactory NETTY_BUFFERS = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    @Param({"65536", "524288"})
+    public int imageBytes;
+
+    private byte[] frame;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        frame = new byte[imageBytes + 1];
+        new Random(42).nextBytes(frame);
+        frame[0] = 0x04; // Socket.IO 바이너리 마커
+        frame[1] = (byte) 0xFF; // JPEG SOI
+        frame[2] = (byte) 0xD8;
+        frame[3] = (byte) 0xFF;
+    }
+
+    @Benchmark
+    public void copyAndResource(Blackhole blackhole) {
+        byte[] clean = new byte[frame.length - 1];
+        System.arraycopy(frame, 1, clean, 0, clean.length);
+        blackhole.consume(CachedAnalysisItem.contentHash(clean));
+
+        Integer sent = DataBufferUtils.read(new ByteArrayResource(clean), DefaultDataBufferFactory.sharedInstance, StreamUtils.BUFFER_SIZE)
+            .map(buffer -> {
+                ByteBuf nativeBuffer = NettyDataBufferFactory.toByteBuf(buffer);
+                int readable = nativeBuffer.readableBytes();
+                DataBufferUtils.release(buffer);
+                return readable;
+            })
+            .reduce(0, Integer::sum)
+            .block();
+        blackhole.consume(sent);
+    }
+
+    @Benchmark
+    public void payloadView(Blackhole blackhole) {
+        ImagePayload payload = ImagePayload.fromSocketFrame(frame);
+        blackhole.consume(payload.sniffMimeType());
+        blackhole.consume(CachedAnalysisItem.contentHash(payload));
+
+        ByteBuf nativeBuffer = NettyDataBufferFactory.toByteBuf(NETTY_BUFFERS.wrap(Unpooled.wrappedBuffer(payload.asByteBuffer())));
+        blackhole.consume(nativeBuffer.readableBytes());
+        nativeBuffer.release();
+    }
+}
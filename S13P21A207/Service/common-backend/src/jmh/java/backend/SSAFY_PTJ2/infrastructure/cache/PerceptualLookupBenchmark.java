@@ -0,0 +1,78 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * 유사 이미지 해시 조회 지연 벤치마크
+ *
+ * 무작위 64비트 해시 100만 개를 넣은 다중 인덱스 테이블에서 거리 8 이내 항목을 찾습니다.
+ * 조회 해시의 절반은 저장된 해시를 0~8비트 바꾼 것(히트), 나머지는 무작위(미스)입니다.
+ * - multiIndex: MultiIndexHammingTable 조회 (요청 처리 경로)
+ * - linearScan: 같은 해시 배열 전수 비교 (비교 기준)
+ *
+ * ./gradlew jmh -Pjmh.includes=PerceptualLookupBenchmark
+ */
+@State(Scope.Benchmark)
+public class PerceptualLookupBenchmark {
+
+    private static final int MAX_DISTANCE = 8;
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000"})
+    public int entries;
+
+    private long[] stored;
+    private long[] queries;
+    private MultiIndexHammingTable<Integer> table;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        stored = new long[entries];
+        table = new MultiIndexHammingTable<>(entries);
+        for (int i = 0; i < entries; i++) {
+            stored[i] = random.nextLong();
+            table.put(stored[i], i);
+        }
+
+        queries = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            if (i % 2 == 0) {
+                long hash = stored[random.nextInt(entries)];
+                for (int bit = random.nextInt(MAX_DISTANCE + 1); bit > 0; bit--) {
+                    hash ^= 1L << random.nextInt(64);
+                }
+                queries[i] = hash;
+            } else {
+                queries[i] = random.nextLong();
+            }
+        }
+    }
+
+    @Benchmark
+    public int multiIndex() {
+        long query = queries[next++ & (QUERIES - 1)];
+        int[] found = new int[1];
+        table.search(query, MAX_DISTANCE, (hash, distance, value) -> found[0]++);
+        return found[0];
+    }
+
+    @Benchmark
+    public int linearScan() {
+        long query = queries[next++ & (QUERIES - 1)];
+        int found = 0;
+        for (long hash : stored) {
+            if (Long.bitCount(hash ^ query) <= MAX_DISTANCE) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
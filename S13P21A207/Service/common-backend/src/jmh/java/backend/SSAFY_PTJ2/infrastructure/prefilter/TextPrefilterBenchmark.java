@@ -0,0 +1,98 @@
+package backend.SSAFY_PTJ2.infrastructure.prefilter;
+
+import backend.SSAFY_PTJ2.global.config.TextPrefilterProperties;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 텍스트 사전 필터 처리량 벤치마크
+ *
+ * 웹 페이지 텍스트 노드와 비슷한 길이(10~80자)의 한글·영문 혼합 문장 1,000개를 한 번에 판정합니다.
+ * 일부 문장에는 우회 표기된 키워드를 섞었습니다.
+ * - screen: 정규화 + Aho-Corasick 매칭 + 판정 (요청 처리 경로)
+ * - normalize: 정규화만
+ *
+ * 처리량 모드로 실행하면 보조 카운터 megabytes의 값이 초당 처리한 원문 UTF-8 MB(MB/s)입니다.
+ * ./gradlew jmh -Pjmh.includes=TextPrefilterBenchmark -Pjmh.mode=thrpt -Pjmh.timeUnit=s
+ */
+@State(Scope.Benchmark)
+public class TextPrefilterBenchmark {
+
+    private static final Set<String> ALL_CATEGORIES = Set.of("IN", "VI", "SE", "AD", "PO");
+    private static final String[] WORDS = {
+        "오늘", "날씨가", "정말", "좋네요", "댓글", "감사합니다", "이번", "업데이트", "후기", "공유합니다",
+        "the", "quick", "brown", "fox", "review", "great", "video", "thanks", "for", "sharing",
+        "2024년", "10월", "3,500원", "ㅋㅋㅋ", "!!", "😀"
+    };
+    private static final String[] EVASIONS = {"씨 발", "ㅅㅂ", "병1신", "개.새.끼", "f u c k", "토토 사이트"};
+
+    @Param({"1000"})
+    public int texts;
+
+    private List<String> corpus;
+    private long corpusBytes;
+    private TextPrefilter prefilter;
+
+    /**
+     * 반복마다 처리한 바이트 수 (JMH가 초당 값으로 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        prefilter = new TextPrefilter(new TextPrefilterProperties());
+
+        Random random = new Random(42);
+        corpus = new ArrayList<>(texts);
+        for (int i = 0; i < texts; i++) {
+            StringBuilder text = new StringBuilder();
+            int targetLength = 10 + random.nextInt(70);
+            while (text.length() < targetLength) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            if (i % 10 == 0) {
+                text.append(EVASIONS[random.nextInt(EVASIONS.length)]);
+            }
+            corpus.add(text.toString());
+        }
+        corpusBytes = corpus.stream().mapToLong(text -> text.getBytes(StandardCharsets.UTF_8).length).sum();
+    }
+
+    @Benchmark
+    public void screen(Throughput throughput, Blackhole blackhole) {
+        for (String text : corpus) {
+            blackhole.consume(prefilter.screen(text, ALL_CATEGORIES));
+        }
+        throughput.megabytes += corpusBytes / 1_000_000.0;
+    }
+
+    @Benchmark
+    public void normalize(Throughput throughput, Blackhole blackhole) {
+        for (String text : corpus) {
+            blackhole.consume(TextNormalizer.normalize(text));
+        }
+        throughput.megabytes += corpusBytes / 1_000_000.0;
+    }
+}
@@ -0,0 +1,57 @@
+package backend.SSAFY_PTJ2.adapter.api.dto;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Socket.IO viewport-update 이벤트에서 받는 이미지 위치 DTO
+ * 스크롤로 위치가 바뀐 이미지마다 하나씩 배열로 전송됩니다.
+ */
+@Data
+public class ViewportUpdateSocketRequest {
+
+    /**
+     * 이미지 element ID (image-analysis 요청의 elementId와 같은 값)
+     */
+    private String elementId;
+
+    /**
+     * 뷰포트 가장자리에서 요소까지의 거리 (px, 화면 안이면 0)
+     */
+    private Double viewportDistance;
+
+    /**
+     * 화면 안 여부 (viewportDistance 대신 보낼 수 있음)
+     */
+    private Boolean inViewport;
+
+    /**
+     * 요소 너비 (px)
+     */
+    private Double width;
+
+    /**
+     * 요소 높이 (px)
+     */
+    private Double height;
+
+    /**
+     * 요소 쪽으로 다가오는 스크롤 속도 (px/s, 멀어지면 음수)
+     */
+    private Double scrollVelocity;
+
+    /**
+     * image-analysis의 imageMetadata와 같은 형식으로 변환
+     */
+    public Map<String, Object> toMetadata() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("viewportDistance", viewportDistance);
+        metadata.put("inViewport", inViewport);
+        metadata.put("width", width);
+        metadata.put("height", height);
+        metadata.put("scrollVelocity", scrollVelocity);
+        return metadata;
+    }
+}
@@ -4,6 +4,7 @@ import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.listener.ConnectListener;
 import com.corundumstudio.socketio.listener.DataListener;
 import com.corundumstudio.socketio.listener.DisconnectListener;
+import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
 import backend.SSAFY_PTJ2.domain.common.service.SessionFilterService;
 
 import jakarta.annotation.PostConstruct;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Component;
 /**
  * 기본 연결 관련 Socket.IO 이벤트 핸들러
  * - connection-init: 클라이언트 연결 초기화
- * - page-navigation: 페이지 이동 알림
+ * - page-navigation: 페이지 이동 알림 (이전 페이지의 분석 대기 요청 취소)
  * - ping/pong: 연결 상태 확인
  */
 @Slf4j
@@ -24,6 +25,7 @@ public class ConnectionHandler {
 
     private final SocketIOServer socketIOServer;
     private final SessionFilterService sessionFilterService;
+    private final ProcessingScheduler processingScheduler;
 
     @PostConstruct
     public void registerEventListeners() {
@@ -45,11 +47,11 @@ public class ConnectionHandler {
         DisconnectListener onDisconnected = client -> {
             String sessionID = client.getSessionId().toString();
 
-            // 이미지 필터 삭제
-            sessionFilterService.deleteImageFilterSettings(sessionID);
+            // 이미지/텍스트 필터 삭제 (세션 메모리 + Redis)
+            sessionFilterService.closeSession(sessionID);
 
-            // 텍스트 필터 삭제
-            sessionFilterService.deleteTextFilterSettings(sessionID);
+            // 결과를 받을 클라이언트가 없으므로 분석 대기 요청 취소
+            processingScheduler.cancelSession(sessionID);
 
             log.info("클라이언트 연결 해제: {}", client.getSessionId());
         };
@@ -61,13 +63,15 @@ public class ConnectionHandler {
     /**
      * connection-init 이벤트 리스너 등록
      * 클라이언트 연결 초기화 및 사용자 인증
+     * 세션 필터 설정을 이때 한 번 적재해 이후 분석 요청은 Redis를 읽지 않습니다.
      */
     private void registerConnectionInitListener() {
         DataListener<Object> onConnectionInit = (client, data, ackSender) -> {
             log.info("연결 초기화 요청: {} from {}", data, client.getSessionId());
             try {
                 // TODO: 실제 인증 로직 구현 필요
-                // 사용자 인증 정보 검증, 세션 설정 등
+                // 사용자 인증 정보 검증
+                sessionFilterService.loadSession(client.getSessionId().toString());
 
                 // connection-init-ok 응답 전송
                 client.sendEvent("connection-init-ok", createSuccessResponse("연결이 성공적으로 초기화되었습니다."));
@@ -83,7 +87,8 @@ public class ConnectionHandler {
 
     /**
      * page-navigation 이벤트 리스너 등록
-     * 새로운 페이지로의 이동 알림
+     * 새로운 페이지로의 이동 알림 - 이전 페이지 요소는 더 이상 화면에 없으므로 분석 대기 요청을 취소합니다.
+     * (취소된 요청에는 REQUEST_CANCELLED 오류 ACK가 전송됩니다)
      */
     private void registerPageNavigationListener() {
         DataListener<Object> onPageNavigation = (client, data, ackSender) -> {
@@ -91,8 +96,9 @@ public class ConnectionHandler {
             try {
                 // TODO: 페이지 컨텍스트 설정 로직 구현
                 // 페이지별 필터링 설정, 컨텍스트 초기화 등
+                int cancelled = processingScheduler.cancelSession(client.getSessionId().toString());
 
-                log.info("페이지 네비게이션 처리 완료: {}", client.getSessionId());
+                log.info("페이지 네비게이션 처리 완료: {}, 취소된 분석 요청: {}건", client.getSessionId(), cancelled);
             } catch (Exception e) {
                 log.error("페이지 네비게이션 처리 중 오류 발생: {}", e.getMessage(), e);
                 client.sendEvent("error", createErrorResponse("CL102", "유효하지 않은 URL입니다."));
@@ -2,10 +2,17 @@ package backend.SSAFY_PTJ2.adapter.api.socketio;
 
 import backend.SSAFY_PTJ2.adapter.api.dto.ImageAnalysisSocketRequest;
 import backend.SSAFY_PTJ2.adapter.api.dto.ImageAnalysisSocketResponse;
+import backend.SSAFY_PTJ2.adapter.api.dto.ViewportUpdateSocketRequest;
 import backend.SSAFY_PTJ2.application.ProcessingOrchestrator;
+import backend.SSAFY_PTJ2.application.admission.AnalysisAdmissionExecutor;
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
 import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ViewportHint;
+import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
+import backend.SSAFY_PTJ2.global.response.status.ErrorStatus;
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.listener.DataListener;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -30,6 +38,8 @@ import java.util.LinkedHashMap;
  * - 기존 비동기 처리 → 동기 처리로 변경
  * - ProcessingOrchestrator를 통한 통합 처리 플로우 사용
  * - Notion 명세 기준 이벤트명 사용 (image-analysis)
+ * - 분석은 AnalysisAdmissionExecutor 워커 풀에서 수행 (netty 이벤트 루프 차단 방지)
+ * - viewport-update로 스크롤에 따른 대기 중인 이미지 분석 순서 변경
  */
 @Slf4j
 @Component
@@ -38,16 +48,20 @@ public class ImageFilterHandler {
 
     private final SocketIOServer socketIOServer;
     private final ProcessingOrchestrator processingOrchestrator;
+    private final AnalysisAdmissionExecutor analysisAdmissionExecutor;
+    private final ProcessingScheduler processingScheduler;
     private final ObjectMapper objectMapper;
 
     @PostConstruct
     public void registerEventListeners() {
         registerImageAnalysisListener();
+        registerViewportUpdateListener();
     }
 
     /**
      * image-analysis 이벤트 리스너 등록
-     * 이미지 컨텐츠 AI 분석 요청을 동기적으로 처리합니다.
+     * 이미지 컨텐츠 AI 분석 요청을 분석 워커 풀에 넘기고, 처리가 끝나면 ACK로 결과를 전송합니다.
+     * 워커 풀이 포화 상태이거나 클라이언트 동시 처리 한도를 넘으면 즉시 busy 응답을 보냅니다.
      *
      * 클라이언트 전송 형식: socket.emit('image-analysis', imageDataArray)
      * - 이미지 메타데이터와 바이너리 데이터가 포함된 배열
@@ -55,62 +69,116 @@ public class ImageFilterHandler {
     private void registerImageAnalysisListener() {
         DataListener<ImageAnalysisSocketRequest[]> onImageAnalysis = (client, imageDataArray, ackSender) -> {
             String requestId = UUID.randomUUID().toString();
+            String sessionId = client.getSessionId().toString();
+            LocalDateTime receivedAt = LocalDateTime.now(); // 페이지 이동 이전 요청 판별 기준 (워커 대기 시간 제외)
             log.info("이미지 분석 요청 수신 - 요청 ID: {}, 세션: {}, 이미지 수: {}",
-                requestId, client.getSessionId(), imageDataArray.length);
+                requestId, sessionId, imageDataArray.length);
 
-            try {
-                // 1. 배열을 리스트로 변환 후 ImageProcessingRequest로 변환
-                List<ImageAnalysisSocketRequest> imageDataList = Arrays.asList(imageDataArray);
-
-                // Socket.IO 바이너리 헤더 0x04 제거 (O(1))
-                removeSocketIOBinaryHeaders(imageDataList);
-
-                // 🔍 디버깅용: 이미지 파일 저장
-                // saveImageFilesForDebugging(imageDataList);
+            // netty 이벤트 루프를 막지 않도록 분석은 워커 스레드에서 수행
+            AnalysisAdmissionExecutor.Admission admission = analysisAdmissionExecutor.submit(sessionId,
+                () -> processImageAnalysis(imageDataArray, sessionId, requestId, receivedAt, ackSender));
 
-                ImageProcessingRequest batchRequest = convertToImageProcessingRequest(
-                    imageDataList, client.getSessionId().toString(), requestId);
+            if (admission != AnalysisAdmissionExecutor.Admission.ACCEPTED) {
+                log.warn("이미지 분석 요청 거절 - 요청 ID: {}, 사유: {}", requestId, admission);
+                ackSender.sendAckData(createBusyResponse(admission));
+            }
+        };
 
-                // 2. 배치로 한번에 처리
-                ProcessingResult result = processingOrchestrator.processSync(batchRequest);
+        socketIOServer.addEventListener("image-analysis", ImageAnalysisSocketRequest[].class, onImageAnalysis);
+    }
 
-                // 3. 처리 결과를 ACK 응답으로 전송
-                if (result.isSuccess()) {
-                    Object ackResponseData = result.getPostProcessedData();
-                    ackSender.sendAckData(ackResponseData != null ? ackResponseData : convertToClientResponse(result));
-                    log.info("배치 이미지 분석 완료 - 요청 ID: {}, 이미지 수: {}, 소요시간: {}ms",
-                        requestId, batchRequest.getImageCount(), result.getProcessingTimeMs());
-                } else {
-                    ackSender.sendAckData(createErrorResponse(result.getErrorInfo()));
-                    log.warn("배치 이미지 분석 실패 - 요청 ID: {}, 오류: {}",
-                        requestId, result.getErrorInfo().getErrorMessage());
+    /**
+     * viewport-update 이벤트 리스너 등록
+     * 스크롤로 바뀐 이미지 위치를 받아 아직 분석 대기 중인 요청의 순서를 다시 계산합니다.
+     * 큐 순서만 바꾸는 가벼운 작업이므로 이벤트 루프에서 바로 처리하고 ACK는 보내지 않습니다.
+     *
+     * 클라이언트 전송 형식: socket.emit('viewport-update', [{elementId, viewportDistance, width, height, scrollVelocity}, ...])
+     */
+    private void registerViewportUpdateListener() {
+        DataListener<ViewportUpdateSocketRequest[]> onViewportUpdate = (client, updates, ackSender) -> {
+            try {
+                Map<String, ViewportHint> viewportHints = new HashMap<>();
+                for (ViewportUpdateSocketRequest update : updates) {
+                    ViewportHint hint = ViewportHint.from(update.toMetadata());
+                    if (update.getElementId() != null && hint != null) {
+                        viewportHints.put(update.getElementId(), hint);
+                    }
                 }
-
+                processingScheduler.reprioritize(client.getSessionId().toString(), viewportHints);
             } catch (Exception e) {
-                log.error("이미지 분석 핸들러 오류 - 요청 ID: {}", requestId, e);
-                ackSender.sendAckData(createErrorResponse("SV102", "서버 내부 오류: " + e.getMessage(), "시스템"));
+                log.error("뷰포트 갱신 처리 중 오류 - 세션: {}", client.getSessionId(), e);
             }
         };
 
-        socketIOServer.addEventListener("image-analysis", ImageAnalysisSocketRequest[].class, onImageAnalysis);
+        socketIOServer.addEventListener("viewport-update", ViewportUpdateSocketRequest[].class, onViewportUpdate);
+    }
+
+    /**
+     * 이미지 배치 분석 수행 및 ACK 응답 전송 (분석 워커 스레드에서 실행)
+     */
+    private void processImageAnalysis(ImageAnalysisSocketRequest[] imageDataArray, String sessionId,
+                                      String requestId, LocalDateTime receivedAt, AckRequest ackSender) {
+        try {
+            // 1. Socket.IO 바이너리 프레임을 복사 없이 페이로드 뷰로 변환 (0x04 마커는 offset으로 건너뜀)
+            List<ImageAnalysisSocketRequest> imageDataList = Arrays.asList(imageDataArray);
+            List<ImagePayload> payloads = imageDataList.stream()
+                .map(socketRequest -> ImagePayload.fromSocketFrame(socketRequest.getImageData()))
+                .toList();
+
+            // 매직 바이트로 판별한 실제 형식과 실제 크기로 제한 검사
+            ErrorStatus rejection = checkPayloads(imageDataList, payloads);
+            if (rejection != null) {
+                ackSender.sendAckData(createErrorResponse(rejection.getCode(), rejection.getMessage(), "이미지"));
+                log.warn("이미지 분석 요청 거절 - 요청 ID: {}, 사유: {}", requestId, rejection);
+                return;
+            }
+
+            ImageProcessingRequest batchRequest = convertToImageProcessingRequest(
+                imageDataList, payloads, sessionId, requestId, receivedAt);
+
+            // 🔍 디버깅용: 이미지 파일 저장
+            // saveImageFilesForDebugging(batchRequest.getImageDataList());
+
+            // 2. 배치로 한번에 처리
+            ProcessingResult result = processingOrchestrator.processSync(batchRequest);
+
+            // 3. 처리 결과를 ACK 응답으로 전송
+            if (result.isSuccess()) {
+                Object ackResponseData = result.getPostProcessedData();
+                ackSender.sendAckData(ackResponseData != null ? ackResponseData : convertToClientResponse(result));
+                log.info("배치 이미지 분석 완료 - 요청 ID: {}, 이미지 수: {}, 소요시간: {}ms",
+                    requestId, batchRequest.getImageCount(), result.getProcessingTimeMs());
+            } else {
+                ackSender.sendAckData(createErrorResponse(result.getErrorInfo()));
+                log.warn("배치 이미지 분석 실패 - 요청 ID: {}, 오류: {}",
+                    requestId, result.getErrorInfo().getErrorMessage());
+            }
+
+        } catch (Exception e) {
+            log.error("이미지 분석 핸들러 오류 - 요청 ID: {}", requestId, e);
+            ackSender.sendAckData(createErrorResponse("SV102", "서버 내부 오류: " + e.getMessage(), "시스템"));
+        }
     }
 
     /**
      * Socket.IO 요청 DTO를 ImageProcessingRequest로 변환
      * 메타데이터와 바이너리 데이터가 하나의 DTO에 포함된 형태
+     * MIME 타입과 크기는 클라이언트 신고값 대신 페이로드에서 판별한 값을 사용합니다.
      */
     private ImageProcessingRequest convertToImageProcessingRequest(
-        List<ImageAnalysisSocketRequest> imageDataList, String sessionId, String requestId) {
+        List<ImageAnalysisSocketRequest> imageDataList, List<ImagePayload> payloads,
+        String sessionId, String requestId, LocalDateTime receivedAt) {
 
         List<ImageProcessingRequest.ImageData> processedImageDataList = new ArrayList<>();
         ProcessingRequest.Priority batchPriority = ProcessingRequest.Priority.NORMAL;
         String batchPageUrl = null;
 
-        for (ImageAnalysisSocketRequest socketRequest : imageDataList) {
+        for (int index = 0; index < imageDataList.size(); index++) {
+            ImageAnalysisSocketRequest socketRequest = imageDataList.get(index);
+            ImagePayload payload = payloads.get(index);
             String elementId = socketRequest.getElementId();
-            String mimeType = socketRequest.getMimeType();
-            byte[] binaryData = socketRequest.getImageData();
-            long size = socketRequest.getSize() != null ? socketRequest.getSize() : binaryData.length;
+            String mimeType = payload.sniffMimeType();
+            long size = payload.length();
             String pageUrl = socketRequest.getPageUrl();
             Map<String, Object> imageMetadata = socketRequest.getImageMetadata();
 
@@ -128,8 +196,13 @@ public class ImageFilterHandler {
             // 파일명 생성
             String fileName = elementId + getFileExtension(mimeType);
 
+            if (!mimeType.equals(socketRequest.getMimeType())) {
+                log.debug("신고된 MIME 타입과 실제 형식 불일치 - ElementId: {}, 신고: {}, 실제: {}",
+                    elementId, socketRequest.getMimeType(), mimeType);
+            }
+
             ImageProcessingRequest.ImageData imageData = ImageProcessingRequest.ImageData.builder()
-                .data(binaryData)
+                .payload(payload)
                 .mimeType(mimeType)
                 .fileName(fileName)
                 .size(size)
@@ -149,7 +222,7 @@ public class ImageFilterHandler {
         return ImageProcessingRequest.builder()
             .requestId(requestId)
             .priority(batchPriority)
-            .timestamp(LocalDateTime.now())
+            .timestamp(receivedAt)
             .sessionId(sessionId)
             .elementId("batch_" + requestId)
             .pageUrl(batchPageUrl)
@@ -158,49 +231,26 @@ public class ImageFilterHandler {
     }
 
     /**
-     * Socket.IO 바이너리 전송 시 추가되는 0x04 헤더 제거 (O(1))
-     * Socket.IO Engine.IO 프로토콜에서 BINARY_EVENT 타입을 나타내는 0x04 바이트를 제거합니다.
+     * 이미지 형식/크기 제한 검사
+     * 형식은 매직 바이트로, 크기는 0x04 마커를 제외한 실제 바이트 수로 판단합니다.
      *
-     * @param imageDataList 이미지 데이터 리스트 (in-place 수정)
+     * @return 위반한 제한, 모두 통과하면 null
      */
-    private void removeSocketIOBinaryHeaders(List<ImageAnalysisSocketRequest> imageDataList) {
-        for (ImageAnalysisSocketRequest request : imageDataList) {
-            byte[] imageData = request.getImageData();
-
-            if (imageData != null && imageData.length > 0 && imageData[0] == 0x04) {
-                // System.arraycopy 사용하여 효율적으로 헤더 제거 (O(1))
-                byte[] cleanData = new byte[imageData.length - 1];
-                System.arraycopy(imageData, 1, cleanData, 0, imageData.length - 1);
-
-                // ImageAnalysisSocketRequest의 imageData 필드 업데이트
-                // (리플렉션 또는 setter 메서드 사용 필요)
-                updateImageData(request, cleanData);
-
-                log.debug("Socket.IO 바이너리 헤더 0x04 제거 완료 - ElementId: {}, 원본크기: {}bytes, 정리후크기: {}bytes",
-                    request.getElementId(), imageData.length, cleanData.length);
+    private ErrorStatus checkPayloads(List<ImageAnalysisSocketRequest> imageDataList, List<ImagePayload> payloads) {
+        for (int index = 0; index < payloads.size(); index++) {
+            ImagePayload payload = payloads.get(index);
+            if (payload.length() > ImageProcessingRequest.MAX_IMAGE_BYTES) {
+                log.debug("이미지 크기 초과 - ElementId: {}, 크기: {}bytes",
+                    imageDataList.get(index).getElementId(), payload.length());
+                return ErrorStatus.IMAGE_SIZE_EXCEEDED;
             }
-        }
-    }
-
-    /**
-     * ImageAnalysisSocketRequest의 imageData 필드를 업데이트합니다.
-     *
-     * @param request 업데이트할 요청 객체
-     * @param newImageData 새로운 이미지 데이터
-     */
-    private void updateImageData(ImageAnalysisSocketRequest request, byte[] newImageData) {
-        try {
-            // ImageAnalysisSocketRequest에 setter가 있다면 사용
-            if (request instanceof backend.SSAFY_PTJ2.adapter.api.dto.ImageAnalysisSocketRequest) {
-                // DTO 패턴이라면 새 객체 생성이 필요할 수 있음 - 임시로 리플렉션 사용
-                var field = request.getClass().getDeclaredField("imageData");
-                field.setAccessible(true);
-                field.set(request, newImageData);
+            if (payload.sniffMimeType() == null) {
+                log.debug("지원하지 않는 이미지 형식 - ElementId: {}, 신고된 MIME: {}",
+                    imageDataList.get(index).getElementId(), imageDataList.get(index).getMimeType());
+                return ErrorStatus.UNSUPPORTED_IMAGE_FORMAT;
             }
-        } catch (Exception e) {
-            log.warn("ImageData 업데이트 실패 - ElementId: {}, 오류: {}",
-                request.getElementId(), e.getMessage());
         }
+        return null;
     }
 
     /**
@@ -208,7 +258,7 @@ public class ImageFilterHandler {
      * 클라이언트에서 전송된 이미지가 서버에 정상적으로 도착했는지 확인하기 위해
      * temp/{elementId} 경로에 실제 이미지 파일로 저장합니다.
      */
-    private void saveImageFilesForDebugging(List<ImageAnalysisSocketRequest> imageDataList) {
+    private void saveImageFilesForDebugging(List<ImageProcessingRequest.ImageData> imageDataList) {
         try {
             // temp 디렉토리 생성
             Path tempDir = Paths.get("temp");
@@ -216,20 +266,18 @@ public class ImageFilterHandler {
                 Files.createDirectories(tempDir);
             }
 
-            for (ImageAnalysisSocketRequest socketRequest : imageDataList) {
-                String elementId = socketRequest.getElementId();
-                String mimeType = socketRequest.getMimeType();
-                byte[] imageData = socketRequest.getImageData();
+            for (ImageProcessingRequest.ImageData imageData : imageDataList) {
+                String elementId = imageData.getElementId();
 
-                if (imageData != null && imageData.length > 0) {
-                    String fileExtension = getFileExtension(mimeType);
-                    String fileName = elementId + fileExtension;
-                    Path filePath = tempDir.resolve(fileName);
+                if (imageData.hasPayload()) {
+                    Path filePath = tempDir.resolve(elementId + imageData.getFileExtension());
 
                     // 이미지 파일 저장
-                    Files.write(filePath, imageData);
+                    try (OutputStream out = Files.newOutputStream(filePath)) {
+                        imageData.getPayload().writeTo(out);
+                    }
                     log.info("🔍 디버깅용 이미지 저장 완료 - 파일: {}, 크기: {}bytes, MIME: {}",
-                        filePath.toAbsolutePath(), imageData.length, mimeType);
+                        filePath.toAbsolutePath(), imageData.getPayload().length(), imageData.getMimeType());
                 } else {
                     log.warn("🔍 디버깅용 이미지 저장 실패 - ElementId: {}, 이미지 데이터 없음", elementId);
                 }
@@ -243,13 +291,12 @@ public class ImageFilterHandler {
     }
 
     /**
-     * 이미지 우선순위 판별
-     * TODO: 개발자 D가 뷰포트 여부 확인 로직 구현
+     * 이미지 우선순위 판별 - 화면 안(viewportDistance 0 또는 inViewport true)이면 HIGH
+     * 세부 순서는 스케줄러가 같은 메타데이터(거리·크기·스크롤 속도)로 다시 계산합니다.
      */
     private ProcessingRequest.Priority determineImagePriority(Map<String, Object> imageMetadata) {
-        // TODO: imageMetadata에서 뷰포트 내 여부 확인
-        // 예: imageMetadata.get("inViewport") 등
-        return ProcessingRequest.Priority.NORMAL; // 임시 구현
+        ViewportHint hint = ViewportHint.from(imageMetadata);
+        return hint != null && hint.isInViewport() ? ProcessingRequest.Priority.HIGH : ProcessingRequest.Priority.NORMAL;
     }
 
     /**
@@ -303,4 +350,14 @@ public class ImageFilterHandler {
         );
     }
 
+    /**
+     * 수락 거절 응답 생성 (클라이언트 동시 처리 한도 초과 / 서버 포화)
+     */
+    private Object createBusyResponse(AnalysisAdmissionExecutor.Admission admission) {
+        ErrorStatus status = admission == AnalysisAdmissionExecutor.Admission.CLIENT_LIMIT_EXCEEDED
+            ? ErrorStatus.REQUEST_LIMIT_EXCEEDED
+            : ErrorStatus.SERVER_OVERLOADED;
+        return createErrorResponse(status.getCode(), status.getMessage(), "시스템");
+    }
+
 }
\ No newline at end of file
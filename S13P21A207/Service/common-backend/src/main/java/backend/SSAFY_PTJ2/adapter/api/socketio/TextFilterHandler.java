@@ -3,9 +3,12 @@ package backend.SSAFY_PTJ2.adapter.api.socketio;
 import backend.SSAFY_PTJ2.adapter.api.dto.TextAnalysisSocketRequest;
 import backend.SSAFY_PTJ2.adapter.api.dto.TextAnalysisSocketResponse;
 import backend.SSAFY_PTJ2.application.ProcessingOrchestrator;
+import backend.SSAFY_PTJ2.application.admission.AnalysisAdmissionExecutor;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
 import backend.SSAFY_PTJ2.domain.common.dto.TextProcessingRequest;
+import backend.SSAFY_PTJ2.global.response.status.ErrorStatus;
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.listener.DataListener;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +32,7 @@ import java.util.stream.Collectors;
  * - 기존 비동기 처리 → 동기 처리로 변경
  * - ProcessingOrchestrator를 통한 통합 처리 플로우 사용
  * - Notion 명세 기준 이벤트명 사용 (text-analysis)
+ * - 분석은 AnalysisAdmissionExecutor 워커 풀에서 수행 (netty 이벤트 루프 차단 방지)
  */
 @Slf4j
 @Component
@@ -37,6 +41,7 @@ public class TextFilterHandler {
 
     private final SocketIOServer socketIOServer;
     private final ProcessingOrchestrator processingOrchestrator;
+    private final AnalysisAdmissionExecutor analysisAdmissionExecutor;
 
     @PostConstruct
     public void registerEventListeners() {
@@ -45,7 +50,8 @@ public class TextFilterHandler {
 
     /**
      * text-analysis 이벤트 리스너 등록
-     * 텍스트 컨텐츠 AI 분석 요청을 동기적으로 처리합니다.
+     * 텍스트 컨텐츠 AI 분석 요청을 분석 워커 풀에 넘기고, 처리가 끝나면 ACK로 결과를 전송합니다.
+     * 워커 풀이 포화 상태이거나 클라이언트 동시 처리 한도를 넘으면 즉시 busy 응답을 보냅니다.
      *
      * 클라이언트 전송 형식: socket.emit('text-analysis', textDataArray)
      * - 텍스트 메타데이터와 내용이 포함된 배열
@@ -53,44 +59,60 @@ public class TextFilterHandler {
     private void registerTextAnalysisListener() {
         DataListener<TextAnalysisSocketRequest[]> onTextAnalysis = (client, textDataArray, ackSender) -> {
             String requestId = UUID.randomUUID().toString();
+            String sessionId = client.getSessionId().toString();
+            LocalDateTime receivedAt = LocalDateTime.now(); // 페이지 이동 이전 요청 판별 기준 (워커 대기 시간 제외)
             log.info("텍스트 분석 요청 수신 - 요청 ID: {}, 세션: {}, 텍스트 수: {}",
-                requestId, client.getSessionId(), textDataArray.length);
-
-            try {
-                // 1. 배열을 리스트로 변환 후 TextProcessingRequest로 변환
-                List<TextAnalysisSocketRequest> textDataList = Arrays.asList(textDataArray);
-
-                TextProcessingRequest batchRequest = convertToTextProcessingRequest(
-                    textDataList, client.getSessionId().toString(), requestId);
-
-                // 2. 배치로 한번에 처리
-                ProcessingResult result = processingOrchestrator.processSync(batchRequest);
-
-                // 3. 처리 결과를 ACK 응답으로 전송
-                if (result.isSuccess()) {
-                    ackSender.sendAckData(convertToClientResponse(result));
-                    log.info("배치 텍스트 분석 완료 - 요청 ID: {}, 텍스트 수: {}, 소요시간: {}ms",
-                        requestId, batchRequest.getTextCount(), result.getProcessingTimeMs());
-                } else {
-                    ackSender.sendAckData(createErrorResponse(result.getErrorInfo()));
-                    log.warn("배치 텍스트 분석 실패 - 요청 ID: {}, 오류: {}",
-                        requestId, result.getErrorInfo().getErrorMessage());
-                }
-
-            } catch (Exception e) {
-                log.error("텍스트 분석 핸들러 오류 - 요청 ID: {}", requestId, e);
-                ackSender.sendAckData(createErrorResponse("SV102", "서버 내부 오류", "시스템"));
+                requestId, sessionId, textDataArray.length);
+
+            // netty 이벤트 루프를 막지 않도록 분석은 워커 스레드에서 수행
+            AnalysisAdmissionExecutor.Admission admission = analysisAdmissionExecutor.submit(sessionId,
+                () -> processTextAnalysis(textDataArray, sessionId, requestId, receivedAt, ackSender));
+
+            if (admission != AnalysisAdmissionExecutor.Admission.ACCEPTED) {
+                log.warn("텍스트 분석 요청 거절 - 요청 ID: {}, 사유: {}", requestId, admission);
+                ackSender.sendAckData(createBusyResponse(admission));
             }
         };
 
         socketIOServer.addEventListener("text-analysis", TextAnalysisSocketRequest[].class, onTextAnalysis);
     }
 
+    /**
+     * 텍스트 배치 분석 수행 및 ACK 응답 전송 (분석 워커 스레드에서 실행)
+     */
+    private void processTextAnalysis(TextAnalysisSocketRequest[] textDataArray, String sessionId,
+                                     String requestId, LocalDateTime receivedAt, AckRequest ackSender) {
+        try {
+            // 1. 배열을 리스트로 변환 후 TextProcessingRequest로 변환
+            List<TextAnalysisSocketRequest> textDataList = Arrays.asList(textDataArray);
+
+            TextProcessingRequest batchRequest = convertToTextProcessingRequest(textDataList, sessionId, requestId, receivedAt);
+
+            // 2. 배치로 한번에 처리
+            ProcessingResult result = processingOrchestrator.processSync(batchRequest);
+
+            // 3. 처리 결과를 ACK 응답으로 전송
+            if (result.isSuccess()) {
+                ackSender.sendAckData(convertToClientResponse(result));
+                log.info("배치 텍스트 분석 완료 - 요청 ID: {}, 텍스트 수: {}, 소요시간: {}ms",
+                    requestId, batchRequest.getTextCount(), result.getProcessingTimeMs());
+            } else {
+                ackSender.sendAckData(createErrorResponse(result.getErrorInfo()));
+                log.warn("배치 텍스트 분석 실패 - 요청 ID: {}, 오류: {}",
+                    requestId, result.getErrorInfo().getErrorMessage());
+            }
+
+        } catch (Exception e) {
+            log.error("텍스트 분석 핸들러 오류 - 요청 ID: {}", requestId, e);
+            ackSender.sendAckData(createErrorResponse("SV102", "서버 내부 오류", "시스템"));
+        }
+    }
+
     /**
      * TextAnalysisSocketRequest 배열을 배치 TextProcessingRequest로 변환
      */
     private TextProcessingRequest convertToTextProcessingRequest(
-        List<TextAnalysisSocketRequest> textDataList, String sessionId, String requestId) {
+        List<TextAnalysisSocketRequest> textDataList, String sessionId, String requestId, LocalDateTime receivedAt) {
 
         List<TextProcessingRequest.TextData> textProcessingDataList = new ArrayList<>();
         ProcessingRequest.Priority batchPriority = ProcessingRequest.Priority.NORMAL;
@@ -122,7 +144,7 @@ public class TextFilterHandler {
         return TextProcessingRequest.builder()
             .requestId(requestId)
             .priority(batchPriority)
-            .timestamp(LocalDateTime.now())
+            .timestamp(receivedAt)
             .sessionId(sessionId)
             .elementId("batch_" + requestId) // 배치 요청임을 나타내는 elementId
             .pageUrl(batchPageUrl)
@@ -208,4 +230,14 @@ public class TextFilterHandler {
             "timestamp", System.currentTimeMillis()
         );
     }
+
+    /**
+     * 수락 거절 응답 생성 (클라이언트 동시 처리 한도 초과 / 서버 포화)
+     */
+    private Object createBusyResponse(AnalysisAdmissionExecutor.Admission admission) {
+        ErrorStatus status = admission == AnalysisAdmissionExecutor.Admission.CLIENT_LIMIT_EXCEEDED
+            ? ErrorStatus.REQUEST_LIMIT_EXCEEDED
+            : ErrorStatus.SERVER_OVERLOADED;
+        return createErrorResponse(status.getCode(), status.getMessage(), "시스템");
+    }
 }
\ No newline at end of file
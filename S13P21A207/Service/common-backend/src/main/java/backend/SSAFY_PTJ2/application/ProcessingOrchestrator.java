@@ -3,6 +3,7 @@ package backend.SSAFY_PTJ2.application;
 import backend.SSAFY_PTJ2.application.usecase.PostProcessingUseCase;
 import backend.SSAFY_PTJ2.application.usecase.PreProcessingUseCase;
 import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CacheLookupResult;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
 import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
@@ -13,8 +14,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 /**
  * 전체 처리 플로우 오케스트레이터 - 개발자 D 담당
  *
@@ -45,14 +44,7 @@ public class ProcessingOrchestrator {
             log.info("동기 처리 시작 - 요청 ID: {}, 타입: {}, 우선순위: {}",
                 request.getRequestId(), request.getType(), request.getPriority());
 
-            // 1단계: 처리 전 작업 (캐시 조회)
-            Optional<ProcessingResult> cachedResult = preProcessingUseCase.executePreProcessing(request);
-            if (cachedResult.isPresent()) {
-                log.info("캐시 히트 - 요청 ID: {}", request.getRequestId());
-                return cachedResult.get();
-            }
-
-            // 2단계: 요청 타입에 따른 분기 처리
+            // 요청 타입에 따른 분기 처리 (캐시 조회는 항목 단위로 각 플로우에서 수행)
             ProcessingResult result = switch (request.getType()) {
                 case IMAGE_ANALYSIS -> processImageRequest(request);
                 case TEXT_ANALYSIS -> processTextRequest(request);
@@ -100,34 +92,21 @@ public class ProcessingOrchestrator {
 
     /**
      * 이미지 요청 처리 - 자동 전환 로직 적용
-     * 스케줄러 상태에 따라 자동으로 처리 방식 결정
+     * 이미지 분석은 AI 분석 후에 사용자 설정을 적용
+     * 캐시 미스 항목은 스케줄러가 정상이면 마이크로 배치로, 아니면 AI 클라이언트로 직접 분석합니다.
      */
     private ProcessingResult processImageRequest(ProcessingRequest request) throws ProcessingScheduler.ProcessingException {
         log.debug("이미지 요청 처리 시작 - 요청 ID: {}", request.getRequestId());
 
-        // 전략 1: 스케줄러 건강성 기반 자동 전환
-        if (processingScheduler.isHealthy()) {
-            // 스케줄러가 완전히 구현된 상태 - 스케줄러 사용
-            log.info("스케줄러 플로우 사용 - 요청 ID: {}", request.getRequestId());
-            return processingScheduler.scheduleAndProcess(request);
-        } else {
-            // 스케줄러 미완성 상태 - 직접 처리 플로우
-            log.info("직접 처리 플로우 사용 - 요청 ID: {}", request.getRequestId());
-            return processImageDirectly(request);
-        }
-    }
-
-    /**
-     * 이미지 직접 처리 플로우
-     * 이미지 분석은 AI 분석 후에 사용자 설정을 적용
-     * 추후 스케줄러 완성시 해당 함수는 deprecated될것임
-     */
-    private ProcessingResult processImageDirectly(ProcessingRequest request) throws ProcessingScheduler.ProcessingException {
+        boolean useScheduler = useScheduler(request);
         try {
             long startTime = System.currentTimeMillis();
 
-            // 1. AI 분석 먼저 수행
-            AnalysisResult analysisResult = imageAIAnalysisClient.analyze(request);
+            // 1. 캐시 조회 후 캐시에 없는 이미지만 AI 분석 (이미지 캐시 키는 사용자 설정과 무관)
+            CacheLookupResult cacheLookup = preProcessingUseCase.executePreProcessing(request, null);
+            AnalysisResult analysisResult = analyzeMisses(cacheLookup, missRequest -> useScheduler
+                ? processingScheduler.scheduleAndProcess(missRequest).getAnalysisResult()
+                : imageAIAnalysisClient.analyze(missRequest));
 
             // 2. 사용자 설정 조회
             UserSettings userSettings = preProcessingUseCase.getUserSettings(request.getSessionId());
@@ -137,13 +116,15 @@ public class ProcessingOrchestrator {
 
             // 4. 결과 변환
             long processingTime = System.currentTimeMillis() - startTime;
-            return postProcessingUseCase.convertToResponse(request, filteredResult, processingTime, false);
+            return postProcessingUseCase.convertToResponse(request, filteredResult, processingTime, cacheLookup.isFullyCached());
 
+        } catch (ProcessingScheduler.ProcessingException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("직접 처리 플로우 중 오류 발생 - 요청 ID: {}", request.getRequestId(), e);
+            log.error("처리 플로우 중 오류 발생 - 요청 ID: {}", request.getRequestId(), e);
             throw new ProcessingScheduler.ProcessingException(
-                "직접 처리 플로우 오류: " + e.getMessage(),
-                "DIRECT_FLOW_ERROR",
+                "처리 플로우 오류: " + e.getMessage(),
+                "FLOW_ERROR",
                 request.getType(),
                 e
             );
@@ -151,53 +132,72 @@ public class ProcessingOrchestrator {
     }
 
     /**
-     * 텍스트 요청 처리
-     * TODO: 개발자 D 구현
+     * 텍스트 요청 처리 - 자동 전환 로직 적용
+     * 텍스트 분석은 AI 분석 전에 사용자 설정을 가져와야 함
      */
     private ProcessingResult processTextRequest(ProcessingRequest request) throws ProcessingScheduler.ProcessingException {
         log.debug("텍스트 요청 처리 시작 - 요청 ID: {}", request.getRequestId());
 
-        // 전략 1: 스케줄러 건강성 기반 자동 전환
-        if (processingScheduler.isHealthy()) {
-            // 스케줄러가 완전히 구현된 상태 - 스케줄러 사용
-            log.info("스케줄러 플로우 사용 - 요청 ID: {}", request.getRequestId());
-            return processingScheduler.scheduleAndProcess(request);
-        } else {
-            // 스케줄러 미완성 상태 - 직접 처리 플로우
-            log.info("직접 처리 플로우 사용 - 요청 ID: {}", request.getRequestId());
-            return processTextDirectly(request);
-        }
-    }
-    /**
-     * 텍스트 직접 처리 플로우
-     * 텍스트 분석은 AI 분석 전에 사용자 설정을 가져와야 함
-     * 추후 스케줄러 완성시 해당 함수는 deprecated될것임
-     */
-    private ProcessingResult processTextDirectly(ProcessingRequest request) throws ProcessingScheduler.ProcessingException {
+        boolean useScheduler = useScheduler(request);
         try {
             long startTime = System.currentTimeMillis();
 
             // 1. 사용자 설정 조회 (텍스트는 AI 분석 전에 필요)
             UserSettings userSettings = preProcessingUseCase.getUserSettings(request.getSessionId());
 
-            // 2. 사용자 설정이 포함된 요청으로 AI 분석
-            AnalysisResult analysisResult = textAIAnalysisClient.analyze(request, userSettings);
+            // 2. 사전 필터·캐시로 정해지지 않은 텍스트만 사용자 설정이 포함된 요청으로 AI 분석
+            CacheLookupResult cacheLookup = preProcessingUseCase.executePreProcessing(request, userSettings);
+            AnalysisResult analysisResult = analyzeMisses(cacheLookup, missRequest -> useScheduler
+                ? processingScheduler.scheduleAndProcess(missRequest, userSettings).getAnalysisResult()
+                : textAIAnalysisClient.analyze(missRequest, userSettings));
 
             // 3. 후처리 (결과 변환만)
             long processingTime = System.currentTimeMillis() - startTime;
-            return postProcessingUseCase.convertToResponse(request, analysisResult, processingTime, false);
+            return postProcessingUseCase.convertToResponse(request, analysisResult, processingTime, cacheLookup.isFullyCached());
 
+        } catch (ProcessingScheduler.ProcessingException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("직접 처리 플로우 중 오류 발생 - 요청 ID: {}", request.getRequestId(), e);
+            log.error("처리 플로우 중 오류 발생 - 요청 ID: {}", request.getRequestId(), e);
             throw new ProcessingScheduler.ProcessingException(
-                "직접 처리 플로우 오류: " + e.getMessage(),
-                "DIRECT_FLOW_ERROR",
+                "처리 플로우 오류: " + e.getMessage(),
+                "FLOW_ERROR",
                 request.getType(),
                 e
             );
         }
     }
 
+    /**
+     * 스케줄러 건강성 기반 자동 전환
+     * 스케줄러가 정상이면 여러 요청을 배치로 묶어 처리, 아니면 요청마다 AI 클라이언트 직접 호출
+     */
+    private boolean useScheduler(ProcessingRequest request) {
+        boolean healthy = processingScheduler.isHealthy();
+        log.info("{} 플로우 사용 - 요청 ID: {}", healthy ? "스케줄러" : "직접 처리", request.getRequestId());
+        return healthy;
+    }
+
+    /**
+     * 캐시 미스 항목만 AI로 분석하고 결과를 캐시한 뒤 캐시 히트·사전 필터 항목과 합침
+     * 모든 항목이 캐시나 사전 필터로 정해지면 AI를 호출하지 않습니다.
+     */
+    private AnalysisResult analyzeMisses(CacheLookupResult cacheLookup, MissAnalyzer analyzer) throws Exception {
+        if (cacheLookup.isFullyResolved()) {
+            log.info("AI 호출 생략 - 캐시 {}건, 사전 필터 {}건", cacheLookup.getHitCount(), cacheLookup.getPrefilteredCount());
+            return cacheLookup.merge(null);
+        }
+
+        AnalysisResult freshResult = analyzer.analyze(cacheLookup.getMissRequest());
+        postProcessingUseCase.cacheAnalysisResult(cacheLookup, freshResult);
+        return cacheLookup.getResolvedCount() > 0 ? cacheLookup.merge(freshResult) : freshResult;
+    }
+
+    @FunctionalInterface
+    private interface MissAnalyzer {
+        AnalysisResult analyze(ProcessingRequest missRequest) throws Exception;
+    }
+
     /**
      * 처리 상태 확인
      * 전체 시스템의 상태를 확인합니다.
@@ -0,0 +1,179 @@
+package backend.SSAFY_PTJ2.application.admission;
+
+import backend.SSAFY_PTJ2.global.config.AnalysisAdmissionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 분석 요청 수락(admission) 실행기
+ *
+ * Socket.IO 이벤트 리스너는 netty 이벤트 루프에서 호출되므로, AI 응답을 기다리는 분석 작업을 그 자리에서 실행하면
+ * 같은 루프에 묶인 다른 클라이언트의 ping/이벤트 처리까지 멈춥니다.
+ * 이 실행기는 분석 작업을 고정 크기 워커 풀로 넘기고 즉시 반환하며, 결과는 작업 안에서 ACK로 전송합니다.
+ *
+ * 수락 규칙:
+ * - 클라이언트별 동시 처리 중 요청 수가 한도 이상이면 CLIENT_LIMIT_EXCEEDED
+ * - 워커와 대기 큐가 모두 차 있으면 SERVER_BUSY
+ * - 그 외에는 ACCEPTED (작업 완료 시 클라이언트 슬롯 반환)
+ */
+@Slf4j
+@Component
+public class AnalysisAdmissionExecutor {
+
+    /**
+     * 수락 결과
+     */
+    public enum Admission {
+        ACCEPTED,
+        CLIENT_LIMIT_EXCEEDED,
+        SERVER_BUSY
+    }
+
+    /**
+     * 수락 현황 통계
+     */
+    public record AdmissionStatistics(
+        int activeWorkers,
+        int queuedTasks,
+        int inFlightClients,
+        long accepted,
+        long rejectedByClientLimit,
+        long rejectedByServerBusy
+    ) {
+    }
+
+    private final AnalysisAdmissionProperties properties;
+    private final ThreadPoolExecutor workers;
+    private final ConcurrentHashMap<String, AtomicInteger> inFlightByClient = new ConcurrentHashMap<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejectedByClientLimit = new AtomicLong();
+    private final AtomicLong rejectedByServerBusy = new AtomicLong();
+
+    public AnalysisAdmissionExecutor(AnalysisAdmissionProperties properties) {
+        this.properties = properties;
+        this.workers = new ThreadPoolExecutor(
+            properties.getWorkerThreads(),
+            properties.getWorkerThreads(),
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            workerThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 분석 작업 제출
+     * 이벤트 루프를 막지 않도록 대기 없이 즉시 수락 결과를 반환합니다.
+     *
+     * @param clientId 동시 처리 한도를 적용할 클라이언트 식별자 (소켓 세션 ID)
+     * @param task 워커 스레드에서 실행할 작업 (응답 전송 포함)
+     * @return 수락 결과 (ACCEPTED가 아니면 작업은 실행되지 않음)
+     */
+    public Admission submit(String clientId, Runnable task) {
+        if (!tryAcquire(clientId)) {
+            rejectedByClientLimit.incrementAndGet();
+            log.warn("클라이언트 동시 처리 한도 초과 - 클라이언트: {}, 한도: {}", clientId, properties.getPerClientMaxInFlight());
+            return Admission.CLIENT_LIMIT_EXCEEDED;
+        }
+
+        try {
+            workers.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("분석 작업 실행 중 처리되지 않은 오류 - 클라이언트: {}", clientId, e);
+                } finally {
+                    release(clientId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(clientId);
+            rejectedByServerBusy.incrementAndGet();
+            log.warn("분석 워커 포화로 요청 거절 - 클라이언트: {}, 처리 중: {}, 대기: {}",
+                clientId, workers.getActiveCount(), workers.getQueue().size());
+            return Admission.SERVER_BUSY;
+        }
+
+        accepted.incrementAndGet();
+        return Admission.ACCEPTED;
+    }
+
+    /**
+     * 클라이언트가 현재 처리 중인 요청 수
+     */
+    public int getInFlight(String clientId) {
+        AtomicInteger counter = inFlightByClient.get(clientId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    public AdmissionStatistics getStatistics() {
+        return new AdmissionStatistics(
+            workers.getActiveCount(),
+            workers.getQueue().size(),
+            inFlightByClient.size(),
+            accepted.get(),
+            rejectedByClientLimit.get(),
+            rejectedByServerBusy.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("분석 admission 실행기 종료 - 수락: {}, 클라이언트 한도 거절: {}, 서버 포화 거절: {}",
+            accepted.get(), rejectedByClientLimit.get(), rejectedByServerBusy.get());
+    }
+
+    /**
+     * 클라이언트 슬롯 획득 (한도 이상이면 실패)
+     */
+    private boolean tryAcquire(String clientId) {
+        boolean[] acquired = {false};
+        inFlightByClient.compute(clientId, (key, counter) -> {
+            AtomicInteger current = counter != null ? counter : new AtomicInteger();
+            if (current.get() < properties.getPerClientMaxInFlight()) {
+                current.incrementAndGet();
+                acquired[0] = true;
+            }
+            return current.get() > 0 ? current : null;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 클라이언트 슬롯 반환 (처리 중인 요청이 없으면 항목 제거)
+     */
+    private void release(String clientId) {
+        inFlightByClient.computeIfPresent(clientId, (key, counter) ->
+            counter.decrementAndGet() > 0 ? counter : null);
+    }
+
+    private ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "analysis-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,284 +1,817 @@
 package backend.SSAFY_PTJ2.application.scheduler;
 
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.TextProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
+import backend.SSAFY_PTJ2.domain.common.dto.ViewportHint;
 import backend.SSAFY_PTJ2.domain.common.service.AIAnalysisClient;
 import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
-import lombok.RequiredArgsConstructor;
+import backend.SSAFY_PTJ2.global.config.ProcessingSchedulerProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.ImageAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.TextAIAnalysisClient;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.Comparator;
+import java.util.stream.IntStream;
 
 /**
- * 동기 처리 스케줄러 구현체 - 개발자 C 담당
+ * 마이크로 배치 처리 스케줄러 구현체 - 개발자 C 담당
+ *
+ * 여러 소켓에서 들어온 요청을 AI 컨테이너별 우선순위 큐에 모으고,
+ * 항목 수·바이트·대기 시간(linger) 한도 안에서 하나의 배치로 묶어 AI 컨테이너에 한 번만 요청합니다.
+ * - 이미지 분석 AI 컨테이너: imageLane (POST /predict/batch)
+ * - 텍스트 분석 AI 컨테이너: textLane (POST /filter_page, 필터 카테고리가 같은 요청끼리만 묶음)
  *
- * 이미지와 텍스트 AI 컨테이너별로 분리된 우선순위 큐와 락을 관리합니다.
- * - 이미지 분석 AI 컨테이너: imageQueue + imageAILock
- * - 텍스트 분석 AI 컨테이너: textQueue + textAILock
+ * 배치 안에서는 요청마다 항목 ID를 "{티켓번호}-{인덱스}"로 바꿔 보내므로
+ * 서로 다른 사용자가 같은 elementId를 보내도 결과가 섞이지 않고, 응답을 요청별 Future로 되돌려줍니다.
+ * 호출자 입장에서는 기존처럼 동기 호출(scheduleAndProcess)이며 대기 시간 초과·취소를 지원합니다.
  *
- * 구현 사항:
- * 1. 타입별 분리된 PriorityQueue 관리
- * 2. 뷰포트 컨텐츠 우선순위 알고리즘 구현
- * 3. AI 컨테이너별 독립적인 ReentrantLock 관리
- * 4. 처리 시간 모니터링 및 통계 수집
- * 5. 요청 취소 및 타임아웃 처리
+ * 큐 순서는 ViewportPriorityModel이 계산한 가상 도착 시각(접수 시각 + 페널티)입니다.
+ * 화면에 보이는 큰 이미지가 먼저 나가고, 화면 밖 이미지도 페널티 상한만큼 기다리면 새 요청보다 앞섭니다.
+ * 스크롤(reprioritize)과 페이지 이동(cancelSession)에 따라 대기 중인 요청의 순서를 바꾸거나 취소합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SynchronousProcessingScheduler implements ProcessingScheduler {
 
-    // TODO: 개발자 C가 AI 클라이언트 의존성 추가
-    // private final ImageAIClient imageAIClient;
-    // private final TextAIClient textAIClient;
-
-    // AI 컨테이너별 분리된 우선순위 큐
-    private final PriorityBlockingQueue<ProcessingRequest> imageQueue;
-    private final PriorityBlockingQueue<ProcessingRequest> textQueue;
-
-    // AI 컨테이너별 락 (동시 처리 방지)
-    private final ReentrantLock imageAILock = new ReentrantLock();
-    private final ReentrantLock textAILock = new ReentrantLock();
+    /**
+     * 우선순위 비교자: 가상 도착 시각(접수 시각 + 페널티)이 빠른 순, 같으면 접수 순서
+     * rank는 티켓이 큐 밖에 있을 때만 바꾸므로 큐 안의 순서가 깨지지 않습니다.
+     */
+    private static final Comparator<Ticket> PRIORITY_COMPARATOR =
+        Comparator.<Ticket>comparingLong(ticket -> ticket.rank)
+            .thenComparingLong(ticket -> ticket.sequence);
+
+    private final ImageAIAnalysisClient imageAIAnalysisClient;
+    private final TextAIAnalysisClient textAIAnalysisClient;
+    private final ProcessingSchedulerProperties properties;
+    private final ViewportPriorityModel priorityModel;
+    private final Clock clock;
+
+    // AI 컨테이너별 큐와 배치 전송 스레드
+    private final BatchLane imageLane;
+    private final BatchLane textLane;
+
+    // 취소를 위한 요청 ID → 대기 중인 티켓
+    private final Map<String, Ticket> pendingTickets = new ConcurrentHashMap<>();
+    // 페이지 이동한 세션 → 이동 시각 (그 전에 받은 요청은 뒤늦게 도착해도 거절)
+    private final Map<String, LocalDateTime> navigationCutoffs = new ConcurrentHashMap<>();
+    private final AtomicLong ticketSequence = new AtomicLong(0);
+    private final AtomicLong batchSequence = new AtomicLong(0);
+    private volatile boolean running;
 
     // 통계 관리 필드
-    private final AtomicLong totalImageRequests = new AtomicLong(0);
-    private final AtomicLong totalTextRequests = new AtomicLong(0);
-    private final AtomicLong totalImageProcessingTime = new AtomicLong(0);
-    private final AtomicLong totalTextProcessingTime = new AtomicLong(0);
+    private final AtomicLong completedRequests = new AtomicLong(0);
+    private final AtomicLong totalProcessingTime = new AtomicLong(0);
+    private final AtomicLong dispatchedBatches = new AtomicLong(0);
+    private final AtomicLong batchedRequests = new AtomicLong(0);
+
+    public SynchronousProcessingScheduler(ImageAIAnalysisClient imageAIAnalysisClient,
+                                          TextAIAnalysisClient textAIAnalysisClient,
+                                          ProcessingSchedulerProperties properties) {
+        this(imageAIAnalysisClient, textAIAnalysisClient, properties, Clock.systemDefaultZone());
+    }
 
     /**
-     * 우선순위 비교자: HIGH > NORMAL, 같은 우선순위면 요청 시간 순
+     * 시계 지정 생성자 (시뮬레이션 테스트에서 시간을 직접 진행시킬 때 사용)
      */
-    private static final Comparator<ProcessingRequest> PRIORITY_COMPARATOR =
-        Comparator.<ProcessingRequest>comparingInt(r -> r.getPriority() == ProcessingRequest.Priority.HIGH ? 0 : 1)
-            .thenComparing(ProcessingRequest::getTimestamp);
+    SynchronousProcessingScheduler(ImageAIAnalysisClient imageAIAnalysisClient,
+                                   TextAIAnalysisClient textAIAnalysisClient,
+                                   ProcessingSchedulerProperties properties,
+                                   Clock clock) {
+        this.imageAIAnalysisClient = imageAIAnalysisClient;
+        this.textAIAnalysisClient = textAIAnalysisClient;
+        this.properties = properties;
+        this.priorityModel = new ViewportPriorityModel(properties.getPriority());
+        this.clock = clock;
+        this.imageLane = new BatchLane(ProcessingRequest.RequestType.IMAGE_ANALYSIS, properties.getImage());
+        this.textLane = new BatchLane(ProcessingRequest.RequestType.TEXT_ANALYSIS, properties.getText());
+    }
 
-    public SynchronousProcessingScheduler() {
-        this.imageQueue = new PriorityBlockingQueue<>(100, PRIORITY_COMPARATOR);
-        this.textQueue = new PriorityBlockingQueue<>(100, PRIORITY_COMPARATOR);
+    /**
+     * 배치 전송 스레드 시작
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        imageLane.start();
+        textLane.start();
+        log.info("[Scheduler] 마이크로 배치 스케줄러 시작 - 이미지 배치 {}건/{}ms, 텍스트 배치 {}건/{}ms",
+            properties.getImage().getMaxBatchSize(), properties.getImage().getLinger().toMillis(),
+            properties.getText().getMaxBatchSize(), properties.getText().getLinger().toMillis());
+    }
+
+    /**
+     * 배치 전송 스레드 종료, 대기 중인 요청은 실패 처리
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        imageLane.shutdown();
+        textLane.shutdown();
+        log.info("[Scheduler] 마이크로 배치 스케줄러 종료");
     }
 
     @Override
     public ProcessingResult scheduleAndProcess(ProcessingRequest request) throws ProcessingException {
-        log.info("처리 요청 스케줄링 - 요청 ID: {}, 타입: {}, 우선순위: {}",
-            request.getRequestId(), request.getType(), request.getPriority());
+        return scheduleAndProcess(request, null);
+    }
 
-        long startTime = System.currentTimeMillis();
+    @Override
+    public ProcessingResult scheduleAndProcess(ProcessingRequest request, UserSettings userSettings) throws ProcessingException {
+        log.debug("처리 요청 스케줄링 - 요청 ID: {}, 타입: {}, 우선순위: {}",
+            request.getRequestId(), request.getType(), request.getPriority());
 
+        Ticket ticket = enqueue(request, userSettings);
         try {
-            // 1. 요청을 우선순위 큐에 추가 (실제로는 즉시 처리하지만 향후 확장용)
-            enqueueRequest(request);
-
-            // 2. 적절한 AI 클라이언트 선택 및 락 획득
-            AIAnalysisClient client = selectAIClient(request.getType());
-            ReentrantLock lock = getLockForRequestType(request.getType());
-
-            // 3. 락을 획득하고 AI 분석 수행
-            lock.lock();
-            try {
-                return processWithAI(request, client, startTime);
-            } finally {
-                lock.unlock();
-            }
-
-        } catch (Exception e) {
-            long processingTime = System.currentTimeMillis() - startTime;
-            log.error("처리 중 오류 발생 - 요청 ID: {}, 소요시간: {}ms",
-                request.getRequestId(), processingTime, e);
-
+            AnalysisResult analysisResult = ticket.future.get(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return toProcessingResult(ticket, analysisResult);
+        } catch (TimeoutException e) {
+            cancelTicket(ticket);
             throw new ProcessingException(
-                "처리 중 오류 발생: " + e.getMessage(),
-                "SCHEDULER_ERROR",
+                "처리 대기 시간 초과: " + properties.getRequestTimeout().toMillis() + "ms",
+                "SCHEDULER_TIMEOUT",
                 request.getType(),
                 e
             );
+        } catch (CancellationException e) {
+            throw new ProcessingException("요청이 취소되었습니다.", "REQUEST_CANCELLED", request.getType(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelTicket(ticket);
+            throw new ProcessingException("처리 대기 중 인터럽트 발생", "SCHEDULER_INTERRUPTED", request.getType(), e);
+        } catch (ExecutionException e) {
+            throw toProcessingException(request, e.getCause());
         }
     }
 
     @Override
     public CompletableFuture<ProcessingResult> scheduleAndProcessAsync(ProcessingRequest request) {
-        // TODO: 개발자 C 구현 (향후 확장용)
-        // 비동기 처리가 필요한 경우를 위한 인터페이스
+        return scheduleAndProcessAsync(request, null);
+    }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return scheduleAndProcess(request);
-            } catch (ProcessingException e) {
-                throw new RuntimeException(e);
+    @Override
+    public CompletableFuture<ProcessingResult> scheduleAndProcessAsync(ProcessingRequest request, UserSettings userSettings) {
+        Ticket ticket;
+        try {
+            ticket = enqueue(request, userSettings);
+        } catch (ProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<ProcessingResult> result = ticket.future
+            .thenApply(analysisResult -> toProcessingResult(ticket, analysisResult))
+            .orTimeout(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        // 호출자가 취소하거나 대기 시간이 지나면 큐에서도 제거
+        result.whenComplete((processingResult, throwable) -> {
+            if (throwable != null) {
+                cancelTicket(ticket);
+            }
+        });
+        // cancelRequest()로 취소된 경우 호출자의 Future도 취소 상태로
+        ticket.future.whenComplete((analysisResult, throwable) -> {
+            if (ticket.future.isCancelled()) {
+                result.cancel(false);
             }
         });
+        return result;
     }
 
     @Override
     public QueueStatus getQueueStatus() {
-        // TODO: 개발자 C 구현
-        // 1. 현재 큐 상태 조회
-        // 2. 락 상태 확인
-        // 3. 평균 처리 시간 계산
+        int viewportQueueSize = 0;
+        int normalQueueSize = 0;
+        for (BatchLane lane : List.of(imageLane, textLane)) {
+            for (Ticket ticket : lane.queue) {
+                if (ticket.future.isDone()) {
+                    continue;
+                }
+                if (ticket.request.getPriority() == ProcessingRequest.Priority.HIGH) {
+                    viewportQueueSize++;
+                } else {
+                    normalQueueSize++;
+                }
+            }
+        }
 
+        long completed = completedRequests.get();
+        long batches = dispatchedBatches.get();
         return new QueueStatus(
-            0,      // totalQueueSize
-            0,      // viewportQueueSize
-            0,      // normalQueueSize
-            imageAILock.isLocked(),
-            textAILock.isLocked(),
-            0L      // averageProcessingTimeMs
+            viewportQueueSize + normalQueueSize,
+            viewportQueueSize,
+            normalQueueSize,
+            imageLane.inFlightBatches.get() > 0,
+            textLane.inFlightBatches.get() > 0,
+            completed > 0 ? totalProcessingTime.get() / completed : 0L,
+            batches,
+            batches > 0 ? (double) batchedRequests.get() / batches : 0.0
         );
     }
 
     @Override
     public boolean cancelRequest(String requestId) {
-        // TODO: 개발자 C 구현
-        // 1. 큐에서 해당 요청 제거
-        // 2. 처리 중인 요청은 인터럽트 (가능한 경우)
+        Ticket ticket = requestId != null ? pendingTickets.get(requestId) : null;
+        if (ticket == null) {
+            log.debug("취소할 요청 없음 - 요청 ID: {}", requestId);
+            return false;
+        }
 
-        log.info("요청 취소 시도 - 요청 ID: {}", requestId);
-        return false; // 임시 구현
+        boolean cancelled = cancelTicket(ticket);
+        log.info("요청 취소 - 요청 ID: {}, 결과: {}", requestId, cancelled);
+        return cancelled;
     }
 
+    /**
+     * 스크롤로 바뀐 요소 위치를 반영해 세션의 대기 중인 이미지 요청 순서를 다시 계산
+     * 접수 시각은 그대로 두므로 이미 기다린 시간(에이징)은 유지됩니다.
+     */
     @Override
-    public boolean isHealthy() {
-        // TODO: 개발자 C 구현
-        // 1. 큐 상태 확인
-        // 2. AI 클라이언트들의 상태 확인
-        // 3. 락 상태 점검 (데드락 방지)
+    public synchronized int reprioritize(String sessionId, Map<String, ViewportHint> viewportHints) {
+        if (sessionId == null || viewportHints == null || viewportHints.isEmpty()) {
+            return 0;
+        }
+
+        int reprioritized = 0;
+        for (Ticket ticket : imageLane.queue) {
+            if (!sessionId.equals(ticket.request.getSessionId()) || ticket.future.isDone()
+                || ticket.originalItemIds.stream().noneMatch(viewportHints::containsKey)) {
+                continue;
+            }
+            Map<String, ViewportHint> overrides = new HashMap<>(ticket.viewportOverrides);
+            overrides.putAll(viewportHints);
+            long rank = ticket.enqueuedAt + priorityModel.penaltyMillis(ticket.request, overrides);
+            ticket.viewportOverrides = overrides;
+            if (rank == ticket.rank) {
+                continue;
+            }
+            // 큐 밖에서 rank를 바꾼 뒤 다시 넣음 (그 사이 배치로 꺼내졌으면 그대로 둠)
+            if (imageLane.queue.remove(ticket)) {
+                ticket.rank = rank;
+                imageLane.queue.offer(ticket);
+                reprioritized++;
+            }
+        }
+        log.debug("[Scheduler] 뷰포트 갱신 - 세션: {}, 요소: {}건, 순서 변경: {}건", sessionId, viewportHints.size(), reprioritized);
+        return reprioritized;
+    }
+
+    /**
+     * 페이지 이동 등으로 세션의 요청이 더 이상 필요 없을 때 대기·처리 중인 요청을 모두 취소
+     * 이동 이전에 받은 요청이 분석 워커 큐를 거쳐 뒤늦게 들어와도 거절합니다.
+     */
+    @Override
+    public int cancelSession(String sessionId) {
+        if (sessionId == null) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        navigationCutoffs.put(sessionId, now);
+        LocalDateTime expired = now.minus(properties.getRequestTimeout());
+        navigationCutoffs.values().removeIf(cutoff -> cutoff.isBefore(expired));
+
+        LinkedHashSet<Ticket> tickets = new LinkedHashSet<>();
+        for (BatchLane lane : List.of(imageLane, textLane)) {
+            lane.queue.stream().filter(ticket -> sessionId.equals(ticket.request.getSessionId())).forEach(tickets::add);
+        }
+        pendingTickets.values().stream().filter(ticket -> sessionId.equals(ticket.request.getSessionId())).forEach(tickets::add);
+
+        int cancelled = (int) tickets.stream().filter(this::cancelTicket).count();
+        log.info("[Scheduler] 세션 요청 취소 - 세션: {}, 취소: {}건", sessionId, cancelled);
+        return cancelled;
+    }
 
-        return false; // 스케줄러 미완성 상태 - 완성되면 true로 변경
+    /**
+     * 배치 전송 스레드가 살아 있으면 정상
+     * AI 컨테이너 장애는 배치 실패로 각 요청에 전달되므로 여기서 헬스체크 호출은 하지 않습니다.
+     */
+    @Override
+    public boolean isHealthy() {
+        return running && imageLane.isAlive() && textLane.isAlive();
     }
 
     /**
-     * 요청을 타입별 우선순위 큐에 추가
+     * 요청을 검증하고 타입별 큐에 추가
      */
-    private void enqueueRequest(ProcessingRequest request) {
-        PriorityBlockingQueue<ProcessingRequest> targetQueue = getQueueForRequestType(request.getType());
-        targetQueue.offer(request);
+    private Ticket enqueue(ProcessingRequest request, UserSettings userSettings) throws ProcessingException {
+        if (!running) {
+            throw new ProcessingException("스케줄러가 실행 중이 아닙니다.", "SCHEDULER_STOPPED", request.getType());
+        }
+
+        // 배치 전체가 검증 오류로 실패하지 않도록 요청 단위로 먼저 검증
+        validate(request);
+
+        LocalDateTime cutoff = request.getSessionId() != null ? navigationCutoffs.get(request.getSessionId()) : null;
+        if (cutoff != null && request.getTimestamp() != null && !request.getTimestamp().isAfter(cutoff)) {
+            throw new ProcessingException("페이지 이동으로 취소된 요청입니다.", "REQUEST_CANCELLED", request.getType());
+        }
+
+        BatchLane lane = laneOf(request.getType());
+        if (lane.queue.size() >= properties.getQueueCapacity()) {
+            throw new ProcessingException(
+                "처리 대기 큐가 가득 찼습니다: " + lane.queue.size(),
+                "QUEUE_FULL",
+                request.getType()
+            );
+        }
+
+        long enqueuedAt = clock.millis();
+        Ticket ticket = new Ticket(ticketSequence.incrementAndGet(), request, userSettings, groupKeyOf(request, userSettings),
+            enqueuedAt, enqueuedAt + priorityModel.penaltyMillis(request, Map.of()));
+        if (request.getRequestId() != null) {
+            pendingTickets.put(request.getRequestId(), ticket);
+            ticket.future.whenComplete((result, throwable) -> pendingTickets.remove(request.getRequestId(), ticket));
+        }
+        lane.queue.offer(ticket);
 
-        // 통계 업데이트
-        updateRequestStatistics(request.getType());
+        log.debug("요청 큐 추가 - 타입: {}, 우선순위: {}, 페널티: {}ms, 항목: {}건, 큐 크기: {}",
+            request.getType(), request.getPriority(), ticket.rank - enqueuedAt, ticket.itemCount, lane.queue.size());
+        return ticket;
+    }
 
-        log.debug("요청 큐 추가 - 타입: {}, 우선순위: {}, 큐 크기: {}",
-            request.getType(), request.getPriority(), targetQueue.size());
+    /**
+     * 어댑터의 검증 규칙을 요청 단위로 적용
+     */
+    private void validate(ProcessingRequest request) throws ProcessingException {
+        boolean valid = false;
+        if (request instanceof ImageProcessingRequest imageRequest) {
+            valid = imageRequest.hasImages()
+                && imageRequest.areAllImagesValidSize()
+                && imageRequest.areAllImagesSupported()
+                && imageRequest.getImageDataList().stream().allMatch(ImageProcessingRequest.ImageData::hasPayload);
+        } else if (request instanceof TextProcessingRequest textRequest) {
+            valid = textRequest.hasTexts()
+                && textRequest.areAllTextsValidLength()
+                && textRequest.doAllTextsHaveContent();
+        }
+        if (!valid) {
+            throw new ProcessingException(
+                "요청 검증 실패 - 요청 ID: " + request.getRequestId(),
+                "VALIDATION_ERROR",
+                request.getType()
+            );
+        }
     }
 
     /**
-     * 요청 타입에 따른 큐 선택
+     * 같은 배치로 묶을 수 있는 요청 그룹 키
+     * 텍스트는 필터 카테고리가 AI 요청에 포함되므로 카테고리 설정이 같아야 함께 보낼 수 있습니다.
      */
-    private PriorityBlockingQueue<ProcessingRequest> getQueueForRequestType(ProcessingRequest.RequestType requestType) {
+    private String groupKeyOf(ProcessingRequest request, UserSettings userSettings) {
+        if (request.getType() == ProcessingRequest.RequestType.IMAGE_ANALYSIS) {
+            return "";
+        }
+        return new TreeMap<>(textAIAnalysisClient.getUserFilterCategories(userSettings)).toString();
+    }
+
+    private BatchLane laneOf(ProcessingRequest.RequestType requestType) {
         return switch (requestType) {
-            case IMAGE_ANALYSIS -> imageQueue;
-            case TEXT_ANALYSIS -> textQueue;
+            case IMAGE_ANALYSIS -> imageLane;
+            case TEXT_ANALYSIS -> textLane;
         };
     }
 
     /**
-     * 요청 통계 업데이트
+     * 티켓 취소 (큐에 있으면 제거)
      */
-    private void updateRequestStatistics(ProcessingRequest.RequestType requestType) {
-        switch (requestType) {
-            case IMAGE_ANALYSIS -> totalImageRequests.incrementAndGet();
-            case TEXT_ANALYSIS -> totalTextRequests.incrementAndGet();
-        }
+    private boolean cancelTicket(Ticket ticket) {
+        boolean cancelled = ticket.future.cancel(false);
+        laneOf(ticket.request.getType()).queue.remove(ticket);
+        return cancelled;
     }
 
     /**
-     * 요청 타입에 따른 AI 클라이언트 선택
-     * TODO: 개발자 C가 클라이언트 선택 로직 구현
+     * 배치 하나를 AI 컨테이너로 보내고 결과를 요청별로 분배
      */
-    private AIAnalysisClient selectAIClient(ProcessingRequest.RequestType requestType) {
-        // TODO: 개발자 C 구현
-        // return switch (requestType) {
-        //     case IMAGE_ANALYSIS -> imageAIClient;
-        //     case TEXT_ANALYSIS -> textAIClient;
-        // };
-
-        // ===== 임시 실행 함수 (플로우 체크 후 삭제 예정) =====
-        return createTemporaryAIClient(requestType);
+    private void dispatch(BatchLane lane, List<Ticket> batch) {
+        long batchId = batchSequence.incrementAndGet();
+        long startTime = System.currentTimeMillis();
+        lane.inFlightBatches.incrementAndGet();
+        try {
+            ProcessingRequest batchRequest = createBatchRequest(lane.type, batchId, batch);
+            AnalysisResult batchResult = switch (lane.type) {
+                case IMAGE_ANALYSIS -> imageAIAnalysisClient.analyze(batchRequest);
+                // 같은 그룹이면 필터 카테고리가 같으므로 첫 요청의 설정을 사용
+                case TEXT_ANALYSIS -> textAIAnalysisClient.analyze(batchRequest, batch.get(0).userSettings);
+            };
+
+            dispatchedBatches.incrementAndGet();
+            batchedRequests.addAndGet(batch.size());
+            log.debug("[Scheduler] 배치 완료 - 타입: {}, 배치 ID: {}, 요청: {}건, 소요시간: {}ms",
+                lane.type, batchId, batch.size(), System.currentTimeMillis() - startTime);
+
+            demultiplex(lane.type, batch, batchResult);
+        } catch (Exception e) {
+            log.error("[Scheduler] 배치 처리 실패 - 타입: {}, 배치 ID: {}, 요청: {}건", lane.type, batchId, batch.size(), e);
+            batch.forEach(ticket -> ticket.future.completeExceptionally(e));
+        } finally {
+            lane.inFlightBatches.decrementAndGet();
+        }
     }
 
     /**
-     * 임시 AI 클라이언트 생성 함수
-     * 플로우 체크 완료 후 삭제 예정
+     * 배치에 담긴 요청들을 하나의 요청으로 합침 (항목 ID는 티켓 번호로 다시 지정)
      */
-    private AIAnalysisClient createTemporaryAIClient(ProcessingRequest.RequestType requestType) {
-        return new AIAnalysisClient() {
-            @Override
-            public backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult analyze(ProcessingRequest request) throws AIAnalysisException {
-                // 임시 AnalysisResult 생성
-                if (requestType == ProcessingRequest.RequestType.IMAGE_ANALYSIS) {
-                    return backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult.builder()
-                        .success(true)
-                        .analysisType("IMAGE_ANALYSIS")
-                        .imageResults(java.util.List.of())
-                        .processingStats(backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult.ProcessingStats.builder()
-                            .totalRequested(1).successfullyProcessed(1).failed(0).hatefulCount(0).build())
-                        .additionalData(java.util.Map.of())
-                        .build();
-                } else {
-                    return backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult.builder()
-                        .success(true)
-                        .analysisType("TEXT_ANALYSIS")
-                        .textResults(java.util.List.of())
-                        .processingStats(backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult.ProcessingStats.builder()
-                            .totalRequested(1).successfullyProcessed(1).failed(0).hatefulCount(0).build())
-                        .additionalData(java.util.Map.of())
-                        .build();
+    private ProcessingRequest createBatchRequest(ProcessingRequest.RequestType type, long batchId, List<Ticket> batch) {
+        ProcessingRequest first = batch.get(0).request;
+        if (type == ProcessingRequest.RequestType.IMAGE_ANALYSIS) {
+            List<ImageProcessingRequest.ImageData> images = new ArrayList<>();
+            for (Ticket ticket : batch) {
+                List<ImageProcessingRequest.ImageData> imageDataList = ((ImageProcessingRequest) ticket.request).getImageDataList();
+                for (int i = 0; i < imageDataList.size(); i++) {
+                    ImageProcessingRequest.ImageData imageData = imageDataList.get(i);
+                    images.add(ImageProcessingRequest.ImageData.builder()
+                        .payload(imageData.getPayload())
+                        .mimeType(imageData.getMimeType())
+                        .fileName(imageData.getFileName())
+                        .size(imageData.getSize())
+                        .elementId(ticket.batchItemId(i))
+                        .metadata(imageData.getMetadata())
+                        .build());
                 }
             }
+            return ImageProcessingRequest.builder()
+                .requestId("batch-" + batchId)
+                .priority(first.getPriority())
+                .timestamp(LocalDateTime.now())
+                .pageUrl(first.getPageUrl())
+                .imageDataList(images)
+                .build();
+        }
 
-            @Override
-            public boolean isHealthy() { return true; }
+        List<TextProcessingRequest.TextData> texts = new ArrayList<>();
+        for (Ticket ticket : batch) {
+            List<TextProcessingRequest.TextData> textDataList = ((TextProcessingRequest) ticket.request).getTextDataList();
+            for (int i = 0; i < textDataList.size(); i++) {
+                TextProcessingRequest.TextData textData = textDataList.get(i);
+                texts.add(TextProcessingRequest.TextData.builder()
+                    .elementId(ticket.batchItemId(i))
+                    .content(textData.getContent())
+                    .pageUrl(textData.getPageUrl())
+                    .elementMetadata(textData.getElementMetadata())
+                    .build());
+            }
+        }
+        return TextProcessingRequest.builder()
+            .requestId("batch-" + batchId)
+            .priority(first.getPriority())
+            .timestamp(LocalDateTime.now())
+            .pageUrl(first.getPageUrl())
+            .textDataList(texts)
+            .build();
+    }
 
-            @Override
-            public boolean supportsRequestType(ProcessingRequest.RequestType type) { return true; }
+    /**
+     * 배치 결과를 티켓 번호로 나누어 원래 항목 ID로 되돌린 뒤 각 요청의 Future를 완료
+     */
+    private void demultiplex(ProcessingRequest.RequestType type, List<Ticket> batch, AnalysisResult batchResult) {
+        Map<Long, Ticket> tickets = new HashMap<>();
+        batch.forEach(ticket -> tickets.put(ticket.sequence, ticket));
+
+        Map<Long, List<AnalysisResult.ImageAnalysisItem>> imageItems = new HashMap<>();
+        Map<Long, List<AnalysisResult.TextAnalysisItem>> textItems = new HashMap<>();
+        if (batchResult.isSuccess() && batchResult.getImageResults() != null) {
+            for (AnalysisResult.ImageAnalysisItem item : batchResult.getImageResults()) {
+                Ticket ticket = ticketOf(tickets, item.getImageId());
+                if (ticket != null) {
+                    imageItems.computeIfAbsent(ticket.sequence, key -> new ArrayList<>())
+                        .add(AnalysisResult.ImageAnalysisItem.builder()
+                            .imageId(ticket.originalItemId(item.getImageId()))
+                            .isHateful(item.isHateful())
+                            .confidenceScore(item.getConfidenceScore())
+                            .detectedCategories(item.getDetectedCategories())
+                            .hatefulRegions(item.getHatefulRegions())
+                            .build());
+                }
+            }
+        }
+        if (batchResult.isSuccess() && batchResult.getTextResults() != null) {
+            for (AnalysisResult.TextAnalysisItem item : batchResult.getTextResults()) {
+                Ticket ticket = ticketOf(tickets, item.getElementId());
+                if (ticket != null) {
+                    textItems.computeIfAbsent(ticket.sequence, key -> new ArrayList<>())
+                        .add(AnalysisResult.TextAnalysisItem.builder()
+                            .elementId(ticket.originalItemId(item.getElementId()))
+                            .hatefulRanges(item.getHatefulRanges())
+                            .originalLength(item.getOriginalLength())
+                            .build());
+                }
+            }
+        }
 
-            @Override
-            public ClientInfo getClientInfo() {
-                return new ClientInfo("TEMP_CLIENT", "localhost", "v1.0", 30000, true);
+        for (Ticket ticket : batch) {
+            AnalysisResult result = type == ProcessingRequest.RequestType.IMAGE_ANALYSIS
+                ? imageResultOf(ticket, batchResult.isSuccess(), imageItems.getOrDefault(ticket.sequence, List.of()), batch.size())
+                : textResultOf(ticket, batchResult.isSuccess(), textItems.getOrDefault(ticket.sequence, List.of()), batch.size());
+            if (ticket.future.complete(result)) {
+                completedRequests.incrementAndGet();
+                totalProcessingTime.addAndGet(clock.millis() - ticket.enqueuedAt);
             }
-        };
+        }
+    }
+
+    private Ticket ticketOf(Map<Long, Ticket> tickets, String batchItemId) {
+        if (batchItemId == null) {
+            return null;
+        }
+        int separator = batchItemId.indexOf('-');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return tickets.get(Long.parseLong(batchItemId.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            log.warn("[Scheduler] 알 수 없는 항목 ID: {}", batchItemId);
+            return null;
+        }
     }
 
     /**
-     * 요청 타입에 따른 락 선택
+     * 요청별 이미지 분석 결과 (ImageAIWebClient와 같은 통계 규칙)
      */
-    private ReentrantLock getLockForRequestType(ProcessingRequest.RequestType requestType) {
-        return switch (requestType) {
-            case IMAGE_ANALYSIS -> imageAILock;
-            case TEXT_ANALYSIS -> textAILock;
-        };
+    private AnalysisResult imageResultOf(Ticket ticket, boolean success,
+                                         List<AnalysisResult.ImageAnalysisItem> items, int batchRequests) {
+        int totalRequested = ticket.itemCount;
+        int hatefulCount = (int) items.stream().filter(AnalysisResult.ImageAnalysisItem::isHateful).count();
+        return AnalysisResult.builder()
+            .success(success)
+            .analysisType("IMAGE")
+            .imageResults(items)
+            .processingStats(AnalysisResult.ProcessingStats.builder()
+                .totalRequested(totalRequested)
+                .successfullyProcessed(items.size())
+                .failed(totalRequested - items.size())
+                .hatefulCount(hatefulCount)
+                .processedImages(items.size())
+                .skippedImages(totalRequested - items.size())
+                .build())
+            .additionalData(Map.of("batchRequests", batchRequests))
+            .build();
     }
 
     /**
-     * AI 클라이언트를 통한 실제 처리 수행
-     * TODO: 개발자 C가 AI 분석 + 후처리 통합 로직 구현
+     * 요청별 텍스트 분석 결과 (TextAIWebClient와 같은 통계 규칙, 혐오 표현이 있는 요소만 포함)
      */
-    private ProcessingResult processWithAI(
-        ProcessingRequest request,
-        AIAnalysisClient client,
-        long startTime
-    ) throws AIAnalysisClient.AIAnalysisException {
-
-        // TODO: 실제 AI 분석 및 후처리 수행
-        // 1. AI 클라이언트로 분석 수행
-        // 2. PostProcessingUseCase 호출
-        // 3. 결과 반환
-
-        // ===== 임시 실행 함수 (플로우 체크 후 삭제 예정) =====
-        backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult analysisResult = client.analyze(request);
-
-        long processingTime = System.currentTimeMillis() - startTime;
+    private AnalysisResult textResultOf(Ticket ticket, boolean success,
+                                        List<AnalysisResult.TextAnalysisItem> items, int batchRequests) {
+        int totalRequested = ticket.itemCount;
+        int hatefulCount = (int) items.stream()
+            .filter(item -> item.getHatefulRanges() != null && !item.getHatefulRanges().isEmpty())
+            .count();
+        return AnalysisResult.builder()
+            .success(success)
+            .analysisType("TEXT")
+            .textResults(items)
+            .processingStats(AnalysisResult.ProcessingStats.builder()
+                .totalRequested(totalRequested)
+                .successfullyProcessed(success ? items.size() : 0)
+                .failed(success ? totalRequested - items.size() : totalRequested)
+                .hatefulCount(hatefulCount)
+                .build())
+            .additionalData(Map.of("batchRequests", batchRequests))
+            .build();
+    }
 
+    private ProcessingResult toProcessingResult(Ticket ticket, AnalysisResult analysisResult) {
         return ProcessingResult.builder()
-            .requestId(request.getRequestId())
-            .success(true)
+            .requestId(ticket.request.getRequestId())
+            .success(analysisResult.isSuccess())
+            .completedAt(LocalDateTime.now())
             .analysisResult(analysisResult)
-            .processingTimeMs(processingTime)
+            .processingTimeMs(clock.millis() - ticket.enqueuedAt)
             .fromCache(false)
             .build();
     }
-}
\ No newline at end of file
+
+    private ProcessingException toProcessingException(ProcessingRequest request, Throwable cause) {
+        if (cause instanceof ProcessingException processingException) {
+            return processingException;
+        }
+        String errorCode = cause instanceof AIAnalysisClient.AIAnalysisException aiAnalysisException
+            ? aiAnalysisException.getErrorCode() : "SCHEDULER_ERROR";
+        return new ProcessingException("처리 중 오류 발생: " + cause.getMessage(), errorCode, request.getType(), cause);
+    }
+
+    /**
+     * 큐에 대기하는 요청 단위
+     */
+    private static final class Ticket {
+
+        private final long sequence;
+        private final ProcessingRequest request;
+        private final UserSettings userSettings;
+        private final String groupKey;
+        private final List<String> originalItemIds;
+        private final int itemCount;
+        private final long payloadBytes;
+        private final long enqueuedAt;
+        private final CompletableFuture<AnalysisResult> future = new CompletableFuture<>();
+        // 큐 정렬 키 (가상 도착 시각), 큐 밖에서만 변경
+        private volatile long rank;
+        // viewport-update로 받은 요소별 최신 위치
+        private volatile Map<String, ViewportHint> viewportOverrides = Map.of();
+
+        private Ticket(long sequence, ProcessingRequest request, UserSettings userSettings, String groupKey,
+                       long enqueuedAt, long rank) {
+            this.sequence = sequence;
+            this.request = request;
+            this.userSettings = userSettings;
+            this.groupKey = groupKey;
+            this.enqueuedAt = enqueuedAt;
+            this.rank = rank;
+            if (request instanceof ImageProcessingRequest imageRequest) {
+                this.originalItemIds = IntStream.range(0, imageRequest.getImageCount())
+                    .mapToObj(imageRequest::resolveImageId)
+                    .toList();
+                this.payloadBytes = imageRequest.getImageDataList().stream().mapToLong(image -> image.getPayload().length()).sum();
+            } else {
+                TextProcessingRequest textRequest = (TextProcessingRequest) request;
+                this.originalItemIds = textRequest.getTextDataList().stream()
+                    .map(TextProcessingRequest.TextData::getElementId)
+                    .toList();
+                this.payloadBytes = textRequest.getTextDataList().stream()
+                    .mapToLong(text -> text.getContent().getBytes(StandardCharsets.UTF_8).length)
+                    .sum();
+            }
+            this.itemCount = originalItemIds.size();
+        }
+
+        private String batchItemId(int index) {
+            return sequence + "-" + index;
+        }
+
+        private String originalItemId(String batchItemId) {
+            try {
+                int index = Integer.parseInt(batchItemId.substring(batchItemId.indexOf('-') + 1));
+                return originalItemIds.get(index);
+            } catch (RuntimeException e) {
+                return batchItemId;
+            }
+        }
+    }
+
+    /**
+     * AI 컨테이너 하나에 대한 큐 + 배치 수집 스레드 + 전송 스레드
+     */
+    private final class BatchLane {
+
+        private final ProcessingRequest.RequestType type;
+        private final ProcessingSchedulerProperties.Batch batchProperties;
+        private final PriorityBlockingQueue<Ticket> queue = new PriorityBlockingQueue<>(100, PRIORITY_COMPARATOR);
+        private final Semaphore permits;
+        private final ExecutorService workers;
+        private final AtomicInteger inFlightBatches = new AtomicInteger(0);
+        private final Thread collector;
+
+        private BatchLane(ProcessingRequest.RequestType type, ProcessingSchedulerProperties.Batch batchProperties) {
+            String name = type == ProcessingRequest.RequestType.IMAGE_ANALYSIS ? "image" : "text";
+            int concurrency = Math.max(1, batchProperties.getMaxConcurrentBatches());
+            this.type = type;
+            this.batchProperties = batchProperties;
+            this.permits = new Semaphore(concurrency);
+            this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "ai-batch-" + name + "-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.collector = new Thread(this::collectLoop, "ai-batch-" + name + "-collector");
+            this.collector.setDaemon(true);
+        }
+
+        private void start() {
+            collector.start();
+        }
+
+        private boolean isAlive() {
+            return collector.isAlive() && !workers.isShutdown();
+        }
+
+        private void shutdown() {
+            collector.interrupt();
+            try {
+                collector.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workers.shutdownNow();
+            List<Ticket> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            remaining.forEach(ticket -> ticket.future.completeExceptionally(
+                new ProcessingException("스케줄러 종료", "SCHEDULER_STOPPED", type)));
+        }
+
+        /**
+         * 전송 가능한 배치 슬롯을 먼저 확보한 뒤 배치를 모읍니다.
+         * AI 컨테이너가 바쁜 동안 들어온 요청은 큐에 쌓여 다음 배치가 자연히 커집니다.
+         */
+        private void collectLoop() {
+            while (running) {
+                try {
+                    permits.acquire();
+                    List<Ticket> batch;
+                    try {
+                        batch = collectBatch();
+                    } catch (InterruptedException e) {
+                        permits.release();
+                        throw e;
+                    }
+                    try {
+                        workers.execute(() -> {
+                            try {
+                                dispatch(this, batch);
+                            } finally {
+                                permits.release();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        permits.release();
+                        batch.forEach(ticket -> ticket.future.completeExceptionally(
+                            new ProcessingException("스케줄러 종료", "SCHEDULER_STOPPED", type, e)));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (RuntimeException e) {
+                    log.error("[Scheduler] 배치 수집 중 오류 - 타입: {}", type, e);
+                }
+            }
+        }
+
+        /**
+         * 첫 요청을 기다린 뒤 linger 동안 한도 안에서 요청을 더 모음
+         * 그룹 키가 다른 요청은 이번 배치가 끝난 뒤 큐로 되돌립니다.
+         */
+        private List<Ticket> collectBatch() throws InterruptedException {
+            Ticket first = queue.take();
+            while (first.future.isDone()) { // 취소·시간 초과된 요청 건너뜀
+                first = queue.take();
+            }
+
+            List<Ticket> batch = new ArrayList<>();
+            List<Ticket> deferred = new ArrayList<>();
+            batch.add(first);
+            int items = first.itemCount;
+            long bytes = first.payloadBytes;
+            long deadline = System.nanoTime() + batchProperties.getLinger().toNanos();
+
+            try {
+                while (items < batchProperties.getMaxBatchSize() && bytes < batchProperties.getMaxBatchBytes()) {
+                    long remaining = deadline - System.nanoTime();
+                    Ticket next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next.future.isDone()) {
+                        continue;
+                    }
+                    if (!next.groupKey.equals(first.groupKey)) {
+                        deferred.add(next);
+                        continue;
+                    }
+                    if (items + next.itemCount > batchProperties.getMaxBatchSize()
+                        || bytes + next.payloadBytes > batchProperties.getMaxBatchBytes()) {
+                        deferred.add(next); // 한도 초과 - 다음 배치의 첫 요청으로
+                        break;
+                    }
+                    batch.add(next);
+                    items += next.itemCount;
+                    bytes += next.payloadBytes;
+                }
+            } catch (InterruptedException e) {
+                batch.forEach(queue::offer); // 종료 시 남은 요청과 함께 실패 처리되도록 되돌림
+                throw e;
+            } finally {
+                deferred.forEach(queue::offer);
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package backend.SSAFY_PTJ2.application.scheduler;
+
+import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ViewportHint;
+import backend.SSAFY_PTJ2.global.config.ProcessingSchedulerProperties;
+
+import java.util.Map;
+
+/**
+ * 뷰포트 기반 요청 우선순위 모델
+ *
+ * 요청마다 "늦춰 줄 시간(페널티, ms)"을 계산합니다. 스케줄러는 접수 시각 + 페널티(가상 도착 시각)가 빠른 요청부터 꺼냅니다.
+ * - 뷰포트와의 거리: 스크롤 속도로 scroll-lookahead 뒤의 거리를 예측한 값에 비례
+ * - 요소 크기: small-element-area보다 작은 요소일수록 페널티
+ * - 위치 정보 없음: normal-penalty (HIGH 텍스트는 0)
+ *
+ * 대기 시간이 흐를수록 페널티를 깎는 에이징과 같은 효과이면서 키가 시간에 따라 변하지 않으므로
+ * 우선순위 큐를 다시 정렬할 필요가 없고, 페널티 상한(max-penalty) 덕분에 화면 밖 요청도 굶지 않습니다.
+ */
+class ViewportPriorityModel {
+
+    private final ProcessingSchedulerProperties.Priority properties;
+
+    ViewportPriorityModel(ProcessingSchedulerProperties.Priority properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 요청 페널티 계산 (이미지 요청은 가장 급한 이미지 기준)
+     *
+     * @param overrides viewport-update로 갱신된 요소별 위치 (요소 ID 기준, 없으면 요청 메타데이터 사용)
+     */
+    long penaltyMillis(ProcessingRequest request, Map<String, ViewportHint> overrides) {
+        if (request instanceof ImageProcessingRequest imageRequest && imageRequest.hasImages()) {
+            long penalty = Long.MAX_VALUE;
+            for (int i = 0; i < imageRequest.getImageCount(); i++) {
+                ViewportHint hint = overrides.get(imageRequest.resolveImageId(i));
+                if (hint == null) {
+                    hint = ViewportHint.from(imageRequest.getImageDataList().get(i).getMetadata());
+                }
+                penalty = Math.min(penalty, penaltyMillis(hint, request.getPriority()));
+            }
+            return penalty;
+        }
+        return penaltyMillis(null, request.getPriority());
+    }
+
+    /**
+     * 요소 하나의 페널티
+     */
+    long penaltyMillis(ViewportHint hint, ProcessingRequest.Priority priority) {
+        if (hint == null) {
+            return priority == ProcessingRequest.Priority.HIGH ? 0 : properties.getNormalPenalty().toMillis();
+        }
+
+        double lookaheadSeconds = properties.getScrollLookahead().toMillis() / 1000.0;
+        double predictedDistance = Math.max(0, hint.getViewportDistance() - hint.getScrollVelocity() * lookaheadSeconds);
+        double penalty = predictedDistance / 1000.0 * properties.getDistancePenalty().toMillis();
+
+        double smallElementArea = properties.getSmallElementArea();
+        if (smallElementArea > 0 && hint.getArea() > 0 && hint.getArea() < smallElementArea) {
+            penalty += properties.getSmallElementPenalty().toMillis() * (1 - hint.getArea() / smallElementArea);
+        }
+        return Math.min(properties.getMaxPenalty().toMillis(), Math.round(penalty));
+    }
+}
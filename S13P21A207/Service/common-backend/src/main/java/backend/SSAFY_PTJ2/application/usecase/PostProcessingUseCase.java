@@ -1,6 +1,7 @@
 package backend.SSAFY_PTJ2.application.usecase;
 
 import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CacheLookupResult;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
 import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
@@ -26,12 +27,13 @@ public interface PostProcessingUseCase {
 
     /**
      * 캐시 저장
-     * AI 분석 결과를 향후 사용을 위해 캐시에 저장합니다.
+     * 캐시 미스 항목의 AI 분석 결과를 향후 사용을 위해 항목 단위로 캐시에 저장합니다.
+     * 사용자 설정이 적용되기 전의 원본 결과를 저장해야 다른 사용자도 재사용할 수 있습니다.
      *
-     * @param cacheKey 캐시 키
-     * @param analysisResult 저장할 분석 결과
+     * @param cacheLookup 처리 전 단계의 항목별 캐시 조회 결과
+     * @param analysisResult 캐시 미스 항목의 AI 분석 결과
      */
-    void cacheAnalysisResult(String cacheKey, AnalysisResult analysisResult);
+    void cacheAnalysisResult(CacheLookupResult cacheLookup, AnalysisResult analysisResult);
 
     /**
      * 개인 설정 기반 후처리
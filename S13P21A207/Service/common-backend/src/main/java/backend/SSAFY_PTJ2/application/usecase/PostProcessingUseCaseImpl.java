@@ -2,12 +2,17 @@ package backend.SSAFY_PTJ2.application.usecase;
 
 import backend.SSAFY_PTJ2.adapter.api.dto.ImageAnalysisSocketResponse;
 import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CacheLookupResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.TextProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
+import backend.SSAFY_PTJ2.domain.common.service.AnalysisCacheService;
 import backend.SSAFY_PTJ2.domain.common.service.SessionFilterService;
 import backend.SSAFY_PTJ2.domain.imagefilter.ImageLabels;
 import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageFilterSettings;
+import backend.SSAFY_PTJ2.infrastructure.cache.PerceptualImageCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +35,9 @@ import java.util.*;
 public class PostProcessingUseCaseImpl implements PostProcessingUseCase {
 
     private final SessionFilterService sessionFilterService;
+    private final AnalysisCacheService analysisCacheService;
     private final ObjectMapper objectMapper;
+    private final PerceptualImageCache perceptualImageCache;
 
     @Override
     public ProcessingResult executePostProcessing(ProcessingRequest originalRequest, AnalysisResult analysisResult, long actualProcessingTimeMs) {
@@ -41,9 +48,7 @@ public class PostProcessingUseCaseImpl implements PostProcessingUseCase {
             UserSettings userSettings = getUserSettings(originalRequest.getSessionId());
             AnalysisResult filteredResult = applyUserSettings(analysisResult, userSettings);
 
-            // 2. 분석 결과 캐시 저장 TODO 개발자 A
-            // String cacheKey = generateCacheKey(originalRequest);
-            // cacheAnalysisResult(cacheKey, filteredResult);
+            // 2. 분석 결과 캐시 저장은 사용자 설정 적용 전 결과로 ProcessingOrchestrator에서 수행
 
             // 3. 응답 형식으로 변환 (실제 AI 처리 시간 사용)
             ProcessingResult finalResult = convertToResponse(originalRequest, filteredResult, actualProcessingTimeMs, false);
@@ -84,14 +89,6 @@ public class PostProcessingUseCaseImpl implements PostProcessingUseCase {
         return null;
     }
 
-    /**
-     * 캐시 키 생성 (내부 헬퍼 메서드)
-     */
-    private String generateCacheKey(ProcessingRequest request) {
-        // TODO: 요청 정보를 기반으로 캐시 키 생성
-        return request.getRequestId() + "_" + request.getType();
-    }
-
     /**
      * 이미지 분석 결과 후처리
      */
@@ -141,10 +138,54 @@ public class PostProcessingUseCaseImpl implements PostProcessingUseCase {
     }
 
     @Override
-    public void cacheAnalysisResult(String cacheKey, AnalysisResult analysisResult) {
-        log.debug("분석 결과 캐시 저장 - 키: {}", cacheKey);
+    public void cacheAnalysisResult(CacheLookupResult cacheLookup, AnalysisResult analysisResult) {
+        // 실패한 분석은 캐시하지 않음 (다음 요청에서 다시 분석)
+        if (analysisResult == null || !analysisResult.isSuccess()
+            || (cacheLookup.getMissKeys().isEmpty() && cacheLookup.getPerceptualHashes().isEmpty())) {
+            return;
+        }
+
+        Map<String, String> missKeys = cacheLookup.getMissKeys();
+        Map<String, Long> perceptualHashes = cacheLookup.getPerceptualHashes();
+        Map<String, CachedAnalysisItem> items = new LinkedHashMap<>();
+
+        if (analysisResult.getImageResults() != null) {
+            for (AnalysisResult.ImageAnalysisItem imageItem : analysisResult.getImageResults()) {
+                String cacheKey = missKeys.get(imageItem.getImageId());
+                Long perceptualHash = perceptualHashes.get(imageItem.getImageId());
+                if (cacheKey == null && perceptualHash == null) {
+                    continue;
+                }
+                CachedAnalysisItem cachedItem = CachedAnalysisItem.of(imageItem);
+                if (cacheKey != null) {
+                    items.put(cacheKey, cachedItem);
+                }
+                if (perceptualHash != null) {
+                    perceptualImageCache.put(perceptualHash, cachedItem);
+                }
+            }
+        }
+
+        if (cacheLookup.getMissRequest() instanceof TextProcessingRequest textRequest) {
+            Map<String, AnalysisResult.TextAnalysisItem> textResults = new HashMap<>();
+            if (analysisResult.getTextResults() != null) {
+                analysisResult.getTextResults().forEach(textItem -> textResults.putIfAbsent(textItem.getElementId(), textItem));
+            }
+            // AI는 혐오 표현이 있는 요소만 돌려주므로, 응답에 없는 요소는 안전 판정으로 캐시 (네거티브 캐시)
+            for (TextProcessingRequest.TextData textData : textRequest.getTextDataList()) {
+                String cacheKey = missKeys.get(textData.getElementId());
+                if (cacheKey == null) {
+                    continue;
+                }
+                AnalysisResult.TextAnalysisItem textItem = textResults.get(textData.getElementId());
+                items.put(cacheKey, textItem != null
+                    ? CachedAnalysisItem.of(textItem)
+                    : CachedAnalysisItem.safeText(textData.getContentLength()));
+            }
+        }
 
-        // TODO: 개발자 D가 캐시 저장 로직 구현
+        log.debug("분석 결과 캐시 저장 - {}건", items.size());
+        analysisCacheService.putAll(items);
     }
 
     @Override
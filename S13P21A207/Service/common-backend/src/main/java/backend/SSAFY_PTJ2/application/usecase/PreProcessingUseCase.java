@@ -1,10 +1,10 @@
 package backend.SSAFY_PTJ2.application.usecase;
 
+import backend.SSAFY_PTJ2.domain.common.dto.CacheLookupResult;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
-import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
 import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
 
-import java.util.Optional;
+import java.util.List;
 
 /**
  * 처리 전 유즈케이스 인터페이스 - 개발자 D 담당
@@ -16,12 +16,14 @@ public interface PreProcessingUseCase {
 
     /**
      * 처리 전 준비 작업 실행
-     * 캐시 조회를 통해 이미 분석된 컨텐츠인지 확인합니다.
+     * 배치의 항목별로 캐시를 조회하여 이미 분석된 컨텐츠를 찾고,
+     * 분석이 필요한 항목만 모은 요청을 만듭니다.
      *
      * @param request 처리 요청
-     * @return 캐시된 결과 (있는 경우), 없으면 Optional.empty()
+     * @param userSettings 사용자 설정 (텍스트는 필터 카테고리가 캐시 키에 포함됨, 없으면 null)
+     * @return 항목별 캐시 조회 결과
      */
-    Optional<ProcessingResult> executePreProcessing(ProcessingRequest request);
+    CacheLookupResult executePreProcessing(ProcessingRequest request, UserSettings userSettings);
 
     /**
      * 요청 유효성 검증
@@ -34,21 +36,22 @@ public interface PreProcessingUseCase {
 
     /**
      * 캐시 키 생성
-     * 컨텐츠와 요청 타입을 기반으로 캐시 키를 생성합니다.
+     * 항목별 컨텐츠 해시(SHA-256)와 모델 버전, 텍스트 필터 카테고리를 기반으로 캐시 키를 생성합니다.
      *
      * @param request 처리 요청
-     * @return 생성된 캐시 키
+     * @param userSettings 사용자 설정 (없으면 null)
+     * @return 항목별 캐시 키 (요청 항목 순서, 캐시할 수 없는 항목은 null)
      */
-    String generateCacheKey(ProcessingRequest request);
+    List<String> generateCacheKeys(ProcessingRequest request, UserSettings userSettings);
 
     /**
      * 처리 전 메트릭 수집
      * 요청 분석, 캐시 히트율 등의 메트릭을 수집합니다.
      *
      * @param request 처리 요청
-     * @param cacheHit 캐시 히트 여부
+     * @param cacheLookup 항목별 캐시 조회 결과
      */
-    void collectPreProcessingMetrics(ProcessingRequest request, boolean cacheHit);
+    void collectPreProcessingMetrics(ProcessingRequest request, CacheLookupResult cacheLookup);
 
     /**
      * 사용자 설정 조회
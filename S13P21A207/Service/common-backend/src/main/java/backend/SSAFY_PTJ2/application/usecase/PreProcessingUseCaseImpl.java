@@ -1,22 +1,45 @@
 package backend.SSAFY_PTJ2.application.usecase;
 
+import backend.SSAFY_PTJ2.domain.common.dto.CacheLookupResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
-import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.TextProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
+import backend.SSAFY_PTJ2.domain.common.service.AnalysisCacheService;
 import backend.SSAFY_PTJ2.domain.common.service.SessionFilterService;
 import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageFilterSettings;
 import backend.SSAFY_PTJ2.domain.textfilter.dto.TextFilterSettings;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import backend.SSAFY_PTJ2.global.config.TextPrefilterProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.TextAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.cache.PerceptualImageCache;
+import backend.SSAFY_PTJ2.infrastructure.prefilter.PrefilterVerdict;
+import backend.SSAFY_PTJ2.infrastructure.prefilter.TextPrefilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 처리 전 유즈케이스 구현체 - 개발자 D 담당
  *
  * AI 분석 처리 전에 수행할 작업들을 구현합니다.
  * 주로 캐시 조회를 통한 빠른 응답 제공을 담당합니다.
+ * 캐시는 사용자와 무관하게 컨텐츠 기준으로 공유되며, 배치 중 캐시에 없는 항목만 AI로 보냅니다.
+ * 텍스트는 캐시 조회 전에 사전 필터(TextPrefilter)로 판정해 확실한 항목은 AI와 캐시 모두 거치지 않습니다.
+ * 이미지는 컨텐츠 해시 캐시에 없으면 지각 해시로 유사 이미지의 이전 결과를 한 번 더 찾습니다.
  */
 @Slf4j
 @Service
@@ -24,14 +47,81 @@ import java.util.Optional;
 public class PreProcessingUseCaseImpl implements PreProcessingUseCase {
 
     private final SessionFilterService sessionFilterService;
+    private final AnalysisCacheService analysisCacheService;
+    private final AnalysisCacheProperties cacheProperties;
+    private final AIClientProperties aiClientProperties;
+    private final TextAIAnalysisClient textAIAnalysisClient;
+    private final TextPrefilter textPrefilter;
+    private final TextPrefilterProperties prefilterProperties;
+    private final PerceptualImageCache perceptualImageCache;
 
     @Override
-    public Optional<ProcessingResult> executePreProcessing(ProcessingRequest request) {
+    public CacheLookupResult executePreProcessing(ProcessingRequest request, UserSettings userSettings) {
         log.info("처리 전 준비 작업 시작 - 요청 ID: {}", request.getRequestId());
 
-        // TODO: 개발자 D가 캐시 조회 로직 구현
-        // 현재는 캐시 미스로 처리
-        return Optional.empty();
+        List<String> itemIds = resolveItemIds(request);
+        Map<Integer, CachedAnalysisItem> prefilteredItems = prefilter(request, userSettings);
+        if (!cacheProperties.isEnabled()) {
+            List<Integer> missIndexes = IntStream.range(0, itemIds.size())
+                .filter(i -> !prefilteredItems.containsKey(i))
+                .boxed()
+                .toList();
+            return CacheLookupResult.builder()
+                .type(request.getType())
+                .itemIds(itemIds)
+                .cachedItems(Map.of())
+                .prefilteredItems(prefilteredItems)
+                .missKeys(Map.of())
+                .missRequest(createMissRequest(request, itemIds, missIndexes))
+                .build();
+        }
+
+        // 사전 필터로 정해지지 않은 항목의 키를 한 번에 조회 (로컬 캐시 → Redis MGET)
+        List<String> cacheKeys = generateCacheKeys(request, userSettings);
+        Map<String, CachedAnalysisItem> found = analysisCacheService.getAll(IntStream.range(0, cacheKeys.size())
+            .filter(i -> !prefilteredItems.containsKey(i))
+            .mapToObj(cacheKeys::get)
+            .toList());
+
+        Map<Integer, CachedAnalysisItem> cachedItems = new HashMap<>();
+        Map<String, String> missKeys = new LinkedHashMap<>();
+        List<Integer> missIndexes = new ArrayList<>();
+        for (int i = 0; i < itemIds.size(); i++) {
+            if (prefilteredItems.containsKey(i)) {
+                continue;
+            }
+            String cacheKey = cacheKeys.get(i);
+            CachedAnalysisItem cached = cacheKey != null ? found.get(cacheKey) : null;
+            if (cached != null) {
+                cachedItems.put(i, cached);
+            } else {
+                missIndexes.add(i);
+                if (cacheKey != null) {
+                    missKeys.put(itemIds.get(i), cacheKey);
+                }
+            }
+        }
+
+        // 바이트가 달라 놓친 이미지는 지각 해시로 유사 이미지 조회
+        Map<String, Long> perceptualHashes = new HashMap<>();
+        int similarHits = 0;
+        if (request instanceof ImageProcessingRequest imageRequest && perceptualImageCache.isEnabled()) {
+            similarHits = lookupSimilarImages(imageRequest, itemIds, cachedItems, missIndexes, missKeys, perceptualHashes);
+        }
+
+        CacheLookupResult cacheLookup = CacheLookupResult.builder()
+            .type(request.getType())
+            .itemIds(itemIds)
+            .cachedItems(cachedItems)
+            .similarHits(similarHits)
+            .perceptualHashes(perceptualHashes)
+            .prefilteredItems(prefilteredItems)
+            .missKeys(missKeys)
+            .missRequest(createMissRequest(request, itemIds, missIndexes))
+            .build();
+
+        collectPreProcessingMetrics(request, cacheLookup);
+        return cacheLookup;
     }
 
     @Override
@@ -44,20 +134,41 @@ public class PreProcessingUseCaseImpl implements PreProcessingUseCase {
     }
 
     @Override
-    public String generateCacheKey(ProcessingRequest request) {
+    public List<String> generateCacheKeys(ProcessingRequest request, UserSettings userSettings) {
         log.debug("캐시 키 생성 - 요청 ID: {}", request.getRequestId());
 
-        // TODO: 개발자 D가 캐시 키 생성 로직 구현
-        // 임시로 요청 ID 반환
-        return request.getRequestId();
+        // 키: {prefix}:{type}:{모델 버전}[:{필터 카테고리}]:{SHA-256}
+        // 텍스트 혐오 범위는 원문 인덱스 기준이므로 공백 정규화 없이 원문 그대로 해시
+        String prefix = cacheProperties.getKeyPrefix();
+        if (request instanceof ImageProcessingRequest imageRequest && imageRequest.hasImages()) {
+            String modelVersion = aiClientProperties.getImage().getModelVersion();
+            return imageRequest.getImageDataList().stream()
+                .map(imageData -> !imageData.hasPayload() ? null
+                    : String.join(":", prefix, "image", modelVersion, CachedAnalysisItem.contentHash(imageData.getPayload())))
+                .toList();
+        }
+        if (request instanceof TextProcessingRequest textRequest && textRequest.hasTexts()) {
+            String modelVersion = aiClientProperties.getText().getModelVersion();
+            String categories = textAIAnalysisClient.getUserFilterCategories(userSettings).entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.joining(","));
+            return textRequest.getTextDataList().stream()
+                .map(textData -> !textData.hasContent() ? null
+                    : String.join(":", prefix, "text", modelVersion, categories,
+                        CachedAnalysisItem.contentHash(textData.getContent().getBytes(StandardCharsets.UTF_8))))
+                .toList();
+        }
+        return List.of();
     }
 
     @Override
-    public void collectPreProcessingMetrics(ProcessingRequest request, boolean cacheHit) {
-        log.debug("처리 전 메트릭 수집 - 요청 ID: {}, 캐시 히트: {}",
-            request.getRequestId(), cacheHit);
-
-        // TODO: 개발자 D가 메트릭 수집 로직 구현
+    public void collectPreProcessingMetrics(ProcessingRequest request, CacheLookupResult cacheLookup) {
+        AnalysisCacheService.AnalysisCacheStatistics statistics = analysisCacheService.getStatistics();
+        log.debug("처리 전 메트릭 수집 - 요청 ID: {}, 히트: {}, 사전 필터: {}, 미스: {}, 누적 히트율: {}, 로컬 히트율: {}",
+            request.getRequestId(), cacheLookup.getHitCount(), cacheLookup.getPrefilteredCount(), cacheLookup.getMissCount(),
+            String.format("%.3f", statistics.hitRatio()), String.format("%.3f", statistics.nearHitRatio()));
     }
 
     @Override
@@ -112,4 +223,135 @@ public class PreProcessingUseCaseImpl implements PreProcessingUseCase {
         log.debug("사용자 설정 없음 - sessionId: {}", sessionId);
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 항목 ID 목록 (이미지는 elementId가 없으면 ImageAIAnalysisClient와 같은 규칙으로 생성)
+     */
+    private List<String> resolveItemIds(ProcessingRequest request) {
+        if (request instanceof ImageProcessingRequest imageRequest && imageRequest.hasImages()) {
+            return IntStream.range(0, imageRequest.getImageCount())
+                .mapToObj(imageRequest::resolveImageId)
+                .toList();
+        }
+        if (request instanceof TextProcessingRequest textRequest && textRequest.hasTexts()) {
+            return textRequest.getTextDataList().stream().map(TextProcessingRequest.TextData::getElementId).toList();
+        }
+        return List.of();
+    }
+
+    /**
+     * 텍스트 사전 필터 - AI 없이 정해지는 항목 (원본 인덱스 → 판정 결과)
+     * 사용자가 켠 카테고리의 키워드만 혐오로 확정하고, 애매한 텍스트는 AI로 보냅니다.
+     */
+    private Map<Integer, CachedAnalysisItem> prefilter(ProcessingRequest request, UserSettings userSettings) {
+        if (!prefilterProperties.isEnabled() || !(request instanceof TextProcessingRequest textRequest) || !textRequest.hasTexts()) {
+            return Map.of();
+        }
+
+        Set<String> enabledCategories = textAIAnalysisClient.getUserFilterCategories(userSettings).entrySet().stream()
+            .filter(Map.Entry::getValue)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+
+        Map<Integer, CachedAnalysisItem> prefilteredItems = new HashMap<>();
+        List<TextProcessingRequest.TextData> textDataList = textRequest.getTextDataList();
+        for (int i = 0; i < textDataList.size(); i++) {
+            TextProcessingRequest.TextData textData = textDataList.get(i);
+            // 내용 없는 요소는 기존처럼 AI 클라이언트 검증에 맡김
+            if (!textData.hasContent()) {
+                continue;
+            }
+            PrefilterVerdict verdict = textPrefilter.screen(textData.getContent(), enabledCategories);
+            if (verdict.isResolved()) {
+                prefilteredItems.put(i, CachedAnalysisItem.builder()
+                    .hateful(verdict.getDecision() == PrefilterVerdict.Decision.BLOCKED)
+                    .hatefulRanges(verdict.getRanges())
+                    .originalLength(textData.getContentLength())
+                    .build());
+            }
+        }
+        return prefilteredItems;
+    }
+
+    /**
+     * 컨텐츠 해시 캐시에 없는 이미지를 지각 해시로 다시 조회
+     * 유사 이미지가 있으면 캐시 히트로 옮기고, 없으면 AI 분석 후 저장할 수 있도록 해시를 남깁니다.
+     * 유사 이미지 결과는 근사값이므로 컨텐츠 해시 캐시(Redis)에는 저장하지 않습니다.
+     *
+     * @return 유사 이미지 히트 수
+     */
+    private int lookupSimilarImages(ImageProcessingRequest imageRequest, List<String> itemIds,
+                                    Map<Integer, CachedAnalysisItem> cachedItems, List<Integer> missIndexes,
+                                    Map<String, String> missKeys, Map<String, Long> perceptualHashes) {
+        int similarHits = 0;
+        Iterator<Integer> iterator = missIndexes.iterator();
+        while (iterator.hasNext()) {
+            int index = iterator.next();
+            ImageProcessingRequest.ImageData imageData = imageRequest.getImageDataList().get(index);
+            Long hash = imageData.hasPayload() ? perceptualImageCache.hash(imageData.getPayload()) : null;
+            if (hash == null) {
+                continue;
+            }
+            CachedAnalysisItem similar = perceptualImageCache.findSimilar(hash);
+            if (similar != null) {
+                cachedItems.put(index, similar);
+                missKeys.remove(itemIds.get(index));
+                iterator.remove();
+                similarHits++;
+            } else {
+                perceptualHashes.put(itemIds.get(index), hash);
+            }
+        }
+        return similarHits;
+    }
+
+    /**
+     * 캐시 미스 항목만 담은 요청 생성
+     * 이미지는 인덱스 기반 ID가 바뀌지 않도록 원본 ID를 elementId로 고정합니다.
+     */
+    private ProcessingRequest createMissRequest(ProcessingRequest request, List<String> itemIds, List<Integer> missIndexes) {
+        // 빈 요청은 그대로 보내 AI 클라이언트의 검증 오류를 유지
+        if (itemIds.isEmpty() || missIndexes.size() == itemIds.size()) {
+            return request;
+        }
+        if (missIndexes.isEmpty()) {
+            return null;
+        }
+
+        if (request instanceof ImageProcessingRequest imageRequest) {
+            List<ImageProcessingRequest.ImageData> images = missIndexes.stream()
+                .map(index -> {
+                    ImageProcessingRequest.ImageData imageData = imageRequest.getImageDataList().get(index);
+                    return ImageProcessingRequest.ImageData.builder()
+                        .payload(imageData.getPayload())
+                        .mimeType(imageData.getMimeType())
+                        .fileName(imageData.getFileName())
+                        .size(imageData.getSize())
+                        .elementId(itemIds.get(index))
+                        .metadata(imageData.getMetadata())
+                        .build();
+                })
+                .toList();
+            return ImageProcessingRequest.builder()
+                .requestId(request.getRequestId())
+                .priority(request.getPriority())
+                .timestamp(request.getTimestamp())
+                .sessionId(request.getSessionId())
+                .elementId(request.getElementId())
+                .pageUrl(request.getPageUrl())
+                .imageDataList(images)
+                .build();
+        }
+
+        TextProcessingRequest textRequest = (TextProcessingRequest) request;
+        return TextProcessingRequest.builder()
+            .requestId(request.getRequestId())
+            .priority(request.getPriority())
+            .timestamp(request.getTimestamp())
+            .sessionId(request.getSessionId())
+            .elementId(request.getElementId())
+            .pageUrl(request.getPageUrl())
+            .textDataList(missIndexes.stream().map(textRequest.getTextDataList()::get).toList())
+            .build();
+    }
+}
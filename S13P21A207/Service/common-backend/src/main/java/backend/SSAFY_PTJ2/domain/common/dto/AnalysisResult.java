@@ -3,6 +3,7 @@ package backend.SSAFY_PTJ2.domain.common.dto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 import java.util.Map;
@@ -73,6 +74,7 @@ public class AnalysisResult {
      */
     @Getter
     @Builder
+    @Jacksonized  // 분석 결과 캐시에서 역직렬화
     public static class TextRange {
         private final int startIndex;  // 시작 인덱스
         private final int endIndex;    // 종료 인덱스
@@ -85,6 +87,7 @@ public class AnalysisResult {
      */
     @Getter
     @Builder
+    @Jacksonized  // 분석 결과 캐시에서 역직렬화
     public static class ImageRegion {
         private final int x;           // X 좌표
         private final int y;           // Y 좌표
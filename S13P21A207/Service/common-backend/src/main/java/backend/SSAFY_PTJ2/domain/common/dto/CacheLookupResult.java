@@ -0,0 +1,166 @@
+package backend.SSAFY_PTJ2.domain.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 요청의 항목별 캐시 조회 결과
+ *
+ * 캐시에 있던 항목과 텍스트 사전 필터가 판정한 항목은 그대로 사용하고,
+ * 나머지 항목만 모은 요청(missRequest)을 AI로 보낸 뒤 merge()로 원래 순서대로 합칩니다.
+ */
+@Getter
+@Builder
+public class CacheLookupResult {
+
+    /**
+     * 원본 요청 타입
+     */
+    private final ProcessingRequest.RequestType type;
+
+    /**
+     * 원본 요청의 항목 ID (이미지 ID / 텍스트 elementId, 원본 순서)
+     */
+    private final List<String> itemIds;
+
+    /**
+     * 캐시 히트 항목 (원본 인덱스 → 캐시 값, 유사 이미지 히트 포함)
+     */
+    private final Map<Integer, CachedAnalysisItem> cachedItems;
+
+    /**
+     * cachedItems 중 지각 해시로 찾은 유사 이미지 히트 수
+     */
+    @Builder.Default
+    private final int similarHits = 0;
+
+    /**
+     * AI로 보낼 이미지의 지각 해시 (항목 ID → dHash), AI 분석 후 유사 이미지 캐시 저장에 사용
+     */
+    @Builder.Default
+    private final Map<String, Long> perceptualHashes = Map.of();
+
+    /**
+     * 텍스트 사전 필터가 AI 없이 판정한 항목 (원본 인덱스 → 판정 결과, 캐시에는 저장하지 않음)
+     */
+    @Builder.Default
+    private final Map<Integer, CachedAnalysisItem> prefilteredItems = Map.of();
+
+    /**
+     * 캐시 미스 항목의 캐시 키 (항목 ID → 캐시 키), AI 분석 후 저장에 사용
+     */
+    private final Map<String, String> missKeys;
+
+    /**
+     * AI로 분석할 항목만 담은 요청 (모두 캐시 히트 또는 사전 필터 판정이면 null)
+     */
+    private final ProcessingRequest missRequest;
+
+    /**
+     * AI 호출 없이 모든 항목의 결과가 정해졌는지 여부
+     */
+    public boolean isFullyResolved() {
+        return missRequest == null;
+    }
+
+    /**
+     * 모든 항목이 캐시에서 조회되었는지 여부
+     */
+    public boolean isFullyCached() {
+        return missRequest == null && prefilteredItems.isEmpty();
+    }
+
+    public int getHitCount() {
+        return cachedItems.size();
+    }
+
+    public int getPrefilteredCount() {
+        return prefilteredItems.size();
+    }
+
+    /**
+     * 캐시 히트와 사전 필터 판정을 합친 항목 수
+     */
+    public int getResolvedCount() {
+        return cachedItems.size() + prefilteredItems.size();
+    }
+
+    public int getMissCount() {
+        return itemIds.size() - getResolvedCount();
+    }
+
+    /**
+     * 캐시 히트·사전 필터 항목과 AI 분석 결과를 원본 순서대로 합침
+     *
+     * @param freshResult AI로 분석한 항목의 결과 (모두 정해졌으면 null)
+     * @return 합쳐진 분석 결과
+     */
+    public AnalysisResult merge(AnalysisResult freshResult) {
+        boolean image = type == ProcessingRequest.RequestType.IMAGE_ANALYSIS;
+
+        Map<String, AnalysisResult.ImageAnalysisItem> freshImages = new LinkedHashMap<>();
+        Map<String, AnalysisResult.TextAnalysisItem> freshTexts = new LinkedHashMap<>();
+        if (freshResult != null && freshResult.getImageResults() != null) {
+            freshResult.getImageResults().forEach(item -> freshImages.putIfAbsent(item.getImageId(), item));
+        }
+        if (freshResult != null && freshResult.getTextResults() != null) {
+            freshResult.getTextResults().forEach(item -> freshTexts.putIfAbsent(item.getElementId(), item));
+        }
+
+        List<AnalysisResult.ImageAnalysisItem> imageResults = new ArrayList<>();
+        List<AnalysisResult.TextAnalysisItem> textResults = new ArrayList<>();
+        for (int i = 0; i < itemIds.size(); i++) {
+            String itemId = itemIds.get(i);
+            CachedAnalysisItem cached = cachedItems.containsKey(i) ? cachedItems.get(i) : prefilteredItems.get(i);
+            if (image) {
+                AnalysisResult.ImageAnalysisItem item = cached != null ? cached.toImageItem(itemId) : freshImages.remove(itemId);
+                if (item != null) {
+                    imageResults.add(item);
+                }
+            } else {
+                AnalysisResult.TextAnalysisItem item = cached != null ? cached.toTextItem(itemId) : freshTexts.remove(itemId);
+                if (item != null) {
+                    textResults.add(item);
+                }
+            }
+        }
+        // 요청에 없던 ID로 돌아온 결과도 버리지 않음
+        imageResults.addAll(freshImages.values());
+        textResults.addAll(freshTexts.values());
+
+        AnalysisResult.ProcessingStats freshStats = freshResult != null ? freshResult.getProcessingStats() : null;
+        int hatefulCount = image
+            ? (int) imageResults.stream().filter(AnalysisResult.ImageAnalysisItem::isHateful).count()
+            : (int) textResults.stream().filter(item -> item.getHatefulRanges() != null && !item.getHatefulRanges().isEmpty()).count();
+
+        Map<String, Object> additionalData = new HashMap<>();
+        if (freshResult != null && freshResult.getAdditionalData() != null) {
+            additionalData.putAll(freshResult.getAdditionalData());
+        }
+        additionalData.put("cacheHits", getHitCount());
+        additionalData.put("similarHits", similarHits);
+        additionalData.put("prefilterHits", getPrefilteredCount());
+
+        return AnalysisResult.builder()
+            .success(freshResult == null || freshResult.isSuccess())
+            .analysisType(image ? "IMAGE" : "TEXT")
+            .imageResults(image ? imageResults : null)
+            .textResults(image ? null : textResults)
+            .processingStats(AnalysisResult.ProcessingStats.builder()
+                .totalRequested(itemIds.size())
+                .successfullyProcessed(getResolvedCount() + (freshStats != null ? freshStats.getSuccessfullyProcessed() : 0))
+                .failed(freshStats != null ? freshStats.getFailed() : 0)
+                .hatefulCount(hatefulCount)
+                .processedImages(image ? getHitCount() + (freshStats != null ? freshStats.getProcessedImages() : 0) : 0)
+                .skippedImages(image && freshStats != null ? freshStats.getSkippedImages() : 0)
+                .build())
+            .additionalData(additionalData)
+            .build();
+    }
+}
@@ -0,0 +1,139 @@
+package backend.SSAFY_PTJ2.domain.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 항목(이미지 1장 / 텍스트 요소 1개) 단위 분석 결과 캐시 값
+ *
+ * 같은 컨텐츠라도 사용자·페이지마다 DOM 요소 ID가 다르므로 ID는 저장하지 않고,
+ * 캐시 히트 시 현재 요청의 ID를 붙여 AnalysisResult 항목으로 복원합니다.
+ * 캐시 키는 컨텐츠 해시(contentHash)로 만듭니다.
+ */
+@Getter
+@Builder
+@Jacksonized
+public class CachedAnalysisItem {
+
+    /**
+     * 혐오 판정 여부 (false면 네거티브 캐시 항목)
+     */
+    private final boolean hateful;
+
+    /**
+     * 이미지 판정 신뢰도
+     */
+    private final double confidenceScore;
+
+    /**
+     * 이미지 탐지 카테고리
+     */
+    private final List<String> detectedCategories;
+
+    /**
+     * 이미지 내 혐오 영역
+     */
+    private final List<AnalysisResult.ImageRegion> hatefulRegions;
+
+    /**
+     * 텍스트 내 혐오 표현 범위 (원문 인덱스 기준)
+     */
+    private final List<AnalysisResult.TextRange> hatefulRanges;
+
+    /**
+     * 텍스트 원문 길이
+     */
+    private final int originalLength;
+
+    /**
+     * 안전(혐오 아님) 판정인지 여부
+     */
+    @JsonIgnore
+    public boolean isSafe() {
+        return !hateful;
+    }
+
+    public static CachedAnalysisItem of(AnalysisResult.ImageAnalysisItem item) {
+        return CachedAnalysisItem.builder()
+            .hateful(item.isHateful())
+            .confidenceScore(item.getConfidenceScore())
+            .detectedCategories(item.getDetectedCategories())
+            .hatefulRegions(item.getHatefulRegions())
+            .build();
+    }
+
+    public static CachedAnalysisItem of(AnalysisResult.TextAnalysisItem item) {
+        List<AnalysisResult.TextRange> ranges = item.getHatefulRanges() != null ? item.getHatefulRanges() : List.of();
+        return CachedAnalysisItem.builder()
+            .hateful(!ranges.isEmpty())
+            .hatefulRanges(ranges)
+            .originalLength(item.getOriginalLength())
+            .build();
+    }
+
+    /**
+     * AI가 걸러낸 요소 목록에 없던 텍스트 (혐오 표현 없음)
+     */
+    public static CachedAnalysisItem safeText(int originalLength) {
+        return CachedAnalysisItem.builder()
+            .hateful(false)
+            .hatefulRanges(List.of())
+            .originalLength(originalLength)
+            .build();
+    }
+
+    public AnalysisResult.ImageAnalysisItem toImageItem(String imageId) {
+        return AnalysisResult.ImageAnalysisItem.builder()
+            .imageId(imageId)
+            .isHateful(hateful)
+            .confidenceScore(confidenceScore)
+            .detectedCategories(detectedCategories != null ? detectedCategories : List.of())
+            .hatefulRegions(hatefulRegions != null ? hatefulRegions : List.of())
+            .build();
+    }
+
+    public AnalysisResult.TextAnalysisItem toTextItem(String elementId) {
+        return AnalysisResult.TextAnalysisItem.builder()
+            .elementId(elementId)
+            .hatefulRanges(hatefulRanges != null ? hatefulRanges : List.of())
+            .originalLength(originalLength)
+            .build();
+    }
+
+    /**
+     * 컨텐츠 해시 (SHA-256, 16진수 문자열)
+     * @param content 해시할 바이트
+     * @return 64자리 16진수 해시
+     */
+    public static String contentHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 이미지 컨텐츠 해시 (SHA-256, 원본 배열 복사 없이 계산)
+     * @param payload 해시할 이미지 바이너리
+     * @return 64자리 16진수 해시
+     */
+    public static String contentHash(ImagePayload payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            payload.updateDigest(digest);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
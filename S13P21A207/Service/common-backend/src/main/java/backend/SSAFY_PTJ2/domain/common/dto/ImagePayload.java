@@ -0,0 +1,154 @@
+package backend.SSAFY_PTJ2.domain.common.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 이미지 바이너리 뷰
+ *
+ * Socket.IO로 받은 원본 바이트 배열 위의 offset/length 구간을 복사 없이 가리킵니다.
+ * 바이너리 첨부의 0x04 마커 제거, 캐시 키 해시, AI 컨테이너 멀티파트 전송이 모두 같은 배열을 공유하며
+ * 바이트 배열이 필요한 곳에서만 {@link #toByteArray()}로 복사합니다.
+ *
+ * 원본 배열은 수정하지 않는다는 전제로 공유되므로 외부에서 원본을 변경하면 안 됩니다.
+ */
+public final class ImagePayload {
+
+    /** Socket.IO(Engine.IO) 바이너리 메시지 타입 마커 */
+    private static final byte SOCKET_IO_BINARY_MARKER = 0x04;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final byte[] source;
+    private final int offset;
+    private final int length;
+
+    private ImagePayload(byte[] source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 바이트 배열 전체를 가리키는 뷰
+     */
+    public static ImagePayload of(byte[] data) {
+        Objects.requireNonNull(data, "data");
+        return new ImagePayload(data, 0, data.length);
+    }
+
+    /**
+     * 바이트 배열의 일부 구간을 가리키는 뷰
+     */
+    public static ImagePayload of(byte[] source, int offset, int length) {
+        Objects.requireNonNull(source, "source");
+        Objects.checkFromIndexSize(offset, length, source.length);
+        return new ImagePayload(source, offset, length);
+    }
+
+    /**
+     * Socket.IO 바이너리 첨부로 받은 프레임
+     * 선두의 0x04 마커는 복사 없이 offset만 옮겨 건너뜁니다. (null이면 빈 페이로드)
+     */
+    public static ImagePayload fromSocketFrame(byte[] frame) {
+        if (frame == null) {
+            return new ImagePayload(EMPTY, 0, 0);
+        }
+        int start = frame.length > 0 && frame[0] == SOCKET_IO_BINARY_MARKER ? 1 : 0;
+        return new ImagePayload(frame, start, frame.length - start);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * 읽기 전용 ByteBuffer 뷰 (복사 없음, 호출할 때마다 독립된 position)
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(source, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(source, offset, length);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(source, offset, length);
+    }
+
+    /**
+     * 해시 계산 (복사 없이 구간만 digest에 전달)
+     */
+    public void updateDigest(MessageDigest digest) {
+        digest.update(source, offset, length);
+    }
+
+    /**
+     * 바이트 배열 복사본 (바이트 배열이 꼭 필요한 경우에만 사용)
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(source, offset, offset + length);
+    }
+
+    /**
+     * 매직 바이트로 실제 이미지 형식 판별
+     * 클라이언트가 보낸 MIME 타입 대신 이 값을 신뢰합니다.
+     *
+     * @return 판별된 MIME 타입, 지원하지 않는 형식이면 null
+     */
+    public String sniffMimeType() {
+        if (startsWith(0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith('G', 'I', 'F', '8', '7', 'a') || startsWith('G', 'I', 'F', '8', '9', 'a')) {
+            return "image/gif";
+        }
+        if (startsWith('R', 'I', 'F', 'F') && regionMatches(8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        if (regionMatches(4, 'f', 't', 'y', 'p', 'a', 'v', 'i', 'f')
+            || regionMatches(4, 'f', 't', 'y', 'p', 'a', 'v', 'i', 's')) {
+            return "image/avif";
+        }
+        if (startsWith('B', 'M')) {
+            return "image/bmp";
+        }
+        if (startsWith('I', 'I', 0x2A, 0x00) || startsWith('M', 'M', 0x00, 0x2A)) {
+            return "image/tiff";
+        }
+        if (startsWith(0x00, 0x00, 0x01, 0x00)) {
+            return "image/x-icon";
+        }
+        return null;
+    }
+
+    private boolean startsWith(int... prefix) {
+        return regionMatches(0, prefix);
+    }
+
+    private boolean regionMatches(int position, int... expected) {
+        if (position + expected.length > length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((source[offset + position + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
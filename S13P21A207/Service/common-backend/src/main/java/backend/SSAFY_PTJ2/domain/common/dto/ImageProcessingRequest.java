@@ -14,6 +14,9 @@ import java.util.Map;
 @Getter
 public class ImageProcessingRequest extends ProcessingRequest {
 
+    /** 이미지 한 장의 최대 크기 (바이트) */
+    public static final long MAX_IMAGE_BYTES = 1024 * 1024; // 1MB
+
     /**
      * 배치 처리할 이미지 데이터 리스트
      * Socket.io에서 받은 다중 이미지를 한 번에 처리
@@ -27,9 +30,9 @@ public class ImageProcessingRequest extends ProcessingRequest {
     @Builder
     public static class ImageData {
         /**
-         * 이미지 바이너리 데이터
+         * 이미지 바이너리 (Socket.IO 원본 배열 위의 뷰)
          */
-        private final byte[] data;
+        private final ImagePayload payload;
 
         /**
          * 이미지 MIME 타입
@@ -77,7 +80,14 @@ public class ImageProcessingRequest extends ProcessingRequest {
          * 이미지 크기 검증 (1MB 이하)
          */
         public boolean isValidSize() {
-            return size <= 1024 * 1024; // 1MB
+            return size <= MAX_IMAGE_BYTES;
+        }
+
+        /**
+         * 바이너리 데이터가 있는지 확인
+         */
+        public boolean hasPayload() {
+            return payload != null && !payload.isEmpty();
         }
 
         /**
@@ -95,6 +105,16 @@ public class ImageProcessingRequest extends ProcessingRequest {
                 mimeType.equals("image/x-icon")
             );
         }
+
+        public static class ImageDataBuilder {
+            /**
+             * 바이트 배열 전체를 페이로드로 사용
+             */
+            public ImageDataBuilder data(byte[] data) {
+                this.payload = data != null ? ImagePayload.of(data) : null;
+                return this;
+            }
+        }
     }
 
     @Builder
@@ -105,6 +125,16 @@ public class ImageProcessingRequest extends ProcessingRequest {
         this.imageDataList = imageDataList;
     }
 
+    /**
+     * 이미지 항목 ID (elementId가 없으면 요청 ID와 인덱스로 생성)
+     * ImageAIAnalysisClient가 AI 컨테이너로 보내는 ID와 같은 규칙입니다.
+     */
+    public String resolveImageId(int index) {
+        String imageElementId = imageDataList.get(index).getElementId();
+        return imageElementId != null && !imageElementId.trim().isEmpty()
+            ? imageElementId : String.format("%s-img-%d", requestId, index);
+    }
+
     /**
      * 배치 이미지 개수
      */
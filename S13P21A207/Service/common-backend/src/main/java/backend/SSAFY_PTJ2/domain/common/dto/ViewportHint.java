@@ -0,0 +1,85 @@
+package backend.SSAFY_PTJ2.domain.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 이미지 요소의 뷰포트 위치 정보
+ *
+ * 클라이언트가 이미지 메타데이터(imageMetadata)나 viewport-update 이벤트로 보내는 값입니다.
+ * - viewportDistance: 뷰포트 가장자리에서 요소까지의 거리(px), 화면 안이면 0
+ * - width / height: 요소의 화면상 크기(px)
+ * - scrollVelocity: 요소 쪽으로 다가오는 스크롤 속도(px/s), 멀어지면 음수
+ * - inViewport: 화면 안 여부 (viewportDistance 대신 보낼 수 있음)
+ */
+@Getter
+@Builder
+public class ViewportHint {
+
+    /**
+     * 뷰포트 가장자리에서 요소까지의 거리 (px, 화면 안이면 0)
+     */
+    private final double viewportDistance;
+
+    /**
+     * 요소의 화면상 면적 (px², 알 수 없으면 0)
+     */
+    private final double area;
+
+    /**
+     * 요소 쪽으로 다가오는 스크롤 속도 (px/s, 멀어지면 음수)
+     */
+    private final double scrollVelocity;
+
+    public boolean isInViewport() {
+        return viewportDistance <= 0;
+    }
+
+    /**
+     * 메타데이터 맵에서 뷰포트 정보 추출
+     *
+     * @return 뷰포트 거리 정보(viewportDistance 또는 inViewport)가 없으면 null
+     */
+    public static ViewportHint from(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+
+        Double distance = number(metadata.get("viewportDistance"));
+        if (distance == null) {
+            Object inViewport = metadata.get("inViewport");
+            if (inViewport == null) {
+                return null;
+            }
+            distance = Boolean.parseBoolean(String.valueOf(inViewport)) ? 0.0 : null;
+            if (distance == null) {
+                return null; // 화면 밖이라는 것만 알고 거리는 모름
+            }
+        }
+
+        Double width = number(metadata.get("width"));
+        Double height = number(metadata.get("height"));
+        Double velocity = number(metadata.get("scrollVelocity"));
+        return ViewportHint.builder()
+            .viewportDistance(Math.max(0, distance))
+            .area(width != null && height != null ? Math.max(0, width * height) : 0)
+            .scrollVelocity(velocity != null ? velocity : 0)
+            .build();
+    }
+
+    private static Double number(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Double.parseDouble(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package backend.SSAFY_PTJ2.domain.common.service;
+
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 항목 단위 AI 분석 결과 캐시 인터페이스
+ *
+ * 키는 컨텐츠 해시 + 모델 버전 (+ 텍스트 필터 카테고리)로 만들어지므로
+ * 사용자·세션이 달라도 같은 컨텐츠면 같은 결과를 재사용합니다.
+ * 배치 요청 전체를 한 번에 조회/저장하여 Redis 왕복을 배치당 1회로 유지합니다.
+ */
+public interface AnalysisCacheService {
+
+    /**
+     * 여러 키를 한 번에 조회
+     *
+     * @param cacheKeys 조회할 캐시 키 (null 키는 무시)
+     * @return 캐시에 있던 키와 값 (없는 키는 포함되지 않음)
+     */
+    Map<String, CachedAnalysisItem> getAll(Collection<String> cacheKeys);
+
+    /**
+     * 여러 항목을 한 번에 저장
+     * 혐오 판정과 안전 판정(네거티브 캐시)은 서로 다른 TTL로 저장됩니다.
+     *
+     * @param items 캐시 키와 값
+     */
+    void putAll(Map<String, CachedAnalysisItem> items);
+
+    /**
+     * 캐시 통계 조회 (모니터링용)
+     *
+     * @return 계층별 히트/미스 통계
+     */
+    AnalysisCacheStatistics getStatistics();
+
+    /**
+     * 모든 노드를 합친 공유 캐시 통계 (모니터링용)
+     * Redis 키를 훑지 않고 증분으로 갱신해 둔 카운터와 HyperLogLog만 읽습니다.
+     *
+     * @return 공유 캐시 항목 수(근사값)와 히트/미스 통계
+     */
+    SharedCacheStatistics getSharedStatistics();
+
+    /**
+     * 계층별 캐시 통계 DTO
+     */
+    record AnalysisCacheStatistics(
+        long nearSize,       // 노드 로컬 캐시 항목 수
+        long nearHits,       // 노드 로컬 캐시 히트 수
+        long remoteHits,     // Redis 히트 수
+        long misses,         // 캐시 미스 수
+        long safeHits,       // 히트 중 안전 판정(네거티브 캐시) 수
+        long remoteErrors    // Redis 조회/저장 실패 수
+    ) {
+
+        public long hits() {
+            return nearHits + remoteHits;
+        }
+
+        public double hitRatio() {
+            long total = hits() + misses;
+            return total > 0 ? (double) hits() / total : 0.0;
+        }
+
+        public double nearHitRatio() {
+            long total = hits() + misses;
+            return total > 0 ? (double) nearHits / total : 0.0;
+        }
+    }
+
+    /**
+     * 공유 캐시 통계 DTO
+     */
+    record SharedCacheStatistics(
+        long estimatedEntries,      // TTL 안에 저장된 고유 키 수 (HyperLogLog 근사값, 오차 약 1%)
+        long estimatedSafeEntries,  // 그 중 안전 판정(네거티브 캐시) 수
+        long hits,                  // 전체 노드 캐시 히트 수
+        long misses                 // 전체 노드 캐시 미스 수
+    ) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total > 0 ? (double) hits / total : 0.0;
+        }
+    }
+}
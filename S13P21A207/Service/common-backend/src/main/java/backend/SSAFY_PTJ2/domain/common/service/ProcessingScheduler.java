@@ -2,14 +2,18 @@ package backend.SSAFY_PTJ2.domain.common.service;
 
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
 import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
+import backend.SSAFY_PTJ2.domain.common.dto.ViewportHint;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * 처리 스케줄러 인터페이스 - 개발자 C 담당
  *
  * 우선순위 큐를 이용한 AI 분석 요청 스케줄링을 담당합니다.
- * 뷰포트 컨텐츠를 우선적으로 처리하고, AI 컨테이너별 락을 관리합니다.
+ * 뷰포트 컨텐츠를 우선적으로 처리하고, 여러 소켓의 요청을 마이크로 배치로 묶어
+ * AI 컨테이너별로 한 번의 호출로 분석합니다.
  */
 public interface ProcessingScheduler {
 
@@ -23,6 +27,17 @@ public interface ProcessingScheduler {
      */
     ProcessingResult scheduleAndProcess(ProcessingRequest request) throws ProcessingException;
 
+    /**
+     * 사용자 설정을 포함한 처리 요청 스케줄링 및 실행
+     * 텍스트 분석은 사용자 필터 카테고리가 AI 요청에 포함되므로 설정이 같은 요청끼리만 배치로 묶입니다.
+     *
+     * @param request 처리 요청
+     * @param userSettings 사용자 설정 (없으면 기본 설정)
+     * @return 처리 결과 (동기적으로 반환)
+     * @throws ProcessingException 처리 중 오류, 대기 시간 초과, 취소 시
+     */
+    ProcessingResult scheduleAndProcess(ProcessingRequest request, UserSettings userSettings) throws ProcessingException;
+
     /**
      * 비동기 처리 요청 스케줄링
      * 향후 확장성을 위한 비동기 처리 인터페이스
@@ -32,6 +47,15 @@ public interface ProcessingScheduler {
      */
     CompletableFuture<ProcessingResult> scheduleAndProcessAsync(ProcessingRequest request);
 
+    /**
+     * 사용자 설정을 포함한 비동기 처리 요청 스케줄링
+     *
+     * @param request 처리 요청
+     * @param userSettings 사용자 설정 (없으면 기본 설정)
+     * @return 처리 결과의 CompletableFuture (취소하면 큐에서도 제거됨)
+     */
+    CompletableFuture<ProcessingResult> scheduleAndProcessAsync(ProcessingRequest request, UserSettings userSettings);
+
     /**
      * 현재 큐 상태 조회
      *
@@ -41,12 +65,31 @@ public interface ProcessingScheduler {
 
     /**
      * 특정 요청 취소
+     * 큐에 대기 중이면 제거하고, 이미 배치로 전송된 경우 결과를 버리고 대기 중인 호출자를 깨웁니다.
      *
      * @param requestId 취소할 요청 ID
-     * @return 취소 성공 여부
+     * @return 취소 성공 여부 (이미 완료되었거나 없는 요청이면 false)
      */
     boolean cancelRequest(String requestId);
 
+    /**
+     * 스크롤로 바뀐 요소 위치에 맞춰 세션의 대기 중인 이미지 요청 순서를 다시 계산
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param viewportHints 요소 ID → 최신 뷰포트 위치
+     * @return 순서가 바뀐 요청 수
+     */
+    int reprioritize(String sessionId, Map<String, ViewportHint> viewportHints);
+
+    /**
+     * 세션의 대기·처리 중인 요청을 모두 취소 (페이지 이동, 연결 해제)
+     * 취소 이전에 받은 요청이 뒤늦게 들어와도 REQUEST_CANCELLED로 거절합니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @return 취소된 요청 수
+     */
+    int cancelSession(String sessionId);
+
     /**
      * 스케줄러 상태 확인
      *
@@ -89,8 +132,10 @@ public interface ProcessingScheduler {
         int totalQueueSize,           // 전체 큐 크기
         int viewportQueueSize,        // 뷰포트 우선순위 큐 크기
         int normalQueueSize,          // 일반 우선순위 큐 크기
-        boolean imageClientLocked,    // 이미지 AI 클라이언트 락 상태
-        boolean textClientLocked,     // 텍스트 AI 클라이언트 락 상태
-        long averageProcessingTimeMs  // 평균 처리 시간
+        boolean imageClientLocked,    // 이미지 AI 컨테이너로 전송 중인 배치 존재 여부
+        boolean textClientLocked,     // 텍스트 AI 컨테이너로 전송 중인 배치 존재 여부
+        long averageProcessingTimeMs, // 평균 처리 시간 (큐 대기 포함)
+        long dispatchedBatches,       // 전송한 배치 수
+        double averageBatchSize       // 배치당 평균 요청 수
     ) {}
 }
\ No newline at end of file
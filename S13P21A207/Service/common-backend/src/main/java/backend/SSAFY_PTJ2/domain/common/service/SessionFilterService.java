@@ -4,22 +4,39 @@ import backend.SSAFY_PTJ2.domain.imagefilter.ImageLabels;
 import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageFilterSettings;
 import backend.SSAFY_PTJ2.domain.textfilter.TextLabels;
 import backend.SSAFY_PTJ2.domain.textfilter.dto.TextFilterSettings;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 세션별 필터 설정 서비스
+ *
+ * 소켓 세션이 살아 있는 동안 설정을 노드 메모리(sessionSettings)에 들고 있어 분석 요청마다 Redis를 읽지 않습니다.
+ * - connection-init: Redis에서 이미지/텍스트 설정을 한 번에(multiGet) 적재
+ * - 설정 변경: 메모리 갱신 후 Redis에 기록(write-through)하고 다른 노드에 무효화 메시지 발행
+ * - 다른 노드의 무효화 메시지: 메모리에서 제거 → 다음 조회 때 Redis에서 다시 적재
+ * - 연결 해제: 메모리와 Redis에서 모두 제거
+ *
+ * Redis를 쓰지 않거나 Redis 기록에 실패해도 메모리의 설정으로 계속 동작합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class  SessionFilterService {
+public class  SessionFilterService implements MessageListener {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
 
     @Value("${filter.use-redis:true}")
     private boolean useRedis;
@@ -27,17 +44,75 @@ public class  SessionFilterService {
     @Value("${filter.session-ttl-hours:24}")
     private long sessionTtlHours;
 
-    // Redis 비활성화 시 사용
-    private final Map<String, Object> localCache = new ConcurrentHashMap<>();
+    // 소켓 세션 ID → 설정 (없는 설정도 null로 기억해 Redis를 다시 읽지 않음)
+    private final Map<String, SessionSettings> sessionSettings = new ConcurrentHashMap<>();
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 노드 ID
+    private final String nodeId = UUID.randomUUID().toString();
 
     // 키 구분 접두사
     private static final String IMAGE_FILTER_KEY_PREFIX = "filter:image:";
     private static final String TEXT_FILTER_KEY_PREFIX = "filter:text:";
 
+    /** 설정 변경 무효화 채널 (메시지: "{노드 ID}|{세션 ID}") */
+    public static final String INVALIDATION_CHANNEL = "filter:invalidate";
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        if (useRedis) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    // ==================== 세션 ====================
+
+    /**
+     * 세션 설정을 메모리에 적재 (connection-init에서 호출, 이미 적재되어 있으면 그대로 사용)
+     */
+    public void loadSession(String sessionId) {
+        sessionSettings.computeIfAbsent(sessionId, this::readFromStore);
+    }
+
+    /**
+     * 세션 종료 - 메모리와 저장소에서 모든 필터 설정 제거
+     */
+    public void closeSession(String sessionId) {
+        sessionSettings.remove(sessionId);
+        if (useRedis) {
+            try {
+                redisTemplate.delete(List.of(IMAGE_FILTER_KEY_PREFIX + sessionId, TEXT_FILTER_KEY_PREFIX + sessionId));
+                log.info("[Redis] Deleted filters for session {}", sessionId);
+            } catch (Exception e) {
+                log.error("[Redis] Failed to delete filters", e);
+            }
+            publishInvalidation(sessionId);
+        }
+    }
+
+    /**
+     * 다른 노드의 설정 변경 알림 - 메모리의 설정을 버리고 다음 조회 때 Redis에서 다시 적재
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(payload instanceof String invalidation)) {
+            return;
+        }
+        int separator = invalidation.indexOf('|');
+        if (separator < 0 || invalidation.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        String sessionId = invalidation.substring(separator + 1);
+        if (sessionSettings.remove(sessionId) != null) {
+            log.debug("[Redis] Invalidated filters for session {} by another node", sessionId);
+        }
+    }
+
     // ==================== 이미지 필터 ====================
 
     public void saveImageFilterSettings(String sessionId, Set<ImageLabels> enabledFilters, boolean originalViewEnabled) {
         ImageFilterSettings settings = new ImageFilterSettings(sessionId, enabledFilters, originalViewEnabled);
+        sessionSettings.compute(sessionId, (id, current) -> loaded(id, current).withImage(settings));
 
         if (useRedis) {
             try {
@@ -46,38 +121,22 @@ public class  SessionFilterService {
                 log.info("[Redis] Saved image filter for session {}: filters={}, originalView={}",
                         sessionId, enabledFilters, originalViewEnabled);
             } catch (Exception e) {
-                log.error("[Redis] Failed, using local cache", e);
-                localCache.put(IMAGE_FILTER_KEY_PREFIX + sessionId, settings);
+                log.error("[Redis] Failed, keeping session memory only", e);
             }
+            publishInvalidation(sessionId);
         } else {
-            localCache.put(IMAGE_FILTER_KEY_PREFIX + sessionId, settings);
             log.info("[Local] Saved image filter for session {}: filters={}, originalView={}",
                     sessionId, enabledFilters, originalViewEnabled);
         }
     }
 
     public ImageFilterSettings getImageFilterSettings(String sessionId) {
-        if (useRedis) {
-            try {
-                String key = IMAGE_FILTER_KEY_PREFIX + sessionId;
-                Object value = redisTemplate.opsForValue().get(key);
-
-                if (value instanceof ImageFilterSettings) {
-                    return (ImageFilterSettings) value;
-                }
-            } catch (Exception e) {
-                log.error("[Redis] Failed to get, using local", e);
-            }
-        }
-
-        Object localValue = localCache.get(IMAGE_FILTER_KEY_PREFIX + sessionId);
-        if (localValue instanceof ImageFilterSettings) {
-            return (ImageFilterSettings) localValue;
-        }
-        return new ImageFilterSettings(sessionId, Set.of(), false);
+        ImageFilterSettings settings = settingsOf(sessionId).image();
+        return settings != null ? settings : new ImageFilterSettings(sessionId, Set.of(), false);
     }
 
     public void deleteImageFilterSettings(String sessionId) {
+        sessionSettings.computeIfPresent(sessionId, (id, current) -> current.withImage(null));
         if (useRedis) {
             try {
                 redisTemplate.delete(IMAGE_FILTER_KEY_PREFIX + sessionId);
@@ -85,14 +144,15 @@ public class  SessionFilterService {
             } catch (Exception e) {
                 log.error("[Redis] Failed to delete", e);
             }
+            publishInvalidation(sessionId);
         }
-        localCache.remove(IMAGE_FILTER_KEY_PREFIX + sessionId);
     }
 
     // ==================== 텍스트 필터 ====================
 
     public void saveTextFilterSettings(String sessionId, Set<TextLabels> enabledFilters, boolean originalViewEnabled) {
         TextFilterSettings settings = new TextFilterSettings(sessionId, enabledFilters, originalViewEnabled);
+        sessionSettings.compute(sessionId, (id, current) -> loaded(id, current).withText(settings));
 
         if (useRedis) {
             try {
@@ -101,39 +161,22 @@ public class  SessionFilterService {
                 log.info("[Redis] Saved text filter for session {}: filters={}, originalView={}",
                         sessionId, enabledFilters, originalViewEnabled);
             } catch (Exception e) {
-                log.error("[Redis] Failed to save text filter, using local cache", e);
-                localCache.put(TEXT_FILTER_KEY_PREFIX + sessionId, settings);
+                log.error("[Redis] Failed to save text filter, keeping session memory only", e);
             }
+            publishInvalidation(sessionId);
         } else {
-            localCache.put(TEXT_FILTER_KEY_PREFIX + sessionId, settings);
             log.info("[Local] Saved text filter for session {}: filters={}, originalView={}",
                     sessionId, enabledFilters, originalViewEnabled);
         }
     }
 
     public TextFilterSettings getTextFilterSettings(String sessionId) {
-        if (useRedis) {
-            try {
-                String key = TEXT_FILTER_KEY_PREFIX + sessionId;
-                Object value = redisTemplate.opsForValue().get(key);
-
-                if (value instanceof TextFilterSettings) {
-                    return (TextFilterSettings) value;
-                }
-            } catch (Exception e) {
-                log.error("[Redis] Failed to get text filter, using local", e);
-            }
-        }
-
-        Object localValue = localCache.get(TEXT_FILTER_KEY_PREFIX + sessionId);
-        if (localValue instanceof TextFilterSettings) {
-            return (TextFilterSettings) localValue;
-        }
-
-        return new TextFilterSettings(sessionId, Set.of(), false);
+        TextFilterSettings settings = settingsOf(sessionId).text();
+        return settings != null ? settings : new TextFilterSettings(sessionId, Set.of(), false);
     }
 
     public void deleteTextFilterSettings(String sessionId) {
+        sessionSettings.computeIfPresent(sessionId, (id, current) -> current.withText(null));
         if (useRedis) {
             try {
                 redisTemplate.delete(TEXT_FILTER_KEY_PREFIX + sessionId);
@@ -141,7 +184,67 @@ public class  SessionFilterService {
             } catch (Exception e) {
                 log.error("[Redis] Failed to delete text filter", e);
             }
+            publishInvalidation(sessionId);
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 메모리의 세션 설정 (connection-init 없이 들어온 세션이나 무효화된 세션은 한 번만 적재)
+     */
+    private SessionSettings settingsOf(String sessionId) {
+        SessionSettings settings = sessionSettings.get(sessionId);
+        return settings != null ? settings : sessionSettings.computeIfAbsent(sessionId, this::readFromStore);
+    }
+
+    private SessionSettings loaded(String sessionId, SessionSettings current) {
+        return current != null ? current : readFromStore(sessionId);
+    }
+
+    /**
+     * Redis에서 이미지/텍스트 설정을 한 번의 왕복으로 조회
+     */
+    private SessionSettings readFromStore(String sessionId) {
+        if (!useRedis) {
+            return SessionSettings.EMPTY;
+        }
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(
+                    List.of(IMAGE_FILTER_KEY_PREFIX + sessionId, TEXT_FILTER_KEY_PREFIX + sessionId));
+            if (values == null || values.size() < 2) {
+                return SessionSettings.EMPTY;
+            }
+            return new SessionSettings(
+                    values.get(0) instanceof ImageFilterSettings image ? image : null,
+                    values.get(1) instanceof TextFilterSettings text ? text : null);
+        } catch (Exception e) {
+            log.error("[Redis] Failed to load filters for session {}, using empty settings", sessionId, e);
+            return SessionSettings.EMPTY;
+        }
+    }
+
+    private void publishInvalidation(String sessionId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + sessionId);
+        } catch (Exception e) {
+            log.warn("[Redis] Failed to publish filter invalidation for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 한 세션의 이미지/텍스트 필터 설정 (null이면 설정 없음)
+     */
+    private record SessionSettings(ImageFilterSettings image, TextFilterSettings text) {
+
+        private static final SessionSettings EMPTY = new SessionSettings(null, null);
+
+        private SessionSettings withImage(ImageFilterSettings image) {
+            return new SessionSettings(image, text);
+        }
+
+        private SessionSettings withText(TextFilterSettings text) {
+            return new SessionSettings(image, text);
         }
-        localCache.remove(TEXT_FILTER_KEY_PREFIX + sessionId);
     }
-}
\ No newline at end of file
+}
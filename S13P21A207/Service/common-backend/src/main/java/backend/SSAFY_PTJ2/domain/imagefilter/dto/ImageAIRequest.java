@@ -1,5 +1,6 @@
 package backend.SSAFY_PTJ2.domain.imagefilter.dto;
 
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
@@ -48,7 +49,7 @@ public class ImageAIRequest {
                     " bytes. Maximum allowed: " + MAX_FILE_SIZE + " bytes");
         }
 
-        if (file.getImageData() == null || file.getImageData().length == 0) {
+        if (file.getPayload() == null || file.getPayload().isEmpty()) {
             throw new IllegalArgumentException("Image data cannot be null or empty");
         }
     }
@@ -69,10 +70,20 @@ public class ImageAIRequest {
         private String filename;
 
         @JsonIgnore  // 멀티파트로만 전송, JSON 바인딩 제외
-        private byte[] imageData;
+        private ImagePayload payload;
 
         private String mimeType;  // "image/jpeg", "image/png"
         private long size;   // 파일 크키(bytes)
+
+        public static class ImageFileBuilder {
+            /**
+             * 바이트 배열 전체를 페이로드로 사용
+             */
+            public ImageFileBuilder imageData(byte[] imageData) {
+                this.payload = imageData != null ? ImagePayload.of(imageData) : null;
+                return this;
+            }
+        }
     }
 
     /**
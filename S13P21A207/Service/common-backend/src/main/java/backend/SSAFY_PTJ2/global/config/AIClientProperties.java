@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Validated
 @Getter @Setter
 @ConfigurationProperties(prefix = "ai")
@@ -14,10 +16,12 @@ public class AIClientProperties {
     private TimeoutMs timeoutMs = new TimeoutMs();
     private Retry retry = new Retry();
     private Upload upload = new Upload();
+    private Resilience resilience = new Resilience();
 
     @Getter @Setter
     public static class Endpoint {
         private String baseUrl;
+        private String modelVersion = "v1.0"; // 모델 교체 시 올리면 분석 결과 캐시가 무효화됨
     }
 
     @Getter @Setter
@@ -29,8 +33,8 @@ public class AIClientProperties {
 
     @Getter @Setter
     public static class Retry {
-        private int maxAttempts = 3;
-        private long backoffMs = 200;
+        private int maxAttempts = 3;  // 재시도 상한 (실제 재시도 여부는 재시도 예산이 결정)
+        private long backoffMs = 200; // 첫 재시도 대기, 이후 두 배씩
         private double jitter = 0.3;
     }
 
@@ -39,4 +43,69 @@ public class AIClientProperties {
         private long maxBytes = 10 * 1024 * 1024;
 
     }
+
+    /**
+     * AI 서버 보호 설정 (엔드포인트마다 따로 적용, ResilientAICaller)
+     */
+    @Getter @Setter
+    public static class Resilience {
+        private Limiter limiter = new Limiter();
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+        private RetryBudget retryBudget = new RetryBudget();
+        private Hedge hedge = new Hedge();
+        private RequestLog log = new RequestLog();
+
+        /**
+         * 적응형 동시 요청 한도 (AIMD, 지연 기반)
+         */
+        @Getter @Setter
+        public static class Limiter {
+            private int initialLimit = 8;
+            private int minLimit = 1;
+            private int maxLimit = 32;
+            private double backoffRatio = 0.9;     // 지연 증가·실패 시 한도에 곱하는 값
+            private double latencyTolerance = 2.0; // 기준 지연의 몇 배부터 혼잡으로 볼지
+            private int rttWindow = 100;           // 기준 지연(최소값)을 다시 잡는 표본 수
+            private Duration acquireTimeout = Duration.ofSeconds(2); // 자리가 날 때까지 기다리는 시간
+        }
+
+        /**
+         * 서킷 브레이커 (최근 호출 실패율 기준)
+         */
+        @Getter @Setter
+        public static class CircuitBreaker {
+            private int windowSize = 20;
+            private int minimumCalls = 10;
+            private double failureRateThreshold = 0.5;
+            private Duration openDuration = Duration.ofSeconds(5);
+            private int halfOpenCalls = 3; // 반열림 상태에서 시험 삼아 보내는 요청 수
+        }
+
+        /**
+         * 재시도 예산 (요청 수에 비례해 쌓이는 토큰만큼만 재시도·헤지)
+         */
+        @Getter @Setter
+        public static class RetryBudget {
+            private double ratio = 0.2;              // 요청 1건당 쌓이는 토큰
+            private double minRetriesPerSecond = 1;  // 요청이 적을 때도 보장하는 재시도
+            private int maxTokens = 10;
+        }
+
+        /**
+         * 헤지 요청 (첫 요청이 늦으면 같은 요청을 한 번 더 보내 먼저 온 응답 사용)
+         */
+        @Getter @Setter
+        public static class Hedge {
+            private boolean enabled = false;
+            private Duration delay = Duration.ofMillis(500);
+        }
+
+        /**
+         * 요청 로그 (실패는 항상, 성공은 표본만 INFO로 기록)
+         */
+        @Getter @Setter
+        public static class RequestLog {
+            private double sampleRate = 0.01;
+        }
+    }
 }
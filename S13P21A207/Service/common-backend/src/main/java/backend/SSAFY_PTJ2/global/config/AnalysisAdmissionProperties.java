@@ -0,0 +1,36 @@
+package backend.SSAFY_PTJ2.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 분석 요청 수락(admission) 설정
+ *
+ * <pre>
+ * socketio:
+ *   admission:
+ *     worker-threads: 64
+ *     queue-capacity: 256
+ *     per-client-max-in-flight: 4
+ * </pre>
+ *
+ * 분석 요청은 netty 이벤트 루프가 아닌 전용 워커 풀에서 처리됩니다.
+ * 워커와 대기 큐가 모두 차거나 클라이언트별 동시 처리 한도를 넘으면 즉시 "busy" 응답을 보냅니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "socketio.admission")
+public class AnalysisAdmissionProperties {
+
+    /** 분석 워커 스레드 수 (AI 응답을 기다리는 동안 스레드를 점유하므로 CPU 코어 수보다 크게 설정) */
+    private int workerThreads = 64;
+
+    /** 워커가 모두 사용 중일 때 대기할 수 있는 최대 요청 수 (초과 시 SERVER_BUSY) */
+    private int queueCapacity = 256;
+
+    /** 클라이언트(소켓 세션) 하나가 동시에 처리 중일 수 있는 최대 요청 수 (초과 시 CLIENT_LIMIT_EXCEEDED) */
+    private int perClientMaxInFlight = 4;
+}
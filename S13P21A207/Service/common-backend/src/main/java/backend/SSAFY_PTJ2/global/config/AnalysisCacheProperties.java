@@ -0,0 +1,105 @@
+package backend.SSAFY_PTJ2.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 분석 결과 캐시 설정
+ *
+ * <pre>
+ * analysis:
+ *   cache:
+ *     enabled: true
+ *     key-prefix: analysis
+ *     near-maximum-size: 10000
+ *     near-ttl: 10m
+ *     redis-enabled: true
+ *     hateful-ttl: 24h
+ *     safe-ttl: 6h
+ *     perceptual:
+ *       enabled: true
+ *       max-entries: 200000
+ *       safe-distance: 4
+ *       hateful-distance: 8
+ *       category-distances:
+ *         SEXUAL: 6
+ * </pre>
+ *
+ * 캐시 키에는 모델 버전(ai.*.model-version)이 포함되므로 모델을 교체하면 이전 결과는 자연히 조회되지 않습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "analysis.cache")
+public class AnalysisCacheProperties {
+
+    /** 캐시 사용 여부 (false면 모든 항목을 AI로 분석) */
+    private boolean enabled = true;
+
+    /** Redis 키 접두사 */
+    private String keyPrefix = "analysis";
+
+    /** 노드 로컬(Caffeine) 캐시 최대 항목 수 */
+    private long nearMaximumSize = 10_000;
+
+    /** 노드 로컬 캐시 유지 시간 */
+    private Duration nearTtl = Duration.ofMinutes(10);
+
+    /** Redis 공유 캐시 사용 여부 (false면 노드 로컬 캐시만 사용) */
+    private boolean redisEnabled = true;
+
+    /** 혐오로 판정된 결과의 Redis TTL */
+    private Duration hatefulTtl = Duration.ofHours(24);
+
+    /** 안전(혐오 아님)으로 판정된 결과의 Redis TTL (네거티브 캐시) */
+    private Duration safeTtl = Duration.ofHours(6);
+
+    /** 이미지 지각 해시(유사 이미지) 캐시 설정 */
+    private Perceptual perceptual = new Perceptual();
+
+    /**
+     * 이미지 지각 해시 캐시 설정
+     *
+     * 바이트가 달라 컨텐츠 해시 캐시에 없는 이미지라도, 지각 해시(dHash)의 해밍 거리가 가까운 이전 결과가 있으면 재사용합니다.
+     * 허용 거리는 이전 결과의 판정에 따라 다르며, 카테고리가 여러 개면 가장 작은 거리를 사용합니다.
+     */
+    @Getter
+    @Setter
+    public static class Perceptual {
+
+        /** 유사 이미지 캐시 사용 여부 */
+        private boolean enabled = true;
+
+        /** 노드 메모리에 보관할 해시 수 (넘으면 오래된 해시부터 제거) */
+        private int maxEntries = 200_000;
+
+        /** 격자 밝기 차가 이보다 작은(단색에 가까운) 이미지는 해시하지 않음 (0~255) */
+        private int minContrast = 8;
+
+        /** 안전 판정 결과를 재사용할 최대 해밍 거리 (64비트 중) */
+        private int safeDistance = 4;
+
+        /** 혐오 판정 결과를 재사용할 기본 최대 해밍 거리 */
+        private int hatefulDistance = 8;
+
+        /** 카테고리별 최대 해밍 거리 (ImageLabels 이름 → 거리, 없으면 hateful-distance) */
+        private Map<String, Integer> categoryDistances = new HashMap<>();
+
+        /**
+         * 조회 반경 (모든 허용 거리 중 최대값)
+         */
+        public int maxDistance() {
+            int max = Math.max(safeDistance, hatefulDistance);
+            for (int distance : categoryDistances.values()) {
+                max = Math.max(max, distance);
+            }
+            return max;
+        }
+    }
+}
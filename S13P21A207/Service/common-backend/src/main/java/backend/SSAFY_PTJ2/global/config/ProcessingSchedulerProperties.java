@@ -0,0 +1,113 @@
+package backend.SSAFY_PTJ2.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 마이크로 배치 스케줄러 설정
+ *
+ * <pre>
+ * processing:
+ *   scheduler:
+ *     queue-capacity: 2000
+ *     request-timeout: 30s
+ *     image:
+ *       max-batch-size: 32
+ *       max-batch-bytes: 8388608
+ *       linger: 15ms
+ *       max-concurrent-batches: 1
+ *     text:
+ *       max-batch-size: 256
+ *       max-batch-bytes: 262144
+ *       linger: 10ms
+ *       max-concurrent-batches: 1
+ *     priority:
+ *       distance-penalty: 2s        # 뷰포트에서 1000px 떨어질 때마다
+ *       scroll-lookahead: 1s
+ *       small-element-area: 90000
+ *       small-element-penalty: 500ms
+ *       normal-penalty: 1s
+ *       max-penalty: 10s
+ * </pre>
+ *
+ * 배치는 항목 수(max-batch-size), 바이트(max-batch-bytes), 대기 시간(linger) 중 먼저 도달하는 조건에서 전송됩니다.
+ * 한 요청이 단독으로 한도를 넘으면 그 요청만 담아 전송합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "processing.scheduler")
+public class ProcessingSchedulerProperties {
+
+    /** AI 타입별 대기 큐 최대 요청 수 (초과 시 즉시 거절) */
+    private int queueCapacity = 2000;
+
+    /** 요청 하나가 큐 대기 + AI 분석을 기다리는 최대 시간 */
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /** 이미지 AI 컨테이너 배치 설정 */
+    private Batch image = new Batch(32, 8 * 1024 * 1024, Duration.ofMillis(15));
+
+    /** 텍스트 AI 컨테이너 배치 설정 */
+    private Batch text = new Batch(256, 256 * 1024, Duration.ofMillis(10));
+
+    /** 뷰포트 기반 우선순위 설정 */
+    private Priority priority = new Priority();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /** 배치당 최대 항목 수 (이미지 개수 / 텍스트 요소 개수) */
+        private int maxBatchSize;
+
+        /** 배치당 최대 페이로드 바이트 (이미지 바이너리 / UTF-8 텍스트) */
+        private long maxBatchBytes;
+
+        /** 첫 요청 이후 다른 요청을 기다리는 최대 시간 */
+        private Duration linger;
+
+        /** AI 컨테이너로 동시에 보낼 수 있는 배치 수 (1이면 컨테이너당 한 배치씩 처리) */
+        private int maxConcurrentBatches = 1;
+
+        public Batch() {
+        }
+
+        public Batch(int maxBatchSize, long maxBatchBytes, Duration linger) {
+            this.maxBatchSize = maxBatchSize;
+            this.maxBatchBytes = maxBatchBytes;
+            this.linger = linger;
+        }
+    }
+
+    /**
+     * 요청마다 "늦춰 줄 시간(페널티)"을 계산하고, 접수 시각 + 페널티가 빠른 요청부터 처리합니다.
+     * 페널티는 max-penalty를 넘지 않으므로 화면 밖 요청도 그만큼 기다리면 새로 들어온 요청보다 앞서게 됩니다. (기아 방지)
+     */
+    @Getter
+    @Setter
+    public static class Priority {
+
+        /** 뷰포트에서 1000px 떨어질 때마다 더하는 페널티 */
+        private Duration distancePenalty = Duration.ofSeconds(2);
+
+        /** 스크롤 속도로 요소 위치를 예측할 시간 (다가오는 요소는 거리가 그만큼 줄어든 것으로 계산) */
+        private Duration scrollLookahead = Duration.ofSeconds(1);
+
+        /** 이 면적(px²)보다 작은 요소는 작을수록 페널티 (썸네일·아이콘보다 큰 이미지 우선) */
+        private double smallElementArea = 300 * 300;
+
+        /** 면적이 0에 가까운 요소의 최대 크기 페널티 */
+        private Duration smallElementPenalty = Duration.ofMillis(500);
+
+        /** 뷰포트 정보가 없는 요청(NORMAL 텍스트, 위치를 모르는 이미지)의 페널티 */
+        private Duration normalPenalty = Duration.ofSeconds(1);
+
+        /** 페널티 상한 (새 요청이 오래된 요청을 앞지를 수 있는 최대 시간) */
+        private Duration maxPenalty = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,43 @@
+package backend.SSAFY_PTJ2.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 텍스트 사전 필터 설정
+ *
+ * <pre>
+ * analysis:
+ *   prefilter:
+ *     enabled: true
+ *     confidence-threshold: 0.9
+ *     max-local-length: 100
+ *     spaced-match-penalty: 0.5
+ *     max-boilerplate-length: 20
+ * </pre>
+ *
+ * 키워드 목록은 classpath:prefilter/{카테고리}.txt, UI 문구 목록은 classpath:prefilter/boilerplate.txt 입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "analysis.prefilter")
+public class TextPrefilterProperties {
+
+    /** 사전 필터 사용 여부 (false면 모든 텍스트를 AI로 분석) */
+    private boolean enabled = true;
+
+    /** 이 점수 이상인 키워드 적중만 AI 없이 혐오로 확정 (낮은 점수의 적중은 AI로 보냄) */
+    private double confidenceThreshold = 0.9;
+
+    /** 이 길이(원문 글자 수)보다 긴 텍스트는 키워드 밖에도 혐오 표현이 있을 수 있어 적중해도 AI로 보냄 */
+    private int maxLocalLength = 100;
+
+    /** 띄어 쓴 글자가 단어 경계와 어긋나게 이어져 적중했을 때 점수에 곱하는 값 ("시 발표" 같은 우연한 적중) */
+    private double spacedMatchPenalty = 0.5;
+
+    /** 이 길이 이하의 텍스트만 UI 문구 목록과 비교 */
+    private int maxBoilerplateLength = 20;
+}
@@ -1,11 +1,13 @@
 package backend.SSAFY_PTJ2.global.config;
 
+import backend.SSAFY_PTJ2.infrastructure.ai.resilience.ResilientAICaller;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,11 +16,11 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import reactor.netty.http.client.HttpClient;
-import reactor.core.publisher.Mono;
 
 /**
- * AI 서버 호출용 WebClient를 생성, 설정해서 빈으로 등록
+ * AI 서버 호출용 WebClient와 엔드포인트별 보호 계층(ResilientAICaller)을 생성, 설정해서 빈으로 등록
  */
+@Slf4j
 @Configuration
 @EnableConfigurationProperties(AIClientProperties.class)
 public class WebClientConfig {
@@ -33,21 +35,27 @@ public class WebClientConfig {
         return baseWebClient(props.getText().getBaseUrl(), props);
     }
 
+    @Bean
+    public ResilientAICaller imageAICaller(AIClientProperties props) {
+        return new ResilientAICaller("image", props);
+    }
+
+    @Bean
+    public ResilientAICaller textAICaller(AIClientProperties props) {
+        return new ResilientAICaller("text", props);
+    }
+
     private WebClient baseWebClient(String baseUrl, AIClientProperties props) {
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, props.getTimeoutMs().getConnect())
                 .responseTimeout(Duration.ofMillis(props.getTimeoutMs().getRead()));
 
-        // 강화된 로깅: 요청/응답
-        ExchangeFilterFunction enhancedLog = ExchangeFilterFunction.ofRequestProcessor(req -> {
-            long startTime = System.currentTimeMillis();
-            System.out.println("[AI-REQ] " + req.method() + " " + req.url() + " at " + startTime);
-            return Mono.just(req);
-        }).andThen(ExchangeFilterFunction.ofResponseProcessor(res -> {
-            long endTime = System.currentTimeMillis();
-            System.out.println("[AI-RES] " + res.statusCode() + " completed at " + endTime);
-            return Mono.just(res);
-        }));
+        // 요청/응답 로깅 (상태 코드와 응답 헤더까지의 시간, 시도별 결과·페이로드 크기는 ResilientAICaller가 기록)
+        ExchangeFilterFunction enhancedLog = (req, next) -> {
+            long startNanos = System.nanoTime();
+            return next.exchange(req).doOnNext(res -> log.debug("[AI-HTTP] method={} url={} status={} latencyMs={}",
+                    req.method(), req.url(), res.statusCode().value(), (System.nanoTime() - startNanos) / 1_000_000));
+        };
 
         return WebClient.builder()
                 .baseUrl(baseUrl)
@@ -26,6 +26,11 @@ public class AIException extends RuntimeException {
         public TransportException(String message, Throwable cause) { super(message, cause); }
     }
 
+    /** AI 서버 보호를 위해 보내지 않은 요청 (서킷 열림, 동시 요청 한도 초과) */
+    public static class OverloadException extends AIException {
+        public OverloadException(String message) { super(message); }
+    }
+
     /** 업로드한 이미지 자체가 잘못된 경우 */
     public static class InvalidImageException extends AIException {
         public InvalidImageException(String message) { super(message); }
@@ -23,6 +23,8 @@ public enum ErrorStatus {
     REQUEST_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "CL103", "요청한도를 초과했습니다."),
     TEXT_LENGTH_EXCEEDED(HttpStatus.BAD_REQUEST, "CL104", "텍스트길이가 제한을 초과했습니다."),
     TEXT_ARRAY_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "CL105", "처리 가능한 텍스트 요소 개수를 초과했습니다."),
+    IMAGE_SIZE_EXCEEDED(HttpStatus.PAYLOAD_TOO_LARGE, "CL106", "이미지 크기가 제한을 초과했습니다."),
+    UNSUPPORTED_IMAGE_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "CL107", "지원하지 않는 이미지 형식입니다."),
 
     /**
      * Server Errors
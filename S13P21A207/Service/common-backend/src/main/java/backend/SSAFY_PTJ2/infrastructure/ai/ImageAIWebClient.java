@@ -5,26 +5,30 @@ import backend.SSAFY_PTJ2.domain.imagefilter.converter.ImageAnalysisConverter;
 import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIRequest;
 import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIResponse;
 import backend.SSAFY_PTJ2.global.response.exception.AIException;
-import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
+import backend.SSAFY_PTJ2.infrastructure.ai.resilience.ResilientAICaller;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.*;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class ImageAIWebClient implements ImageAIClient {
 
+    private static final NettyDataBufferFactory NETTY_BUFFERS = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
     private final WebClient imageWebClient;   // WebClientConfig.imageWebClient() 빈
-    private final AIClientProperties props;
+    private final ResilientAICaller imageAICaller; // WebClientConfig.imageAICaller() 빈 (동시 요청 한도, 서킷, 재시도 예산)
     private final ImageAnalysisConverter converter;
 
     /**
@@ -33,7 +37,7 @@ public class ImageAIWebClient implements ImageAIClient {
      * 🔗 AI 컨테이너 엔드포인트: POST /predict/batch
      * 📝 요청 형태: Multipart Form Data (여러 이미지 파일)
      * 📡 통신 설정: application.yml의 ai.image.base-url (기본: http://localhost:8001)
-     * 🔄 재시도: 최대 3회, 200ms 간격, 30% 지터
+     * 🔄 재시도: 재시도 예산이 남아 있을 때만 최대 3회, 200ms부터 지수 백오프 (ResilientAICaller)
      */
     @Override
     public AnalysisResult analyze(ImageAIRequest request) {
@@ -42,34 +46,21 @@ public class ImageAIWebClient implements ImageAIClient {
 
         // 2️⃣ Multipart 요청 바디 구성 - AI 컨테이너가 요구하는 형식 (동적 key를 ID로 사용)
         MultipartBodyBuilder mb = new MultipartBodyBuilder();
-        request.getImageFiles().forEach(img -> {
-            // 바이트 배열을 ByteArrayResource로 감싸서 파일명과 MIME 타입 포함
-            ByteArrayResource bin = new ByteArrayResource(img.getImageData()) {
-                @Override public String getFilename() { return img.getFilename(); }
-            };
+        request.getImageFiles().forEach(img ->
+            // 원본 바이트 배열 위의 뷰를 Netty 버퍼로 감싸 그대로 전송 (중간 복사 없음)
+            // 재시도·헤지 요청마다 다시 구독되므로 구독마다 새 버퍼 뷰를 생성
             // 🔑 AI 컨테이너가 key 자체를 ID로 사용하므로 img.getId()를 key로 설정
-            mb.part(img.getId(), bin)
+            mb.asyncPart(img.getId(), Mono.fromSupplier(() -> wrap(img.getPayload())), DataBuffer.class)
                     .filename(img.getFilename())
-                    .contentType(MediaType.parseMediaType(img.getMimeType()));
-        });
-
-        // 3️⃣ 재시도 정책 설정 - 네트워크 오류나 5xx 에러 시 재시도
-        Retry retrySpec = Retry.fixedDelay(
-                        props.getRetry().getMaxAttempts(),  // 기본 3회
-                        Duration.ofMillis(props.getRetry().getBackoffMs()))  // 기본 200ms
-                .jitter(props.getRetry().getJitter())  // 기본 30% 지터로 재시도 분산
-                .filter(this::isRetriable)  // 재시도 가능한 예외만 필터링
-                .doBeforeRetry(rs -> {
-                    long attempt = rs.totalRetries() + 1;
-                    System.out.println("[IMG-RETRY] attempt=" + attempt + ", reason=" + rs.failure());
-                });
+                    .contentType(MediaType.parseMediaType(img.getMimeType())));
 
         try {
-            // 4️⃣ 실제 AI 컨테이너로 HTTP 요청 전송
-            ImageAIResponse response = imageWebClient.post()
+            // 3️⃣ 실제 AI 컨테이너로 HTTP 요청 전송 - 재시도·동시 요청 한도·서킷은 ResilientAICaller가 처리
+            var multipartBody = mb.build();
+            ImageAIResponse response = imageAICaller.execute("/predict/batch", () -> payloadBytes(request), () -> imageWebClient.post()
                     .uri("/predict/batch")  // 🎯 AI 컨테이너의 배치 분석 엔드포인트
                     .contentType(MediaType.MULTIPART_FORM_DATA)  // Form-data 전송
-                    .body(BodyInserters.fromMultipartData(mb.build()))
+                    .body(BodyInserters.fromMultipartData(multipartBody))
                     .retrieve()
                     // 에러 응답 처리 - 4xx는 클라이언트 오류, 5xx는 서버 오류
                     .onStatus(s -> s.is4xxClientError(), res ->
@@ -85,12 +76,10 @@ public class ImageAIWebClient implements ImageAIClient {
                                             "AI 5xx: " + res.statusCode() + " " + b)))
                     )
                     .bodyToMono(ImageAIResponse.class)  // 🔄 JSON 응답을 ImageAIResponse로 변환
-                    .retryWhen(retrySpec)  // 재시도 정책 적용
                     .onErrorMap(WebClientRequestException.class,
-                            ex -> new AIException.TransportException("AI transport error", ex))
-                    .block();  // 동기적으로 결과 대기
+                            ex -> new AIException.TransportException("AI transport error", ex)));
 
-            // 5️⃣ 핵심: AI 응답을 표준 AnalysisResult로 변환하여 반환
+            // 4️⃣ 핵심: AI 응답을 표준 AnalysisResult로 변환하여 반환
             return convertToAnalysisResult(response, request);
         } catch (WebClientResponseException e) {
             // HTTP 응답 오류 처리
@@ -115,10 +104,17 @@ public class ImageAIWebClient implements ImageAIClient {
         }
     }
 
-    private boolean isRetriable(Throwable t) {
-        return t instanceof AIException.ServerException
-                || t instanceof AIException.TransportException
-                || t instanceof WebClientRequestException;
+    /**
+     * 페이로드를 복사 없이 DataBuffer로 감쌈 (Reactor Netty가 네이티브 버퍼로 바로 전송)
+     */
+    private DataBuffer wrap(ImagePayload payload) {
+        return NETTY_BUFFERS.wrap(Unpooled.wrappedBuffer(payload.asByteBuffer()));
+    }
+
+    private long payloadBytes(ImageAIRequest request) {
+        return request.getImageFiles().stream()
+                .mapToLong(img -> img.getPayload().length())
+                .sum();
     }
 
     private AnalysisResult convertToAnalysisResult(ImageAIResponse response, ImageAIRequest request) {
@@ -4,7 +4,7 @@ import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
 import backend.SSAFY_PTJ2.global.response.exception.AIException;
 import backend.SSAFY_PTJ2.domain.textfilter.dto.TextAIRequest;
 import backend.SSAFY_PTJ2.domain.textfilter.dto.TextAIResponse;
-import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.resilience.ResilientAICaller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -13,10 +13,9 @@ import org.springframework.web.reactive.function.client.WebClientRequestExceptio
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import lombok.extern.slf4j.Slf4j;
-import reactor.util.retry.Retry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
@@ -25,7 +24,7 @@ import java.util.List;
 public class TextAIWebClient implements TextAIClient {
 
     private final WebClient textWebClient;   // WebClientConfig.textWebClient 빈 사용
-    private final AIClientProperties props;
+    private final ResilientAICaller textAICaller;  // WebClientConfig.textAICaller 빈 (동시 요청 한도, 서킷, 재시도 예산)
 
     /**
      * 텍스트 AI 컨테이너와 페이지 필터링 통신
@@ -33,22 +32,14 @@ public class TextAIWebClient implements TextAIClient {
      * 🔗 AI 컨테이너 엔드포인트: POST /filter_page
      * 📝 요청 형태: JSON (텍스트 요소들의 배열)
      * 📡 통신 설정: application.yml의 ai.text.base-url (기본: http://localhost:8001)
-     * 🔄 재시도: 최대 3회, 200ms 간격, 30% 지터
+     * 🔄 재시도: 재시도 예산이 남아 있을 때만 최대 3회, 200ms부터 지수 백오프 (ResilientAICaller)
      */
     @Override
     public AnalysisResult analyze(TextAIRequest request) {
-        // 1️⃣ 재시도 정책 설정 - 네트워크 오류나 5xx 에러 시 재시도
-        Retry retrySpec = Retry.fixedDelay(
-                        props.getRetry().getMaxAttempts(),  // 기본 3회
-                        Duration.ofMillis(props.getRetry().getBackoffMs()))  // 기본 200ms
-                .jitter(props.getRetry().getJitter())  // 기본 30% 지터로 재시도 분산
-                .filter(t -> t instanceof AIException.ServerException || t instanceof WebClientRequestException)
-                .doBeforeRetry(rs -> System.out.println("[TEXT-RETRY] attempt=" + (rs.totalRetries()+1)));
-
         try {
 
-            // 2️⃣ 실제 AI 컨테이너로 HTTP 요청 전송
-            TextAIResponse response = textWebClient.post()
+            // 1️⃣ 실제 AI 컨테이너로 HTTP 요청 전송 - 재시도·동시 요청 한도·서킷은 ResilientAICaller가 처리
+            TextAIResponse response = textAICaller.execute("/filter_page", () -> payloadBytes(request), () -> textWebClient.post()
                     .uri("/filter_page")  // 🎯 AI 컨테이너의 텍스트 필터링 엔드포인트
                     .contentType(MediaType.APPLICATION_JSON)  // JSON 형태로 전송
                     .bodyValue(request)  // 🔑 TextAIRequest 객체를 JSON으로 직렬화하여 전송
@@ -61,12 +52,10 @@ public class TextAIWebClient implements TextAIClient {
                             r.bodyToMono(String.class).defaultIfEmpty("")
                                     .map(b -> new AIException.ServerException("TEXT 5xx: " + b)))
                     .bodyToMono(TextAIResponse.class)  // 🔄 JSON 응답을 TextAIResponse로 변환
-                    .retryWhen(retrySpec)  // 재시도 정책 적용
                     .onErrorMap(WebClientRequestException.class,
-                            ex -> new AIException.TransportException("TEXT transport error", ex))
-                    .block();  // 동기적으로 결과 대기
+                            ex -> new AIException.TransportException("TEXT transport error", ex)));
 
-            // 3️⃣ 핵심: AI 응답을 표준 AnalysisResult로 변환하여 반환
+            // 2️⃣ 핵심: AI 응답을 표준 AnalysisResult로 변환하여 반환
             return convertToAnalysisResult(response, request);
         } catch (WebClientResponseException e) {
             // HTTP 응답 오류 처리
@@ -92,6 +81,20 @@ public class TextAIWebClient implements TextAIClient {
         }
     }
 
+    /**
+     * 요청 텍스트의 UTF-8 바이트 수 (로그를 남길 때만 계산)
+     */
+    private long payloadBytes(TextAIRequest request) {
+        if (request.getTextElements() == null) {
+            return 0;
+        }
+        return request.getTextElements().stream()
+                .filter(element -> element.getTexts() != null)
+                .flatMap(element -> element.getTexts().stream())
+                .mapToLong(text -> text.getText() != null ? text.getText().getBytes(StandardCharsets.UTF_8).length : 0)
+                .sum();
+    }
+
     private AnalysisResult convertToAnalysisResult(TextAIResponse response, TextAIRequest request) {
 
         // 디버그용, 이것을 그대로 ai컨테이너에게 postman으로 보내주어서 디버깅 가능
@@ -189,7 +192,7 @@ public class TextAIWebClient implements TextAIClient {
 
             log.debug(sb.toString());
         } catch (Exception e) {
-            System.out.println("JSON 변환 실패: " + e.getMessage());
+            log.debug("JSON 변환 실패: {}", e.getMessage());
         }
 
     }
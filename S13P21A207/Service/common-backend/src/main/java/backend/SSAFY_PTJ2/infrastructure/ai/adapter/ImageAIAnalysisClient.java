@@ -114,7 +114,7 @@ public class ImageAIAnalysisClient implements AIAnalysisClient {
         return new ClientInfo(
             "IMAGE_AI_CLIENT",
             properties.getImage().getBaseUrl(),
-            "v1.0", // AI 모델 버전 (실제로는 AI 컨테이너에서 가져와야 함)
+            properties.getImage().getModelVersion(), // AI 모델 버전 (ai.*.model-version)
             properties.getTimeoutMs().getRead(),
             isHealthy()
         );
@@ -144,7 +144,7 @@ public class ImageAIAnalysisClient implements AIAnalysisClient {
                 return ImageAIRequest.ImageFile.builder()
                     .id(getImageId(imageData, processingRequest.getRequestId(), index))
                     .filename(generateFilename(imageData, index))
-                    .imageData(imageData.getData())
+                    .payload(imageData.getPayload())
                     .mimeType(imageData.getMimeType())
                     .size(imageData.getSize())
                     .build();
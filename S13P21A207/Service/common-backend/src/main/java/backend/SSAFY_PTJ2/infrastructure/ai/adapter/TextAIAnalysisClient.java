@@ -125,7 +125,7 @@ public class TextAIAnalysisClient implements AIAnalysisClient {
         return new ClientInfo(
             "TEXT_AI_CLIENT",
             properties.getText().getBaseUrl(),
-            "v1.0", // AI 모델 버전 (실제로는 AI 컨테이너에서 가져와야 함)
+            properties.getText().getModelVersion(), // AI 모델 버전 (ai.*.model-version)
             properties.getTimeoutMs().getRead(),
             isHealthy()
         );
@@ -182,8 +182,9 @@ public class TextAIAnalysisClient implements AIAnalysisClient {
     /**
      * 사용자 설정 기반 필터 카테고리 조회
      * 사용자 설정이 있으면 해당 설정 사용, 없으면 기본 설정 사용
+     * AI 결과가 카테고리에 따라 달라지므로 분석 결과 캐시 키에도 사용됩니다.
      */
-    private Map<String, Boolean> getUserFilterCategories(UserSettings userSettings) {
+    public Map<String, Boolean> getUserFilterCategories(UserSettings userSettings) {
         if (userSettings == null || userSettings.getTextFilterSettings() == null) {
             return getDefaultFilterCategories();
         }
@@ -0,0 +1,189 @@
+package backend.SSAFY_PTJ2.infrastructure.ai.resilience;
+
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 기반 적응형 동시 요청 한도 (AIMD)
+ *
+ * AI 서버로 동시에 보내는 요청 수를 한도 안으로 묶고, 응답 지연을 보고 한도를 조절합니다.
+ * - 평활 지연(EWMA)이 기준 지연(최근 표본의 최소값) × latency-tolerance 이내이고 한도를 절반 이상 쓰고 있으면 한도 +1
+ * - 평활 지연이 그보다 길거나 요청이 실패(5xx, 타임아웃)하면 한도 × backoff-ratio
+ * 표본 하나의 지연 튐에는 반응하지 않도록 평활 지연으로 판단합니다.
+ * 서버가 느려지면 보내는 요청이 줄어 대기열이 더 쌓이지 않고, 회복되면 다시 늘어납니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double RTT_SMOOTHING = 0.2;
+
+    private final AIClientProperties.Resilience.Limiter properties;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+
+    // 기준 지연: 직전 구간과 현재 구간의 최소 지연 중 작은 값
+    private long previousWindowMinRtt = Long.MAX_VALUE;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowSamples;
+    private double smoothedRtt;
+
+    public AdaptiveConcurrencyLimiter(AIClientProperties.Resilience.Limiter properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(AIClientProperties.Resilience.Limiter properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * 자리가 날 때까지 최대 timeout 동안 대기 (시간 안에 못 얻으면 null)
+     */
+    public Permit acquire(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return newPermit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기다리지 않고 자리 확보 (재시도·헤지용, 없으면 null)
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            return inFlight < (int) limit ? newPermit() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit newPermit() {
+        inFlight++;
+        return new Permit(nanoClock.getAsLong(), inFlight);
+    }
+
+    private void release(int inFlightAtStart, long rttNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> onSample(inFlightAtStart, rttNanos);
+                case DROPPED -> decrease();
+                case IGNORED -> {
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSample(int inFlightAtStart, long rttNanos) {
+        windowMinRtt = Math.min(windowMinRtt, rttNanos);
+        if (++windowSamples >= properties.getRttWindow()) {
+            previousWindowMinRtt = windowMinRtt;
+            windowMinRtt = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        smoothedRtt = smoothedRtt == 0 ? rttNanos : smoothedRtt + (rttNanos - smoothedRtt) * RTT_SMOOTHING;
+
+        long baseline = Math.min(previousWindowMinRtt, windowMinRtt);
+        if (smoothedRtt > baseline * properties.getLatencyTolerance()) {
+            decrease();
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(properties.getMaxLimit(), limit + 1);
+        }
+    }
+
+    private void decrease() {
+        limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+    }
+
+    private enum Outcome {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    /**
+     * 확보한 자리 (한 번만 반납됨)
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 응답 - 지연을 표본으로 반영
+         */
+        public void success() {
+            release(Outcome.SUCCESS);
+        }
+
+        /**
+         * 과부하 신호(5xx, 타임아웃, 연결 실패) - 한도를 줄임
+         */
+        public void dropped() {
+            release(Outcome.DROPPED);
+        }
+
+        /**
+         * 지연과 무관한 종료(4xx, 취소) - 자리만 반납
+         */
+        public void ignore() {
+            release(Outcome.IGNORED);
+        }
+
+        public long elapsedNanos() {
+            return nanoClock.getAsLong() - startNanos;
+        }
+
+        private void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(inFlightAtStart, elapsedNanos(), outcome);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package backend.SSAFY_PTJ2.infrastructure.ai.resilience;
+
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 엔드포인트별 서킷 브레이커 (최근 호출 실패율 기준)
+ *
+ * - CLOSED: 모두 통과, 최근 window-size건 중 실패율이 임계값 이상이면 OPEN
+ * - OPEN: open-duration 동안 요청을 보내지 않고 바로 실패 (장애 서버에 요청이 쌓이지 않도록)
+ * - HALF_OPEN: half-open-calls건만 시험 삼아 보내 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final AIClientProperties.Resilience.CircuitBreaker properties;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (링 버퍼, true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, AIClientProperties.Resilience.CircuitBreaker properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, AIClientProperties.Resilience.CircuitBreaker properties, LongSupplier nanoClock) {
+        this.name = name;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[properties.getWindowSize()];
+    }
+
+    /**
+     * 요청을 보내도 되는지 (허용하면 결과를 onSuccess/onFailure/onIgnored로 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openUntilNanos < 0) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= properties.getHalfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= properties.getMinimumCalls()
+                && (double) failures / recordedCalls >= properties.getFailureRateThreshold()) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 서버 상태와 무관하게 끝난 요청 (4xx, 취소) - 반열림 시험 자리만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("[CircuitBreaker] {} {} → {}", name, state, next);
+        state = next;
+        switch (next) {
+            case OPEN -> openUntilNanos = nanoClock.getAsLong() + properties.getOpenDuration().toNanos();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                recordedCalls = 0;
+                failures = 0;
+                windowIndex = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package backend.SSAFY_PTJ2.infrastructure.ai.resilience;
+
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.response.exception.AIException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AI 엔드포인트 호출 보호 계층
+ *
+ * 한 AI 서버(이미지, 텍스트)마다 하나씩 두고 모든 분석 요청을 이 객체를 거쳐 보냅니다.
+ * 1. 서킷 브레이커가 열려 있으면 보내지 않고 바로 실패
+ * 2. 적응형 동시 요청 한도 안에서만 전송 (자리가 날 때까지 acquire-timeout 동안 대기)
+ * 3. 5xx·네트워크 오류는 재시도 예산이 남아 있을 때만 지수 백오프로 재시도 (최대 retry.max-attempts)
+ * 4. 헤지를 켜면 hedge.delay 안에 응답이 없을 때 같은 요청을 한 번 더 보내 먼저 온 응답 사용
+ * 5. 시도마다 결과·지연·페이로드 크기를 로그로 남김 (실패는 WARN, 성공은 sample-rate 비율만 INFO)
+ */
+@Slf4j
+public class ResilientAICaller {
+
+    private static final int MAX_BACKOFF_EXPONENT = 5;
+
+    private final String endpoint;
+    private final AIClientProperties.Retry retryProperties;
+    private final AIClientProperties.Resilience properties;
+
+    @Getter
+    private final AdaptiveConcurrencyLimiter limiter;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final RetryBudget retryBudget;
+
+    public ResilientAICaller(String endpoint, AIClientProperties aiClientProperties) {
+        this.endpoint = endpoint;
+        this.retryProperties = aiClientProperties.getRetry();
+        this.properties = aiClientProperties.getResilience();
+        this.limiter = new AdaptiveConcurrencyLimiter(properties.getLimiter());
+        this.circuitBreaker = new CircuitBreaker(endpoint, properties.getCircuitBreaker());
+        this.retryBudget = new RetryBudget(properties.getRetryBudget());
+    }
+
+    /**
+     * 분석 요청 실행 (호출 스레드에서 응답까지 대기)
+     *
+     * @param operation    로그에 남길 요청 이름 (예: /predict/batch)
+     * @param payloadBytes 요청 페이로드 크기 (로그를 남길 때만 계산)
+     * @param call         시도마다 새로 구독할 요청
+     */
+    public <T> T execute(String operation, LongSupplier payloadBytes, Supplier<Mono<T>> call) {
+        retryBudget.onRequest();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(operation, attempt, payloadBytes, call);
+            } catch (RuntimeException e) {
+                if (!isServerFault(e) || attempt > retryProperties.getMaxAttempts() || !retryBudget.tryWithdraw()) {
+                    throw e;
+                }
+                log.debug("[AI-RETRY] endpoint={} op={} attempt={} reason={}", endpoint, operation, attempt + 1, e.toString());
+                if (!backoff(attempt)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <T> T attempt(String operation, int attempt, LongSupplier payloadBytes, Supplier<Mono<T>> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new AIException.OverloadException(endpoint + " AI 서킷 열림 - 요청을 보내지 않음");
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = limiter.acquire(properties.getLimiter().getAcquireTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permit = null;
+        }
+        if (permit == null) {
+            circuitBreaker.onIgnored();
+            throw new AIException.OverloadException(endpoint + " AI 동시 요청 한도 초과 - limit: " + limiter.getLimit());
+        }
+
+        Mono<T> primary = tracked(operation, attempt, false, payloadBytes, call, permit);
+        if (!properties.getHedge().isEnabled()) {
+            return primary.block();
+        }
+        return Mono.firstWithSignal(primary, hedge(operation, attempt, payloadBytes, call)).block();
+    }
+
+    /**
+     * hedge.delay 뒤에도 첫 요청이 진행 중이면 보내는 두 번째 요청
+     * 서킷이 닫혀 있고, 동시 요청 자리와 재시도 예산이 있을 때만 보냄. 헤지 실패는 무시 (첫 요청 결과를 기다림)
+     */
+    private <T> Mono<T> hedge(String operation, int attempt, LongSupplier payloadBytes, Supplier<Mono<T>> call) {
+        return Mono.delay(properties.getHedge().getDelay())
+            .flatMap(tick -> {
+                if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+                    return Mono.<T>never();
+                }
+                AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+                if (permit == null) {
+                    return Mono.<T>never();
+                }
+                if (!retryBudget.tryWithdraw()) {
+                    permit.ignore();
+                    return Mono.<T>never();
+                }
+                return tracked(operation, attempt, true, payloadBytes, call, permit)
+                    .onErrorResume(e -> Mono.never());
+            });
+    }
+
+    /**
+     * 요청 한 번의 결과를 동시 요청 한도·서킷 브레이커에 반영하고 로그를 남김 (헤지는 서킷에 반영하지 않음)
+     */
+    private <T> Mono<T> tracked(String operation, int attempt, boolean hedge, LongSupplier payloadBytes,
+                                Supplier<Mono<T>> call, AdaptiveConcurrencyLimiter.Permit permit) {
+        AtomicBoolean finished = new AtomicBoolean();
+        return Mono.defer(call)
+            .doOnSuccess(value -> {
+                if (finished.compareAndSet(false, true)) {
+                    long latency = permit.elapsedNanos();
+                    permit.success();
+                    if (!hedge) {
+                        circuitBreaker.onSuccess();
+                    }
+                    logAttempt(operation, attempt, hedge, "ok", latency, payloadBytes, null);
+                }
+            })
+            .doOnError(error -> {
+                if (finished.compareAndSet(false, true)) {
+                    long latency = permit.elapsedNanos();
+                    boolean serverFault = isServerFault(error);
+                    if (serverFault) {
+                        permit.dropped();
+                    } else {
+                        permit.ignore();
+                    }
+                    if (!hedge) {
+                        if (serverFault) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onIgnored();
+                        }
+                    }
+                    logAttempt(operation, attempt, hedge, serverFault ? "server-error" : "client-error",
+                        latency, payloadBytes, error);
+                }
+            })
+            .doOnCancel(() -> {
+                if (finished.compareAndSet(false, true)) {
+                    long latency = permit.elapsedNanos();
+                    permit.ignore();
+                    if (!hedge) {
+                        circuitBreaker.onIgnored();
+                    }
+                    logAttempt(operation, attempt, hedge, "cancelled", latency, payloadBytes, null);
+                }
+            });
+    }
+
+    private void logAttempt(String operation, int attempt, boolean hedge, String outcome, long latencyNanos,
+                            LongSupplier payloadBytes, Throwable error) {
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.getLog().getSampleRate();
+        if (error == null && !sampled && !log.isDebugEnabled()) {
+            return;
+        }
+
+        String format = "[AI-CALL] endpoint={} op={} attempt={} hedge={} outcome={} latencyMs={} payloadBytes={} "
+            + "limit={} inFlight={} circuit={}";
+        Object[] arguments = {endpoint, operation, attempt, hedge, outcome, latencyNanos / 1_000_000,
+            payloadBytes.getAsLong(), limiter.getLimit(), limiter.getInFlight(), circuitBreaker.getState()};
+        if (error != null) {
+            log.warn(format + " error={}", append(arguments, error.toString()));
+        } else if (sampled) {
+            log.info(format, arguments);
+        } else {
+            log.debug(format, arguments);
+        }
+    }
+
+    /**
+     * 지수 백오프 + 지터 대기 (인터럽트되면 false)
+     */
+    private boolean backoff(int attempt) {
+        long base = retryProperties.getBackoffMs() << Math.min(attempt - 1, MAX_BACKOFF_EXPONENT);
+        double jitter = retryProperties.getJitter();
+        long delay = Math.max(0, Math.round(base * (1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1))));
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 서버 과부하·장애 신호인지 (재시도, 한도 감소, 서킷 실패로 집계)
+     */
+    static boolean isServerFault(Throwable t) {
+        if (t instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        return t instanceof AIException.ServerException
+            || t instanceof AIException.TransportException
+            || t instanceof WebClientRequestException
+            || t instanceof TimeoutException;
+    }
+
+    private static Object[] append(Object[] arguments, Object last) {
+        Object[] extended = Arrays.copyOf(arguments, arguments.length + 1);
+        extended[arguments.length] = last;
+        return extended;
+    }
+}
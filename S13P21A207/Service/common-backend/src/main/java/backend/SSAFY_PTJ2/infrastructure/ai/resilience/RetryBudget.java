@@ -0,0 +1,66 @@
+package backend.SSAFY_PTJ2.infrastructure.ai.resilience;
+
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ *
+ * 고정 횟수 재시도는 서버가 느려질수록 요청 수를 몇 배로 늘립니다.
+ * 새 요청마다 ratio만큼, 시간이 지나면 초당 min-retries-per-second만큼 토큰이 쌓이고
+ * 재시도·헤지 요청은 토큰 1개를 써야 보낼 수 있으므로 추가 요청이 전체의 ratio 안으로 묶입니다.
+ */
+public class RetryBudget {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final AIClientProperties.Resilience.RetryBudget properties;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RetryBudget(AIClientProperties.Resilience.RetryBudget properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RetryBudget(AIClientProperties.Resilience.RetryBudget properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.tokens = properties.getMaxTokens();
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 새 요청 (재시도 아님) 시작
+     */
+    public synchronized void onRequest() {
+        refill();
+        tokens = Math.min(properties.getMaxTokens(), tokens + properties.getRatio());
+    }
+
+    /**
+     * 재시도·헤지에 쓸 토큰 1개 인출 (없으면 false)
+     */
+    public synchronized boolean tryWithdraw() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / NANOS_PER_SECOND;
+        lastRefillNanos = now;
+        tokens = Math.min(properties.getMaxTokens(), tokens + elapsedSeconds * properties.getMinRetriesPerSecond());
+    }
+}
@@ -0,0 +1,240 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분석 결과 캐시 값의 바이너리 직렬화
+ *
+ * JSON은 필드 이름을 항목마다 반복하고 파싱 비용이 커서, Redis에는 필드 순서가 고정된 바이너리로 저장합니다.
+ * <pre>
+ * [버전 1바이트][플래그 1바이트][confidenceScore 8바이트][originalLength varint]
+ * [detectedCategories][hatefulRegions][hatefulRanges]   (플래그에 표시된 목록만)
+ * </pre>
+ * - 정수는 zigzag varint, 문자열은 길이(varint) + UTF-8, null 문자열은 길이 자리에 0
+ * - 목록의 null과 빈 목록을 구분해 JSON과 같은 값으로 복원
+ * - 필드를 바꿀 때는 VERSION을 올림 (이전 버전 값은 캐시 미스로 처리되어 다시 분석됨)
+ */
+public final class CachedAnalysisItemCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int HATEFUL = 1;
+    private static final int HAS_CATEGORIES = 1 << 1;
+    private static final int HAS_REGIONS = 1 << 2;
+    private static final int HAS_RANGES = 1 << 3;
+
+    private CachedAnalysisItemCodec() {
+    }
+
+    public static byte[] encode(CachedAnalysisItem item) {
+        int flags = (item.isHateful() ? HATEFUL : 0)
+            | (item.getDetectedCategories() != null ? HAS_CATEGORIES : 0)
+            | (item.getHatefulRegions() != null ? HAS_REGIONS : 0)
+            | (item.getHatefulRanges() != null ? HAS_RANGES : 0);
+
+        Writer out = new Writer();
+        out.writeByte(VERSION);
+        out.writeByte(flags);
+        out.writeDouble(item.getConfidenceScore());
+        out.writeInt(item.getOriginalLength());
+
+        if (item.getDetectedCategories() != null) {
+            out.writeStrings(item.getDetectedCategories());
+        }
+        if (item.getHatefulRegions() != null) {
+            out.writeInt(item.getHatefulRegions().size());
+            for (AnalysisResult.ImageRegion region : item.getHatefulRegions()) {
+                out.writeInt(region.getX());
+                out.writeInt(region.getY());
+                out.writeInt(region.getWidth());
+                out.writeInt(region.getHeight());
+                out.writeString(region.getCategory());
+                out.writeDouble(region.getScore());
+            }
+        }
+        if (item.getHatefulRanges() != null) {
+            out.writeInt(item.getHatefulRanges().size());
+            for (AnalysisResult.TextRange range : item.getHatefulRanges()) {
+                out.writeInt(range.getStartIndex());
+                out.writeInt(range.getEndIndex());
+                out.writeNullableStrings(range.getCategory());
+                out.writeDouble(range.getScore());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 버전이 다르거나 잘린 값
+     */
+    public static CachedAnalysisItem decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 캐시 값 버전: " + version);
+            }
+            int flags = in.get();
+
+            CachedAnalysisItem.CachedAnalysisItemBuilder builder = CachedAnalysisItem.builder()
+                .hateful((flags & HATEFUL) != 0)
+                .confidenceScore(in.getDouble())
+                .originalLength(readInt(in));
+
+            if ((flags & HAS_CATEGORIES) != 0) {
+                builder.detectedCategories(readStrings(in, readCount(in)));
+            }
+            if ((flags & HAS_REGIONS) != 0) {
+                int count = readCount(in);
+                List<AnalysisResult.ImageRegion> regions = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    regions.add(AnalysisResult.ImageRegion.builder()
+                        .x(readInt(in))
+                        .y(readInt(in))
+                        .width(readInt(in))
+                        .height(readInt(in))
+                        .category(readString(in))
+                        .score(in.getDouble())
+                        .build());
+                }
+                builder.hatefulRegions(regions);
+            }
+            if ((flags & HAS_RANGES) != 0) {
+                int count = readCount(in);
+                List<AnalysisResult.TextRange> ranges = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    ranges.add(AnalysisResult.TextRange.builder()
+                        .startIndex(readInt(in))
+                        .endIndex(readInt(in))
+                        .category(readNullableStrings(in))
+                        .score(in.getDouble())
+                        .build());
+                }
+                builder.hatefulRanges(ranges);
+            }
+
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("캐시 값 뒤에 남은 바이트: " + in.remaining());
+            }
+            return builder.build();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("잘린 캐시 값", e);
+        }
+    }
+
+    private static int readInt(ByteBuffer in) {
+        long raw = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            raw |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                int zigzag = (int) raw;
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = readInt(in);
+        // 항목 하나가 최소 1바이트이므로 남은 바이트보다 많으면 손상된 값
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("잘못된 목록 길이: " + count);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readInt(in);
+        if (length == 0) {
+            return null;
+        }
+        if (length < 0 || length - 1 > in.remaining()) {
+            throw new IllegalArgumentException("잘못된 문자열 길이: " + length);
+        }
+        String value = new String(in.array(), in.position(), length - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + length - 1);
+        return value;
+    }
+
+    private static List<String> readStrings(ByteBuffer in, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static List<String> readNullableStrings(ByteBuffer in) {
+        int count = readInt(in);
+        if (count == 0) {
+            return null;
+        }
+        if (count < 0 || count - 1 > in.remaining()) {
+            throw new IllegalArgumentException("잘못된 목록 길이: " + count);
+        }
+        return readStrings(in, count - 1);
+    }
+
+    /**
+     * 크기를 미리 알 수 없으므로 ByteArrayOutputStream 위에 varint·double 쓰기만 얹음
+     */
+    private static final class Writer extends ByteArrayOutputStream {
+
+        Writer() {
+            super(64);
+        }
+
+        void writeByte(int value) {
+            write(value);
+        }
+
+        void writeDouble(double value) {
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (bits >>> shift));
+            }
+        }
+
+        void writeInt(int value) {
+            int zigzag = (value << 1) ^ (value >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                write((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            write(zigzag);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeInt(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length + 1);
+            write(utf8, 0, utf8.length);
+        }
+
+        void writeStrings(List<String> values) {
+            writeInt(values.size());
+            values.forEach(this::writeString);
+        }
+
+        void writeNullableStrings(List<String> values) {
+            if (values == null) {
+                writeInt(0);
+                return;
+            }
+            writeInt(values.size() + 1);
+            values.forEach(this::writeString);
+        }
+    }
+}
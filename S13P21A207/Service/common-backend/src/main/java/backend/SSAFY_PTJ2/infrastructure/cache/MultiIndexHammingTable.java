@@ -0,0 +1,199 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 64비트 해시의 해밍 거리 검색용 다중 인덱스 해시 테이블 (Multi-Index Hashing)
+ *
+ * 해시를 16비트 블록 4개로 나누어 블록마다 버킷을 둡니다. 두 해시의 거리가 r 이하이면
+ * 비둘기집 원리에 따라 적어도 한 블록의 거리는 r/4 이하이므로, 블록마다 r/4 이내의 값만 조회해
+ * 후보를 모은 뒤 전체 거리를 확인합니다. 전체를 훑지 않으므로 항목 수가 늘어도 조회가 빠릅니다.
+ * - 용량이 차면 가장 오래된 항목부터 덮어씀 (링 버퍼)
+ * - 같은 해시를 다시 넣으면 값만 바꿈
+ *
+ * @param <V> 해시에 연결할 값
+ */
+public class MultiIndexHammingTable<V> {
+
+    private static final int BLOCKS = 4;
+    private static final int BLOCK_BITS = 16;
+    private static final int BLOCK_VALUES = 1 << BLOCK_BITS;
+    private static final int[] EMPTY_BUCKET = new int[0];
+    private static final long[] EMPTY_HASHES = new long[0];
+
+    private final int capacity;
+    private final long[] hashes;
+    private final Object[] values;
+    private final int[][][] buckets = new int[BLOCKS][BLOCK_VALUES][];
+    // 버킷 항목의 해시 사본 (후보 거리 계산 시 hashes[slot]을 무작위로 읽지 않도록 버킷과 나란히 둠)
+    private final long[][][] bucketHashes = new long[BLOCKS][BLOCK_VALUES][];
+    private final int[][] bucketSizes = new int[BLOCKS][BLOCK_VALUES];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+    private int nextSlot;
+
+    /**
+     * 검색 결과 콜백 (항목마다 한 번)
+     */
+    @FunctionalInterface
+    public interface Visitor<V> {
+        void visit(long hash, int distance, V value);
+    }
+
+    public MultiIndexHammingTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 0보다 커야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.hashes = new long[capacity];
+        this.values = new Object[capacity];
+        for (int block = 0; block < BLOCKS; block++) {
+            Arrays.fill(buckets[block], EMPTY_BUCKET);
+            Arrays.fill(bucketHashes[block], EMPTY_HASHES);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 추가 (같은 해시가 있으면 값만 교체)
+     */
+    public void put(long hash, V value) {
+        lock.writeLock().lock();
+        try {
+            int existing = findExact(hash);
+            if (existing >= 0) {
+                values[existing] = value;
+                return;
+            }
+
+            int slot = nextSlot;
+            nextSlot = (nextSlot + 1) % capacity;
+            if (size == capacity) {
+                for (int block = 0; block < BLOCKS; block++) {
+                    removeFromBucket(block, blockOf(hashes[slot], block), slot);
+                }
+            } else {
+                size++;
+            }
+            hashes[slot] = hash;
+            values[slot] = value;
+            for (int block = 0; block < BLOCKS; block++) {
+                addToBucket(block, blockOf(hash, block), slot, hash);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해밍 거리 maxDistance 이내의 모든 항목 방문
+     */
+    @SuppressWarnings("unchecked")
+    public void search(long hash, int maxDistance, Visitor<V> visitor) {
+        int blockRadius = Math.min(BLOCK_BITS, maxDistance / BLOCKS);
+        lock.readLock().lock();
+        try {
+            for (int block = 0; block < BLOCKS; block++) {
+                int queryBlock = blockOf(hash, block);
+                int currentBlock = block;
+                forEachWithin(queryBlock, blockRadius, 0, 0, probe -> {
+                    long[] candidates = bucketHashes[currentBlock][probe];
+                    int bucketSize = bucketSizes[currentBlock][probe];
+                    for (int i = 0; i < bucketSize; i++) {
+                        long candidate = candidates[i];
+                        int distance = Long.bitCount(candidate ^ hash);
+                        if (distance <= maxDistance && !foundInEarlierBlock(candidate, hash, currentBlock, blockRadius)) {
+                            visitor.visit(candidate, distance, (V) values[buckets[currentBlock][probe][i]]);
+                        }
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 앞 블록에서 이미 방문한 후보인지 (그 블록의 거리도 반경 이내)
+     */
+    private static boolean foundInEarlierBlock(long candidate, long hash, int block, int blockRadius) {
+        for (int earlier = 0; earlier < block; earlier++) {
+            if (Integer.bitCount(blockOf(candidate, earlier) ^ blockOf(hash, earlier)) <= blockRadius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * value에서 radius 비트 이내로 다른 모든 16비트 값 나열 (fromBit 이상의 비트만 뒤집음)
+     */
+    private static void forEachWithin(int value, int radius, int fromBit, int flipped, IntConsumer consumer) {
+        if (flipped == 0 && fromBit == 0) {
+            consumer.accept(value);
+        }
+        if (flipped == radius) {
+            return;
+        }
+        for (int bit = fromBit; bit < BLOCK_BITS; bit++) {
+            int probe = value ^ (1 << bit);
+            consumer.accept(probe);
+            forEachWithin(probe, radius, bit + 1, flipped + 1, consumer);
+        }
+    }
+
+    private int findExact(long hash) {
+        int blockValue = blockOf(hash, 0);
+        long[] hashesInBucket = bucketHashes[0][blockValue];
+        for (int i = 0; i < bucketSizes[0][blockValue]; i++) {
+            if (hashesInBucket[i] == hash) {
+                return buckets[0][blockValue][i];
+            }
+        }
+        return -1;
+    }
+
+    private void addToBucket(int block, int blockValue, int slot, long hash) {
+        int[] bucket = buckets[block][blockValue];
+        int bucketSize = bucketSizes[block][blockValue];
+        if (bucketSize == bucket.length) {
+            int grown = Math.max(4, bucket.length * 2);
+            bucket = Arrays.copyOf(bucket, grown);
+            buckets[block][blockValue] = bucket;
+            bucketHashes[block][blockValue] = Arrays.copyOf(bucketHashes[block][blockValue], grown);
+        }
+        bucket[bucketSize] = slot;
+        bucketHashes[block][blockValue][bucketSize] = hash;
+        bucketSizes[block][blockValue] = bucketSize + 1;
+    }
+
+    private void removeFromBucket(int block, int blockValue, int slot) {
+        int[] bucket = buckets[block][blockValue];
+        long[] hashesInBucket = bucketHashes[block][blockValue];
+        int bucketSize = bucketSizes[block][blockValue];
+        for (int i = 0; i < bucketSize; i++) {
+            if (bucket[i] == slot) {
+                bucket[i] = bucket[bucketSize - 1];
+                hashesInBucket[i] = hashesInBucket[bucketSize - 1];
+                bucketSizes[block][blockValue] = bucketSize - 1;
+                return;
+            }
+        }
+    }
+
+    private static int blockOf(long hash, int block) {
+        return (int) (hash >>> (block * BLOCK_BITS)) & (BLOCK_VALUES - 1);
+    }
+}
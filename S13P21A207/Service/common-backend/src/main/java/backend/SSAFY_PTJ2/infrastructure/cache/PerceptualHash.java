@@ -0,0 +1,141 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 이미지 지각 해시 (dHash, 64비트)
+ *
+ * 이미지를 9x8 회색조 격자로 줄인 뒤 각 행에서 이웃한 칸의 밝기 증감을 비트로 기록합니다.
+ * 크기 변경·재압축·약한 색 보정에는 몇 비트만 바뀌므로 해밍 거리로 같은 이미지를 찾을 수 있습니다.
+ * - 디코딩은 javax.imageio (JPEG, PNG, GIF, BMP), 읽을 수 없는 형식(WebP 등)은 해시하지 않음
+ * - 큰 이미지는 디코딩 단계에서 건너뛰며 읽어(subsampling) 비용을 줄임
+ * - 단색에 가까운 이미지는 서로 다른 이미지도 같은 해시가 되므로 해시하지 않음
+ */
+public final class PerceptualHash {
+
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+
+    // 디코딩 후 긴 변이 이 정도 남도록 건너뛰며 읽음 (격자 한 칸에 충분한 화소가 들어가는 크기)
+    private static final int DECODE_TARGET = 256;
+    private static final int MIN_SIDE = 16;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * 이미지 dHash
+     *
+     * @param minContrast 격자 칸 밝기(0~255)의 최대-최소 차가 이 값보다 작으면 해시하지 않음
+     * @return 64비트 해시, 해시할 수 없으면 null
+     */
+    public static Long dHash(ImagePayload payload, int minContrast) {
+        BufferedImage image = decode(payload);
+        if (image == null || image.getWidth() < GRID_WIDTH || image.getHeight() < GRID_HEIGHT) {
+            return null;
+        }
+        return dHash(image, minContrast);
+    }
+
+    /**
+     * 디코딩된 이미지의 dHash
+     */
+    public static Long dHash(BufferedImage image, int minContrast) {
+        double[] grid = grayscaleGrid(image);
+
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double value : grid) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        if (max - min < minContrast) {
+            return null;
+        }
+
+        long hash = 0;
+        for (int y = 0; y < GRID_HEIGHT; y++) {
+            for (int x = 0; x < GRID_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (grid[y * GRID_WIDTH + x] > grid[y * GRID_WIDTH + x + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리 (다른 비트 수)
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * 격자 칸마다 포함된 화소의 평균 밝기 (상자 평균이라 축소 방식과 무관하게 안정적)
+     */
+    private static double[] grayscaleGrid(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        double[] sums = new double[GRID_WIDTH * GRID_HEIGHT];
+        int[] counts = new int[GRID_WIDTH * GRID_HEIGHT];
+        for (int y = 0; y < height; y++) {
+            int cellY = y * GRID_HEIGHT / height;
+            for (int x = 0; x < width; x++) {
+                int rgb = pixels[y * width + x];
+                int alpha = rgb >>> 24;
+                // 투명 영역은 흰 배경 위에 그린 것으로 봄
+                double luma = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                luma = (luma * alpha + 255.0 * (255 - alpha)) / 255.0;
+                int cell = cellY * GRID_WIDTH + x * GRID_WIDTH / width;
+                sums[cell] += luma;
+                counts[cell]++;
+            }
+        }
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] = counts[i] > 0 ? sums[i] / counts[i] : 0;
+        }
+        return sums;
+    }
+
+    private static BufferedImage decode(ImagePayload payload) {
+        try (InputStream in = payload.asInputStream(); ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            if (imageInput == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longSide / DECODE_TARGET);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                BufferedImage image = reader.read(0, param);
+                // 건너뛰며 읽은 크기가 아닌 원본 크기로 너무 작은 이미지 판단
+                return Math.min(reader.getWidth(0), reader.getHeight(0)) < MIN_SIDE ? null : image;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
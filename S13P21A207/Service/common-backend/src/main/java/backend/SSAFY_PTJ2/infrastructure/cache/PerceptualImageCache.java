@@ -0,0 +1,114 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유사 이미지 분석 결과 캐시 (지각 해시 기반, 노드 로컬)
+ *
+ * 같은 광고 이미지·아바타·밈이 크기나 인코딩만 바뀌어 들어오면 컨텐츠 해시(SHA-256) 캐시는 놓칩니다.
+ * AI로 분석한 이미지의 dHash와 결과를 다중 인덱스 해밍 테이블에 넣어 두고,
+ * 컨텐츠 해시 캐시에 없는 이미지는 허용 거리 안의 가장 가까운 이전 결과를 재사용합니다.
+ * - 허용 거리: 안전 판정은 safe-distance, 혐오 판정은 카테고리별 거리(없으면 hateful-distance)
+ * - 같은 거리면 혐오 판정을 우선 (놓치는 것보다 한 번 더 가리는 쪽이 안전)
+ */
+@Slf4j
+@Service
+public class PerceptualImageCache {
+
+    private final AnalysisCacheProperties.Perceptual properties;
+    private final MultiIndexHammingTable<CachedAnalysisItem> table;
+
+    // 유사 캐시 통계를 위한 카운터
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder unhashable = new LongAdder();
+
+    public PerceptualImageCache(AnalysisCacheProperties cacheProperties) {
+        this.properties = cacheProperties.getPerceptual();
+        this.table = new MultiIndexHammingTable<>(properties.getMaxEntries());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 이미지 지각 해시 (디코딩할 수 없거나 단색에 가까우면 null)
+     */
+    public Long hash(ImagePayload payload) {
+        Long hash = PerceptualHash.dHash(payload, properties.getMinContrast());
+        if (hash == null) {
+            unhashable.increment();
+        }
+        return hash;
+    }
+
+    /**
+     * 허용 거리 안의 가장 가까운 이전 결과 (없으면 null)
+     */
+    public CachedAnalysisItem findSimilar(long hash) {
+        Match[] best = new Match[1];
+        table.search(hash, properties.maxDistance(), (candidate, distance, item) -> {
+            if (distance > allowedDistance(item)) {
+                return;
+            }
+            Match current = best[0];
+            if (current == null || distance < current.distance()
+                || (distance == current.distance() && item.isHateful() && !current.item().isHateful())) {
+                best[0] = new Match(distance, item);
+            }
+        });
+
+        if (best[0] == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        log.debug("[PerceptualCache] 유사 이미지 히트 - 거리: {}, 혐오: {}", best[0].distance(), best[0].item().isHateful());
+        return best[0].item();
+    }
+
+    /**
+     * AI 분석 결과 저장
+     */
+    public void put(long hash, CachedAnalysisItem item) {
+        table.put(hash, item);
+    }
+
+    public PerceptualCacheStatistics getStatistics() {
+        return new PerceptualCacheStatistics(hits.sum(), misses.sum(), unhashable.sum(), table.size());
+    }
+
+    /**
+     * 이전 결과를 재사용할 수 있는 최대 거리 (카테고리가 여러 개면 가장 엄격한 값)
+     */
+    int allowedDistance(CachedAnalysisItem item) {
+        if (item.isSafe()) {
+            return properties.getSafeDistance();
+        }
+        List<String> categories = item.getDetectedCategories();
+        if (categories == null || categories.isEmpty()) {
+            return properties.getHatefulDistance();
+        }
+        return categories.stream()
+            .mapToInt(category -> properties.getCategoryDistances().getOrDefault(category, properties.getHatefulDistance()))
+            .min()
+            .orElse(properties.getHatefulDistance());
+    }
+
+    private record Match(int distance, CachedAnalysisItem item) {
+    }
+
+    /**
+     * 유사 이미지 캐시 통계
+     */
+    public record PerceptualCacheStatistics(long hits, long misses, long unhashable, int size) {
+    }
+}
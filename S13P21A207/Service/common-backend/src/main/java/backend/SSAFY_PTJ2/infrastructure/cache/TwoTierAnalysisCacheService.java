@@ -0,0 +1,313 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+import backend.SSAFY_PTJ2.domain.common.service.AnalysisCacheService;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2계층 AI 분석 결과 캐시
+ *
+ * 1계층: 노드 로컬 Caffeine 캐시 (네트워크 왕복 없음)
+ * 2계층: Redis 공유 캐시 (노드 간 공유, 파이프라인으로 배치당 1회 왕복)
+ *
+ * Redis 장애 시에는 캐시 미스로 처리하고 분석을 계속합니다.
+ * - 값은 CachedAnalysisItemCodec 바이너리로 저장 (JSON 변환 없음)
+ * - TTL은 판정별 계층(혐오 / 안전)로 나눔
+ * - 공유 통계는 KEYS/SCAN 없이 카운터(INCRBY)와 판정별 시간 버킷 HyperLogLog(PFADD)로 증분 갱신하며,
+ *   갱신 명령은 조회·저장 파이프라인에 함께 실어 보내 별도 왕복을 만들지 않음
+ */
+@Slf4j
+@Service
+public class TwoTierAnalysisCacheService implements AnalysisCacheService {
+
+    // 판정별 저장 키 HyperLogLog를 나누는 시간 단위 (TTL이 지난 버킷은 만료되어 항목 수에서 빠짐)
+    private static final Duration STATS_BUCKET = Duration.ofHours(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AnalysisCacheProperties properties;
+    private final Cache<String, CachedAnalysisItem> nearCache;
+
+    // 캐시 통계를 위한 카운터
+    private final LongAdder nearHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder safeHits = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    // 아직 Redis 공유 카운터에 반영하지 않은 히트/미스 (다음 파이프라인에 실어 보냄)
+    private final AtomicLong pendingHits = new AtomicLong();
+    private final AtomicLong pendingMisses = new AtomicLong();
+
+    public TwoTierAnalysisCacheService(StringRedisTemplate redisTemplate, AnalysisCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(properties.getNearMaximumSize())
+            .expireAfterWrite(properties.getNearTtl())
+            .build();
+    }
+
+    @Override
+    public Map<String, CachedAnalysisItem> getAll(Collection<String> cacheKeys) {
+        List<String> keys = cacheKeys.stream().filter(Objects::nonNull).distinct().toList();
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        // 1. 노드 로컬 캐시
+        Map<String, CachedAnalysisItem> found = new HashMap<>(nearCache.getAllPresent(keys));
+        nearHits.add(found.size());
+
+        // 2. 남은 키만 Redis에서 한 번에 조회 후 로컬 캐시로 승격
+        if (found.size() < keys.size() && properties.isRedisEnabled()) {
+            List<String> remaining = keys.stream().filter(key -> !found.containsKey(key)).toList();
+            Map<String, CachedAnalysisItem> remote = multiGet(remaining);
+            remoteHits.add(remote.size());
+            nearCache.putAll(remote);
+            found.putAll(remote);
+        }
+
+        int missed = keys.size() - found.size();
+        misses.add(missed);
+        safeHits.add(found.values().stream().filter(CachedAnalysisItem::isSafe).count());
+        if (properties.isRedisEnabled()) {
+            pendingHits.addAndGet(found.size());
+            pendingMisses.addAndGet(missed);
+        }
+
+        log.debug("[AnalysisCache] 조회 - 요청: {}, 히트: {}, 미스: {}", keys.size(), found.size(), missed);
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<String, CachedAnalysisItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        nearCache.putAll(items);
+
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+
+        Map<Verdict, List<byte[]>> keysByVerdict = new EnumMap<>(Verdict.class);
+        List<byte[][]> entries = new ArrayList<>(items.size());
+        List<Verdict> verdicts = new ArrayList<>(items.size());
+        items.forEach((key, item) -> {
+            Verdict verdict = Verdict.of(item);
+            byte[] rawKey = raw(key);
+            entries.add(new byte[][]{rawKey, CachedAnalysisItemCodec.encode(item)});
+            verdicts.add(verdict);
+            keysByVerdict.computeIfAbsent(verdict, ignored -> new ArrayList<>()).add(rawKey);
+        });
+
+        long hits = pendingHits.getAndSet(0);
+        long missed = pendingMisses.getAndSet(0);
+        long bucket = currentBucket();
+        try {
+            // 항목마다 TTL이 다르므로 MSET 대신 SET EX를 파이프라인으로 묶음
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < entries.size(); i++) {
+                    connection.stringCommands().set(entries.get(i)[0], entries.get(i)[1],
+                        Expiration.from(verdicts.get(i).ttl(properties)), RedisStringCommands.SetOption.upsert());
+                }
+                keysByVerdict.forEach((verdict, rawKeys) -> {
+                    byte[] statsKey = raw(entriesKey(verdict, bucket));
+                    connection.hyperLogLogCommands().pfAdd(statsKey, rawKeys.toArray(byte[][]::new));
+                    connection.keyCommands().expire(statsKey, verdict.ttl(properties).plus(STATS_BUCKET).toSeconds());
+                });
+                incrementCounters(connection, hits, missed);
+                return null;
+            }, RedisSerializer.byteArray());
+            log.debug("[AnalysisCache] 저장 - {}건", entries.size());
+        } catch (Exception e) {
+            // 캐시 실패는 치명적이지 않으므로 예외를 던지지 않음
+            restorePending(hits, missed);
+            remoteErrors.increment();
+            log.warn("[AnalysisCache] Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public AnalysisCacheStatistics getStatistics() {
+        return new AnalysisCacheStatistics(
+            nearCache.estimatedSize(),
+            nearHits.sum(),
+            remoteHits.sum(),
+            misses.sum(),
+            safeHits.sum(),
+            remoteErrors.sum()
+        );
+    }
+
+    @Override
+    public SharedCacheStatistics getSharedStatistics() {
+        if (!properties.isRedisEnabled()) {
+            long hits = nearHits.sum() + remoteHits.sum();
+            return new SharedCacheStatistics(nearCache.estimatedSize(), 0L, hits, misses.sum());
+        }
+
+        long hits = pendingHits.getAndSet(0);
+        long missed = pendingMisses.getAndSet(0);
+        long bucket = currentBucket();
+        try {
+            // INCRBY는 더한 뒤의 값을 돌려주므로 반영할 몫이 0이어도 INCRBY로 현재 값을 읽음
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().incrBy(raw(hitsKey()), hits);
+                connection.stringCommands().incrBy(raw(missesKey()), missed);
+                connection.hyperLogLogCommands().pfCount(entriesKeys(Verdict.SAFE, bucket));
+                connection.hyperLogLogCommands().pfCount(entriesKeys(Verdict.HATEFUL, bucket));
+                return null;
+            }, RedisSerializer.byteArray());
+
+            long safeEntries = asLong(results.get(2));
+            return new SharedCacheStatistics(
+                safeEntries + asLong(results.get(3)),
+                safeEntries,
+                asLong(results.get(0)),
+                asLong(results.get(1))
+            );
+        } catch (Exception e) {
+            restorePending(hits, missed);
+            remoteErrors.increment();
+            log.warn("[AnalysisCache] 공유 통계 조회 실패: {}", e.getMessage());
+            return new SharedCacheStatistics(0L, 0L, 0L, 0L);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CachedAnalysisItem> multiGet(List<String> keys) {
+        long hits = pendingHits.getAndSet(0);
+        long missed = pendingMisses.getAndSet(0);
+        List<byte[]> values;
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().mGet(keys.stream().map(TwoTierAnalysisCacheService::raw).toArray(byte[][]::new));
+                incrementCounters(connection, hits, missed);
+                return null;
+            }, RedisSerializer.byteArray());
+            values = results.isEmpty() ? null : (List<byte[]>) results.get(0);
+        } catch (Exception e) {
+            restorePending(hits, missed);
+            remoteErrors.increment();
+            log.warn("[AnalysisCache] Redis 조회 실패, 캐시 미스로 처리: {}", e.getMessage());
+            return Map.of();
+        }
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<String, CachedAnalysisItem> result = new HashMap<>();
+        for (int i = 0; i < keys.size() && i < values.size(); i++) {
+            byte[] value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                result.put(keys.get(i), CachedAnalysisItemCodec.decode(value));
+            } catch (IllegalArgumentException e) {
+                log.warn("[AnalysisCache] 역직렬화 실패 - 키: {}, error: {}", keys.get(i), e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private void incrementCounters(RedisConnection connection, long hits, long missed) {
+        if (hits > 0) {
+            connection.stringCommands().incrBy(raw(hitsKey()), hits);
+        }
+        if (missed > 0) {
+            connection.stringCommands().incrBy(raw(missesKey()), missed);
+        }
+    }
+
+    private void restorePending(long hits, long missed) {
+        pendingHits.addAndGet(hits);
+        pendingMisses.addAndGet(missed);
+    }
+
+    private String hitsKey() {
+        return properties.getKeyPrefix() + ":stats:hits";
+    }
+
+    private String missesKey() {
+        return properties.getKeyPrefix() + ":stats:misses";
+    }
+
+    private String entriesKey(Verdict verdict, long bucket) {
+        return properties.getKeyPrefix() + ":stats:entries:" + verdict.label + ":" + bucket;
+    }
+
+    /**
+     * TTL 안에 저장된 항목이 들어 있을 수 있는 버킷 키 (현재 버킷부터 TTL만큼 이전까지)
+     */
+    private byte[][] entriesKeys(Verdict verdict, long bucket) {
+        long span = ceilDiv(verdict.ttl(properties).toMillis(), STATS_BUCKET.toMillis());
+        byte[][] keys = new byte[(int) span + 1][];
+        for (int i = 0; i <= span; i++) {
+            keys[i] = raw(entriesKey(verdict, bucket - i));
+        }
+        return keys;
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / STATS_BUCKET.toMillis();
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * TTL·통계 계층을 나누는 판정 종류
+     */
+    private enum Verdict {
+        SAFE("safe"),
+        HATEFUL("hateful");
+
+        private final String label;
+
+        Verdict(String label) {
+            this.label = label;
+        }
+
+        static Verdict of(CachedAnalysisItem item) {
+            return item.isSafe() ? SAFE : HATEFUL;
+        }
+
+        Duration ttl(AnalysisCacheProperties properties) {
+            return this == SAFE ? properties.getSafeTtl() : properties.getHatefulTtl();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package backend.SSAFY_PTJ2.infrastructure.prefilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 다중 키워드 매처
+ *
+ * 키워드 전체로 트라이와 실패 링크를 한 번 만들어 두고, 텍스트를 한 번만 훑어 모든 키워드 적중을 찾습니다.
+ * 키워드 수와 무관하게 텍스트 길이에 비례하는 시간이 걸립니다.
+ * - 노드별 전이는 정렬된 글자 배열에서 이진 탐색 (루트만 전체 글자 표로 바로 조회)
+ * - 노드별 출력에는 실패 링크를 따라 도달하는 짧은 키워드까지 미리 합쳐 둠
+ *
+ * 만든 뒤에는 읽기 전용이므로 여러 스레드가 함께 사용해도 됩니다.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final char[][] keys;
+    private final int[][] children;
+    private final int[] failure;
+    private final int[][] outputs;
+    private final int[] rootChildren = new int[Character.MAX_VALUE + 1];
+    private final int[] patternLengths;
+
+    /**
+     * 적중 콜백
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * @param patternIndex 키워드 인덱스 (생성 시 목록 순서)
+         * @param start        적중 시작 위치
+         * @param end          적중 끝 위치 (배타)
+         */
+        void onMatch(int patternIndex, int start, int end);
+    }
+
+    public AhoCorasickMatcher(List<String> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminals = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(new ArrayList<>());
+
+        patternLengths = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 키워드는 사용할 수 없습니다 - index: " + p);
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer child = trie.get(node).get(pattern.charAt(i));
+                if (child == null) {
+                    child = trie.size();
+                    trie.get(node).put(pattern.charAt(i), child);
+                    trie.add(new TreeMap<>());
+                    terminals.add(new ArrayList<>());
+                }
+                node = child;
+            }
+            terminals.get(node).add(p);
+            patternLengths[p] = pattern.length();
+        }
+
+        int nodeCount = trie.size();
+        keys = new char[nodeCount][];
+        children = new int[nodeCount][];
+        failure = new int[nodeCount];
+        outputs = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            keys[node] = new char[edges.size()];
+            children[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[node][i] = edge.getKey();
+                children[node][i] = edge.getValue();
+                i++;
+            }
+        }
+        for (int i = 0; i < keys[0].length; i++) {
+            rootChildren[keys[0][i]] = children[0][i];
+        }
+
+        // 너비 우선으로 실패 링크 계산 (부모의 실패 링크가 먼저 정해져 있어야 함)
+        outputs[0] = NO_OUTPUT;
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : children[0]) {
+            failure[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            outputs[node] = mergeOutputs(terminals.get(node), outputs[failure[node]]);
+            for (int i = 0; i < keys[node].length; i++) {
+                int child = children[node][i];
+                failure[child] = node == 0 ? 0 : transition(failure[node], keys[node][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 키워드 수
+     */
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    /**
+     * text[0, length)에서 모든 키워드 적중을 찾아 handler로 전달 (겹치는 적중 포함)
+     */
+    public void match(char[] text, int length, MatchHandler handler) {
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            node = transition(node, text[i]);
+            int[] found = outputs[node];
+            for (int patternIndex : found) {
+                handler.onMatch(patternIndex, i + 1 - patternLengths[patternIndex], i + 1);
+            }
+        }
+    }
+
+    public void match(String text, MatchHandler handler) {
+        match(text.toCharArray(), text.length(), handler);
+    }
+
+    private int transition(int node, char c) {
+        while (node != 0) {
+            int index = Arrays.binarySearch(keys[node], c);
+            if (index >= 0) {
+                return children[node][index];
+            }
+            node = failure[node];
+        }
+        return rootChildren[c];
+    }
+
+    private static int[] mergeOutputs(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(own.stream().mapToInt(Integer::intValue).toArray(), own.size() + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+}
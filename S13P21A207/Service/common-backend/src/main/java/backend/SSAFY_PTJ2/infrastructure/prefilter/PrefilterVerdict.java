@@ -0,0 +1,53 @@
+package backend.SSAFY_PTJ2.infrastructure.prefilter;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 텍스트 한 건의 사전 필터 판정
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PrefilterVerdict {
+
+    private static final PrefilterVerdict SAFE = new PrefilterVerdict(Decision.SAFE, List.of());
+
+    public enum Decision {
+        /** 글자가 없거나 UI 문구라 분석할 필요 없음 */
+        SAFE,
+        /** 확신도 높은 키워드 적중 - AI 없이 혐오 범위 확정 */
+        BLOCKED,
+        /** 판단 불가 - AI로 분석 */
+        AMBIGUOUS
+    }
+
+    private final Decision decision;
+
+    /**
+     * 키워드 적중 범위 (원문 인덱스, 끝 배타, category는 AI 카테고리 코드)
+     */
+    private final List<AnalysisResult.TextRange> ranges;
+
+    /**
+     * AI 없이 결과가 확정되었는지 여부
+     */
+    public boolean isResolved() {
+        return decision != Decision.AMBIGUOUS;
+    }
+
+    static PrefilterVerdict safe() {
+        return SAFE;
+    }
+
+    static PrefilterVerdict blocked(List<AnalysisResult.TextRange> ranges) {
+        return new PrefilterVerdict(Decision.BLOCKED, ranges);
+    }
+
+    static PrefilterVerdict ambiguous(List<AnalysisResult.TextRange> ranges) {
+        return new PrefilterVerdict(Decision.AMBIGUOUS, ranges);
+    }
+}
@@ -0,0 +1,293 @@
+package backend.SSAFY_PTJ2.infrastructure.prefilter;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 키워드 매칭용 텍스트 정규화
+ *
+ * 띄어쓰기·특수문자 끼워 넣기·글자 바꾸기 같은 우회 표기를 키워드와 같은 형태로 맞춥니다.
+ * - 한글 음절은 호환 자모(ㄱ, ㅏ ...)로 분해하고, 따로 친 자모(ㅅㅣ발)와 조합형 자모도 같은 호환 자모로 맞춤
+ * - 발음이 같은 모음(ㅔ/ㅐ, ㅖ/ㅒ, ㅚ/ㅙ/ㅞ)은 하나로 합침
+ * - 그 밖의 문자는 NFKC(전각 → 반각 등) 후 소문자로 변환
+ * - 라틴 문자 옆의 숫자·기호는 닮은 글자로 바꿈 (f4ck, $ex), 그 밖의 숫자·기호·공백은 구분자로 보고 버림
+ * - 폭 없는 문자(ZWSP, 한글 채움 문자, 결합 부호)는 구분자로도 보지 않고 버림
+ *
+ * 정규화된 글자마다 원문 위치를 기록해 두어 매칭 결과를 원문 인덱스 범위로 되돌립니다.
+ */
+public final class TextNormalizer {
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 초성/중성/종성 인덱스 → 호환 자모
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * 원문 정규화
+     */
+    public static Normalized normalize(String text) {
+        Normalized out = new Normalized(text.length());
+        int index = 0;
+        while (index < text.length()) {
+            int codePoint = text.codePointAt(index);
+            int next = index + Character.charCount(codePoint);
+            out.beginSource(index, next);
+            appendCodePoint(out, codePoint, text, index, next, false);
+            out.endSource();
+            index = next;
+        }
+        return out;
+    }
+
+    /**
+     * 키워드 정규화 (구분자는 버리고 글자만 이어 붙임)
+     */
+    public static String normalizeKeyword(String keyword) {
+        Normalized normalized = normalize(keyword);
+        return new String(normalized.units, 0, normalized.length);
+    }
+
+    private static void appendCodePoint(Normalized out, int codePoint, String text, int start, int end, boolean nfkcApplied) {
+        if (codePoint >= HANGUL_BASE && codePoint <= HANGUL_LAST) {
+            int syllable = codePoint - HANGUL_BASE;
+            int jongseong = syllable % JONGSEONG_COUNT;
+            out.unit(CHOSEONG[syllable / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            out.unit(foldVowel(JUNGSEONG[syllable / JONGSEONG_COUNT % JUNGSEONG_COUNT]));
+            if (jongseong > 0) {
+                out.unit(JONGSEONG[jongseong]);
+            }
+        } else if (codePoint >= 0x3131 && codePoint <= 0x318E && codePoint != 0x3164) {
+            out.unit(foldVowel((char) codePoint));
+        } else if (codePoint >= 0x1100 && codePoint <= 0x11FF) {
+            appendConjoiningJamo(out, codePoint);
+        } else if (codePoint < 0x80) {
+            appendAscii(out, (char) codePoint, text, start, end);
+        } else if (isIgnorable(codePoint)) {
+            // 폭 없는 문자는 글자 사이에 끼워도 구분자로 보지 않음
+        } else if (!nfkcApplied) {
+            String compatible = Normalizer.normalize(text.substring(start, end), Normalizer.Form.NFKC);
+            compatible.codePoints().forEach(normalized -> appendCodePoint(out, normalized, text, start, end, true));
+        } else if (Character.isLetter(codePoint) && Character.isBmpCodePoint(codePoint)) {
+            out.unit((char) Character.toLowerCase(codePoint));
+        } else {
+            out.gap();
+        }
+    }
+
+    /**
+     * 조합형 자모 → 호환 자모 (초성 ᄀ, 종성 ᆨ 모두 ㄱ)
+     */
+    private static void appendConjoiningJamo(Normalized out, int codePoint) {
+        if (codePoint >= 0x1100 && codePoint < 0x1100 + CHOSEONG.length) {
+            out.unit(CHOSEONG[codePoint - 0x1100]);
+        } else if (codePoint >= 0x1161 && codePoint < 0x1161 + JUNGSEONG.length) {
+            out.unit(foldVowel(JUNGSEONG[codePoint - 0x1161]));
+        } else if (codePoint >= 0x11A8 && codePoint < 0x11A7 + JONGSEONG.length) {
+            out.unit(JONGSEONG[codePoint - 0x11A7]);
+        }
+        // 채움 문자와 옛한글 자모는 버림
+    }
+
+    private static void appendAscii(Normalized out, char c, String text, int start, int end) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+            out.unit(Character.toLowerCase(c));
+            return;
+        }
+        char folded = foldLeet(c);
+        if (folded != 0 && (isLatinAt(text, start - 1) || isLatinAt(text, end))) {
+            out.unit(folded);
+        } else {
+            out.gap();
+        }
+    }
+
+    /**
+     * 라틴 문자 대신 쓰이는 숫자·기호 (없으면 0)
+     */
+    private static char foldLeet(char c) {
+        return switch (c) {
+            case '0' -> 'o';
+            case '1', '!' -> 'i';
+            case '3' -> 'e';
+            case '4', '@' -> 'a';
+            case '5', '$' -> 's';
+            case '7' -> 't';
+            default -> 0;
+        };
+    }
+
+    private static char foldVowel(char vowel) {
+        return switch (vowel) {
+            case 'ㅔ' -> 'ㅐ';
+            case 'ㅖ' -> 'ㅒ';
+            case 'ㅙ', 'ㅞ' -> 'ㅚ';
+            default -> vowel;
+        };
+    }
+
+    private static boolean isLatinAt(String text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        return Character.isLetter(c) && Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN;
+    }
+
+    private static boolean isIgnorable(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.FORMAT
+            || type == Character.NON_SPACING_MARK
+            || type == Character.ENCLOSING_MARK
+            || codePoint == 0xFFA0; // 반각 한글 채움 문자
+    }
+
+    /**
+     * 정규화 결과
+     *
+     * 글자(unit)마다 원문 범위와 원문 글자 경계 여부, 앞에 구분자가 있었는지를 함께 기록합니다.
+     */
+    public static final class Normalized {
+
+        char[] units;
+        int[] sourceStart;
+        int[] sourceEnd;
+        boolean[] sourceFirst;
+        boolean[] sourceLast;
+        boolean[] gapBefore;
+        int length;
+
+        private int currentStart;
+        private int currentEnd;
+        private int currentFirstUnit;
+        private boolean pendingGap;
+
+        private Normalized(int sourceLength) {
+            int capacity = Math.max(16, sourceLength * 3);
+            units = new char[capacity];
+            sourceStart = new int[capacity];
+            sourceEnd = new int[capacity];
+            sourceFirst = new boolean[capacity];
+            sourceLast = new boolean[capacity];
+            gapBefore = new boolean[capacity];
+        }
+
+        /**
+         * 정규화된 글자 수
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * 정규화된 글자열 (구분자 제외)
+         */
+        public String text() {
+            return new String(units, 0, length);
+        }
+
+        /**
+         * 정규화된 글자 범위 [start, end)의 원문 범위 시작 인덱스
+         */
+        public int sourceStartOf(int start) {
+            return sourceStart[start];
+        }
+
+        /**
+         * 정규화된 글자 범위 [start, end)의 원문 범위 끝 인덱스 (배타)
+         */
+        public int sourceEndOf(int end) {
+            return sourceEnd[end - 1];
+        }
+
+        /**
+         * 범위가 원문 글자 경계에서 시작하고 끝나는지 (음절 중간의 자모에서 걸친 적중 제외)
+         */
+        public boolean isSourceAligned(int start, int end) {
+            return sourceFirst[start] && sourceLast[end - 1];
+        }
+
+        /**
+         * 범위 앞뒤가 구분자 또는 텍스트 끝인지
+         */
+        public boolean isTokenAligned(int start, int end) {
+            return (start == 0 || gapBefore[start]) && (end == length || gapBefore[end]);
+        }
+
+        /**
+         * 범위 안에 구분자가 끼어 있었는지 (띄어 쓰거나 기호를 끼운 표기)
+         */
+        public boolean hasGapInside(int start, int end) {
+            for (int i = start + 1; i < end; i++) {
+                if (gapBefore[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 범위 바로 앞 글자가 (구분자 없이) 라틴 문자인지
+         */
+        public boolean isLatinBefore(int start) {
+            return start > 0 && !gapBefore[start] && isLatin(units[start - 1]);
+        }
+
+        /**
+         * 범위 바로 뒤 글자가 (구분자 없이) 라틴 문자인지
+         */
+        public boolean isLatinAfter(int end) {
+            return end < length && !gapBefore[end] && isLatin(units[end]);
+        }
+
+        static boolean isLatin(char c) {
+            return c >= 'a' && c <= 'z';
+        }
+
+        private void beginSource(int start, int end) {
+            currentStart = start;
+            currentEnd = end;
+            currentFirstUnit = length;
+        }
+
+        private void endSource() {
+            if (length > currentFirstUnit) {
+                sourceFirst[currentFirstUnit] = true;
+                sourceLast[length - 1] = true;
+            }
+        }
+
+        private void unit(char c) {
+            if (length == units.length) {
+                grow();
+            }
+            units[length] = c;
+            sourceStart[length] = currentStart;
+            sourceEnd[length] = currentEnd;
+            gapBefore[length] = pendingGap;
+            pendingGap = false;
+            length++;
+        }
+
+        private void gap() {
+            pendingGap = length > 0;
+        }
+
+        private void grow() {
+            int capacity = units.length * 2;
+            units = Arrays.copyOf(units, capacity);
+            sourceStart = Arrays.copyOf(sourceStart, capacity);
+            sourceEnd = Arrays.copyOf(sourceEnd, capacity);
+            sourceFirst = Arrays.copyOf(sourceFirst, capacity);
+            sourceLast = Arrays.copyOf(sourceLast, capacity);
+            gapBefore = Arrays.copyOf(gapBefore, capacity);
+        }
+    }
+}
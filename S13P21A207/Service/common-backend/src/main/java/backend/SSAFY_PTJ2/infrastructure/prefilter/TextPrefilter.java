@@ -0,0 +1,217 @@
+package backend.SSAFY_PTJ2.infrastructure.prefilter;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.global.config.TextPrefilterProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 텍스트 사전 필터 - AI 분석 전에 노드 안에서 키워드로 먼저 판정
+ *
+ * 카테고리별 키워드 목록을 하나의 Aho-Corasick 오토마톤으로 만들어 정규화된 텍스트를 한 번만 훑습니다.
+ * - SAFE: 글자가 없는 텍스트(숫자·공백·기호·이모지)나 UI 문구 → AI 호출 없이 안전
+ * - BLOCKED: 사용자가 켠 카테고리의 확신도 높은 키워드만 적중한 짧은 텍스트 → 적중 범위를 그대로 혐오 범위로 사용
+ * - AMBIGUOUS: 그 밖의 모든 텍스트 → AI로 분석
+ *
+ * 키워드 파일 형식 (한 줄에 하나, #은 주석)
+ * <pre>
+ * 키워드[,점수]     점수 생략 시 0.95
+ * =키워드[,점수]    라틴 문자 키워드를 단어 전체가 같을 때만 적중 (ass → class 제외)
+ * </pre>
+ * 라틴 문자 키워드는 단어 중간에서 시작하는 적중을 버리고, 한글 키워드는 음절 경계에 맞는 적중만 사용합니다.
+ */
+@Slf4j
+@Component
+public class TextPrefilter {
+
+    private static final double DEFAULT_KEYWORD_SCORE = 0.95;
+
+    // AI 카테고리 코드 → 키워드 파일
+    private static final Map<String, String> KEYWORD_FILES = Map.of(
+        "IN", "prefilter/insult.txt",
+        "VI", "prefilter/violence.txt",
+        "SE", "prefilter/sexual.txt",
+        "AD", "prefilter/ad.txt",
+        "PO", "prefilter/politics.txt"
+    );
+    private static final String BOILERPLATE_FILE = "prefilter/boilerplate.txt";
+
+    private final TextPrefilterProperties properties;
+    private final List<Keyword> keywords;
+    private final AhoCorasickMatcher matcher;
+    private final Set<String> boilerplate;
+
+    public TextPrefilter(TextPrefilterProperties properties) {
+        this.properties = properties;
+
+        Map<String, Keyword> byPattern = new LinkedHashMap<>();
+        KEYWORD_FILES.forEach((category, file) -> readLines(file).forEach(line -> {
+            Keyword keyword = Keyword.parse(category, line);
+            if (keyword != null) {
+                byPattern.putIfAbsent(category + ":" + keyword.pattern(), keyword);
+            }
+        }));
+        this.keywords = List.copyOf(byPattern.values());
+        this.matcher = new AhoCorasickMatcher(keywords.stream().map(Keyword::pattern).toList());
+
+        Set<String> phrases = new HashSet<>();
+        readLines(BOILERPLATE_FILE).forEach(line -> phrases.add(boilerplateKey(line)));
+        this.boilerplate = Set.copyOf(phrases);
+
+        log.info("텍스트 사전 필터 준비 - 키워드 {}개, UI 문구 {}개", keywords.size(), boilerplate.size());
+    }
+
+    /**
+     * 텍스트 한 건 판정
+     *
+     * @param text              원문
+     * @param enabledCategories 사용자가 켠 AI 카테고리 코드 (IN, VI, SE, AD, PO)
+     */
+    public PrefilterVerdict screen(String text, Set<String> enabledCategories) {
+        if (text == null || text.isEmpty()) {
+            return PrefilterVerdict.safe();
+        }
+
+        TextNormalizer.Normalized normalized = TextNormalizer.normalize(text);
+        if (normalized.length() == 0) {
+            return PrefilterVerdict.safe();
+        }
+        if (text.length() <= properties.getMaxBoilerplateLength() && boilerplate.contains(boilerplateKey(text))) {
+            return PrefilterVerdict.safe();
+        }
+
+        List<Hit> hits = findHits(normalized, enabledCategories);
+        if (hits.isEmpty()) {
+            return PrefilterVerdict.ambiguous(List.of());
+        }
+
+        // 강한 키워드 안에 든 약한 키워드(죽여버린다 ⊃ 죽여)는 합친 범위의 최대 점수로 판단
+        List<AnalysisResult.TextRange> ranges = mergeRanges(hits);
+        boolean confident = text.length() <= properties.getMaxLocalLength()
+            && ranges.stream().allMatch(range -> range.getScore() >= properties.getConfidenceThreshold());
+        return confident ? PrefilterVerdict.blocked(ranges) : PrefilterVerdict.ambiguous(ranges);
+    }
+
+    /**
+     * 사용자가 켠 카테고리의 키워드 적중 (원문 인덱스)
+     */
+    private List<Hit> findHits(TextNormalizer.Normalized normalized, Set<String> enabledCategories) {
+        List<Hit> hits = new ArrayList<>();
+        matcher.match(normalized.units, normalized.length(), (patternIndex, start, end) -> {
+            Keyword keyword = keywords.get(patternIndex);
+            if (!enabledCategories.contains(keyword.category()) || !normalized.isSourceAligned(start, end)) {
+                return;
+            }
+            if (keyword.latin() && (normalized.isLatinBefore(start) || (keyword.wholeWord() && normalized.isLatinAfter(end)))) {
+                return;
+            }
+            double score = keyword.score();
+            if (normalized.hasGapInside(start, end) && !normalized.isTokenAligned(start, end)) {
+                score *= properties.getSpacedMatchPenalty();
+            }
+            hits.add(new Hit(normalized.sourceStartOf(start), normalized.sourceEndOf(end), keyword.category(), score));
+        });
+        return hits;
+    }
+
+    /**
+     * 겹치거나 맞닿은 적중을 하나의 범위로 합침 (카테고리는 합치고 점수는 최대값)
+     */
+    private static List<AnalysisResult.TextRange> mergeRanges(List<Hit> hits) {
+        List<Hit> sorted = new ArrayList<>(hits);
+        sorted.sort(Comparator.comparingInt(Hit::start).thenComparingInt(Hit::end));
+
+        List<AnalysisResult.TextRange> ranges = new ArrayList<>();
+        int start = sorted.get(0).start();
+        int end = sorted.get(0).end();
+        Set<String> categories = new LinkedHashSet<>();
+        double score = 0;
+        for (Hit hit : sorted) {
+            if (hit.start() > end) {
+                ranges.add(range(start, end, categories, score));
+                start = hit.start();
+                end = hit.end();
+                categories = new LinkedHashSet<>();
+                score = 0;
+            }
+            end = Math.max(end, hit.end());
+            categories.add(hit.category());
+            score = Math.max(score, hit.score());
+        }
+        ranges.add(range(start, end, categories, score));
+        return ranges;
+    }
+
+    private static AnalysisResult.TextRange range(int start, int end, Set<String> categories, double score) {
+        return AnalysisResult.TextRange.builder()
+            .startIndex(start)
+            .endIndex(end)
+            .category(List.copyOf(categories))
+            .score(score)
+            .build();
+    }
+
+    private static String boilerplateKey(String text) {
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> readLines(String location) {
+        ClassPathResource resource = new ClassPathResource(location);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                .map(line -> {
+                    int comment = line.indexOf('#');
+                    return (comment >= 0 ? line.substring(0, comment) : line).strip();
+                })
+                .filter(line -> !line.isEmpty())
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("사전 필터 목록을 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    private record Hit(int start, int end, String category, double score) {
+    }
+
+    /**
+     * 정규화된 키워드
+     */
+    private record Keyword(String category, String pattern, double score, boolean latin, boolean wholeWord) {
+
+        private static Keyword parse(String category, String line) {
+            boolean wholeWord = line.startsWith("=");
+            String body = wholeWord ? line.substring(1) : line;
+
+            double score = DEFAULT_KEYWORD_SCORE;
+            int separator = body.lastIndexOf(',');
+            if (separator >= 0) {
+                score = Double.parseDouble(body.substring(separator + 1).strip());
+                body = body.substring(0, separator);
+            }
+
+            String pattern = TextNormalizer.normalizeKeyword(body);
+            if (pattern.isEmpty()) {
+                log.warn("정규화 후 빈 키워드 무시 - category: {}, line: {}", category, line);
+                return null;
+            }
+            boolean latin = pattern.chars().allMatch(c -> TextNormalizer.Normalized.isLatin((char) c));
+            return new Keyword(category, pattern, score, latin, wholeWord);
+        }
+    }
+}
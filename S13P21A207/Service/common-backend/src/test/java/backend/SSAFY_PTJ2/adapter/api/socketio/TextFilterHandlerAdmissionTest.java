@@ -0,0 +1,208 @@
+package backend.SSAFY_PTJ2.adapter.api.socketio;
+
+import backend.SSAFY_PTJ2.adapter.api.dto.TextAnalysisSocketRequest;
+import backend.SSAFY_PTJ2.application.ProcessingOrchestrator;
+import backend.SSAFY_PTJ2.application.admission.AnalysisAdmissionExecutor;
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
+import backend.SSAFY_PTJ2.domain.common.service.SessionFilterService;
+import backend.SSAFY_PTJ2.global.config.AnalysisAdmissionProperties;
+import com.corundumstudio.socketio.AckRequest;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.listener.DataListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 분석 요청이 netty 이벤트 루프를 막지 않는지 확인하는 테스트
+ *
+ * 실제 핸들러가 등록한 리스너를 단일 스레드(이벤트 루프 역할)에서 호출하고,
+ * AI 분석이 멈춘 동안 다른 클라이언트의 ping/pong 지연 시간을 측정합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TextFilterHandlerAdmissionTest {
+
+    private static final long PONG_LATENCY_THRESHOLD_MS = 200;
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private ProcessingOrchestrator processingOrchestrator;
+
+    @Mock
+    private SessionFilterService sessionFilterService;
+
+    @Mock
+    private ProcessingScheduler processingScheduler;
+
+    private final Map<String, DataListener<Object>> listeners = new HashMap<>();
+    private final CountDownLatch aiStall = new CountDownLatch(1);
+    private final ExecutorService eventLoop = Executors.newSingleThreadExecutor();
+    private AnalysisAdmissionExecutor admissionExecutor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            listeners.put(invocation.getArgument(0), invocation.getArgument(2));
+            return null;
+        }).when(socketIOServer).addEventListener(anyString(), any(), any());
+
+        AnalysisAdmissionProperties properties = new AnalysisAdmissionProperties();
+        properties.setWorkerThreads(4);
+        properties.setQueueCapacity(4);
+        properties.setPerClientMaxInFlight(2);
+        admissionExecutor = new AnalysisAdmissionExecutor(properties);
+
+        new ConnectionHandler(socketIOServer, sessionFilterService, processingScheduler).registerEventListeners();
+        new TextFilterHandler(socketIOServer, processingOrchestrator, admissionExecutor).registerEventListeners();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiStall.countDown();
+        eventLoop.shutdownNow();
+        admissionExecutor.shutdown();
+    }
+
+    @Test
+    void AI가_멈춰도_다른_클라이언트의_ping_응답은_지연되지_않음() throws Exception {
+        // Given - AI 분석이 풀릴 때까지 멈춤
+        when(processingOrchestrator.processSync(any(ProcessingRequest.class))).thenAnswer(invocation -> {
+            aiStall.await(10, TimeUnit.SECONDS);
+            return successResult(invocation.getArgument(0));
+        });
+
+        List<RecordingAck> analysisAcks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            RecordingAck ack = new RecordingAck();
+            analysisAcks.add(ack);
+            emit("text-analysis", client("client-" + (i % 2)), textBatch(), ack);
+        }
+
+        // When - 분석과 관계없는 클라이언트가 같은 이벤트 루프로 ping 전송
+        SocketIOClient pingClient = client("ping-client");
+        CountDownLatch pong = new CountDownLatch(1);
+        long[] pongAt = new long[1];
+        doAnswer(invocation -> {
+            pongAt[0] = System.nanoTime();
+            pong.countDown();
+            return null;
+        }).when(pingClient).sendEvent(anyString(), any(Object[].class));
+
+        long pingAt = System.nanoTime();
+        emit("ping", pingClient, "ping", new RecordingAck());
+
+        // Then
+        assertThat(pong.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(pongAt[0] - pingAt)).isLessThan(PONG_LATENCY_THRESHOLD_MS);
+        assertThat(analysisAcks).allMatch(ack -> ack.received.getCount() == 1); // 분석은 아직 진행 중
+
+        aiStall.countDown();
+        for (RecordingAck ack : analysisAcks) {
+            assertThat(ack.received.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ack.data).isNotInstanceOf(Map.class); // 에러 응답이 아닌 분석 결과
+        }
+    }
+
+    @Test
+    void 클라이언트_동시_처리_한도를_넘으면_즉시_busy_응답() throws Exception {
+        // Given
+        when(processingOrchestrator.processSync(any(ProcessingRequest.class))).thenAnswer(invocation -> {
+            aiStall.await(10, TimeUnit.SECONDS);
+            return successResult(invocation.getArgument(0));
+        });
+        SocketIOClient client = client("greedy-client");
+        emit("text-analysis", client, textBatch(), new RecordingAck());
+        emit("text-analysis", client, textBatch(), new RecordingAck());
+
+        // When
+        RecordingAck rejected = new RecordingAck();
+        emit("text-analysis", client, textBatch(), rejected);
+
+        // Then
+        assertThat(rejected.received.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(rejected.data).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) rejected.data).get("errorCode")).isEqualTo("CL103");
+    }
+
+    /**
+     * 이벤트 루프 스레드에서 리스너 호출 (리스너 반환까지 대기)
+     */
+    private void emit(String event, SocketIOClient client, Object data, RecordingAck ack) throws Exception {
+        eventLoop.submit(() -> {
+            listeners.get(event).onData(client, data, ack.ackRequest);
+            return null;
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private SocketIOClient client(String name) {
+        SocketIOClient client = mock(SocketIOClient.class);
+        when(client.getSessionId()).thenReturn(UUID.nameUUIDFromBytes(name.getBytes()));
+        return client;
+    }
+
+    private TextAnalysisSocketRequest[] textBatch() {
+        TextAnalysisSocketRequest request = new TextAnalysisSocketRequest();
+        request.setElementId("text-1");
+        request.setContent("오늘 날씨 좋네요");
+        request.setPageUrl("https://example.com");
+        return new TextAnalysisSocketRequest[]{request};
+    }
+
+    private ProcessingResult successResult(ProcessingRequest request) {
+        return ProcessingResult.builder()
+            .requestId(request.getRequestId())
+            .success(true)
+            .completedAt(LocalDateTime.now())
+            .analysisResult(AnalysisResult.builder().success(true).analysisType("TEXT").textResults(List.of()).build())
+            .processingTimeMs(1)
+            .build();
+    }
+
+    /**
+     * ACK 응답을 기록하는 테스트용 AckRequest
+     */
+    private static class RecordingAck {
+        private final CountDownLatch received = new CountDownLatch(1);
+        private final AckRequest ackRequest = mock(AckRequest.class, withSettings().strictness(Strictness.LENIENT));
+        private volatile Object data;
+
+        RecordingAck() {
+            doAnswer(invocation -> {
+                Object[] objs = invocation.getArguments();
+                data = objs.length > 0 ? objs[0] : null;
+                received.countDown();
+                return null;
+            }).when(ackRequest).sendAckData(any(Object[].class));
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package backend.SSAFY_PTJ2.application;
+
+import backend.SSAFY_PTJ2.application.usecase.PostProcessingUseCaseImpl;
+import backend.SSAFY_PTJ2.application.usecase.PreProcessingUseCaseImpl;
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.TextProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.service.AnalysisCacheService;
+import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
+import backend.SSAFY_PTJ2.domain.common.service.SessionFilterService;
+import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIRequest;
+import backend.SSAFY_PTJ2.domain.textfilter.dto.TextAIRequest;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import backend.SSAFY_PTJ2.global.config.TextPrefilterProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.ImageAIClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.TextAIClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.ImageAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.TextAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.cache.PerceptualImageCache;
+import backend.SSAFY_PTJ2.infrastructure.cache.TwoTierAnalysisCacheService;
+import backend.SSAFY_PTJ2.infrastructure.prefilter.TextPrefilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분석 결과 캐시 적용 플로우 테스트
+ *
+ * 실제 처리 전/후 유즈케이스와 로컬 캐시를 사용하고 AI 컨테이너 호출만 목으로 대체합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessingOrchestratorCacheTest {
+
+    @Mock
+    private TextAIClient textAIClient;
+
+    @Mock
+    private ImageAIClient imageAIClient;
+
+    @Mock
+    private SessionFilterService sessionFilterService;
+
+    @Mock
+    private ProcessingScheduler processingScheduler;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private AIClientProperties aiClientProperties;
+    private AnalysisCacheService analysisCacheService;
+    private ProcessingOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        aiClientProperties = new AIClientProperties();
+        AnalysisCacheProperties cacheProperties = new AnalysisCacheProperties();
+        cacheProperties.setRedisEnabled(false); // 로컬 캐시만 사용
+        TextPrefilterProperties prefilterProperties = new TextPrefilterProperties();
+        PerceptualImageCache perceptualImageCache = new PerceptualImageCache(cacheProperties);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        analysisCacheService = new TwoTierAnalysisCacheService(redisTemplate, cacheProperties);
+        TextAIAnalysisClient textAIAnalysisClient = new TextAIAnalysisClient(textAIClient, aiClientProperties);
+        ImageAIAnalysisClient imageAIAnalysisClient = new ImageAIAnalysisClient(imageAIClient, aiClientProperties);
+
+        orchestrator = new ProcessingOrchestrator(
+            new PreProcessingUseCaseImpl(sessionFilterService, analysisCacheService, cacheProperties,
+                aiClientProperties, textAIAnalysisClient, new TextPrefilter(prefilterProperties), prefilterProperties,
+                perceptualImageCache),
+            new PostProcessingUseCaseImpl(sessionFilterService, analysisCacheService, objectMapper, perceptualImageCache),
+            processingScheduler,
+            imageAIAnalysisClient,
+            textAIAnalysisClient
+        );
+    }
+
+    @Test
+    void 같은_텍스트는_사용자가_달라도_캐시에서_재사용() {
+        // Given
+        when(textAIClient.analyze(any(TextAIRequest.class))).thenReturn(hatefulTextResult("a-1"));
+
+        // When
+        ProcessingResult first = orchestrator.processSync(textRequest("session-a", "a-1", "a-2"));
+        ProcessingResult second = orchestrator.processSync(textRequest("session-b", "b-1", "b-2"));
+
+        // Then
+        verify(textAIClient, times(1)).analyze(any(TextAIRequest.class));
+        assertThat(first.isFromCache()).isFalse();
+        assertThat(second.isFromCache()).isTrue();
+
+        List<AnalysisResult.TextAnalysisItem> textResults = second.getAnalysisResult().getTextResults();
+        assertThat(textResults).extracting(AnalysisResult.TextAnalysisItem::getElementId).containsExactly("b-1", "b-2");
+        assertThat(textResults.get(0).getHatefulRanges()).hasSize(1);
+        assertThat(textResults.get(0).getHatefulRanges().get(0).getCategory()).containsExactly("IN");
+        assertThat(textResults.get(1).getHatefulRanges()).isEmpty();
+
+        // 두 번째 요청의 두 항목 모두 히트, 그 중 하나는 안전 판정(네거티브 캐시)
+        AnalysisCacheService.AnalysisCacheStatistics statistics = analysisCacheService.getStatistics();
+        assertThat(statistics.hits()).isEqualTo(2);
+        assertThat(statistics.safeHits()).isEqualTo(1);
+        assertThat(statistics.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 모델_버전을_바꾸면_캐시가_무효화() {
+        // Given
+        when(textAIClient.analyze(any(TextAIRequest.class))).thenReturn(hatefulTextResult("a-1"));
+        orchestrator.processSync(textRequest("session-a", "a-1", "a-2"));
+
+        // When
+        aiClientProperties.getText().setModelVersion("v2.0");
+        ProcessingResult result = orchestrator.processSync(textRequest("session-b", "a-1", "a-2"));
+
+        // Then
+        verify(textAIClient, times(2)).analyze(any(TextAIRequest.class));
+        assertThat(result.isFromCache()).isFalse();
+    }
+
+    @Test
+    void 사전_필터가_판정한_텍스트는_AI로_보내지_않음() {
+        // Given - 확실한 욕설 / 숫자만 있는 텍스트 / 애매한 텍스트
+        when(textAIClient.analyze(any(TextAIRequest.class))).thenReturn(AnalysisResult.builder()
+            .success(true)
+            .analysisType("TEXT")
+            .textResults(List.of())
+            .build());
+        TextProcessingRequest request = TextProcessingRequest.builder()
+            .requestId("prefilter-request")
+            .priority(ProcessingRequest.Priority.NORMAL)
+            .timestamp(LocalDateTime.now())
+            .sessionId("session-a")
+            .textDataList(List.of(
+                TextProcessingRequest.TextData.builder().elementId("t-1").content("씨 발 뭐하냐").build(),
+                TextProcessingRequest.TextData.builder().elementId("t-2").content("12,345").build(),
+                TextProcessingRequest.TextData.builder().elementId("t-3").content("오늘 날씨 좋네요").build()
+            ))
+            .build();
+
+        // When
+        ProcessingResult result = orchestrator.processSync(request);
+
+        // Then - 애매한 텍스트만 AI로 전송
+        ArgumentCaptor<TextAIRequest> captor = ArgumentCaptor.forClass(TextAIRequest.class);
+        verify(textAIClient, times(1)).analyze(captor.capture());
+        assertThat(captor.getValue().getTextElements())
+            .extracting(TextAIRequest.TextElement::getElementId)
+            .containsExactly("t-3");
+
+        List<AnalysisResult.TextAnalysisItem> textResults = result.getAnalysisResult().getTextResults();
+        assertThat(result.isFromCache()).isFalse();
+        assertThat(textResults).extracting(AnalysisResult.TextAnalysisItem::getElementId).containsExactly("t-1", "t-2");
+        AnalysisResult.TextRange range = textResults.get(0).getHatefulRanges().get(0);
+        assertThat(range.getStartIndex()).isEqualTo(0);
+        assertThat(range.getEndIndex()).isEqualTo(3);
+        assertThat(range.getCategory()).containsExactly("IN");
+        assertThat(textResults.get(1).getHatefulRanges()).isEmpty();
+    }
+
+    @Test
+    void 배치_중_캐시에_없는_이미지만_AI로_분석() {
+        // Given
+        when(imageAIClient.analyze(any(ImageAIRequest.class)))
+            .thenReturn(imageResult("img-1", "img-2"))
+            .thenReturn(imageResult("img-4"));
+        orchestrator.processSync(imageRequest(image("img-1", "cat"), image("img-2", "dog")));
+
+        // When
+        ProcessingResult result = orchestrator.processSync(imageRequest(image("img-3", "cat"), image("img-4", "bird")));
+
+        // Then
+        ArgumentCaptor<ImageAIRequest> captor = ArgumentCaptor.forClass(ImageAIRequest.class);
+        verify(imageAIClient, times(2)).analyze(captor.capture());
+        assertThat(captor.getAllValues().get(1).getImageFiles())
+            .extracting(ImageAIRequest.ImageFile::getId)
+            .containsExactly("img-4");
+
+        assertThat(result.isFromCache()).isFalse();
+        assertThat(result.getAnalysisResult().getImageResults())
+            .extracting(AnalysisResult.ImageAnalysisItem::getImageId)
+            .containsExactly("img-3", "img-4");
+        assertThat(result.getAnalysisResult().getImageResults().get(0).isHateful()).isTrue();
+    }
+
+    @Test
+    void 크기와_인코딩만_다른_이미지는_유사_이미지_결과를_재사용() throws Exception {
+        // Given - 같은 그림을 PNG 400px / JPEG 257px로 인코딩
+        when(imageAIClient.analyze(any(ImageAIRequest.class))).thenReturn(imageResult("img-1"));
+        orchestrator.processSync(imageRequest(rendered("img-1", 400, "png")));
+
+        // When
+        ProcessingResult result = orchestrator.processSync(imageRequest(rendered("img-2", 257, "jpg")));
+
+        // Then - AI는 처음 한 번만 호출되고, 두 번째 이미지는 첫 이미지의 판정을 사용
+        verify(imageAIClient, times(1)).analyze(any(ImageAIRequest.class));
+        assertThat(result.isFromCache()).isTrue();
+        assertThat(result.getAnalysisResult().getImageResults()).singleElement()
+            .satisfies(item -> {
+                assertThat(item.getImageId()).isEqualTo("img-2");
+                assertThat(item.isHateful()).isTrue();
+            });
+        assertThat(result.getAnalysisResult().getAdditionalData()).containsEntry("similarHits", 1);
+    }
+
+    private TextProcessingRequest textRequest(String sessionId, String firstId, String secondId) {
+        return TextProcessingRequest.builder()
+            .requestId(sessionId + "-request")
+            .priority(ProcessingRequest.Priority.NORMAL)
+            .timestamp(LocalDateTime.now())
+            .sessionId(sessionId)
+            .pageUrl("https://example.com")
+            .textDataList(List.of(
+                TextProcessingRequest.TextData.builder().elementId(firstId).content("너 진짜 바보냐").build(),
+                TextProcessingRequest.TextData.builder().elementId(secondId).content("오늘 날씨 좋네요").build()
+            ))
+            .build();
+    }
+
+    /**
+     * AI 응답에는 혐오 표현이 있는 요소만 포함됨
+     */
+    private AnalysisResult hatefulTextResult(String elementId) {
+        return AnalysisResult.builder()
+            .success(true)
+            .analysisType("TEXT")
+            .textResults(List.of(AnalysisResult.TextAnalysisItem.builder()
+                .elementId(elementId)
+                .hatefulRanges(List.of(AnalysisResult.TextRange.builder()
+                    .startIndex(5)
+                    .endIndex(8)
+                    .category(List.of("IN"))
+                    .score(0.93)
+                    .build()))
+                .originalLength(8)
+                .build()))
+            .build();
+    }
+
+    private ImageProcessingRequest imageRequest(ImageProcessingRequest.ImageData... images) {
+        return ImageProcessingRequest.builder()
+            .requestId("image-request")
+            .priority(ProcessingRequest.Priority.HIGH)
+            .timestamp(LocalDateTime.now())
+            .sessionId("session-a")
+            .imageDataList(List.of(images))
+            .build();
+    }
+
+    private ImageProcessingRequest.ImageData image(String elementId, String content) {
+        byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        return ImageProcessingRequest.ImageData.builder()
+            .data(data)
+            .mimeType("image/png")
+            .size(data.length)
+            .elementId(elementId)
+            .build();
+    }
+
+    /**
+     * 크기와 형식만 다르게 인코딩한 같은 그림 (대각선 그라디언트 위의 원)
+     */
+    private ImageProcessingRequest.ImageData rendered(String elementId, int size, String format) throws Exception {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, size, size, Color.DARK_GRAY));
+        graphics.fillRect(0, 0, size, size);
+        graphics.setColor(Color.RED);
+        graphics.fillOval(size / 5, size / 3, size / 2, size / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        byte[] data = out.toByteArray();
+        return ImageProcessingRequest.ImageData.builder()
+            .data(data)
+            .mimeType("jpg".equals(format) ? "image/jpeg" : "image/png")
+            .size(data.length)
+            .elementId(elementId)
+            .build();
+    }
+
+    /**
+     * 첫 번째 이미지만 혐오로 판정
+     */
+    private AnalysisResult imageResult(String... imageIds) {
+        return AnalysisResult.builder()
+            .success(true)
+            .analysisType("IMAGE")
+            .imageResults(IntStream.range(0, imageIds.length)
+                .mapToObj(index -> AnalysisResult.ImageAnalysisItem.builder()
+                    .imageId(imageIds[index])
+                    .isHateful(index == 0)
+                    .confidenceScore(0.9)
+                    .detectedCategories(List.of(index == 0 ? "CRIME" : "CLEAN"))
+                    .hatefulRegions(List.of())
+                    .build())
+                .toList())
+            .build();
+    }
+}
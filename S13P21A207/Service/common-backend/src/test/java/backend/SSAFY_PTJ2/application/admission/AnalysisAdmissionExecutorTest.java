@@ -0,0 +1,107 @@
+package backend.SSAFY_PTJ2.application.admission;
+
+import backend.SSAFY_PTJ2.global.config.AnalysisAdmissionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분석 요청 수락(admission) 실행기 테스트
+ */
+class AnalysisAdmissionExecutorTest {
+
+    private final CountDownLatch stall = new CountDownLatch(1);
+    private AnalysisAdmissionExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        stall.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 클라이언트별_동시_처리_한도를_넘으면_거절() {
+        // Given
+        executor = new AnalysisAdmissionExecutor(properties(8, 8, 2));
+
+        // When
+        AnalysisAdmissionExecutor.Admission first = executor.submit("client-a", this::awaitStall);
+        AnalysisAdmissionExecutor.Admission second = executor.submit("client-a", this::awaitStall);
+        AnalysisAdmissionExecutor.Admission third = executor.submit("client-a", this::awaitStall);
+        AnalysisAdmissionExecutor.Admission other = executor.submit("client-b", this::awaitStall);
+
+        // Then
+        assertThat(first).isEqualTo(AnalysisAdmissionExecutor.Admission.ACCEPTED);
+        assertThat(second).isEqualTo(AnalysisAdmissionExecutor.Admission.ACCEPTED);
+        assertThat(third).isEqualTo(AnalysisAdmissionExecutor.Admission.CLIENT_LIMIT_EXCEEDED);
+        assertThat(other).isEqualTo(AnalysisAdmissionExecutor.Admission.ACCEPTED);
+        assertThat(executor.getInFlight("client-a")).isEqualTo(2);
+        assertThat(executor.getStatistics().rejectedByClientLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void 워커와_대기_큐가_가득_차면_SERVER_BUSY() {
+        // Given
+        executor = new AnalysisAdmissionExecutor(properties(1, 1, 4));
+
+        // When
+        AnalysisAdmissionExecutor.Admission running = executor.submit("client-a", this::awaitStall);
+        AnalysisAdmissionExecutor.Admission queued = executor.submit("client-b", this::awaitStall);
+        AnalysisAdmissionExecutor.Admission shed = executor.submit("client-c", this::awaitStall);
+
+        // Then
+        assertThat(running).isEqualTo(AnalysisAdmissionExecutor.Admission.ACCEPTED);
+        assertThat(queued).isEqualTo(AnalysisAdmissionExecutor.Admission.ACCEPTED);
+        assertThat(shed).isEqualTo(AnalysisAdmissionExecutor.Admission.SERVER_BUSY);
+        assertThat(executor.getInFlight("client-c")).isZero(); // 거절된 요청은 클라이언트 슬롯을 점유하지 않음
+        assertThat(executor.getStatistics().rejectedByServerBusy()).isEqualTo(1);
+    }
+
+    @Test
+    void 작업이_끝나면_클라이언트_슬롯_반환() throws InterruptedException {
+        // Given
+        executor = new AnalysisAdmissionExecutor(properties(2, 2, 1));
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        executor.submit("client-a", () -> {
+            throw new IllegalStateException("AI 오류"); // 작업이 실패해도 슬롯은 반환되어야 함
+        });
+        awaitInFlightZero("client-a");
+        AnalysisAdmissionExecutor.Admission next = executor.submit("client-a", done::countDown);
+
+        // Then
+        assertThat(next).isEqualTo(AnalysisAdmissionExecutor.Admission.ACCEPTED);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitInFlightZero("client-a");
+        assertThat(executor.getStatistics().inFlightClients()).isZero();
+    }
+
+    private void awaitStall() {
+        try {
+            stall.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitInFlightZero(String clientId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getInFlight(clientId) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(executor.getInFlight(clientId)).isZero();
+    }
+
+    private AnalysisAdmissionProperties properties(int workerThreads, int queueCapacity, int perClientMaxInFlight) {
+        AnalysisAdmissionProperties properties = new AnalysisAdmissionProperties();
+        properties.setWorkerThreads(workerThreads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setPerClientMaxInFlight(perClientMaxInFlight);
+        return properties;
+    }
+}
@@ -1,273 +1,461 @@
-//package backend.SSAFY_PTJ2.application.scheduler;
-//
-//import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
-//import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
-//import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
-//import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
-//import backend.SSAFY_PTJ2.domain.common.service.AIAnalysisClient;
-//import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
-//import org.junit.jupiter.api.BeforeEach;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.extension.ExtendWith;
-//import org.mockito.Mock;
-//import org.mockito.junit.jupiter.MockitoExtension;
-//
-//import java.time.LocalDateTime;
-//import java.util.List;
-//import java.util.Map;
-//import java.util.concurrent.CompletableFuture;
-//import java.util.concurrent.CountDownLatch;
-//import java.util.concurrent.ExecutorService;
-//import java.util.concurrent.Executors;
-//
-//import static org.assertj.core.api.Assertions.assertThat;
-//import static org.assertj.core.api.Assertions.assertThatThrownBy;
-//import static org.mockito.ArgumentMatchers.any;
-//import static org.mockito.Mockito.when;
-//
-///**
-// * 동기 처리 스케줄러 테스트 - 개발자 C 담당
-// *
-// * 이미지/텍스트 분리된 우선순위 큐, 락 관리, 동시성 처리에 대한 테스트
-// * - 이미지 AI 컨테이너와 텍스트 AI 컨테이너별 독립적인 큐 및 락 테스트
-// *
-// * 개발자 C는 이 기본 구조를 참고하여 더 많은 테스트 케이스를 추가하세요.
-// */
-//@ExtendWith(MockitoExtension.class)
-//class SynchronousProcessingSchedulerTest {
-//
-//    @Mock
-//    private AIAnalysisClient imageAIClient;
-//
-//    @Mock
-//    private AIAnalysisClient textAIClient;
-//
-//    private ProcessingScheduler scheduler;
-//
-//    @BeforeEach
-//    void setUp() {
-//        // TODO: 개발자 C가 실제 스케줄러 의존성 주입
-//        scheduler = new SynchronousProcessingScheduler(/* AI 클라이언트 목록 */);
-//
-//        // Mock AI 클라이언트 기본 동작 설정
-//        when(imageAIClient.supportsRequestType(ProcessingRequest.RequestType.IMAGE_ANALYSIS))
-//                .thenReturn(true);
-//        when(textAIClient.supportsRequestType(ProcessingRequest.RequestType.TEXT_ANALYSIS))
-//                .thenReturn(true);
-//    }
-//
-//    @Test
-//    void 이미지_분석_요청_정상_처리_테스트() throws Exception {
-//        // Given
-//        ProcessingRequest request = createImageAnalysisRequest();
-//        AnalysisResult mockAnalysisResult = createMockAnalysisResult();
-//
-//        when(imageAIClient.analyze(any(ProcessingRequest.class)))
-//                .thenReturn(mockAnalysisResult);
-//
-//        // When
-//        ProcessingResult result = scheduler.scheduleAndProcess(request);
-//
-//        // Then
-//        assertThat(result.isSuccess()).isTrue();
-//        assertThat(result.getRequestId()).isEqualTo(request.getRequestId());
-//        assertThat(result.getProcessingTimeMs()).isGreaterThan(0);
-//    }
-//
-//    @Test
-//    void 뷰포트_우선순위_요청_우선_처리_테스트() throws Exception {
-//        // Given
-//        ProcessingRequest normalRequest = createNormalPriorityRequest();
-//        ProcessingRequest viewportRequest = createViewportPriorityRequest();
-//
-//        // TODO: 개발자 C가 우선순위 검증 로직 구현
-//        // 1. 두 요청을 동시에 큐에 추가
-//        // 2. viewport 우선순위가 먼저 처리되는지 확인
-//
-//        // When & Then
-//        // 임시 구현 - 개발자 C가 실제 우선순위 테스트 로직 추가
-//        assertThat(viewportRequest.getPriority().getLevel())
-//                .isLessThan(normalRequest.getPriority().getLevel());
-//    }
-//
-//    @Test
-//    void 동시_이미지_분석_요청_락_테스트() throws Exception {
-//        // Given
-//        int numberOfRequests = 3;
-//        CountDownLatch startLatch = new CountDownLatch(1);
-//        CountDownLatch completeLatch = new CountDownLatch(numberOfRequests);
-//        ExecutorService executor = Executors.newFixedThreadPool(numberOfRequests);
-//
-//        // AI 분석에 시간이 걸리도록 Mock 설정
-//        when(imageAIClient.analyze(any(ProcessingRequest.class)))
-//                .thenAnswer(invocation -> {
-//                    Thread.sleep(100); // 분석 시간 시뮬레이션
-//                    return createMockAnalysisResult();
-//                });
-//
-//        // When
-//        List<CompletableFuture<ProcessingResult>> futures = List.of(
-//            CompletableFuture.supplyAsync(() -> {
-//                try {
-//                    startLatch.await();
-//                    return scheduler.scheduleAndProcess(createImageAnalysisRequest());
-//                } catch (Exception e) {
-//                    throw new RuntimeException(e);
-//                } finally {
-//                    completeLatch.countDown();
-//                }
-//            }, executor),
-//            CompletableFuture.supplyAsync(() -> {
-//                try {
-//                    startLatch.await();
-//                    return scheduler.scheduleAndProcess(createImageAnalysisRequest());
-//                } catch (Exception e) {
-//                    throw new RuntimeException(e);
-//                } finally {
-//                    completeLatch.countDown();
-//                }
-//            }, executor),
-//            CompletableFuture.supplyAsync(() -> {
-//                try {
-//                    startLatch.await();
-//                    return scheduler.scheduleAndProcess(createImageAnalysisRequest());
-//                } catch (Exception e) {
-//                    throw new RuntimeException(e);
-//                } finally {
-//                    completeLatch.countDown();
-//                }
-//            }, executor)
-//        );
-//
-//        startLatch.countDown(); // 모든 스레드 동시 시작
-//
-//        // Then
-//        completeLatch.await(); // 모든 요청 완료 대기
-//
-//        // 모든 요청이 성공적으로 처리되었는지 확인
-//        for (CompletableFuture<ProcessingResult> future : futures) {
-//            ProcessingResult result = future.get();
-//            assertThat(result.isSuccess()).isTrue();
-//        }
-//
-//        executor.shutdown();
-//    }
-//
-//    @Test
-//    void AI_클라이언트_예외_처리_테스트() throws Exception {
-//        // Given
-//        ProcessingRequest request = createImageAnalysisRequest();
-//
-//        when(imageAIClient.analyze(any(ProcessingRequest.class)))
-//                .thenThrow(new AIAnalysisClient.AIAnalysisException(
-//                    "AI 분석 실패", "AI301", true));
-//
-//        // When & Then
-//        assertThatThrownBy(() -> scheduler.scheduleAndProcess(request))
-//                .isInstanceOf(ProcessingScheduler.ProcessingException.class)
-//                .hasMessageContaining("처리 중 오류");
-//    }
-//
-//    @Test
-//    void 큐_상태_조회_테스트() {
-//        // When
-//        ProcessingScheduler.QueueStatus status = scheduler.getQueueStatus();
-//
-//        // Then
-//        assertThat(status).isNotNull();
-//        assertThat(status.totalQueueSize()).isGreaterThanOrEqualTo(0);
-//        assertThat(status.averageProcessingTimeMs()).isGreaterThanOrEqualTo(0);
-//    }
-//
-//    @Test
-//    void 스케줄러_헬스체크_테스트() {
-//        // When
-//        boolean isHealthy = scheduler.isHealthy();
-//
-//        // Then
-//        assertThat(isHealthy).isTrue();
-//    }
-//
-//    // TODO: 개발자 C가 추가할 테스트 케이스들:
-//    // - 이미지/텍스트 분리된 큐 테스트 (이미지와 텍스트 요청이 각각의 큐에 들어가는지)
-//    // - 이미지/텍스트 분리된 락 테스트 (이미지 락과 텍스트 락이 독립적으로 동작하는지)
-//    // - 텍스트 처리 요청 테스트 (TextProcessingRequest 처리)
-//    // - 동시 이미지+텍스트 요청 독립성 테스트 (서로 다른 AI 컨테이너로 동시 처리)
-//    // - 요청 취소 테스트
-//    // - 타임아웃 처리 테스트
-//    // - 메모리 사용량 모니터링 테스트
-//    // - 부하 테스트 (대량 요청 처리)
-//    // - 데드락 방지 테스트
-//
-//    /**
-//     * 테스트용 이미지 분석 요청 생성
-//     */
-//    private ImageProcessingRequest createImageAnalysisRequest() {
-//        return ImageProcessingRequest.builder()
-//                .requestId("test-image-" + System.currentTimeMillis())
-//                .priority(ProcessingRequest.Priority.NORMAL)
-//                .timestamp(LocalDateTime.now())
-//                .sessionId("test-session")
-//                .elementId("img_test_" + System.currentTimeMillis())
-//                .pageUrl("https://test.example.com")
-//                .imageData("test_image_content".getBytes())
-//                .mimeType("image/jpeg")
-//                .fileName("test_image.jpg")
-//                .size(1024L)
-//                .imageMetadata(Map.of("width", 800, "height", 600))
-//                .build();
-//    }
-//
-//    /**
-//     * 테스트용 일반 우선순위 요청 생성
-//     */
-//    private ImageProcessingRequest createNormalPriorityRequest() {
-//        return ImageProcessingRequest.builder()
-//                .requestId("normal-priority-request")
-//                .priority(ProcessingRequest.Priority.NORMAL)
-//                .timestamp(LocalDateTime.now())
-//                .sessionId("test-session")
-//                .elementId("img_normal")
-//                .pageUrl("https://test.example.com")
-//                .imageData("normal_image_content".getBytes())
-//                .mimeType("image/png")
-//                .fileName("normal_image.png")
-//                .size(2048L)
-//                .imageMetadata(Map.of("width", 400, "height", 300))
-//                .build();
-//    }
-//
-//    /**
-//     * 테스트용 뷰포트 우선순위 요청 생성
-//     */
-//    private ImageProcessingRequest createViewportPriorityRequest() {
-//        return ImageProcessingRequest.builder()
-//                .requestId("viewport-priority-request")
-//                .priority(ProcessingRequest.Priority.VIEWPORT)
-//                .timestamp(LocalDateTime.now())
-//                .sessionId("test-session")
-//                .elementId("img_viewport")
-//                .pageUrl("https://test.example.com")
-//                .imageData("viewport_image_content".getBytes())
-//                .mimeType("image/webp")
-//                .fileName("viewport_image.webp")
-//                .size(3072L)
-//                .imageMetadata(Map.of("width", 1200, "height", 800, "inViewport", true))
-//                .build();
-//    }
-//
-//    /**
-//     * 테스트용 Mock 분석 결과 생성
-//     */
-//    private AnalysisResult createMockAnalysisResult() {
-//        return AnalysisResult.builder()
-//                .success(true)
-//                .isHateful(false)
-//                .confidenceScore(0.95)
-//                .detectedCategories(List.of())
-//                .hatefulRanges(List.of())
-//                .hatefulRegions(List.of())
-//                .additionalData(Map.of())
-//                .build();
-//    }
-//}
\ No newline at end of file
+package backend.SSAFY_PTJ2.application.scheduler;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.TextProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
+import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
+import backend.SSAFY_PTJ2.domain.textfilter.dto.TextAIRequest;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.config.ProcessingSchedulerProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.ImageAIWebClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.TextAIWebClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.ImageAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.TextAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.converter.ImageAnalysisConverterImpl;
+import backend.SSAFY_PTJ2.infrastructure.ai.resilience.ResilientAICaller;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 마이크로 배치 스케줄러 테스트 - 개발자 C 담당
+ *
+ * MockWebServer로 띄운 가짜 AI 컨테이너에 실제 WebClient로 요청하고,
+ * AI 컨테이너가 받은 배치 크기와 요청별로 되돌아온 결과를 검증합니다.
+ * - 이미지: 내용이 "bad"로 시작하면 crime, 아니면 normal
+ * - 텍스트: "바보"가 포함된 요소만 IN으로 필터링
+ */
+class SynchronousProcessingSchedulerTest {
+
+    private static final Pattern PART_NAME = Pattern.compile("name=\"([^\"]+)\"");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> imageBatchSizes = new CopyOnWriteArrayList<>();
+    private final List<Integer> textBatchSizes = new CopyOnWriteArrayList<>();
+    private final List<Map<String, Boolean>> textBatchCategories = new CopyOnWriteArrayList<>();
+
+    private MockWebServer imageServer;
+    private MockWebServer textServer;
+    private AIClientProperties aiClientProperties;
+    private ProcessingSchedulerProperties schedulerProperties;
+    private SynchronousProcessingScheduler scheduler;
+
+    // 느린 AI 컨테이너 흉내 (설정되면 응답 전에 대기)
+    private volatile CountDownLatch aiGate;
+    private volatile CountDownLatch aiEntered;
+    private volatile boolean imageServerError;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageServer = new MockWebServer();
+        imageServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return fakeImageAI(request);
+            }
+        });
+        imageServer.start();
+
+        textServer = new MockWebServer();
+        textServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return fakeTextAI(request);
+            }
+        });
+        textServer.start();
+
+        aiClientProperties = new AIClientProperties();
+        aiClientProperties.getRetry().setMaxAttempts(0);
+
+        schedulerProperties = new ProcessingSchedulerProperties();
+        schedulerProperties.setRequestTimeout(Duration.ofSeconds(30));
+        schedulerProperties.getImage().setLinger(Duration.ofMillis(200));
+        schedulerProperties.getText().setLinger(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (aiGate != null) {
+            aiGate.countDown();
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        imageServer.shutdown();
+        textServer.shutdown();
+    }
+
+    @Test
+    void 여러_소켓의_이미지_요청을_하나의_배치로_전송하고_요청별로_분배() throws Exception {
+        // Given
+        startScheduler();
+        ExecutorService requesters = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When - 서로 다른 탭이 같은 DOM ID(img-1)로 동시에 요청
+        List<Future<ProcessingResult>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ImageProcessingRequest request = imageRequest("socket-" + i, ProcessingRequest.Priority.NORMAL,
+                image("img-1", (i % 2 == 0 ? "bad-" : "ok-") + i));
+            results.add(requesters.submit(() -> {
+                start.await();
+                return scheduler.scheduleAndProcess(request);
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (int i = 0; i < results.size(); i++) {
+            ProcessingResult result = results.get(i).get(10, TimeUnit.SECONDS);
+            assertThat(result.getRequestId()).isEqualTo("socket-" + i);
+            assertThat(result.getAnalysisResult().getImageResults()).hasSize(1);
+            assertThat(result.getAnalysisResult().getImageResults().get(0).getImageId()).isEqualTo("img-1");
+            assertThat(result.getAnalysisResult().getImageResults().get(0).isHateful()).isEqualTo(i % 2 == 0);
+        }
+        assertThat(imageBatchSizes).hasSizeLessThan(8);
+        assertThat(imageBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(8);
+        assertThat(imageBatchSizes.stream().mapToInt(Integer::intValue).max().orElse(0)).isGreaterThan(1);
+        assertThat(scheduler.getQueueStatus().dispatchedBatches()).isEqualTo(imageBatchSizes.size());
+        requesters.shutdownNow();
+    }
+
+    @Test
+    void 배치는_항목수와_바이트_한도를_넘지_않음() throws Exception {
+        // Given - 이미지 4바이트씩, 항목 4개 / 12바이트 한도 → 바이트 한도로 3개씩
+        schedulerProperties.getImage().setMaxBatchSize(4);
+        schedulerProperties.getImage().setMaxBatchBytes(12);
+        startScheduler();
+
+        // When
+        List<CompletableFuture<ProcessingResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(scheduler.scheduleAndProcessAsync(
+                imageRequest("socket-" + i, ProcessingRequest.Priority.NORMAL, image("img-" + i, "ok-" + i))));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(imageBatchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(3));
+        assertThat(imageBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    void 동시_요청자_500명의_텍스트를_배치로_묶어_처리() throws Exception {
+        // Given
+        schedulerProperties.getText().setMaxBatchSize(64);
+        startScheduler();
+        int requesterCount = 500;
+        ExecutorService requesters = Executors.newFixedThreadPool(requesterCount);
+        CountDownLatch ready = new CountDownLatch(requesterCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When - 모든 요청자가 같은 elementId(title, body)를 사용
+        List<Future<ProcessingResult>> results = new ArrayList<>();
+        for (int i = 0; i < requesterCount; i++) {
+            TextProcessingRequest request = textRequest("socket-" + i,
+                i % 3 == 0 ? "user-" + i + " 너 바보냐" : "user-" + i + " 반가워요",
+                "user-" + i + " 오늘 날씨 좋네요");
+            results.add(requesters.submit(() -> {
+                ready.countDown();
+                start.await();
+                return scheduler.scheduleAndProcess(request, null);
+            }));
+        }
+        ready.await(10, TimeUnit.SECONDS);
+        start.countDown();
+
+        // Then
+        for (int i = 0; i < requesterCount; i++) {
+            ProcessingResult result = results.get(i).get(30, TimeUnit.SECONDS);
+            List<AnalysisResult.TextAnalysisItem> textResults = result.getAnalysisResult().getTextResults();
+            if (i % 3 == 0) {
+                assertThat(textResults).extracting(AnalysisResult.TextAnalysisItem::getElementId).containsExactly("title");
+                assertThat(textResults.get(0).getOriginalLength()).isEqualTo(("user-" + i + " 너 바보냐").length());
+            } else {
+                assertThat(textResults).isEmpty();
+            }
+        }
+        assertThat(textBatchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(64));
+        assertThat(textBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(requesterCount * 2);
+        assertThat(textServer.getRequestCount()).isLessThan(requesterCount / 4);
+
+        ProcessingScheduler.QueueStatus status = scheduler.getQueueStatus();
+        assertThat(status.totalQueueSize()).isZero();
+        assertThat(status.averageBatchSize()).isGreaterThan(4.0);
+        requesters.shutdownNow();
+    }
+
+    @Test
+    void 필터_카테고리가_다른_텍스트는_다른_배치로_전송() throws Exception {
+        // Given
+        startScheduler();
+        UserSettings insultOnly = UserSettings.builder()
+            .sessionId("session-a")
+            .textFilterSettings(UserSettings.TextFilterSettings.builder()
+                .enabled(true)
+                .enabledCategories(List.of("INSULT"))
+                .build())
+            .build();
+
+        // When
+        CompletableFuture<ProcessingResult> first = scheduler.scheduleAndProcessAsync(
+            textRequest("socket-a", "너 바보냐", "안녕"), insultOnly);
+        CompletableFuture<ProcessingResult> second = scheduler.scheduleAndProcessAsync(
+            textRequest("socket-b", "너 바보냐", "안녕"), null);
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(textBatchSizes).containsExactly(2, 2);
+        assertThat(textBatchCategories).extracting(categories -> categories.get("VI")).containsExactlyInAnyOrder(false, true);
+        assertThat(first.get().getAnalysisResult().getTextResults()).hasSize(1);
+        assertThat(second.get().getAnalysisResult().getTextResults()).hasSize(1);
+    }
+
+    @Test
+    void 대기_중인_요청_취소와_큐_상태_조회() throws Exception {
+        // Given - 첫 배치가 AI에서 처리 중인 동안 다음 요청들은 큐에서 대기
+        aiGate = new CountDownLatch(1);
+        aiEntered = new CountDownLatch(1);
+        schedulerProperties.getImage().setLinger(Duration.ZERO);
+        startScheduler();
+
+        CompletableFuture<ProcessingResult> inFlight = scheduler.scheduleAndProcessAsync(
+            imageRequest("req-a", ProcessingRequest.Priority.NORMAL, image("img-a", "ok-a")));
+        assertThat(aiEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ProcessingResult> cancelled = scheduler.scheduleAndProcessAsync(
+            imageRequest("req-b", ProcessingRequest.Priority.NORMAL, image("img-b", "ok-b")));
+        CompletableFuture<ProcessingResult> viewport = scheduler.scheduleAndProcessAsync(
+            imageRequest("req-c", ProcessingRequest.Priority.HIGH, image("img-c", "bad-c")));
+
+        ProcessingScheduler.QueueStatus status = scheduler.getQueueStatus();
+        assertThat(status.totalQueueSize()).isEqualTo(2);
+        assertThat(status.viewportQueueSize()).isEqualTo(1);
+        assertThat(status.normalQueueSize()).isEqualTo(1);
+        assertThat(status.imageClientLocked()).isTrue();
+        assertThat(status.textClientLocked()).isFalse();
+
+        // When
+        boolean cancelResult = scheduler.cancelRequest("req-b");
+        aiGate.countDown();
+
+        // Then
+        assertThat(cancelResult).isTrue();
+        assertThat(cancelled).isCancelled();
+        assertThat(scheduler.cancelRequest("unknown")).isFalse();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(viewport.get(5, TimeUnit.SECONDS).getAnalysisResult().getImageResults().get(0).isHateful()).isTrue();
+        assertThat(imageBatchSizes).containsExactly(1, 1); // 취소된 요청은 AI로 전송되지 않음
+        assertThat(scheduler.getQueueStatus().totalQueueSize()).isZero();
+    }
+
+    @Test
+    void AI_오류시_배치의_모든_요청이_실패() throws Exception {
+        // Given
+        imageServerError = true;
+        startScheduler();
+
+        // When
+        CompletableFuture<ProcessingResult> first = scheduler.scheduleAndProcessAsync(
+            imageRequest("req-a", ProcessingRequest.Priority.NORMAL, image("img-a", "ok-a")));
+        CompletableFuture<ProcessingResult> second = scheduler.scheduleAndProcessAsync(
+            imageRequest("req-b", ProcessingRequest.Priority.NORMAL, image("img-b", "ok-b")));
+
+        // Then
+        assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(Exception.class);
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(Exception.class);
+        assertThat(imageServer.getRequestCount()).isEqualTo(1);
+        assertThat(scheduler.isHealthy()).isTrue();
+    }
+
+    @Test
+    void 잘못된_요청은_배치에_넣지_않고_즉시_거절() {
+        // Given
+        startScheduler();
+        ImageProcessingRequest unsupported = imageRequest("req-bad", ProcessingRequest.Priority.NORMAL,
+            ImageProcessingRequest.ImageData.builder()
+                .data("ok".getBytes(StandardCharsets.UTF_8))
+                .mimeType("application/pdf")
+                .size(2)
+                .elementId("img-bad")
+                .build());
+
+        // When & Then
+        assertThatThrownBy(() -> scheduler.scheduleAndProcess(unsupported))
+            .isInstanceOf(ProcessingScheduler.ProcessingException.class)
+            .extracting(e -> ((ProcessingScheduler.ProcessingException) e).getErrorCode())
+            .isEqualTo("VALIDATION_ERROR");
+        assertThat(imageServer.getRequestCount()).isZero();
+    }
+
+    @Test
+    void 종료된_스케줄러는_비정상으로_보고() {
+        // Given
+        startScheduler();
+        assertThat(scheduler.isHealthy()).isTrue();
+
+        // When
+        scheduler.shutdown();
+
+        // Then
+        assertThat(scheduler.isHealthy()).isFalse();
+        assertThatThrownBy(() -> scheduler.scheduleAndProcess(
+            imageRequest("req-late", ProcessingRequest.Priority.NORMAL, image("img-late", "ok"))))
+            .isInstanceOf(ProcessingScheduler.ProcessingException.class);
+    }
+
+    private void startScheduler() {
+        ImageAIWebClient imageAIWebClient = new ImageAIWebClient(
+            WebClient.create(imageServer.url("/").toString()),
+            new ResilientAICaller("image", aiClientProperties), new ImageAnalysisConverterImpl());
+        TextAIWebClient textAIWebClient = new TextAIWebClient(
+            WebClient.create(textServer.url("/").toString()), new ResilientAICaller("text", aiClientProperties));
+        scheduler = new SynchronousProcessingScheduler(
+            new ImageAIAnalysisClient(imageAIWebClient, aiClientProperties),
+            new TextAIAnalysisClient(textAIWebClient, aiClientProperties),
+            schedulerProperties);
+        scheduler.start();
+    }
+
+    /**
+     * 멀티파트 파트 이름(이미지 ID)별로 판정해 /predict/batch 응답 생성
+     */
+    private MockResponse fakeImageAI(RecordedRequest request) throws InterruptedException {
+        if (aiEntered != null) {
+            aiEntered.countDown();
+        }
+        if (aiGate != null) {
+            aiGate.await(5, TimeUnit.SECONDS);
+        }
+        if (imageServerError) {
+            return new MockResponse().setResponseCode(503).setBody("overloaded");
+        }
+
+        String contentType = request.getHeader("Content-Type");
+        String boundary = "--" + contentType.substring(contentType.indexOf("boundary=") + "boundary=".length()).split(";")[0];
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String part : request.getBody().readUtf8().split(Pattern.quote(boundary))) {
+            Matcher matcher = PART_NAME.matcher(part);
+            int bodyStart = part.indexOf("\r\n\r\n");
+            if (!matcher.find() || bodyStart < 0) {
+                continue;
+            }
+            String content = part.substring(bodyStart + 4).strip();
+            results.add(Map.of(
+                "id", matcher.group(1),
+                "filename", "image.png",
+                "label", content.startsWith("bad") ? "crime" : "normal",
+                "prob", 0.9));
+        }
+        imageBatchSizes.add(results.size());
+
+        return json(Map.of(
+            "results", results,
+            "imageCount", Map.of("processedImages", results.size(), "skippedImages", 0)));
+    }
+
+    /**
+     * "바보"가 포함된 요소만 필터링해 /filter_page 응답 생성
+     */
+    private MockResponse fakeTextAI(RecordedRequest request) {
+        try {
+            TextAIRequest aiRequest = objectMapper.readValue(request.getBody().readUtf8(), TextAIRequest.class);
+            textBatchSizes.add(aiRequest.getTextElements().size());
+            textBatchCategories.add(aiRequest.getTextFilterCategory());
+
+            List<Map<String, Object>> filteredElements = new ArrayList<>();
+            for (TextAIRequest.TextElement element : aiRequest.getTextElements()) {
+                String text = element.getTexts().get(0).getText();
+                int index = text.indexOf("바보");
+                if (index >= 0) {
+                    filteredElements.add(Map.of(
+                        "elementId", element.getElementId(),
+                        "filteredTexts", List.of(Map.of(
+                            "text", "바보",
+                            "sIdx", index,
+                            "eIdx", index + 2,
+                            "detectedLabels", List.of("IN"),
+                            "confidence", Map.of("IN", 0.93)))));
+                }
+            }
+            return json(Map.of("pageUrl", "https://example.com", "filteredElements", filteredElements,
+                "processingTime", 0.01, "totalTexts", aiRequest.getTextElements().size()));
+        } catch (Exception e) {
+            return new MockResponse().setResponseCode(400).setBody(e.getMessage());
+        }
+    }
+
+    private MockResponse json(Object body) {
+        try {
+            return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(objectMapper.writeValueAsString(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ImageProcessingRequest imageRequest(String requestId, ProcessingRequest.Priority priority,
+                                                ImageProcessingRequest.ImageData... images) {
+        return ImageProcessingRequest.builder()
+            .requestId(requestId)
+            .priority(priority)
+            .timestamp(LocalDateTime.now())
+            .sessionId("session-" + requestId)
+            .imageDataList(List.of(images))
+            .build();
+    }
+
+    private ImageProcessingRequest.ImageData image(String elementId, String content) {
+        byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        return ImageProcessingRequest.ImageData.builder()
+            .data(data)
+            .mimeType("image/png")
+            .size(data.length)
+            .elementId(elementId)
+            .build();
+    }
+
+    private TextProcessingRequest textRequest(String requestId, String title, String body) {
+        return TextProcessingRequest.builder()
+            .requestId(requestId)
+            .priority(ProcessingRequest.Priority.NORMAL)
+            .timestamp(LocalDateTime.now())
+            .sessionId("session-" + requestId)
+            .pageUrl("https://example.com")
+            .textDataList(List.of(
+                TextProcessingRequest.TextData.builder().elementId("title").content(title).build(),
+                TextProcessingRequest.TextData.builder().elementId("body").content(body).build()
+            ))
+            .build();
+    }
+}
@@ -0,0 +1,285 @@
+package backend.SSAFY_PTJ2.application.scheduler;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ImageProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingRequest;
+import backend.SSAFY_PTJ2.domain.common.dto.ProcessingResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ViewportHint;
+import backend.SSAFY_PTJ2.domain.common.service.ProcessingScheduler;
+import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIRequest;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.config.ProcessingSchedulerProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.ImageAIClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.TextAIClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.ImageAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.TextAIAnalysisClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 뷰포트 기반 우선순위 스케줄링 테스트 - 개발자 C 담당
+ *
+ * 시간을 직접 진행시키는 시계와 한 번에 한 배치(이미지 1장)씩만 응답하는 가짜 AI 컨테이너로
+ * 페이지 스크롤 시나리오를 재현하고, AI 컨테이너가 이미지를 받은 순서를 검증합니다.
+ * 첫 요청(blocker)이 AI를 점유하는 동안 나머지 요청을 큐에 쌓고, 한 장씩 풀어 주며 다음으로 나간 이미지를 확인합니다.
+ */
+class ViewportPrioritySchedulingTest {
+
+    private static final String SESSION = "session-1";
+
+    private final SimulatedClock clock = new SimulatedClock();
+    private final BlockingQueue<String> dispatched = new LinkedBlockingQueue<>();
+    private final Semaphore aiGate = new Semaphore(0);
+    private SynchronousProcessingScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ProcessingSchedulerProperties properties = new ProcessingSchedulerProperties();
+        properties.getImage().setMaxBatchSize(1);
+        properties.getImage().setLinger(Duration.ZERO);
+
+        AIClientProperties aiClientProperties = new AIClientProperties();
+        scheduler = new SynchronousProcessingScheduler(
+            new ImageAIAnalysisClient(new GatedImageAI(), aiClientProperties),
+            new TextAIAnalysisClient(mock(TextAIClient.class), aiClientProperties),
+            properties,
+            clock);
+        scheduler.start();
+
+        // AI 컨테이너를 점유해 이후 요청이 큐에 쌓이도록 함
+        submit(SESSION, "blocker", visible(800, 600));
+        assertThat(dispatched.poll(5, TimeUnit.SECONDS)).isEqualTo("blocker");
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiGate.release(100);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 페이지_로드_시_화면_안의_큰_이미지부터_분석() throws Exception {
+        // Given - 문서 순서대로 이미지 요청 도착 (모두 같은 시각)
+        submit(SESSION, "thumb-far", offscreen(3000, 100, 100, 0));
+        submit(SESSION, "thumb-mid", offscreen(1500, 100, 100, 0));
+        submit(SESSION, "thumb-near", offscreen(800, 100, 100, 0));
+        submit(SESSION, "hero", visible(800, 600));
+        submit(SESSION, "icon", visible(32, 32));
+        submit(SESSION, "approaching", offscreen(1200, 640, 480, 1500)); // 1초 뒤 화면 진입 예상
+
+        // When
+        List<String> order = drain(6);
+
+        // Then - 화면 안·진입 예정 → 작은 아이콘 → 가까운 썸네일 순
+        assertThat(order).containsExactly("hero", "approaching", "icon", "thumb-near", "thumb-mid", "thumb-far");
+    }
+
+    @Test
+    void 화면_밖_이미지도_페널티_상한만큼_기다리면_새_요청보다_먼저_분석() throws Exception {
+        // Given - 아주 먼 이미지 하나 (페널티 상한 10초)
+        submit(SESSION, "far-below", offscreen(50_000, 640, 480, 0));
+
+        // When - 1초마다 화면 안 이미지가 새로 들어오고 AI는 1초에 한 장씩 처리
+        List<String> order = new ArrayList<>();
+        for (int second = 1; second <= 12; second++) {
+            clock.advance(Duration.ofSeconds(1));
+            submit(SESSION, "visible-" + second, visible(800, 600));
+            order.add(next());
+        }
+
+        // Then - 10초 동안은 화면 안 이미지가 앞서지만 그 뒤로는 밀리지 않음
+        assertThat(order.subList(0, 9)).allMatch(tag -> tag.startsWith("visible-"));
+        assertThat(order.get(9)).isEqualTo("far-below");
+        assertThat(order.subList(10, 12)).containsExactly("visible-10", "visible-11");
+    }
+
+    @Test
+    void 스크롤로_화면에_들어온_이미지는_대기_순서가_앞당겨짐() throws Exception {
+        // Given
+        submit(SESSION, "section-2", offscreen(2000, 640, 480, 0));
+        submit(SESSION, "section-4", offscreen(4000, 640, 480, 0));
+        clock.advance(Duration.ofMillis(300));
+
+        // When - 사용자가 section-4로 빠르게 스크롤
+        int reprioritized = scheduler.reprioritize(SESSION, Map.of(
+            "section-4", ViewportHint.builder().viewportDistance(0).area(640 * 480).build(),
+            "section-2", ViewportHint.builder().viewportDistance(1800).area(640 * 480).scrollVelocity(-3000).build(),
+            "unknown", ViewportHint.builder().viewportDistance(0).build()));
+
+        // Then
+        assertThat(reprioritized).isEqualTo(2);
+        assertThat(drain(2)).containsExactly("section-4", "section-2");
+        assertThat(scheduler.reprioritize("other-session", Map.of(
+            "section-2", ViewportHint.builder().viewportDistance(0).build()))).isZero();
+    }
+
+    @Test
+    void 페이지_이동_시_해당_세션의_대기_요청만_취소() throws Exception {
+        // Given
+        LocalDateTime beforeNavigation = LocalDateTime.now(clock);
+        CompletableFuture<ProcessingResult> first = submit(SESSION, "old-page-1", visible(800, 600));
+        CompletableFuture<ProcessingResult> second = submit(SESSION, "old-page-2", offscreen(900, 300, 300, 0));
+        CompletableFuture<ProcessingResult> otherUser = submit("session-2", "other-user", offscreen(900, 300, 300, 0));
+        clock.advance(Duration.ofMillis(10));
+
+        // When
+        int cancelled = scheduler.cancelSession(SESSION);
+
+        // Then - blocker(처리 중)까지 세션 요청 3건 취소, 다른 사용자 요청은 유지
+        assertThat(cancelled).isEqualTo(3);
+        assertThat(first).isCancelled();
+        assertThat(second).isCancelled();
+        assertThat(otherUser).isNotDone();
+
+        // 이동 전에 받았지만 분석 워커 큐에 있다가 늦게 들어온 요청은 거절
+        CompletableFuture<ProcessingResult> late = scheduler.scheduleAndProcessAsync(
+            request(SESSION, "old-page-late", visible(800, 600), beforeNavigation));
+        assertThatThrownBy(late::get)
+            .isInstanceOf(ExecutionException.class)
+            .cause()
+            .isInstanceOf(ProcessingScheduler.ProcessingException.class)
+            .extracting("errorCode").isEqualTo("REQUEST_CANCELLED");
+
+        // 이동 후 새 페이지 요청은 정상 처리
+        clock.advance(Duration.ofMillis(10));
+        CompletableFuture<ProcessingResult> newPage = submit(SESSION, "new-page", visible(800, 600));
+        assertThat(drain(2)).containsExactly("new-page", "other-user");
+        aiGate.release();
+        assertThat(newPage.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(otherUser.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+    }
+
+    private CompletableFuture<ProcessingResult> submit(String sessionId, String tag, Map<String, Object> metadata) {
+        return scheduler.scheduleAndProcessAsync(request(sessionId, tag, metadata, LocalDateTime.now(clock)));
+    }
+
+    private ImageProcessingRequest request(String sessionId, String tag, Map<String, Object> metadata, LocalDateTime receivedAt) {
+        byte[] data = tag.getBytes(StandardCharsets.UTF_8);
+        return ImageProcessingRequest.builder()
+            .requestId("req-" + tag)
+            .priority(ProcessingRequest.Priority.NORMAL)
+            .timestamp(receivedAt)
+            .sessionId(sessionId)
+            .imageDataList(List.of(ImageProcessingRequest.ImageData.builder()
+                .data(data)
+                .mimeType("image/png")
+                .fileName(tag + ".png")
+                .size(data.length)
+                .elementId(tag)
+                .metadata(metadata)
+                .build()))
+            .build();
+    }
+
+    private Map<String, Object> visible(int width, int height) {
+        return Map.of("inViewport", true, "width", width, "height", height);
+    }
+
+    private Map<String, Object> offscreen(int distance, int width, int height, int scrollVelocity) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("viewportDistance", distance);
+        metadata.put("width", width);
+        metadata.put("height", height);
+        metadata.put("scrollVelocity", scrollVelocity);
+        return metadata;
+    }
+
+    /**
+     * 처리 중인 배치를 끝내고 다음으로 AI에 전달된 이미지 반환
+     */
+    private String next() throws InterruptedException {
+        aiGate.release();
+        String tag = dispatched.poll(5, TimeUnit.SECONDS);
+        assertThat(tag).as("다음 배치가 전송되지 않음").isNotNull();
+        return tag;
+    }
+
+    private List<String> drain(int count) throws InterruptedException {
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            order.add(next());
+        }
+        return order;
+    }
+
+    /**
+     * 받은 이미지(내용이 태그)를 기록한 뒤 테스트가 풀어 줄 때까지 응답하지 않는 AI 컨테이너
+     */
+    private class GatedImageAI implements ImageAIClient {
+
+        @Override
+        public AnalysisResult analyze(ImageAIRequest request) {
+            List<AnalysisResult.ImageAnalysisItem> items = new ArrayList<>();
+            for (ImageAIRequest.ImageFile file : request.getImageFiles()) {
+                dispatched.add(new String(file.getPayload().toByteArray(), StandardCharsets.UTF_8));
+                items.add(AnalysisResult.ImageAnalysisItem.builder().imageId(file.getId()).isHateful(false).build());
+            }
+            try {
+                aiGate.tryAcquire(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return AnalysisResult.builder().success(true).analysisType("IMAGE").imageResults(items).build();
+        }
+
+        @Override
+        public boolean health() {
+            return true;
+        }
+    }
+
+    /**
+     * 테스트가 직접 진행시키는 시계
+     */
+    private static class SimulatedClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(Instant.parse("2025-01-01T00:00:00Z").toEpochMilli());
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
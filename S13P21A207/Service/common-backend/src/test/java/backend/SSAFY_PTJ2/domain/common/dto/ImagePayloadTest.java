@@ -0,0 +1,129 @@
+package backend.SSAFY_PTJ2.domain.common.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이미지 바이너리 뷰 테스트
+ */
+class ImagePayloadTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13};
+
+    @Test
+    void 바이너리_마커가_붙은_프레임은_복사_없이_마커만_건너뜀() throws Exception {
+        // Given
+        byte[] frame = prefixed(PNG);
+
+        // When
+        ImagePayload payload = ImagePayload.fromSocketFrame(frame);
+
+        // Then
+        assertThat(payload.length()).isEqualTo(PNG.length);
+        assertThat(payload.toByteArray()).isEqualTo(PNG);
+        assertThat(payload.sniffMimeType()).isEqualTo("image/png");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        payload.writeTo(out);
+        assertThat(out.toByteArray()).isEqualTo(PNG);
+        assertThat(payload.asInputStream().readAllBytes()).isEqualTo(PNG);
+
+        // 원본 프레임을 공유하므로 원본 변경이 뷰에 그대로 보임 (복사하지 않았다는 증거)
+        frame[1] = 0x00;
+        assertThat(payload.sniffMimeType()).isNull();
+    }
+
+    @Test
+    void 마커가_없는_프레임은_그대로_사용() {
+        // When
+        ImagePayload payload = ImagePayload.fromSocketFrame(PNG);
+
+        // Then
+        assertThat(payload.length()).isEqualTo(PNG.length);
+        assertThat(payload.toByteArray()).isEqualTo(PNG);
+        assertThat(payload.sniffMimeType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void 마커만_있거나_비어있는_프레임은_빈_페이로드() {
+        assertThat(ImagePayload.fromSocketFrame(new byte[]{0x04}).isEmpty()).isTrue();
+        assertThat(ImagePayload.fromSocketFrame(new byte[0]).isEmpty()).isTrue();
+        assertThat(ImagePayload.fromSocketFrame(null).isEmpty()).isTrue();
+        assertThat(ImagePayload.fromSocketFrame(new byte[]{0x04}).sniffMimeType()).isNull();
+    }
+
+    @Test
+    void 마커_유무와_관계없이_같은_이미지는_같은_해시() {
+        // When
+        String clean = CachedAnalysisItem.contentHash(ImagePayload.fromSocketFrame(PNG));
+        String marked = CachedAnalysisItem.contentHash(ImagePayload.fromSocketFrame(prefixed(PNG)));
+
+        // Then
+        assertThat(marked).isEqualTo(clean).isEqualTo(CachedAnalysisItem.contentHash(PNG));
+    }
+
+    @Test
+    void ByteBuffer_뷰는_읽기_전용이고_구간만_노출() {
+        // Given
+        ImagePayload payload = ImagePayload.of(prefixed(PNG), 1, 8);
+
+        // When
+        ByteBuffer first = payload.asByteBuffer();
+        first.get(new byte[4]);
+        ByteBuffer second = payload.asByteBuffer();
+
+        // Then
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(second.remaining()).isEqualTo(8); // 뷰마다 position이 독립적
+        assertThat(second.get(0)).isEqualTo((byte) 0x89);
+    }
+
+    @Test
+    void 범위를_벗어난_구간은_거부() {
+        assertThatThrownBy(() -> ImagePayload.of(PNG, 4, PNG.length))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("magicBytes")
+    void 매직_바이트로_이미지_형식_판별(byte[] header, String expectedMimeType) {
+        assertThat(ImagePayload.of(header).sniffMimeType()).isEqualTo(expectedMimeType);
+        assertThat(ImagePayload.fromSocketFrame(prefixed(header)).sniffMimeType()).isEqualTo(expectedMimeType);
+    }
+
+    static Stream<Arguments> magicBytes() {
+        return Stream.of(
+            Arguments.of(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}, "image/jpeg"),
+            Arguments.of(PNG, "image/png"),
+            Arguments.of(ascii("GIF89a"), "image/gif"),
+            Arguments.of(ascii("RIFF\0\0\0\0WEBPVP8 "), "image/webp"),
+            Arguments.of(ascii("\0\0\0\u001cftypavif"), "image/avif"),
+            Arguments.of(ascii("BM\0\0"), "image/bmp"),
+            Arguments.of(new byte[]{'I', 'I', 0x2A, 0x00}, "image/tiff"),
+            Arguments.of(new byte[]{0x00, 0x00, 0x01, 0x00, 0x01}, "image/x-icon"),
+            Arguments.of(ascii("<svg xmlns="), null),
+            Arguments.of(ascii("test data"), null)
+        );
+    }
+
+    private static byte[] prefixed(byte[] data) {
+        byte[] frame = new byte[data.length + 1];
+        frame[0] = 0x04;
+        System.arraycopy(data, 0, frame, 1, data.length);
+        return frame;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,207 @@
+package backend.SSAFY_PTJ2.domain.common.service;
+
+import backend.SSAFY_PTJ2.application.usecase.PreProcessingUseCaseImpl;
+import backend.SSAFY_PTJ2.domain.common.dto.UserSettings;
+import backend.SSAFY_PTJ2.domain.imagefilter.ImageLabels;
+import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageFilterSettings;
+import backend.SSAFY_PTJ2.domain.textfilter.TextLabels;
+import backend.SSAFY_PTJ2.domain.textfilter.dto.TextFilterSettings;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import backend.SSAFY_PTJ2.global.config.TextPrefilterProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.adapter.TextAIAnalysisClient;
+import backend.SSAFY_PTJ2.infrastructure.cache.PerceptualImageCache;
+import backend.SSAFY_PTJ2.infrastructure.prefilter.TextPrefilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 필터 설정 메모리 적재·전파 테스트
+ *
+ * 여러 노드가 함께 쓰는 Redis를 메모리 저장소와 pub/sub 흉내로 대체하고,
+ * 노드별 Redis 조회 횟수로 분석 요청 경로가 Redis를 읽지 않는지 확인합니다.
+ * 저장 값은 실제와 같은 JSON 직렬화를 거칩니다.
+ */
+class SessionFilterServiceTest {
+
+    private static final String SESSION = "session-1";
+    private static final GenericJackson2JsonRedisSerializer SERIALIZER = new GenericJackson2JsonRedisSerializer();
+
+    // 노드들이 공유하는 Redis
+    private final Map<String, byte[]> redis = new ConcurrentHashMap<>();
+    private final List<Node> nodes = new CopyOnWriteArrayList<>();
+
+    @Test
+    void 연결_초기화_후_분석_요청에서는_Redis를_읽지_않음() {
+        // Given - 이전에 저장된 설정
+        redis.put("filter:image:" + SESSION, SERIALIZER.serialize(
+            new ImageFilterSettings(SESSION, Set.of(ImageLabels.CRIME), false)));
+        redis.put("filter:text:" + SESSION, SERIALIZER.serialize(
+            new TextFilterSettings(SESSION, Set.of(TextLabels.INSULT), true)));
+        Node node = node();
+        PreProcessingUseCaseImpl preProcessing = preProcessing(node.service);
+
+        // When - connection-init 후 분석 요청 100건
+        node.service.loadSession(SESSION);
+        UserSettings userSettings = null;
+        for (int i = 0; i < 100; i++) {
+            userSettings = preProcessing.getUserSettings(SESSION);
+            node.service.getImageFilterSettings(SESSION); // 처리 후 단계의 조회
+        }
+
+        // Then - 적재할 때 한 번(multiGet)만 읽음
+        assertThat(node.reads.get()).isEqualTo(1);
+        assertThat(userSettings.getImageFilterSettings().getEnabledCategories()).containsExactly("CRIME");
+        assertThat(userSettings.getTextFilterSettings().getEnabledCategories()).containsExactly("INSULT");
+    }
+
+    @Test
+    void 설정이_없는_세션도_한_번만_조회() {
+        // Given
+        Node node = node();
+
+        // When
+        node.service.loadSession(SESSION);
+        ImageFilterSettings image = node.service.getImageFilterSettings(SESSION);
+        TextFilterSettings text = node.service.getTextFilterSettings(SESSION);
+
+        // Then
+        assertThat(node.reads.get()).isEqualTo(1);
+        assertThat(image.getEnabledFilters()).isEmpty();
+        assertThat(text.getEnabledFilters()).isEmpty();
+    }
+
+    @Test
+    void 설정_변경은_메모리에_바로_반영되고_Redis에도_기록() {
+        // Given
+        Node node = node();
+        node.service.loadSession(SESSION);
+
+        // When
+        node.service.saveImageFilterSettings(SESSION, Set.of(ImageLabels.GORE, ImageLabels.HORROR), true);
+
+        // Then - 자기 노드가 발행한 무효화는 무시하므로 다시 읽지 않음
+        assertThat(node.service.getImageFilterSettings(SESSION).getEnabledFilters())
+            .containsExactlyInAnyOrder(ImageLabels.GORE, ImageLabels.HORROR);
+        assertThat(node.reads.get()).isEqualTo(1);
+        assertThat(SERIALIZER.deserialize(redis.get("filter:image:" + SESSION))).isInstanceOf(ImageFilterSettings.class);
+    }
+
+    @Test
+    void 다른_노드에서_바꾼_설정은_무효화_메시지로_전파() {
+        // Given - 두 노드가 같은 세션 설정을 메모리에 보유
+        Node nodeA = node();
+        Node nodeB = node();
+        nodeA.service.saveTextFilterSettings(SESSION, Set.of(TextLabels.INSULT), false);
+        nodeB.service.loadSession(SESSION);
+        assertThat(nodeB.service.getTextFilterSettings(SESSION).getEnabledFilters()).containsExactly(TextLabels.INSULT);
+        int readsBefore = nodeB.reads.get();
+
+        // When - 노드 A에서 설정 변경
+        nodeA.service.saveTextFilterSettings(SESSION, Set.of(TextLabels.VIOLENCE), false);
+
+        // Then - 노드 B는 다음 조회 때 한 번만 다시 읽어 새 설정 사용
+        assertThat(nodeB.service.getTextFilterSettings(SESSION).getEnabledFilters()).containsExactly(TextLabels.VIOLENCE);
+        assertThat(nodeB.service.getTextFilterSettings(SESSION).getEnabledFilters()).containsExactly(TextLabels.VIOLENCE);
+        assertThat(nodeB.reads.get()).isEqualTo(readsBefore + 1);
+    }
+
+    @Test
+    void 연결_해제_시_메모리와_Redis에서_모두_제거() {
+        // Given
+        Node nodeA = node();
+        Node nodeB = node();
+        nodeA.service.saveImageFilterSettings(SESSION, Set.of(ImageLabels.CRIME), false);
+        nodeA.service.saveTextFilterSettings(SESSION, Set.of(TextLabels.INSULT), false);
+        nodeB.service.loadSession(SESSION);
+
+        // When
+        nodeA.service.closeSession(SESSION);
+
+        // Then
+        assertThat(redis).isEmpty();
+        assertThat(nodeA.service.getImageFilterSettings(SESSION).getEnabledFilters()).isEmpty();
+        assertThat(nodeB.service.getTextFilterSettings(SESSION).getEnabledFilters()).isEmpty();
+    }
+
+    private PreProcessingUseCaseImpl preProcessing(SessionFilterService sessionFilterService) {
+        return new PreProcessingUseCaseImpl(sessionFilterService, mock(AnalysisCacheService.class),
+            new AnalysisCacheProperties(), new AIClientProperties(), mock(TextAIAnalysisClient.class),
+            mock(TextPrefilter.class), new TextPrefilterProperties(), mock(PerceptualImageCache.class));
+    }
+
+    /**
+     * 공유 Redis에 연결된 노드 하나 (RedisTemplate은 목, 저장소와 pub/sub은 공유 메모리)
+     */
+    @SuppressWarnings("unchecked")
+    private Node node() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        AtomicInteger reads = new AtomicInteger();
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(SERIALIZER).when(redisTemplate).getValueSerializer();
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+            reads.incrementAndGet();
+            return ((Collection<String>) invocation.getArgument(0)).stream()
+                .map(key -> redis.containsKey(key) ? SERIALIZER.deserialize(redis.get(key)) : null)
+                .toList();
+        });
+        when(valueOperations.get(any())).thenAnswer(invocation -> {
+            reads.incrementAndGet();
+            byte[] value = redis.get((String) invocation.getArgument(0));
+            return value != null ? SERIALIZER.deserialize(value) : null;
+        });
+        doAnswer(invocation -> {
+            redis.put(invocation.getArgument(0), SERIALIZER.serialize(invocation.getArgument(1)));
+            return null;
+        }).when(valueOperations).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redis.remove((String) invocation.getArgument(0)) != null);
+        when(redisTemplate.delete(anyCollection())).thenAnswer(invocation ->
+            ((Collection<String>) invocation.getArgument(0)).stream().filter(key -> redis.remove(key) != null).count());
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+            DefaultMessage message = new DefaultMessage(
+                ((String) invocation.getArgument(0)).getBytes(StandardCharsets.UTF_8),
+                SERIALIZER.serialize(invocation.getArgument(1)));
+            nodes.forEach(node -> node.service.onMessage(message, null));
+            return (long) nodes.size();
+        });
+
+        SessionFilterService service = new SessionFilterService(redisTemplate, mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(service, "useRedis", true);
+        ReflectionTestUtils.setField(service, "sessionTtlHours", 24L);
+        service.subscribeInvalidation();
+
+        Node node = new Node(service, reads);
+        nodes.add(node);
+        return node;
+    }
+
+    private record Node(SessionFilterService service, AtomicInteger reads) {
+    }
+}
@@ -0,0 +1,152 @@
+package backend.SSAFY_PTJ2.infrastructure.ai;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
+import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIRequest;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.infrastructure.ai.converter.ImageAnalysisConverterImpl;
+import backend.SSAFY_PTJ2.infrastructure.ai.resilience.ResilientAICaller;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 페이로드 멀티파트 전송 테스트
+ *
+ * MockWebServer로 띄운 가짜 AI 컨테이너가 실제로 받은 바이트를 확인합니다.
+ */
+class ImageAIWebClientMultipartTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13, 'I', 'H', 'D', 'R'};
+
+    private MockWebServer server;
+    private ImageAIWebClient imageAIWebClient;
+    private final List<byte[]> receivedBodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                receivedBodies.add(request.getBody().readByteArray());
+                if (failuresBeforeSuccess.getAndDecrement() > 0) {
+                    return new MockResponse().setResponseCode(503).setBody("overloaded");
+                }
+                return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody("{\"results\":[{\"id\":\"img-1\",\"filename\":\"img-1.png\",\"label\":\"normal\",\"prob\":0.9}],"
+                        + "\"imageCount\":{\"processedImages\":1,\"skippedImages\":0}}");
+            }
+        });
+        server.start();
+
+        AIClientProperties properties = new AIClientProperties();
+        properties.getRetry().setBackoffMs(1);
+        imageAIWebClient = new ImageAIWebClient(
+            WebClient.create(server.url("/").toString()), new ResilientAICaller("image", properties),
+            new ImageAnalysisConverterImpl());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void 바이너리_마커가_붙은_프레임은_마커_없이_전송() {
+        // Given
+        ImagePayload payload = ImagePayload.fromSocketFrame(prefixed(PNG));
+
+        // When
+        AnalysisResult result = imageAIWebClient.analyze(request(payload));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(receivedBodies).hasSize(1);
+        assertPartBodyIsExactly(receivedBodies.get(0), PNG);
+    }
+
+    @Test
+    void 마커가_없는_프레임은_그대로_전송() {
+        // When
+        imageAIWebClient.analyze(request(ImagePayload.fromSocketFrame(PNG)));
+
+        // Then
+        assertPartBodyIsExactly(receivedBodies.get(0), PNG);
+    }
+
+    @Test
+    void 재시도할_때도_같은_바이트를_다시_전송() {
+        // Given - 첫 요청은 503, 재시도는 성공
+        failuresBeforeSuccess.set(1);
+
+        // When
+        AnalysisResult result = imageAIWebClient.analyze(request(ImagePayload.fromSocketFrame(prefixed(PNG))));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(receivedBodies).hasSize(2);
+        assertPartBodyIsExactly(receivedBodies.get(0), PNG);
+        assertPartBodyIsExactly(receivedBodies.get(1), PNG);
+    }
+
+    private ImageAIRequest request(ImagePayload payload) {
+        return ImageAIRequest.builder()
+            .imageFiles(List.of(ImageAIRequest.ImageFile.builder()
+                .id("img-1")
+                .filename("img-1.png")
+                .payload(payload)
+                .mimeType("image/png")
+                .size(payload.length())
+                .build()))
+            .build();
+    }
+
+    /**
+     * 파트 헤더 끝(빈 줄) 바로 다음부터 다음 경계 직전까지가 정확히 기대한 바이트인지 확인
+     */
+    private void assertPartBodyIsExactly(byte[] body, byte[] expected) {
+        int headerEnd = indexOf(body, new byte[]{'\r', '\n', '\r', '\n'}, 0);
+        assertThat(headerEnd).isNotNegative();
+        int partStart = headerEnd + 4;
+        int partEnd = indexOf(body, new byte[]{'\r', '\n', '-', '-'}, partStart);
+        assertThat(partEnd - partStart).isEqualTo(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(body[partStart + i]).isEqualTo(expected[i]);
+        }
+    }
+
+    private int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private byte[] prefixed(byte[] data) {
+        byte[] frame = new byte[data.length + 1];
+        frame[0] = 0x04;
+        System.arraycopy(data, 0, frame, 1, data.length);
+        return frame;
+    }
+}
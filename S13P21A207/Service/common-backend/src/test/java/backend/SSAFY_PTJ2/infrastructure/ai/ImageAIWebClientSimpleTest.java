@@ -7,6 +7,7 @@ import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIRequest;
 import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIResponse;
 import backend.SSAFY_PTJ2.global.config.AIClientProperties;
 import backend.SSAFY_PTJ2.global.response.exception.AIException;
+import backend.SSAFY_PTJ2.infrastructure.ai.resilience.ResilientAICaller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -39,10 +40,6 @@ class ImageAIWebClientSimpleTest {
     private WebClient.ResponseSpec mockResponseSpec;
     @Mock
     private ImageAnalysisConverter mockConverter;
-    @Mock
-    private AIClientProperties mockProps;
-    @Mock
-    private AIClientProperties.Retry mockRetry;
 
     private ImageAIWebClient imageAIWebClient;
 
@@ -50,13 +47,11 @@ class ImageAIWebClientSimpleTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        // Mock Properties 설정
-        when(mockProps.getRetry()).thenReturn(mockRetry);
-        when(mockRetry.getMaxAttempts()).thenReturn(3);
-        when(mockRetry.getBackoffMs()).thenReturn(1000L);
-        when(mockRetry.getJitter()).thenReturn(0.1);
+        // 재시도 대기를 짧게 설정
+        AIClientProperties properties = new AIClientProperties();
+        properties.getRetry().setBackoffMs(1);
 
-        imageAIWebClient = new ImageAIWebClient(mockWebClient, mockProps, mockConverter);
+        imageAIWebClient = new ImageAIWebClient(mockWebClient, new ResilientAICaller("image", properties), mockConverter);
     }
 
     @Test
@@ -0,0 +1,112 @@
+package backend.SSAFY_PTJ2.infrastructure.ai.resilience;
+
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 요청 한도 테스트 (가짜 시계로 응답 지연을 만들어 확인)
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private AIClientProperties.Resilience.Limiter properties;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AIClientProperties.Resilience.Limiter();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(10);
+        limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+    }
+
+    @Test
+    void 한도만큼만_자리를_내줌() throws InterruptedException {
+        // Given
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+
+        // When & Then
+        assertThat(permits).doesNotContainNull();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.acquire(Duration.ofMillis(10))).isNull();
+
+        permits.get(0).ignore();
+        permits.get(0).ignore(); // 두 번 반납해도 한 번만 반영
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void 빠른_응답이_이어지면_한도를_늘림() {
+        // When - 한도를 가득 채운 상태에서 10ms 응답 반복
+        for (int round = 0; round < 5; round++) {
+            completeFullRound(10);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void 응답이_느려지면_한도를_줄이고_회복되면_다시_늘림() {
+        // Given - 10ms 기준 지연
+        for (int round = 0; round < 3; round++) {
+            completeFullRound(10);
+        }
+        int healthyLimit = limiter.getLimit();
+
+        // When - 100ms로 느려짐
+        for (int round = 0; round < 5; round++) {
+            completeFullRound(100);
+        }
+        int degradedLimit = limiter.getLimit();
+
+        // 다시 10ms (평활 지연이 내려올 때까지 몇 번은 그대로)
+        for (int round = 0; round < 20; round++) {
+            completeFullRound(10);
+        }
+
+        // Then
+        assertThat(degradedLimit).isLessThan(healthyLimit).isLessThanOrEqualTo(3);
+        assertThat(limiter.getLimit()).isGreaterThan(degradedLimit);
+    }
+
+    @Test
+    void 실패하면_한도를_줄이지만_최소값_아래로는_내리지_않음() {
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().dropped();
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * 현재 한도만큼 동시에 보내고 모두 latencyMs 뒤에 성공
+     */
+    private void completeFullRound(long latencyMs) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        clock.addAndGet(latencyMs * MILLIS);
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+    }
+}
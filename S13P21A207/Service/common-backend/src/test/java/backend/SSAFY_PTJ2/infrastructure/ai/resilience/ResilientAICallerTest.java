@@ -0,0 +1,254 @@
+package backend.SSAFY_PTJ2.infrastructure.ai.resilience;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
+import backend.SSAFY_PTJ2.domain.imagefilter.dto.ImageAIRequest;
+import backend.SSAFY_PTJ2.global.config.AIClientProperties;
+import backend.SSAFY_PTJ2.global.response.exception.AIException;
+import backend.SSAFY_PTJ2.infrastructure.ai.ImageAIWebClient;
+import backend.SSAFY_PTJ2.infrastructure.ai.converter.ImageAnalysisConverterImpl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AI 호출 보호 계층 통합 테스트
+ *
+ * MockWebServer로 띄운 가짜 이미지 AI 서버를 시간에 따라 느리게 하거나 실패시키면서
+ * 서버가 받는 동시 요청 수, 재시도 양, 서킷 상태와 회복을 확인합니다.
+ */
+class ResilientAICallerTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13, 'I', 'H', 'D', 'R'};
+
+    private MockWebServer server;
+    private AIClientProperties properties;
+
+    // 가짜 AI 서버 상태 (테스트 도중 바꿈)
+    private volatile long latencyMs = 20;
+    private volatile boolean failing;
+    private volatile long firstRequestLatencyMs = -1;
+
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger serverInFlight = new AtomicInteger();
+    private final AtomicInteger maxServerInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                int order = received.incrementAndGet();
+                maxServerInFlight.accumulateAndGet(serverInFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(order == 1 && firstRequestLatencyMs >= 0 ? firstRequestLatencyMs : latencyMs);
+                } finally {
+                    serverInFlight.decrementAndGet();
+                }
+                if (failing) {
+                    return new MockResponse().setResponseCode(503).setBody("overloaded");
+                }
+                return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody("{\"results\":[{\"id\":\"img-1\",\"filename\":\"img-1.png\",\"label\":\"normal\",\"prob\":0.9}],"
+                        + "\"imageCount\":{\"processedImages\":1,\"skippedImages\":0}}");
+            }
+        });
+        server.start();
+
+        properties = new AIClientProperties();
+        properties.getRetry().setBackoffMs(1);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void 서버가_느려지면_동시_요청을_줄이고_회복되면_다시_늘림() throws Exception {
+        // Given - 한도 8, 요청을 계속 보내는 호출 스레드 16개
+        AIClientProperties.Resilience.Limiter limiter = properties.getResilience().getLimiter();
+        limiter.setInitialLimit(8);
+        limiter.setMaxLimit(8);
+        limiter.setRttWindow(100_000); // 테스트 동안 정상 구간의 기준 지연 유지
+        limiter.setAcquireTimeout(Duration.ofSeconds(30));
+        ResilientAICaller caller = new ResilientAICaller("image", properties);
+        ImageAIWebClient client = client(caller);
+        for (int i = 0; i < 20; i++) {
+            client.analyze(request()); // 연결·클래스 로딩 워밍업 (정상 구간의 기준 지연을 잡음)
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 16; i++) {
+            callers.submit(() -> {
+                while (running.get()) {
+                    try {
+                        client.analyze(request());
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        try {
+            // When - 정상(20ms)
+            Thread.sleep(1000);
+            int healthyMaxInFlight = maxServerInFlight.getAndSet(0);
+
+            // 느려짐(200ms)
+            latencyMs = 200;
+            Thread.sleep(1500);
+            int degradedLimit = caller.getLimiter().getLimit();
+            maxServerInFlight.set(serverInFlight.get());
+            Thread.sleep(1000);
+            int degradedMaxInFlight = maxServerInFlight.getAndSet(0);
+
+            // 회복(20ms) - 지연이 흔들리면 한도도 오르내리므로 1초 동안 표본으로 확인
+            latencyMs = 20;
+            Thread.sleep(1000);
+            int succeededBeforeWindow = succeeded.get();
+            int recoveredMaxLimit = 0;
+            for (int i = 0; i < 20; i++) {
+                Thread.sleep(50);
+                recoveredMaxLimit = Math.max(recoveredMaxLimit, caller.getLimiter().getLimit());
+            }
+            int recoveredSucceeded = succeeded.get() - succeededBeforeWindow;
+
+            // Then - 서버가 받는 동시 요청은 항상 한도 이하, 느려지면 줄었다가 회복 후 다시 늘어남
+            assertThat(healthyMaxInFlight).isBetween(1, 8);
+            assertThat(degradedLimit).isLessThanOrEqualTo(2);
+            assertThat(degradedMaxInFlight).isLessThanOrEqualTo(3);
+            assertThat(recoveredMaxLimit).isGreaterThanOrEqualTo(6);
+            assertThat(recoveredSucceeded).isGreaterThan(20); // 느린 구간 1초의 처리량(한도 2 × 5회) 이상
+            assertThat(failed.get()).isZero();
+        } finally {
+            running.set(false);
+            callers.shutdown();
+            assertThat(callers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(caller.getLimiter().getInFlight()).isZero();
+    }
+
+    @Test
+    void 재시도는_예산_안에서만_보냄() {
+        // Given - 서버가 계속 503, 서킷은 열리지 않게 설정
+        failing = true;
+        latencyMs = 1;
+        properties.getResilience().getCircuitBreaker().setMinimumCalls(Integer.MAX_VALUE);
+        AIClientProperties.Resilience.RetryBudget budget = properties.getResilience().getRetryBudget();
+        budget.setRatio(0.2);
+        budget.setMaxTokens(2);
+        budget.setMinRetriesPerSecond(0);
+        ImageAIWebClient client = client(new ResilientAICaller("image", properties));
+
+        // When - 20건 요청
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> client.analyze(request())).isInstanceOf(AIException.ServerException.class);
+        }
+
+        // Then - 고정 3회 재시도였다면 80건, 예산으로는 최초 토큰 2 + 요청당 0.2 = 최대 26건
+        assertThat(received.get()).isBetween(20, 26);
+    }
+
+    @Test
+    void 서버가_계속_실패하면_서킷이_열려_바로_실패하고_회복되면_닫힘() throws InterruptedException {
+        // Given - 최근 10건 중 5건 이상 실패하면 열림, 300ms 뒤 시험 요청 1건
+        failing = true;
+        latencyMs = 1;
+        AIClientProperties.Resilience.CircuitBreaker breaker = properties.getResilience().getCircuitBreaker();
+        breaker.setWindowSize(10);
+        breaker.setMinimumCalls(5);
+        breaker.setOpenDuration(Duration.ofMillis(300));
+        breaker.setHalfOpenCalls(1);
+        ResilientAICaller caller = new ResilientAICaller("image", properties);
+        ImageAIWebClient client = client(caller);
+
+        // When - 실패가 쌓여 서킷이 열림
+        for (int i = 0; i < 10; i++) {
+            try {
+                client.analyze(request());
+            } catch (AIException e) {
+                // 첫 요청들은 ServerException, 열린 뒤에는 OverloadException
+            }
+        }
+        int receivedWhileFailing = received.get();
+
+        // Then - 5번째 실패에서 열린 뒤로는 서버에 보내지 않음
+        assertThat(caller.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(receivedWhileFailing).isEqualTo(5);
+        assertThatThrownBy(() -> client.analyze(request())).isInstanceOf(AIException.OverloadException.class);
+        assertThat(received.get()).isEqualTo(5);
+
+        // When - 서버 회복 후 대기 시간 경과
+        failing = false;
+        Thread.sleep(350);
+        AnalysisResult result = client.analyze(request());
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(caller.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 첫_요청이_늦으면_헤지_요청의_응답을_사용() {
+        // Given - 첫 요청만 3초 지연, 50ms 뒤 헤지
+        firstRequestLatencyMs = 3000;
+        latencyMs = 10;
+        properties.getResilience().getHedge().setEnabled(true);
+        properties.getResilience().getHedge().setDelay(Duration.ofMillis(50));
+        ResilientAICaller caller = new ResilientAICaller("image", properties);
+        ImageAIWebClient client = client(caller);
+
+        // When
+        long start = System.nanoTime();
+        AnalysisResult result = client.analyze(request());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then - 헤지 응답으로 끝나고 늦은 첫 요청의 자리는 반납됨
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(elapsedMs).isLessThan(2000);
+        assertThat(received.get()).isEqualTo(2);
+        assertThat(caller.getLimiter().getInFlight()).isZero();
+    }
+
+    private ImageAIWebClient client(ResilientAICaller caller) {
+        return new ImageAIWebClient(WebClient.create(server.url("/").toString()), caller, new ImageAnalysisConverterImpl());
+    }
+
+    private ImageAIRequest request() {
+        ImagePayload payload = ImagePayload.of(PNG);
+        return ImageAIRequest.builder()
+            .imageFiles(List.of(ImageAIRequest.ImageFile.builder()
+                .id("img-1")
+                .filename("img-1.png")
+                .payload(payload)
+                .mimeType("image/png")
+                .size(payload.length())
+                .build()))
+            .build();
+    }
+}
@@ -0,0 +1,70 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 캐시 값 바이너리 직렬화 테스트
+ */
+class CachedAnalysisItemCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 이전_JSON_저장과_같은_값으로_복원() throws Exception {
+        // Given
+        List<CachedAnalysisItem> items = List.of(
+            CachedAnalysisItem.of(AnalysisResult.ImageAnalysisItem.builder()
+                .imageId("img-1")
+                .isHateful(true)
+                .confidenceScore(0.91)
+                .detectedCategories(List.of("CRIME", "혐오"))
+                .hatefulRegions(List.of(AnalysisResult.ImageRegion.builder()
+                    .x(-3).y(40).width(1920).height(1080).category("CRIME").score(0.7).build()))
+                .build()),
+            CachedAnalysisItem.of(AnalysisResult.TextAnalysisItem.builder()
+                .elementId("text-1")
+                .hatefulRanges(List.of(
+                    AnalysisResult.TextRange.builder().startIndex(0).endIndex(3).category(List.of("IN")).score(0.88).build(),
+                    AnalysisResult.TextRange.builder().startIndex(5).endIndex(9).category(null).score(0.5).build()))
+                .originalLength(100_000)
+                .build()),
+            CachedAnalysisItem.safeText(0),
+            CachedAnalysisItem.builder().hateful(false).build() // 목록이 모두 null
+        );
+
+        for (CachedAnalysisItem item : items) {
+            // When
+            byte[] binary = CachedAnalysisItemCodec.encode(item);
+            CachedAnalysisItem decoded = CachedAnalysisItemCodec.decode(binary);
+
+            // Then - JSON으로 보면 원본과 같고 크기는 더 작음
+            String json = objectMapper.writeValueAsString(item);
+            assertThat(objectMapper.writeValueAsString(decoded)).isEqualTo(json);
+            assertThat(binary.length).isLessThan(json.length());
+        }
+    }
+
+    @Test
+    void 버전이_다르거나_잘린_값은_거부() {
+        // Given
+        byte[] binary = CachedAnalysisItemCodec.encode(CachedAnalysisItem.safeText(10));
+        byte[] otherVersion = binary.clone();
+        otherVersion[0] = CachedAnalysisItemCodec.VERSION + 1;
+
+        // When & Then
+        assertThatThrownBy(() -> CachedAnalysisItemCodec.decode(otherVersion)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CachedAnalysisItemCodec.decode(Arrays.copyOf(binary, binary.length - 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CachedAnalysisItemCodec.decode("{\"hateful\":false}".getBytes()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
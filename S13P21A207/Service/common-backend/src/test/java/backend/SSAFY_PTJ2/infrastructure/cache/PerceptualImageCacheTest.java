@@ -0,0 +1,304 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+import backend.SSAFY_PTJ2.domain.common.dto.ImagePayload;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사 이미지 캐시 정확도 테스트
+ *
+ * 무작위 도형으로 그린 장면을 원본(PNG 512px)으로 저장한 뒤,
+ * 축소·확대·JPEG 재압축·밝기 변경한 변형이 원본 결과를 찾는 비율(재현율)과
+ * 서로 다른 장면이 잘못 매칭되지 않는지(오탐)를 확인합니다.
+ */
+class PerceptualImageCacheTest {
+
+    private static final int SCENES = 40;
+
+    @Test
+    void 크기_변경과_재압축한_이미지는_대부분_원본_결과를_찾음() throws IOException {
+        // Given - 장면마다 원본 결과 저장
+        PerceptualImageCache cache = new PerceptualImageCache(new AnalysisCacheProperties());
+        for (int scene = 0; scene < SCENES; scene++) {
+            cache.put(hash(cache, png(scene(scene, 512))), hateful("scene-" + scene));
+        }
+
+        // When - 변형마다 조회
+        int variants = 0;
+        List<String> missed = new ArrayList<>();
+        for (int scene = 0; scene < SCENES; scene++) {
+            for (Variant variant : variants(scene)) {
+                variants++;
+                CachedAnalysisItem found = cache.findSimilar(hash(cache, variant.data()));
+                if (found == null || !found.getDetectedCategories().contains("scene-" + scene)) {
+                    missed.add("scene-" + scene + "/" + variant.name());
+                }
+            }
+        }
+
+        // Then - dHash는 밝기가 비슷한 칸이 많은 이미지에서 몇 비트가 흔들리므로 재현율로 확인
+        double recall = 1.0 - (double) missed.size() / variants;
+        assertThat(recall).as("원본을 찾지 못한 변형: %s", missed).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    void 다른_이미지는_매칭되지_않음() throws IOException {
+        // Given - 앞쪽 절반 장면만 저장
+        PerceptualImageCache cache = new PerceptualImageCache(new AnalysisCacheProperties());
+        for (int scene = 0; scene < SCENES / 2; scene++) {
+            cache.put(hash(cache, png(scene(scene, 512))), hateful("scene-" + scene));
+        }
+
+        // When - 저장하지 않은 장면과 그 변형으로 조회
+        List<String> falseMatches = new ArrayList<>();
+        for (int scene = SCENES / 2; scene < SCENES; scene++) {
+            for (Variant variant : variants(scene)) {
+                CachedAnalysisItem found = cache.findSimilar(hash(cache, variant.data()));
+                if (found != null) {
+                    falseMatches.add("scene-" + scene + "/" + variant.name() + " → " + found.getDetectedCategories());
+                }
+            }
+        }
+
+        // Then
+        assertThat(falseMatches).isEmpty();
+        assertThat(cache.getStatistics().hits()).isZero();
+    }
+
+    @Test
+    void 판정별_허용_거리_적용() {
+        // Given - 안전 4, 혐오 기본 8, SEXUAL 2
+        AnalysisCacheProperties properties = new AnalysisCacheProperties();
+        properties.getPerceptual().setCategoryDistances(Map.of("SEXUAL", 2));
+        PerceptualImageCache cache = new PerceptualImageCache(properties);
+        long safeHash = 0x0F0F_0F0F_0F0F_0F0FL;
+        long crimeHash = 0x3333_3333_3333_3333L;
+        long sexualHash = 0x5555_5555_5555_5555L;
+        cache.put(safeHash, safe());
+        cache.put(crimeHash, hateful("CRIME"));
+        cache.put(sexualHash, hateful("SEXUAL", "CRIME"));
+
+        // When & Then
+        assertThat(cache.findSimilar(flip(safeHash, 4))).isNotNull();
+        assertThat(cache.findSimilar(flip(safeHash, 5))).isNull();
+        assertThat(cache.findSimilar(flip(crimeHash, 8)).getDetectedCategories()).containsExactly("CRIME");
+        assertThat(cache.findSimilar(flip(crimeHash, 9))).isNull();
+        assertThat(cache.findSimilar(flip(sexualHash, 2))).isNotNull();
+        assertThat(cache.findSimilar(flip(sexualHash, 3))).isNull(); // 여러 카테고리면 가장 엄격한 거리
+    }
+
+    @Test
+    void 단색_이미지와_읽을_수_없는_데이터는_해시하지_않음() throws IOException {
+        // Given
+        BufferedImage blank = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = blank.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 200, 200);
+        graphics.dispose();
+        PerceptualImageCache cache = new PerceptualImageCache(new AnalysisCacheProperties());
+
+        // When & Then
+        assertThat(cache.hash(ImagePayload.of(png(blank)))).isNull();
+        assertThat(cache.hash(ImagePayload.of("not an image".getBytes()))).isNull();
+        assertThat(cache.getStatistics().unhashable()).isEqualTo(2);
+    }
+
+    @Test
+    void 다중_인덱스_검색은_전수_비교와_같은_결과() {
+        // Given
+        Random random = new Random(7);
+        MultiIndexHammingTable<Integer> table = new MultiIndexHammingTable<>(20_000);
+        long[] stored = new long[20_000];
+        for (int i = 0; i < stored.length; i++) {
+            stored[i] = random.nextLong();
+            table.put(stored[i], i);
+        }
+
+        for (int query = 0; query < 200; query++) {
+            // 저장된 해시를 0~12비트 바꾼 조회
+            long hash = flip(stored[random.nextInt(stored.length)], random.nextInt(13));
+            int maxDistance = 1 + random.nextInt(12);
+
+            // When
+            Set<Integer> found = new HashSet<>();
+            List<Integer> visits = new ArrayList<>();
+            table.search(hash, maxDistance, (candidate, distance, value) -> {
+                found.add(value);
+                visits.add(value);
+            });
+
+            // Then - 빠짐없이, 한 번씩만 방문
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < stored.length; i++) {
+                if (PerceptualHash.distance(stored[i], hash) <= maxDistance) {
+                    expected.add(i);
+                }
+            }
+            assertThat(found).isEqualTo(expected);
+            assertThat(visits).hasSize(expected.size());
+        }
+    }
+
+    @Test
+    void 용량을_넘으면_오래된_해시부터_제거() {
+        // Given
+        MultiIndexHammingTable<String> table = new MultiIndexHammingTable<>(2);
+
+        // When
+        table.put(1L, "first");
+        table.put(2L, "second");
+        table.put(3L, "third");
+        table.put(3L, "third-updated");
+
+        // Then
+        List<String> found = new ArrayList<>();
+        table.search(0L, 2, (hash, distance, value) -> found.add(value));
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(found).containsExactlyInAnyOrder("second", "third-updated");
+    }
+
+    /**
+     * 장면별 변형 (축소, 확대, JPEG 재압축, 축소 + 저품질 JPEG, 밝기 변경)
+     */
+    private List<Variant> variants(int scene) throws IOException {
+        BufferedImage original = scene(scene, 512);
+        return List.of(
+            new Variant("png-256", png(resize(original, 256))),
+            new Variant("png-180", png(resize(original, 180))),
+            new Variant("png-900", png(resize(original, 900))),
+            new Variant("jpeg-q80", jpeg(original, 0.8f)),
+            new Variant("jpeg-320-q40", jpeg(resize(original, 320), 0.4f)),
+            new Variant("brighter", png(brighten(original, 20)))
+        );
+    }
+
+    /**
+     * 무작위 그라디언트 배경 위에 도형 여러 개를 그린 장면 (같은 번호면 같은 그림)
+     */
+    private static BufferedImage scene(int seed, int size) {
+        Random random = new Random(seed * 31L + 5);
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setPaint(new GradientPaint(0, 0, randomColor(random), size, size * random.nextFloat(), randomColor(random)));
+        graphics.fillRect(0, 0, size, size);
+        for (int i = 0; i < 8; i++) {
+            graphics.setColor(randomColor(random));
+            int x = random.nextInt(size);
+            int y = random.nextInt(size);
+            int width = size / 8 + random.nextInt(size / 3);
+            int height = size / 8 + random.nextInt(size / 3);
+            if (random.nextBoolean()) {
+                graphics.fillOval(x - width / 2, y - height / 2, width, height);
+            } else {
+                graphics.fillRect(x - width / 2, y - height / 2, width, height);
+            }
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static Color randomColor(Random random) {
+        return new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+    }
+
+    private static BufferedImage resize(BufferedImage source, int size) {
+        BufferedImage resized = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, size, size, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    private static BufferedImage brighten(BufferedImage source, int amount) {
+        BufferedImage brighter = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < source.getHeight(); y++) {
+            for (int x = 0; x < source.getWidth(); x++) {
+                Color color = new Color(source.getRGB(x, y));
+                brighter.setRGB(x, y, new Color(
+                    Math.min(255, color.getRed() + amount),
+                    Math.min(255, color.getGreen() + amount),
+                    Math.min(255, color.getBlue() + amount)).getRGB());
+            }
+        }
+        return brighter;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] jpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static long hash(PerceptualImageCache cache, byte[] data) {
+        Long hash = cache.hash(ImagePayload.of(data));
+        assertThat(hash).isNotNull();
+        return hash;
+    }
+
+    /**
+     * 하위 bits개 비트를 뒤집은 해시
+     */
+    private static long flip(long hash, int bits) {
+        return bits == 0 ? hash : hash ^ (-1L >>> (64 - bits));
+    }
+
+    private static CachedAnalysisItem hateful(String... categories) {
+        return CachedAnalysisItem.builder()
+            .hateful(true)
+            .confidenceScore(0.9)
+            .detectedCategories(List.of(categories))
+            .hatefulRegions(List.of())
+            .build();
+    }
+
+    private static CachedAnalysisItem safe() {
+        return CachedAnalysisItem.builder()
+            .hateful(false)
+            .detectedCategories(List.of("CLEAN"))
+            .hatefulRegions(List.of())
+            .build();
+    }
+
+    private record Variant(String name, byte[] data) {
+    }
+}
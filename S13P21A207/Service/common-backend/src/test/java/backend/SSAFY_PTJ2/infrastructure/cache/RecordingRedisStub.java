@@ -0,0 +1,166 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 명령을 기록하는 메모리 Redis 스텁 (테스트용)
+ *
+ * 실제 StringRedisTemplate이 이 스텁의 RedisConnection으로 명령을 보내므로 템플릿·파이프라인 처리까지 그대로 거칩니다.
+ * 캐시가 쓰는 명령(GET, MGET, SET, INCRBY, PFADD, PFCOUNT, EXPIRE)만 구현하고,
+ * 그 밖의 명령(KEYS, SCAN 등)은 기록한 뒤 UnsupportedOperationException을 던집니다.
+ */
+class RecordingRedisStub implements InvocationHandler {
+
+    private static final Set<String> CONNECTION_METHODS = Set.of(
+        "close", "isClosed", "isQueueing", "getNativeConnection", "getSentinelConnection");
+
+    private final Map<String, byte[]> values = new HashMap<>();
+    private final Map<String, Set<String>> hyperLogLogs = new HashMap<>();
+    private final Map<String, Long> ttlMillis = new HashMap<>();
+    private final List<String> commands = new ArrayList<>();
+    private final RedisConnection connection;
+
+    private List<Object> pipelineResults;
+    private int pipelines;
+    private boolean failing;
+
+    RecordingRedisStub() {
+        this.connection = (RedisConnection) Proxy.newProxyInstance(
+            RedisConnection.class.getClassLoader(), new Class<?>[]{RedisConnection.class}, this);
+    }
+
+    StringRedisTemplate template() {
+        RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+        when(factory.getConnection()).thenReturn(connection);
+        return new StringRedisTemplate(factory);
+    }
+
+    /**
+     * 지금까지 받은 명령 이름 (대문자, 받은 순서)
+     */
+    synchronized List<String> commands() {
+        return List.copyOf(commands);
+    }
+
+    /**
+     * 파이프라인 수 (= Redis 왕복 수)
+     */
+    synchronized int pipelines() {
+        return pipelines;
+    }
+
+    synchronized Long ttlMillis(String key) {
+        return ttlMillis.get(key);
+    }
+
+    synchronized byte[] value(String key) {
+        return values.get(key);
+    }
+
+    synchronized void put(String key, byte[] value) {
+        values.put(key, value);
+    }
+
+    synchronized void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    @Override
+    public synchronized Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "stringCommands", "keyCommands", "hyperLogLogCommands", "commands":
+                return proxy;
+            case "openPipeline":
+                pipelines++;
+                pipelineResults = new ArrayList<>();
+                return null;
+            case "closePipeline":
+                List<Object> results = pipelineResults;
+                pipelineResults = null;
+                return results;
+            case "isPipelined":
+                return pipelineResults != null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "RecordingRedisStub";
+            default:
+                if (CONNECTION_METHODS.contains(name)) {
+                    return method.getReturnType() == boolean.class ? false : null;
+                }
+        }
+
+        commands.add(name.toUpperCase());
+        if (failing) {
+            throw new RedisConnectionFailureException("connection refused");
+        }
+        Object result = execute(name, args);
+        if (pipelineResults != null) {
+            pipelineResults.add(result);
+            return null;
+        }
+        return result;
+    }
+
+    private Object execute(String name, Object[] args) {
+        switch (name) {
+            case "get":
+                return values.get(key(args[0]));
+            case "mGet":
+                return Arrays.stream((byte[][]) args[0]).map(key -> values.get(key(key))).toList();
+            case "set":
+                values.put(key(args[0]), (byte[]) args[1]);
+                if (args.length > 2 && args[2] instanceof Expiration expiration && !expiration.isPersistent()) {
+                    ttlMillis.put(key(args[0]), expiration.getExpirationTimeInMilliseconds());
+                }
+                return true;
+            case "incrBy":
+                byte[] current = values.get(key(args[0]));
+                long next = (current != null ? Long.parseLong(new String(current, StandardCharsets.UTF_8)) : 0L)
+                    + (long) args[1];
+                values.put(key(args[0]), Long.toString(next).getBytes(StandardCharsets.UTF_8));
+                return next;
+            case "pfAdd":
+                Set<String> registers = hyperLogLogs.computeIfAbsent(key(args[0]), ignored -> new HashSet<>());
+                long added = Arrays.stream((byte[][]) args[1]).filter(element -> registers.add(key(element))).count();
+                return added > 0 ? 1L : 0L;
+            case "pfCount":
+                Set<String> union = new HashSet<>();
+                for (byte[] key : (byte[][]) args[0]) {
+                    union.addAll(hyperLogLogs.getOrDefault(key(key), Set.of()));
+                }
+                return (long) union.size();
+            case "expire":
+                ttlMillis.put(key(args[0]), (long) args[1] * 1000);
+                return true;
+            default:
+                throw new UnsupportedOperationException("스텁에서 지원하지 않는 명령: " + name);
+        }
+    }
+
+    private static String key(Object raw) {
+        return new String((byte[]) raw, StandardCharsets.UTF_8);
+    }
+}
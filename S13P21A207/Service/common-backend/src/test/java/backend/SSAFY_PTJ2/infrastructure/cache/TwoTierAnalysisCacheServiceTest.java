@@ -0,0 +1,197 @@
+package backend.SSAFY_PTJ2.infrastructure.cache;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.domain.common.dto.CachedAnalysisItem;
+import backend.SSAFY_PTJ2.domain.common.service.AnalysisCacheService;
+import backend.SSAFY_PTJ2.global.config.AnalysisCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2계층 분석 결과 캐시 테스트
+ *
+ * 명령을 기록하는 Redis 스텁에 실제 StringRedisTemplate을 연결해 보낸 명령과 왕복 수를 확인합니다.
+ */
+class TwoTierAnalysisCacheServiceTest {
+
+    private RecordingRedisStub redis;
+    private AnalysisCacheProperties properties;
+    private TwoTierAnalysisCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        redis = new RecordingRedisStub();
+        properties = new AnalysisCacheProperties();
+        cacheService = new TwoTierAnalysisCacheService(redis.template(), properties);
+    }
+
+    @Test
+    void 로컬_캐시에_없는_키만_Redis에서_한번에_조회() {
+        // Given - k1은 이 노드가 저장, k2는 다른 노드가 저장
+        cacheService.putAll(Map.of("k1", hatefulImage()));
+        redis.put("k2", CachedAnalysisItemCodec.encode(hatefulText()));
+        int pipelinesBefore = redis.pipelines();
+
+        // When
+        Map<String, CachedAnalysisItem> found = cacheService.getAll(List.of("k1", "k2", "k3"));
+        Map<String, CachedAnalysisItem> again = cacheService.getAll(List.of("k2"));
+
+        // Then
+        assertThat(found).containsOnlyKeys("k1", "k2");
+        assertThat(found.get("k2").getHatefulRanges()).hasSize(1);
+        assertThat(found.get("k2").getHatefulRanges().get(0).getCategory()).containsExactly("IN");
+        assertThat(again).containsOnlyKeys("k2");
+        assertThat(redis.pipelines() - pipelinesBefore).isEqualTo(1); // Redis에서 가져온 값은 로컬 캐시로 승격
+        assertThat(redis.commands()).containsOnlyOnce("MGET");
+
+        AnalysisCacheService.AnalysisCacheStatistics statistics = cacheService.getStatistics();
+        assertThat(statistics.nearHits()).isEqualTo(2);
+        assertThat(statistics.remoteHits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    void 값은_JSON이_아닌_바이너리로_저장() {
+        // When
+        cacheService.putAll(Map.of("k1", hatefulText()));
+
+        // Then
+        byte[] stored = redis.value("k1");
+        assertThat(stored[0]).isEqualTo(CachedAnalysisItemCodec.VERSION);
+        assertThat(new String(stored, StandardCharsets.UTF_8)).doesNotContain("hatefulRanges");
+        assertThat(CachedAnalysisItemCodec.decode(stored).getHatefulRanges().get(0).getScore()).isEqualTo(0.88);
+    }
+
+    @Test
+    void 안전_판정은_별도_TTL로_저장() {
+        // When
+        cacheService.putAll(Map.of("hateful", hatefulImage(), "safe", CachedAnalysisItem.safeText(10)));
+
+        // Then - 저장은 파이프라인 1회
+        assertThat(redis.pipelines()).isEqualTo(1);
+        assertThat(redis.ttlMillis("hateful")).isEqualTo(properties.getHatefulTtl().toMillis());
+        assertThat(redis.ttlMillis("safe")).isEqualTo(properties.getSafeTtl().toMillis());
+    }
+
+    @Test
+    void 공유_통계는_KEYS_없이_카운터와_HyperLogLog로_계산() {
+        // Given - 노드 두 개가 같은 Redis를 공유
+        TwoTierAnalysisCacheService otherNode = new TwoTierAnalysisCacheService(redis.template(), properties);
+        cacheService.putAll(Map.of("a", hatefulImage(), "b", CachedAnalysisItem.safeText(3)));
+        otherNode.putAll(Map.of("b", CachedAnalysisItem.safeText(3), "c", CachedAnalysisItem.safeText(5)));
+
+        // When
+        cacheService.getAll(List.of("a", "b", "x"));  // 로컬 히트 2, 미스 1
+        otherNode.getAll(List.of("a", "y"));          // Redis 히트 1, 미스 1
+        cacheService.putAll(Map.of("x", hatefulText()));
+        AnalysisCacheService.SharedCacheStatistics statistics = otherNode.getSharedStatistics();
+        AnalysisCacheService.SharedCacheStatistics again = cacheService.getSharedStatistics();
+
+        // Then - 같은 키를 두 노드가 저장해도 한 번만 셈
+        assertThat(statistics.estimatedEntries()).isEqualTo(4);
+        assertThat(statistics.estimatedSafeEntries()).isEqualTo(2);
+        assertThat(again.hits()).isEqualTo(3);
+        assertThat(again.misses()).isEqualTo(2);
+        assertThat(again.hitRatio()).isEqualTo(0.6);
+        assertThat(redis.commands()).doesNotContain("KEYS", "SCAN").containsOnly(
+            "SET", "PFADD", "EXPIRE", "MGET", "INCRBY", "PFCOUNT");
+    }
+
+    @Test
+    void 통계용_HyperLogLog는_TTL이_지나면_만료() {
+        // When
+        cacheService.putAll(Map.of("safe", CachedAnalysisItem.safeText(10)));
+
+        // Then
+        long bucket = System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+        Long ttl = redis.ttlMillis("analysis:stats:entries:safe:" + bucket);
+        if (ttl == null) { // 저장 직후 시간 버킷이 바뀐 경우
+            ttl = redis.ttlMillis("analysis:stats:entries:safe:" + (bucket - 1));
+        }
+        assertThat(ttl).isEqualTo(properties.getSafeTtl().plusHours(1).toMillis());
+    }
+
+    @Test
+    void Redis_장애시_캐시_미스로_처리하고_통계는_다음_요청에_반영() {
+        // Given
+        redis.setFailing(true);
+
+        // When
+        Map<String, CachedAnalysisItem> found = cacheService.getAll(List.of("k1"));
+        cacheService.getAll(List.of("k2"));
+
+        // Then
+        assertThat(found).isEmpty();
+        assertThat(cacheService.getStatistics().misses()).isEqualTo(2);
+        assertThat(cacheService.getStatistics().remoteErrors()).isEqualTo(2);
+
+        // When - 회복 후
+        redis.setFailing(false);
+        AnalysisCacheService.SharedCacheStatistics statistics = cacheService.getSharedStatistics();
+
+        // Then - 장애 동안 보내지 못한 미스도 반영
+        assertThat(statistics.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void 손상된_값은_캐시_미스로_처리() {
+        // Given
+        redis.put("k1", new byte[]{CachedAnalysisItemCodec.VERSION, 0, 1});
+
+        // When
+        Map<String, CachedAnalysisItem> found = cacheService.getAll(List.of("k1"));
+
+        // Then
+        assertThat(found).isEmpty();
+        assertThat(cacheService.getStatistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void Redis_비활성화시_로컬_캐시만_사용() {
+        // Given
+        properties.setRedisEnabled(false);
+        properties.setNearTtl(Duration.ofMinutes(1));
+        cacheService = new TwoTierAnalysisCacheService(redis.template(), properties);
+
+        // When
+        cacheService.putAll(Map.of("k1", hatefulImage()));
+        Map<String, CachedAnalysisItem> found = cacheService.getAll(List.of("k1", "k2"));
+        AnalysisCacheService.SharedCacheStatistics statistics = cacheService.getSharedStatistics();
+
+        // Then
+        assertThat(found).containsOnlyKeys("k1");
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(redis.commands()).isEmpty();
+    }
+
+    private CachedAnalysisItem hatefulImage() {
+        return CachedAnalysisItem.of(AnalysisResult.ImageAnalysisItem.builder()
+            .imageId("img-1")
+            .isHateful(true)
+            .confidenceScore(0.91)
+            .detectedCategories(List.of("CRIME"))
+            .hatefulRegions(List.of())
+            .build());
+    }
+
+    private CachedAnalysisItem hatefulText() {
+        return CachedAnalysisItem.of(AnalysisResult.TextAnalysisItem.builder()
+            .elementId("text-1")
+            .hatefulRanges(List.of(AnalysisResult.TextRange.builder()
+                .startIndex(0)
+                .endIndex(3)
+                .category(List.of("IN"))
+                .score(0.88)
+                .build()))
+            .originalLength(12)
+            .build());
+    }
+}
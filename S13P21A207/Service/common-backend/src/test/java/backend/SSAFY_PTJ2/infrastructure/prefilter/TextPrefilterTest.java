@@ -0,0 +1,185 @@
+package backend.SSAFY_PTJ2.infrastructure.prefilter;
+
+import backend.SSAFY_PTJ2.domain.common.dto.AnalysisResult;
+import backend.SSAFY_PTJ2.global.config.TextPrefilterProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 텍스트 사전 필터 판정·정밀도/재현율 테스트
+ *
+ * 코퍼스는 (텍스트, 혐오 여부) 쌍이며 우회 표기(띄어쓰기, 기호·숫자 삽입, 자모 분리, 전각 문자)와
+ * 키워드를 포함하지만 혐오가 아닌 문장(시발점, 새끼손가락, class)을 함께 담았습니다.
+ * - BLOCKED 정밀도: AI 없이 혐오로 확정한 텍스트가 모두 실제 혐오여야 함
+ * - SAFE 정밀도: AI 없이 안전으로 확정한 텍스트에 혐오가 없어야 함
+ * - 재현율: 혐오 텍스트 중 AI 없이 확정한 비율
+ */
+class TextPrefilterTest {
+
+    private static final Set<String> ALL_CATEGORIES = Set.of("IN", "VI", "SE", "AD", "PO");
+
+    private static final List<Sample> CORPUS = List.of(
+        // 혐오
+        hateful("씨발"),
+        hateful("씨발 진짜 뭐냐"),
+        hateful("씨 발 놈아"),
+        hateful("씨1발"),
+        hateful("씨\u200B발"),
+        hateful("ㅆㅣ발"),
+        hateful("ㅅㅂ 뭐냐"),
+        hateful("병신아"),
+        hateful("병 신"),
+        hateful("ㅂㅕㅇ신"),
+        hateful("개새끼"),
+        hateful("개세끼야"),
+        hateful("개.새.끼"),
+        hateful("좆같네"),
+        hateful("지랄하네"),
+        hateful("F U C K you"),
+        hateful("fu*ck off"),
+        hateful("ｆｕｃｋ"),
+        hateful("b!tch"),
+        hateful("죽여버린다"),
+        hateful("때려죽일 놈"),
+        hateful("토토사이트 가입 문의"),
+        hateful("비아그라 정품 판매"),
+        hateful("야동 보러와"),
+        hateful("한남충"),
+        hateful("쪽바리들"),
+        hateful("시발 진짜"),          // 약한 키워드 → AI
+        hateful("이 미친 놈아 진짜"),   // 띄어 쓴 적중이 단어 경계와 어긋남 → AI
+        hateful("sh1t"),               // 약한 키워드 → AI
+        // 혐오 아님
+        clean("오늘 날씨 좋네요"),
+        clean("시발점에서 출발합니다"),
+        clean("수업 시 발표 준비"),
+        clean("그것 받아 가"),
+        clean("class assignment"),
+        clean("skill tree"),
+        clean("새끼손가락"),
+        clean("강아지 새끼가 태어났어요"),
+        clean("보지 마세요"),
+        clean("홍어 삼합"),
+        clean("섹스 교육 자료"),
+        clean("1,234원"),
+        clean("3,500"),
+        clean("2024-10-19 12:30"),
+        clean("😀😀!!"),
+        clean("더보기"),
+        clean("Show  More"),
+        clean("답글 달기")
+    );
+
+    private final TextPrefilterProperties properties = new TextPrefilterProperties();
+    private final TextPrefilter prefilter = new TextPrefilter(properties);
+
+    @Test
+    void 코퍼스_정밀도와_재현율() {
+        // Given
+        int blocked = 0;
+        int blockedCorrect = 0;
+        int safe = 0;
+        int safeCorrect = 0;
+        int hatefulTotal = 0;
+        int hatefulBlocked = 0;
+        List<String> wrong = new ArrayList<>();
+
+        // When
+        for (Sample sample : CORPUS) {
+            PrefilterVerdict verdict = prefilter.screen(sample.text(), ALL_CATEGORIES);
+            if (verdict.getDecision() == PrefilterVerdict.Decision.BLOCKED) {
+                blocked++;
+                blockedCorrect += sample.hateful() ? 1 : 0;
+            } else if (verdict.getDecision() == PrefilterVerdict.Decision.SAFE) {
+                safe++;
+                safeCorrect += sample.hateful() ? 0 : 1;
+            }
+            if (sample.hateful()) {
+                hatefulTotal++;
+                hatefulBlocked += verdict.getDecision() == PrefilterVerdict.Decision.BLOCKED ? 1 : 0;
+            }
+            if (verdict.isResolved() && (verdict.getDecision() == PrefilterVerdict.Decision.BLOCKED) != sample.hateful()) {
+                wrong.add(sample.text() + " → " + verdict.getDecision());
+            }
+        }
+
+        // Then - 로컬 확정은 틀리지 않고, 우회 표기를 포함한 혐오 텍스트 대부분을 AI 없이 처리
+        double recall = (double) hatefulBlocked / hatefulTotal;
+        assertThat(wrong).as("잘못 확정한 텍스트").isEmpty();
+        assertThat(blockedCorrect).isEqualTo(blocked);
+        assertThat(safeCorrect).isEqualTo(safe);
+        assertThat(recall).as("재현율 %d/%d", hatefulBlocked, hatefulTotal).isGreaterThanOrEqualTo(0.85);
+        assertThat(safe).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    void 적중_범위는_원문_인덱스로_반환() {
+        // When
+        PrefilterVerdict spaced = prefilter.screen("너 씨 발 놈아", ALL_CATEGORIES);
+        PrefilterVerdict jamo = prefilter.screen("아 ㅆㅣ발", ALL_CATEGORIES);
+
+        // Then - 끝 인덱스는 배타, 카테고리는 AI 카테고리 코드
+        AnalysisResult.TextRange spacedRange = spaced.getRanges().get(0);
+        assertThat(spaced.getDecision()).isEqualTo(PrefilterVerdict.Decision.BLOCKED);
+        assertThat(spacedRange.getStartIndex()).isEqualTo(2);
+        assertThat(spacedRange.getEndIndex()).isEqualTo(5);
+        assertThat(spacedRange.getCategory()).containsExactly("IN");
+
+        AnalysisResult.TextRange jamoRange = jamo.getRanges().get(0);
+        assertThat(jamoRange.getStartIndex()).isEqualTo(2);
+        assertThat(jamoRange.getEndIndex()).isEqualTo(5);
+    }
+
+    @Test
+    void 사용자가_끈_카테고리의_키워드는_확정하지_않음() {
+        // When
+        PrefilterVerdict verdict = prefilter.screen("씨발", Set.of("VI"));
+
+        // Then
+        assertThat(verdict.getDecision()).isEqualTo(PrefilterVerdict.Decision.AMBIGUOUS);
+        assertThat(verdict.getRanges()).isEmpty();
+    }
+
+    @Test
+    void 긴_텍스트는_적중해도_AI로_보냄() {
+        // Given
+        String text = "씨발 " + "오늘 있었던 일을 길게 적어 봅니다. ".repeat(10);
+
+        // When
+        PrefilterVerdict verdict = prefilter.screen(text, ALL_CATEGORIES);
+
+        // Then - 적중 범위는 함께 전달
+        assertThat(text.length()).isGreaterThan(properties.getMaxLocalLength());
+        assertThat(verdict.getDecision()).isEqualTo(PrefilterVerdict.Decision.AMBIGUOUS);
+        assertThat(verdict.getRanges()).hasSize(1);
+    }
+
+    @Test
+    void 겹치는_키워드도_모두_찾음() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+        List<String> found = new ArrayList<>();
+
+        // When
+        matcher.match("ushers", (patternIndex, start, end) -> found.add(patternIndex + ":" + start + "-" + end));
+
+        // Then
+        assertThat(found).containsExactlyInAnyOrder("1:1-4", "0:2-4", "3:2-6");
+    }
+
+    private static Sample hateful(String text) {
+        return new Sample(text, true);
+    }
+
+    private static Sample clean(String text) {
+        return new Sample(text, false);
+    }
+
+    private record Sample(String text, boolean hateful) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.yaldi.domain.erd.lint;
+
+import com.yaldi.domain.erd.lint.rule.ForeignKeyTypeMismatchRule;
+import com.yaldi.domain.erd.lint.rule.MissingPrimaryKeyRule;
+import com.yaldi.domain.erd.lint.rule.NamingConventionRule;
+import com.yaldi.domain.erd.lint.rule.OrphanTableRule;
+import com.yaldi.domain.erd.lint.rule.ReservedWordRule;
+import com.yaldi.domain.erd.lint.rule.UnindexedForeignKeyRule;
+import com.yaldi.domain.erd.lint.rule.WideTableRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 1,000 테이블 ERD 린트 벤치마크
+ *
+ * <ul>
+ *   <li>fullLint: 직전 결과 없이 전체 검사 (첫 검사, 캐시 만료)</li>
+ *   <li>incrementalLint: 컬럼 하나가 바뀐 모델의 증분 검사 (스냅샷 비교 + 바뀐 테이블과 이웃만 검사)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class ErdLintBenchmark {
+
+    private static final int TABLES = 1_000;
+    private static final int COLUMNS_PER_TABLE = 12;
+
+    private ErdLintEngine engine;
+    private LintSchema schema;
+    private LintReport report;
+    private LintSchema changed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ErdLintProperties properties = new ErdLintProperties();
+        engine = new ErdLintEngine(List.of(
+                new MissingPrimaryKeyRule(),
+                new ForeignKeyTypeMismatchRule(),
+                new UnindexedForeignKeyRule(),
+                new ReservedWordRule(properties),
+                new NamingConventionRule(),
+                new WideTableRule(properties),
+                new OrphanTableRule()), properties);
+
+        schema = chain(null);
+        report = engine.lint(schema);
+        changed = chain(new LintSchema.Column(500L * 100 + 3, 500L, "createdAt", "TIMESTAMP",
+                List.of(), false, false, false, 2));
+    }
+
+    @Benchmark
+    public LintReport fullLint() {
+        return engine.lint(changed);
+    }
+
+    @Benchmark
+    public LintReport incrementalLint() {
+        return engine.relint(schema, report, changed);
+    }
+
+    /**
+     * 테이블 t가 t-1 테이블을 참조하는 사슬 (컬럼 키 t*100+c), replacement가 있으면 같은 키 컬럼을 교체
+     */
+    private static LintSchema chain(LintSchema.Column replacement) {
+        List<LintSchema.Table> tables = new ArrayList<>();
+        List<LintSchema.Column> columns = new ArrayList<>();
+        List<LintSchema.Relation> relations = new ArrayList<>();
+        for (long t = 1; t <= TABLES; t++) {
+            tables.add(new LintSchema.Table(t, "table_" + t, "table_" + t));
+            columns.add(new LintSchema.Column(t * 100 + 1, t, "table_" + t + "_id", "BIGINT",
+                    List.of(), true, false, false, 0));
+            columns.add(new LintSchema.Column(t * 100 + 2, t, "parent_id", "BIGINT",
+                    List.of(), false, true, false, 1));
+            for (int c = 3; c <= COLUMNS_PER_TABLE; c++) {
+                long columnKey = t * 100 + c;
+                columns.add(replacement != null && replacement.columnKey() == columnKey ? replacement
+                        : new LintSchema.Column(columnKey, t, "column_" + c, "VARCHAR",
+                        List.of("255"), false, false, false, c - 1));
+            }
+            if (t > 1) {
+                relations.add(new LintSchema.Relation(t, t - 1, (t - 1) * 100 + 1, t, t * 100 + 2));
+            }
+        }
+        return LintSchema.of(tables, columns, relations);
+    }
+}
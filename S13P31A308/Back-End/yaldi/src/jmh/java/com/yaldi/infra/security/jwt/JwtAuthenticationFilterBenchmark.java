@@ -0,0 +1,84 @@
+package com.yaldi.infra.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.user.repository.UserRepository;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * JWT 인증 필터 오버헤드 벤치마크
+ *
+ * <ul>
+ *   <li>perRequestSignatureVerification: 캐시 없이 요청마다 서명 검증 (JwtUtil.parse)</li>
+ *   <li>verifiedTokenCacheHit: 검증 캐시 적중 (SHA-256 해시 + 폐기 비트맵 확인)</li>
+ *   <li>filterWithVerifiedTokenCache: 필터 전체 (토큰 추출 + 캐시 + SecurityContext 설정)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes!!";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+    private FilterChain chain;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(Duration.ofHours(1).toMillis());
+        properties.setRefreshTokenExpiration(Duration.ofDays(7).toMillis());
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        TokenRevocationRegistry revocationRegistry = new TokenRevocationRegistry(redisTemplate);
+
+        jwtUtil = new JwtUtil(properties);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, revocationRegistry, properties);
+        RefreshTokenService refreshTokenService =
+                new RefreshTokenService(redisTemplate, properties, jwtUtil, revocationRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtil, verifiedTokenCache, refreshTokenService,
+                mock(UserRepository.class), new ObjectMapper());
+
+        accessToken = jwtUtil.generateAccessToken(42, "bench@yaldi.kr", 7L);
+        chain = (request, response) -> { };
+    }
+
+    @Benchmark
+    public void perRequestSignatureVerification(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.parse(accessToken));
+    }
+
+    @Benchmark
+    public void verifiedTokenCacheHit(Blackhole blackhole) {
+        blackhole.consume(verifiedTokenCache.verifyAccessToken(accessToken));
+    }
+
+    @Benchmark
+    public void filterWithVerifiedTokenCache(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -1,6 +1,5 @@
 package com.yaldi.domain.auth.controller;
 
-import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.ApiResponse;
@@ -18,13 +17,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.concurrent.TimeUnit;
 
 /**
  * 인증 관련 API
@@ -41,22 +38,19 @@ public class AuthController {
     private final RefreshTokenService refreshTokenService;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final RedisTemplate<String, String> redisTemplate;
 
     /**
      * 로그아웃
      *
      * <p>다음 작업을 수행합니다:</p>
      * <ol>
-     *   <li>Redis에서 Refresh Token 삭제 (즉시 무효화)</li>
+     *   <li>로그인 세션 폐기 (Refresh Token 삭제 + 발급된 Access Token 즉시 무효화)</li>
      *   <li>쿠키에서 Access Token 및 Refresh Token 삭제</li>
      *   <li>SecurityContext 초기화</li>
      * </ol>
      *
-     * <p><strong>주의:</strong> Access Token은 서버에 저장하지 않으므로,
-     * 쿠키가 삭제되더라도 토큰 문자열을 복사한 경우 만료 시간까지 기술적으로 유효합니다.
-     * 하지만 Refresh Token이 Redis에서 삭제되므로 갱신이 불가능하며,
-     * 최대 1시간 후에는 완전히 무효화됩니다.</p>
+     * <p>Access Token은 서버에 저장하지 않지만 토큰 패밀리가 폐기 비트맵에 등록되므로,
+     * 토큰 문자열을 복사해 두었더라도 모든 서버에서 즉시 거부됩니다.</p>
      */
     @Operation(
         summary = "로그아웃",
@@ -72,8 +66,8 @@ public class AuthController {
         if (SecurityUtil.isAuthenticated()) {
             Integer userKey = SecurityUtil.getCurrentUserKey();
 
-            // 2. Redis에서 Refresh Token 삭제 (즉시 무효화)
-            refreshTokenService.deleteRefreshToken(userKey);
+            // 2. 로그인 세션 폐기 (즉시 무효화)
+            refreshTokenService.revokeSession(userKey);
 
             log.info("User logged out: userKey={}", userKey);
         }
@@ -93,22 +87,22 @@ public class AuthController {
      *
      * <p>보안 강화를 위해 Refresh Token Rotation을 적용합니다:</p>
      * <ol>
-     *   <li>기존 Refresh Token 검증</li>
+     *   <li>기존 Refresh Token 검증 (서명, 만료, 세션의 현재 토큰 ID와 일치 여부)</li>
      *   <li>새로운 Access Token + Refresh Token 발급</li>
-     *   <li>기존 Refresh Token은 Redis Blacklist에 추가하여 재사용 방지</li>
+     *   <li>기존 Refresh Token은 세션에서 교체되어 재사용 불가</li>
      * </ol>
      *
      * <p><strong>Refresh Token Rotation의 보안 장점:</strong></p>
      * <ul>
      *   <li>토큰 탈취 시 재사용 불가능</li>
-     *   <li>토큰 탈취 감지 가능 (같은 Refresh Token이 2번 사용되면 의심)</li>
-     *   <li>공격자가 토큰을 재사용하려고 하면 즉시 강제 로그아웃</li>
+     *   <li>토큰 탈취 감지 가능 (이미 회전된 Refresh Token이 다시 사용되면 재사용으로 판단)</li>
+     *   <li>재사용 탐지 시 토큰 패밀리 전체를 폐기하여 공격자와 사용자 모두 강제 로그아웃</li>
      * </ul>
      */
     @Operation(
         summary = "토큰 갱신 (Refresh Token Rotation)",
         description = "Refresh Token으로 새로운 Access Token과 Refresh Token을 발급받습니다. " +
-                      "보안을 위해 기존 Refresh Token은 Redis Blacklist에 추가되어 재사용이 방지됩니다."
+                      "이미 사용된 Refresh Token이 다시 사용되면 해당 로그인 세션의 모든 토큰이 폐기됩니다."
     )
     @PostMapping("/refresh")
     public ApiResponse<TokenRefreshResponse> refreshToken(
@@ -119,63 +113,39 @@ public class AuthController {
         String refreshToken = jwtUtil.extractRefreshTokenFromCookie(request)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TOKEN_NOT_FOUND_REFRESH));
 
-        // 2. Refresh Token 유효성 검증 (서명, 만료 시간)
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new GeneralException(ErrorStatus.TOKEN_INVALID_REFRESH);
-        }
-
-        // 3. Refresh Token에서 userKey 추출
-        Integer userKey = jwtUtil.getUserKeyFromToken(refreshToken);
+        // 2. Refresh Token 회전 (서명/만료 검증 + 세션 비교 + 재사용 탐지)
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
 
-        // 4. Redis에 저장된 Refresh Token과 일치하는지 검증
-        if (!refreshTokenService.validateRefreshToken(userKey, refreshToken)) {
-            // Redis와 불일치 → 이미 사용된 토큰이거나 탈취된 토큰
-            log.warn("Refresh Token mismatch detected for user: {} - possible token theft!", userKey);
-
-            // 강제 로그아웃 (보안 강화)
-            refreshTokenService.deleteRefreshToken(userKey);
+        if (!rotation.isSuccess()) {
             CookieUtil.deleteCookie(request, response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME, "/");
             CookieUtil.deleteCookie(request, response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME, "/");
 
-            throw new GeneralException(ErrorStatus.TOKEN_MISMATCH_REFRESH);
+            switch (rotation.status()) {
+                case REUSED -> {
+                    log.warn("Refresh Token reuse detected for user: {} - possible token theft!", rotation.userKey());
+                    throw new GeneralException(ErrorStatus.TOKEN_FORCED_LOGOUT);
+                }
+                case SESSION_ENDED -> {
+                    if (userRepository.findActiveUserById(rotation.userKey()).isEmpty()) {
+                        log.warn("Deleted user attempted to refresh token: {}", rotation.userKey());
+                        throw new GeneralException(ErrorStatus.USER_DELETED);
+                    }
+                    throw new GeneralException(ErrorStatus.TOKEN_MISMATCH_REFRESH);
+                }
+                default -> throw new GeneralException(ErrorStatus.TOKEN_INVALID_REFRESH);
+            }
         }
 
-        // 5. DB에서 사용자 정보 조회 (활성 사용자만)
-        User user = userRepository.findActiveUserById(userKey)
-                .orElseThrow(() -> {
-                    log.warn("Deleted user attempted to refresh token: {}", userKey);
-                    refreshTokenService.deleteRefreshToken(userKey);
-                    return new GeneralException(ErrorStatus.USER_DELETED);
-                });
-
-        // 6. 새로운 Access Token + Refresh Token 발급
-        String newAccessToken = jwtUtil.generateAccessToken(userKey, user.getEmail());
-        String newRefreshToken = jwtUtil.generateRefreshToken(userKey);
-
-        // 7. 기존 Refresh Token을 Redis Blacklist에 추가 (재사용 방지)
-        // Blacklist TTL = 기존 Refresh Token의 남은 유효 시간
-        Long remainingTTL = refreshTokenService.getRefreshTokenTTL(userKey);
-        if (remainingTTL != null && remainingTTL > 0) {
-            String blacklistKey = "refresh_token:blacklist:" + refreshToken;
-            redisTemplate.opsForValue().set(
-                    blacklistKey,
-                    "revoked",
-                    remainingTTL,
-                    TimeUnit.SECONDS
-            );
-            log.info("Old Refresh Token added to blacklist for user: {}, TTL: {}s", userKey, remainingTTL);
-        }
-
-        // 8. Redis에 새로운 Refresh Token 저장 (기존 토큰 덮어쓰기)
-        refreshTokenService.saveRefreshToken(userKey, newRefreshToken);
-
-        // 9. 쿠키에 새 토큰 설정
+        // 3. 쿠키에 새 토큰 설정 (동시 요청으로 판단된 경우 Access Token만)
+        RefreshTokenService.TokenPair tokens = rotation.tokens();
         CookieUtil.addCookie(response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME,
-                newAccessToken, jwtUtil.getAccessTokenMaxAge(), "/");
-        CookieUtil.addCookie(response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME,
-                newRefreshToken, jwtUtil.getRefreshTokenMaxAge(), "/");
+                tokens.accessToken(), jwtUtil.getAccessTokenMaxAge(), "/");
+        if (tokens.refreshToken() != null) {
+            CookieUtil.addCookie(response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME,
+                    tokens.refreshToken(), jwtUtil.getRefreshTokenMaxAge(), "/");
+        }
 
-        log.info("Token refreshed successfully for user: {} (Refresh Token Rotation applied)", userKey);
+        log.info("Token refreshed successfully for user: {} ({})", rotation.userKey(), rotation.status());
 
         return ApiResponse.onSuccess(TokenRefreshResponse.builder()
                 .message("Token refreshed successfully")
@@ -74,12 +74,10 @@ public class DevAuthController {
                     return restored;
                 });
 
-        // JWT 토큰 생성
-        String accessToken = jwtUtil.generateAccessToken(user.getUserKey(), user.getEmail());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserKey());
-
-        // Refresh Token을 Redis에 저장
-        refreshTokenService.saveRefreshToken(user.getUserKey(), refreshToken);
+        // 로그인 세션 생성 및 JWT 토큰 발급
+        RefreshTokenService.TokenPair tokens = refreshTokenService.startSession(user.getUserKey(), user.getEmail());
+        String accessToken = tokens.accessToken();
+        String refreshToken = tokens.refreshToken();
 
         // 쿠키에 토큰 저장
         CookieUtil.addCookie(response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME,
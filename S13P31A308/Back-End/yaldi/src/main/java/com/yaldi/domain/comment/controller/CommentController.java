@@ -3,12 +3,15 @@ package com.yaldi.domain.comment.controller;
 import com.yaldi.domain.comment.dto.event.CommentCreatedEvent;
 import com.yaldi.domain.comment.dto.event.CommentDeletedEvent;
 import com.yaldi.domain.comment.dto.event.CommentResolvedEvent;
+import com.yaldi.domain.comment.dto.request.CreateAnchoredCommentRequest;
 import com.yaldi.domain.comment.dto.request.CreateCommentWithTableRequest;
 import com.yaldi.domain.comment.dto.request.CreateCommentWithoutTableRequest;
 import com.yaldi.domain.comment.dto.response.CreateCommentWithTableResponse;
 import com.yaldi.domain.comment.dto.response.CreateCommentWithoutTableResponse;
 import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.dto.response.CommentThreadResponse;
 import com.yaldi.domain.comment.service.CommentService;
+import com.yaldi.domain.comment.service.CommentThreadService;
 import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.response.ApiResponse;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentThreadService commentThreadService;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
 
@@ -67,6 +71,49 @@ public class CommentController {
         return ApiResponse.onSuccess(CreateCommentWithoutTableResponse.from(saved));
     }
 
+    @Operation(summary = "앵커 지정 댓글 생성", description = "테이블/컬럼/관계/캔버스에 댓글을 생성합니다. @닉네임으로 프로젝트 멤버를 멘션할 수 있습니다.")
+    @PostMapping("/anchored")
+    public ApiResponse<?> createAnchoredComment(
+            @RequestBody CreateAnchoredCommentRequest request
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+
+        Comment saved = commentService.createAnchoredComment(
+                userKey, request.teamKey(), request.projectKey(),
+                request.anchorType(), request.tableKey(), request.columnKey(), request.relationKey(),
+                request.content(), request.colorHex(),
+                request.xPosition(), request.yPosition()
+        );
+
+        publishCreatedEvent(saved);
+
+        return ApiResponse.onSuccess(CommentThreadResponse.of(saved, 0L, 0L, false));
+    }
+
+    @Operation(summary = "프로젝트 댓글 스레드 조회", description = "최신순 키셋 페이지네이션. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/project/{projectKey}/threads")
+    public ApiResponse<?> getThreads(
+            @PathVariable Long projectKey,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeResolved
+    ) {
+        return ApiResponse.onSuccess(commentThreadService.getThreads(
+                projectKey, SecurityUtil.getCurrentUserKey(), cursor, size, includeResolved));
+    }
+
+    @Operation(summary = "프로젝트 읽지 않은 댓글 수 조회")
+    @GetMapping("/project/{projectKey}/unread-count")
+    public ApiResponse<?> getUnreadCount(@PathVariable Long projectKey) {
+        return ApiResponse.onSuccess(commentThreadService.getUnreadCount(projectKey, SecurityUtil.getCurrentUserKey()));
+    }
+
+    @Operation(summary = "프로젝트 댓글 읽음 처리")
+    @PatchMapping("/project/{projectKey}/read")
+    public ApiResponse<?> markAsRead(@PathVariable Long projectKey) {
+        return ApiResponse.onSuccess(commentThreadService.markAsRead(projectKey, SecurityUtil.getCurrentUserKey()));
+    }
+
     @DeleteMapping("/delete/{commentKey}")
     public ApiResponse<?> deleteComment(@PathVariable Long commentKey) {
         Comment deleted = commentService.deleteComment(SecurityUtil.getCurrentUserKey(), commentKey);
@@ -102,7 +149,11 @@ public class CommentController {
         CommentCreatedEvent event = CommentCreatedEvent.builder()
                 .commentKey(comment.getCommentKey())
                 .projectKey(comment.getProjectKey())
+                .anchorType(comment.getAnchorType())
                 .tableKey(comment.getTableKey())
+                .columnKey(comment.getColumnKey())
+                .relationKey(comment.getRelationKey())
+                .anchorPath(comment.getAnchorPath())
                 .userKey(comment.getUserKey())
                 .userName(user != null ? user.getNickname() : null)
                 .content(comment.getContent())
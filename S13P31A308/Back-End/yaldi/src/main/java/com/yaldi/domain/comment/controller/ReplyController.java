@@ -40,6 +40,17 @@ public class ReplyController {
         return ApiResponse.onSuccess(replyService.getRepliesByComment(commentKey));
     }
 
+    @Operation(summary = "특정 댓글의 대댓글 페이지 조회", description = "작성순 키셋 페이지네이션. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/comment/{commentKey}/page")
+    public ApiResponse<?> getReplyPage(
+            @PathVariable Long commentKey,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.onSuccess(
+                replyService.getReplyPage(SecurityUtil.getCurrentUserKey(), commentKey, cursor, size));
+    }
+
     @Operation(summary = "대댓글 삭제")
     @DeleteMapping("/delete/{replyKey}")
     public ApiResponse<?> deleteReply(
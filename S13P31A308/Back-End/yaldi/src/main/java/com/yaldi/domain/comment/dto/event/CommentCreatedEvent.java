@@ -2,6 +2,7 @@ package com.yaldi.domain.comment.dto.event;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.domain.comment.entity.CommentAnchorType;
 import com.yaldi.infra.websocket.dto.WebSocketEvent;
 import lombok.*;
 
@@ -20,9 +21,21 @@ public class CommentCreatedEvent implements WebSocketEvent {
     @JsonProperty("projectKey")
     private Long projectKey;
 
+    @JsonProperty("anchorType")
+    private CommentAnchorType anchorType;
+
     @JsonProperty("tableKey")
     private Long tableKey;
 
+    @JsonProperty("columnKey")
+    private Long columnKey;
+
+    @JsonProperty("relationKey")
+    private Long relationKey;
+
+    @JsonProperty("anchorPath")
+    private String anchorPath;
+
     @JsonProperty("userKey")
     private Integer userKey;
 
@@ -0,0 +1,39 @@
+package com.yaldi.domain.comment.dto.request;
+
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@Schema(description = "앵커 지정 메모(댓글) 생성 요청 DTO")
+public record CreateAnchoredCommentRequest(
+        @Schema(description = "소속 팀 키", example = "2")
+        Integer teamKey,
+
+        @Schema(description = "소속 프로젝트 키", example = "2")
+        Long projectKey,
+
+        @Schema(description = "앵커 종류 (CANVAS, TABLE, COLUMN, RELATION)", example = "COLUMN")
+        CommentAnchorType anchorType,
+
+        @Schema(description = "대상 테이블 키 (TABLE)", example = "1001")
+        Long tableKey,
+
+        @Schema(description = "대상 컬럼 키 (COLUMN)", example = "5001")
+        Long columnKey,
+
+        @Schema(description = "대상 관계 키 (RELATION)", example = "301")
+        Long relationKey,
+
+        @Schema(description = "댓글 내용 (@닉네임으로 멘션)", example = "@홍길동 이 컬럼 NOT NULL 필요할까요?")
+        String content,
+
+        @Schema(description = "메모 색상 HEX 코드 (6자리)", example = "FFAA33")
+        String colorHex,
+
+        @Schema(description = "X 좌표 (CANVAS: 절대 좌표, 그 외: 앵커 기준 상대 좌표)", example = "24.00")
+        BigDecimal xPosition,
+
+        @Schema(description = "Y 좌표 (CANVAS: 절대 좌표, 그 외: 앵커 기준 상대 좌표)", example = "-12.50")
+        BigDecimal yPosition
+) {
+}
@@ -0,0 +1,19 @@
+package com.yaldi.domain.comment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "댓글 스레드 페이지 응답 DTO (키셋 페이지네이션)")
+public record CommentThreadPageResponse(
+
+        @Schema(description = "댓글 스레드 목록 (최신순)")
+        List<CommentThreadResponse> threads,
+
+        @Schema(description = "다음 페이지 커서 (없으면 null)", example = "87")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+}
@@ -0,0 +1,85 @@
+package com.yaldi.domain.comment.dto.response;
+
+import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Schema(description = "댓글 스레드 응답 DTO")
+public record CommentThreadResponse(
+
+        @Schema(description = "댓글 키", example = "101")
+        Long commentKey,
+
+        @Schema(description = "작성자 키", example = "1")
+        Integer userKey,
+
+        @Schema(description = "앵커 종류", example = "TABLE")
+        CommentAnchorType anchorType,
+
+        @Schema(description = "대상 테이블 키", example = "1001")
+        Long tableKey,
+
+        @Schema(description = "대상 컬럼 키", example = "5001")
+        Long columnKey,
+
+        @Schema(description = "대상 관계 키", example = "301")
+        Long relationKey,
+
+        @Schema(description = "앵커 이름 경로", example = "users.email")
+        String anchorPath,
+
+        @Schema(description = "앵커 분리 여부 (대상 객체를 찾지 못함)", example = "false")
+        Boolean detached,
+
+        @Schema(description = "댓글 내용", example = "이 부분 제약조건 추가 고려해주세요.")
+        String content,
+
+        @Schema(description = "색상 HEX 코드", example = "FFAA33")
+        String colorHex,
+
+        @Schema(description = "X 좌표 (CANVAS: 절대 좌표, 그 외: 앵커 기준 상대 좌표)", example = "320.5")
+        BigDecimal xPosition,
+
+        @Schema(description = "Y 좌표 (CANVAS: 절대 좌표, 그 외: 앵커 기준 상대 좌표)", example = "480.25")
+        BigDecimal yPosition,
+
+        @Schema(description = "해결 여부", example = "false")
+        Boolean isResolved,
+
+        @Schema(description = "대댓글 수", example = "3")
+        long replyCount,
+
+        @Schema(description = "읽지 않은 대댓글 수", example = "1")
+        long unreadReplyCount,
+
+        @Schema(description = "댓글 자체를 읽지 않았는지 여부", example = "true")
+        boolean unread,
+
+        @Schema(description = "작성 시각", example = "2025-11-13T14:30:00Z")
+        OffsetDateTime createdAt
+) {
+    public static CommentThreadResponse of(Comment comment, long replyCount, long unreadReplyCount, boolean unread) {
+        return new CommentThreadResponse(
+                comment.getCommentKey(),
+                comment.getUserKey(),
+                comment.getAnchorType(),
+                comment.getTableKey(),
+                comment.getColumnKey(),
+                comment.getRelationKey(),
+                comment.getAnchorPath(),
+                comment.getIsDetached(),
+                comment.getContent(),
+                comment.getColorHex(),
+                comment.getXPosition(),
+                comment.getYPosition(),
+                comment.getIsResolved(),
+                replyCount,
+                unreadReplyCount,
+                unread,
+                comment.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.yaldi.domain.comment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Schema(description = "프로젝트 읽지 않은 댓글 수 응답 DTO")
+public record CommentUnreadCountResponse(
+
+        @Schema(description = "프로젝트 키", example = "2")
+        Long projectKey,
+
+        @Schema(description = "읽지 않은 댓글 수", example = "2")
+        long unreadComments,
+
+        @Schema(description = "읽지 않은 대댓글 수", example = "5")
+        long unreadReplies,
+
+        @Schema(description = "마지막 읽음 시각 (없으면 null)", example = "2025-11-13T14:30:00Z")
+        OffsetDateTime lastReadAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.yaldi.domain.comment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "대댓글 페이지 응답 DTO (키셋 페이지네이션)")
+public record ReplyPageResponse(
+
+        @Schema(description = "대댓글 목록 (작성순)")
+        List<ReplyResponse> replies,
+
+        @Schema(description = "다음 페이지 커서 (없으면 null)", example = "215")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "false")
+        boolean hasNext
+) {
+}
@@ -35,6 +35,28 @@ public class Comment extends BaseSoftDeleteEntity {
     @Column(name = "project_key")
     private Long projectKey;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "anchor_type", nullable = false, length = 20)
+    @Builder.Default
+    private CommentAnchorType anchorType = CommentAnchorType.CANVAS;
+
+    @Column(name = "column_key")
+    private Long columnKey;
+
+    @Column(name = "relation_key")
+    private Long relationKey;
+
+    /**
+     * 앵커 객체 이름 경로 (table / table.column / from->to:constraint)
+     * 버전 롤백으로 키가 바뀐 뒤 앵커를 다시 찾는 데 사용
+     */
+    @Column(name = "anchor_path", length = 1024)
+    private String anchorPath;
+
+    @Column(name = "is_detached", nullable = false)
+    @Builder.Default
+    private Boolean isDetached = false;
+
     @Column(name = "content", length = 1000, nullable = false)
     @Builder.Default
     private String content = "";
@@ -64,4 +86,30 @@ public class Comment extends BaseSoftDeleteEntity {
     public void unresolve() {
         this.isResolved = false;
     }
+
+    public boolean isAnchoredToErd() {
+        return anchorType != CommentAnchorType.CANVAS;
+    }
+
+    /**
+     * 앵커 재연결 (버전 롤백 등으로 ERD 객체 키가 바뀐 경우)
+     */
+    public void reattach(Long tableKey, Long columnKey, Long relationKey, String anchorPath) {
+        this.tableKey = tableKey;
+        this.columnKey = columnKey;
+        this.relationKey = relationKey;
+        this.anchorPath = anchorPath;
+        this.isDetached = false;
+    }
+
+    /**
+     * 앵커 분리 (대상 객체를 찾지 못함) - 이름 경로는 유지하여 이후 롤백에서 다시 연결될 수 있음
+     */
+    public void detach(String anchorPath) {
+        this.tableKey = null;
+        this.columnKey = null;
+        this.relationKey = null;
+        this.anchorPath = anchorPath;
+        this.isDetached = true;
+    }
 }
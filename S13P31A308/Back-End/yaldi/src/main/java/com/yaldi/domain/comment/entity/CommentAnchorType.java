@@ -0,0 +1,18 @@
+package com.yaldi.domain.comment.entity;
+
+/**
+ * 댓글 앵커 종류
+ *
+ * <p>CANVAS 댓글의 좌표는 캔버스 절대 좌표이고, 그 외 앵커의 좌표는 앵커 객체 기준 상대 좌표입니다.
+ * (테이블이 이동해도 댓글이 함께 따라감)</p>
+ */
+public enum CommentAnchorType {
+    /** 캔버스 좌표 */
+    CANVAS,
+    /** 테이블 */
+    TABLE,
+    /** 컬럼 (tableKey + columnKey) */
+    COLUMN,
+    /** 관계선 (relationKey) */
+    RELATION
+}
@@ -0,0 +1,12 @@
+package com.yaldi.domain.comment.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CommentNotificationType {
+    MENTIONED("COMMENT_MENTION");
+
+    private final String value;
+}
@@ -0,0 +1,37 @@
+package com.yaldi.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 사용자별 프로젝트 댓글 읽음 위치
+ *
+ * <p>last_read_at 이후 다른 사용자가 작성한 댓글/대댓글을 읽지 않은 것으로 계산합니다.</p>
+ */
+@Entity
+@Table(name = "comment_read_cursors")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentReadCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cursor_key")
+    private Long cursorKey;
+
+    @Column(name = "user_key", nullable = false)
+    private Integer userKey;
+
+    @Column(name = "project_key", nullable = false)
+    private Long projectKey;
+
+    @Column(name = "last_read_at", nullable = false)
+    private OffsetDateTime lastReadAt;
+}
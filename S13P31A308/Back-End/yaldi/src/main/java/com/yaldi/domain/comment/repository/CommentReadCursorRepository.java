@@ -0,0 +1,27 @@
+package com.yaldi.domain.comment.repository;
+
+import com.yaldi.domain.comment.entity.CommentReadCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CommentReadCursorRepository extends JpaRepository<CommentReadCursor, Long> {
+
+    Optional<CommentReadCursor> findByUserKeyAndProjectKey(Integer userKey, Long projectKey);
+
+    /**
+     * 읽음 위치 전진 (뒤로 가지 않음, 동시 요청에도 단일 행 유지)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO comment_read_cursors (user_key, project_key, last_read_at) " +
+            "VALUES (:userKey, :projectKey, :readAt) " +
+            "ON CONFLICT (user_key, project_key) DO UPDATE " +
+            "SET last_read_at = GREATEST(comment_read_cursors.last_read_at, EXCLUDED.last_read_at)",
+            nativeQuery = true)
+    void advance(Integer userKey, Long projectKey, OffsetDateTime readAt);
+}
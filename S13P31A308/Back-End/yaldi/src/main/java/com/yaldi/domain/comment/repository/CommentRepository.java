@@ -1,10 +1,13 @@
 package com.yaldi.domain.comment.repository;
 
 import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +47,23 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c WHERE c.commentKey = :commentKey AND c.deletedAt IS NULL")
     Optional<Comment> findActiveCommentById(Long commentKey);
+
+    /**
+     * 프로젝트 댓글 스레드 키셋 조회 (comment_key 내림차순, cursor 미만)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.projectKey = :projectKey AND c.commentKey < :cursor " +
+            "AND (:includeResolved = true OR c.isResolved = false) ORDER BY c.commentKey DESC")
+    List<Comment> findThreadPage(Long projectKey, Long cursor, boolean includeResolved, Pageable pageable);
+
+    /**
+     * ERD 객체에 앵커된 댓글 목록 조회 (버전 롤백 후 재해석 대상)
+     */
+    List<Comment> findByProjectKeyAndAnchorTypeNot(Long projectKey, CommentAnchorType anchorType);
+
+    /**
+     * 읽음 위치 이후 다른 사용자가 작성한 댓글 수
+     */
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.projectKey = :projectKey " +
+            "AND c.userKey <> :userKey AND c.createdAt > :since")
+    long countUnread(Long projectKey, Integer userKey, OffsetDateTime since);
 }
@@ -1,10 +1,13 @@
 package com.yaldi.domain.comment.repository;
 
 import com.yaldi.domain.comment.entity.Reply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +47,32 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
      * 댓글의 답글 수 조회
      */
     long countByCommentKey(Long commentKey);
+
+    /**
+     * 스레드 답글 키셋 조회 (reply_key 오름차순, cursor 초과)
+     */
+    List<Reply> findByCommentKeyAndReplyKeyGreaterThanOrderByReplyKeyAsc(Long commentKey, Long cursor, Pageable pageable);
+
+    /**
+     * 댓글별 답글 수 / 읽지 않은 답글 수 일괄 조회
+     */
+    @Query("SELECT r.commentKey AS commentKey, COUNT(r) AS replyCount, " +
+            "SUM(CASE WHEN r.userKey <> :userKey AND r.createdAt > :since THEN 1 ELSE 0 END) AS unreadCount " +
+            "FROM Reply r WHERE r.commentKey IN :commentKeys GROUP BY r.commentKey")
+    List<ReplyCountView> countByCommentKeys(Collection<Long> commentKeys, Integer userKey, OffsetDateTime since);
+
+    /**
+     * 읽음 위치 이후 다른 사용자가 작성한 프로젝트 답글 수
+     */
+    @Query("SELECT COUNT(r) FROM Reply r JOIN Comment c ON c.commentKey = r.commentKey " +
+            "WHERE c.projectKey = :projectKey AND r.userKey <> :userKey AND r.createdAt > :since")
+    long countUnreadInProject(Long projectKey, Integer userKey, OffsetDateTime since);
+
+    interface ReplyCountView {
+        Long getCommentKey();
+
+        Long getReplyCount();
+
+        Long getUnreadCount();
+    }
 }
@@ -0,0 +1,364 @@
+package com.yaldi.domain.comment.service;
+
+import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import com.yaldi.domain.comment.repository.CommentRepository;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdRelation;
+import com.yaldi.domain.erd.entity.ErdTable;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 앵커 해석 서비스
+ *
+ * <p>앵커는 ERD 객체 키와 이름 경로(anchor_path)를 함께 저장합니다.</p>
+ * <ul>
+ *   <li><strong>이동:</strong> 좌표가 앵커 기준 상대 좌표이므로 갱신할 필요 없음</li>
+ *   <li><strong>이름 변경:</strong> 키가 그대로이므로 갱신할 필요 없음 (경로는 롤백 직전에 다시 계산)</li>
+ *   <li><strong>버전 롤백:</strong> ERD 객체가 새 키로 재생성되므로 아래 순서로 다시 연결
+ *     <ol>
+ *       <li>스냅샷 키 → 새 키 매핑 (댓글 키가 스냅샷에 있는 경우, 이름이 바뀌었어도 정확)</li>
+ *       <li>롤백 직전 현재 이름 경로</li>
+ *       <li>저장된 이름 경로 (이전에 분리된 댓글)</li>
+ *     </ol>
+ *     모두 실패하면 댓글을 분리(detached) 상태로 남기고, 이후 롤백에서 경로가 다시 일치하면 재연결합니다.
+ *   </li>
+ *   <li><strong>삭제:</strong> 테이블/컬럼/관계 삭제 직전 {@link #detachForDeletion}으로 분리
+ *     (테이블 삭제 시 해당 테이블의 컬럼과 연결된 관계의 댓글 포함). 앵커 키에 FK가 없으므로 삭제 경로에서 직접 처리합니다.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentAnchorService {
+
+    private final CommentRepository commentRepository;
+    private final ErdTableRepository erdTableRepository;
+    private final ErdColumnRepository erdColumnRepository;
+    private final ErdRelationRepository erdRelationRepository;
+
+    /**
+     * 해석된 앵커
+     */
+    public record ResolvedAnchor(CommentAnchorType type, Long tableKey, Long columnKey, Long relationKey, String path) {
+
+        static ResolvedAnchor canvas() {
+            return new ResolvedAnchor(CommentAnchorType.CANVAS, null, null, null, null);
+        }
+    }
+
+    /**
+     * 댓글 생성 시 앵커 검증 및 이름 경로 계산
+     *
+     * @throws GeneralException 대상 ERD 객체가 없거나 다른 프로젝트에 속한 경우
+     */
+    @Transactional(readOnly = true)
+    public ResolvedAnchor resolve(Long projectKey, CommentAnchorType type, Long tableKey, Long columnKey, Long relationKey) {
+        CommentAnchorType anchorType = type != null ? type : CommentAnchorType.CANVAS;
+
+        return switch (anchorType) {
+            case CANVAS -> ResolvedAnchor.canvas();
+            case TABLE -> {
+                ErdTable table = findTable(projectKey, tableKey);
+                yield new ResolvedAnchor(CommentAnchorType.TABLE, table.getTableKey(), null, null, tablePath(table));
+            }
+            case COLUMN -> {
+                if (columnKey == null) {
+                    throw new GeneralException(ErrorStatus.ERD_COLUMN_NOT_FOUND);
+                }
+                ErdColumn column = erdColumnRepository.findById(columnKey)
+                        .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_COLUMN_NOT_FOUND));
+                ErdTable table = findTable(projectKey, column.getTableKey());
+                yield new ResolvedAnchor(CommentAnchorType.COLUMN, table.getTableKey(), column.getColumnKey(), null,
+                        columnPath(table, column));
+            }
+            case RELATION -> {
+                if (relationKey == null) {
+                    throw new GeneralException(ErrorStatus.ERD_RELATION_NOT_FOUND);
+                }
+                ErdRelation relation = erdRelationRepository.findById(relationKey)
+                        .filter(r -> r.getProjectKey().equals(projectKey))
+                        .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_RELATION_NOT_FOUND));
+                ErdTable from = findTable(projectKey, relation.getFromTableKey());
+                ErdTable to = findTable(projectKey, relation.getToTableKey());
+                yield new ResolvedAnchor(CommentAnchorType.RELATION, null, null, relation.getRelationKey(),
+                        relationPath(from, to, relation));
+            }
+        };
+    }
+
+    /**
+     * 롤백 직전 앵커 댓글의 현재 이름 경로 수집 (commentKey → path)
+     *
+     * <p>ERD 객체가 삭제되기 전에 호출해야 합니다. 마지막 버전 이후의 이름 변경도 반영됩니다.</p>
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> captureAnchorPaths(Long projectKey) {
+        List<Comment> comments = commentRepository.findByProjectKeyAndAnchorTypeNot(projectKey, CommentAnchorType.CANVAS);
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+
+        ErdIndex index = loadIndex(projectKey);
+        Map<Long, String> paths = new HashMap<>();
+        for (Comment comment : comments) {
+            ResolvedAnchor current = index.byKey(comment.getAnchorType(), anchorKey(comment));
+            String path = current != null ? current.path() : comment.getAnchorPath();
+            if (path != null) {
+                paths.put(comment.getCommentKey(), path);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * 롤백으로 재생성된 ERD 객체에 앵커 재연결
+     *
+     * @param capturedPaths  {@link #captureAnchorPaths}로 수집한 롤백 직전 경로
+     * @param tableKeyMap    스냅샷 테이블 키 → 새 테이블 키
+     * @param columnKeyMap   스냅샷 컬럼 키 → 새 컬럼 키
+     * @param relationKeyMap 스냅샷 관계 키 → 새 관계 키
+     * @return 분리된 댓글 수
+     */
+    @Transactional
+    public int reattachAfterRollback(
+            Long projectKey,
+            Map<Long, String> capturedPaths,
+            Map<Long, Long> tableKeyMap,
+            Map<Long, Long> columnKeyMap,
+            Map<Long, Long> relationKeyMap
+    ) {
+        List<Comment> comments = commentRepository.findByProjectKeyAndAnchorTypeNot(projectKey, CommentAnchorType.CANVAS);
+        if (comments.isEmpty()) {
+            return 0;
+        }
+
+        ErdIndex index = loadIndex(projectKey);
+        int detached = 0;
+        for (Comment comment : comments) {
+            Map<Long, Long> keyMap = switch (comment.getAnchorType()) {
+                case TABLE -> tableKeyMap;
+                case COLUMN -> columnKeyMap;
+                case RELATION -> relationKeyMap;
+                case CANVAS -> Map.of();
+            };
+            String capturedPath = capturedPaths.get(comment.getCommentKey());
+
+            ResolvedAnchor target = relocate(comment, keyMap, capturedPath, index);
+            if (target != null) {
+                comment.reattach(target.tableKey(), target.columnKey(), target.relationKey(), target.path());
+            } else {
+                comment.detach(capturedPath != null ? capturedPath : comment.getAnchorPath());
+                detached++;
+            }
+        }
+
+        log.info("댓글 앵커 재연결 완료 - projectKey={}, 대상={}, 분리={}", projectKey, comments.size(), detached);
+        return detached;
+    }
+
+    /**
+     * 삭제되는 ERD 객체에 앵커된 댓글 분리 (삭제 직전 현재 이름 경로 보존)
+     *
+     * <p>soft delete가 flush되기 전에 호출해야 합니다. 테이블 삭제는 DB 트리거가 컬럼/관계를 함께 삭제하므로
+     * 해당 테이블의 컬럼 댓글과 테이블에 연결된 관계 댓글도 분리합니다.</p>
+     *
+     * @return 분리된 댓글 수
+     */
+    @Transactional
+    public int detachForDeletion(Long projectKey, CommentAnchorType type, Long key) {
+        List<Comment> comments = commentRepository.findByProjectKeyAndAnchorTypeNot(projectKey, CommentAnchorType.CANVAS);
+        if (comments.isEmpty()) {
+            return 0;
+        }
+
+        ErdIndex index = loadIndex(projectKey);
+        int detached = 0;
+        for (Comment comment : comments) {
+            if (!anchoredTo(comment, type, key, index)) {
+                continue;
+            }
+            ResolvedAnchor current = index.byKey(comment.getAnchorType(), anchorKey(comment));
+            comment.detach(current != null ? current.path() : comment.getAnchorPath());
+            detached++;
+        }
+
+        if (detached > 0) {
+            log.info("삭제된 ERD 객체의 댓글 분리 - projectKey={}, type={}, key={}, 분리={}", projectKey, type, key, detached);
+        }
+        return detached;
+    }
+
+    private static boolean anchoredTo(Comment comment, CommentAnchorType type, Long key, ErdIndex index) {
+        return switch (type) {
+            case TABLE -> key.equals(comment.getTableKey())
+                    || comment.getAnchorType() == CommentAnchorType.RELATION && index.relationTouches(comment.getRelationKey(), key);
+            case COLUMN -> comment.getAnchorType() == CommentAnchorType.COLUMN && key.equals(comment.getColumnKey());
+            case RELATION -> comment.getAnchorType() == CommentAnchorType.RELATION && key.equals(comment.getRelationKey());
+            case CANVAS -> false;
+        };
+    }
+
+    private ResolvedAnchor relocate(Comment comment, Map<Long, Long> keyMap, String capturedPath, ErdIndex index) {
+        Long oldKey = anchorKey(comment);
+        if (oldKey != null && keyMap.containsKey(oldKey)) {
+            ResolvedAnchor mapped = index.byKey(comment.getAnchorType(), keyMap.get(oldKey));
+            if (mapped != null) {
+                return mapped;
+            }
+        }
+        ResolvedAnchor byCapturedPath = index.byPath(comment.getAnchorType(), capturedPath);
+        if (byCapturedPath != null) {
+            return byCapturedPath;
+        }
+        return index.byPath(comment.getAnchorType(), comment.getAnchorPath());
+    }
+
+    private static Long anchorKey(Comment comment) {
+        return switch (comment.getAnchorType()) {
+            case TABLE -> comment.getTableKey();
+            case COLUMN -> comment.getColumnKey();
+            case RELATION -> comment.getRelationKey();
+            case CANVAS -> null;
+        };
+    }
+
+    private ErdTable findTable(Long projectKey, Long tableKey) {
+        if (tableKey == null) {
+            throw new GeneralException(ErrorStatus.ERD_TABLE_NOT_FOUND);
+        }
+        return erdTableRepository.findById(tableKey)
+                .filter(table -> table.getProjectKey().equals(projectKey))
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_TABLE_NOT_FOUND));
+    }
+
+    private ErdIndex loadIndex(Long projectKey) {
+        return new ErdIndex(
+                erdTableRepository.findByProjectKey(projectKey),
+                erdColumnRepository.findByProjectKey(projectKey),
+                erdRelationRepository.findByProjectKey(projectKey));
+    }
+
+    // ========== 이름 경로 ==========
+
+    static String tablePath(ErdTable table) {
+        return displayName(table.getPhysicalName(), table.getLogicalName());
+    }
+
+    static String columnPath(ErdTable table, ErdColumn column) {
+        String tablePath = tablePath(table);
+        String columnName = displayName(column.getPhysicalName(), column.getLogicalName());
+        return tablePath == null || columnName == null ? null : tablePath + "." + columnName;
+    }
+
+    static String relationPath(ErdTable from, ErdTable to, ErdRelation relation) {
+        String fromPath = tablePath(from);
+        String toPath = tablePath(to);
+        if (fromPath == null || toPath == null) {
+            return null;
+        }
+        String constraint = relation.getConstraintName() != null ? relation.getConstraintName() : "";
+        return fromPath + "->" + toPath + ":" + constraint;
+    }
+
+    private static String displayName(String physicalName, String logicalName) {
+        if (physicalName != null && !physicalName.isBlank()) {
+            return physicalName;
+        }
+        return logicalName != null && !logicalName.isBlank() ? logicalName : null;
+    }
+
+    /**
+     * 프로젝트 ERD 키/경로 색인
+     */
+    private static final class ErdIndex {
+
+        private final Map<Long, ResolvedAnchor> tablesByKey = new HashMap<>();
+        private final Map<Long, ResolvedAnchor> columnsByKey = new HashMap<>();
+        private final Map<Long, ResolvedAnchor> relationsByKey = new HashMap<>();
+        private final Map<String, ResolvedAnchor> tablesByPath = new HashMap<>();
+        private final Map<String, ResolvedAnchor> columnsByPath = new HashMap<>();
+        private final Map<String, ResolvedAnchor> relationsByPath = new HashMap<>();
+        private final Map<Long, List<Long>> relationTableKeys = new HashMap<>();
+
+        ErdIndex(List<ErdTable> tables, List<ErdColumn> columns, List<ErdRelation> relations) {
+            Map<Long, ErdTable> tableByKey = tables.stream()
+                    .collect(Collectors.toMap(ErdTable::getTableKey, Function.identity()));
+
+            for (ErdTable table : tables) {
+                put(tablesByKey, tablesByPath, table.getTableKey(), new ResolvedAnchor(
+                        CommentAnchorType.TABLE, table.getTableKey(), null, null, tablePath(table)));
+            }
+            for (ErdColumn column : columns) {
+                ErdTable table = tableByKey.get(column.getTableKey());
+                if (table != null) {
+                    put(columnsByKey, columnsByPath, column.getColumnKey(), new ResolvedAnchor(
+                            CommentAnchorType.COLUMN, table.getTableKey(), column.getColumnKey(), null,
+                            columnPath(table, column)));
+                }
+            }
+            for (ErdRelation relation : relations) {
+                relationTableKeys.put(relation.getRelationKey(), List.of(relation.getFromTableKey(), relation.getToTableKey()));
+                ErdTable from = tableByKey.get(relation.getFromTableKey());
+                ErdTable to = tableByKey.get(relation.getToTableKey());
+                if (from != null && to != null) {
+                    put(relationsByKey, relationsByPath, relation.getRelationKey(), new ResolvedAnchor(
+                            CommentAnchorType.RELATION, null, null, relation.getRelationKey(),
+                            relationPath(from, to, relation)));
+                }
+            }
+        }
+
+        private static void put(Map<Long, ResolvedAnchor> byKey, Map<String, ResolvedAnchor> byPath,
+                                Long key, ResolvedAnchor anchor) {
+            byKey.put(key, anchor);
+            if (anchor.path() != null) {
+                // 같은 경로가 여러 개면 먼저 조회된 객체 사용
+                byPath.putIfAbsent(anchor.path(), anchor);
+            }
+        }
+
+        ResolvedAnchor byKey(CommentAnchorType type, Long key) {
+            if (key == null) {
+                return null;
+            }
+            return switch (type) {
+                case TABLE -> tablesByKey.get(key);
+                case COLUMN -> columnsByKey.get(key);
+                case RELATION -> relationsByKey.get(key);
+                case CANVAS -> null;
+            };
+        }
+
+        boolean relationTouches(Long relationKey, Long tableKey) {
+            return relationKey != null && relationTableKeys.getOrDefault(relationKey, List.of()).contains(tableKey);
+        }
+
+        ResolvedAnchor byPath(CommentAnchorType type, String path) {
+            if (path == null) {
+                return null;
+            }
+            return switch (type) {
+                case TABLE -> tablesByPath.get(path);
+                case COLUMN -> columnsByPath.get(path);
+                case RELATION -> relationsByPath.get(path);
+                case CANVAS -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.yaldi.domain.comment.service;
+
+import com.yaldi.domain.comment.entity.CommentNotificationType;
+import com.yaldi.domain.notification.service.NotificationService;
+import com.yaldi.domain.project.entity.ProjectMemberRelation;
+import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글/대댓글 @멘션 알림 서비스
+ *
+ * <p>본문의 {@code @닉네임}을 프로젝트 멤버 닉네임과 대조하여 {@link NotificationService#notifyUser}로 알림을 보냅니다.
+ * 닉네임 뒤에 조사가 붙는 경우({@code @홍길동님})를 위해 멤버 닉네임 중 가장 긴 접두사 일치를 사용합니다.
+ * 같은 프로젝트의 멘션은 프로젝트 단위로 묶입니다.</p>
+ *
+ * <p>알림은 댓글 트랜잭션 커밋 후 대상마다 별도 트랜잭션(REQUIRES_NEW)으로 생성합니다.
+ * 같은 트랜잭션에 참여하면 알림 실패가 댓글 트랜잭션을 rollback-only로 만들어 댓글 저장까지 실패하기 때문입니다.</p>
+ */
+@Slf4j
+@Service
+public class CommentMentionService {
+
+    /** 이메일(a@b.com)은 제외: @ 앞이 문자/숫자가 아니어야 함 */
+    private static final Pattern MENTION_PATTERN = Pattern.compile("(?<![\\p{L}\\p{N}_.@])@([\\p{L}\\p{N}_]+)");
+
+    /** 댓글 하나에서 알림을 보내는 최대 멘션 수 */
+    static final int MAX_MENTIONS = 20;
+
+    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public CommentMentionService(ProjectMemberRelationRepository projectMemberRelationRepository,
+                                 UserRepository userRepository,
+                                 NotificationService notificationService,
+                                 PlatformTransactionManager transactionManager) {
+        this.projectMemberRelationRepository = projectMemberRelationRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 본문의 멘션 토큰 추출 (@ 제외, 등장 순서 유지, 중복 제거)
+     */
+    public static Set<String> extractMentionTokens(String content) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (content == null || content.indexOf('@') < 0) {
+            return tokens;
+        }
+        Matcher matcher = MENTION_PATTERN.matcher(content);
+        while (matcher.find() && tokens.size() < MAX_MENTIONS) {
+            tokens.add(matcher.group(1));
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰과 가장 길게 접두사 일치하는 닉네임 선택
+     */
+    static Optional<String> matchNickname(String token, Collection<String> nicknames) {
+        return nicknames.stream()
+                .filter(token::startsWith)
+                .max((a, b) -> Integer.compare(a.length(), b.length()));
+    }
+
+    /**
+     * 멘션된 프로젝트 멤버에게 알림 (작성자 본인 제외, 트랜잭션 중이면 커밋 후 전송)
+     *
+     * @return 알림 대상 사용자 키
+     */
+    public Set<Integer> notifyMentions(Long projectKey, Long commentKey, Integer authorKey, String content) {
+        Set<String> tokens = extractMentionTokens(content);
+        if (tokens.isEmpty() || projectKey == null) {
+            return Set.of();
+        }
+
+        List<Integer> memberKeys = projectMemberRelationRepository.findByProjectKey(projectKey).stream()
+                .map(ProjectMemberRelation::getMemberKey)
+                .toList();
+        Map<String, User> membersByNickname = userRepository.findAllById(memberKeys).stream()
+                .filter(user -> user.getNickname() != null)
+                .collect(Collectors.toMap(User::getNickname, user -> user, (a, b) -> a));
+
+        Set<Integer> mentioned = new LinkedHashSet<>();
+        for (String token : tokens) {
+            matchNickname(token, membersByNickname.keySet())
+                    .map(membersByNickname::get)
+                    .map(User::getUserKey)
+                    .filter(userKey -> !userKey.equals(authorKey))
+                    .ifPresent(mentioned::add);
+        }
+        if (mentioned.isEmpty()) {
+            return mentioned;
+        }
+
+        String authorName = userRepository.findById(authorKey).map(User::getNickname).orElse("");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sendMentions(projectKey, commentKey, authorName, mentioned);
+                }
+            });
+        } else {
+            sendMentions(projectKey, commentKey, authorName, mentioned);
+        }
+        return mentioned;
+    }
+
+    private void sendMentions(Long projectKey, Long commentKey, String authorName, Set<Integer> userKeys) {
+        for (Integer userKey : userKeys) {
+            try {
+                requiresNewTransaction.executeWithoutResult(status -> notificationService.notifyUser(
+                        userKey, CommentNotificationType.MENTIONED.getValue(), authorName, commentKey, projectKey));
+            } catch (Exception e) {
+                log.warn("멘션 알림 전송 실패 - commentKey={}, userKey={}, error={}", commentKey, userKey, e.getMessage());
+            }
+        }
+        log.info("멘션 알림: commentKey={}, 대상={}", commentKey, userKeys);
+    }
+}
@@ -2,8 +2,11 @@ package com.yaldi.domain.comment.service;
 
 import com.yaldi.domain.comment.dto.response.CommentResponse;
 import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.entity.CommentAnchorType;
 import com.yaldi.domain.comment.repository.CommentRepository;
-import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import com.yaldi.domain.comment.service.CommentAnchorService.ResolvedAnchor;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
+import com.yaldi.domain.team.validator.TeamValidator;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
@@ -21,8 +24,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final UserTeamRelationRepository userTeamRelationRepository;
+    private final TeamValidator teamValidator;
     private final UserRepository userRepository;
+    private final CommentAnchorService commentAnchorService;
+    private final CommentMentionService commentMentionService;
+    private final ProjectAccessValidator projectAccessValidator;
 
     @Transactional
     public Comment createCommentWithTable(
@@ -33,22 +39,8 @@ public class CommentService {
             String content,
             String colorHex
     ) {
-        boolean isBelong = userTeamRelationRepository.existsByUser_UserKeyAndTeam_TeamKey(userKey, teamKey);
-        if (!isBelong) {
-            throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
-        }
-
-        Comment comment = Comment.builder()
-                .userKey(userKey)
-                .tableKey(tableKey)
-                .projectKey(projectKey)
-                .content(content)
-                .colorHex(colorHex)
-                .build();
-
-        Comment saved = commentRepository.save(comment);
-        log.info("댓글 생성: comment={}, project={}, table={}", saved.getCommentKey(), projectKey, tableKey);
-        return saved;
+        return createAnchoredComment(userKey, teamKey, projectKey, CommentAnchorType.TABLE,
+                tableKey, null, null, content, colorHex, null, null);
     }
 
     @Transactional
@@ -61,14 +53,44 @@ public class CommentService {
             BigDecimal xPosition,
             BigDecimal yPosition
     ) {
-        boolean isBelong = userTeamRelationRepository.existsByUser_UserKeyAndTeam_TeamKey(userKey, teamKey);
-        if (!isBelong) {
-            throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
-        }
+        return createAnchoredComment(userKey, teamKey, projectKey, CommentAnchorType.CANVAS,
+                null, null, null, content, colorHex, xPosition, yPosition);
+    }
+
+    /**
+     * 앵커 지정 댓글 생성 (CANVAS / TABLE / COLUMN / RELATION)
+     *
+     * <p>ERD 앵커의 좌표는 앵커 기준 상대 좌표로 저장하여 테이블 이동 시에도 댓글이 따라가도록 합니다.
+     * 본문의 @닉네임은 프로젝트 멤버에게 알림으로 전달됩니다.</p>
+     */
+    @Transactional
+    public Comment createAnchoredComment(
+            Integer userKey,
+            Integer teamKey,
+            Long projectKey,
+            CommentAnchorType anchorType,
+            Long tableKey,
+            Long columnKey,
+            Long relationKey,
+            String content,
+            String colorHex,
+            BigDecimal xPosition,
+            BigDecimal yPosition
+    ) {
+        teamValidator.validateTeamMembership(userKey, teamKey);
+        // teamKey는 클라이언트가 보낸 값이므로 프로젝트 멤버 여부로 다시 검증
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        ResolvedAnchor anchor = commentAnchorService.resolve(projectKey, anchorType, tableKey, columnKey, relationKey);
 
         Comment comment = Comment.builder()
                 .userKey(userKey)
                 .projectKey(projectKey)
+                .anchorType(anchor.type())
+                .tableKey(anchor.tableKey())
+                .columnKey(anchor.columnKey())
+                .relationKey(anchor.relationKey())
+                .anchorPath(anchor.path())
                 .content(content)
                 .colorHex(colorHex)
                 .xPosition(xPosition)
@@ -76,7 +98,10 @@ public class CommentService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
-        log.info("댓글 생성: comment={}, project={}, x={}, y={}", saved.getCommentKey(), projectKey, xPosition, yPosition);
+        log.info("댓글 생성: comment={}, project={}, anchor={}:{}",
+                saved.getCommentKey(), projectKey, anchor.type(), anchor.path());
+
+        commentMentionService.notifyMentions(projectKey, saved.getCommentKey(), userKey, content);
         return saved;
     }
 
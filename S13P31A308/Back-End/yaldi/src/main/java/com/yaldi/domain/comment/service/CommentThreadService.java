@@ -0,0 +1,136 @@
+package com.yaldi.domain.comment.service;
+
+import com.yaldi.domain.comment.dto.response.CommentThreadPageResponse;
+import com.yaldi.domain.comment.dto.response.CommentThreadResponse;
+import com.yaldi.domain.comment.dto.response.CommentUnreadCountResponse;
+import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.entity.CommentReadCursor;
+import com.yaldi.domain.comment.repository.CommentReadCursorRepository;
+import com.yaldi.domain.comment.repository.CommentRepository;
+import com.yaldi.domain.comment.repository.ReplyRepository;
+import com.yaldi.domain.comment.repository.ReplyRepository.ReplyCountView;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 스레드 조회 / 읽음 커서 서비스
+ *
+ * <ul>
+ *   <li><strong>스레드 조회:</strong> comment_key 기반 키셋 페이지네이션 (OFFSET 없이 인덱스 범위 스캔)</li>
+ *   <li><strong>읽음 커서:</strong> 사용자별 프로젝트 last_read_at 이후 다른 사용자가 작성한 댓글/대댓글을 미읽음으로 계산</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentThreadService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    /** 읽음 커서가 없는 사용자의 기준 시각 (모든 댓글이 미읽음) */
+    private static final OffsetDateTime NEVER_READ = OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final CommentReadCursorRepository commentReadCursorRepository;
+    private final ProjectAccessValidator projectAccessValidator;
+
+    /**
+     * 프로젝트 댓글 스레드 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CommentThreadPageResponse getThreads(
+            Long projectKey,
+            Integer userKey,
+            Long cursor,
+            Integer size,
+            boolean includeResolved
+    ) {
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        int limit = pageSize(size);
+        List<Comment> fetched = commentRepository.findThreadPage(
+                projectKey, cursor != null ? cursor : Long.MAX_VALUE, includeResolved, PageRequest.of(0, limit + 1));
+        boolean hasNext = fetched.size() > limit;
+        List<Comment> page = hasNext ? fetched.subList(0, limit) : fetched;
+
+        OffsetDateTime lastReadAt = lastReadAt(userKey, projectKey).orElse(NEVER_READ);
+        Map<Long, ReplyCountView> replyCounts = page.isEmpty()
+                ? Map.of()
+                : replyRepository.countByCommentKeys(
+                                page.stream().map(Comment::getCommentKey).toList(), userKey, lastReadAt).stream()
+                        .collect(Collectors.toMap(ReplyCountView::getCommentKey, Function.identity()));
+
+        List<CommentThreadResponse> threads = page.stream()
+                .map(comment -> {
+                    ReplyCountView counts = replyCounts.get(comment.getCommentKey());
+                    return CommentThreadResponse.of(
+                            comment,
+                            counts != null ? counts.getReplyCount() : 0L,
+                            counts != null && counts.getUnreadCount() != null ? counts.getUnreadCount() : 0L,
+                            isUnread(comment, userKey, lastReadAt));
+                })
+                .toList();
+
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getCommentKey() : null;
+        return new CommentThreadPageResponse(threads, nextCursor, hasNext);
+    }
+
+    /**
+     * 프로젝트 읽지 않은 댓글/대댓글 수
+     */
+    public CommentUnreadCountResponse getUnreadCount(Long projectKey, Integer userKey) {
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        Optional<OffsetDateTime> lastReadAt = lastReadAt(userKey, projectKey);
+        OffsetDateTime since = lastReadAt.orElse(NEVER_READ);
+        return new CommentUnreadCountResponse(
+                projectKey,
+                commentRepository.countUnread(projectKey, userKey, since),
+                replyRepository.countUnreadInProject(projectKey, userKey, since),
+                lastReadAt.orElse(null));
+    }
+
+    /**
+     * 프로젝트 댓글을 모두 읽음으로 표시 (읽음 위치는 뒤로 가지 않음)
+     */
+    @Transactional
+    public CommentUnreadCountResponse markAsRead(Long projectKey, Integer userKey) {
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        commentReadCursorRepository.advance(userKey, projectKey, OffsetDateTime.now());
+        return getUnreadCount(projectKey, userKey);
+    }
+
+    private Optional<OffsetDateTime> lastReadAt(Integer userKey, Long projectKey) {
+        return commentReadCursorRepository.findByUserKeyAndProjectKey(userKey, projectKey)
+                .map(CommentReadCursor::getLastReadAt);
+    }
+
+    private static boolean isUnread(Comment comment, Integer userKey, OffsetDateTime lastReadAt) {
+        return !comment.getUserKey().equals(userKey)
+                && comment.getCreatedAt() != null
+                && comment.getCreatedAt().isAfter(lastReadAt);
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
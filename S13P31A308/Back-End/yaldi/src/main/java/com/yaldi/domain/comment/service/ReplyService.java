@@ -3,12 +3,14 @@ package com.yaldi.domain.comment.service;
 import com.yaldi.domain.comment.dto.event.ReplyCreatedEvent;
 import com.yaldi.domain.comment.dto.event.ReplyDeletedEvent;
 import com.yaldi.domain.comment.dto.response.CreateReplyResponse;
+import com.yaldi.domain.comment.dto.response.ReplyPageResponse;
 import com.yaldi.domain.comment.dto.response.ReplyResponse;
 import com.yaldi.domain.comment.entity.Comment;
 import com.yaldi.domain.comment.entity.Reply;
 import com.yaldi.domain.comment.repository.CommentRepository;
 import com.yaldi.domain.comment.repository.ReplyRepository;
-import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
+import com.yaldi.domain.team.validator.TeamValidator;
 import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
@@ -18,6 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,9 +32,11 @@ public class ReplyService {
 
     private final ReplyRepository replyRepository;
     private final CommentRepository commentRepository;
-    private final UserTeamRelationRepository userTeamRelationRepository;
+    private final TeamValidator teamValidator;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final CommentMentionService commentMentionService;
+    private final ProjectAccessValidator projectAccessValidator;
 
     /**
      * 댓글에 대한 대댓글 생성
@@ -42,10 +47,7 @@ public class ReplyService {
             Long commentKey,
             String content
     ) {
-        boolean isBelong = userTeamRelationRepository.existsByUser_UserKeyAndTeam_TeamKey(userKey, teamKey);
-        if (!isBelong) {
-            throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
-        }
+        teamValidator.validateTeamMembership(userKey, teamKey);
 
         Comment parentComment = commentRepository.findById(commentKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.COMMENT_NOT_FOUND));
@@ -61,7 +63,9 @@ public class ReplyService {
         log.info("대댓글 생성:: replyKey={}, commentKey={}, 작성자={}, 내용={}",
                 savedReply.getReplyKey(), savedReply.getCommentKey(), savedReply.getUserKey(), savedReply.getContent());
 
-        
+        commentMentionService.notifyMentions(
+                parentComment.getProjectKey(), parentComment.getCommentKey(), userKey, content);
+
         publishReplyCreatedEvent(parentComment, savedReply);
 
         return CreateReplyResponse.from(savedReply);
@@ -101,6 +105,28 @@ public class ReplyService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 스레드 대댓글 키셋 조회 (작성순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public ReplyPageResponse getReplyPage(Integer userKey, Long commentKey, Long cursor, Integer size) {
+        Comment comment = commentRepository.findById(commentKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.COMMENT_NOT_FOUND));
+        projectAccessValidator.validateProjectAccess(comment.getProjectKey(), userKey);
+
+        int limit = CommentThreadService.pageSize(size);
+        List<Reply> fetched = replyRepository.findByCommentKeyAndReplyKeyGreaterThanOrderByReplyKeyAsc(
+                commentKey, cursor != null ? cursor : 0L, PageRequest.of(0, limit + 1));
+        boolean hasNext = fetched.size() > limit;
+        List<Reply> page = hasNext ? fetched.subList(0, limit) : fetched;
+
+        return new ReplyPageResponse(
+                page.stream().map(ReplyResponse::from).toList(),
+                hasNext ? page.get(page.size() - 1).getReplyKey() : null,
+                hasNext);
+    }
 
     private void publishReplyCreatedEvent(Comment parentComment, Reply reply) {
         User user = userRepository.findById(reply.getUserKey()).orElse(null);
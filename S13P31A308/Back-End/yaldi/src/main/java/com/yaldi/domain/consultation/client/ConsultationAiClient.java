@@ -1,15 +1,23 @@
 package com.yaldi.domain.consultation.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yaldi.domain.consultation.dto.request.ConsultationAiRequest;
 import com.yaldi.domain.consultation.dto.response.ConsultationAiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 
+import java.io.IOException;
 import java.time.Duration;
 
 /**
@@ -20,17 +28,27 @@ import java.time.Duration;
 @Component
 public class ConsultationAiClient {
 
+    static final String CONSULT_URI = "/api/v1/consultation/consult";
+    static final String CONSULT_STREAM_URI = "/api/v1/consultation/consult/stream";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
     private final long timeout;
 
     public ConsultationAiClient(
             @Value("${ai.server.url}") String aiServerUrl,
-            @Value("${ai.server.consultation.timeout:300000}") long timeout
+            @Value("${ai.server.consultation.timeout:300000}") long timeout,
+            ObjectMapper objectMapper
     ) {
         this.webClient = WebClient.builder()
                 .baseUrl(aiServerUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
+        this.objectMapper = objectMapper;
         this.timeout = timeout;
         log.info("ConsultationAiClient initialized - URL: {}, Timeout: {}ms", aiServerUrl, timeout);
     }
@@ -47,11 +65,7 @@ public class ConsultationAiClient {
                     request.getProjectKey(), request.getMessage());
 
             // AI 서버 호출 (POST /api/v1/consultation/consult)
-            ConsultationAiResponse response = webClient.post()
-                    .uri("/api/v1/consultation/consult")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ConsultationAiResponse.class)
+            ConsultationAiResponse response = consultMono(request)
                     .block(Duration.ofMillis(timeout));
 
             if (response == null) {
@@ -72,4 +86,72 @@ public class ConsultationAiClient {
             throw new RuntimeException("AI 서버 호출 중 오류 발생: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * AI 서버에 스트리밍 상담 요청 (POST /api/v1/consultation/consult/stream, text/event-stream)
+     *
+     * <p>AI 서버 이벤트 형식:</p>
+     * <ul>
+     *   <li>{@code token}: {@code {"content": "..."}} - 답변 텍스트 조각</li>
+     *   <li>{@code done}: {@link ConsultationAiResponse} - 최종 응답</li>
+     *   <li>{@code error}: {@code {"detail": "..."}}</li>
+     * </ul>
+     *
+     * <p>스트리밍 엔드포인트가 없는 AI 서버(404)는 일반 상담 API 응답을 한 조각으로 전달합니다.
+     * 구독을 취소하면 AI 서버 연결도 끊어집니다. 조각 사이 간격이 timeout을 넘으면 실패로 처리합니다.</p>
+     */
+    public Flux<ConsultationStreamChunk> consultStream(ConsultationAiRequest request) {
+        return webClient.post()
+                .uri(CONSULT_STREAM_URI)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .timeout(Duration.ofMillis(timeout))
+                .handle(this::toChunk)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    log.info("AI 서버 스트리밍 미지원, 일반 상담으로 대체 - ProjectKey: {}", request.getProjectKey());
+                    return consultMono(request)
+                            .timeout(Duration.ofMillis(timeout))
+                            .flatMapMany(response -> Flux.just(
+                                    ConsultationStreamChunk.token(response.getMessage()),
+                                    ConsultationStreamChunk.done(response)));
+                })
+                .doOnCancel(() -> log.info("AI 서버 스트리밍 취소 - ProjectKey: {}", request.getProjectKey()))
+                .doOnError(e -> log.error("AI 서버 스트리밍 실패 - ProjectKey: {}, error={}",
+                        request.getProjectKey(), e.getMessage()));
+    }
+
+    private Mono<ConsultationAiResponse> consultMono(ConsultationAiRequest request) {
+        return webClient.post()
+                .uri(CONSULT_URI)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ConsultationAiResponse.class);
+    }
+
+    private void toChunk(ServerSentEvent<String> event, SynchronousSink<ConsultationStreamChunk> sink) {
+        if (event.event() == null || event.data() == null) {
+            return; // heartbeat 등
+        }
+        try {
+            switch (event.event()) {
+                case "token" -> {
+                    String content = objectMapper.readTree(event.data()).path("content").asText("");
+                    if (!content.isEmpty()) {
+                        sink.next(ConsultationStreamChunk.token(content));
+                    }
+                }
+                case "done" -> sink.next(ConsultationStreamChunk.done(
+                        objectMapper.readValue(event.data(), ConsultationAiResponse.class)));
+                case "error" -> {
+                    JsonNode detail = objectMapper.readTree(event.data()).path("detail");
+                    sink.error(new IllegalStateException("AI 서버 상담 오류: " + detail.asText("unknown")));
+                }
+                default -> log.debug("알 수 없는 AI 스트리밍 이벤트 무시: {}", event.event());
+            }
+        } catch (IOException e) {
+            sink.error(new IllegalStateException("AI 서버 스트리밍 응답 파싱 실패: " + e.getMessage(), e));
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.yaldi.domain.consultation.client;
+
+import com.yaldi.domain.consultation.dto.response.ConsultationAiResponse;
+
+/**
+ * AI 서버 스트리밍 응답 조각
+ *
+ * @param content  TOKEN: 이어 붙일 답변 텍스트
+ * @param response DONE: 최종 응답 (수정 제안, 확신도 등 포함)
+ */
+public record ConsultationStreamChunk(Type type, String content, ConsultationAiResponse response) {
+
+    public enum Type {
+        TOKEN,
+        DONE
+    }
+
+    public static ConsultationStreamChunk token(String content) {
+        return new ConsultationStreamChunk(Type.TOKEN, content, null);
+    }
+
+    public static ConsultationStreamChunk done(ConsultationAiResponse response) {
+        return new ConsultationStreamChunk(Type.DONE, null, response);
+    }
+}
@@ -0,0 +1,63 @@
+package com.yaldi.domain.consultation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ERD 상담 컨텍스트 / 스트리밍 설정
+ *
+ * <pre>
+ * consultation:
+ *   context-max-tokens: 6000
+ *   erd-summary-max-tokens: 1500
+ *   schema-data-max-tokens: 1500
+ *   summarize-threshold: 40
+ *   keep-unsummarized: 20
+ *   stream-timeout: 5m
+ * </pre>
+ *
+ * <p>토큰 수는 추정치입니다. ({@code ConsultationContextBuilder#estimateTokens})</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "consultation")
+public class ConsultationProperties {
+
+    /** 질문 + ERD 요약 + 대화 요약 + 이전 메시지 전체 토큰 예산 */
+    private int contextMaxTokens = 6000;
+
+    /** ERD 요약에 사용할 최대 토큰 */
+    private int erdSummaryMaxTokens = 1500;
+
+    /** AI 서버에 함께 보내는 스키마 원본(필요한 필드만 추린 사본)의 최대 토큰 (초과하는 테이블은 생략) */
+    private int schemaDataMaxTokens = 1500;
+
+    /** 관련도와 무관하게 항상 포함할 최근 턴(질문 + 답변) 수 (예산 내에서) */
+    private int recentTurns = 2;
+
+    /** 이전 메시지 1개에 사용할 최대 토큰 (초과분은 잘라서 전송) */
+    private int messageMaxTokens = 800;
+
+    /** AI 서버에 보낼 최대 메시지 수 (AI 서버 conversation_history 제한) */
+    private int maxHistoryMessages = 20;
+
+    /** 관련도 평가 대상 메시지 수 (요약 이후 최신순) */
+    private int candidateMessages = 60;
+
+    /** 요약되지 않은 메시지가 이 수를 넘으면 오래된 메시지를 요약에 합침 */
+    private int summarizeThreshold = 40;
+
+    /** 요약 후 원문으로 남겨둘 최근 메시지 수 */
+    private int keepUnsummarized = 20;
+
+    /** 누적 요약 최대 길이 (문자) */
+    private int summaryMaxChars = 4000;
+
+    /** 스트리밍 응답 SSE 타임아웃 */
+    private Duration streamTimeout = Duration.ofMinutes(5);
+}
@@ -4,6 +4,7 @@ import com.yaldi.domain.consultation.dto.response.ConsultationHistoryResponse;
 import com.yaldi.domain.consultation.dto.response.ConsultationMessageResponse;
 import com.yaldi.domain.consultation.dto.request.SendConsultationRequest;
 import com.yaldi.domain.consultation.service.ConsultationService;
+import com.yaldi.domain.consultation.service.ConsultationStreamService;
 import com.yaldi.global.response.ApiResponse;
 import com.yaldi.infra.security.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +14,10 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Consultation", description = "ERD 상담 챗봇 API")
 @Slf4j
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class ConsultationController {
 
     private final ConsultationService consultationService;
+    private final ConsultationStreamService consultationStreamService;
 
     @Operation(summary = "상담 메시지 전송", description = "ERD 설계 관련 질문을 AI에게 전송하고 답변을 받습니다")
     @PostMapping
@@ -36,14 +40,28 @@ public class ConsultationController {
         return ApiResponse.onSuccess(response);
     }
 
-    @Operation(summary = "상담 대화 내역 조회", description = "특정 프로젝트의 전체 대화 내역을 시간순으로 조회합니다")
+    @Operation(summary = "상담 메시지 스트리밍 전송",
+            description = "AI 답변을 생성되는 즉시 SSE로 전달합니다 (accepted → token* → done | error). 연결을 끊으면 답변 생성을 취소합니다")
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(
+            @Valid @RequestBody SendConsultationRequest request
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        return consultationStreamService.streamMessage(userKey, request);
+    }
+
+    @Operation(summary = "상담 대화 내역 조회", description = "특정 프로젝트의 대화 내역을 최신 메시지부터 페이지 단위로 조회합니다 (페이지 내부는 시간순)")
     @GetMapping("/projects/{projectKey}/history")
     public ApiResponse<ConsultationHistoryResponse> getHistory(
             @Parameter(description = "프로젝트 ID", required = true)
-            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)")
+            @RequestParam(required = false) Integer size
     ) {
         Integer userKey = SecurityUtil.getCurrentUserKey();
-        ConsultationHistoryResponse response = consultationService.getHistory(userKey, projectKey);
+        ConsultationHistoryResponse response = consultationService.getHistory(userKey, projectKey, cursor, size);
         return ApiResponse.onSuccess(response);
     }
 }
@@ -28,6 +28,14 @@ public class ConsultationAiRequest {
     @JsonProperty("conversation_history")
     private List<ConversationMessage> conversationHistory;
 
+    //현재 ERD 한 줄 요약 (테이블/컬럼/관계, 토큰 예산 내)
+    @JsonProperty("erd_summary")
+    private String erdSummary;
+
+    //conversation_history 이전의 오래된 대화 요약
+    @JsonProperty("conversation_summary")
+    private String conversationSummary;
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -4,7 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
 
-@Schema(description = "상담 대화 내역 전체")
+@Schema(description = "상담 대화 내역 (최신 메시지부터 페이지 단위)")
 public record ConsultationHistoryResponse(
     @Schema(description = "프로젝트 ID", example = "1")
     Long projectKey,
@@ -13,6 +13,12 @@ public record ConsultationHistoryResponse(
     int totalCount,
 
     @Schema(description = "메시지 목록 (시간순)")
-    List<ConsultationMessageResponse> messages
+    List<ConsultationMessageResponse> messages,
+
+    @Schema(description = "이전(더 오래된) 메시지 조회 커서, 없으면 null", example = "120")
+    Long nextCursor,
+
+    @Schema(description = "이전 메시지 존재 여부", example = "true")
+    boolean hasNext
 ) {
 }
@@ -1,6 +1,5 @@
 package com.yaldi.domain.consultation.entity;
 
-import com.yaldi.domain.consultation.dto.request.ConsultationAiRequest;
 import com.yaldi.domain.consultation.dto.response.ConsultationHistoryResponse;
 import com.yaldi.domain.consultation.dto.response.ConsultationMessageResponse;
 
@@ -36,38 +35,32 @@ public class ConsultationConverter {
     }
 
     /**
-     * ConsultationMessage 리스트를 ConsultationHistoryResponse로 변환
+     * ConsultationMessage 페이지를 ConsultationHistoryResponse로 변환
      *
      * @param projectKey 프로젝트 키
-     * @param messages   변환할 메시지 리스트
+     * @param totalCount 프로젝트 전체 메시지 수
+     * @param messages   변환할 메시지 리스트 (시간순)
+     * @param nextCursor 이전(더 오래된) 페이지 커서
+     * @param hasNext    이전 페이지 존재 여부
      * @return 히스토리 Response DTO
      */
-    public static ConsultationHistoryResponse toHistoryResponse(Long projectKey, List<ConsultationMessage> messages) {
+    public static ConsultationHistoryResponse toHistoryResponse(
+            Long projectKey,
+            long totalCount,
+            List<ConsultationMessage> messages,
+            Long nextCursor,
+            boolean hasNext
+    ) {
         List<ConsultationMessageResponse> messageResponses = messages.stream()
                 .map(ConsultationConverter::toResponse)
                 .collect(Collectors.toList());
 
         return new ConsultationHistoryResponse(
                 projectKey,
-                messages.size(),
-                messageResponses
+                (int) totalCount,
+                messageResponses,
+                nextCursor,
+                hasNext
         );
     }
-
-    /**
-     * ConsultationMessage 리스트를 AI 요청용 ConversationMessage 리스트로 변환
-     *
-     * @param messages 변환할 메시지 리스트
-     * @return AI 요청용 대화 히스토리
-     */
-    public static List<ConsultationAiRequest.ConversationMessage> toConversationHistory(
-            List<ConsultationMessage> messages
-    ) {
-        return messages.stream()
-                .map(msg -> ConsultationAiRequest.ConversationMessage.builder()
-                        .role(msg.getRole() == ConsultationMessageRole.USER ? "user" : "assistant")
-                        .content(msg.getMessage())
-                        .build())
-                .collect(Collectors.toList());
-    }
 }
@@ -0,0 +1,53 @@
+package com.yaldi.domain.consultation.entity;
+
+import com.yaldi.global.common.BaseAuditEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 상담 대화 요약 (rolling summary)
+ *
+ * <p>오래된 대화는 원문 대신 요약으로 AI에 전달합니다.
+ * {@code summarizedUntilKey} 이후의 메시지만 원문 후보가 됩니다.</p>
+ */
+@Entity
+@Table(name = "consultation_summaries")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConsultationSummary extends BaseAuditEntity {
+
+    @Id
+    @Column(name = "project_key")
+    private Long projectKey;
+
+    @Column(name = "summary", columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    @Column(name = "summarized_until_key", nullable = false)
+    private Long summarizedUntilKey;
+
+    @Builder.Default
+    @Column(name = "summarized_count", nullable = false)
+    private Integer summarizedCount = 0;
+
+    /**
+     * 새로 요약한 대화를 뒤에 누적 (최대 길이를 넘으면 오래된 줄부터 제거)
+     */
+    public void append(String folded, Long untilKey, int foldedCount, int maxChars) {
+        String merged = summary == null || summary.isEmpty() ? folded : summary + "\n" + folded;
+        while (merged.length() > maxChars && merged.indexOf('\n') >= 0) {
+            merged = merged.substring(merged.indexOf('\n') + 1);
+        }
+        if (merged.length() > maxChars) {
+            merged = merged.substring(merged.length() - maxChars);
+        }
+        this.summary = merged;
+        this.summarizedUntilKey = untilKey;
+        this.summarizedCount = summarizedCount + foldedCount;
+    }
+}
@@ -2,6 +2,7 @@ package com.yaldi.domain.consultation.repository;
 
 import com.yaldi.domain.consultation.entity.ConsultationMessage;
 import com.yaldi.domain.consultation.entity.ConsultationMessageRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,8 +13,6 @@ public interface ConsultationMessageRepository extends JpaRepository<Consultatio
 
     List<ConsultationMessage> findByProjectKeyOrderByCreatedAtAsc(Long projectKey);
 
-    List<ConsultationMessage> findTop20ByProjectKeyOrderByCreatedAtDesc(Long projectKey);
-
     List<ConsultationMessage> findByProjectKeyAndRoleOrderByCreatedAtAsc(
             Long projectKey,
             ConsultationMessageRole role
@@ -21,5 +20,34 @@ public interface ConsultationMessageRepository extends JpaRepository<Consultatio
 
     long countByProjectKey(Long projectKey);
 
+    /**
+     * 키셋 페이지네이션 (message_key 내림차순)
+     */
+    List<ConsultationMessage> findByProjectKeyAndMessageKeyLessThanOrderByMessageKeyDesc(
+            Long projectKey,
+            Long cursor,
+            Pageable pageable
+    );
+
+    /**
+     * 요약 이후 메시지 (최신순, 컨텍스트 후보)
+     */
+    List<ConsultationMessage> findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyDesc(
+            Long projectKey,
+            Long afterKey,
+            Pageable pageable
+    );
+
+    /**
+     * 요약 이후 메시지 (오래된 순, 요약 대상)
+     */
+    List<ConsultationMessage> findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyAsc(
+            Long projectKey,
+            Long afterKey,
+            Pageable pageable
+    );
+
+    long countByProjectKeyAndMessageKeyGreaterThan(Long projectKey, Long afterKey);
+
     void deleteByProjectKey(Long projectKey);
 }
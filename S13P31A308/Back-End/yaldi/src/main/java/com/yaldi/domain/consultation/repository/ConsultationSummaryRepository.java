@@ -0,0 +1,9 @@
+package com.yaldi.domain.consultation.repository;
+
+import com.yaldi.domain.consultation.entity.ConsultationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConsultationSummaryRepository extends JpaRepository<ConsultationSummary, Long> {
+}
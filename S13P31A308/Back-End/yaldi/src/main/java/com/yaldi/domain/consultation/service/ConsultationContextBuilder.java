@@ -0,0 +1,402 @@
+package com.yaldi.domain.consultation.service;
+
+import com.yaldi.domain.consultation.config.ConsultationProperties;
+import com.yaldi.domain.consultation.dto.request.ConsultationAiRequest;
+import com.yaldi.domain.consultation.entity.ConsultationMessage;
+import com.yaldi.domain.consultation.entity.ConsultationMessageRole;
+import com.yaldi.domain.consultation.entity.ConsultationSummary;
+import com.yaldi.domain.consultation.repository.ConsultationMessageRepository;
+import com.yaldi.domain.consultation.repository.ConsultationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상담 요청 컨텍스트 구성
+ *
+ * <p>토큰 예산 안에서 다음 순서로 채웁니다.</p>
+ * <ol>
+ *   <li>질문, 현재 ERD 요약, 스키마 원본 사본, 누적 대화 요약 (고정 비용, 스키마는 각자 상한 안에서 잘라냄)</li>
+ *   <li>최근 턴 ({@code recent-turns}개)</li>
+ *   <li>질문과 단어가 겹치는 이전 턴 (관련도 높은 순)</li>
+ * </ol>
+ * <p>선택된 메시지는 시간순으로 정렬하여 전달합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultationContextBuilder {
+
+    private static final Pattern TERM_PATTERN = Pattern.compile("[\\p{L}\\p{N}_]{2,}");
+    private static final String ELLIPSIS = "…";
+    private static final List<String> TABLE_FIELDS = List.of("tableKey", "physicalName", "logicalName");
+    private static final List<String> COLUMN_FIELDS = List.of(
+            "columnKey", "physicalName", "logicalName", "dataType", "isPrimaryKey", "isNullable", "isUnique");
+    private static final List<String> RELATION_FIELDS = List.of(
+            "fromTableKey", "fromColumnKey", "toTableKey", "toColumnKey", "relationType");
+
+    private final ConsultationMessageRepository consultationMessageRepository;
+    private final ConsultationSummaryRepository consultationSummaryRepository;
+    private final ConsultationProperties properties;
+
+    /**
+     * AI 요청 컨텍스트
+     *
+     * @param erdSummary          현재 ERD 요약 (테이블/컬럼/관계)
+     * @param schemaData          AI 서버로 보낼 스키마 사본 (필요한 필드만, 예산 초과 테이블 생략)
+     * @param conversationSummary 오래된 대화 요약 (없으면 null)
+     * @param history             선택된 이전 메시지 (시간순)
+     * @param estimatedTokens     추정 토큰 수 합계
+     */
+    public record ConsultationContext(
+            String erdSummary,
+            Map<String, Object> schemaData,
+            String conversationSummary,
+            List<ConsultationAiRequest.ConversationMessage> history,
+            int estimatedTokens
+    ) {
+    }
+
+    /**
+     * @param currentMessageKey 방금 저장한 질문 메시지 (히스토리에서 제외)
+     */
+    public ConsultationContext build(Long projectKey, Long currentMessageKey, String question,
+                                     Map<String, Object> schemaData) {
+        Optional<ConsultationSummary> summary = consultationSummaryRepository.findById(projectKey);
+        long summarizedUntil = summary.map(ConsultationSummary::getSummarizedUntilKey).orElse(0L);
+
+        List<ConsultationMessage> candidates = new ArrayList<>(consultationMessageRepository
+                .findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyDesc(
+                        projectKey, summarizedUntil, PageRequest.of(0, properties.getCandidateMessages() + 1)));
+        candidates.removeIf(message -> message.getMessageKey().equals(currentMessageKey));
+        candidates.sort(Comparator.comparing(ConsultationMessage::getMessageKey));
+
+        String erdSummary = summarizeErd(schemaData, properties.getErdSummaryMaxTokens());
+        Map<String, Object> compactSchema = compactSchema(schemaData, properties.getSchemaDataMaxTokens());
+        String conversationSummary = summary.map(ConsultationSummary::getSummary).orElse(null);
+
+        int fixedTokens = estimateTokens(question) + estimateTokens(erdSummary)
+                + estimateTokens(String.valueOf(compactSchema)) + estimateTokens(conversationSummary);
+        List<ConsultationAiRequest.ConversationMessage> history = selectHistory(
+                candidates, question, Math.max(0, properties.getContextMaxTokens() - fixedTokens));
+
+        int historyTokens = history.stream().mapToInt(message -> estimateTokens(message.getContent())).sum();
+        return new ConsultationContext(erdSummary, compactSchema, conversationSummary, history,
+                fixedTokens + historyTokens);
+    }
+
+    /**
+     * 예산 안에서 최근 턴 + 관련 턴 선택
+     *
+     * @param candidates 시간순 메시지
+     */
+    List<ConsultationAiRequest.ConversationMessage> selectHistory(
+            List<ConsultationMessage> candidates, String question, int budget) {
+        List<List<ConsultationMessage>> turns = groupTurns(candidates);
+        Set<Integer> selected = new HashSet<>();
+        int remaining = budget;
+        int messageCount = 0;
+
+        // 1. 최근 턴
+        for (int i = turns.size() - 1; i >= 0 && selected.size() < properties.getRecentTurns(); i--) {
+            int cost = turnTokens(turns.get(i));
+            if (cost > remaining || messageCount + turns.get(i).size() > properties.getMaxHistoryMessages()) {
+                break;
+            }
+            selected.add(i);
+            remaining -= cost;
+            messageCount += turns.get(i).size();
+        }
+
+        // 2. 질문과 관련된 이전 턴 (관련도 → 최신 순)
+        Set<String> questionTerms = terms(question);
+        Map<Integer, Double> scores = new HashMap<>();
+        for (int i = 0; i < turns.size(); i++) {
+            if (!selected.contains(i)) {
+                double score = relevance(questionTerms, turns.get(i));
+                if (score > 0) {
+                    scores.put(i, score);
+                }
+            }
+        }
+        List<Integer> ranked = scores.keySet().stream()
+                .sorted(Comparator.<Integer>comparingDouble(scores::get).reversed()
+                        .thenComparing(Comparator.<Integer>reverseOrder()))
+                .toList();
+        for (Integer i : ranked) {
+            int cost = turnTokens(turns.get(i));
+            if (cost <= remaining && messageCount + turns.get(i).size() <= properties.getMaxHistoryMessages()) {
+                selected.add(i);
+                remaining -= cost;
+                messageCount += turns.get(i).size();
+            }
+        }
+
+        List<ConsultationAiRequest.ConversationMessage> history = new ArrayList<>();
+        selected.stream().sorted().forEach(i -> turns.get(i).forEach(message ->
+                history.add(ConsultationAiRequest.ConversationMessage.builder()
+                        .role(message.getRole() == ConsultationMessageRole.USER ? "user" : "assistant")
+                        .content(truncateToTokens(message.getMessage(), properties.getMessageMaxTokens()))
+                        .build())));
+        return history;
+    }
+
+    /**
+     * 질문과 그에 대한 답변을 한 턴으로 묶음 (답변 없는 질문, 질문 없는 답변도 각각 한 턴)
+     */
+    static List<List<ConsultationMessage>> groupTurns(List<ConsultationMessage> messages) {
+        List<List<ConsultationMessage>> turns = new ArrayList<>();
+        List<ConsultationMessage> current = null;
+        for (ConsultationMessage message : messages) {
+            if (message.getRole() == ConsultationMessageRole.USER || current == null
+                    || current.get(current.size() - 1).getRole() == ConsultationMessageRole.ASSISTANT) {
+                current = new ArrayList<>();
+                turns.add(current);
+            }
+            current.add(message);
+        }
+        return turns;
+    }
+
+    private int turnTokens(List<ConsultationMessage> turn) {
+        return turn.stream()
+                .mapToInt(message -> estimateTokens(truncateToTokens(message.getMessage(), properties.getMessageMaxTokens())))
+                .sum();
+    }
+
+    /**
+     * 질문 단어 중 턴에 등장하는 비율 (긴 턴이 유리하지 않도록 질문 기준)
+     */
+    static double relevance(Set<String> questionTerms, List<ConsultationMessage> turn) {
+        if (questionTerms.isEmpty()) {
+            return 0;
+        }
+        Set<String> turnTerms = new HashSet<>();
+        turn.forEach(message -> turnTerms.addAll(terms(message.getMessage())));
+        long matched = questionTerms.stream().filter(turnTerms::contains).count();
+        return (double) matched / questionTerms.size();
+    }
+
+    static Set<String> terms(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = TERM_PATTERN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            terms.add(matcher.group());
+        }
+        return terms;
+    }
+
+    /**
+     * 토큰 수 추정 (ASCII 4자당 1토큰, 한글 등 비 ASCII 문자는 1자당 1토큰)
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    static String truncateToTokens(String text, int maxTokens) {
+        if (text == null || estimateTokens(text) <= maxTokens) {
+            return text;
+        }
+        double used = 0;
+        int end = 0;
+        while (end < text.length()) {
+            used += text.charAt(end) < 128 ? 0.25 : 1;
+            if (used > maxTokens - 1) {
+                break;
+            }
+            end++;
+        }
+        return text.substring(0, end) + ELLIPSIS;
+    }
+
+    /**
+     * 프론트에서 전달한 스키마 데이터를 한 줄에 테이블 하나씩 요약
+     *
+     * <pre>
+     * users(user_key BIGINT PK, email VARCHAR, ...)
+     * orders.user_key -> users.user_key
+     * </pre>
+     */
+    static String summarizeErd(Map<String, Object> schemaData, int maxTokens) {
+        if (schemaData == null || !(schemaData.get("tables") instanceof List<?> tables) || tables.isEmpty()) {
+            return "";
+        }
+        Map<Object, String> tableNames = new HashMap<>();
+        Map<Object, String> columnNames = new HashMap<>();
+        List<String> lines = new ArrayList<>();
+
+        for (Object tableObject : tables) {
+            if (!(tableObject instanceof Map<?, ?> table)) {
+                continue;
+            }
+            String tableName = name(table);
+            tableNames.put(table.get("tableKey"), tableName);
+
+            List<String> columnDescriptions = new ArrayList<>();
+            if (table.get("columns") instanceof List<?> columns) {
+                for (Object columnObject : columns) {
+                    if (!(columnObject instanceof Map<?, ?> column)) {
+                        continue;
+                    }
+                    String columnName = name(column);
+                    columnNames.put(column.get("columnKey"), columnName);
+                    StringBuilder description = new StringBuilder(columnName);
+                    if (column.get("dataType") != null) {
+                        description.append(' ').append(column.get("dataType"));
+                    }
+                    if (Boolean.TRUE.equals(column.get("isPrimaryKey"))) {
+                        description.append(" PK");
+                    }
+                    columnDescriptions.add(description.toString());
+                }
+            }
+            lines.add(tableName + "(" + String.join(", ", columnDescriptions) + ")");
+        }
+
+        if (schemaData.get("relations") instanceof List<?> relations) {
+            for (Object relationObject : relations) {
+                if (relationObject instanceof Map<?, ?> relation) {
+                    lines.add(endpoint(tableNames, columnNames, relation.get("fromTableKey"), relation.get("fromColumnKey"))
+                            + " -> "
+                            + endpoint(tableNames, columnNames, relation.get("toTableKey"), relation.get("toColumnKey")));
+                }
+            }
+        }
+
+        StringBuilder summary = new StringBuilder();
+        int used = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            int cost = estimateTokens(lines.get(i)) + 1;
+            if (used + cost > maxTokens) {
+                summary.append("... (").append(lines.size() - i).append("줄 생략)");
+                break;
+            }
+            summary.append(lines.get(i)).append('\n');
+            used += cost;
+        }
+        return summary.toString().stripTrailing();
+    }
+
+    /**
+     * AI 서버로 보낼 스키마 사본 (테이블/컬럼/관계에서 식별자, 이름, 타입, 제약 필드만 유지)
+     *
+     * <p>예산을 넘는 테이블부터는 모두 생략하고 {@code omittedTables}에 개수를 남깁니다.
+     * 관계는 양쪽 테이블이 포함된 것만 남은 예산 안에서 추가합니다.</p>
+     */
+    static Map<String, Object> compactSchema(Map<String, Object> schemaData, int maxTokens) {
+        List<Map<String, Object>> tables = new ArrayList<>();
+        List<Map<String, Object>> relations = new ArrayList<>();
+        Map<String, Object> compact = new LinkedHashMap<>();
+        compact.put("tables", tables);
+        compact.put("relations", relations);
+        if (schemaData == null || !(schemaData.get("tables") instanceof List<?> sourceTables)) {
+            return compact;
+        }
+
+        Set<Object> includedTables = new HashSet<>();
+        int used = 0;
+        int omitted = 0;
+        for (Object tableObject : sourceTables) {
+            if (!(tableObject instanceof Map<?, ?> table)) {
+                continue;
+            }
+            if (omitted > 0) {
+                omitted++;
+                continue;
+            }
+            Map<String, Object> compactTable = pick(table, TABLE_FIELDS);
+            List<Map<String, Object>> columns = new ArrayList<>();
+            if (table.get("columns") instanceof List<?> sourceColumns) {
+                for (Object columnObject : sourceColumns) {
+                    if (columnObject instanceof Map<?, ?> column) {
+                        columns.add(pick(column, COLUMN_FIELDS));
+                    }
+                }
+            }
+            compactTable.put("columns", columns);
+
+            int cost = estimateTokens(String.valueOf(compactTable));
+            if (used + cost > maxTokens) {
+                omitted++;
+                continue;
+            }
+            tables.add(compactTable);
+            includedTables.add(table.get("tableKey"));
+            used += cost;
+        }
+
+        if (schemaData.get("relations") instanceof List<?> sourceRelations) {
+            for (Object relationObject : sourceRelations) {
+                if (!(relationObject instanceof Map<?, ?> relation)
+                        || !includedTables.contains(relation.get("fromTableKey"))
+                        || !includedTables.contains(relation.get("toTableKey"))) {
+                    continue;
+                }
+                Map<String, Object> compactRelation = pick(relation, RELATION_FIELDS);
+                int cost = estimateTokens(String.valueOf(compactRelation));
+                if (used + cost > maxTokens) {
+                    break;
+                }
+                relations.add(compactRelation);
+                used += cost;
+            }
+        }
+        if (omitted > 0) {
+            compact.put("omittedTables", omitted);
+        }
+        return compact;
+    }
+
+    private static Map<String, Object> pick(Map<?, ?> source, List<String> fields) {
+        Map<String, Object> picked = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (source.get(field) != null) {
+                picked.put(field, source.get(field));
+            }
+        }
+        return picked;
+    }
+
+    private static String name(Map<?, ?> element) {
+        Object physical = element.get("physicalName");
+        if (physical != null && !physical.toString().isBlank()) {
+            return physical.toString();
+        }
+        Object logical = element.get("logicalName");
+        return logical != null ? logical.toString() : "?";
+    }
+
+    private static String endpoint(Map<Object, String> tableNames, Map<Object, String> columnNames,
+                                   Object tableKey, Object columnKey) {
+        String table = tableNames.getOrDefault(tableKey, String.valueOf(tableKey));
+        String column = columnNames.get(columnKey);
+        return column != null ? table + "." + column : table;
+    }
+}
@@ -10,12 +10,15 @@ import com.yaldi.domain.consultation.dto.request.SendConsultationRequest;
 import com.yaldi.domain.consultation.entity.ConsultationMessage;
 import com.yaldi.domain.consultation.entity.ConsultationMessageRole;
 import com.yaldi.domain.consultation.repository.ConsultationMessageRepository;
+import com.yaldi.domain.consultation.service.ConsultationContextBuilder.ConsultationContext;
 import com.yaldi.domain.consultation.validator.ConsultationValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -24,15 +27,63 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ConsultationService {
 
+    static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    static final int MAX_HISTORY_PAGE_SIZE = 200;
+
     private final ConsultationMessageRepository consultationMessageRepository;
     private final ConsultationValidator consultationValidator;
     private final ConsultationAiClient consultationAiClient;
-
-    @Transactional
+    private final ConsultationContextBuilder consultationContextBuilder;
+    private final ConsultationSummaryService consultationSummaryService;
+
+    /**
+     * 상담 메시지 전송 (AI 응답 전체를 기다림)
+     *
+     * <p>AI 호출은 수 분이 걸릴 수 있으므로 트랜잭션 밖에서 수행합니다. (메시지 저장은 각각 커밋)</p>
+     */
     public ConsultationMessageResponse sendMessage(Integer userKey, SendConsultationRequest request) {
         // 프로젝트 검증 (존재 여부, 삭제 여부, 접근 권한)
         consultationValidator.validateProjectAccess(request.projectKey(), userKey);
 
+        ConsultationMessage userMessage = saveUserMessage(request);
+
+        // AI 요청 빌드 (ERD 요약 + 대화 요약 + 관련 메시지, 토큰 예산 내)
+        ConsultationAiRequest aiRequest = buildAiRequest(request, userMessage);
+
+        // AI 서비스 호출
+        ConsultationAiResponse aiResponse = consultationAiClient.consult(aiRequest);
+
+        ConsultationMessage assistantMessage = saveAssistantMessage(
+                request.projectKey(), aiResponse, aiResponse.getMessage());
+        summarizeQuietly(request.projectKey());
+
+        return ConsultationConverter.toResponse(assistantMessage);
+    }
+
+    /**
+     * 상담 대화 내역 조회 (최신 메시지부터 키셋 페이지네이션, 페이지 내부는 시간순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public ConsultationHistoryResponse getHistory(Integer userKey, Long projectKey, Long cursor, Integer size) {
+        // 프로젝트 검증 (존재 여부, 삭제 여부, 접근 권한)
+        consultationValidator.validateProjectAccess(projectKey, userKey);
+
+        int limit = historyPageSize(size);
+        List<ConsultationMessage> fetched = consultationMessageRepository
+                .findByProjectKeyAndMessageKeyLessThanOrderByMessageKeyDesc(
+                        projectKey, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        boolean hasNext = fetched.size() > limit;
+        List<ConsultationMessage> page = new ArrayList<>(hasNext ? fetched.subList(0, limit) : fetched);
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getMessageKey() : null;
+        Collections.reverse(page); // 시간순으로 변경
+
+        return ConsultationConverter.toHistoryResponse(
+                projectKey, consultationMessageRepository.countByProjectKey(projectKey), page, nextCursor, hasNext);
+    }
+
+    ConsultationMessage saveUserMessage(SendConsultationRequest request) {
         ConsultationMessage userMessage = ConsultationMessage.builder()
                 .projectKey(request.projectKey())
                 .role(ConsultationMessageRole.USER)
@@ -42,60 +93,60 @@ public class ConsultationService {
 
         consultationMessageRepository.save(userMessage);
         log.info("User message saved: projectKey={}, messageKey={}", request.projectKey(), userMessage.getMessageKey());
+        return userMessage;
+    }
 
-        // 최근 대화 히스토리 조회 (AI에게 보낼 컨텍스트)
-        List<ConsultationMessage> recentMessages = consultationMessageRepository
-                .findTop20ByProjectKeyOrderByCreatedAtDesc(request.projectKey());
-        Collections.reverse(recentMessages); // 시간순으로 변경
-
-        // AI 요청 빌드
-        ConsultationAiRequest aiRequest = buildAiRequest(request, recentMessages);
-
-        // AI 서비스 호출
-        ConsultationAiResponse aiResponse = consultationAiClient.consult(aiRequest);
-
-        // AI 응답 저장
+    /**
+     * @param response AI 최종 응답 (스트림이 최종 응답 없이 끝난 경우 null)
+     * @param message  저장할 답변 본문
+     */
+    ConsultationMessage saveAssistantMessage(Long projectKey, ConsultationAiResponse response, String message) {
         ConsultationMessage assistantMessage = ConsultationMessage.builder()
-                .projectKey(request.projectKey())
+                .projectKey(projectKey)
                 .role(ConsultationMessageRole.ASSISTANT)
-                .message(aiResponse.getMessage())
-                .schemaModifications(aiResponse.getSchemaModifications())
-                .confidence(aiResponse.getConfidence())
-                .agentsUsed(aiResponse.getAgentsUsed())
-                .warnings(aiResponse.getWarnings())
+                .message(message)
+                .schemaModifications(response != null ? response.getSchemaModifications() : null)
+                .confidence(response != null ? response.getConfidence() : null)
+                .agentsUsed(response != null ? response.getAgentsUsed() : null)
+                .warnings(response != null ? response.getWarnings() : null)
                 .build();
 
         consultationMessageRepository.save(assistantMessage);
-        log.info("Assistant message saved: projectKey={}, messageKey={}", request.projectKey(), assistantMessage.getMessageKey());
-
-        return ConsultationConverter.toResponse(assistantMessage);
-    }
-
-    @Transactional(readOnly = true)
-    public ConsultationHistoryResponse getHistory(Integer userKey, Long projectKey) {
-        // 프로젝트 검증 (존재 여부, 삭제 여부, 접근 권한)
-        consultationValidator.validateProjectAccess(projectKey, userKey);
-
-        // 대화 내역 조회
-        List<ConsultationMessage> messages = consultationMessageRepository
-                .findByProjectKeyOrderByCreatedAtAsc(projectKey);
-
-        return ConsultationConverter.toHistoryResponse(projectKey, messages);
+        log.info("Assistant message saved: projectKey={}, messageKey={}", projectKey, assistantMessage.getMessageKey());
+        return assistantMessage;
     }
 
-    private ConsultationAiRequest buildAiRequest(
-            SendConsultationRequest request,
-            List<ConsultationMessage> history
-    ) {
-        // 대화 히스토리를 AI 형식으로 변환
-        List<ConsultationAiRequest.ConversationMessage> conversationHistory =
-                ConsultationConverter.toConversationHistory(history);
+    ConsultationAiRequest buildAiRequest(SendConsultationRequest request, ConsultationMessage userMessage) {
+        ConsultationContext context = consultationContextBuilder.build(
+                request.projectKey(), userMessage.getMessageKey(), request.message(), request.schemaData());
+        log.debug("Consultation context: projectKey={}, historyMessages={}, estimatedTokens={}",
+                request.projectKey(), context.history().size(), context.estimatedTokens());
 
         return ConsultationAiRequest.builder()
                 .projectKey(request.projectKey())
                 .message(request.message())
-                .schemaData(request.schemaData())
-                .conversationHistory(conversationHistory)
+                .schemaData(context.schemaData())
+                .conversationHistory(context.history())
+                .erdSummary(context.erdSummary())
+                .conversationSummary(context.conversationSummary())
                 .build();
     }
+
+    /**
+     * 오래된 대화 요약 (실패해도 다음 응답 후 다시 시도되므로 상담 응답에는 영향 없음)
+     */
+    void summarizeQuietly(Long projectKey) {
+        try {
+            consultationSummaryService.summarizeIfNeeded(projectKey);
+        } catch (Exception e) {
+            log.warn("상담 대화 요약 실패 - projectKey={}, error={}", projectKey, e.getMessage());
+        }
+    }
+
+    static int historyPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_HISTORY_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_HISTORY_PAGE_SIZE);
+    }
 }
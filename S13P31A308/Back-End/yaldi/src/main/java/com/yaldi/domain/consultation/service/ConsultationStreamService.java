@@ -0,0 +1,185 @@
+package com.yaldi.domain.consultation.service;
+
+import com.yaldi.domain.consultation.client.ConsultationAiClient;
+import com.yaldi.domain.consultation.client.ConsultationStreamChunk;
+import com.yaldi.domain.consultation.config.ConsultationProperties;
+import com.yaldi.domain.consultation.dto.request.ConsultationAiRequest;
+import com.yaldi.domain.consultation.dto.request.SendConsultationRequest;
+import com.yaldi.domain.consultation.dto.response.ConsultationAiResponse;
+import com.yaldi.domain.consultation.entity.ConsultationConverter;
+import com.yaldi.domain.consultation.entity.ConsultationMessage;
+import com.yaldi.domain.consultation.validator.ConsultationValidator;
+import com.yaldi.global.async.AsyncBulkhead;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.global.response.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * ERD 상담 스트리밍 서비스
+ *
+ * <p>AI 서버의 답변 조각을 받는 즉시 SSE로 전달합니다.</p>
+ * <h4>SSE 이벤트:</h4>
+ * <ul>
+ *   <li>{@code accepted} - 저장된 질문 메시지</li>
+ *   <li>{@code token} - 답변 텍스트 조각 ({@code {"content": "..."}})</li>
+ *   <li>{@code done} - 저장된 답변 메시지 (수정 제안, 확신도 포함)</li>
+ *   <li>{@code error} - 실패 응답 (ApiResponse 형식)</li>
+ * </ul>
+ *
+ * <p>조각 전송과 답변 저장은 AI 격벽 스레드에서 수행합니다. (Netty 이벤트 루프에서 블로킹 I/O 방지)
+ * 클라이언트 연결이 끊기거나 타임아웃되면 AI 서버 요청도 취소하고 답변은 저장하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class ConsultationStreamService {
+
+    private final ConsultationService consultationService;
+    private final ConsultationValidator consultationValidator;
+    private final ConsultationAiClient consultationAiClient;
+    private final ConsultationProperties properties;
+    private final Scheduler aiScheduler;
+
+    public ConsultationStreamService(
+            ConsultationService consultationService,
+            ConsultationValidator consultationValidator,
+            ConsultationAiClient consultationAiClient,
+            ConsultationProperties properties,
+            @Qualifier(AsyncBulkhead.AI_EXECUTOR) ThreadPoolTaskExecutor aiExecutor
+    ) {
+        this.consultationService = consultationService;
+        this.consultationValidator = consultationValidator;
+        this.consultationAiClient = consultationAiClient;
+        this.properties = properties;
+        this.aiScheduler = Schedulers.fromExecutor(aiExecutor);
+    }
+
+    public SseEmitter streamMessage(Integer userKey, SendConsultationRequest request) {
+        // 프로젝트 검증은 스트림 시작 전에 수행하여 일반 에러 응답으로 반환
+        consultationValidator.validateProjectAccess(request.projectKey(), userKey);
+
+        ConsultationMessage userMessage = consultationService.saveUserMessage(request);
+        ConsultationAiRequest aiRequest = consultationService.buildAiRequest(request, userMessage);
+
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        StreamRelay relay = new StreamRelay(request.projectKey(), emitter);
+        emitter.onCompletion(relay::cancel);
+        emitter.onTimeout(relay::timeout);
+        emitter.onError(e -> relay.cancel());
+
+        relay.send("accepted", ConsultationConverter.toResponse(userMessage));
+        relay.start(consultationAiClient.consultStream(aiRequest).publishOn(aiScheduler));
+        return emitter;
+    }
+
+    /**
+     * 요청 하나의 AI 스트림 → SSE 중계
+     */
+    private final class StreamRelay {
+
+        private final Long projectKey;
+        private final SseEmitter emitter;
+        private final StringBuilder answer = new StringBuilder();
+        private final Disposable.Swap subscription = Disposables.swap();
+        private volatile boolean finished;
+
+        private StreamRelay(Long projectKey, SseEmitter emitter) {
+            this.projectKey = projectKey;
+            this.emitter = emitter;
+        }
+
+        void start(Flux<ConsultationStreamChunk> stream) {
+            subscription.update(stream.subscribe(this::onChunk, this::onError, () -> finish(null)));
+        }
+
+        private void onChunk(ConsultationStreamChunk chunk) {
+            if (chunk.type() == ConsultationStreamChunk.Type.DONE) {
+                finish(chunk.response());
+                return;
+            }
+            answer.append(chunk.content());
+            send("token", Map.of("content", chunk.content()));
+        }
+
+        /**
+         * @param response AI 최종 응답 (done 이벤트 없이 스트림이 끝난 경우 null)
+         */
+        private void finish(ConsultationAiResponse response) {
+            if (finished) {
+                return;
+            }
+            String message = response != null && response.getMessage() != null ? response.getMessage() : answer.toString();
+            if (message.isBlank()) {
+                onError(new IllegalStateException("AI 서버 응답이 비어 있습니다"));
+                return;
+            }
+
+            ConsultationMessage saved;
+            try {
+                saved = consultationService.saveAssistantMessage(projectKey, response, message);
+            } catch (RuntimeException e) {
+                // 저장 실패도 error 이벤트로 알리고 연결을 닫음 (finished 전이므로 onError가 처리)
+                onError(e);
+                return;
+            }
+            finished = true;
+            send("done", ConsultationConverter.toResponse(saved));
+            emitter.complete();
+            consultationService.summarizeQuietly(projectKey);
+        }
+
+        private void onError(Throwable e) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            log.warn("상담 스트리밍 실패 - projectKey={}, error={}", projectKey, e.getMessage());
+
+            ErrorStatus status = e instanceof RejectedExecutionException
+                    ? ErrorStatus.AI_RATE_LIMIT_EXCEEDED
+                    : ErrorStatus.AI_CONSULTATION_FAILED;
+            send("error", ApiResponse.onFailure(status, null));
+            emitter.complete();
+        }
+
+        /**
+         * 클라이언트 연결 종료 / 완료 시 AI 서버 요청 취소
+         */
+        void cancel() {
+            if (subscription.isDisposed()) {
+                return;
+            }
+            if (!finished) {
+                finished = true;
+                log.info("상담 스트리밍 취소 - projectKey={}, receivedChars={}", projectKey, answer.length());
+            }
+            subscription.dispose();
+        }
+
+        void timeout() {
+            cancel();
+            emitter.complete();
+        }
+
+        void send(String name, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 또는 이미 완료된 Emitter
+                cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.yaldi.domain.consultation.service;
+
+import com.yaldi.domain.consultation.config.ConsultationProperties;
+import com.yaldi.domain.consultation.entity.ConsultationMessage;
+import com.yaldi.domain.consultation.entity.ConsultationMessageRole;
+import com.yaldi.domain.consultation.entity.ConsultationSummary;
+import com.yaldi.domain.consultation.repository.ConsultationMessageRepository;
+import com.yaldi.domain.consultation.repository.ConsultationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오래된 상담 대화를 누적 요약에 합치는 서비스
+ *
+ * <p>요약되지 않은 메시지가 {@code summarize-threshold}를 넘으면 최근 {@code keep-unsummarized}개만 남기고
+ * 나머지를 턴 단위(질문 → 답변 첫 문장)로 압축하여 {@link ConsultationSummary}에 누적합니다.
+ * AI 호출 없이 추출 방식으로 요약하므로 상담 응답 직후 동기로 실행해도 비용이 작습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConsultationSummaryService {
+
+    static final int QUESTION_MAX_CHARS = 120;
+    static final int ANSWER_MAX_CHARS = 200;
+
+    private final ConsultationMessageRepository consultationMessageRepository;
+    private final ConsultationSummaryRepository consultationSummaryRepository;
+    private final ConsultationProperties properties;
+
+    /**
+     * @return 요약에 합친 메시지 수
+     */
+    @Transactional
+    public int summarizeIfNeeded(Long projectKey) {
+        ConsultationSummary summary = consultationSummaryRepository.findById(projectKey).orElse(null);
+        long summarizedUntil = summary != null ? summary.getSummarizedUntilKey() : 0L;
+
+        long unsummarized = consultationMessageRepository
+                .countByProjectKeyAndMessageKeyGreaterThan(projectKey, summarizedUntil);
+        if (unsummarized <= properties.getSummarizeThreshold()) {
+            return 0;
+        }
+
+        int foldCount = (int) (unsummarized - properties.getKeepUnsummarized());
+        List<ConsultationMessage> oldest = new ArrayList<>(consultationMessageRepository
+                .findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyAsc(
+                        projectKey, summarizedUntil, PageRequest.of(0, foldCount)));
+        // 질문만 요약되고 답변이 원문으로 남지 않도록 마지막 질문은 다음 요약으로 미룸
+        if (!oldest.isEmpty() && oldest.get(oldest.size() - 1).getRole() == ConsultationMessageRole.USER) {
+            oldest.remove(oldest.size() - 1);
+        }
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+
+        String folded = fold(oldest);
+        Long untilKey = oldest.get(oldest.size() - 1).getMessageKey();
+        if (summary == null) {
+            summary = ConsultationSummary.builder()
+                    .projectKey(projectKey)
+                    .summary("")
+                    .summarizedUntilKey(0L)
+                    .build();
+        }
+        summary.append(folded, untilKey, oldest.size(), properties.getSummaryMaxChars());
+        consultationSummaryRepository.save(summary);
+
+        log.info("상담 대화 요약 - projectKey={}, folded={}, summarizedUntil={}", projectKey, oldest.size(), untilKey);
+        return oldest.size();
+    }
+
+    /**
+     * 메시지를 턴 단위 요약 줄로 변환
+     *
+     * <pre>
+     * - Q: 주문 테이블 PK를 복합키로 해야 하나요? / A: 대리키(BIGINT)를 권장합니다.
+     * </pre>
+     */
+    static String fold(List<ConsultationMessage> messages) {
+        List<String> lines = new ArrayList<>();
+        for (List<ConsultationMessage> turn : ConsultationContextBuilder.groupTurns(messages)) {
+            StringBuilder line = new StringBuilder("-");
+            for (ConsultationMessage message : turn) {
+                if (message.getRole() == ConsultationMessageRole.USER) {
+                    line.append(" Q: ").append(firstSentence(message.getMessage(), QUESTION_MAX_CHARS));
+                } else {
+                    line.append(line.length() > 1 ? " /" : "")
+                            .append(" A: ").append(firstSentence(message.getMessage(), ANSWER_MAX_CHARS));
+                }
+            }
+            lines.add(line.toString());
+        }
+        return String.join("\n", lines);
+    }
+
+    static String firstSentence(String text, int maxChars) {
+        if (text == null) {
+            return "";
+        }
+        String sentence = text.strip().replaceAll("\\s+", " ");
+        for (int i = 0; i < sentence.length(); i++) {
+            char c = sentence.charAt(i);
+            if ((c == '.' || c == '?' || c == '!') && (i + 1 == sentence.length() || sentence.charAt(i + 1) == ' ')) {
+                sentence = sentence.substring(0, i + 1);
+                break;
+            }
+        }
+        return sentence.length() > maxChars ? sentence.substring(0, maxChars) + "…" : sentence;
+    }
+}
@@ -0,0 +1,67 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.util.DataTypeMapper;
+
+/**
+ * 코드 생성 중간 모델의 필드
+ *
+ * @param columnKey 원본 컬럼 키
+ * @param name 필드명 (camelCase, DTO는 충돌 해결된 alias)
+ * @param columnName 컬럼 물리명
+ * @param label 컬럼 논리명
+ * @param comment 컬럼 코멘트
+ * @param dbType DB 데이터 타입 (원본 문자열)
+ * @param javaType Java 타입 ({@link DataTypeMapper#toJavaType}, 패키지 포함)
+ * @param tsType TypeScript 타입 ({@link DataTypeMapper#toTypeScriptType})
+ * @param nullable NULL 허용 여부
+ * @param primaryKey PK 여부
+ * @param foreignKey FK 여부
+ * @param unique UNIQUE 여부
+ * @param autoIncrement 자동 증가 여부
+ * @param stringType 문자열 타입 여부 (CHAR 계열, TEXT)
+ * @param maxLength 문자열 최대 길이 (없으면 null)
+ * @param reference FK 참조 대상 (없으면 null)
+ */
+public record CodeGenField(
+        Long columnKey,
+        String name,
+        String columnName,
+        String label,
+        String comment,
+        String dbType,
+        String javaType,
+        String tsType,
+        boolean nullable,
+        boolean primaryKey,
+        boolean foreignKey,
+        boolean unique,
+        boolean autoIncrement,
+        boolean stringType,
+        Integer maxLength,
+        Reference reference
+) {
+
+    /**
+     * FK 참조 대상
+     *
+     * @param tableName 참조 테이블 물리명
+     * @param columnName 참조 컬럼 물리명
+     */
+    public record Reference(String tableName, String columnName) {
+        @Override
+        public String toString() {
+            return tableName + "." + columnName;
+        }
+    }
+
+    /**
+     * 패키지명을 제외한 Java 타입 이름
+     */
+    public String javaSimpleType() {
+        return DataTypeMapper.getSimpleName(javaType);
+    }
+
+    public boolean hasComment() {
+        return comment != null && !comment.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+
+import java.util.List;
+
+/**
+ * 코드 생성 중간 모델
+ *
+ * <p>ERD 엔티티를 생성기가 공통으로 사용하는 형태로 변환한 결과입니다. {@link CodeGenModelFactory}로 생성합니다.</p>
+ *
+ * @param name 모델(클래스) 이름
+ * @param type 모델 타입
+ * @param tableName 소스 테이블 물리명 (Entity만, DTO는 null)
+ * @param tableLabel 소스 테이블 논리명 (Entity만, DTO는 null)
+ * @param fields 필드 목록 (출력 순서)
+ */
+public record CodeGenModel(
+        String name,
+        DataModelType type,
+        String tableName,
+        String tableLabel,
+        List<CodeGenField> fields
+) {
+    public boolean isEntity() {
+        return type == DataModelType.ENTITY;
+    }
+}
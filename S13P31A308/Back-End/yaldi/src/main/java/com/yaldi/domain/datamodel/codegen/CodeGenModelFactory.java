@@ -0,0 +1,160 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModel;
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import com.yaldi.domain.datamodel.util.DataTypeMapper;
+import com.yaldi.domain.datamodel.util.NamingConverter;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdTable;
+
+import java.util.*;
+
+/**
+ * 코드 생성 중간 모델({@link CodeGenModel}) 생성 유틸리티
+ *
+ * <p>타입 매핑은 {@link DataTypeMapper}, 네이밍은 {@link NamingConverter}를 사용합니다.</p>
+ */
+public class CodeGenModelFactory {
+
+    /**
+     * 데이터 모델로부터 중간 모델 생성
+     *
+     * <p>Entity는 컬럼 물리명의 camelCase, DTO는 충돌 해결된 alias를 필드명으로 사용합니다.</p>
+     *
+     * @param dataModel 데이터 모델
+     * @param columns 컬럼 목록 (출력 순서)
+     * @param tablesMap 관련 테이블 맵
+     * @param references columnKey → FK 참조 대상
+     * @return 중간 모델
+     */
+    public static CodeGenModel of(DataModel dataModel, List<ErdColumn> columns, Map<Long, ErdTable> tablesMap,
+                                  Map<Long, CodeGenField.Reference> references) {
+        if (dataModel.getType() == DataModelType.ENTITY) {
+            ErdTable sourceTable = tablesMap.get(dataModel.getSourceTableKey());
+            return create(dataModel.getName(), dataModel.getType(), sourceTable, columns, Map.of(), references);
+        }
+        return create(dataModel.getName(), dataModel.getType(), null, columns,
+                resolveAliases(columns, tablesMap), references);
+    }
+
+    /**
+     * 중간 모델 생성
+     *
+     * @param name 모델 이름
+     * @param type 모델 타입
+     * @param sourceTable 소스 테이블 (Entity만, null 가능)
+     * @param columns 컬럼 목록 (출력 순서)
+     * @param aliases columnKey → 필드명 (없으면 camelCase 사용)
+     * @param references columnKey → FK 참조 대상
+     * @return 중간 모델
+     */
+    public static CodeGenModel create(String name, DataModelType type, ErdTable sourceTable, List<ErdColumn> columns,
+                                      Map<Long, String> aliases, Map<Long, CodeGenField.Reference> references) {
+        List<CodeGenField> fields = columns.stream()
+                .map(column -> toField(column,
+                        aliases.getOrDefault(column.getColumnKey(), NamingConverter.toCamelCase(column.getPhysicalName())),
+                        references.get(column.getColumnKey())))
+                .toList();
+
+        return new CodeGenModel(
+                name,
+                type,
+                sourceTable != null ? sourceTable.getPhysicalName() : null,
+                sourceTable != null ? sourceTable.getLogicalName() : null,
+                fields
+        );
+    }
+
+    /**
+     * 컬럼명 충돌 해결을 위한 alias 생성
+     *
+     * <p>여러 테이블의 컬럼 중 중복된 이름이 있으면 테이블명을 prefix로 추가합니다.</p>
+     * <p>예: users.id, orders.id → usersId, ordersId</p>
+     *
+     * @param columns 컬럼 목록
+     * @param tablesMap 테이블 맵
+     * @return columnKey → alias 맵
+     */
+    public static Map<Long, String> resolveAliases(List<ErdColumn> columns, Map<Long, ErdTable> tablesMap) {
+        Map<Long, String> aliases = new HashMap<>();
+
+        // 1. 각 컬럼의 기본 alias (camelCase) 생성
+        Map<Long, String> baseAliases = new HashMap<>();
+        for (ErdColumn column : columns) {
+            baseAliases.put(column.getColumnKey(), NamingConverter.toCamelCase(column.getPhysicalName()));
+        }
+
+        // 2. 중복된 alias 찾기
+        Map<String, List<Long>> aliasCounts = new HashMap<>();
+        for (Map.Entry<Long, String> entry : baseAliases.entrySet()) {
+            aliasCounts.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+        }
+
+        // 3. 중복된 alias에 테이블명 prefix 추가
+        for (ErdColumn column : columns) {
+            String baseAlias = baseAliases.get(column.getColumnKey());
+            List<Long> duplicates = aliasCounts.get(baseAlias);
+            ErdTable table = tablesMap.get(column.getTableKey());
+
+            if (duplicates != null && duplicates.size() > 1 && table != null && !baseAlias.isEmpty()) {
+                String tablePrefix = NamingConverter.toCamelCase(table.getPhysicalName());
+                // 첫 글자 대문자로 변환 (userId → UserId)
+                String capitalizedAlias = baseAlias.substring(0, 1).toUpperCase() + baseAlias.substring(1);
+                aliases.put(column.getColumnKey(), tablePrefix + capitalizedAlias);
+            } else {
+                aliases.put(column.getColumnKey(), baseAlias);
+            }
+        }
+
+        return aliases;
+    }
+
+    private static CodeGenField toField(ErdColumn column, String name, CodeGenField.Reference reference) {
+        boolean stringType = isStringType(column.getDataType());
+
+        return new CodeGenField(
+                column.getColumnKey(),
+                name,
+                column.getPhysicalName(),
+                column.getLogicalName(),
+                column.getComment(),
+                column.getDataType(),
+                DataTypeMapper.toJavaType(column.getDataType()),
+                DataTypeMapper.toTypeScriptType(column.getDataType()),
+                Boolean.TRUE.equals(column.getIsNullable()),
+                Boolean.TRUE.equals(column.getIsPrimaryKey()),
+                Boolean.TRUE.equals(column.getIsForeignKey()),
+                Boolean.TRUE.equals(column.getIsUnique()),
+                Boolean.TRUE.equals(column.getIsIncremental()),
+                stringType,
+                stringType ? parseMaxLength(column.getDataDetail()) : null,
+                reference
+        );
+    }
+
+    /**
+     * 문자열 타입 여부 확인
+     */
+    private static boolean isStringType(String dataType) {
+        if (dataType == null) {
+            return false;
+        }
+        String upper = dataType.toUpperCase();
+        return upper.contains("CHAR") || upper.equals("TEXT");
+    }
+
+    /**
+     * 데이터 타입 상세(예: ["255"])에서 최대 길이 추출
+     */
+    private static Integer parseMaxLength(String[] dataDetail) {
+        if (dataDetail == null || dataDetail.length == 0) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(dataDetail[0]);
+        } catch (NumberFormatException e) {
+            // 파싱 실패 시 무시
+            return null;
+        }
+    }
+}
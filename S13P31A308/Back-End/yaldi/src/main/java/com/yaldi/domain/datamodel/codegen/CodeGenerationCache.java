@@ -0,0 +1,159 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 데이터 모델 코드 생성 결과 캐시
+ *
+ * <p>모델 정의, 참조 컬럼 메타데이터, 생성기 버전으로 계산한 콘텐츠 해시를 기준으로
+ * 생성된 코드를 Redis Hash에 저장합니다. 해시가 같으면 생성기를 다시 실행하지 않습니다.</p>
+ *
+ * <h4>Redis 저장 형식:</h4>
+ * <pre>
+ * Key: datamodel:codegen:{modelKey}
+ * Field: _hash → 콘텐츠 해시, {target} → 코드 (java, typescript, kotlin, ...)
+ * TTL: 1일
+ * </pre>
+ *
+ * <p>저장은 MULTI/EXEC로 묶어 삭제와 다시 쓰기 사이의 빈 키나 TTL 없는 키가 다른 요청에 보이지 않게 합니다.</p>
+ *
+ * <p>해시가 내용 자체를 반영하므로 무효화가 누락되어도 오래된 코드가 반환되지 않습니다.
+ * 컬럼 수정/동기화 상태 변경 시의 명시적 무효화는 불필요한 키를 빨리 정리하기 위한 것입니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodeGenerationCache {
+
+    /**
+     * 캐시 형식 버전
+     *
+     * <p>개별 생성기 출력이 바뀌면 {@link CodeGenerator#version()}을 올리고, 이 값은 캐시 저장 형식이 바뀔 때만 올립니다.</p>
+     */
+    public static final String GENERATOR_VERSION = "2";
+
+    private static final String KEY_PREFIX = "datamodel:codegen:";
+    private static final String HASH_FIELD = "_hash";
+    private static final long TTL_HOURS = 24;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 캐시된 코드 조회, 없거나 해시가 다르면 생성 후 저장
+     *
+     * @param modelKey 모델 키
+     * @param contentHash {@link #computeHash}로 계산한 콘텐츠 해시
+     * @param generator 캐시 미스 시 실행할 코드 생성 함수
+     * @return 언어별 생성된 코드 맵
+     */
+    public Map<String, String> getOrGenerate(Long modelKey, String contentHash, Supplier<Map<String, String>> generator) {
+        String key = buildKey(modelKey);
+
+        try {
+            Map<Object, Object> cached = redisTemplate.opsForHash().entries(key);
+            if (contentHash.equals(cached.get(HASH_FIELD))) {
+                Map<String, String> code = new HashMap<>();
+                cached.forEach((field, value) -> {
+                    if (!HASH_FIELD.equals(field)) {
+                        code.put((String) field, (String) value);
+                    }
+                });
+                log.debug("Codegen cache hit: modelKey={}", modelKey);
+                return code;
+            }
+        } catch (Exception e) {
+            // 캐시 장애는 코드 생성 자체를 막지 않음
+            log.warn("Codegen cache read failed: modelKey={}", modelKey, e);
+            return generator.get();
+        }
+
+        Map<String, String> code = generator.get();
+
+        try {
+            Map<String, String> entry = new HashMap<>(code);
+            entry.put(HASH_FIELD, contentHash);
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.multi();
+                    ops.delete(key);
+                    ops.opsForHash().putAll(key, entry);
+                    ops.expire(key, TTL_HOURS, TimeUnit.HOURS);
+                    return ops.exec();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Codegen cache write failed: modelKey={}", modelKey, e);
+        }
+
+        return code;
+    }
+
+    /**
+     * 단일 모델 캐시 무효화
+     */
+    public void evict(Long modelKey) {
+        evictAll(List.of(modelKey));
+    }
+
+    /**
+     * 여러 모델 캐시 무효화
+     */
+    public void evictAll(Collection<Long> modelKeys) {
+        if (modelKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = modelKeys.stream()
+                .map(this::buildKey)
+                .toList();
+        try {
+            redisTemplate.delete(keys);
+            log.debug("Codegen cache evicted: modelKeys={}", modelKeys);
+        } catch (Exception e) {
+            log.warn("Codegen cache eviction failed: modelKeys={}", modelKeys, e);
+        }
+    }
+
+    /**
+     * 코드 생성 입력의 콘텐츠 해시(SHA-256) 계산
+     *
+     * <p>중간 모델에는 생성 결과에 영향을 주는 값(모델 정의, 컬럼/테이블 메타데이터, FK 참조, 필드 순서)이 모두 담겨 있으므로
+     * 중간 모델과 생성기 지문({@link CodeGeneratorRegistry#fingerprint()})만으로 해시를 계산합니다.</p>
+     *
+     * @param model 코드 생성 중간 모델
+     * @param generatorFingerprint 등록된 생성기 구성/버전 지문
+     * @return 16진수 해시 문자열
+     */
+    public static String computeHash(CodeGenModel model, String generatorFingerprint) {
+        return sha256Hex("v=" + GENERATOR_VERSION + "\n"
+                + "generators=" + generatorFingerprint + "\n"
+                + model);
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private String buildKey(Long modelKey) {
+        return KEY_PREFIX + modelKey;
+    }
+}
@@ -0,0 +1,46 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+
+import java.util.Set;
+
+/**
+ * 코드 생성기 SPI
+ *
+ * <p>내장 생성기는 Spring Bean으로 등록되고, 외부 생성기는 {@code META-INF/services}를 통해
+ * {@link java.util.ServiceLoader}로 발견됩니다. 모든 생성기는 같은 중간 모델({@link CodeGenModel})을 입력으로 받습니다.</p>
+ *
+ * @see CodeGeneratorRegistry
+ */
+public interface CodeGenerator {
+
+    /**
+     * 생성 대상 이름 (상세 조회 응답의 code 맵 키, 예: java, typescript, kotlin)
+     */
+    String target();
+
+    /**
+     * 생성기 출력 형식 버전 (출력이 바뀌면 올려야 캐시가 무효화됨)
+     */
+    String version();
+
+    /**
+     * 지원 기능 목록
+     */
+    Set<CodeGeneratorCapability> capabilities();
+
+    /**
+     * 데이터 모델 타입 지원 여부
+     */
+    boolean supports(DataModelType type);
+
+    /**
+     * ZIP 내보내기 시 파일 경로 (예: java/entity/UsersEntity.java)
+     */
+    String filePath(CodeGenModel model);
+
+    /**
+     * 코드 생성
+     */
+    String generate(CodeGenModel model);
+}
@@ -0,0 +1,18 @@
+package com.yaldi.domain.datamodel.codegen;
+
+/**
+ * 코드 생성기 지원 기능
+ *
+ * <p>생성기가 {@link CodeGenModel}의 어떤 정보를 출력에 반영하는지 선언합니다.</p>
+ */
+public enum CodeGeneratorCapability {
+
+    /** NULL 허용 여부를 타입/스키마로 표현 (예: Kotlin {@code String?}, Zod {@code .nullish()}) */
+    NULLABLE_HANDLING,
+
+    /** FK 컬럼의 참조 대상(테이블.컬럼)을 출력에 포함 */
+    FK_NAVIGATION,
+
+    /** Bean Validation 어노테이션 생성 */
+    BEAN_VALIDATION
+}
@@ -0,0 +1,73 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 코드 생성기 레지스트리
+ *
+ * <p>Spring Bean으로 등록된 내장 생성기와 {@link ServiceLoader}로 발견된 외부 생성기를 모읍니다.
+ * 같은 target/타입을 지원하는 생성기가 겹치면 Spring Bean이 우선합니다.</p>
+ */
+@Slf4j
+@Component
+public class CodeGeneratorRegistry {
+
+    private final List<CodeGenerator> generators;
+    private final String fingerprint;
+
+    public CodeGeneratorRegistry(List<CodeGenerator> springGenerators) {
+        List<CodeGenerator> all = new ArrayList<>(springGenerators);
+        for (CodeGenerator external : ServiceLoader.load(CodeGenerator.class)) {
+            boolean conflicts = all.stream().anyMatch(existing -> existing.target().equals(external.target())
+                    && Arrays.stream(DataModelType.values())
+                            .anyMatch(type -> existing.supports(type) && external.supports(type)));
+            if (conflicts) {
+                log.warn("Code generator ignored (target already registered): {}", external.getClass().getName());
+                continue;
+            }
+            all.add(external);
+        }
+
+        all.sort(Comparator.comparing(CodeGenerator::target).thenComparing(g -> g.getClass().getName()));
+        this.generators = List.copyOf(all);
+        this.fingerprint = generators.stream()
+                .map(g -> g.getClass().getName() + "@" + g.version())
+                .collect(Collectors.joining(","));
+
+        log.info("Code generators registered: {}", generators.stream()
+                .map(g -> g.target() + capabilitiesOf(g))
+                .toList());
+    }
+
+    /**
+     * 모델 타입을 지원하는 생성기 목록 (target 이름 순)
+     */
+    public List<CodeGenerator> getGenerators(DataModelType type) {
+        return generators.stream()
+                .filter(generator -> generator.supports(type))
+                .toList();
+    }
+
+    /**
+     * 전체 생성기 목록
+     */
+    public List<CodeGenerator> getGenerators() {
+        return generators;
+    }
+
+    /**
+     * 등록된 생성기 구성과 버전의 지문 (코드 캐시 키에 포함)
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    private static String capabilitiesOf(CodeGenerator generator) {
+        return generator.capabilities().isEmpty() ? "" : generator.capabilities().toString();
+    }
+}
@@ -2,8 +2,7 @@ package com.yaldi.domain.datamodel.codegen;
 
 import com.yaldi.domain.datamodel.entity.DataModelType;
 import com.yaldi.domain.datamodel.util.DataTypeMapper;
-import com.yaldi.domain.datamodel.util.NamingConverter;
-import com.yaldi.domain.erd.entity.ErdColumn;
+import org.springframework.stereotype.Component;
 
 import java.util.*;
 
@@ -12,28 +11,56 @@ import java.util.*;
  *
  * <p>ERD 컬럼 정보로부터 Java Record 기반 DTO를 생성합니다.</p>
  */
-public class JavaDtoCodeGenerator {
+@Component
+public class JavaDtoCodeGenerator implements CodeGenerator {
 
     private static final String INDENT = "    ";
 
+    @Override
+    public String target() {
+        return "java";
+    }
+
+    @Override
+    public String version() {
+        return "1";
+    }
+
+    @Override
+    public Set<CodeGeneratorCapability> capabilities() {
+        return EnumSet.of(CodeGeneratorCapability.BEAN_VALIDATION);
+    }
+
+    @Override
+    public boolean supports(DataModelType type) {
+        return type == DataModelType.DTO_REQUEST || type == DataModelType.DTO_RESPONSE;
+    }
+
+    @Override
+    public String filePath(CodeGenModel model) {
+        String dir = model.type() == DataModelType.DTO_REQUEST ? "dto/request" : "dto/response";
+        return "java/" + dir + "/" + model.name() + ".java";
+    }
+
     /**
      * DTO 코드 생성
      *
-     * @param dtoName DTO 클래스명 (예: UserCreateRequest, UserResponse)
-     * @param type DTO 타입 (DTO_REQUEST 또는 DTO_RESPONSE)
-     * @param columns 컬럼 목록
-     * @param columnAliases 컬럼 별칭 맵 (columnKey → alias)
+     * @param model 중간 모델 (DTO 이름 예: UserCreateRequest, UserResponse / 타입: DTO_REQUEST 또는 DTO_RESPONSE)
      * @return 생성된 Java DTO 코드
      */
-    public static String generate(String dtoName, DataModelType type, List<ErdColumn> columns, Map<Long, String> columnAliases) {
+    @Override
+    public String generate(CodeGenModel model) {
         StringBuilder code = new StringBuilder();
+        String dtoName = model.name();
+        DataModelType type = model.type();
+        List<CodeGenField> fields = model.fields();
 
         // Package
         String packagePath = type == DataModelType.DTO_REQUEST ? "com.example.dto.request" : "com.example.dto.response";
         code.append("package ").append(packagePath).append(";\n\n");
 
         // Imports
-        Set<String> imports = collectImports(type, columns);
+        Set<String> imports = collectImports(type, fields);
         for (String importStatement : imports) {
             code.append("import ").append(importStatement).append(";\n");
         }
@@ -58,15 +85,11 @@ public class JavaDtoCodeGenerator {
         code.append("public record ").append(dtoName).append("(\n");
 
         // Fields
-        for (int i = 0; i < columns.size(); i++) {
-            ErdColumn column = columns.get(i);
-            String alias = columnAliases.getOrDefault(column.getColumnKey(),
-                    NamingConverter.toCamelCase(column.getPhysicalName()));
-
-            code.append(generateField(column, alias, type));
+        for (int i = 0; i < fields.size(); i++) {
+            code.append(generateField(fields.get(i), type));
 
             // 마지막 필드가 아니면 쉼표 추가
-            if (i < columns.size() - 1) {
+            if (i < fields.size() - 1) {
                 code.append(",\n\n");
             } else {
                 code.append("\n");
@@ -83,68 +106,58 @@ public class JavaDtoCodeGenerator {
     /**
      * 필드 코드 생성
      */
-    private static String generateField(ErdColumn column, String alias, DataModelType type) {
-        StringBuilder field = new StringBuilder();
-
-        String javaType = DataTypeMapper.toJavaType(column.getDataType());
-        String simpleType = DataTypeMapper.getSimpleName(javaType);
+    private String generateField(CodeGenField field, DataModelType type) {
+        StringBuilder code = new StringBuilder();
 
         // Validation annotations (Request DTO only)
-        if (type == DataModelType.DTO_REQUEST) {
-            if (!column.getIsNullable()) {
-                // 필수 필드 validation
-                if (isStringType(column.getDataType())) {
-                    field.append(INDENT).append("@NotBlank(message = \"")
-                            .append(column.getLogicalName()).append("은(는) 필수입니다\")\n");
-
-                    // 문자열 길이 제한
-                    if (column.getDataDetail() != null && column.getDataDetail().length > 0) {
-                        try {
-                            int maxLength = Integer.parseInt(column.getDataDetail()[0]);
-                            field.append(INDENT).append("@Size(max = ").append(maxLength)
-                                    .append(", message = \"").append(column.getLogicalName())
-                                    .append("은(는) ").append(maxLength).append("자 이하이어야 합니다\")\n");
-                        } catch (NumberFormatException ignored) {
-                            // 파싱 실패 시 무시
-                        }
-                    }
-                } else {
-                    field.append(INDENT).append("@NotNull(message = \"")
-                            .append(column.getLogicalName()).append("은(는) 필수입니다\")\n");
+        if (type == DataModelType.DTO_REQUEST && !field.nullable()) {
+            // 필수 필드 validation
+            if (field.stringType()) {
+                code.append(INDENT).append("@NotBlank(message = \"")
+                        .append(field.label()).append("은(는) 필수입니다\")\n");
+
+                // 문자열 길이 제한
+                if (field.maxLength() != null) {
+                    code.append(INDENT).append("@Size(max = ").append(field.maxLength())
+                            .append(", message = \"").append(field.label())
+                            .append("은(는) ").append(field.maxLength()).append("자 이하이어야 합니다\")\n");
                 }
+            } else {
+                code.append(INDENT).append("@NotNull(message = \"")
+                        .append(field.label()).append("은(는) 필수입니다\")\n");
             }
         }
 
         // Swagger annotation
-        field.append(INDENT).append("@Schema(");
+        code.append(INDENT).append("@Schema(");
         List<String> schemaAttrs = new ArrayList<>();
 
-        schemaAttrs.add("description = \"" + column.getLogicalName() + "\"");
+        schemaAttrs.add("description = \"" + field.label() + "\"");
 
         // example 값 생성
-        String example = generateExampleValue(column);
+        String example = generateExampleValue(field);
         if (example != null) {
             schemaAttrs.add("example = \"" + example + "\"");
         }
 
         // requiredMode (Request DTO && not nullable)
-        if (type == DataModelType.DTO_REQUEST && !column.getIsNullable()) {
+        if (type == DataModelType.DTO_REQUEST && !field.nullable()) {
             schemaAttrs.add("requiredMode = Schema.RequiredMode.REQUIRED");
         }
 
-        field.append(String.join(", ", schemaAttrs));
-        field.append(")\n");
+        code.append(String.join(", ", schemaAttrs));
+        code.append(")\n");
 
         // Field Declaration
-        field.append(INDENT).append(simpleType).append(" ").append(alias);
+        code.append(INDENT).append(field.javaSimpleType()).append(" ").append(field.name());
 
-        return field.toString();
+        return code.toString();
     }
 
     /**
      * Import 문 수집
      */
-    private static Set<String> collectImports(DataModelType type, List<ErdColumn> columns) {
+    private Set<String> collectImports(DataModelType type, List<CodeGenField> fields) {
         Set<String> imports = new TreeSet<>();
 
         // Swagger import
@@ -156,11 +169,11 @@ public class JavaDtoCodeGenerator {
             boolean hasNotNull = false;
             boolean hasSize = false;
 
-            for (ErdColumn column : columns) {
-                if (!column.getIsNullable()) {
-                    if (isStringType(column.getDataType())) {
+            for (CodeGenField field : fields) {
+                if (!field.nullable()) {
+                    if (field.stringType()) {
                         hasNotBlank = true;
-                        if (column.getDataDetail() != null && column.getDataDetail().length > 0) {
+                        if (field.maxLength() != null) {
                             hasSize = true;
                         }
                     } else {
@@ -175,35 +188,26 @@ public class JavaDtoCodeGenerator {
         }
 
         // 데이터 타입별 import
-        for (ErdColumn column : columns) {
-            String javaType = DataTypeMapper.toJavaType(column.getDataType());
-            if (DataTypeMapper.needsImport(javaType)) {
-                imports.add(javaType);
+        for (CodeGenField field : fields) {
+            if (DataTypeMapper.needsImport(field.javaType())) {
+                imports.add(field.javaType());
             }
         }
 
         return imports;
     }
 
-    /**
-     * 문자열 타입 여부 확인
-     */
-    private static boolean isStringType(String dataType) {
-        if (dataType == null) {
-            return false;
-        }
-        String upper = dataType.toUpperCase();
-        return upper.contains("CHAR") || upper.equals("TEXT");
-    }
-
     /**
      * Example 값 생성
      */
-    private static String generateExampleValue(ErdColumn column) {
-        String dataType = column.getDataType().toUpperCase();
+    private String generateExampleValue(CodeGenField field) {
+        if (field.dbType() == null) {
+            return null;
+        }
+        String dataType = field.dbType().toUpperCase();
 
-        if (isStringType(dataType)) {
-            return column.getLogicalName() + " 예시";
+        if (field.stringType()) {
+            return field.label() + " 예시";
         } else if (dataType.contains("INT") || dataType.contains("DECIMAL") ||
                    dataType.contains("NUMERIC") || dataType.contains("REAL") ||
                    dataType.contains("DOUBLE")) {
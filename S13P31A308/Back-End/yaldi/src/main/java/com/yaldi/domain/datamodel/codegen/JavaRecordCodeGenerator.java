@@ -0,0 +1,121 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import com.yaldi.domain.datamodel.util.DataTypeMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Java Record 코드 생성기 (Bean Validation 포함)
+ *
+ * <p>Entity 모델을 불변 Record로 생성합니다. DTO는 {@link JavaDtoCodeGenerator}가 이미 Record를 생성하므로 지원하지 않습니다.</p>
+ * <p>자동 증가 PK는 저장 전 값이 없으므로 필수 검증에서 제외합니다.</p>
+ */
+@Component
+public class JavaRecordCodeGenerator implements CodeGenerator {
+
+    private static final String INDENT = "    ";
+    private static final String ENTITY_SUFFIX = "Entity";
+
+    @Override
+    public String target() {
+        return "javaRecord";
+    }
+
+    @Override
+    public String version() {
+        return "1";
+    }
+
+    @Override
+    public Set<CodeGeneratorCapability> capabilities() {
+        return EnumSet.of(CodeGeneratorCapability.BEAN_VALIDATION, CodeGeneratorCapability.NULLABLE_HANDLING);
+    }
+
+    @Override
+    public boolean supports(DataModelType type) {
+        return type == DataModelType.ENTITY;
+    }
+
+    @Override
+    public String filePath(CodeGenModel model) {
+        return "java/record/" + recordName(model) + ".java";
+    }
+
+    @Override
+    public String generate(CodeGenModel model) {
+        StringBuilder code = new StringBuilder();
+        List<CodeGenField> fields = model.fields();
+
+        // Package
+        code.append("package com.example.record;\n\n");
+
+        // Imports
+        Set<String> imports = collectImports(fields);
+        for (String importStatement : imports) {
+            code.append("import ").append(importStatement).append(";\n");
+        }
+        code.append("\n");
+
+        // JavaDoc
+        code.append("/**\n");
+        code.append(" * ").append(recordName(model)).append(" - ").append(model.tableLabel()).append("\n");
+        code.append(" *\n");
+        code.append(" * <p>테이블: ").append(model.tableName()).append("</p>\n");
+        code.append(" */\n");
+
+        // Record Declaration
+        code.append("public record ").append(recordName(model)).append("(\n");
+        for (int i = 0; i < fields.size(); i++) {
+            CodeGenField field = fields.get(i);
+            for (String annotation : validationAnnotations(field)) {
+                code.append(INDENT).append(annotation).append("\n");
+            }
+            code.append(INDENT).append(field.javaSimpleType()).append(" ").append(field.name());
+            code.append(i < fields.size() - 1 ? ",\n" : "\n");
+        }
+        code.append(") {\n");
+        code.append("}\n");
+
+        return code.toString();
+    }
+
+    /**
+     * Record 이름 (UsersEntity → UsersRecord)
+     */
+    private String recordName(CodeGenModel model) {
+        String name = model.name();
+        if (name.endsWith(ENTITY_SUFFIX) && name.length() > ENTITY_SUFFIX.length()) {
+            name = name.substring(0, name.length() - ENTITY_SUFFIX.length());
+        }
+        return name + "Record";
+    }
+
+    private List<String> validationAnnotations(CodeGenField field) {
+        List<String> annotations = new ArrayList<>();
+        boolean required = !field.nullable() && !(field.primaryKey() && field.autoIncrement());
+
+        if (required) {
+            annotations.add(field.stringType() ? "@NotBlank" : "@NotNull");
+        }
+        if (field.maxLength() != null) {
+            annotations.add("@Size(max = " + field.maxLength() + ")");
+        }
+        return annotations;
+    }
+
+    private Set<String> collectImports(List<CodeGenField> fields) {
+        Set<String> imports = new TreeSet<>();
+        for (CodeGenField field : fields) {
+            for (String annotation : validationAnnotations(field)) {
+                String simpleName = annotation.substring(1).split("\\(")[0];
+                imports.add("jakarta.validation.constraints." + simpleName);
+            }
+            if (DataTypeMapper.needsImport(field.javaType())) {
+                imports.add(field.javaType());
+            }
+        }
+        return imports;
+    }
+}
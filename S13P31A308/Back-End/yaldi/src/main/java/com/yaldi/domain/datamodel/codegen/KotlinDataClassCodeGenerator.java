@@ -0,0 +1,123 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import com.yaldi.domain.datamodel.util.DataTypeMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Kotlin data class 코드 생성기
+ *
+ * <p>NULL 허용 컬럼은 {@code T? = null}로, FK 컬럼은 KDoc에 참조 대상을 표시합니다.</p>
+ */
+@Component
+public class KotlinDataClassCodeGenerator implements CodeGenerator {
+
+    private static final String INDENT = "    ";
+
+    /**
+     * Java 타입 → Kotlin 타입 매핑 (패키지 포함 타입은 import 후 심플 이름 사용)
+     */
+    private static final Map<String, String> JAVA_TO_KOTLIN = Map.ofEntries(
+            Map.entry("Short", "Short"),
+            Map.entry("Integer", "Int"),
+            Map.entry("Long", "Long"),
+            Map.entry("Float", "Float"),
+            Map.entry("Double", "Double"),
+            Map.entry("String", "String"),
+            Map.entry("Boolean", "Boolean"),
+            Map.entry("byte[]", "ByteArray"),
+            Map.entry("Object", "Any")
+    );
+
+    @Override
+    public String target() {
+        return "kotlin";
+    }
+
+    @Override
+    public String version() {
+        return "1";
+    }
+
+    @Override
+    public Set<CodeGeneratorCapability> capabilities() {
+        return EnumSet.of(CodeGeneratorCapability.NULLABLE_HANDLING, CodeGeneratorCapability.FK_NAVIGATION);
+    }
+
+    @Override
+    public boolean supports(DataModelType type) {
+        return true;
+    }
+
+    @Override
+    public String filePath(CodeGenModel model) {
+        return "kotlin/" + packageDir(model.type()) + "/" + model.name() + ".kt";
+    }
+
+    @Override
+    public String generate(CodeGenModel model) {
+        StringBuilder code = new StringBuilder();
+
+        // Package
+        code.append("package com.example.").append(packageDir(model.type()).replace('/', '.')).append("\n\n");
+
+        // Imports
+        Set<String> imports = new TreeSet<>();
+        for (CodeGenField field : model.fields()) {
+            if (!JAVA_TO_KOTLIN.containsKey(field.javaType())) {
+                imports.add(field.javaType());
+            }
+        }
+        if (!imports.isEmpty()) {
+            imports.forEach(importStatement -> code.append("import ").append(importStatement).append("\n"));
+            code.append("\n");
+        }
+
+        // KDoc
+        code.append("/**\n");
+        if (model.isEntity()) {
+            code.append(" * ").append(model.name()).append(" - ").append(model.tableLabel()).append("\n");
+            code.append(" *\n");
+            code.append(" * 테이블: ").append(model.tableName()).append("\n");
+        } else {
+            code.append(" * ").append(model.name()).append("\n");
+        }
+        code.append(" */\n");
+
+        // Class Declaration
+        code.append("data class ").append(model.name()).append("(\n");
+        for (CodeGenField field : model.fields()) {
+            code.append(INDENT).append("/** ").append(field.label());
+            if (field.hasComment()) {
+                code.append(" - ").append(field.comment());
+            }
+            if (field.reference() != null) {
+                code.append(" (→ ").append(field.reference()).append(")");
+            }
+            code.append(" */\n");
+
+            code.append(INDENT).append("val ").append(field.name()).append(": ").append(toKotlinType(field.javaType()));
+            if (field.nullable()) {
+                code.append("? = null");
+            }
+            code.append(",\n");
+        }
+        code.append(")\n");
+
+        return code.toString();
+    }
+
+    private String toKotlinType(String javaType) {
+        return JAVA_TO_KOTLIN.getOrDefault(javaType, DataTypeMapper.getSimpleName(javaType));
+    }
+
+    private String packageDir(DataModelType type) {
+        return switch (type) {
+            case ENTITY -> "entity";
+            case DTO_REQUEST -> "dto/request";
+            case DTO_RESPONSE -> "dto/response";
+        };
+    }
+}
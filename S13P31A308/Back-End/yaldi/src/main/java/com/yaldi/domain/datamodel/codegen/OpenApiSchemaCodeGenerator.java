@@ -0,0 +1,134 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OpenAPI 3 Component Schema 코드 생성기 (YAML)
+ *
+ * <p>NULL 허용 컬럼은 {@code nullable: true}, 나머지는 {@code required}에 포함합니다.
+ * FK 컬럼은 {@code x-foreign-key} 확장 속성으로 참조 대상을 표시합니다.</p>
+ */
+@Component
+public class OpenApiSchemaCodeGenerator implements CodeGenerator {
+
+    /**
+     * Java 타입 → OpenAPI type/format 매핑 (format이 없으면 null)
+     */
+    private static final Map<String, String[]> JAVA_TO_OPENAPI = Map.ofEntries(
+            Map.entry("Short", new String[]{"integer", "int32"}),
+            Map.entry("Integer", new String[]{"integer", "int32"}),
+            Map.entry("Long", new String[]{"integer", "int64"}),
+            Map.entry("java.math.BigDecimal", new String[]{"number", null}),
+            Map.entry("Float", new String[]{"number", "float"}),
+            Map.entry("Double", new String[]{"number", "double"}),
+            Map.entry("String", new String[]{"string", null}),
+            Map.entry("java.time.LocalDate", new String[]{"string", "date"}),
+            Map.entry("java.time.LocalTime", new String[]{"string", "time"}),
+            Map.entry("java.time.OffsetTime", new String[]{"string", "time"}),
+            Map.entry("java.time.LocalDateTime", new String[]{"string", "date-time"}),
+            Map.entry("java.time.OffsetDateTime", new String[]{"string", "date-time"}),
+            Map.entry("Boolean", new String[]{"boolean", null}),
+            Map.entry("com.fasterxml.jackson.databind.JsonNode", new String[]{"object", null}),
+            Map.entry("java.util.UUID", new String[]{"string", "uuid"}),
+            Map.entry("byte[]", new String[]{"string", "byte"})
+    );
+
+    @Override
+    public String target() {
+        return "openapi";
+    }
+
+    @Override
+    public String version() {
+        return "1";
+    }
+
+    @Override
+    public Set<CodeGeneratorCapability> capabilities() {
+        return EnumSet.of(CodeGeneratorCapability.NULLABLE_HANDLING, CodeGeneratorCapability.FK_NAVIGATION);
+    }
+
+    @Override
+    public boolean supports(DataModelType type) {
+        return true;
+    }
+
+    @Override
+    public String filePath(CodeGenModel model) {
+        return "openapi/" + model.name() + ".yaml";
+    }
+
+    @Override
+    public String generate(CodeGenModel model) {
+        StringBuilder yaml = new StringBuilder();
+        List<CodeGenField> fields = model.fields();
+
+        yaml.append("components:\n");
+        yaml.append("  schemas:\n");
+        yaml.append("    ").append(model.name()).append(":\n");
+        yaml.append("      type: object\n");
+        if (model.isEntity()) {
+            yaml.append("      description: ").append(quote(model.tableLabel())).append("\n");
+        }
+
+        List<CodeGenField> requiredFields = fields.stream()
+                .filter(field -> !field.nullable())
+                .toList();
+        if (!requiredFields.isEmpty()) {
+            yaml.append("      required:\n");
+            requiredFields.forEach(field -> yaml.append("        - ").append(field.name()).append("\n"));
+        }
+
+        if (fields.isEmpty()) {
+            yaml.append("      properties: {}\n");
+            return yaml.toString();
+        }
+
+        yaml.append("      properties:\n");
+        for (CodeGenField field : fields) {
+            yaml.append("        ").append(field.name()).append(":\n");
+
+            String[] typeAndFormat = JAVA_TO_OPENAPI.get(field.javaType());
+            if (typeAndFormat != null) {
+                yaml.append("          type: ").append(typeAndFormat[0]).append("\n");
+                if (typeAndFormat[1] != null) {
+                    yaml.append("          format: ").append(typeAndFormat[1]).append("\n");
+                }
+            }
+
+            String description = field.hasComment() ? field.label() + " - " + field.comment() : field.label();
+            yaml.append("          description: ").append(quote(description)).append("\n");
+
+            if (field.maxLength() != null) {
+                yaml.append("          maxLength: ").append(field.maxLength()).append("\n");
+            }
+            if (field.nullable()) {
+                yaml.append("          nullable: true\n");
+            }
+            if (field.primaryKey() && field.autoIncrement()) {
+                yaml.append("          readOnly: true\n");
+            }
+            if (field.reference() != null) {
+                yaml.append("          x-foreign-key: ").append(quote(field.reference().toString())).append("\n");
+            }
+        }
+
+        return yaml.toString();
+    }
+
+    /**
+     * YAML 큰따옴표 문자열로 변환 (특수문자 이스케이프)
+     */
+    private String quote(String value) {
+        if (value == null) {
+            return "\"\"";
+        }
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+}
@@ -0,0 +1,15 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import java.io.IOException;
+
+/**
+ * 프로젝트 전체 생성 코드
+ *
+ * <p>권한 검증과 메타데이터 조회는 만들 때 끝내고, 코드는 {@link #writeTo(SourceArchive)} 호출 시
+ * 모델 단위로 생성해 바로 기록합니다. 프로젝트 전체 코드를 한 번에 메모리에 올리지 않습니다.</p>
+ */
+@FunctionalInterface
+public interface ProjectSources {
+
+    void writeTo(SourceArchive archive) throws IOException;
+}
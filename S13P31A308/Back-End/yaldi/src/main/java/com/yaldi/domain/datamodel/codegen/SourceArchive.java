@@ -0,0 +1,87 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 생성 코드 ZIP 아카이브
+ *
+ * <p>파일 경로는 사용자가 정한 모델 이름에서 만들어지므로 그대로 엔트리 이름으로 쓰지 않습니다.</p>
+ * <ul>
+ *   <li>역슬래시는 '/'로 바꾸고, 앞의 '/'와 빈 세그먼트, '.', '..' 세그먼트는 버림 (압축 해제 위치 밖으로 나가지 않음)</li>
+ *   <li>제어 문자와 Windows 예약 문자({@code : * ? " < > |})는 '_'로 치환</li>
+ *   <li>대소문자만 다른 경로까지 중복으로 보고 확장자 앞에 -2, -3 ... 을 붙임</li>
+ * </ul>
+ */
+public class SourceArchive implements Closeable {
+
+    private static final Pattern UNSAFE_CHARS = Pattern.compile("[\\p{Cntrl}:*?\"<>|]");
+    private static final String UNNAMED = "unnamed";
+
+    private final ZipOutputStream zip;
+    private final Set<String> entryNames = new HashSet<>();
+
+    public SourceArchive(OutputStream outputStream) {
+        this.zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 파일 추가
+     *
+     * @return 실제 사용한 엔트리 이름
+     */
+    public String add(String path, String content) throws IOException {
+        String entryName = uniqueName(entryName(path));
+        zip.putNextEntry(new ZipEntry(entryName));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        return entryName;
+    }
+
+    @Override
+    public void close() throws IOException {
+        zip.close();
+    }
+
+    /**
+     * 안전한 상대 경로로 정규화
+     */
+    static String entryName(String path) {
+        String normalized = path == null ? "" : path.replace('\\', '/');
+        List<String> segments = new ArrayList<>();
+        for (String segment : normalized.split("/")) {
+            String cleaned = UNSAFE_CHARS.matcher(segment).replaceAll("_").trim();
+            if (cleaned.isEmpty() || cleaned.equals(".") || cleaned.equals("..")) {
+                continue;
+            }
+            segments.add(cleaned);
+        }
+        return segments.isEmpty() ? UNNAMED : String.join("/", segments);
+    }
+
+    private String uniqueName(String name) {
+        if (entryNames.add(name.toLowerCase(Locale.ROOT))) {
+            return name;
+        }
+
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        int suffixAt = dot > slash + 1 ? dot : name.length();
+        for (int sequence = 2; ; sequence++) {
+            String candidate = name.substring(0, suffixAt) + "-" + sequence + name.substring(suffixAt);
+            if (entryNames.add(candidate.toLowerCase(Locale.ROOT))) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -1,91 +1,78 @@
 package com.yaldi.domain.datamodel.codegen;
 
-import com.yaldi.domain.datamodel.util.DataTypeMapper;
-import com.yaldi.domain.datamodel.util.NamingConverter;
-import com.yaldi.domain.erd.entity.ErdColumn;
-import com.yaldi.domain.erd.entity.ErdTable;
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * TypeScript Interface 코드 생성기
  *
  * <p>ERD 정보로부터 TypeScript Interface를 생성합니다.</p>
  */
-public class TypeScriptInterfaceCodeGenerator {
+@Component
+public class TypeScriptInterfaceCodeGenerator implements CodeGenerator {
 
     private static final String INDENT = "  ";
 
-    /**
-     * TypeScript Interface 생성 (Entity용)
-     *
-     * @param interfaceName Interface 이름 (예: UsersEntity)
-     * @param table ERD 테이블 정보
-     * @param columns 컬럼 목록
-     * @return 생성된 TypeScript Interface 코드
-     */
-    public static String generateForEntity(String interfaceName, ErdTable table, List<ErdColumn> columns) {
-        StringBuilder code = new StringBuilder();
-
-        // JSDoc
-        code.append("/**\n");
-        code.append(" * ").append(interfaceName).append(" - ").append(table.getLogicalName()).append("\n");
-        code.append(" *\n");
-        code.append(" * 테이블: ").append(table.getPhysicalName()).append("\n");
-        code.append(" */\n");
-
-        // Interface Declaration
-        code.append("export interface ").append(interfaceName).append(" {\n");
-
-        // Fields
-        for (int i = 0; i < columns.size(); i++) {
-            ErdColumn column = columns.get(i);
-            String fieldName = NamingConverter.toCamelCase(column.getPhysicalName());
+    @Override
+    public String target() {
+        return "typescript";
+    }
 
-            code.append(generateField(column, fieldName));
+    @Override
+    public String version() {
+        return "1";
+    }
 
-            // 마지막 필드가 아니면 빈 줄 추가
-            if (i < columns.size() - 1) {
-                code.append("\n");
-            }
-        }
+    @Override
+    public Set<CodeGeneratorCapability> capabilities() {
+        return EnumSet.of(CodeGeneratorCapability.NULLABLE_HANDLING);
+    }
 
-        // Interface End
-        code.append("}\n");
+    @Override
+    public boolean supports(DataModelType type) {
+        return true;
+    }
 
-        return code.toString();
+    @Override
+    public String filePath(CodeGenModel model) {
+        return "typescript/" + model.name() + ".ts";
     }
 
     /**
-     * TypeScript Interface 생성 (DTO용)
+     * TypeScript Interface 생성
      *
-     * @param interfaceName Interface 이름 (예: UserCreateRequest, UserResponse)
-     * @param columns 컬럼 목록
-     * @param columnAliases 컬럼 별칭 맵 (columnKey → alias)
+     * @param model 중간 모델 (Interface 이름 예: UsersEntity, UserCreateRequest)
      * @return 생성된 TypeScript Interface 코드
      */
-    public static String generateForDto(String interfaceName, List<ErdColumn> columns, Map<Long, String> columnAliases) {
+    @Override
+    public String generate(CodeGenModel model) {
         StringBuilder code = new StringBuilder();
+        List<CodeGenField> fields = model.fields();
 
-        // JSDoc
+        // JSDoc (Entity는 테이블 정보 포함)
         code.append("/**\n");
-        code.append(" * ").append(interfaceName).append("\n");
+        if (model.isEntity()) {
+            code.append(" * ").append(model.name()).append(" - ").append(model.tableLabel()).append("\n");
+            code.append(" *\n");
+            code.append(" * 테이블: ").append(model.tableName()).append("\n");
+        } else {
+            code.append(" * ").append(model.name()).append("\n");
+        }
         code.append(" */\n");
 
         // Interface Declaration
-        code.append("export interface ").append(interfaceName).append(" {\n");
+        code.append("export interface ").append(model.name()).append(" {\n");
 
         // Fields
-        for (int i = 0; i < columns.size(); i++) {
-            ErdColumn column = columns.get(i);
-            String fieldName = columnAliases.getOrDefault(column.getColumnKey(),
-                    NamingConverter.toCamelCase(column.getPhysicalName()));
-
-            code.append(generateField(column, fieldName));
+        for (int i = 0; i < fields.size(); i++) {
+            code.append(generateField(fields.get(i)));
 
             // 마지막 필드가 아니면 빈 줄 추가
-            if (i < columns.size() - 1) {
+            if (i < fields.size() - 1) {
                 code.append("\n");
             }
         }
@@ -99,30 +86,28 @@ public class TypeScriptInterfaceCodeGenerator {
     /**
      * 필드 코드 생성
      */
-    private static String generateField(ErdColumn column, String fieldName) {
-        StringBuilder field = new StringBuilder();
-
-        String tsType = DataTypeMapper.toTypeScriptType(column.getDataType());
+    private String generateField(CodeGenField field) {
+        StringBuilder code = new StringBuilder();
 
         // JSDoc
-        field.append(INDENT).append("/**\n");
-        field.append(INDENT).append(" * ").append(column.getLogicalName());
-        if (column.getComment() != null && !column.getComment().isEmpty()) {
-            field.append(" - ").append(column.getComment());
+        code.append(INDENT).append("/**\n");
+        code.append(INDENT).append(" * ").append(field.label());
+        if (field.hasComment()) {
+            code.append(" - ").append(field.comment());
         }
-        field.append("\n");
-        field.append(INDENT).append(" */\n");
+        code.append("\n");
+        code.append(INDENT).append(" */\n");
 
         // Field Declaration
-        field.append(INDENT).append(fieldName);
+        code.append(INDENT).append(field.name());
 
         // Optional field (nullable)
-        if (column.getIsNullable()) {
-            field.append("?");
+        if (field.nullable()) {
+            code.append("?");
         }
 
-        field.append(": ").append(tsType).append(";\n");
+        code.append(": ").append(field.tsType()).append(";\n");
 
-        return field.toString();
+        return code.toString();
     }
 }
@@ -0,0 +1,116 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Zod 스키마 코드 생성기 (TypeScript)
+ *
+ * <p>스키마와 함께 {@code z.infer}로 추론한 타입을 export 합니다. NULL 허용 컬럼은 {@code .nullish()}로 표현합니다.</p>
+ */
+@Component
+public class ZodSchemaCodeGenerator implements CodeGenerator {
+
+    private static final String INDENT = "  ";
+
+    /**
+     * Java 타입 → Zod 스키마 매핑 (매핑 없으면 z.unknown())
+     */
+    private static final Map<String, String> JAVA_TO_ZOD = Map.ofEntries(
+            Map.entry("Short", "z.number().int()"),
+            Map.entry("Integer", "z.number().int()"),
+            Map.entry("Long", "z.number().int()"),
+            Map.entry("java.math.BigDecimal", "z.number()"),
+            Map.entry("Float", "z.number()"),
+            Map.entry("Double", "z.number()"),
+            Map.entry("String", "z.string()"),
+            Map.entry("java.time.LocalDate", "z.coerce.date()"),
+            Map.entry("java.time.LocalTime", "z.string()"),
+            Map.entry("java.time.OffsetTime", "z.string()"),
+            Map.entry("java.time.LocalDateTime", "z.coerce.date()"),
+            Map.entry("java.time.OffsetDateTime", "z.coerce.date()"),
+            Map.entry("Boolean", "z.boolean()"),
+            Map.entry("java.util.UUID", "z.string().uuid()"),
+            Map.entry("byte[]", "z.string()")
+    );
+
+    @Override
+    public String target() {
+        return "zod";
+    }
+
+    @Override
+    public String version() {
+        return "1";
+    }
+
+    @Override
+    public Set<CodeGeneratorCapability> capabilities() {
+        return EnumSet.of(CodeGeneratorCapability.NULLABLE_HANDLING, CodeGeneratorCapability.FK_NAVIGATION);
+    }
+
+    @Override
+    public boolean supports(DataModelType type) {
+        return true;
+    }
+
+    @Override
+    public String filePath(CodeGenModel model) {
+        return "zod/" + model.name() + ".schema.ts";
+    }
+
+    @Override
+    public String generate(CodeGenModel model) {
+        StringBuilder code = new StringBuilder();
+        String schemaName = model.name() + "Schema";
+
+        code.append("import { z } from 'zod';\n\n");
+
+        // JSDoc
+        code.append("/**\n");
+        if (model.isEntity()) {
+            code.append(" * ").append(model.name()).append(" - ").append(model.tableLabel()).append("\n");
+            code.append(" *\n");
+            code.append(" * 테이블: ").append(model.tableName()).append("\n");
+        } else {
+            code.append(" * ").append(model.name()).append("\n");
+        }
+        code.append(" */\n");
+
+        // Schema
+        code.append("export const ").append(schemaName).append(" = z.object({\n");
+        for (CodeGenField field : model.fields()) {
+            code.append(INDENT).append("/** ").append(field.label());
+            if (field.hasComment()) {
+                code.append(" - ").append(field.comment());
+            }
+            if (field.reference() != null) {
+                code.append(" (→ ").append(field.reference()).append(")");
+            }
+            code.append(" */\n");
+
+            code.append(INDENT).append(field.name()).append(": ").append(toZod(field)).append(",\n");
+        }
+        code.append("});\n\n");
+
+        // Inferred type
+        code.append("export type ").append(model.name()).append(" = z.infer<typeof ").append(schemaName).append(">;\n");
+
+        return code.toString();
+    }
+
+    private String toZod(CodeGenField field) {
+        StringBuilder zod = new StringBuilder(JAVA_TO_ZOD.getOrDefault(field.javaType(), "z.unknown()"));
+        if (field.maxLength() != null) {
+            zod.append(".max(").append(field.maxLength()).append(")");
+        }
+        if (field.nullable()) {
+            zod.append(".nullish()");
+        }
+        return zod.toString();
+    }
+}
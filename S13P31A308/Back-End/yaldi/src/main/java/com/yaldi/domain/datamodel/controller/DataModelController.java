@@ -1,5 +1,7 @@
 package com.yaldi.domain.datamodel.controller;
 
+import com.yaldi.domain.datamodel.codegen.ProjectSources;
+import com.yaldi.domain.datamodel.codegen.SourceArchive;
 import com.yaldi.domain.datamodel.entity.DataModelType;
 import com.yaldi.domain.datamodel.dto.request.CreateDtoRequest;
 import com.yaldi.domain.datamodel.dto.request.CreateEntityRequest;
@@ -17,7 +19,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 
 /**
  * 데이터 모델 관리 API
@@ -112,6 +120,39 @@ public class DataModelController {
         return ApiResponse.onSuccess(response);
     }
 
+    /**
+     * 프로젝트 전체 생성 코드 ZIP 다운로드
+     *
+     * <p>프로젝트의 모든 데이터 모델에 대해 Java/TypeScript 코드를 생성하여 ZIP으로 스트리밍합니다.
+     * 코드는 응답을 쓰는 동안 모델 단위로 생성하며, 엔트리 이름은 {@link SourceArchive}가 안전한 상대 경로로 정규화하고 중복을 피합니다.</p>
+     */
+    @Operation(
+            summary = "프로젝트 전체 코드 생성 (ZIP)",
+            description = "프로젝트의 모든 데이터 모델의 생성 코드(Java, TypeScript)를 ZIP 파일로 다운로드합니다."
+    )
+    @GetMapping(value = "/export/zip", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProjectSources(
+            @Parameter(description = "프로젝트 키") @PathVariable Long projectKey) {
+
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        ProjectSources sources = dataModelService.generateProjectSources(userKey, projectKey);
+
+        StreamingResponseBody body = outputStream -> {
+            try (SourceArchive archive = new SourceArchive(outputStream)) {
+                sources.writeTo(archive);
+            }
+        };
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("project-" + projectKey + "-data-models.zip")
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+
     /**
      * 데이터 모델 Refresh (동기화)
      *
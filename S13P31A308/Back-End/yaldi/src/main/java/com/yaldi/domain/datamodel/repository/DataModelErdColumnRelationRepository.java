@@ -4,6 +4,7 @@ import com.yaldi.domain.datamodel.entity.DataModelErdColumnRelation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +14,14 @@ public interface DataModelErdColumnRelationRepository extends JpaRepository<Data
      * 데이터 모델의 컬럼 관계 목록 조회
      */
     List<DataModelErdColumnRelation> findByModelKey(Long modelKey);
+
+    /**
+     * 여러 데이터 모델의 컬럼 관계 목록 조회
+     */
+    List<DataModelErdColumnRelation> findByModelKeyIn(Collection<Long> modelKeys);
+
+    /**
+     * 컬럼을 참조하는 컬럼 관계 목록 조회
+     */
+    List<DataModelErdColumnRelation> findByColumnKey(Long columnKey);
 }
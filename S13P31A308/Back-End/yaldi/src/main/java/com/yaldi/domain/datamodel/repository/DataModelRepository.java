@@ -7,6 +7,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface DataModelRepository extends JpaRepository<DataModel, Long> {
 
@@ -15,6 +17,11 @@ public interface DataModelRepository extends JpaRepository<DataModel, Long> {
      */
     Page<DataModel> findByProjectKey(Long projectKey, Pageable pageable);
 
+    /**
+     * 프로젝트의 전체 데이터 모델 목록 조회
+     */
+    List<DataModel> findAllByProjectKey(Long projectKey);
+
     /**
      * 프로젝트의 특정 타입 데이터 모델 목록 조회 (페이지네이션)
      */
@@ -1,5 +1,12 @@
 package com.yaldi.domain.datamodel.service;
 
+import com.yaldi.domain.datamodel.codegen.CodeGenField;
+import com.yaldi.domain.datamodel.codegen.CodeGenModel;
+import com.yaldi.domain.datamodel.codegen.CodeGenModelFactory;
+import com.yaldi.domain.datamodel.codegen.CodeGenerationCache;
+import com.yaldi.domain.datamodel.codegen.CodeGenerator;
+import com.yaldi.domain.datamodel.codegen.CodeGeneratorRegistry;
+import com.yaldi.domain.datamodel.codegen.ProjectSources;
 import com.yaldi.domain.datamodel.entity.DataModelType;
 import com.yaldi.domain.datamodel.entity.SyncStatus;
 import com.yaldi.domain.datamodel.dto.request.CreateDtoRequest;
@@ -15,10 +22,12 @@ import com.yaldi.domain.datamodel.repository.DataModelRepository;
 import com.yaldi.domain.datamodel.util.NamingConverter;
 import com.yaldi.domain.datamodel.util.SyncStatusCalculator;
 import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdRelation;
 import com.yaldi.domain.erd.entity.ErdTable;
 import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
 import com.yaldi.domain.erd.repository.ErdTableRepository;
-import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
@@ -49,7 +58,10 @@ public class DataModelService {
     private final DataModelErdColumnRelationRepository dataModelErdColumnRelationRepository;
     private final ErdTableRepository erdTableRepository;
     private final ErdColumnRepository erdColumnRepository;
-    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final ErdRelationRepository erdRelationRepository;
+    private final ProjectAccessValidator projectAccessValidator;
+    private final CodeGenerationCache codeGenerationCache;
+    private final CodeGeneratorRegistry codeGeneratorRegistry;
 
     /**
      * Entity 생성
@@ -65,7 +77,7 @@ public class DataModelService {
     @Transactional
     public DataModelResponse createEntity(Integer userKey, Long projectKey, CreateEntityRequest request) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. 테이블 조회
         ErdTable table = erdTableRepository.findById(request.tableKey())
@@ -133,7 +145,7 @@ public class DataModelService {
     @Transactional
     public DataModelResponse createDto(Integer userKey, Long projectKey, CreateDtoRequest request) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. 이름 중복 체크
         if (dataModelRepository.existsByProjectKeyAndName(projectKey, request.name())) {
@@ -215,7 +227,7 @@ public class DataModelService {
      */
     public Page<DataModelResponse> getDataModels(Integer userKey, Long projectKey, DataModelType type, int page) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. 고정 페이지 크기: 10, 최신순 정렬
         Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -293,7 +305,7 @@ public class DataModelService {
      */
     public DataModelDetailResponse getDataModelDetail(Integer userKey, Long projectKey, Long modelKey) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. DataModel 조회
         DataModel dataModel = dataModelRepository.findById(modelKey)
@@ -361,8 +373,11 @@ public class DataModelService {
                 })
                 .collect(Collectors.toList());
 
-        // 10. 코드 생성 (TODO: 실제 코드 생성 로직 구현)
-        Map<String, String> generatedCode = generateCode(dataModel, columns, tablesMap);
+        // 10. 코드 생성 (콘텐츠 해시 기반 캐시, INVALID 상태는 캐싱하지 않음)
+        Map<Long, CodeGenField.Reference> references = resolveReferences(projectKey, columns);
+        CodeGenModel codeGenModel = CodeGenModelFactory.of(dataModel, columns, tablesMap, references);
+
+        Map<String, String> generatedCode = generatedCode(modelKey, syncStatus, codeGenModel);
 
         return new DataModelDetailResponse(
                 dataModel.getModelKey(),
@@ -394,7 +409,7 @@ public class DataModelService {
     @Transactional
     public DataModelResponse refreshDataModel(Integer userKey, Long projectKey, Long modelKey) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. DataModel 조회
         DataModel dataModel = dataModelRepository.findById(modelKey)
@@ -424,6 +439,7 @@ public class DataModelService {
         // 7. last_synced_at 업데이트
         dataModel.updateLastSyncedAt(OffsetDateTime.now());
         dataModelRepository.save(dataModel);
+        codeGenerationCache.evict(modelKey);
 
         log.info("DataModel refreshed: modelKey={}, name={}", dataModel.getModelKey(), dataModel.getName());
 
@@ -447,7 +463,7 @@ public class DataModelService {
     @Transactional
     public DataModelResponse updateName(Integer userKey, Long projectKey, Long modelKey, UpdateNameRequest request) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. DataModel 조회
         DataModel dataModel = dataModelRepository.findById(modelKey)
@@ -498,7 +514,7 @@ public class DataModelService {
     @Transactional
     public void deleteDataModel(Integer userKey, Long projectKey, Long modelKey) {
         // 1. 권한 검증
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // 2. DataModel 조회
         DataModel dataModel = dataModelRepository.findById(modelKey)
@@ -512,21 +528,120 @@ public class DataModelService {
         // 4. Soft Delete
         dataModel.softDelete();
         dataModelRepository.save(dataModel);
+        codeGenerationCache.evict(modelKey);
 
         log.info("DataModel soft deleted: modelKey={}, name={}", dataModel.getModelKey(), dataModel.getName());
     }
 
-    // ==================== Private Helper Methods ====================
-
     /**
-     * 프로젝트 멤버 권한 검증
+     * 프로젝트 전체 데이터 모델의 소스 코드 생성
+     *
+     * <p>ZIP 다운로드용입니다. 권한 검증과 컬럼/테이블 배치 조회는 호출 시점에 끝내고,
+     * 코드는 응답을 쓰는 동안 모델 단위로 생성합니다. 캐시와 INVALID 처리는 상세 조회와 같습니다.</p>
+     * <p>경로 예: java/entity/UsersEntity.java, java/dto/request/UserCreateRequest.java, typescript/UsersEntity.ts</p>
+     *
+     * @param userKey 사용자 키
+     * @param projectKey 프로젝트 키
+     * @return 모델 이름 순으로 생성 코드를 기록하는 소스
      */
-    private void validateProjectMember(Integer userKey, Long projectKey) {
-        if (!projectMemberRelationRepository.existsByProjectKeyAndMemberKey(projectKey, userKey)) {
-            throw new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
+    public ProjectSources generateProjectSources(Integer userKey, Long projectKey) {
+        // 1. 권한 검증
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        // 2. 모든 모델 조회
+        List<DataModel> dataModels = dataModelRepository.findAllByProjectKey(projectKey).stream()
+                .sorted(Comparator.comparing(DataModel::getName))
+                .toList();
+        if (dataModels.isEmpty()) {
+            return archive -> { };
         }
+
+        // 3. N+1 방지: 컬럼 관계/컬럼/테이블 배치 조회
+        List<Long> modelKeys = dataModels.stream()
+                .map(DataModel::getModelKey)
+                .toList();
+
+        Map<Long, List<Long>> columnKeysByModel = dataModelErdColumnRelationRepository.findByModelKeyIn(modelKeys).stream()
+                .collect(Collectors.groupingBy(
+                        DataModelErdColumnRelation::getModelKey,
+                        Collectors.mapping(DataModelErdColumnRelation::getColumnKey, Collectors.toList())
+                ));
+
+        Set<Long> allColumnKeys = columnKeysByModel.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+
+        Map<Long, ErdColumn> columnsMap = allColumnKeys.isEmpty()
+                ? Collections.emptyMap()
+                : erdColumnRepository.findAllById(allColumnKeys).stream()
+                        .collect(Collectors.toMap(ErdColumn::getColumnKey, col -> col));
+
+        Set<Long> allTableKeys = columnsMap.values().stream()
+                .map(ErdColumn::getTableKey)
+                .collect(Collectors.toSet());
+
+        Map<Long, ErdTable> allTablesMap = allTableKeys.isEmpty()
+                ? Collections.emptyMap()
+                : erdTableRepository.findAllById(allTableKeys).stream()
+                        .collect(Collectors.toMap(ErdTable::getTableKey, table -> table));
+
+        Map<Long, CodeGenField.Reference> allReferences = resolveReferences(projectKey, columnsMap.values());
+
+        // 4. 모델별 코드 생성 (기록 시점에 한 모델씩)
+        return archive -> {
+            int fileCount = 0;
+            for (DataModel dataModel : dataModels) {
+                List<Long> columnKeys = columnKeysByModel.getOrDefault(dataModel.getModelKey(), Collections.emptyList());
+                List<ErdColumn> columns = columnKeys.stream()
+                        .map(columnsMap::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+
+                Map<Long, ErdTable> tablesMap = columns.stream()
+                        .map(ErdColumn::getTableKey)
+                        .distinct()
+                        .map(allTablesMap::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toMap(ErdTable::getTableKey, table -> table));
+
+                SyncStatus syncStatus = SyncStatusCalculator.calculate(
+                        dataModel.getLastSyncedAt(),
+                        columns.size() < columnKeys.size(),
+                        calculateLastErdUpdatedAt(columns, tablesMap.values())
+                );
+
+                CodeGenModel codeGenModel = CodeGenModelFactory.of(dataModel, columns, tablesMap, allReferences);
+                Map<String, String> code = generatedCode(dataModel.getModelKey(), syncStatus, codeGenModel);
+
+                for (CodeGenerator generator : codeGeneratorRegistry.getGenerators(dataModel.getType())) {
+                    String generated = code.get(generator.target());
+                    if (generated != null) {
+                        archive.add(generator.filePath(codeGenModel), generated);
+                        fileCount++;
+                    }
+                }
+            }
+
+            log.info("Project sources generated: projectKey={}, modelCount={}, fileCount={}",
+                    projectKey, dataModels.size(), fileCount);
+        };
     }
 
+    /**
+     * 컬럼 변경 시 해당 컬럼을 참조하는 모델의 코드 캐시 무효화
+     *
+     * @param columnKey 변경된 컬럼 키
+     */
+    public void evictGeneratedCodeByColumn(Long columnKey) {
+        List<Long> modelKeys = dataModelErdColumnRelationRepository.findByColumnKey(columnKey).stream()
+                .map(DataModelErdColumnRelation::getModelKey)
+                .distinct()
+                .toList();
+        codeGenerationCache.evictAll(modelKeys);
+    }
+
+    // ==================== Private Helper Methods ====================
+
     /**
      * DataModel을 DataModelResponse로 변환
      *
@@ -623,107 +738,84 @@ public class DataModelService {
     }
 
     /**
-     * 코드 생성
+     * 캐시를 거친 코드 생성
      *
-     * @param dataModel 데이터 모델
-     * @param columns 컬럼 목록
-     * @param tablesMap 테이블 맵
-     * @return 언어별 생성된 코드 맵
+     * <p>INVALID 상태(삭제된 컬럼 포함)의 결과는 캐싱하지 않고, 남아 있던 캐시도 비웁니다.</p>
+     *
+     * @param modelKey 모델 키
+     * @param syncStatus 모델의 동기화 상태
+     * @param model 코드 생성 중간 모델
+     * @return target → 생성된 코드 맵
      */
-    private Map<String, String> generateCode(DataModel dataModel, List<ErdColumn> columns, Map<Long, ErdTable> tablesMap) {
-        Map<String, String> codeMap = new HashMap<>();
+    private Map<String, String> generatedCode(Long modelKey, SyncStatus syncStatus, CodeGenModel model) {
+        if (syncStatus == SyncStatus.INVALID) {
+            codeGenerationCache.evict(modelKey);
+            return generateCode(model);
+        }
 
-        if (dataModel.getType() == DataModelType.ENTITY) {
-            // Entity 코드 생성
-            ErdTable sourceTable = tablesMap.get(dataModel.getSourceTableKey());
-            if (sourceTable != null) {
-                String javaCode = com.yaldi.domain.datamodel.codegen.JavaEntityCodeGenerator.generate(
-                        dataModel.getName(),
-                        sourceTable,
-                        columns
-                );
-                codeMap.put("java", javaCode);
+        String contentHash = CodeGenerationCache.computeHash(model, codeGeneratorRegistry.fingerprint());
+        return codeGenerationCache.getOrGenerate(modelKey, contentHash, () -> generateCode(model));
+    }
 
-                String tsCode = com.yaldi.domain.datamodel.codegen.TypeScriptInterfaceCodeGenerator.generateForEntity(
-                        dataModel.getName(),
-                        sourceTable,
-                        columns
-                );
-                codeMap.put("typescript", tsCode);
-            }
-        } else {
-            // DTO 코드 생성 (DTO_REQUEST or DTO_RESPONSE)
-            // 컬럼명 충돌 해결을 위한 alias 생성
-            Map<Long, String> columnAliases = generateColumnAliases(columns, tablesMap);
-
-            String javaCode = com.yaldi.domain.datamodel.codegen.JavaDtoCodeGenerator.generate(
-                    dataModel.getName(),
-                    dataModel.getType(),
-                    columns,
-                    columnAliases
-            );
-            codeMap.put("java", javaCode);
-
-            String tsCode = com.yaldi.domain.datamodel.codegen.TypeScriptInterfaceCodeGenerator.generateForDto(
-                    dataModel.getName(),
-                    columns,
-                    columnAliases
-            );
-            codeMap.put("typescript", tsCode);
+    /**
+     * 코드 생성
+     *
+     * <p>모델 타입을 지원하는 모든 생성기를 실행합니다. 소스 테이블이 없는 Entity는 생성하지 않습니다.</p>
+     *
+     * @param model 코드 생성 중간 모델
+     * @return target → 생성된 코드 맵
+     */
+    private Map<String, String> generateCode(CodeGenModel model) {
+        Map<String, String> codeMap = new HashMap<>();
+        if (model.isEntity() && model.tableName() == null) {
+            return codeMap;
         }
 
+        for (CodeGenerator generator : codeGeneratorRegistry.getGenerators(model.type())) {
+            codeMap.put(generator.target(), generator.generate(model));
+        }
         return codeMap;
     }
 
     /**
-     * 컬럼명 충돌 해결을 위한 alias 생성
-     *
-     * <p>여러 테이블의 컬럼 중 중복된 이름이 있으면 테이블명을 prefix로 추가합니다.</p>
-     * <p>예: users.id, orders.id → userId, orderId</p>
+     * 컬럼의 FK 참조 대상 조회
      *
+     * @param projectKey 프로젝트 키
      * @param columns 컬럼 목록
-     * @param tablesMap 테이블 맵
-     * @return columnKey → alias 맵
+     * @return columnKey → 참조 대상 (테이블명.컬럼명)
      */
-    private Map<Long, String> generateColumnAliases(List<ErdColumn> columns, Map<Long, ErdTable> tablesMap) {
-        Map<Long, String> aliases = new HashMap<>();
-
-        // 1. 각 컬럼의 기본 alias (camelCase) 생성
-        Map<Long, String> baseAliases = new HashMap<>();
-        for (ErdColumn column : columns) {
-            String baseAlias = NamingConverter.toCamelCase(column.getPhysicalName());
-            baseAliases.put(column.getColumnKey(), baseAlias);
+    private Map<Long, CodeGenField.Reference> resolveReferences(Long projectKey, Collection<ErdColumn> columns) {
+        Set<Long> fkColumnKeys = columns.stream()
+                .filter(column -> Boolean.TRUE.equals(column.getIsForeignKey()))
+                .map(ErdColumn::getColumnKey)
+                .collect(Collectors.toSet());
+        if (fkColumnKeys.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // 2. 중복된 alias 찾기
-        Map<String, List<Long>> aliasCounts = new HashMap<>();
-        for (Map.Entry<Long, String> entry : baseAliases.entrySet()) {
-            aliasCounts.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+        List<ErdRelation> relations = erdRelationRepository.findByProjectKey(projectKey).stream()
+                .filter(relation -> fkColumnKeys.contains(relation.getFromColumnKey()))
+                .toList();
+        if (relations.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // 3. 중복된 alias에 테이블명 prefix 추가
-        for (ErdColumn column : columns) {
-            String baseAlias = baseAliases.get(column.getColumnKey());
-            List<Long> duplicates = aliasCounts.get(baseAlias);
-
-            if (duplicates != null && duplicates.size() > 1) {
-                // 중복됨 → 테이블명 prefix 추가
-                ErdTable table = tablesMap.get(column.getTableKey());
-                if (table != null) {
-                    String tablePrefix = NamingConverter.toCamelCase(table.getPhysicalName());
-                    // 첫 글자 대문자로 변환 (userId → UserId)
-                    String capitalizedAlias = baseAlias.substring(0, 1).toUpperCase() + baseAlias.substring(1);
-                    String newAlias = tablePrefix + capitalizedAlias;
-                    aliases.put(column.getColumnKey(), newAlias);
-                } else {
-                    aliases.put(column.getColumnKey(), baseAlias);
-                }
-            } else {
-                // 중복 없음 → 그대로 사용
-                aliases.put(column.getColumnKey(), baseAlias);
+        Map<Long, ErdTable> targetTables = erdTableRepository.findAllById(
+                        relations.stream().map(ErdRelation::getToTableKey).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(ErdTable::getTableKey, table -> table));
+        Map<Long, ErdColumn> targetColumns = erdColumnRepository.findAllById(
+                        relations.stream().map(ErdRelation::getToColumnKey).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(ErdColumn::getColumnKey, column -> column));
+
+        Map<Long, CodeGenField.Reference> references = new HashMap<>();
+        for (ErdRelation relation : relations) {
+            ErdTable targetTable = targetTables.get(relation.getToTableKey());
+            ErdColumn targetColumn = targetColumns.get(relation.getToColumnKey());
+            if (targetTable != null && targetColumn != null) {
+                references.putIfAbsent(relation.getFromColumnKey(),
+                        new CodeGenField.Reference(targetTable.getPhysicalName(), targetColumn.getPhysicalName()));
             }
         }
-
-        return aliases;
+        return references;
     }
 }
@@ -0,0 +1,29 @@
+package com.yaldi.domain.erd.config;
+
+import com.yaldi.domain.erd.service.ErdLintService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ERD 린트 변경 채널 구독 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ErdLintChangeConfig {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ErdLintService erdLintService;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> erdLintService.onChange(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ErdLintService.CHANGE_CHANNEL));
+    }
+}
@@ -7,6 +7,7 @@ import com.yaldi.domain.erd.dto.request.ErdRelationUpdateRequest;
 import com.yaldi.domain.erd.dto.request.ErdTableCreateRequest;
 import com.yaldi.domain.erd.dto.request.ErdTableUpdateRequest;
 import com.yaldi.domain.erd.dto.response.ErdColumnResponse;
+import com.yaldi.domain.erd.dto.response.ErdLintResponse;
 import com.yaldi.domain.erd.dto.response.ErdRelationResponse;
 import com.yaldi.domain.erd.dto.response.ErdRelationWithFkResponse;
 import com.yaldi.domain.erd.dto.response.ErdResponse;
@@ -26,6 +27,7 @@ import com.yaldi.domain.erd.dto.websocket.event.TablePnameEvent;
 import com.yaldi.domain.erd.entity.SqlDialect;
 import com.yaldi.domain.erd.service.ErdColumnService;
 import com.yaldi.domain.erd.service.ErdExportService;
+import com.yaldi.domain.erd.service.ErdLintService;
 import com.yaldi.domain.erd.service.ErdRelationService;
 import com.yaldi.domain.erd.service.ErdService;
 import com.yaldi.domain.erd.service.ErdTableService;
@@ -68,6 +70,7 @@ public class ErdController {
     private final ErdColumnService erdColumnService;
     private final ErdRelationService erdRelationService;
     private final ErdExportService erdExportService;
+    private final ErdLintService erdLintService;
     private final ProjectAccessValidator projectAccessValidator;
     private final SimpMessagingTemplate messagingTemplate;
 
@@ -103,6 +106,21 @@ public class ErdController {
         return ApiResponse.onSuccess(sqlDdl);
     }
 
+    /**
+     * ERD 린트 결과 조회
+     */
+    @Operation(summary = "ERD 린트 조회",
+            description = "프로젝트 ERD의 설계 규칙 위반(PK 누락, FK 타입 불일치, 예약어 등)을 조회합니다. "
+                    + "편집 후 변경분은 WebSocket LINT_UPDATED 이벤트로도 전송됩니다.")
+    @GetMapping("/projects/{projectKey}/lint")
+    public ApiResponse<ErdLintResponse> getErdLint(@PathVariable Long projectKey) {
+        // 프로젝트 접근 권한 검증
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        return ApiResponse.onSuccess(erdLintService.getLint(projectKey));
+    }
+
     // ========== ERD Table API ==========
 
     /**
@@ -0,0 +1,67 @@
+package com.yaldi.domain.erd.controller;
+
+import com.yaldi.domain.erd.dto.request.ErdOperationBatchRequest;
+import com.yaldi.domain.erd.dto.response.ErdAppliedOperationResponse;
+import com.yaldi.domain.erd.dto.response.ErdOperationBatchResponse;
+import com.yaldi.domain.erd.dto.response.ErdOperationPageResponse;
+import com.yaldi.domain.erd.dto.websocket.event.OperationAppliedEvent;
+import com.yaldi.domain.erd.service.ErdSyncService;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.security.util.SecurityUtil;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ERD 작업 동기화 API (오프라인 편집 지원)
+ */
+@Tag(name = "ERD Sync", description = "ERD 작업 동기화 API")
+@RestController
+@RequestMapping("/api/v1/erd/projects/{projectKey}/operations")
+@RequiredArgsConstructor
+public class ErdSyncController {
+
+    private final ErdSyncService erdSyncService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Operation(summary = "ERD 작업 제출",
+            description = "클라이언트 작업을 시퀀스 순서대로 적용하고 작업별 처리 결과와 리비전을 반환합니다. "
+                    + "같은 (clientId, clientSeq) 재전송은 처음 응답을 그대로 반환합니다.")
+    @PostMapping
+    public ApiResponse<ErdOperationBatchResponse> submitOperations(
+            @PathVariable Long projectKey,
+            @Valid @RequestBody ErdOperationBatchRequest request) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        ErdOperationBatchResponse response = erdSyncService.submit(projectKey, userKey, request.getOperations());
+
+        // 적용된 작업만 리비전 순서로 브로드캐스트
+        for (ErdAppliedOperationResponse applied : response.getApplied()) {
+            messagingTemplate.convertAndSend("/topic/project/" + projectKey, ErdBroadcastEvent.builder()
+                    .projectKey(projectKey)
+                    .userKey(userKey)
+                    .event(OperationAppliedEvent.from(applied))
+                    .build());
+        }
+        return ApiResponse.onSuccess(response);
+    }
+
+    @Operation(summary = "적용된 ERD 작업 조회", description = "since 리비전 이후 적용된 작업을 리비전 순으로 조회합니다.")
+    @GetMapping
+    public ApiResponse<ErdOperationPageResponse> getOperations(
+            @PathVariable Long projectKey,
+            @RequestParam(defaultValue = "0") Long since,
+            @RequestParam(required = false) Integer size) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        return ApiResponse.onSuccess(erdSyncService.getOperations(projectKey, userKey, since, size));
+    }
+}
@@ -0,0 +1,25 @@
+package com.yaldi.domain.erd.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ERD 동기화 작업 일괄 제출 요청 DTO (오프라인 동안 쌓인 작업을 시퀀스 순서대로 전송)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdOperationBatchRequest {
+
+    @NotEmpty(message = "작업 목록은 필수입니다")
+    @Size(max = 200, message = "한 번에 200개까지 제출할 수 있습니다")
+    private List<@Valid ErdOperationRequest> operations;
+}
@@ -0,0 +1,52 @@
+package com.yaldi.domain.erd.dto.request;
+
+import com.yaldi.domain.erd.sync.ErdOperation;
+import com.yaldi.domain.erd.sync.ErdOperationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * ERD 동기화 작업 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdOperationRequest {
+
+    @NotBlank(message = "클라이언트 ID는 필수입니다")
+    @Size(max = 64, message = "클라이언트 ID는 64자 이하여야 합니다")
+    private String clientId;
+
+    @NotNull(message = "클라이언트 시퀀스는 필수입니다")
+    @Positive(message = "클라이언트 시퀀스는 1 이상이어야 합니다")
+    private Long clientSeq;
+
+    @NotNull(message = "기준 리비전은 필수입니다")
+    @PositiveOrZero(message = "기준 리비전은 0 이상이어야 합니다")
+    private Long baseRevision;
+
+    @NotNull(message = "작업 종류는 필수입니다")
+    private ErdOperationType type;
+
+    @NotNull(message = "대상 키는 필수입니다")
+    private Long targetKey;
+
+    /**
+     * 변경한 필드만 (삭제 작업은 비움)
+     */
+    private Map<String, Object> fields;
+
+    public ErdOperation toOperation() {
+        return new ErdOperation(clientId, clientSeq, baseRevision, type, targetKey, fields);
+    }
+}
@@ -0,0 +1,38 @@
+package com.yaldi.domain.erd.dto.response;
+
+import com.yaldi.domain.erd.sync.ErdAppliedOperation;
+import com.yaldi.domain.erd.sync.ErdOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 적용된 ERD 동기화 작업 응답 DTO (리비전 순으로 적용하면 서버 상태와 같아짐)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdAppliedOperationResponse {
+
+    private Long revision;
+    private String clientId;
+    private Long clientSeq;
+    private ErdOperationType type;
+    private Long targetKey;
+    private Map<String, Object> fields;
+
+    public static ErdAppliedOperationResponse from(ErdAppliedOperation applied) {
+        return ErdAppliedOperationResponse.builder()
+                .revision(applied.revision())
+                .clientId(applied.clientId())
+                .clientSeq(applied.clientSeq())
+                .type(applied.type())
+                .targetKey(applied.targetKey())
+                .fields(applied.fields())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.yaldi.domain.erd.dto.response;
+
+import com.yaldi.domain.erd.lint.LintIssue;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ERD 린트 위반 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdLintIssueResponse {
+
+    private String ruleCode;
+
+    private LintSeverity severity;
+
+    private Long tableKey;
+
+    /** 테이블 단위 위반이면 null */
+    private Long columnKey;
+
+    private String message;
+
+    /** 수정 제안 (이름, 타입, DDL 등) */
+    private String suggestion;
+
+    public static ErdLintIssueResponse from(LintIssue issue) {
+        return ErdLintIssueResponse.builder()
+                .ruleCode(issue.ruleCode())
+                .severity(issue.severity())
+                .tableKey(issue.tableKey())
+                .columnKey(issue.columnKey())
+                .message(issue.message())
+                .suggestion(issue.suggestion())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.yaldi.domain.erd.dto.response;
+
+import com.yaldi.domain.erd.lint.LintReport;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ERD 린트 결과 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdLintResponse {
+
+    /** 테이블 키 순 */
+    private List<ErdLintIssueResponse> issues;
+
+    private Map<LintSeverity, Integer> counts;
+
+    public static ErdLintResponse from(LintReport report) {
+        return ErdLintResponse.builder()
+                .issues(report.issues().stream().map(ErdLintIssueResponse::from).toList())
+                .counts(report.countsBySeverity())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.yaldi.domain.erd.dto.response;
+
+import com.yaldi.domain.erd.sync.ErdOperationAck;
+import com.yaldi.domain.erd.sync.ErdOperationOutcome;
+import com.yaldi.domain.erd.sync.ErdOperationReason;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ERD 동기화 작업 처리 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdOperationAckResponse {
+
+    private String clientId;
+    private Long clientSeq;
+    private ErdOperationOutcome outcome;
+    private ErdOperationReason reason;
+    private Long revision;
+    private List<String> overwrittenFields;
+    private boolean duplicate;
+
+    public static ErdOperationAckResponse from(ErdOperationAck ack) {
+        return ErdOperationAckResponse.builder()
+                .clientId(ack.clientId())
+                .clientSeq(ack.clientSeq())
+                .outcome(ack.outcome())
+                .reason(ack.reason())
+                .revision(ack.revision())
+                .overwrittenFields(ack.overwrittenFields())
+                .duplicate(ack.duplicate())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.yaldi.domain.erd.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ERD 동기화 작업 일괄 제출 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdOperationBatchResponse {
+
+    /** 요청 순서와 같은 작업별 응답 */
+    private List<ErdOperationAckResponse> acks;
+
+    /** 이번 요청에서 새로 적용된 작업 */
+    private List<ErdAppliedOperationResponse> applied;
+
+    /** 처리 후 프로젝트 리비전 */
+    private Long revision;
+}
@@ -0,0 +1,28 @@
+package com.yaldi.domain.erd.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 리비전 이후 적용된 ERD 동기화 작업 페이지 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdOperationPageResponse {
+
+    private List<ErdAppliedOperationResponse> operations;
+
+    /** 다음 조회의 since (마지막 작업 리비전, 없으면 요청한 since) */
+    private Long nextSince;
+
+    private boolean hasNext;
+
+    /** 현재 프로젝트 리비전 */
+    private Long revision;
+}
@@ -0,0 +1,50 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.domain.erd.dto.response.ErdLintIssueResponse;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import com.yaldi.domain.erd.service.ErdLintService;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ERD 린트 결과 변경 이벤트 (직전 결과 대비 추가/해결된 위반만 전송, 전체 목록은 린트 조회 API)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("LINT_UPDATED")
+public class LintUpdatedEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "LINT_UPDATED";
+
+    /** true면 added가 전체 위반 목록 (클라이언트는 목록을 교체) */
+    @JsonProperty("full")
+    private boolean full;
+
+    @JsonProperty("added")
+    private List<ErdLintIssueResponse> added;
+
+    @JsonProperty("resolved")
+    private List<ErdLintIssueResponse> resolved;
+
+    @JsonProperty("counts")
+    private Map<LintSeverity, Integer> counts;
+
+    public static LintUpdatedEvent from(ErdLintService.LintResult result) {
+        return LintUpdatedEvent.builder()
+                .full(result.full())
+                .added(result.added().stream().map(ErdLintIssueResponse::from).toList())
+                .resolved(result.resolved().stream().map(ErdLintIssueResponse::from).toList())
+                .counts(result.report().countsBySeverity())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.domain.erd.dto.response.ErdAppliedOperationResponse;
+import com.yaldi.domain.erd.sync.ErdOperationType;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 동기화 작업 적용 이벤트 (revision이 건너뛰면 클라이언트는 작업 조회 API로 누락분을 받음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("OPERATION_APPLIED")
+public class OperationAppliedEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "OPERATION_APPLIED";
+
+    @JsonProperty("revision")
+    private Long revision;
+
+    @JsonProperty("clientId")
+    private String clientId;
+
+    @JsonProperty("clientSeq")
+    private Long clientSeq;
+
+    @JsonProperty("operationType")
+    private ErdOperationType operationType;
+
+    @JsonProperty("targetKey")
+    private Long targetKey;
+
+    @JsonProperty("fields")
+    private Map<String, Object> fields;
+
+    public static OperationAppliedEvent from(ErdAppliedOperationResponse applied) {
+        return OperationAppliedEvent.builder()
+                .revision(applied.getRevision())
+                .clientId(applied.getClientId())
+                .clientSeq(applied.getClientSeq())
+                .operationType(applied.getType())
+                .targetKey(applied.getTargetKey())
+                .fields(applied.getFields())
+                .build();
+    }
+}
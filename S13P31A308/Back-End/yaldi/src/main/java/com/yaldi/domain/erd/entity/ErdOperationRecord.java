@@ -0,0 +1,103 @@
+package com.yaldi.domain.erd.entity;
+
+import com.yaldi.domain.erd.sync.ErdAppliedOperation;
+import com.yaldi.domain.erd.sync.ErdOperationAck;
+import com.yaldi.domain.erd.sync.ErdOperationOutcome;
+import com.yaldi.domain.erd.sync.ErdOperationReason;
+import com.yaldi.domain.erd.sync.ErdOperationType;
+import com.yaldi.global.common.BaseCreateOnlyEntity;
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ERD 동기화 작업 로그
+ *
+ * <p>처리한 모든 작업(충돌/거부 포함)을 (project_key, client_id, client_seq)로 한 번만 기록해 재전송 시 같은 응답을 돌려줍니다.
+ * 적용된 작업만 revision을 가지며, 리비전 순으로 다시 적용하면 프로젝트 ERD 상태가 재현됩니다.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "erd_operations")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdOperationRecord extends BaseCreateOnlyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "operation_key")
+    private Long operationKey;
+
+    @Column(name = "project_key", nullable = false)
+    private Long projectKey;
+
+    @Column(name = "client_id", length = 64, nullable = false)
+    private String clientId;
+
+    @Column(name = "client_seq", nullable = false)
+    private Long clientSeq;
+
+    @Column(name = "base_revision", nullable = false)
+    private Long baseRevision;
+
+    /**
+     * 적용된 작업의 리비전 (APPLIED가 아니면 null)
+     */
+    @Column(name = "revision")
+    private Long revision;
+
+    /**
+     * 응답한 리비전 (APPLIED가 아니면 처리 시점의 프로젝트 리비전)
+     */
+    @Column(name = "ack_revision", nullable = false)
+    private Long ackRevision;
+
+    @Column(name = "user_key")
+    private Integer userKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", length = 30)
+    private ErdOperationType operationType;
+
+    @Column(name = "target_key")
+    private Long targetKey;
+
+    @Column(name = "table_key")
+    private Long tableKey;
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "fields", columnDefinition = "jsonb")
+    private Map<String, Object> fields;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", length = 20, nullable = false)
+    private ErdOperationOutcome outcome;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", length = 30)
+    private ErdOperationReason reason;
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "overwritten_fields", columnDefinition = "jsonb")
+    private List<String> overwrittenFields;
+
+    public ErdOperationAck toAck() {
+        return new ErdOperationAck(clientId, clientSeq, outcome, reason, ackRevision,
+                overwrittenFields != null ? overwrittenFields : List.of(), false);
+    }
+
+    public ErdAppliedOperation toApplied() {
+        return new ErdAppliedOperation(revision, clientId, clientSeq, operationType, targetKey, tableKey,
+                fields != null ? fields : Map.of());
+    }
+}
@@ -0,0 +1,36 @@
+package com.yaldi.domain.erd.entity;
+
+import com.yaldi.global.common.BaseAuditEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트 ERD 동기화 리비전 카운터
+ *
+ * <p>작업 처리 시 이 행을 잠가 프로젝트 단위로 작업을 직렬화합니다.</p>
+ */
+@Entity
+@Table(name = "erd_sync_states")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErdSyncState extends BaseAuditEntity {
+
+    @Id
+    @Column(name = "project_key")
+    private Long projectKey;
+
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    public long advance() {
+        return ++revision;
+    }
+}
@@ -0,0 +1,83 @@
+package com.yaldi.domain.erd.lint;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 등록된 규칙으로 ERD를 검사하는 엔진 (상태 없음)
+ *
+ * <p>증분 검사는 직전 스냅샷과 테이블 단위로 비교해 바뀐 테이블과 그 이웃(이전/현재 모델 모두)만 다시 검사하고
+ * 나머지 테이블은 직전 결과를 그대로 씁니다. 테이블 수가 1개 이하 ↔ 2개 이상으로 바뀌면 고립 테이블 판정이
+ * 모든 테이블에서 달라지므로 전체 검사로 돌아갑니다.</p>
+ */
+@Component
+public class ErdLintEngine {
+
+    private final List<ErdLintRule> rules;
+    private final Map<String, LintSeverity> severities;
+
+    public ErdLintEngine(List<ErdLintRule> rules, ErdLintProperties properties) {
+        this.rules = rules.stream()
+                .filter(rule -> !properties.getDisabledRules().contains(rule.code()))
+                .sorted(Comparator.comparing(ErdLintRule::code))
+                .toList();
+        this.severities = new HashMap<>(properties.getSeverities());
+    }
+
+    public LintReport lint(LintSchema schema) {
+        Map<Long, List<LintIssue>> issues = new HashMap<>();
+        for (LintSchema.Table table : schema.tables()) {
+            issues.put(table.tableKey(), check(schema, table));
+        }
+        return new LintReport(issues, schema.tableCount());
+    }
+
+    public LintReport relint(LintSchema previousSchema, LintReport previousReport, LintSchema schema) {
+        if ((previousSchema.tableCount() < 2) != (schema.tableCount() < 2)) {
+            return lint(schema);
+        }
+
+        Set<Long> tableKeys = new TreeSet<>(previousSchema.tableKeys());
+        tableKeys.addAll(schema.tableKeys());
+        Set<Long> affected = new TreeSet<>();
+        for (Long tableKey : tableKeys) {
+            if (!Objects.equals(previousSchema.shape(tableKey), schema.shape(tableKey))) {
+                affected.add(tableKey);
+                affected.addAll(previousSchema.neighbors(tableKey));
+                affected.addAll(schema.neighbors(tableKey));
+            }
+        }
+
+        Map<Long, List<LintIssue>> issues = new HashMap<>(previousReport.issuesByTable());
+        int evaluated = 0;
+        for (Long tableKey : affected) {
+            issues.remove(tableKey);
+            LintSchema.Shape shape = schema.shape(tableKey);
+            if (shape != null) {
+                issues.put(tableKey, check(schema, shape.table()));
+                evaluated++;
+            }
+        }
+        return new LintReport(issues, evaluated);
+    }
+
+    private List<LintIssue> check(LintSchema schema, LintSchema.Table table) {
+        List<LintIssue> issues = new ArrayList<>();
+        for (ErdLintRule rule : rules) {
+            LintSeverity severity = severities.getOrDefault(rule.code(), rule.defaultSeverity());
+            for (LintFinding finding : rule.check(schema, table)) {
+                issues.add(new LintIssue(rule.code(), severity, table.tableKey(),
+                        finding.columnKey(), finding.message(), finding.suggestion()));
+            }
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,44 @@
+package com.yaldi.domain.erd.lint;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ERD 린트 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "erd.lint")
+public class ErdLintProperties {
+
+    /** 사용하지 않을 규칙 코드 */
+    private Set<String> disabledRules = new HashSet<>();
+
+    /** 규칙 코드별 심각도 재정의 */
+    private Map<String, LintSeverity> severities = new HashMap<>();
+
+    /** 예약어를 검사할 DBMS (프로젝트에 DBMS 지정이 없어 내보내기 대상 전체를 검사) */
+    private List<SqlDialect> dialects = new ArrayList<>(EnumSet.allOf(SqlDialect.class));
+
+    /** 넓은 테이블로 볼 컬럼 수 (초과 시 경고) */
+    private int wideTableColumns = 50;
+
+    /** 증분 검사를 위해 직전 결과를 보관할 프로젝트 수 (노드별) */
+    private int cacheMaxSize = 1000;
+
+    /** 직전 결과 보관 시간 (처음 읽은 시점 기준, 지나면 프로젝트 전체를 다시 읽음) */
+    private Duration cacheTtl = Duration.ofMinutes(30);
+}
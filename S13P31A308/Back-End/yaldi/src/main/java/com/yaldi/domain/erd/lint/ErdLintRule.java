@@ -0,0 +1,20 @@
+package com.yaldi.domain.erd.lint;
+
+import java.util.List;
+
+/**
+ * ERD 린트 규칙
+ *
+ * <p>{@code @Component}로 등록하면 {@link ErdLintEngine}이 자동으로 사용합니다.
+ * 규칙은 테이블 하나와 그 테이블의 컬럼, 테이블에 연결된 관계와 관계 반대편 컬럼만 읽어야 합니다.
+ * 증분 검사는 바뀐 테이블과 그 이웃 테이블만 다시 검사하기 때문입니다.</p>
+ */
+public interface ErdLintRule {
+
+    /** 설정(erd.lint.disabled-rules, erd.lint.severities)과 결과에 쓰는 규칙 코드 */
+    String code();
+
+    LintSeverity defaultSeverity();
+
+    List<LintFinding> check(LintSchema schema, LintSchema.Table table);
+}
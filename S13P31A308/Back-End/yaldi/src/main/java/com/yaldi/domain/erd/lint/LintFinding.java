@@ -0,0 +1,19 @@
+package com.yaldi.domain.erd.lint;
+
+/**
+ * 규칙이 찾은 위반 (규칙 코드와 심각도는 엔진이 붙임)
+ *
+ * @param columnKey  대상 컬럼 (테이블 단위 위반이면 null)
+ * @param message    설명
+ * @param suggestion 수정 제안 (없으면 null)
+ */
+public record LintFinding(Long columnKey, String message, String suggestion) {
+
+    public static LintFinding ofTable(String message) {
+        return new LintFinding(null, message, null);
+    }
+
+    public static LintFinding ofColumn(Long columnKey, String message) {
+        return new LintFinding(columnKey, message, null);
+    }
+}
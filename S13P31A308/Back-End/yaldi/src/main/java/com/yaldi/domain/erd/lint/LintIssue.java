@@ -0,0 +1,23 @@
+package com.yaldi.domain.erd.lint;
+
+/**
+ * 린트 규칙 위반 한 건
+ *
+ * <p>같은 모델에서는 항상 같은 값으로 만들어지므로 이전 결과와 equals로 비교해 추가/해결된 항목을 구합니다.</p>
+ *
+ * @param ruleCode   규칙 코드
+ * @param severity   설정이 반영된 심각도
+ * @param tableKey   대상 테이블
+ * @param columnKey  대상 컬럼 (테이블 단위 위반이면 null)
+ * @param message    설명
+ * @param suggestion 수정 제안 (없으면 null)
+ */
+public record LintIssue(
+        String ruleCode,
+        LintSeverity severity,
+        Long tableKey,
+        Long columnKey,
+        String message,
+        String suggestion
+) {
+}
@@ -0,0 +1,50 @@
+package com.yaldi.domain.erd.lint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 프로젝트 린트 결과
+ *
+ * @param issuesByTable    테이블 키 순 위반 목록 (위반이 없는 테이블은 없음)
+ * @param evaluatedTables  이번에 실제로 검사한 테이블 수 (증분 검사면 바뀐 테이블과 이웃 테이블 수)
+ */
+public record LintReport(Map<Long, List<LintIssue>> issuesByTable, int evaluatedTables) {
+
+    public LintReport {
+        Map<Long, List<LintIssue>> copy = new TreeMap<>();
+        issuesByTable.forEach((tableKey, issues) -> {
+            if (!issues.isEmpty()) {
+                copy.put(tableKey, List.copyOf(issues));
+            }
+        });
+        issuesByTable = Collections.unmodifiableMap(copy);
+    }
+
+    public List<LintIssue> issues() {
+        List<LintIssue> issues = new ArrayList<>();
+        issuesByTable.values().forEach(issues::addAll);
+        return issues;
+    }
+
+    public Map<LintSeverity, Integer> countsBySeverity() {
+        Map<LintSeverity, Integer> counts = new EnumMap<>(LintSeverity.class);
+        for (LintSeverity severity : LintSeverity.values()) {
+            counts.put(severity, 0);
+        }
+        issuesByTable.values().forEach(issues -> issues.forEach(issue -> counts.merge(issue.severity(), 1, Integer::sum)));
+        return counts;
+    }
+
+    /** other에 없고 이 결과에만 있는 위반 */
+    public List<LintIssue> issuesNotIn(LintReport other) {
+        Set<LintIssue> known = other == null ? Set.of() : new HashSet<>(other.issues());
+        return issues().stream().filter(issue -> !known.contains(issue)).toList();
+    }
+}
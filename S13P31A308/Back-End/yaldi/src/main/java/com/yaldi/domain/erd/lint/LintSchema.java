@@ -0,0 +1,204 @@
+package com.yaldi.domain.erd.lint;
+
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdRelation;
+import com.yaldi.domain.erd.entity.ErdTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 린트용 ERD 모델 스냅샷 (불변)
+ *
+ * <p>엔티티와 분리해 트랜잭션 밖에서 보관하고, 이전 스냅샷과 테이블 단위로 비교해 바뀐 테이블을 찾습니다.</p>
+ */
+public final class LintSchema {
+
+    public record Table(Long tableKey, String logicalName, String physicalName) {
+
+        /** 메시지용 이름 (물리명이 비어 있으면 논리명) */
+        public String displayName() {
+            return physicalName == null || physicalName.isBlank() ? logicalName : physicalName;
+        }
+    }
+
+    public record Column(
+            Long columnKey,
+            Long tableKey,
+            String physicalName,
+            String dataType,
+            List<String> dataDetail,
+            boolean primaryKey,
+            boolean foreignKey,
+            boolean unique,
+            int columnOrder
+    ) {
+        public Column {
+            dataDetail = dataDetail == null ? List.of() : List.copyOf(dataDetail);
+        }
+
+        /** 예: VARCHAR(255), 타입이 없으면 빈 문자열 */
+        public String typeLabel() {
+            String type = dataType == null ? "" : dataType.trim().toUpperCase();
+            return dataDetail.isEmpty() ? type : type + "(" + String.join(",", dataDetail) + ")";
+        }
+    }
+
+    /**
+     * from = 참조되는 부모 테이블(PK), to = FK 컬럼을 가진 자식 테이블
+     */
+    public record Relation(Long relationKey, Long fromTableKey, Long fromColumnKey, Long toTableKey, Long toColumnKey) {
+    }
+
+    /**
+     * 테이블 검사 결과에 영향을 주는 테이블 자신의 상태 (같으면 다시 검사하지 않아도 됨)
+     */
+    record Shape(Table table, List<Column> columns, List<Relation> relations) {
+    }
+
+    private static final Comparator<Column> COLUMN_ORDER =
+            Comparator.comparingInt(Column::columnOrder).thenComparing(Column::columnKey);
+
+    private final Map<Long, Table> tables = new TreeMap<>();
+    private final Map<Long, Column> columns = new HashMap<>();
+    private final Map<Long, List<Column>> columnsByTable = new HashMap<>();
+    private final Map<Long, List<Relation>> relationsByTable = new HashMap<>();
+    private final List<Relation> relations;
+
+    private LintSchema(Collection<Table> tables, Collection<Column> columns, Collection<Relation> relations) {
+        tables.forEach(table -> this.tables.put(table.tableKey(), table));
+        for (Column column : columns) {
+            if (this.tables.containsKey(column.tableKey())) {
+                this.columns.put(column.columnKey(), column);
+                columnsByTable.computeIfAbsent(column.tableKey(), key -> new ArrayList<>()).add(column);
+            }
+        }
+        columnsByTable.replaceAll((key, list) -> list.stream().sorted(COLUMN_ORDER).toList());
+
+        List<Relation> sorted = new ArrayList<>(relations);
+        sorted.sort(Comparator.comparing(Relation::relationKey));
+        this.relations = List.copyOf(sorted);
+        for (Relation relation : sorted) {
+            relationsByTable.computeIfAbsent(relation.fromTableKey(), key -> new ArrayList<>()).add(relation);
+            if (!relation.toTableKey().equals(relation.fromTableKey())) {
+                relationsByTable.computeIfAbsent(relation.toTableKey(), key -> new ArrayList<>()).add(relation);
+            }
+        }
+        relationsByTable.replaceAll((key, list) -> List.copyOf(list));
+    }
+
+    public static LintSchema of(Collection<Table> tables, Collection<Column> columns, Collection<Relation> relations) {
+        return new LintSchema(tables, columns, relations);
+    }
+
+    public static LintSchema from(List<ErdTable> tables, List<ErdColumn> columns, List<ErdRelation> relations) {
+        return new LintSchema(
+                tables.stream()
+                        .map(table -> new Table(table.getTableKey(), table.getLogicalName(), table.getPhysicalName()))
+                        .toList(),
+                columns.stream()
+                        .map(column -> new Column(
+                                column.getColumnKey(),
+                                column.getTableKey(),
+                                column.getPhysicalName(),
+                                column.getDataType(),
+                                column.getDataDetail() == null ? null : List.of(column.getDataDetail()),
+                                Boolean.TRUE.equals(column.getIsPrimaryKey()),
+                                Boolean.TRUE.equals(column.getIsForeignKey()),
+                                Boolean.TRUE.equals(column.getIsUnique()),
+                                column.getColumnOrder() == null ? 0 : column.getColumnOrder()))
+                        .toList(),
+                relations.stream()
+                        // 자식 컬럼이 아직 연결되지 않은 관계도 테이블 연결로는 취급
+                        .map(relation -> new Relation(
+                                relation.getRelationKey(),
+                                relation.getFromTableKey(),
+                                relation.getFromColumnKey(),
+                                relation.getToTableKey(),
+                                relation.getToColumnKey()))
+                        .toList());
+    }
+
+    /**
+     * 일부 테이블만 다시 읽은 결과로 교체한 스냅샷
+     *
+     * <p>tableKeys의 테이블·컬럼과 그 테이블에 연결된 관계를 모두 버리고 reloaded의 내용으로 채웁니다.
+     * reloaded에 없는 테이블은 삭제된 것으로 봅니다.</p>
+     *
+     * @param tableKeys 다시 읽은 테이블
+     * @param reloaded  tableKeys의 테이블, 그 컬럼, 그 테이블이 한쪽 끝인 관계
+     */
+    public LintSchema withTables(Set<Long> tableKeys, LintSchema reloaded) {
+        List<Table> mergedTables = new ArrayList<>();
+        tables.values().stream().filter(table -> !tableKeys.contains(table.tableKey())).forEach(mergedTables::add);
+        mergedTables.addAll(reloaded.tables());
+
+        List<Column> mergedColumns = new ArrayList<>();
+        columns.values().stream().filter(column -> !tableKeys.contains(column.tableKey())).forEach(mergedColumns::add);
+        mergedColumns.addAll(reloaded.columns.values());
+
+        Map<Long, Relation> mergedRelations = new HashMap<>();
+        relations.stream()
+                .filter(relation -> !tableKeys.contains(relation.fromTableKey()) && !tableKeys.contains(relation.toTableKey()))
+                .forEach(relation -> mergedRelations.put(relation.relationKey(), relation));
+        reloaded.relations.forEach(relation -> mergedRelations.put(relation.relationKey(), relation));
+
+        return new LintSchema(mergedTables, mergedColumns, mergedRelations.values());
+    }
+
+    /** 테이블 키 순 */
+    public Collection<Table> tables() {
+        return tables.values();
+    }
+
+    public int tableCount() {
+        return tables.size();
+    }
+
+    public boolean hasTable(Long tableKey) {
+        return tables.containsKey(tableKey);
+    }
+
+    /** 없으면 null */
+    public Column column(Long columnKey) {
+        return columnKey == null ? null : columns.get(columnKey);
+    }
+
+    /** 컬럼 순서 순 */
+    public List<Column> columnsOf(Long tableKey) {
+        return columnsByTable.getOrDefault(tableKey, List.of());
+    }
+
+    /** 테이블이 부모나 자식으로 연결된 관계 (관계 키 순) */
+    public List<Relation> relationsOf(Long tableKey) {
+        return relationsByTable.getOrDefault(tableKey, List.of());
+    }
+
+    /** 관계로 연결된 다른 테이블 */
+    public Set<Long> neighbors(Long tableKey) {
+        Set<Long> neighbors = new TreeSet<>();
+        for (Relation relation : relationsOf(tableKey)) {
+            neighbors.add(relation.fromTableKey());
+            neighbors.add(relation.toTableKey());
+        }
+        neighbors.remove(tableKey);
+        return neighbors;
+    }
+
+    /** 테이블이 없으면 null */
+    Shape shape(Long tableKey) {
+        Table table = tables.get(tableKey);
+        return table == null ? null : new Shape(table, columnsOf(tableKey), relationsOf(tableKey));
+    }
+
+    Set<Long> tableKeys() {
+        return tables.keySet();
+    }
+}
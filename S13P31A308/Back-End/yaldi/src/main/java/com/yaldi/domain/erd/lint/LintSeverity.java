@@ -0,0 +1,13 @@
+package com.yaldi.domain.erd.lint;
+
+/**
+ * 린트 결과 심각도
+ */
+public enum LintSeverity {
+    /** 생성된 DDL이 실패하거나 데이터 무결성이 깨질 수 있음 */
+    ERROR,
+    /** 동작은 하지만 성능이나 이식성 문제가 예상됨 */
+    WARNING,
+    /** 설계 관례 권고 */
+    INFO
+}
@@ -0,0 +1,49 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FK 컬럼 타입이 참조하는 부모 컬럼 타입과 다른 경우 (자식 테이블에 보고)
+ */
+@Component
+public class ForeignKeyTypeMismatchRule implements ErdLintRule {
+
+    public static final String CODE = "FK_TYPE_MISMATCH";
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.ERROR;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        List<LintFinding> findings = new ArrayList<>();
+        for (LintSchema.Relation relation : schema.relationsOf(table.tableKey())) {
+            if (!relation.toTableKey().equals(table.tableKey())) {
+                continue;
+            }
+            LintSchema.Column child = schema.column(relation.toColumnKey());
+            LintSchema.Column parent = schema.column(relation.fromColumnKey());
+            if (child == null || parent == null || child.typeLabel().equals(parent.typeLabel())) {
+                continue;
+            }
+            findings.add(new LintFinding(child.columnKey(),
+                    "FK 컬럼 " + child.physicalName() + "(" + child.typeLabel() + ")의 타입이 참조 컬럼 "
+                            + parent.physicalName() + "(" + parent.typeLabel() + ")과 다릅니다.",
+                    parent.typeLabel()));
+        }
+        return findings;
+    }
+}
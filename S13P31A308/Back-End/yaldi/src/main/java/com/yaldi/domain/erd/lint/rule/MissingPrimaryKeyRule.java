@@ -0,0 +1,36 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기본 키가 없는 테이블
+ */
+@Component
+public class MissingPrimaryKeyRule implements ErdLintRule {
+
+    public static final String CODE = "MISSING_PK";
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.ERROR;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        if (schema.columnsOf(table.tableKey()).stream().anyMatch(LintSchema.Column::primaryKey)) {
+            return List.of();
+        }
+        return List.of(LintFinding.ofTable("테이블 " + table.displayName() + "에 기본 키가 없습니다."));
+    }
+}
@@ -0,0 +1,86 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.datamodel.util.NamingConverter;
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 물리명 네이밍 규칙(lower_snake_case) 위반
+ *
+ * <p>코드 생성은 {@link NamingConverter}로 물리명을 필드명으로 바꾸므로 snake_case가 아닌 이름은
+ * 의도와 다른 필드명이 되고, 서로 다른 컬럼이 같은 필드명으로 바뀌면 생성 코드가 컴파일되지 않습니다.</p>
+ */
+@Component
+public class NamingConventionRule implements ErdLintRule {
+
+    public static final String CODE = "NAMING_DRIFT";
+
+    private static final Pattern SNAKE_CASE = Pattern.compile("^[a-z][a-z0-9]*(_[a-z0-9]+)*$");
+    private static final Pattern WORD_BOUNDARY = Pattern.compile("([a-z0-9])([A-Z])");
+    private static final Pattern NON_WORD = Pattern.compile("[^A-Za-z0-9]+");
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.INFO;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        List<LintFinding> findings = new ArrayList<>();
+        if (isDrifted(table.physicalName())) {
+            findings.add(new LintFinding(null,
+                    "테이블 이름 " + table.physicalName() + "이 snake_case가 아닙니다.",
+                    toSnakeCase(table.physicalName())));
+        }
+
+        Map<String, LintSchema.Column> fields = new HashMap<>();
+        for (LintSchema.Column column : schema.columnsOf(table.tableKey())) {
+            String name = column.physicalName();
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            if (isDrifted(name)) {
+                findings.add(new LintFinding(column.columnKey(),
+                        "컬럼 이름 " + name + "이 snake_case가 아닙니다.", toSnakeCase(name)));
+            }
+            String field = NamingConverter.toCamelCase(name);
+            LintSchema.Column previous = fields.putIfAbsent(field, column);
+            if (previous != null) {
+                findings.add(new LintFinding(column.columnKey(),
+                        "컬럼 " + name + "과 " + previous.physicalName() + "이 같은 필드명 " + field + "(으)로 변환됩니다.",
+                        null));
+            }
+        }
+        return findings;
+    }
+
+    private static boolean isDrifted(String name) {
+        return name != null && !name.isBlank() && !SNAKE_CASE.matcher(name).matches();
+    }
+
+    /**
+     * camelCase/PascalCase/구분자 섞인 이름을 snake_case로 (만들 수 없으면 null)
+     */
+    static String toSnakeCase(String name) {
+        String separated = WORD_BOUNDARY.matcher(name.trim()).replaceAll("$1_$2");
+        String snake = NON_WORD.matcher(separated).replaceAll("_").toLowerCase(Locale.ROOT)
+                .replaceAll("_+", "_")
+                .replaceAll("^_|_$", "");
+        return SNAKE_CASE.matcher(snake).matches() ? snake : null;
+    }
+}
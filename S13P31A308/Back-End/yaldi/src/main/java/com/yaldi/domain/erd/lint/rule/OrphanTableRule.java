@@ -0,0 +1,36 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 다른 테이블과 관계가 하나도 없는 테이블 (테이블이 2개 이상일 때만)
+ */
+@Component
+public class OrphanTableRule implements ErdLintRule {
+
+    public static final String CODE = "ORPHAN_TABLE";
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.INFO;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        if (schema.tableCount() < 2 || !schema.relationsOf(table.tableKey()).isEmpty()) {
+            return List.of();
+        }
+        return List.of(LintFinding.ofTable("테이블 " + table.displayName() + "은 다른 테이블과 관계가 없습니다."));
+    }
+}
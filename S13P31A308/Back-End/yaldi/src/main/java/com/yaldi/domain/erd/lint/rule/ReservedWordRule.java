@@ -0,0 +1,131 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+import com.yaldi.domain.erd.lint.ErdLintProperties;
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * DBMS 예약어를 그대로 쓴 테이블/컬럼 물리명
+ *
+ * <p>내보내기 DDL은 식별자를 따옴표로 감싸지 않으므로 예약어 이름은 그대로 실행하면 실패합니다.
+ * 검사할 DBMS는 erd.lint.dialects로 정하고, 비예약 키워드는 제외합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservedWordRule implements ErdLintRule {
+
+    public static final String CODE = "RESERVED_WORD";
+
+    /** PostgreSQL 16 SQL Key Words 표의 reserved 항목 */
+    private static final Set<String> POSTGRESQL = Set.of(
+            "ALL", "ANALYSE", "ANALYZE", "AND", "ANY", "ARRAY", "AS", "ASC", "ASYMMETRIC", "AUTHORIZATION",
+            "BINARY", "BOTH", "CASE", "CAST", "CHECK", "COLLATE", "COLLATION", "COLUMN", "CONCURRENTLY",
+            "CONSTRAINT", "CREATE", "CROSS", "CURRENT_CATALOG", "CURRENT_DATE", "CURRENT_ROLE",
+            "CURRENT_SCHEMA", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "DEFAULT", "DEFERRABLE",
+            "DESC", "DISTINCT", "DO", "ELSE", "END", "EXCEPT", "FALSE", "FETCH", "FOR", "FOREIGN", "FREEZE",
+            "FROM", "FULL", "GRANT", "GROUP", "HAVING", "ILIKE", "IN", "INITIALLY", "INNER", "INTERSECT",
+            "INTO", "IS", "ISNULL", "JOIN", "LATERAL", "LEADING", "LEFT", "LIKE", "LIMIT", "LOCALTIME",
+            "LOCALTIMESTAMP", "NATURAL", "NOT", "NOTNULL", "NULL", "OFFSET", "ON", "ONLY", "OR", "ORDER",
+            "OUTER", "OVERLAPS", "PLACING", "PRIMARY", "REFERENCES", "RETURNING", "RIGHT", "SELECT",
+            "SESSION_USER", "SIMILAR", "SOME", "SYMMETRIC", "SYSTEM_USER", "TABLE", "TABLESAMPLE", "THEN",
+            "TO", "TRAILING", "TRUE", "UNION", "UNIQUE", "USER", "USING", "VARIADIC", "VERBOSE", "WHEN",
+            "WHERE", "WINDOW", "WITH");
+
+    /** MySQL 8.0 Keywords and Reserved Words 목록의 (R) 항목 */
+    private static final Set<String> MYSQL = Set.of(
+            "ACCESSIBLE", "ADD", "ALL", "ALTER", "ANALYZE", "AND", "AS", "ASC", "ASENSITIVE", "BEFORE",
+            "BETWEEN", "BIGINT", "BINARY", "BLOB", "BOTH", "BY", "CALL", "CASCADE", "CASE", "CHANGE", "CHAR",
+            "CHARACTER", "CHECK", "COLLATE", "COLUMN", "CONDITION", "CONSTRAINT", "CONTINUE", "CONVERT",
+            "CREATE", "CROSS", "CUBE", "CUME_DIST", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP",
+            "CURRENT_USER", "CURSOR", "DATABASE", "DATABASES", "DAY_HOUR", "DAY_MICROSECOND", "DAY_MINUTE",
+            "DAY_SECOND", "DEC", "DECIMAL", "DECLARE", "DEFAULT", "DELAYED", "DELETE", "DENSE_RANK", "DESC",
+            "DESCRIBE", "DETERMINISTIC", "DISTINCT", "DISTINCTROW", "DIV", "DOUBLE", "DROP", "DUAL", "EACH",
+            "ELSE", "ELSEIF", "EMPTY", "ENCLOSED", "ESCAPED", "EXCEPT", "EXISTS", "EXIT", "EXPLAIN", "FALSE",
+            "FETCH", "FIRST_VALUE", "FLOAT", "FLOAT4", "FLOAT8", "FOR", "FORCE", "FOREIGN", "FROM",
+            "FULLTEXT", "FUNCTION", "GENERATED", "GET", "GRANT", "GROUP", "GROUPING", "GROUPS", "HAVING",
+            "HIGH_PRIORITY", "HOUR_MICROSECOND", "HOUR_MINUTE", "HOUR_SECOND", "IF", "IGNORE", "IN", "INDEX",
+            "INFILE", "INNER", "INOUT", "INSENSITIVE", "INSERT", "INT", "INT1", "INT2", "INT3", "INT4", "INT8",
+            "INTEGER", "INTERSECT", "INTERVAL", "INTO", "IO_AFTER_GTIDS", "IO_BEFORE_GTIDS", "IS", "ITERATE",
+            "JOIN", "JSON_TABLE", "KEY", "KEYS", "KILL", "LAG", "LAST_VALUE", "LATERAL", "LEAD", "LEADING",
+            "LEAVE", "LEFT", "LIKE", "LIMIT", "LINEAR", "LINES", "LOAD", "LOCALTIME", "LOCALTIMESTAMP", "LOCK",
+            "LONG", "LONGBLOB", "LONGTEXT", "LOOP", "LOW_PRIORITY", "MASTER_BIND",
+            "MASTER_SSL_VERIFY_SERVER_CERT", "MATCH", "MAXVALUE", "MEDIUMBLOB", "MEDIUMINT", "MEDIUMTEXT",
+            "MIDDLEINT", "MINUTE_MICROSECOND", "MINUTE_SECOND", "MOD", "MODIFIES", "NATURAL", "NOT",
+            "NO_WRITE_TO_BINLOG", "NTH_VALUE", "NTILE", "NULL", "NUMERIC", "OF", "ON", "OPTIMIZE",
+            "OPTIMIZER_COSTS", "OPTION", "OPTIONALLY", "OR", "ORDER", "OUT", "OUTER", "OUTFILE", "OVER",
+            "PARTITION", "PERCENT_RANK", "PRECISION", "PRIMARY", "PROCEDURE", "PURGE", "RANGE", "RANK",
+            "READ", "READS", "READ_WRITE", "REAL", "RECURSIVE", "REFERENCES", "REGEXP", "RELEASE", "RENAME",
+            "REPEAT", "REPLACE", "REQUIRE", "RESIGNAL", "RESTRICT", "RETURN", "REVOKE", "RIGHT", "RLIKE",
+            "ROW", "ROWS", "ROW_NUMBER", "SCHEMA", "SCHEMAS", "SECOND_MICROSECOND", "SELECT", "SENSITIVE",
+            "SEPARATOR", "SET", "SHOW", "SIGNAL", "SMALLINT", "SPATIAL", "SPECIFIC", "SQL", "SQLEXCEPTION",
+            "SQLSTATE", "SQLWARNING", "SQL_BIG_RESULT", "SQL_CALC_FOUND_ROWS", "SQL_SMALL_RESULT", "SSL",
+            "STARTING", "STORED", "STRAIGHT_JOIN", "SYSTEM", "TABLE", "TERMINATED", "THEN", "TINYBLOB",
+            "TINYINT", "TINYTEXT", "TO", "TRAILING", "TRIGGER", "TRUE", "UNDO", "UNION", "UNIQUE", "UNLOCK",
+            "UNSIGNED", "UPDATE", "USAGE", "USE", "USING", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "VALUES",
+            "VARBINARY", "VARCHAR", "VARCHARACTER", "VARYING", "VIRTUAL", "WHEN", "WHERE", "WHILE", "WINDOW",
+            "WITH", "WRITE", "XOR", "YEAR_MONTH", "ZEROFILL");
+
+    private static final Map<SqlDialect, Set<String>> RESERVED = Map.of(
+            SqlDialect.POSTGRESQL, POSTGRESQL,
+            SqlDialect.MYSQL, MYSQL);
+
+    private final ErdLintProperties properties;
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.WARNING;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        List<LintFinding> findings = new ArrayList<>();
+        String tableDialects = reservedIn(table.physicalName());
+        if (tableDialects != null) {
+            findings.add(new LintFinding(null,
+                    "테이블 이름 " + table.physicalName() + "은 " + tableDialects + " 예약어입니다.",
+                    table.physicalName() + "s"));
+        }
+        for (LintSchema.Column column : schema.columnsOf(table.tableKey())) {
+            String columnDialects = reservedIn(column.physicalName());
+            if (columnDialects != null) {
+                findings.add(new LintFinding(column.columnKey(),
+                        "컬럼 이름 " + column.physicalName() + "은 " + columnDialects + " 예약어입니다.",
+                        table.physicalName() + "_" + column.physicalName()));
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * 식별자를 예약어로 쓰는 DBMS 목록 (없으면 null)
+     */
+    private String reservedIn(String identifier) {
+        if (identifier == null || identifier.isBlank()) {
+            return null;
+        }
+        String word = identifier.trim().toUpperCase(Locale.ROOT);
+        String dialects = properties.getDialects().stream()
+                .distinct()
+                .filter(dialect -> RESERVED.get(dialect).contains(word))
+                .map(SqlDialect::getValue)
+                .collect(Collectors.joining(", "));
+        return dialects.isEmpty() ? null : dialects;
+    }
+}
@@ -0,0 +1,65 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인덱스로 덮이지 않는 FK 컬럼
+ *
+ * <p>ERD에는 별도 인덱스 정의가 없으므로 UNIQUE 컬럼이거나 PK의 첫 컬럼이면 인덱스가 있는 것으로 봅니다.
+ * PostgreSQL은 FK에 인덱스를 자동으로 만들지 않아 부모 행 삭제/수정과 조인 시 자식 테이블 전체를 읽게 됩니다.</p>
+ */
+@Component
+public class UnindexedForeignKeyRule implements ErdLintRule {
+
+    public static final String CODE = "UNINDEXED_FK";
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.WARNING;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        List<LintSchema.Column> columns = schema.columnsOf(table.tableKey());
+        Long leadingPrimaryKey = columns.stream()
+                .filter(LintSchema.Column::primaryKey)
+                .map(LintSchema.Column::columnKey)
+                .findFirst()
+                .orElse(null);
+
+        Set<LintSchema.Column> foreignKeys = new LinkedHashSet<>();
+        columns.stream().filter(LintSchema.Column::foreignKey).forEach(foreignKeys::add);
+        for (LintSchema.Relation relation : schema.relationsOf(table.tableKey())) {
+            LintSchema.Column child = schema.column(relation.toColumnKey());
+            if (relation.toTableKey().equals(table.tableKey()) && child != null) {
+                foreignKeys.add(child);
+            }
+        }
+
+        List<LintFinding> findings = new ArrayList<>();
+        for (LintSchema.Column column : foreignKeys) {
+            if (column.unique() || column.columnKey().equals(leadingPrimaryKey)) {
+                continue;
+            }
+            findings.add(new LintFinding(column.columnKey(),
+                    "FK 컬럼 " + column.physicalName() + "에 인덱스가 없습니다.",
+                    "CREATE INDEX idx_" + table.physicalName() + "_" + column.physicalName()
+                            + " ON " + table.physicalName() + " (" + column.physicalName() + ");"));
+        }
+        return findings;
+    }
+}
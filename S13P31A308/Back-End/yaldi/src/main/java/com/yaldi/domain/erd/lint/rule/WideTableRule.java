@@ -0,0 +1,43 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.lint.ErdLintProperties;
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.lint.LintSeverity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 컬럼 수가 기준(erd.lint.wide-table-columns)을 넘는 테이블
+ */
+@Component
+@RequiredArgsConstructor
+public class WideTableRule implements ErdLintRule {
+
+    public static final String CODE = "WIDE_TABLE";
+
+    private final ErdLintProperties properties;
+
+    @Override
+    public String code() {
+        return CODE;
+    }
+
+    @Override
+    public LintSeverity defaultSeverity() {
+        return LintSeverity.WARNING;
+    }
+
+    @Override
+    public List<LintFinding> check(LintSchema schema, LintSchema.Table table) {
+        int count = schema.columnsOf(table.tableKey()).size();
+        if (count <= properties.getWideTableColumns()) {
+            return List.of();
+        }
+        return List.of(LintFinding.ofTable("테이블 " + table.displayName() + "의 컬럼이 " + count
+                + "개로 기준(" + properties.getWideTableColumns() + "개)을 넘습니다. 테이블 분리를 검토하세요."));
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,11 @@ public interface ErdColumnRepository extends JpaRepository<ErdColumn, Long> {
      */
     List<ErdColumn> findByTableKey(Long tableKey);
 
+    /**
+     * 여러 테이블의 컬럼 목록 조회 (린트 증분 조회용)
+     */
+    List<ErdColumn> findByTableKeyIn(Collection<Long> tableKeys);
+
     /**
      * 삭제된 ERD 컬럼 포함 전체 조회
      */
@@ -0,0 +1,42 @@
+package com.yaldi.domain.erd.repository;
+
+import com.yaldi.domain.erd.entity.ErdOperationRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ErdOperationRecordRepository extends JpaRepository<ErdOperationRecord, Long> {
+
+    // 재전송된 작업의 기존 응답 조회 (멱등 키)
+    Optional<ErdOperationRecord> findByProjectKeyAndClientIdAndClientSeq(Long projectKey, String clientId, Long clientSeq);
+
+    @Query("SELECT COALESCE(MAX(o.clientSeq), 0) FROM ErdOperationRecord o " +
+            "WHERE o.projectKey = :projectKey AND o.clientId = :clientId")
+    long findLastClientSeq(@Param("projectKey") Long projectKey, @Param("clientId") String clientId);
+
+    // 기준 리비전 이후 다른 클라이언트가 같은 테이블에 적용한 작업 (revision이 null인 미적용 작업 제외)
+    @Query("SELECT o FROM ErdOperationRecord o " +
+            "WHERE o.projectKey = :projectKey AND o.tableKey = :tableKey " +
+            "AND o.revision > :baseRevision AND o.clientId <> :clientId " +
+            "ORDER BY o.revision ASC")
+    List<ErdOperationRecord> findConcurrent(
+            @Param("projectKey") Long projectKey,
+            @Param("tableKey") Long tableKey,
+            @Param("baseRevision") Long baseRevision,
+            @Param("clientId") String clientId);
+
+    // 리비전 이후 적용된 작업 (키셋 페이지, limit + 1 조회)
+    @Query("SELECT o FROM ErdOperationRecord o " +
+            "WHERE o.projectKey = :projectKey AND o.revision > :since " +
+            "ORDER BY o.revision ASC")
+    List<ErdOperationRecord> findAppliedPage(
+            @Param("projectKey") Long projectKey,
+            @Param("since") Long since,
+            Pageable pageable);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,13 @@ public interface ErdRelationRepository extends JpaRepository<ErdRelation, Long>
      */
     List<ErdRelation> findByToTableKey(Long toTableKey);
 
+    /**
+     * 지정한 테이블이 From 또는 To인 관계 목록 조회 (린트 증분 조회용)
+     */
+    @Query("SELECT r FROM ErdRelation r WHERE r.projectKey = :projectKey " +
+           "AND (r.fromTableKey IN :tableKeys OR r.toTableKey IN :tableKeys)")
+    List<ErdRelation> findByProjectKeyAndTableKeyIn(Long projectKey, Collection<Long> tableKeys);
+
     /**
      * 삭제된 ERD 관계 포함 전체 조회
      */
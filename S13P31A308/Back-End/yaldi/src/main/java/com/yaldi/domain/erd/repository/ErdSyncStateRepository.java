@@ -0,0 +1,30 @@
+package com.yaldi.domain.erd.repository;
+
+import com.yaldi.domain.erd.entity.ErdSyncState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ErdSyncStateRepository extends JpaRepository<ErdSyncState, Long> {
+
+    /**
+     * 첫 작업 시 카운터 행 생성 (동시 요청에도 한 행)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO erd_sync_states (project_key, revision, created_at, updated_at) " +
+            "VALUES (:projectKey, 0, now(), now()) ON CONFLICT (project_key) DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("projectKey") Long projectKey);
+
+    // 프로젝트 작업 직렬화용 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ErdSyncState s WHERE s.projectKey = :projectKey")
+    Optional<ErdSyncState> findByIdForUpdate(@Param("projectKey") Long projectKey);
+}
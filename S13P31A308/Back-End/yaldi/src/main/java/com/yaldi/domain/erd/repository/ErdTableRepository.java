@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,11 @@ public interface ErdTableRepository extends JpaRepository<ErdTable, Long> {
      */
     List<ErdTable> findByProjectKey(Long projectKey);
 
+    /**
+     * 프로젝트의 지정한 ERD 테이블 조회 (린트 증분 조회용)
+     */
+    List<ErdTable> findByProjectKeyAndTableKeyIn(Long projectKey, Collection<Long> tableKeys);
+
     /**
      * 삭제된 ERD 테이블 포함 전체 조회
      */
@@ -1,5 +1,8 @@
 package com.yaldi.domain.erd.service;
 
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import com.yaldi.domain.comment.service.CommentAnchorService;
+import com.yaldi.domain.datamodel.service.DataModelService;
 import com.yaldi.domain.erd.dto.request.ErdColumnCreateRequest;
 import com.yaldi.domain.erd.dto.response.ErdColumnResponse;
 import com.yaldi.domain.erd.dto.request.ErdColumnUpdateRequest;
@@ -32,6 +35,9 @@ public class ErdColumnService {
     private final ErdTableService erdTableService;
     private final ErdLockService erdLockService;
     private final EditHistoryService editHistoryService;
+    private final DataModelService dataModelService;
+    private final ErdLintTrigger erdLintTrigger;
+    private final CommentAnchorService commentAnchorService;
 
     /**
      * 테이블의 컬럼 목록 조회
@@ -83,6 +89,7 @@ public class ErdColumnService {
             editHistoryService.recordColumnCreation(userKey, projectKey, savedColumn.getColumnKey(),
                     convertColumnToMap(savedColumn));
         }
+        erdLintTrigger.requestLint(erdTableService.getProjectKeyByTableKey(tableKey), tableKey);
 
         return ErdColumnResponse.from(savedColumn);
     }
@@ -141,6 +148,9 @@ public class ErdColumnService {
 
         log.info("Updated ERD column: {}", columnKey);
 
+        // 이 컬럼을 참조하는 데이터 모델의 생성 코드 캐시 무효화
+        dataModelService.evictGeneratedCodeByColumn(columnKey);
+
         // 히스토리 기록
         if (userKey != null) {
             Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
@@ -148,6 +158,14 @@ public class ErdColumnService {
             editHistoryService.recordColumnUpdate(userKey, projectKey, columnKey, beforeState, afterState);
         }
 
+        // 이름/타입/키 제약/순서만 린트 결과에 영향
+        boolean isLintRelevant = request.getPhysicalName() != null || request.getDataType() != null
+                || request.getIsPrimaryKey() != null || request.getIsForeignKey() != null
+                || request.getIsUnique() != null || request.getColumnOrder() != null;
+        if (isLintRelevant) {
+            erdLintTrigger.requestLint(erdTableService.getProjectKeyByTableKey(column.getTableKey()), column.getTableKey());
+        }
+
         return ErdColumnResponse.from(column);
     }
 
@@ -165,14 +183,17 @@ public class ErdColumnService {
         // 컬럼 삭제는 중요한 작업이므로 Lock 검증 필요
         erdLockService.validateTableLock(column.getTableKey());
 
+        Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
+        commentAnchorService.detachForDeletion(projectKey, CommentAnchorType.COLUMN, columnKey);
         column.softDelete();
         log.info("Deleted ERD column: {}", columnKey);
+        dataModelService.evictGeneratedCodeByColumn(columnKey);
 
         // 히스토리 기록
         if (userKey != null) {
-            Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
             editHistoryService.recordColumnDeletion(userKey, projectKey, columnKey, beforeState);
         }
+        erdLintTrigger.requestLint(erdTableService.getProjectKeyByTableKey(column.getTableKey()), column.getTableKey());
     }
 
     /**
@@ -184,6 +205,7 @@ public class ErdColumnService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_COLUMN_NOT_FOUND));
         column.updateColumnOrder(columnOrder);
         log.info("Updated column order: columnKey={}, order={}", columnKey, columnOrder);
+        erdLintTrigger.requestLint(erdTableService.getProjectKeyByTableKey(column.getTableKey()), column.getTableKey());
     }
 
     /**
@@ -198,7 +220,7 @@ public class ErdColumnService {
     /**
      * ErdColumn을 Map으로 변환 (히스토리 기록용)
      */
-    private Map<String, Object> convertColumnToMap(ErdColumn column) {
+    static Map<String, Object> convertColumnToMap(ErdColumn column) {
         Map<String, Object> map = new HashMap<>();
         map.put("columnKey", column.getColumnKey());
         map.put("tableKey", column.getTableKey());
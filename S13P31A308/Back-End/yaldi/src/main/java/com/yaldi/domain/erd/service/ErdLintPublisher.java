@@ -0,0 +1,61 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.erd.dto.websocket.event.LintUpdatedEvent;
+import com.yaldi.global.async.AsyncBulkhead;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ERD 린트를 비동기로 실행하고 결과가 바뀌면 협업자에게 전송
+ *
+ * <p>프로젝트당 대기 중인 검사는 하나만 둡니다. 연속 편집은 대기 중인 검사 하나로 합쳐지고,
+ * 검사가 시작된 뒤의 편집은 다음 검사를 다시 예약합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErdLintPublisher {
+
+    private final ErdLintService erdLintService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 대기 중인 검사가 없으면 예약 표시 (이미 있으면 false)
+     */
+    public boolean markQueued(Long projectKey) {
+        return queued.add(projectKey);
+    }
+
+    /**
+     * 실행기가 작업을 거부한 경우 예약 표시 해제
+     */
+    public void clearQueued(Long projectKey) {
+        queued.remove(projectKey);
+    }
+
+    @Async(AsyncBulkhead.LINT_EXECUTOR)
+    public void publish(Long projectKey) {
+        queued.remove(projectKey);
+        try {
+            ErdLintService.LintResult result = erdLintService.evaluateForBroadcast(projectKey);
+            if (!result.changed()) {
+                return;
+            }
+            messagingTemplate.convertAndSend("/topic/project/" + projectKey, ErdBroadcastEvent.builder()
+                    .projectKey(projectKey)
+                    .event(LintUpdatedEvent.from(result))
+                    .build());
+        } catch (Exception e) {
+            log.warn("ERD lint failed: project={}", projectKey, e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.yaldi.domain.erd.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yaldi.domain.erd.dto.response.ErdLintResponse;
+import com.yaldi.domain.erd.lint.ErdLintEngine;
+import com.yaldi.domain.erd.lint.ErdLintProperties;
+import com.yaldi.domain.erd.lint.LintIssue;
+import com.yaldi.domain.erd.lint.LintReport;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ERD 린트 서비스
+ *
+ * <p>프로젝트별 직전 스냅샷과 결과를 로컬 캐시에 두고, 다음 검사는 바뀐 테이블과 그 이웃만 다시 검사합니다.
+ * 캐시가 없으면(첫 검사, 만료) 전체 검사를 하므로 결과는 항상 현재 모델 전체 검사와 같습니다.
+ * 같은 프로젝트의 검사는 직렬화하여 오래된 스냅샷이 새 결과를 덮어쓰지 않게 합니다.</p>
+ *
+ * <h3>증분 조회</h3>
+ * <p>ERD를 변경한 서비스는 커밋 후 {@link ErdLintTrigger}를 통해 바뀐 테이블을 {@link #markChanged}로 알립니다.
+ * 이 노드의 스냅샷에 표시하고 {@link #CHANGE_CHANNEL}로 발행해 다른 노드의 스냅샷에도 표시합니다.
+ * 다음 검사는 표시된 테이블의 테이블/컬럼/관계만 다시 읽어 스냅샷에 합치고, 바뀐 것이 없으면 DB를 읽지 않습니다.
+ * 범위를 모르는 변경(버전 롤백 등)은 전체를 다시 읽습니다. 메시지가 유실되어도 스냅샷은 작성 후
+ * {@link ErdLintProperties#getCacheTtl()}이 지나면 버려지고 전체를 다시 읽습니다.</p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ErdLintService {
+
+    public static final String CHANGE_CHANNEL = "erd:lint:changed";
+
+    /** 변경 메시지에서 범위를 모르는 변경 (예: "12:*") */
+    private static final String ALL_TABLES = "*";
+
+    private final ErdTableRepository erdTableRepository;
+    private final ErdColumnRepository erdColumnRepository;
+    private final ErdRelationRepository erdRelationRepository;
+    private final ErdLintEngine erdLintEngine;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, ProjectLint> projectLints;
+
+    public ErdLintService(ErdTableRepository erdTableRepository,
+                          ErdColumnRepository erdColumnRepository,
+                          ErdRelationRepository erdRelationRepository,
+                          ErdLintEngine erdLintEngine,
+                          ErdLintProperties properties,
+                          RedisTemplate<String, String> redisTemplate) {
+        this.erdTableRepository = erdTableRepository;
+        this.erdColumnRepository = erdColumnRepository;
+        this.erdRelationRepository = erdRelationRepository;
+        this.erdLintEngine = erdLintEngine;
+        this.redisTemplate = redisTemplate;
+        this.projectLints = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                // 스냅샷은 제자리에서 갱신되므로 작성 기준 만료 = 최소 이 주기로 전체를 다시 읽음
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+    }
+
+    /**
+     * 검사 결과와 마지막으로 전송한 결과 대비 변경분
+     *
+     * @param full 전송한 결과가 없어 added가 전체 위반 목록인지 여부
+     */
+    public record LintResult(LintReport report, List<LintIssue> added, List<LintIssue> resolved, boolean full) {
+
+        public boolean changed() {
+            return !added.isEmpty() || !resolved.isEmpty();
+        }
+    }
+
+    /**
+     * 프로젝트 전체 린트 결과 조회 (접근 권한은 호출자가 검증)
+     */
+    public ErdLintResponse getLint(Long projectKey) {
+        return ErdLintResponse.from(lint(projectKey, false).report());
+    }
+
+    /**
+     * 현재 ERD를 검사하고 마지막 전송 결과와 비교한 뒤 이번 결과를 전송한 것으로 기록
+     */
+    public LintResult evaluateForBroadcast(Long projectKey) {
+        return lint(projectKey, true);
+    }
+
+    /**
+     * 커밋된 ERD 변경 표시 (이 노드에 반영하고 다른 노드에 발행)
+     *
+     * @param tableKeys 바뀐 테이블 (null이면 범위를 몰라 다음 검사에서 전체를 다시 읽음)
+     */
+    public void markChanged(Long projectKey, Collection<Long> tableKeys) {
+        applyChange(projectKey, tableKeys);
+        String scope = tableKeys == null
+                ? ALL_TABLES
+                : tableKeys.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, projectKey + ":" + scope);
+        } catch (Exception e) {
+            log.warn("ERD lint change publish failed (other nodes catch up after cache TTL): project={}, error={}",
+                    projectKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 메시지 ("프로젝트키:테이블키,테이블키" 또는 "프로젝트키:*")
+     */
+    public void onChange(String message) {
+        int separator = message.indexOf(':');
+        Long projectKey = Long.valueOf(message.substring(0, separator).trim());
+        String scope = message.substring(separator + 1).trim();
+        applyChange(projectKey, ALL_TABLES.equals(scope)
+                ? null
+                : Arrays.stream(scope.split(","))
+                        .map(String::trim)
+                        .filter(token -> !token.isEmpty())
+                        .map(Long::valueOf)
+                        .toList());
+    }
+
+    private void applyChange(Long projectKey, Collection<Long> tableKeys) {
+        // 스냅샷이 없으면 다음 검사가 어차피 전체를 읽음
+        ProjectLint projectLint = projectLints.getIfPresent(projectKey);
+        if (projectLint != null) {
+            projectLint.markChanged(tableKeys);
+        }
+    }
+
+    private LintResult lint(Long projectKey, boolean broadcast) {
+        ProjectLint projectLint = projectLints.get(projectKey, key -> new ProjectLint());
+        synchronized (projectLint) {
+            // 읽기 전에 가져가야 읽는 동안 들어온 변경 표시가 다음 검사에 남음
+            Set<Long> changedTables = projectLint.takeChanges();
+            LintSchema schema = load(projectKey, projectLint.schema, changedTables);
+
+            LintReport report = projectLint.report == null
+                    ? erdLintEngine.lint(schema)
+                    : erdLintEngine.relint(projectLint.schema, projectLint.report, schema);
+            projectLint.schema = schema;
+            projectLint.report = report;
+
+            log.debug("ERD lint: project={}, tables={}, evaluated={}, issues={}",
+                    projectKey, schema.tableCount(), report.evaluatedTables(), report.issues().size());
+
+            // 조회 API의 검사는 전송 기준을 바꾸지 않아 다음 비동기 검사가 변경분을 빠뜨리지 않음
+            LintReport published = projectLint.published;
+            if (broadcast) {
+                projectLint.published = report;
+            }
+            return new LintResult(report, report.issuesNotIn(published),
+                    published == null ? List.of() : published.issuesNotIn(report), published == null);
+        }
+    }
+
+    /**
+     * 현재 ERD 스냅샷 (직전 스냅샷이 있으면 바뀐 테이블만 다시 읽어 합침)
+     *
+     * @param changedTables 직전 스냅샷 이후 바뀐 테이블 (null이면 전체)
+     */
+    private LintSchema load(Long projectKey, LintSchema previous, Set<Long> changedTables) {
+        if (previous == null || changedTables == null) {
+            return LintSchema.from(
+                    erdTableRepository.findByProjectKey(projectKey),
+                    erdColumnRepository.findByProjectKey(projectKey),
+                    erdRelationRepository.findByProjectKey(projectKey));
+        }
+        if (changedTables.isEmpty()) {
+            return previous;
+        }
+        return previous.withTables(changedTables, LintSchema.from(
+                erdTableRepository.findByProjectKeyAndTableKeyIn(projectKey, changedTables),
+                erdColumnRepository.findByTableKeyIn(changedTables),
+                erdRelationRepository.findByProjectKeyAndTableKeyIn(projectKey, changedTables)));
+    }
+
+    /**
+     * 프로젝트별 직전 스냅샷 (인스턴스 잠금으로 같은 프로젝트 검사를 직렬화)
+     *
+     * <p>변경 표시는 검사 중에도 들어오므로 검사 잠금과 별도의 잠금을 씁니다.</p>
+     */
+    private static final class ProjectLint {
+        private LintSchema schema;
+        private LintReport report;
+        /** 마지막으로 협업자에게 전송한 결과 */
+        private LintReport published;
+
+        private final Object changeLock = new Object();
+        private final Set<Long> changedTables = new HashSet<>();
+        private boolean reloadAll;
+
+        void markChanged(Collection<Long> tableKeys) {
+            synchronized (changeLock) {
+                if (tableKeys == null) {
+                    reloadAll = true;
+                } else {
+                    changedTables.addAll(tableKeys);
+                }
+            }
+        }
+
+        /**
+         * 표시된 변경을 가져가고 비움 (null이면 전체)
+         */
+        Set<Long> takeChanges() {
+            synchronized (changeLock) {
+                Set<Long> changes = reloadAll ? null : Set.copyOf(changedTables);
+                reloadAll = false;
+                changedTables.clear();
+                return changes;
+            }
+        }
+    }
+}
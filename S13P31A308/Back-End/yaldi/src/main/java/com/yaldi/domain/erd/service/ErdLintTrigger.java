@@ -0,0 +1,80 @@
+package com.yaldi.domain.erd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * ERD 변경 후 린트 요청
+ *
+ * <p>롤백된 변경으로 검사하지 않도록 커밋 후 바뀐 테이블을 {@link ErdLintService}에 표시하고
+ * {@link ErdLintPublisher}에 넘깁니다. 위치/색상처럼 검사 결과에 영향이 없는 변경에서는 호출하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErdLintTrigger {
+
+    private final ErdLintService erdLintService;
+    private final ErdLintPublisher erdLintPublisher;
+
+    /**
+     * 테이블 하나의 변경 (테이블 자신, 컬럼)
+     */
+    public void requestLint(Long projectKey, Long tableKey) {
+        requestLint(projectKey, Set.of(tableKey));
+    }
+
+    /**
+     * 여러 테이블의 변경 (관계는 양쪽 테이블)
+     */
+    public void requestLint(Long projectKey, Collection<Long> tableKeys) {
+        Set<Long> changed = Set.copyOf(tableKeys);
+        afterCommit(() -> {
+            erdLintService.markChanged(projectKey, changed);
+            dispatch(projectKey);
+        });
+    }
+
+    /**
+     * 범위를 알 수 없는 변경 (다음 검사에서 프로젝트 전체를 다시 읽음)
+     */
+    public void requestFullLint(Long projectKey) {
+        afterCommit(() -> {
+            erdLintService.markChanged(projectKey, null);
+            dispatch(projectKey);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void dispatch(Long projectKey) {
+        if (!erdLintPublisher.markQueued(projectKey)) {
+            return;
+        }
+        try {
+            erdLintPublisher.publish(projectKey);
+        } catch (TaskRejectedException e) {
+            // 다음 변경이나 린트 조회에서 다시 계산되므로 이번 검사는 건너뜀
+            erdLintPublisher.clearQueued(projectKey);
+            log.warn("ERD lint skipped, lint executor saturated: project={}", projectKey);
+        }
+    }
+}
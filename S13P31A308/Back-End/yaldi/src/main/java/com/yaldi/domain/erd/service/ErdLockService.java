@@ -3,6 +3,7 @@ package com.yaldi.domain.erd.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yaldi.domain.erd.dto.redis.LockInfo;
 import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.metrics.CollaborationMetrics;
 import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.security.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class ErdLockService {
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final CollaborationMetrics collaborationMetrics;
 
     private static final String LOCK_KEY_PREFIX = "erd:lock:table:";
     private static final String LOCK_OWNER_SUFFIX = ":owner";
@@ -34,9 +36,13 @@ public class ErdLockService {
         String ownerKey = lockKey + LOCK_OWNER_SUFFIX;
 
         RLock lock = redissonClient.getLock(lockKey);
+        long start = System.nanoTime();
 
         try {
             boolean acquired = lock.tryLock(0, -1, TimeUnit.SECONDS);
+            collaborationMetrics.recordLockAttempt(tableKey,
+                    acquired ? CollaborationMetrics.LOCK_ACQUIRED : CollaborationMetrics.LOCK_CONTENDED,
+                    System.nanoTime() - start);
 
             if (acquired) {
                 // 🔥 ownerKey에는 email만 저장
@@ -58,6 +64,8 @@ public class ErdLockService {
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            collaborationMetrics.recordLockAttempt(tableKey, CollaborationMetrics.LOCK_INTERRUPTED,
+                    System.nanoTime() - start);
             log.error("Failed to acquire lock for table {}: interrupted", tableKey);
             return false;
         }
@@ -82,6 +90,7 @@ public class ErdLockService {
 
             redisTemplate.delete(ownerKey);
             redisTemplate.delete(HEARTBEAT_KEY_PREFIX + tableKey);
+            collaborationMetrics.recordLockRelease(tableKey, CollaborationMetrics.RELEASE_UNLOCK);
 
             log.info("Table {} unlocked by {}", tableKey, userEmail);
         } else {
@@ -138,6 +147,7 @@ public class ErdLockService {
 
                         redisTemplate.delete(ownerKey);
                         redisTemplate.delete(HEARTBEAT_KEY_PREFIX + tableKey);
+                        collaborationMetrics.recordLockRelease(tableKey, CollaborationMetrics.RELEASE_DISCONNECT);
 
                         releasedCount++;
                         log.info("Released lock {} for disconnected user {}", tableKey, userEmail);
@@ -167,6 +177,7 @@ public class ErdLockService {
         if (ownerEmail != null && ownerEmail.equals(userEmail)) {
             redisTemplate.opsForValue().set(heartbeatKey, userEmail,
                     HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+            collaborationMetrics.recordLockHeartbeat(tableKey);
 
             log.debug("Heartbeat published for table {} by {}", tableKey, userEmail);
         } else {
@@ -1,5 +1,7 @@
 package com.yaldi.domain.erd.service;
 
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import com.yaldi.domain.comment.service.CommentAnchorService;
 import com.yaldi.domain.erd.dto.request.ErdRelationCreateRequest;
 import com.yaldi.domain.erd.dto.response.ErdColumnResponse;
 import com.yaldi.domain.erd.dto.response.ErdRelationResponse;
@@ -34,7 +36,9 @@ public class ErdRelationService {
 
     private final ErdRelationRepository erdRelationRepository;
     private final EditHistoryService editHistoryService;
+    private final ErdLintTrigger erdLintTrigger;
     private final ErdColumnRepository erdColumnRepository;
+    private final CommentAnchorService commentAnchorService;
 
     /**
      * 프로젝트의 ERD 관계 목록 조회
@@ -108,6 +112,7 @@ public class ErdRelationService {
             editHistoryService.recordRelationCreation(userKey, projectKey, savedRelation.getRelationKey(),
                     convertRelationToMap(savedRelation));
         }
+        erdLintTrigger.requestLint(projectKey, List.of(request.getFromTableKey(), request.getToTableKey()));
 
         return ErdRelationWithFkResponse.builder()
                 .erdRelationResponse(ErdRelationResponse.from(savedRelation))
@@ -146,6 +151,7 @@ public class ErdRelationService {
             Map<String, Object> afterState = convertRelationToMap(relation);
             editHistoryService.recordRelationUpdate(userKey, relation.getProjectKey(), relationKey, beforeState, afterState);
         }
+        erdLintTrigger.requestLint(relation.getProjectKey(), List.of(relation.getFromTableKey(), relation.getToTableKey()));
 
         return ErdRelationResponse.from(relation);
     }
@@ -161,6 +167,7 @@ public class ErdRelationService {
         // 삭제 전 상태 저장 (히스토리용)
         Map<String, Object> beforeState = convertRelationToMap(relation);
 
+        commentAnchorService.detachForDeletion(relation.getProjectKey(), CommentAnchorType.RELATION, relationKey);
         relation.softDelete();
         log.info("Deleted ERD relation: {}", relationKey);
 
@@ -168,6 +175,7 @@ public class ErdRelationService {
         if (userKey != null) {
             editHistoryService.recordRelationDeletion(userKey, relation.getProjectKey(), relationKey, beforeState);
         }
+        erdLintTrigger.requestLint(relation.getProjectKey(), List.of(relation.getFromTableKey(), relation.getToTableKey()));
     }
 
     /**
@@ -182,7 +190,7 @@ public class ErdRelationService {
     /**
      * ErdRelation을 Map으로 변환 (히스토리 기록용)
      */
-    private Map<String, Object> convertRelationToMap(ErdRelation relation) {
+    static Map<String, Object> convertRelationToMap(ErdRelation relation) {
         Map<String, Object> map = new HashMap<>();
         map.put("relationKey", relation.getRelationKey());
         map.put("projectKey", relation.getProjectKey());
@@ -0,0 +1,202 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import com.yaldi.domain.comment.service.CommentAnchorService;
+import com.yaldi.domain.datamodel.service.DataModelService;
+import com.yaldi.domain.edithistory.service.EditHistoryService;
+import com.yaldi.domain.erd.dto.redis.LockInfo;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdRelation;
+import com.yaldi.domain.erd.entity.ErdTable;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.domain.erd.sync.ErdDocument;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JPA 엔티티 기반 ERD 상태 (작업 한 배치 동안 사용)
+ *
+ * <p>테이블 삭제 시 컬럼/관계는 DB 트리거가 flush 시점에 soft delete하므로, 영속성 컨텍스트에 남은 컬럼/관계는
+ * 소속 테이블의 삭제 여부로 판단합니다. REST 수정과 같이 수정/삭제 이력을 남기고 컬럼 변경 시 생성 코드 캐시를 비웁니다.</p>
+ */
+class ErdSyncDocument implements ErdDocument {
+
+    private final Long projectKey;
+    private final Integer userKey;
+    private final ErdTableRepository erdTableRepository;
+    private final ErdColumnRepository erdColumnRepository;
+    private final ErdRelationRepository erdRelationRepository;
+    private final EditHistoryService editHistoryService;
+    private final DataModelService dataModelService;
+    private final ErdLockService erdLockService;
+    private final CommentAnchorService commentAnchorService;
+    private final Set<Long> lintChangedTableKeys = new HashSet<>();
+
+    ErdSyncDocument(Long projectKey, Integer userKey,
+                    ErdTableRepository erdTableRepository,
+                    ErdColumnRepository erdColumnRepository,
+                    ErdRelationRepository erdRelationRepository,
+                    EditHistoryService editHistoryService,
+                    DataModelService dataModelService,
+                    ErdLockService erdLockService,
+                    CommentAnchorService commentAnchorService) {
+        this.projectKey = projectKey;
+        this.userKey = userKey;
+        this.erdTableRepository = erdTableRepository;
+        this.erdColumnRepository = erdColumnRepository;
+        this.erdRelationRepository = erdRelationRepository;
+        this.editHistoryService = editHistoryService;
+        this.dataModelService = dataModelService;
+        this.erdLockService = erdLockService;
+        this.commentAnchorService = commentAnchorService;
+    }
+
+    @Override
+    public boolean hasTable(Long tableKey) {
+        return activeTable(tableKey).isPresent();
+    }
+
+    @Override
+    public Optional<Long> tableOfColumn(Long columnKey) {
+        return activeColumn(columnKey).map(ErdColumn::getTableKey);
+    }
+
+    @Override
+    public boolean hasRelation(Long relationKey) {
+        return activeRelation(relationKey).isPresent();
+    }
+
+    /**
+     * Lock 소유자는 사용자 키 문자열로 저장됨 ({@link ErdLockService#validateTableLock})
+     */
+    @Override
+    public boolean isLockedByOther(Long tableKey) {
+        LockInfo lockInfo = erdLockService.getLockInfo(tableKey);
+        return lockInfo != null && !userKey.toString().equals(lockInfo.getUserEmail());
+    }
+
+    @Override
+    public void moveTable(Long tableKey, BigDecimal xPosition, BigDecimal yPosition) {
+        activeTable(tableKey).orElseThrow().updatePosition(xPosition, yPosition);
+    }
+
+    @Override
+    public void updateTable(Long tableKey, Map<String, Object> fields) {
+        ErdTable table = activeTable(tableKey).orElseThrow();
+        Map<String, Object> beforeState = ErdTableService.convertTableToMap(table);
+        fields.forEach((name, value) -> {
+            switch (name) {
+                case "logicalName" -> table.updateLogicalName((String) value);
+                case "physicalName" -> table.updatePhysicalName((String) value);
+                case "colorHex" -> table.updateColorHex((String) value);
+                default -> throw new IllegalArgumentException("Unsupported field: " + name);
+            }
+        });
+        editHistoryService.recordTableUpdate(userKey, projectKey, tableKey, beforeState,
+                ErdTableService.convertTableToMap(table));
+        lintChangedTableKeys.add(tableKey);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void updateColumn(Long columnKey, Map<String, Object> fields) {
+        ErdColumn column = activeColumn(columnKey).orElseThrow();
+        Map<String, Object> beforeState = ErdColumnService.convertColumnToMap(column);
+
+        if (fields.containsKey("logicalName")) {
+            column.updateLogicalName((String) fields.get("logicalName"));
+        }
+        if (fields.containsKey("physicalName")) {
+            column.updatePhysicalName((String) fields.get("physicalName"));
+        }
+        if (fields.containsKey("dataType") || fields.containsKey("dataDetail")) {
+            List<String> detail = fields.containsKey("dataDetail")
+                    ? (List<String>) fields.get("dataDetail")
+                    : column.getDataDetail() != null ? List.of(column.getDataDetail()) : null;
+            column.updateDataType(
+                    fields.containsKey("dataType") ? (String) fields.get("dataType") : column.getDataType(),
+                    detail != null ? detail.toArray(String[]::new) : null);
+        }
+        column.updateConstraints(
+                (Boolean) fields.getOrDefault("isNullable", column.getIsNullable()),
+                (Boolean) fields.getOrDefault("isPrimaryKey", column.getIsPrimaryKey()),
+                (Boolean) fields.getOrDefault("isForeignKey", column.getIsForeignKey()),
+                (Boolean) fields.getOrDefault("isUnique", column.getIsUnique()),
+                (Boolean) fields.getOrDefault("isIncremental", column.getIsIncremental()));
+        if (fields.containsKey("defaultValue")) {
+            column.updateDefaultValue((String) fields.get("defaultValue"));
+        }
+        if (fields.containsKey("comment")) {
+            column.updateComment((String) fields.get("comment"));
+        }
+        if (fields.containsKey("columnOrder")) {
+            column.updateColumnOrder((Integer) fields.get("columnOrder"));
+        }
+
+        dataModelService.evictGeneratedCodeByColumn(columnKey);
+        lintChangedTableKeys.add(column.getTableKey());
+        editHistoryService.recordColumnUpdate(userKey, projectKey, columnKey, beforeState,
+                ErdColumnService.convertColumnToMap(column));
+    }
+
+    @Override
+    public void deleteTable(Long tableKey) {
+        ErdTable table = activeTable(tableKey).orElseThrow();
+        editHistoryService.recordTableDeletion(userKey, projectKey, tableKey, ErdTableService.convertTableToMap(table));
+        commentAnchorService.detachForDeletion(projectKey, CommentAnchorType.TABLE, tableKey);
+        table.softDelete();
+        lintChangedTableKeys.add(tableKey);
+    }
+
+    @Override
+    public void deleteColumn(Long columnKey) {
+        ErdColumn column = activeColumn(columnKey).orElseThrow();
+        editHistoryService.recordColumnDeletion(userKey, projectKey, columnKey,
+                ErdColumnService.convertColumnToMap(column));
+        commentAnchorService.detachForDeletion(projectKey, CommentAnchorType.COLUMN, columnKey);
+        column.softDelete();
+        dataModelService.evictGeneratedCodeByColumn(columnKey);
+        lintChangedTableKeys.add(column.getTableKey());
+    }
+
+    @Override
+    public void deleteRelation(Long relationKey) {
+        ErdRelation relation = activeRelation(relationKey).orElseThrow();
+        editHistoryService.recordRelationDeletion(userKey, projectKey, relationKey,
+                ErdRelationService.convertRelationToMap(relation));
+        commentAnchorService.detachForDeletion(projectKey, CommentAnchorType.RELATION, relationKey);
+        relation.softDelete();
+        lintChangedTableKeys.add(relation.getFromTableKey());
+        lintChangedTableKeys.add(relation.getToTableKey());
+    }
+
+    /**
+     * 이 배치에서 린트 결과에 영향을 줄 수 있게 바뀐 테이블 (위치 이동 제외)
+     */
+    Set<Long> lintChangedTableKeys() {
+        return lintChangedTableKeys;
+    }
+
+    private Optional<ErdTable> activeTable(Long tableKey) {
+        return erdTableRepository.findById(tableKey)
+                .filter(table -> !table.isDeleted() && projectKey.equals(table.getProjectKey()));
+    }
+
+    private Optional<ErdColumn> activeColumn(Long columnKey) {
+        return erdColumnRepository.findById(columnKey)
+                .filter(column -> !column.isDeleted() && hasTable(column.getTableKey()));
+    }
+
+    private Optional<ErdRelation> activeRelation(Long relationKey) {
+        return erdRelationRepository.findById(relationKey)
+                .filter(relation -> !relation.isDeleted() && projectKey.equals(relation.getProjectKey()))
+                .filter(relation -> hasTable(relation.getFromTableKey()) && hasTable(relation.getToTableKey()));
+    }
+}
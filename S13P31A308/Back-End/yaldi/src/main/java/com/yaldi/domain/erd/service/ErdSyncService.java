@@ -0,0 +1,195 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.comment.service.CommentAnchorService;
+import com.yaldi.domain.datamodel.service.DataModelService;
+import com.yaldi.domain.edithistory.service.EditHistoryService;
+import com.yaldi.domain.erd.dto.request.ErdOperationRequest;
+import com.yaldi.domain.erd.dto.response.ErdAppliedOperationResponse;
+import com.yaldi.domain.erd.dto.response.ErdOperationAckResponse;
+import com.yaldi.domain.erd.dto.response.ErdOperationBatchResponse;
+import com.yaldi.domain.erd.dto.response.ErdOperationPageResponse;
+import com.yaldi.domain.erd.entity.ErdOperationRecord;
+import com.yaldi.domain.erd.entity.ErdSyncState;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdOperationRecordRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdSyncStateRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.domain.erd.sync.ErdAppliedOperation;
+import com.yaldi.domain.erd.sync.ErdOperation;
+import com.yaldi.domain.erd.sync.ErdOperationAck;
+import com.yaldi.domain.erd.sync.ErdOperationEngine;
+import com.yaldi.domain.erd.sync.ErdOperationLog;
+import com.yaldi.domain.erd.sync.ErdOperationOutcome;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ERD 작업 동기화 서비스 (오프라인 편집 지원)
+ *
+ * <p>클라이언트는 편집을 (clientId, clientSeq, baseRevision)이 붙은 작업으로 쌓아 두었다가 연결되면 순서대로 제출합니다.
+ * 작업은 프로젝트 리비전 카운터 행을 잠근 상태에서 {@link ErdOperationEngine} 규칙으로 변환/적용되고,
+ * 적용된 작업은 새 리비전과 함께 로그에 남습니다. 클라이언트는 응답의 리비전 이후 작업을 받아 복제본을 맞춥니다.</p>
+ *
+ * <p>동기화 클라이언트끼리의 동시 편집은 작업 변환 규칙(위치 마지막 우선, 필드 단위 병합, 삭제 충돌)으로 해소합니다.
+ * REST/STOMP 편집은 작업 로그에 남지 않아 변환 대상이 아니므로, 다른 사용자가 편집 Lock을 잡은 테이블을
+ * REST와 같은 기준으로 바꾸려는 작업은 LOCKED 충돌로 돌려줍니다. 제출자 자신의 Lock은 막지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ErdSyncService {
+
+    static final int DEFAULT_PAGE_SIZE = 200;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final ErdSyncStateRepository erdSyncStateRepository;
+    private final ErdOperationRecordRepository erdOperationRecordRepository;
+    private final ErdTableRepository erdTableRepository;
+    private final ErdColumnRepository erdColumnRepository;
+    private final ErdRelationRepository erdRelationRepository;
+    private final EditHistoryService editHistoryService;
+    private final DataModelService dataModelService;
+    private final ProjectAccessValidator projectAccessValidator;
+    private final ErdLintTrigger erdLintTrigger;
+    private final ErdLockService erdLockService;
+    private final CommentAnchorService commentAnchorService;
+
+    /**
+     * 작업 일괄 제출 (요청 순서대로 처리, 작업별 응답은 재전송해도 같음)
+     */
+    @Transactional
+    public ErdOperationBatchResponse submit(Long projectKey, Integer userKey, List<ErdOperationRequest> requests) {
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        erdSyncStateRepository.insertIfAbsent(projectKey);
+        ErdSyncState state = erdSyncStateRepository.findByIdForUpdate(projectKey).orElseThrow();
+
+        RecordLog operationLog = new RecordLog(projectKey, userKey, state);
+        ErdSyncDocument document = new ErdSyncDocument(projectKey, userKey, erdTableRepository, erdColumnRepository,
+                erdRelationRepository, editHistoryService, dataModelService, erdLockService, commentAnchorService);
+
+        List<ErdOperationAckResponse> acks = new ArrayList<>(requests.size());
+        for (ErdOperationRequest request : requests) {
+            ErdOperationAck ack = ErdOperationEngine.submit(request.toOperation(), operationLog, document);
+            acks.add(ErdOperationAckResponse.from(ack));
+        }
+
+        log.info("ERD operations submitted: projectKey={}, count={}, applied={}, revision={}",
+                projectKey, requests.size(), operationLog.applied.size(), state.getRevision());
+        if (!document.lintChangedTableKeys().isEmpty()) {
+            erdLintTrigger.requestLint(projectKey, document.lintChangedTableKeys());
+        }
+        return ErdOperationBatchResponse.builder()
+                .acks(acks)
+                .applied(operationLog.applied.stream().map(ErdAppliedOperationResponse::from).toList())
+                .revision(state.getRevision())
+                .build();
+    }
+
+    /**
+     * since 리비전 이후 적용된 작업 조회 (재연결/누락 복구용)
+     */
+    public ErdOperationPageResponse getOperations(Long projectKey, Integer userKey, Long since, Integer size) {
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
+
+        long from = since != null ? Math.max(0, since) : 0;
+        int limit = pageSize(size);
+        List<ErdOperationRecord> fetched = erdOperationRecordRepository.findAppliedPage(
+                projectKey, from, PageRequest.of(0, limit + 1));
+        boolean hasNext = fetched.size() > limit;
+        List<ErdOperationRecord> page = hasNext ? fetched.subList(0, limit) : fetched;
+
+        long revision = erdSyncStateRepository.findById(projectKey).map(ErdSyncState::getRevision).orElse(0L);
+        return ErdOperationPageResponse.builder()
+                .operations(page.stream().map(record -> ErdAppliedOperationResponse.from(record.toApplied())).toList())
+                .nextSince(page.isEmpty() ? from : page.get(page.size() - 1).getRevision())
+                .hasNext(hasNext)
+                .revision(revision)
+                .build();
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * erd_operations 기반 작업 로그 (잠근 동기화 상태 행의 리비전을 전진)
+     */
+    private class RecordLog implements ErdOperationLog {
+
+        private final Long projectKey;
+        private final Integer userKey;
+        private final ErdSyncState state;
+        private final List<ErdAppliedOperation> applied = new ArrayList<>();
+
+        RecordLog(Long projectKey, Integer userKey, ErdSyncState state) {
+            this.projectKey = projectKey;
+            this.userKey = userKey;
+            this.state = state;
+        }
+
+        @Override
+        public long revision() {
+            return state.getRevision();
+        }
+
+        @Override
+        public Optional<ErdOperationAck> findAck(String clientId, long clientSeq) {
+            return erdOperationRecordRepository.findByProjectKeyAndClientIdAndClientSeq(projectKey, clientId, clientSeq)
+                    .map(ErdOperationRecord::toAck);
+        }
+
+        @Override
+        public long lastClientSeq(String clientId) {
+            return erdOperationRecordRepository.findLastClientSeq(projectKey, clientId);
+        }
+
+        @Override
+        public List<ErdAppliedOperation> concurrentOperations(long baseRevision, String clientId, Long tableKey) {
+            return erdOperationRecordRepository.findConcurrent(projectKey, tableKey, baseRevision, clientId).stream()
+                    .map(ErdOperationRecord::toApplied)
+                    .toList();
+        }
+
+        @Override
+        public void append(ErdOperation operation, Long tableKey, Map<String, Object> fields, ErdOperationAck ack) {
+            boolean isApplied = ack.outcome() == ErdOperationOutcome.APPLIED;
+            if (isApplied) {
+                state.advance();
+            }
+            ErdOperationRecord record = erdOperationRecordRepository.save(ErdOperationRecord.builder()
+                    .projectKey(projectKey)
+                    .clientId(operation.clientId())
+                    .clientSeq(operation.clientSeq())
+                    .baseRevision(operation.baseRevision())
+                    .revision(isApplied ? ack.revision() : null)
+                    .ackRevision(ack.revision())
+                    .userKey(userKey)
+                    .operationType(operation.type())
+                    .targetKey(operation.targetKey())
+                    .tableKey(tableKey)
+                    .fields(fields)
+                    .outcome(ack.outcome())
+                    .reason(ack.reason())
+                    .overwrittenFields(ack.overwrittenFields())
+                    .build());
+            if (isApplied) {
+                applied.add(record.toApplied());
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.yaldi.domain.erd.service;
 
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import com.yaldi.domain.comment.service.CommentAnchorService;
 import com.yaldi.domain.erd.dto.request.ErdTableCreateRequest;
 import com.yaldi.domain.erd.dto.response.ErdTableResponse;
 import com.yaldi.domain.erd.dto.request.ErdTableUpdateRequest;
@@ -31,6 +33,8 @@ public class ErdTableService {
     private final ErdTableRepository erdTableRepository;
     private final ErdLockService erdLockService;
     private final EditHistoryService editHistoryService;
+    private final ErdLintTrigger erdLintTrigger;
+    private final CommentAnchorService commentAnchorService;
 
     /**
      * 프로젝트의 ERD 테이블 목록 조회
@@ -72,6 +76,7 @@ public class ErdTableService {
             editHistoryService.recordTableCreation(userKey, projectKey, savedTable.getTableKey(),
                     convertTableToMap(savedTable));
         }
+        erdLintTrigger.requestLint(projectKey, savedTable.getTableKey());
 
         return ErdTableResponse.from(savedTable);
     }
@@ -116,6 +121,9 @@ public class ErdTableService {
             Map<String, Object> afterState = convertTableToMap(table);
             editHistoryService.recordTableUpdate(userKey, table.getProjectKey(), tableKey, beforeState, afterState);
         }
+        if (isImportantUpdate) {
+            erdLintTrigger.requestLint(table.getProjectKey(), tableKey);
+        }
 
         return ErdTableResponse.from(table);
     }
@@ -158,15 +166,17 @@ public class ErdTableService {
         if (userKey != null) {
             editHistoryService.recordTableDeletion(userKey, table.getProjectKey(), tableKey, beforeState);
         }
+        commentAnchorService.detachForDeletion(table.getProjectKey(), CommentAnchorType.TABLE, tableKey);
         table.softDelete();
         log.info("Deleted ERD table: {}", tableKey);
+        erdLintTrigger.requestLint(table.getProjectKey(), tableKey);
 
     }
 
     /**
      * ErdTable을 Map으로 변환 (히스토리 기록용)
      */
-    private Map<String, Object> convertTableToMap(ErdTable table) {
+    static Map<String, Object> convertTableToMap(ErdTable table) {
         Map<String, Object> map = new HashMap<>();
         map.put("tableKey", table.getTableKey());
         map.put("projectKey", table.getProjectKey());
@@ -0,0 +1,20 @@
+package com.yaldi.domain.erd.sync;
+
+import java.util.Map;
+
+/**
+ * 적용된 작업 (리비전 로그 한 건)
+ *
+ * @param tableKey 작업이 닿은 테이블 (컬럼 작업은 소속 테이블, 관계 작업은 null)
+ * @param fields   실제 적용된 정규화 필드
+ */
+public record ErdAppliedOperation(
+        long revision,
+        String clientId,
+        long clientSeq,
+        ErdOperationType type,
+        Long targetKey,
+        Long tableKey,
+        Map<String, Object> fields
+) {
+}
@@ -0,0 +1,40 @@
+package com.yaldi.domain.erd.sync;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 작업을 적용할 프로젝트 ERD 상태 (서버는 JPA 엔티티, 클라이언트/테스트는 메모리 복제본)
+ *
+ * <p>조회 메서드는 삭제된 대상과 다른 프로젝트의 대상을 모두 "없음"으로 취급합니다.
+ * 테이블 삭제는 소속 컬럼과 연결된 관계까지 삭제합니다. (DB 트리거와 동일)</p>
+ */
+public interface ErdDocument {
+
+    boolean hasTable(Long tableKey);
+
+    /**
+     * 활성 컬럼의 소속 테이블 (테이블이 삭제됐으면 empty)
+     */
+    Optional<Long> tableOfColumn(Long columnKey);
+
+    boolean hasRelation(Long relationKey);
+
+    /**
+     * 다른 사용자가 실시간 편집 Lock을 잡고 있는 테이블인지
+     */
+    boolean isLockedByOther(Long tableKey);
+
+    void moveTable(Long tableKey, BigDecimal xPosition, BigDecimal yPosition);
+
+    void updateTable(Long tableKey, Map<String, Object> fields);
+
+    void updateColumn(Long columnKey, Map<String, Object> fields);
+
+    void deleteTable(Long tableKey);
+
+    void deleteColumn(Long columnKey);
+
+    void deleteRelation(Long relationKey);
+}
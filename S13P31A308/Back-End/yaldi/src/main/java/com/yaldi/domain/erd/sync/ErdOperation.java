@@ -0,0 +1,21 @@
+package com.yaldi.domain.erd.sync;
+
+import java.util.Map;
+
+/**
+ * 클라이언트가 제출한 ERD 작업
+ *
+ * @param clientId     클라이언트(브라우저 탭/기기) 식별자
+ * @param clientSeq    클라이언트별 단조 증가 시퀀스 (clientId와 함께 멱등 키)
+ * @param baseRevision 작업을 만들 때 클라이언트가 알고 있던 프로젝트 리비전
+ * @param fields       변경한 필드만 (삭제 작업은 비어 있음)
+ */
+public record ErdOperation(
+        String clientId,
+        long clientSeq,
+        long baseRevision,
+        ErdOperationType type,
+        Long targetKey,
+        Map<String, Object> fields
+) {
+}
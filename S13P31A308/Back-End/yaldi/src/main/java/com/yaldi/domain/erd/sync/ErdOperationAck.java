@@ -0,0 +1,25 @@
+package com.yaldi.domain.erd.sync;
+
+import java.util.List;
+
+/**
+ * 작업 처리 응답
+ *
+ * @param revision          APPLIED면 작업에 부여된 리비전, 그 외에는 처리 시점의 프로젝트 리비전
+ * @param overwrittenFields 기준 리비전 이후 다른 클라이언트가 바꾼 값을 덮어쓴 필드
+ * @param duplicate         이미 처리한 작업의 재전송 (저장된 응답을 그대로 반환)
+ */
+public record ErdOperationAck(
+        String clientId,
+        long clientSeq,
+        ErdOperationOutcome outcome,
+        ErdOperationReason reason,
+        long revision,
+        List<String> overwrittenFields,
+        boolean duplicate
+) {
+
+    public ErdOperationAck asDuplicate() {
+        return new ErdOperationAck(clientId, clientSeq, outcome, reason, revision, overwrittenFields, true);
+    }
+}
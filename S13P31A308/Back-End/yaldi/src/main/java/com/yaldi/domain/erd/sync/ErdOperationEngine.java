@@ -0,0 +1,160 @@
+package com.yaldi.domain.erd.sync;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * ERD 작업 변환/적용 엔진 (서버와 시뮬레이션 테스트가 같은 규칙을 사용)
+ *
+ * <p>작업은 클라이언트가 본 baseRevision 이후 다른 클라이언트가 적용한 작업(동시 작업)에 대해 변환됩니다.</p>
+ * <ul>
+ *   <li><strong>멱등:</strong> (clientId, clientSeq)로 처리한 작업은 저장된 응답을 그대로 반환 (재적용하지 않음)</li>
+ *   <li><strong>위치:</strong> 마지막 작업 우선 (동시 이동을 덮어쓰면 overwrittenFields로 알림)</li>
+ *   <li><strong>테이블/컬럼 속성:</strong> 작업이 가진 필드만 적용하므로 서로 다른 필드의 동시 수정은 모두 유지,
+ *       같은 필드는 나중 작업 우선</li>
+ *   <li><strong>삭제:</strong> 동시에 삭제된 대상을 수정하면 TARGET_NOT_FOUND 충돌, 동시에 수정된 대상을 삭제하면
+ *       CONCURRENT_MODIFICATION 충돌 (단순 이동은 삭제를 막지 않음). 이미 삭제된 대상 삭제는 NOOP</li>
+ *   <li><strong>Lock:</strong> REST 수정과 같은 기준으로, 다른 사용자가 Lock을 잡은 테이블의 이름 변경/삭제와
+ *       컬럼 수정/삭제는 LOCKED 충돌 (이동과 색상 변경은 Lock 없이 적용)</li>
+ * </ul>
+ *
+ * <p>로그에는 정규화된 실제 적용 필드를 남기므로, 같은 초기 상태에 로그를 리비전 순으로 {@link #replay}하면
+ * 서버와 같은 상태가 됩니다.</p>
+ */
+public final class ErdOperationEngine {
+
+    private ErdOperationEngine() {
+    }
+
+    public static ErdOperationAck submit(ErdOperation operation, ErdOperationLog log, ErdDocument document) {
+        Optional<ErdOperationAck> previous = log.findAck(operation.clientId(), operation.clientSeq());
+        if (previous.isPresent()) {
+            return previous.get().asDuplicate();
+        }
+
+        long revision = log.revision();
+        if (operation.clientSeq() <= log.lastClientSeq(operation.clientId())) {
+            return finish(log, operation, null, Map.of(), ErdOperationOutcome.REJECTED, ErdOperationReason.OUT_OF_ORDER,
+                    revision, List.of());
+        }
+        if (operation.baseRevision() < 0 || operation.baseRevision() > revision) {
+            return finish(log, operation, null, Map.of(), ErdOperationOutcome.REJECTED,
+                    ErdOperationReason.INVALID_BASE_REVISION, revision, List.of());
+        }
+
+        Map<String, Object> fields;
+        try {
+            if (operation.type() == null || operation.targetKey() == null) {
+                throw new IllegalArgumentException("Operation type and target are required");
+            }
+            fields = ErdOperationFields.normalize(operation.type(), operation.fields());
+        } catch (IllegalArgumentException e) {
+            return finish(log, operation, null, Map.of(), ErdOperationOutcome.REJECTED,
+                    ErdOperationReason.INVALID_OPERATION, revision, List.of());
+        }
+
+        Target target = locate(operation.type(), operation.targetKey(), document);
+        if (!target.exists()) {
+            return operation.type().isDelete()
+                    ? finish(log, operation, null, fields, ErdOperationOutcome.NOOP, null, revision, List.of())
+                    : finish(log, operation, null, fields, ErdOperationOutcome.CONFLICT,
+                            ErdOperationReason.TARGET_NOT_FOUND, revision, List.of());
+        }
+
+        if (target.tableKey() != null && requiresLock(operation.type(), fields)
+                && document.isLockedByOther(target.tableKey())) {
+            return finish(log, operation, target.tableKey(), fields, ErdOperationOutcome.CONFLICT,
+                    ErdOperationReason.LOCKED, revision, List.of());
+        }
+
+        List<ErdAppliedOperation> concurrent = target.tableKey() == null
+                ? List.of()
+                : log.concurrentOperations(operation.baseRevision(), operation.clientId(), target.tableKey());
+        if (operation.type().isDelete() && modifiedConcurrently(operation, concurrent)) {
+            return finish(log, operation, target.tableKey(), fields, ErdOperationOutcome.CONFLICT,
+                    ErdOperationReason.CONCURRENT_MODIFICATION, revision, List.of());
+        }
+
+        apply(operation.type(), operation.targetKey(), fields, document);
+        return finish(log, operation, target.tableKey(), fields, ErdOperationOutcome.APPLIED, null, revision + 1,
+                overwrittenFields(operation, fields, concurrent));
+    }
+
+    /**
+     * 적용된 작업을 복제본에 다시 적용
+     */
+    public static void replay(ErdAppliedOperation applied, ErdDocument document) {
+        apply(applied.type(), applied.targetKey(), ErdOperationFields.normalize(applied.type(), applied.fields()), document);
+    }
+
+    private static void apply(ErdOperationType type, Long targetKey, Map<String, Object> fields, ErdDocument document) {
+        switch (type) {
+            case MOVE_TABLE -> document.moveTable(targetKey,
+                    (BigDecimal) fields.get(ErdOperationFields.X_POSITION),
+                    (BigDecimal) fields.get(ErdOperationFields.Y_POSITION));
+            case UPDATE_TABLE -> document.updateTable(targetKey, fields);
+            case UPDATE_COLUMN -> document.updateColumn(targetKey, fields);
+            case DELETE_TABLE -> document.deleteTable(targetKey);
+            case DELETE_COLUMN -> document.deleteColumn(targetKey);
+            case DELETE_RELATION -> document.deleteRelation(targetKey);
+        }
+    }
+
+    private static Target locate(ErdOperationType type, Long targetKey, ErdDocument document) {
+        return switch (type) {
+            case MOVE_TABLE, UPDATE_TABLE, DELETE_TABLE ->
+                    document.hasTable(targetKey) ? new Target(true, targetKey) : Target.MISSING;
+            case UPDATE_COLUMN, DELETE_COLUMN ->
+                    document.tableOfColumn(targetKey).map(tableKey -> new Target(true, tableKey)).orElse(Target.MISSING);
+            case DELETE_RELATION -> document.hasRelation(targetKey) ? new Target(true, null) : Target.MISSING;
+        };
+    }
+
+    /**
+     * REST API에서 Lock 검증을 거치는 수정인지 (이동/색상은 실시간 변경이라 Lock 불필요)
+     */
+    private static boolean requiresLock(ErdOperationType type, Map<String, Object> fields) {
+        return switch (type) {
+            case MOVE_TABLE, DELETE_RELATION -> false;
+            case UPDATE_TABLE -> fields.containsKey("logicalName") || fields.containsKey("physicalName");
+            case UPDATE_COLUMN, DELETE_TABLE, DELETE_COLUMN -> true;
+        };
+    }
+
+    /**
+     * 삭제 대상(테이블이면 소속 컬럼 포함)을 다른 클라이언트가 이동 외의 작업으로 바꿨는지
+     */
+    private static boolean modifiedConcurrently(ErdOperation operation, List<ErdAppliedOperation> concurrent) {
+        return concurrent.stream()
+                .filter(applied -> applied.type() != ErdOperationType.MOVE_TABLE)
+                .anyMatch(applied -> operation.type() != ErdOperationType.DELETE_COLUMN
+                        || (applied.type().targetsColumn() && applied.targetKey().equals(operation.targetKey())));
+    }
+
+    private static List<String> overwrittenFields(ErdOperation operation, Map<String, Object> fields,
+                                                  List<ErdAppliedOperation> concurrent) {
+        TreeSet<String> overwritten = new TreeSet<>();
+        for (ErdAppliedOperation applied : concurrent) {
+            if (applied.type() == operation.type() && applied.targetKey().equals(operation.targetKey())) {
+                applied.fields().keySet().stream().filter(fields::containsKey).forEach(overwritten::add);
+            }
+        }
+        return List.copyOf(overwritten);
+    }
+
+    private static ErdOperationAck finish(ErdOperationLog log, ErdOperation operation, Long tableKey,
+                                          Map<String, Object> fields, ErdOperationOutcome outcome,
+                                          ErdOperationReason reason, long revision, List<String> overwrittenFields) {
+        ErdOperationAck ack = new ErdOperationAck(
+                operation.clientId(), operation.clientSeq(), outcome, reason, revision, overwrittenFields, false);
+        log.append(operation, tableKey, fields, ack);
+        return ack;
+    }
+
+    private record Target(boolean exists, Long tableKey) {
+        static final Target MISSING = new Target(false, null);
+    }
+}
@@ -0,0 +1,164 @@
+package com.yaldi.domain.erd.sync;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 작업 필드 검증/정규화
+ *
+ * <p>JSON(요청, jsonb 로그)에서 읽은 값을 엔티티 타입으로 맞춥니다. 위치는 DB 컬럼과 같은 소수 둘째 자리로 반올림하므로
+ * 로그를 다시 적용한 복제본과 서버 상태가 같은 값을 가집니다. 키 순서를 고정(정렬)해 같은 작업은 같은 맵이 됩니다.</p>
+ */
+public final class ErdOperationFields {
+
+    public static final String X_POSITION = "xPosition";
+    public static final String Y_POSITION = "yPosition";
+
+    public static final Set<String> TABLE_FIELDS = Set.of("logicalName", "physicalName", "colorHex");
+
+    public static final Set<String> COLUMN_FIELDS = Set.of(
+            "logicalName", "physicalName", "dataType", "dataDetail",
+            "isNullable", "isPrimaryKey", "isForeignKey", "isUnique", "isIncremental",
+            "defaultValue", "comment", "columnOrder");
+
+    /** x_position, y_position NUMERIC(10, 2) */
+    private static final BigDecimal MAX_POSITION = new BigDecimal("99999999.99");
+
+    private static final Pattern PHYSICAL_NAME = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]*$");
+    private static final Pattern COLOR_HEX = Pattern.compile("^[0-9A-Fa-f]{6}$");
+    private static final int MAX_DATA_DETAIL = 10;
+
+    private ErdOperationFields() {
+    }
+
+    /**
+     * @throws IllegalArgumentException 허용되지 않은 필드, 잘못된 값, 수정 필드 누락
+     */
+    public static SortedMap<String, Object> normalize(ErdOperationType type, Map<String, Object> fields) {
+        Map<String, Object> source = fields != null ? fields : Map.of();
+        SortedMap<String, Object> normalized = new TreeMap<>();
+        switch (type) {
+            case MOVE_TABLE -> {
+                requireKeys(source, Set.of(X_POSITION, Y_POSITION));
+                if (!source.containsKey(X_POSITION) || !source.containsKey(Y_POSITION)) {
+                    throw new IllegalArgumentException("Both positions are required");
+                }
+                normalized.put(X_POSITION, position(source.get(X_POSITION)));
+                normalized.put(Y_POSITION, position(source.get(Y_POSITION)));
+            }
+            case UPDATE_TABLE -> {
+                requireKeys(source, TABLE_FIELDS);
+                source.forEach((name, value) -> normalized.put(name, tableValue(name, value)));
+            }
+            case UPDATE_COLUMN -> {
+                requireKeys(source, COLUMN_FIELDS);
+                source.forEach((name, value) -> normalized.put(name, columnValue(name, value)));
+            }
+            case DELETE_TABLE, DELETE_COLUMN, DELETE_RELATION -> requireKeys(source, Set.of());
+        }
+        if (!type.isDelete() && normalized.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        return normalized;
+    }
+
+    private static void requireKeys(Map<String, Object> fields, Set<String> allowed) {
+        for (String name : fields.keySet()) {
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unsupported field: " + name);
+            }
+        }
+    }
+
+    private static Object tableValue(String name, Object value) {
+        return switch (name) {
+            case "logicalName" -> text(value, 100, false);
+            case "physicalName" -> physicalName(value, 64);
+            case "colorHex" -> {
+                String color = text(value, 6, true);
+                if (color != null && !COLOR_HEX.matcher(color).matches()) {
+                    throw new IllegalArgumentException("Invalid color hex");
+                }
+                yield color;
+            }
+            default -> throw new IllegalArgumentException("Unsupported field: " + name);
+        };
+    }
+
+    private static Object columnValue(String name, Object value) {
+        return switch (name) {
+            case "logicalName", "physicalName", "dataType" -> text(value, 255, false);
+            case "defaultValue" -> text(value, 255, true);
+            case "comment" -> text(value, 500, true);
+            case "dataDetail" -> dataDetail(value);
+            case "isNullable", "isPrimaryKey", "isForeignKey", "isUnique", "isIncremental" -> {
+                if (!(value instanceof Boolean bool)) {
+                    throw new IllegalArgumentException(name + " must be boolean");
+                }
+                yield bool;
+            }
+            case "columnOrder" -> {
+                if (!(value instanceof Number number) || number.doubleValue() < 0 || number.doubleValue() > Integer.MAX_VALUE
+                        || new BigDecimal(number.toString()).stripTrailingZeros().scale() > 0) {
+                    throw new IllegalArgumentException("Column order must be a non-negative integer");
+                }
+                yield number.intValue();
+            }
+            default -> throw new IllegalArgumentException("Unsupported field: " + name);
+        };
+    }
+
+    private static BigDecimal position(Object value) {
+        BigDecimal position;
+        try {
+            position = value instanceof BigDecimal decimal ? decimal : new BigDecimal(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid position: " + value);
+        }
+        position = position.setScale(2, RoundingMode.HALF_UP);
+        if (position.signum() < 0 || position.compareTo(MAX_POSITION) > 0) {
+            throw new IllegalArgumentException("Position out of range: " + position);
+        }
+        return position;
+    }
+
+    private static String physicalName(Object value, int maxLength) {
+        String name = text(value, maxLength, false);
+        if (!PHYSICAL_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid physical name: " + name);
+        }
+        return name;
+    }
+
+    private static String text(Object value, int maxLength, boolean nullable) {
+        if (value == null) {
+            if (nullable) {
+                return null;
+            }
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException("Value must be a string");
+        }
+        if ((!nullable && text.isBlank()) || text.length() > maxLength) {
+            throw new IllegalArgumentException("Invalid text length");
+        }
+        return text;
+    }
+
+    private static List<String> dataDetail(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List<?> list) || list.size() > MAX_DATA_DETAIL) {
+            throw new IllegalArgumentException("dataDetail must be a list");
+        }
+        return list.stream().map(item -> text(item, 255, false)).toList();
+    }
+}
@@ -0,0 +1,35 @@
+package com.yaldi.domain.erd.sync;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 프로젝트 작업 로그 (리비전 카운터 + 처리한 작업의 응답)
+ *
+ * <p>호출자는 프로젝트 단위로 직렬화해야 합니다. (서버는 동기화 상태 행 잠금)</p>
+ */
+public interface ErdOperationLog {
+
+    /**
+     * 현재 프로젝트 리비전 (적용된 작업이 없으면 0)
+     */
+    long revision();
+
+    Optional<ErdOperationAck> findAck(String clientId, long clientSeq);
+
+    /**
+     * 클라이언트가 마지막으로 제출한 시퀀스 (없으면 0)
+     */
+    long lastClientSeq(String clientId);
+
+    /**
+     * baseRevision 이후 다른 클라이언트가 tableKey에 적용한 작업 (리비전 순)
+     */
+    List<ErdAppliedOperation> concurrentOperations(long baseRevision, String clientId, Long tableKey);
+
+    /**
+     * 처리 결과 기록 (APPLIED면 ack.revision()이 새 프로젝트 리비전)
+     */
+    void append(ErdOperation operation, Long tableKey, Map<String, Object> fields, ErdOperationAck ack);
+}
@@ -0,0 +1,15 @@
+package com.yaldi.domain.erd.sync;
+
+/**
+ * ERD 동기화 작업 처리 결과
+ */
+public enum ErdOperationOutcome {
+    /** 적용되어 새 리비전이 부여됨 */
+    APPLIED,
+    /** 이미 삭제된 대상을 삭제 (상태 변화 없음) */
+    NOOP,
+    /** 동시 작업과 충돌하여 적용하지 않음 (클라이언트가 최신 상태 기준으로 다시 판단) */
+    CONFLICT,
+    /** 잘못된 작업 (재전송해도 같은 결과) */
+    REJECTED
+}
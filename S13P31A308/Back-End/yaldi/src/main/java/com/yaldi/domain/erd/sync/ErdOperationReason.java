@@ -0,0 +1,19 @@
+package com.yaldi.domain.erd.sync;
+
+/**
+ * CONFLICT / REJECTED 사유
+ */
+public enum ErdOperationReason {
+    /** 대상이 (동시에) 삭제되었거나 프로젝트에 없음 */
+    TARGET_NOT_FOUND,
+    /** 기준 리비전 이후 다른 클라이언트가 삭제 대상을 수정함 */
+    CONCURRENT_MODIFICATION,
+    /** 다른 사용자가 편집 Lock을 잡고 있는 테이블 (Lock 해제 후 새 시퀀스로 다시 제출) */
+    LOCKED,
+    /** 작업 필드가 올바르지 않음 */
+    INVALID_OPERATION,
+    /** 이미 처리한 시퀀스보다 앞선 새 작업 (클라이언트는 시퀀스 순서대로 전송해야 함) */
+    OUT_OF_ORDER,
+    /** 서버 리비전보다 앞선 기준 리비전 */
+    INVALID_BASE_REVISION
+}
@@ -0,0 +1,27 @@
+package com.yaldi.domain.erd.sync;
+
+/**
+ * ERD 동기화 작업 종류
+ *
+ * <ul>
+ *   <li><strong>MOVE_TABLE:</strong> 위치 변경 (동시 변경은 마지막 작업이 우선)</li>
+ *   <li><strong>UPDATE_TABLE / UPDATE_COLUMN:</strong> 변경한 필드만 전송 (필드 단위 병합)</li>
+ *   <li><strong>DELETE_*:</strong> 구조 삭제 (동시 수정이 있으면 명시적 충돌)</li>
+ * </ul>
+ */
+public enum ErdOperationType {
+    MOVE_TABLE,
+    UPDATE_TABLE,
+    UPDATE_COLUMN,
+    DELETE_TABLE,
+    DELETE_COLUMN,
+    DELETE_RELATION;
+
+    public boolean isDelete() {
+        return this == DELETE_TABLE || this == DELETE_COLUMN || this == DELETE_RELATION;
+    }
+
+    public boolean targetsColumn() {
+        return this == UPDATE_COLUMN || this == DELETE_COLUMN;
+    }
+}
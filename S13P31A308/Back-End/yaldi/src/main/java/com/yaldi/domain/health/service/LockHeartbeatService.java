@@ -1,6 +1,7 @@
 package com.yaldi.domain.health.service;
 
 import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.metrics.CollaborationMetrics;
 import com.yaldi.global.response.status.ErrorStatus;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ public class LockHeartbeatService {
 
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final CollaborationMetrics collaborationMetrics;
 
     private static final String LOCK_KEY_PREFIX = "erd:lock:table:";
     private static final String LOCK_OWNER_SUFFIX = ":owner";
@@ -61,6 +63,7 @@ public class LockHeartbeatService {
 
         redisTemplate.opsForValue().set(ownerKey, email, 30, TimeUnit.SECONDS);
         redisTemplate.opsForValue().set(heartbeatKey, email, 10, TimeUnit.SECONDS);
+        collaborationMetrics.recordLockHeartbeat(tableId);
 
         log.debug("[HEARTBEAT UPDATED] tableId={}, owner={}", tableId, email);
     }
@@ -0,0 +1,47 @@
+package com.yaldi.domain.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 묶음 / 전송량 제한 / 재전송 설정
+ *
+ * <pre>
+ * notification:
+ *   grouping-windows:
+ *     COMMENT_MENTION: 10m
+ *   push-rate-limit: 10
+ *   push-rate-window: 1m
+ * </pre>
+ *
+ * <p>grouping-windows에 없는 타입(팀 초대 등 개별 처리가 필요한 알림)은 묶지 않습니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+
+    /** 타입별 묶음 유지 시간 (첫 이벤트 기준) */
+    private Map<String, Duration> groupingWindows = new HashMap<>(Map.of("COMMENT_MENTION", Duration.ofMinutes(10)));
+
+    /** 사용자당 push-rate-window 동안 보낼 수 있는 실시간 푸시 수 (초과분은 보류 후 묶어서 전달) */
+    private int pushRateLimit = 10;
+
+    private Duration pushRateWindow = Duration.ofMinutes(1);
+
+    /** 재연결/보류 해제 시 한 번에 재전송할 최대 알림 수 */
+    private int replayLimit = 100;
+
+    /** 다이제스트 메일 한 통에 담을 최대 알림 수 */
+    private int digestMaxItems = 50;
+
+    /** 다이제스트 메일 전송 최대 시도 횟수 */
+    private int digestMaxAttempts = 3;
+}
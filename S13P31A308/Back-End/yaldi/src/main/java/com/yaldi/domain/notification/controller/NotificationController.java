@@ -1,5 +1,7 @@
 package com.yaldi.domain.notification.controller;
 
+import com.yaldi.domain.notification.dto.request.NotificationPreferenceRequest;
+import com.yaldi.domain.notification.service.NotificationPreferenceService;
 import com.yaldi.domain.notification.service.NotificationService;
 import com.yaldi.domain.project.entity.ProjectMemberActionType;
 import com.yaldi.domain.team.entity.UserTeamActionType;
@@ -12,6 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.parameters.P;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPreferenceService notificationPreferenceService;
 
     /**
      * 알림 목록 조회
@@ -40,6 +45,24 @@ public class NotificationController {
                 notificationService.getAllNotifications(userKey, pageable)));
     }
 
+    /**
+     * 알림 설정 조회 (방해 금지 시간대, 다이제스트 수신)
+     */
+    @GetMapping("/preferences")
+    public ApiResponse<?> getPreference() {
+        return ApiResponse.onSuccess(
+                notificationPreferenceService.getPreference(SecurityUtil.getCurrentUserKey()));
+    }
+
+    /**
+     * 알림 설정 변경
+     */
+    @PutMapping("/preferences")
+    public ApiResponse<?> updatePreference(@RequestBody NotificationPreferenceRequest request) {
+        return ApiResponse.onSuccess(
+                notificationPreferenceService.updatePreference(SecurityUtil.getCurrentUserKey(), request));
+    }
+
     @GetMapping("/test")
     public void test() {
         notificationService.notifyUser(SecurityUtil.getCurrentUserKey(),
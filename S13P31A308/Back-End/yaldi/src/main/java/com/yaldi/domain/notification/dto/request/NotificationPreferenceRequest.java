@@ -0,0 +1,21 @@
+package com.yaldi.domain.notification.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalTime;
+
+@Schema(description = "알림 설정 변경 요청 DTO")
+public record NotificationPreferenceRequest(
+        @Schema(description = "방해 금지 시작 시각 (종료와 함께 지정, 둘 다 null이면 해제)", example = "22:00")
+        LocalTime quietStart,
+
+        @Schema(description = "방해 금지 종료 시각 (시작보다 이르면 다음 날)", example = "08:00")
+        LocalTime quietEnd,
+
+        @Schema(description = "시간대 (IANA)", example = "Asia/Seoul")
+        String timeZone,
+
+        @Schema(description = "일일 다이제스트 메일 수신 여부", example = "true")
+        Boolean digestEnabled
+) {
+}
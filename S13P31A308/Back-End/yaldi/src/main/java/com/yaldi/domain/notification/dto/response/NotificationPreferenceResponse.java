@@ -0,0 +1,21 @@
+package com.yaldi.domain.notification.dto.response;
+
+import com.yaldi.domain.notification.entity.NotificationPreference;
+
+import java.time.LocalTime;
+
+public record NotificationPreferenceResponse(
+        LocalTime quietStart,
+        LocalTime quietEnd,
+        String timeZone,
+        boolean digestEnabled
+) {
+    public static NotificationPreferenceResponse from(NotificationPreference preference) {
+        return new NotificationPreferenceResponse(
+                preference.getQuietStart(),
+                preference.getQuietEnd(),
+                preference.getTimeZone(),
+                preference.getDigestEnabled()
+        );
+    }
+}
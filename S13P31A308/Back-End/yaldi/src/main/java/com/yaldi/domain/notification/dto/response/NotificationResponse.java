@@ -9,5 +9,9 @@ public record NotificationResponse(
 
         Long target,
         OffsetDateTime createdAt,
-        boolean isRead
+        boolean isRead,
+
+        // 묶인 이벤트 수 (예: 같은 프로젝트 멘션 5건)
+        int groupCount,
+        OffsetDateTime lastEventAt
 ) {}
@@ -48,6 +48,25 @@ public class Notification extends BaseCreateOnlyEntity {
     @Column(name = "read_at")
     private OffsetDateTime readAt;
 
+    /**
+     * 묶음 키 (type:scope), 묶지 않는 알림은 null
+     */
+    @Column(name = "group_key", length = 120)
+    private String groupKey;
+
+    @Column(name = "group_count", nullable = false)
+    @Builder.Default
+    private Integer groupCount = 1;
+
+    @Column(name = "last_event_at")
+    private OffsetDateTime lastEventAt;
+
+    /**
+     * 이 시각 이후의 같은 묶음 이벤트는 새 알림으로 생성
+     */
+    @Column(name = "group_expires_at")
+    private OffsetDateTime groupExpiresAt;
+
     // 비즈니스 로직
     public void markAsRead() {
         if (this.readAt == null) {
@@ -58,4 +77,14 @@ public class Notification extends BaseCreateOnlyEntity {
     public void changeType(String type) {
         this.type = type;
     }
+
+    /**
+     * 같은 묶음의 새 이벤트를 합침 (내용/대상은 최신 이벤트 기준)
+     */
+    public void absorb(String content, Long target, OffsetDateTime eventAt) {
+        this.groupCount = groupCount + 1;
+        this.content = content;
+        this.target = target;
+        this.lastEventAt = eventAt;
+    }
 }
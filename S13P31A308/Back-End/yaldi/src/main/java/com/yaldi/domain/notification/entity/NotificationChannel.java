@@ -0,0 +1,9 @@
+package com.yaldi.domain.notification.entity;
+
+/**
+ * 알림 전달 채널
+ */
+public enum NotificationChannel {
+    SSE,          // 실시간 푸시
+    MAIL_DIGEST   // 일일 메일 다이제스트
+}
@@ -13,7 +13,9 @@ public class NotificationConverter {
                 entity.getContent(),
                 entity.getTarget(),
                 entity.getCreatedAt(),
-                entity.getReadAt() != null
+                entity.getReadAt() != null,
+                entity.getGroupCount() != null ? entity.getGroupCount() : 1,
+                entity.getLastEventAt() != null ? entity.getLastEventAt() : entity.getCreatedAt()
         );
     }
 
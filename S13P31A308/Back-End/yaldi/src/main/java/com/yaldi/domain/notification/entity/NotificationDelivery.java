@@ -0,0 +1,58 @@
+package com.yaldi.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 알림 채널별 전달 상태
+ *
+ * <p>상태 변경은 {@code NotificationDeliveryRepository}의 벌크 업데이트로만 수행합니다.</p>
+ */
+@Entity
+@Table(name = "notification_deliveries")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delivery_key")
+    private Long deliveryKey;
+
+    @Column(name = "notification_key", nullable = false)
+    private Long notificationKey;
+
+    @Column(name = "user_key", nullable = false)
+    private Integer userKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", length = 20, nullable = false)
+    private NotificationChannel channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private NotificationDeliveryStatus status = NotificationDeliveryStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "delivered_at")
+    private OffsetDateTime deliveredAt;
+
+    public static NotificationDelivery pending(Notification notification, NotificationChannel channel) {
+        return NotificationDelivery.builder()
+                .notificationKey(notification.getNotificationKey())
+                .userKey(notification.getUserKey())
+                .channel(channel)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.yaldi.domain.notification.entity;
+
+/**
+ * 채널별 알림 전달 상태
+ */
+public enum NotificationDeliveryStatus {
+    PENDING,    // 전달 대기 (오프라인, 방해 금지, 전송량 제한, 전송 실패)
+    DELIVERED,  // 전달 완료
+    SKIPPED     // 전달 불필요 (이미 읽음, 수신 거부, 재시도 초과)
+}
@@ -0,0 +1,74 @@
+package com.yaldi.domain.notification.entity;
+
+import com.yaldi.global.common.BaseAuditEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * 사용자별 알림 설정
+ *
+ * <p>방해 금지 시간대에는 실시간 푸시만 보류하고 알림은 저장합니다. (시간대가 끝나면 묶어서 전달)</p>
+ */
+@Entity
+@Table(name = "notification_preferences")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPreference extends BaseAuditEntity {
+
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
+    @Id
+    @Column(name = "user_key")
+    private Integer userKey;
+
+    @Column(name = "quiet_start")
+    private LocalTime quietStart;
+
+    @Column(name = "quiet_end")
+    private LocalTime quietEnd;
+
+    @Column(name = "time_zone", length = 50, nullable = false)
+    @Builder.Default
+    private String timeZone = DEFAULT_TIME_ZONE;
+
+    @Column(name = "digest_enabled", nullable = false)
+    @Builder.Default
+    private Boolean digestEnabled = true;
+
+    /**
+     * 설정이 없는 사용자의 기본값 (방해 금지 없음, 다이제스트 수신)
+     */
+    public static NotificationPreference defaults(Integer userKey) {
+        return NotificationPreference.builder().userKey(userKey).build();
+    }
+
+    public void update(LocalTime quietStart, LocalTime quietEnd, String timeZone, Boolean digestEnabled) {
+        this.quietStart = quietStart;
+        this.quietEnd = quietEnd;
+        this.timeZone = timeZone != null ? timeZone : DEFAULT_TIME_ZONE;
+        this.digestEnabled = digestEnabled == null || digestEnabled;
+    }
+
+    /**
+     * 방해 금지 시간대 여부 (시작이 종료보다 늦으면 자정을 넘기는 구간, 예: 22:00 ~ 08:00)
+     */
+    public boolean isQuietAt(Instant instant) {
+        if (quietStart == null || quietEnd == null || quietStart.equals(quietEnd)) {
+            return false;
+        }
+        LocalTime local = instant.atZone(ZoneId.of(timeZone)).toLocalTime();
+        if (quietStart.isBefore(quietEnd)) {
+            return !local.isBefore(quietStart) && local.isBefore(quietEnd);
+        }
+        return !local.isBefore(quietStart) || local.isBefore(quietEnd);
+    }
+}
@@ -0,0 +1,106 @@
+package com.yaldi.domain.notification.repository;
+
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationDelivery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationDeliveryRepository extends JpaRepository<NotificationDelivery, Long> {
+
+    /**
+     * 채널에 아직 전달되지 않은 알림 (오래된 순)
+     */
+    @Query("""
+            SELECT n FROM Notification n, NotificationDelivery d
+            WHERE d.notificationKey = n.notificationKey
+              AND d.userKey = :userKey
+              AND d.channel = :channel
+              AND d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING
+            ORDER BY n.notificationKey ASC
+            """)
+    List<Notification> findPendingNotifications(Integer userKey, NotificationChannel channel, Pageable pageable);
+
+    /**
+     * 채널에 미전달 알림이 있는 사용자 (userKeys가 주어지면 그 중에서만)
+     */
+    @Query("""
+            SELECT DISTINCT d.userKey FROM NotificationDelivery d
+            WHERE d.channel = :channel
+              AND d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING
+              AND d.userKey IN :userKeys
+            """)
+    List<Integer> findUserKeysWithPending(Collection<Integer> userKeys, NotificationChannel channel);
+
+    @Query("""
+            SELECT DISTINCT d.userKey FROM NotificationDelivery d
+            WHERE d.channel = :channel
+              AND d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING
+            """)
+    List<Integer> findAllUserKeysWithPending(NotificationChannel channel);
+
+    /**
+     * PENDING → DELIVERED (다른 노드가 먼저 처리한 행은 제외되므로 반환값으로 선점 여부 확인)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationDelivery d
+            SET d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.DELIVERED,
+                d.deliveredAt = :deliveredAt,
+                d.attempts = d.attempts + 1
+            WHERE d.notificationKey IN :notificationKeys
+              AND d.channel = :channel
+              AND d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING
+            """)
+    int markDelivered(Collection<Long> notificationKeys, NotificationChannel channel, OffsetDateTime deliveredAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationDelivery d
+            SET d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.SKIPPED
+            WHERE d.notificationKey IN :notificationKeys
+              AND d.channel = :channel
+              AND d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING
+            """)
+    int markSkipped(Collection<Long> notificationKeys, NotificationChannel channel);
+
+    /**
+     * 전송 실패 시 선점 해제 (재시도 횟수 미만은 PENDING, 초과는 SKIPPED)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationDelivery d
+            SET d.status = CASE WHEN d.attempts >= :maxAttempts
+                    THEN com.yaldi.domain.notification.entity.NotificationDeliveryStatus.SKIPPED
+                    ELSE com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING END,
+                d.deliveredAt = NULL
+            WHERE d.notificationKey IN :notificationKeys
+              AND d.channel = :channel
+              AND d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.DELIVERED
+            """)
+    int release(Collection<Long> notificationKeys, NotificationChannel channel, int maxAttempts);
+
+    /**
+     * 묶음 알림이 갱신되면 모든 채널을 다시 전달 대기로
+     */
+    @Modifying
+    @Query("""
+            UPDATE NotificationDelivery d
+            SET d.status = com.yaldi.domain.notification.entity.NotificationDeliveryStatus.PENDING,
+                d.deliveredAt = NULL
+            WHERE d.notificationKey = :notificationKey
+            """)
+    int resetToPending(Long notificationKey);
+}
@@ -0,0 +1,9 @@
+package com.yaldi.domain.notification.repository;
+
+import com.yaldi.domain.notification.entity.NotificationPreference;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Integer> {
+}
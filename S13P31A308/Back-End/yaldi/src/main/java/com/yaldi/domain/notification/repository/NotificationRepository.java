@@ -1,13 +1,15 @@
 package com.yaldi.domain.notification.repository;
 
 import com.yaldi.domain.notification.entity.Notification;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Repository
@@ -36,4 +38,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     List<Notification> findByUserKeyAndTypeOrderByCreatedAtDesc(Integer userKey, String type);
 
+    /**
+     * 아직 열려 있는 묶음 알림 (동시 이벤트의 group_count 유실 방지를 위해 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Notification> findFirstByUserKeyAndGroupKeyAndReadAtIsNullAndGroupExpiresAtAfterOrderByNotificationKeyDesc(
+            Integer userKey, String groupKey, OffsetDateTime now);
+
+    /**
+     * SSE 재연결 시 Last-Event-ID 이후의 읽지 않은 알림
+     */
+    List<Notification> findByUserKeyAndNotificationKeyGreaterThanAndReadAtIsNullOrderByNotificationKeyAsc(
+            Integer userKey, Long afterKey, Pageable pageable);
 }
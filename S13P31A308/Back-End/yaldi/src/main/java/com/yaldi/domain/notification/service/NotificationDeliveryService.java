@@ -0,0 +1,194 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.config.NotificationProperties;
+import com.yaldi.domain.notification.dto.response.NotificationResponse;
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationConverter;
+import com.yaldi.domain.notification.entity.NotificationPreference;
+import com.yaldi.domain.notification.repository.NotificationDeliveryRepository;
+import com.yaldi.domain.notification.repository.NotificationPreferenceRepository;
+import com.yaldi.domain.notification.repository.NotificationRepository;
+import com.yaldi.domain.notification.sse.NotificationSseEmitterManager;
+import com.yaldi.global.async.AsyncBulkhead;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 SSE 전달 서비스
+ *
+ * <ul>
+ *   <li><strong>즉시 전달:</strong> 알림 저장 트랜잭션 커밋 후 알림 격벽에서 전송</li>
+ *   <li><strong>보류:</strong> 미접속, 방해 금지 시간대, 전송량 제한 초과 시 전달 대기(PENDING)로 유지</li>
+ *   <li><strong>재전송:</strong> 재연결(Last-Event-ID) 및 주기적 플러시에서 대기 알림을 한 번에 전송</li>
+ * </ul>
+ *
+ * <p>전달은 최소 1회 보장입니다. 전송 직후 상태 갱신 전에 실패하면 중복 전송될 수 있으므로
+ * 클라이언트는 이벤트 ID(notificationKey)로 중복을 제거합니다.</p>
+ */
+@Slf4j
+@Service
+public class NotificationDeliveryService {
+
+    static final String EVENT_NOTIFICATION = "notification";
+    static final String EVENT_BATCH = "notifications";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
+    private final NotificationSseEmitterManager notificationSseEmitterManager;
+    private final NotificationRateLimiter notificationRateLimiter;
+    private final NotificationProperties notificationProperties;
+    private final Clock clock;
+
+    @Autowired
+    public NotificationDeliveryService(NotificationRepository notificationRepository,
+                                       NotificationDeliveryRepository notificationDeliveryRepository,
+                                       NotificationPreferenceRepository notificationPreferenceRepository,
+                                       NotificationSseEmitterManager notificationSseEmitterManager,
+                                       NotificationRateLimiter notificationRateLimiter,
+                                       NotificationProperties notificationProperties) {
+        this(notificationRepository, notificationDeliveryRepository, notificationPreferenceRepository,
+                notificationSseEmitterManager, notificationRateLimiter, notificationProperties, Clock.systemUTC());
+    }
+
+    NotificationDeliveryService(NotificationRepository notificationRepository,
+                                NotificationDeliveryRepository notificationDeliveryRepository,
+                                NotificationPreferenceRepository notificationPreferenceRepository,
+                                NotificationSseEmitterManager notificationSseEmitterManager,
+                                NotificationRateLimiter notificationRateLimiter,
+                                NotificationProperties notificationProperties,
+                                Clock clock) {
+        this.notificationRepository = notificationRepository;
+        this.notificationDeliveryRepository = notificationDeliveryRepository;
+        this.notificationPreferenceRepository = notificationPreferenceRepository;
+        this.notificationSseEmitterManager = notificationSseEmitterManager;
+        this.notificationRateLimiter = notificationRateLimiter;
+        this.notificationProperties = notificationProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * 알림 생성/갱신 직후 전달 (커밋 후 호출)
+     */
+    @Async(AsyncBulkhead.NOTIFICATION_EXECUTOR)
+    public void deliver(Integer userKey) {
+        pushPending(userKey);
+    }
+
+    /**
+     * 전달 대기 알림 전송
+     *
+     * @return 전송한 알림 수 (보류되면 0)
+     */
+    public int pushPending(Integer userKey) {
+        if (!notificationSseEmitterManager.isConnected(userKey) || isQuiet(userKey)) {
+            return 0;
+        }
+        List<Notification> pending = notificationDeliveryRepository.findPendingNotifications(
+                userKey, NotificationChannel.SSE, PageRequest.of(0, notificationProperties.getReplayLimit()));
+        if (pending.isEmpty() || !notificationRateLimiter.tryAcquire(userKey)) {
+            return 0;
+        }
+        return send(userKey, pending, pending.stream().map(Notification::getNotificationKey).toList());
+    }
+
+    /**
+     * SSE 재연결 시 재전송
+     *
+     * <p>전달 대기 알림과, 마지막으로 받은 이벤트 이후 전송됐지만 끊긴 연결로 유실됐을 수 있는
+     * 읽지 않은 알림을 한 번의 배치 이벤트로 보냅니다. 방해 금지 시간대에는 보류합니다.</p>
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 notificationKey (첫 연결이면 null)
+     */
+    @Async(AsyncBulkhead.NOTIFICATION_EXECUTOR)
+    public void replay(Integer userKey, Long lastEventId) {
+        if (isQuiet(userKey)) {
+            return;
+        }
+        PageRequest limit = PageRequest.of(0, notificationProperties.getReplayLimit());
+        List<Notification> pending = notificationDeliveryRepository.findPendingNotifications(
+                userKey, NotificationChannel.SSE, limit);
+
+        Map<Long, Notification> replay = new TreeMap<>();
+        pending.forEach(notification -> replay.put(notification.getNotificationKey(), notification));
+        if (lastEventId != null) {
+            notificationRepository
+                    .findByUserKeyAndNotificationKeyGreaterThanAndReadAtIsNullOrderByNotificationKeyAsc(
+                            userKey, lastEventId, limit)
+                    .forEach(notification -> replay.putIfAbsent(notification.getNotificationKey(), notification));
+        }
+        if (replay.isEmpty()) {
+            return;
+        }
+
+        List<Notification> batch = new ArrayList<>(replay.values());
+        if (batch.size() > notificationProperties.getReplayLimit()) {
+            batch = batch.subList(0, notificationProperties.getReplayLimit());
+        }
+        // 배치에서 잘린 대기 알림은 PENDING으로 남겨 다음 플러시에서 전송
+        Set<Long> pendingKeys = pending.stream().map(Notification::getNotificationKey).collect(Collectors.toSet());
+        send(userKey, batch, batch.stream()
+                .map(Notification::getNotificationKey)
+                .filter(pendingKeys::contains)
+                .toList());
+    }
+
+    /**
+     * 이 노드에 접속한 사용자의 보류 알림 전송 (방해 금지 종료, 전송량 제한 해제 후 전달)
+     */
+    @Scheduled(fixedDelayString = "${notification.flush-interval-ms:30000}")
+    public void flushPending() {
+        notificationRateLimiter.evictExpired();
+        Set<Integer> connected = notificationSseEmitterManager.connectedUsers();
+        if (connected.isEmpty()) {
+            return;
+        }
+        for (Integer userKey : notificationDeliveryRepository.findUserKeysWithPending(
+                connected, NotificationChannel.SSE)) {
+            try {
+                pushPending(userKey);
+            } catch (Exception e) {
+                log.warn("보류 알림 전송 실패 - userKey={}, error={}", userKey, e.getMessage());
+            }
+        }
+    }
+
+    private int send(Integer userKey, List<Notification> notifications, List<Long> pendingKeys) {
+        boolean sent;
+        Long lastKey = notifications.get(notifications.size() - 1).getNotificationKey();
+        if (notifications.size() == 1) {
+            sent = notificationSseEmitterManager.send(userKey, EVENT_NOTIFICATION, lastKey,
+                    NotificationConverter.toResponse(notifications.get(0)));
+        } else {
+            List<NotificationResponse> batch = NotificationConverter.toResponseList(notifications);
+            sent = notificationSseEmitterManager.send(userKey, EVENT_BATCH, lastKey, batch);
+        }
+        if (!sent) {
+            return 0;
+        }
+        if (!pendingKeys.isEmpty()) {
+            notificationDeliveryRepository.markDelivered(pendingKeys, NotificationChannel.SSE, OffsetDateTime.now(clock));
+        }
+        return notifications.size();
+    }
+
+    private boolean isQuiet(Integer userKey) {
+        return notificationPreferenceRepository.findById(userKey)
+                .orElseGet(() -> NotificationPreference.defaults(userKey))
+                .isQuietAt(clock.instant());
+    }
+}
@@ -0,0 +1,151 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.config.NotificationProperties;
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationPreference;
+import com.yaldi.domain.notification.repository.NotificationDeliveryRepository;
+import com.yaldi.domain.notification.repository.NotificationPreferenceRepository;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.domain.user.repository.UserRepository;
+import com.yaldi.global.mail.MailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 알림 일일 다이제스트 메일 서비스
+ *
+ * <p>MAIL_DIGEST 채널이 전달 대기인 읽지 않은 알림을 사용자별로 모아 메일 격벽에서 한 통으로 보냅니다.</p>
+ * <ul>
+ *   <li>다이제스트를 끈 사용자, 이미 읽은 알림은 SKIPPED 처리</li>
+ *   <li>알림별 조건부 업데이트(PENDING → DELIVERED)로 선점하여 여러 노드에서 실행돼도 한 번만 발송</li>
+ *   <li>발송 실패 시 선점을 해제하고, digest-max-attempts 회 실패하면 SKIPPED</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class NotificationDigestService {
+
+    private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
+    private final UserRepository userRepository;
+    private final MailService mailService;
+    private final NotificationProperties notificationProperties;
+    private final Clock clock;
+
+    @Autowired
+    public NotificationDigestService(NotificationDeliveryRepository notificationDeliveryRepository,
+                                     NotificationPreferenceRepository notificationPreferenceRepository,
+                                     UserRepository userRepository,
+                                     MailService mailService,
+                                     NotificationProperties notificationProperties) {
+        this(notificationDeliveryRepository, notificationPreferenceRepository, userRepository, mailService,
+                notificationProperties, Clock.systemUTC());
+    }
+
+    NotificationDigestService(NotificationDeliveryRepository notificationDeliveryRepository,
+                              NotificationPreferenceRepository notificationPreferenceRepository,
+                              UserRepository userRepository,
+                              MailService mailService,
+                              NotificationProperties notificationProperties,
+                              Clock clock) {
+        this.notificationDeliveryRepository = notificationDeliveryRepository;
+        this.notificationPreferenceRepository = notificationPreferenceRepository;
+        this.userRepository = userRepository;
+        this.mailService = mailService;
+        this.notificationProperties = notificationProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * 매일 오전 9시 (KST) 다이제스트 발송
+     */
+    @Scheduled(cron = "${notification.digest-cron:0 0 9 * * *}", zone = "Asia/Seoul")
+    public void sendDailyDigests() {
+        List<Integer> userKeys = notificationDeliveryRepository.findAllUserKeysWithPending(NotificationChannel.MAIL_DIGEST);
+        log.info("알림 다이제스트 시작 - 대상 사용자 {}명", userKeys.size());
+        for (Integer userKey : userKeys) {
+            try {
+                sendDigest(userKey);
+            } catch (Exception e) {
+                log.warn("알림 다이제스트 실패 - userKey={}, error={}", userKey, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 사용자 한 명의 다이제스트 발송
+     *
+     * @return 발송 요청한 메일 (대상이 없으면 완료된 false)
+     */
+    public CompletableFuture<Boolean> sendDigest(Integer userKey) {
+        List<Notification> pending = notificationDeliveryRepository.findPendingNotifications(
+                userKey, NotificationChannel.MAIL_DIGEST, PageRequest.of(0, notificationProperties.getDigestMaxItems()));
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        NotificationPreference preference = notificationPreferenceRepository.findById(userKey)
+                .orElseGet(() -> NotificationPreference.defaults(userKey));
+        Optional<User> user = userRepository.findById(userKey).filter(found -> !found.isDeleted());
+        if (!preference.getDigestEnabled() || user.isEmpty()) {
+            skip(pending);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // 앱에서 이미 읽은 알림은 메일로 다시 알리지 않음
+        skip(pending.stream().filter(notification -> notification.getReadAt() != null).toList());
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<Notification> claimed = new ArrayList<>();
+        for (Notification notification : pending) {
+            if (notification.getReadAt() == null && notificationDeliveryRepository.markDelivered(
+                    List.of(notification.getNotificationKey()), NotificationChannel.MAIL_DIGEST, now) == 1) {
+                claimed.add(notification);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        List<Long> claimedKeys = claimed.stream().map(Notification::getNotificationKey).toList();
+        List<String> items = claimed.stream()
+                .sorted(Comparator.comparing(Notification::getNotificationKey).reversed())
+                .map(NotificationDigestService::describe)
+                .toList();
+
+        return mailService.sendNotificationDigest(user.get().getEmail(), user.get().getNickname(), items)
+                .exceptionally(e -> false)
+                .thenApply(sent -> {
+                    if (!Boolean.TRUE.equals(sent)) {
+                        notificationDeliveryRepository.release(
+                                claimedKeys, NotificationChannel.MAIL_DIGEST, notificationProperties.getDigestMaxAttempts());
+                    }
+                    return Boolean.TRUE.equals(sent);
+                });
+    }
+
+    static String describe(Notification notification) {
+        int count = notification.getGroupCount() != null ? notification.getGroupCount() : 1;
+        String text = "[" + notification.getType() + "] " + notification.getContent();
+        return count > 1 ? text + " (" + count + "건)" : text;
+    }
+
+    private void skip(List<Notification> notifications) {
+        if (!notifications.isEmpty()) {
+            notificationDeliveryRepository.markSkipped(
+                    notifications.stream().map(Notification::getNotificationKey).toList(), NotificationChannel.MAIL_DIGEST);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.dto.request.NotificationPreferenceRequest;
+import com.yaldi.domain.notification.dto.response.NotificationPreferenceResponse;
+import com.yaldi.domain.notification.entity.NotificationPreference;
+import com.yaldi.domain.notification.repository.NotificationPreferenceRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+/**
+ * 사용자 알림 설정 (방해 금지 시간대, 다이제스트 수신)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationPreferenceService {
+
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
+
+    public NotificationPreferenceResponse getPreference(Integer userKey) {
+        return NotificationPreferenceResponse.from(notificationPreferenceRepository.findById(userKey)
+                .orElseGet(() -> NotificationPreference.defaults(userKey)));
+    }
+
+    @Transactional
+    public NotificationPreferenceResponse updatePreference(Integer userKey, NotificationPreferenceRequest request) {
+        if ((request.quietStart() == null) != (request.quietEnd() == null)) {
+            throw new GeneralException(ErrorStatus.NOTIFICATION_INVALID_PREFERENCE);
+        }
+        if (request.timeZone() != null) {
+            try {
+                ZoneId.of(request.timeZone());
+            } catch (DateTimeException e) {
+                throw new GeneralException(ErrorStatus.NOTIFICATION_INVALID_PREFERENCE);
+            }
+        }
+
+        NotificationPreference preference = notificationPreferenceRepository.findById(userKey)
+                .orElseGet(() -> notificationPreferenceRepository.save(NotificationPreference.defaults(userKey)));
+        preference.update(request.quietStart(), request.quietEnd(), request.timeZone(), request.digestEnabled());
+        return NotificationPreferenceResponse.from(preference);
+    }
+}
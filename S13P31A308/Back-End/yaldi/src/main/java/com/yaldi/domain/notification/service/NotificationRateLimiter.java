@@ -0,0 +1,67 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.config.NotificationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 실시간 푸시 횟수 제한 (고정 윈도우, 노드 로컬)
+ *
+ * <p>SSE 연결이 노드에 묶여 있으므로 노드 로컬 카운터로 충분합니다.
+ * 제한을 넘긴 알림은 버리지 않고 전달 대기로 남아 다음 플러시에 묶여서 전송됩니다.</p>
+ */
+@Component
+public class NotificationRateLimiter {
+
+    private final NotificationProperties notificationProperties;
+    private final Clock clock;
+    private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NotificationRateLimiter(NotificationProperties notificationProperties) {
+        this(notificationProperties, Clock.systemUTC());
+    }
+
+    NotificationRateLimiter(NotificationProperties notificationProperties, Clock clock) {
+        this.notificationProperties = notificationProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * 푸시 1회 허용 여부 (허용 시 카운트 차감)
+     */
+    public boolean tryAcquire(Integer userKey) {
+        long now = clock.millis();
+        long windowMillis = notificationProperties.getPushRateWindow().toMillis();
+        int limit = notificationProperties.getPushRateLimit();
+
+        boolean[] acquired = new boolean[1];
+        windows.compute(userKey, (key, window) -> {
+            Window current = window == null || now - window.startedAt >= windowMillis
+                    ? new Window(now, 0)
+                    : window;
+            if (current.count < limit) {
+                acquired[0] = true;
+                return new Window(current.startedAt, current.count + 1);
+            }
+            return current;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 윈도우가 지난 사용자 정리 (플러시 주기마다 호출)
+     */
+    void evictExpired() {
+        long now = clock.millis();
+        long windowMillis = notificationProperties.getPushRateWindow().toMillis();
+        windows.values().removeIf(window -> now - window.startedAt >= windowMillis);
+    }
+
+    private record Window(long startedAt, int count) {
+    }
+}
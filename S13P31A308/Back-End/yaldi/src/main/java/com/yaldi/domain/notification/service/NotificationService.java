@@ -1,41 +1,117 @@
 package com.yaldi.domain.notification.service;
 
+import com.yaldi.domain.notification.config.NotificationProperties;
+import com.yaldi.domain.notification.entity.NotificationChannel;
 import com.yaldi.domain.notification.entity.NotificationConverter;
 import com.yaldi.domain.notification.dto.response.NotificationResponse;
 import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationDelivery;
+import com.yaldi.domain.notification.repository.NotificationDeliveryRepository;
 import com.yaldi.domain.notification.repository.NotificationRepository;
-import com.yaldi.domain.notification.sse.NotificationSseEmitterManager;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 
 import com.yaldi.domain.team.entity.UserTeamActionType;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 알림 생성 / 조회 서비스
+ *
+ * <p>묶음 규칙({@code notification.grouping-windows})이 있는 타입은 같은 범위의 이벤트를
+ * 열린 묶음 알림 하나로 합칩니다. (예: "프로젝트 X에서 멘션 5건")
+ * 저장 시 채널별 전달 상태를 함께 만들고, 커밋 후 {@link NotificationDeliveryService}가 전송합니다.</p>
+ */
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final NotificationSseEmitterManager notificationSseEmitterManager;
+    private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final NotificationDeliveryService notificationDeliveryService;
+    private final NotificationProperties notificationProperties;
+    private final Clock clock;
+
+    @Autowired
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationDeliveryRepository notificationDeliveryRepository,
+                               NotificationDeliveryService notificationDeliveryService,
+                               NotificationProperties notificationProperties) {
+        this(notificationRepository, notificationDeliveryRepository, notificationDeliveryService,
+                notificationProperties, Clock.systemUTC());
+    }
+
+    NotificationService(NotificationRepository notificationRepository,
+                        NotificationDeliveryRepository notificationDeliveryRepository,
+                        NotificationDeliveryService notificationDeliveryService,
+                        NotificationProperties notificationProperties,
+                        Clock clock) {
+        this.notificationRepository = notificationRepository;
+        this.notificationDeliveryRepository = notificationDeliveryRepository;
+        this.notificationDeliveryService = notificationDeliveryService;
+        this.notificationProperties = notificationProperties;
+        this.clock = clock;
+    }
 
     /**
      * 알림 생성 및 SSE 푸시
      */
     @Transactional
     public void notifyUser(Integer userKey, String type, String content, Long target) {
-        Notification entity = Notification.builder()
-                .userKey(userKey)
-                .type(type)
-                .target(target)
-                .content(content)
-                .build();
+        notifyUser(userKey, type, content, target, null);
+    }
+
+    /**
+     * 알림 생성 및 SSE 푸시 (묶음 범위 지정)
+     *
+     * @param scopeKey 묶음 범위 (예: 프로젝트 키), null이면 타입 단위로 묶음
+     * @return 생성되었거나 이벤트가 합쳐진 알림
+     */
+    @Transactional
+    public Notification notifyUser(Integer userKey, String type, String content, Long target, Long scopeKey) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        Duration window = notificationProperties.getGroupingWindows().get(type);
+        String groupKey = window != null ? groupKey(type, scopeKey) : null;
+
+        Optional<Notification> open = groupKey == null
+                ? Optional.empty()
+                : notificationRepository
+                        .findFirstByUserKeyAndGroupKeyAndReadAtIsNullAndGroupExpiresAtAfterOrderByNotificationKeyDesc(
+                                userKey, groupKey, now);
+
+        Notification notification;
+        if (open.isPresent()) {
+            notification = open.get();
+            notification.absorb(content, target, now);
+            notificationDeliveryRepository.resetToPending(notification.getNotificationKey());
+        } else {
+            Notification created = notificationRepository.save(Notification.builder()
+                    .userKey(userKey)
+                    .type(type)
+                    .target(target)
+                    .content(content)
+                    .groupKey(groupKey)
+                    .lastEventAt(now)
+                    .groupExpiresAt(window != null ? now.plus(window) : null)
+                    .build());
+            notificationDeliveryRepository.saveAll(Arrays.stream(NotificationChannel.values())
+                    .map(channel -> NotificationDelivery.pending(created, channel))
+                    .toList());
+            notification = created;
+        }
 
-        notificationRepository.save(entity);
-        notificationSseEmitterManager.sendToUser(userKey, entity);
+        dispatchAfterCommit(userKey);
+        return notification;
     }
 
     @Transactional
@@ -58,4 +134,36 @@ public class NotificationService {
         return notificationRepository.findByTypeAndUserKeyAndTarget(type,
                 userKey, target).orElseThrow(() -> new GeneralException(ErrorStatus.NOTIFICATION_NOT_FOUND));
     }
+
+    /**
+     * 알림을 읽음 처리하고 종류를 바꿈 (이미 바뀌었거나 없으면 무시 — 초대 수락/거절 재요청 등 멱등 처리용)
+     */
+    @Transactional
+    public void resolveNotification(String type, Integer userKey, Long target, String resolvedType) {
+        notificationRepository.findByTypeAndUserKeyAndTarget(type, userKey, target)
+                .ifPresent(notification -> {
+                    notification.markAsRead();
+                    notification.changeType(resolvedType);
+                });
+    }
+
+    static String groupKey(String type, Long scopeKey) {
+        return type + ":" + (scopeKey != null ? scopeKey : "*");
+    }
+
+    /**
+     * 롤백된 알림이 전송되지 않도록 커밋 후 전달
+     */
+    private void dispatchAfterCommit(Integer userKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationDeliveryService.deliver(userKey);
+                }
+            });
+        } else {
+            notificationDeliveryService.deliver(userKey);
+        }
+    }
 }
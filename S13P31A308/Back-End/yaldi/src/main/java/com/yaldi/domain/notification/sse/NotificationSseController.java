@@ -1,8 +1,10 @@
 package com.yaldi.domain.notification.sse;
 
+import com.yaldi.domain.notification.service.NotificationDeliveryService;
 import com.yaldi.infra.security.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -13,12 +15,29 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationSseController {
 
     private final NotificationSseEmitterManager notificationSseEmitterManager;
+    private final NotificationDeliveryService notificationDeliveryService;
 
     /**
      * 사용자 SSE 연결
+     *
+     * <p>재연결 시 브라우저가 보내는 Last-Event-ID 이후의 미전달 알림을 다시 보냅니다.</p>
      */
     @GetMapping("/stream")
-    public SseEmitter connect() {
-        return notificationSseEmitterManager.createEmitter(SecurityUtil.getCurrentUserKey());
+    public SseEmitter connect(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        SseEmitter emitter = notificationSseEmitterManager.createEmitter(userKey);
+        notificationDeliveryService.replay(userKey, parseEventId(lastEventId));
+        return emitter;
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
@@ -6,8 +6,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 사용자별 SSE 연결 관리
+ *
+ * <p>전송은 호출 스레드에서 동기로 수행합니다. 요청 스레드가 붙잡히지 않도록
+ * {@code NotificationDeliveryService}가 알림 격벽에서 호출합니다.</p>
+ */
 @Slf4j
 @Component
 public class NotificationSseEmitterManager {
@@ -19,28 +26,47 @@ public class NotificationSseEmitterManager {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
         emitters.put(userKey, emitter);
 
-        emitter.onCompletion(() -> emitters.remove(userKey));
-        emitter.onTimeout(() -> emitters.remove(userKey));
+        // 재연결로 교체된 새 연결을 지우지 않도록 자기 자신일 때만 제거
+        emitter.onCompletion(() -> emitters.remove(userKey, emitter));
+        emitter.onTimeout(() -> emitters.remove(userKey, emitter));
         emitter.onError(e -> {
             log.warn("SSE connection error for user {}: {}", userKey, e.getMessage());
-            emitters.remove(userKey);
+            emitters.remove(userKey, emitter);
         });
 
         log.info("SSE connected for user {}", userKey);
         return emitter;
     }
 
-    public void sendToUser(Integer userKey, Object data) {
+    public boolean isConnected(Integer userKey) {
+        return emitters.containsKey(userKey);
+    }
+
+    public Set<Integer> connectedUsers() {
+        return Set.copyOf(emitters.keySet());
+    }
+
+    /**
+     * SSE 전송
+     *
+     * @param id 이벤트 ID (재연결 시 Last-Event-ID로 돌아옴)
+     * @return 전송 성공 여부 (연결 없음/끊김이면 false)
+     */
+    public boolean send(Integer userKey, String eventName, Long id, Object data) {
         SseEmitter emitter = emitters.get(userKey);
         if (emitter == null) {
-            return;
+            return false;
         }
         try {
-            emitter.send(SseEmitter.event()
-                    .name("notification")
-                    .data(data));
-        } catch (IOException e) {
-            emitters.remove(userKey);
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName).data(data);
+            if (id != null) {
+                event.id(String.valueOf(id));
+            }
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(userKey, emitter);
+            return false;
         }
     }
 }
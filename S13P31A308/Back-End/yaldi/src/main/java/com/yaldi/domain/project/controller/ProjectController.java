@@ -10,6 +10,8 @@ import com.yaldi.domain.project.dto.response.ProjectMemberResponse;
 import com.yaldi.domain.project.dto.response.ProjectResponse;
 import com.yaldi.domain.project.service.ProjectMemberService;
 import com.yaldi.domain.project.service.ProjectService;
+import com.yaldi.domain.team.dto.response.ProjectAccessSnapshotResponse;
+import com.yaldi.domain.team.service.TeamMembershipHistoryService;
 import com.yaldi.global.response.ApiResponse;
 import com.yaldi.global.response.PageResponse;
 import com.yaldi.infra.security.util.SecurityUtil;
@@ -24,9 +26,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Tag(name="Project", description = "프로젝트 관리 API")
@@ -39,6 +48,7 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final ProjectMemberService projectMemberService;
+    private final TeamMembershipHistoryService membershipHistoryService;
 
     @Operation(summary = "프로젝트 생성", description = "새로운 프로젝트를 생성합니다")
     @PostMapping
@@ -234,4 +244,38 @@ public class ProjectController {
         Page<ProjectMemberHistoryResponse> page = projectMemberService.getProjectMemberHistory(projectKey, pageable);
         return ApiResponse.onSuccess(PageResponse.of(page));
     }
+
+    @Operation(summary = "특정 시점의 프로젝트 접근 권한 보유자 조회",
+            description = "멤버십 이벤트 로그를 재생해 지정한 시점에 프로젝트 소속 팀의 멤버였던 사용자를 조회합니다. 팀 오너만 조회 가능합니다")
+    @GetMapping("/{projectKey}/access")
+    public ApiResponse<ProjectAccessSnapshotResponse> getProjectAccessAt(
+            @Parameter(description = "프로젝트 ID", required = true)
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey,
+            @Parameter(description = "조회 시점 (ISO-8601)", example = "2025-11-15T00:00:00+09:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime at
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        return ApiResponse.onSuccess(membershipHistoryService.getProjectAccessAt(userKey, projectKey, at));
+    }
+
+    @Operation(summary = "프로젝트 접근 리포트 내보내기",
+            description = "프로젝트 생성 이후 접근 권한을 가졌던 사용자별 접근 구간을 CSV로 내려받습니다. 팀 오너만 가능합니다")
+    @GetMapping("/{projectKey}/access/report")
+    public ResponseEntity<byte[]> exportProjectAccessReport(
+            @Parameter(description = "프로젝트 ID", required = true)
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        String csv = membershipHistoryService.exportProjectAccessReport(userKey, projectKey);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("project-" + projectKey + "-access-report.csv")
+                .build();
+
+        // 스프레드시트에서 한글이 깨지지 않도록 UTF-8 BOM 포함
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(("\uFEFF" + csv).getBytes(StandardCharsets.UTF_8));
+    }
 }
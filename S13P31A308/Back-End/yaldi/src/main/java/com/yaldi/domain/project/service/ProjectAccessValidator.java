@@ -1,12 +1,11 @@
 package com.yaldi.domain.project.service;
 
 import com.yaldi.domain.project.entity.ProjectMemberRole;
-import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,7 +16,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProjectAccessValidator {
 
-    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final AuthorizationCache authorizationCache;
 
     /**
      * 사용자가 프로젝트 멤버인지 검증
@@ -27,7 +26,7 @@ public class ProjectAccessValidator {
      * @throws GeneralException 멤버가 아닌 경우 PROJECT_FORBIDDEN
      */
     public void validateProjectAccess(Long projectKey, Integer userKey) {
-        if (!projectMemberRelationRepository.existsByProjectKeyAndMemberKey(projectKey, userKey)) {
+        if (!isProjectMember(projectKey, userKey)) {
             log.warn("Unauthorized project access attempt: projectKey={}, userKey={}", projectKey, userKey);
             throw new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
         }
@@ -41,33 +40,31 @@ public class ProjectAccessValidator {
      * @return 멤버 여부
      */
     public boolean isProjectMember(Long projectKey, Integer userKey) {
-        return projectMemberRelationRepository.existsByProjectKeyAndMemberKey(projectKey, userKey);
+        return authorizationCache.getProjectRole(projectKey, userKey).isPresent();
     }
 
     /**
-     * 프로젝트 멤버의 역할 조회 (Redis 캐싱 적용)
+     * 프로젝트 멤버의 역할 조회 (2계층 권한 캐시 적용)
      *
      * <p>JWT에는 최소한의 정보(userId, email)만 포함하고, 권한은 매번 조회합니다.
-     * 하지만 매 요청마다 DB 조회하면 병목 현상이 발생하므로 Redis 캐싱을 적용합니다.</p>
+     * 매 요청마다 DB를 조회하지 않도록 {@link AuthorizationCache}(로컬 Caffeine + Redis)를 사용합니다.</p>
      *
      * <h3>캐싱 전략:</h3>
      * <ul>
-     *   <li><strong>Cache Name:</strong> project:member:role</li>
-     *   <li><strong>Cache Key:</strong> projectKey:userKey (예: 123:456)</li>
-     *   <li><strong>TTL:</strong> 5분 (권한 변경 시 최대 5분 후 반영)</li>
-     *   <li><strong>Eviction:</strong> 권한 변경 시 수동으로 캐시 무효화 필요 (@CacheEvict)</li>
+     *   <li><strong>단위:</strong> 사용자별 멤버십 전체 스냅샷 (authz:user:{userKey})</li>
+     *   <li><strong>로컬 TTL:</strong> 5초, <strong>Redis TTL:</strong> 5분</li>
+     *   <li><strong>Eviction:</strong> 멤버십 변경 시 커밋 이후 pub/sub으로 전 노드 무효화</li>
      * </ul>
      *
      * <h3>성능 개선:</h3>
      * <pre>
-     * [Before - DB 매번 조회]
+     * [Before - Redis 캐시 (@Cacheable)]
      * WebSocket 메시지 100건 수신 시:
-     * → DB Connection 100회 발생
+     * → Redis 왕복 100회, 권한 변경은 최대 5분 후 반영
      *
-     * [After - Redis 캐싱]
+     * [After - 로컬 + Redis 캐시]
      * WebSocket 메시지 100건 수신 시:
-     * → DB Connection 1회 발생 (첫 요청만)
-     * → 나머지 99건은 Redis에서 조회 (평균 0.5ms)
+     * → Redis 왕복 최대 1회 (로컬 TTL 내 재사용), 권한 변경은 무효화 메시지 도착 즉시 반영
      * </pre>
      *
      * @param projectKey 프로젝트 ID
@@ -75,14 +72,8 @@ public class ProjectAccessValidator {
      * @return 프로젝트 멤버 역할 (OWNER, EDITOR, ADMIN)
      * @throws GeneralException 프로젝트 멤버가 아닌 경우 PROJECT_FORBIDDEN
      */
-    @Cacheable(
-        value = "project:member:role",
-        key = "#projectKey + ':' + #userKey",
-        unless = "#result == null"
-    )
     public ProjectMemberRole getMemberRole(Long projectKey, Integer userKey) {
-        return projectMemberRelationRepository.findByProjectKeyAndMemberKey(projectKey, userKey)
-                .map(relation -> relation.getRole())
+        return authorizationCache.getProjectRole(projectKey, userKey)
                 .orElseThrow(() -> {
                     log.warn("User is not a member of project: projectKey={}, userKey={}", projectKey, userKey);
                     return new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
@@ -14,6 +14,7 @@ import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -40,6 +41,7 @@ public class ProjectMemberService {
     private final ProjectMemberHistoryRepository projectMemberHistoryRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final AuthorizationCache authorizationCache;
 
     /**
      * 프로젝트 멤버 목록 조회 (페이징)
@@ -151,6 +153,7 @@ public class ProjectMemberService {
                 .build();
 
         newMember = projectMemberRelationRepository.save(newMember);
+        authorizationCache.evictUser(memberToAdd.memberKey());
         Project project = projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
@@ -216,6 +219,7 @@ public class ProjectMemberService {
         // 역할 변경
         targetRelation.changeRole(request.role());
         targetRelation = projectMemberRelationRepository.save(targetRelation);
+        authorizationCache.evictUser(memberKey);
 
         // 이력 저장
         ProjectMemberHistory history = ProjectMemberHistory.builder()
@@ -268,6 +272,7 @@ public class ProjectMemberService {
 
         targetRelation.changeRole(ProjectMemberRole.OWNER);
         requesterRelation.changeRole(ProjectMemberRole.EDITOR);
+        authorizationCache.evictUsers(List.of(userKey, targetKey));
 
         Project project = projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
@@ -302,6 +307,7 @@ public class ProjectMemberService {
 
         // 멤버 삭제
         projectMemberRelationRepository.delete(memberRelation);
+        authorizationCache.evictUser(userKey);
 
         // 이력 저장
         ProjectMemberHistory history = ProjectMemberHistory.builder()
@@ -348,6 +354,7 @@ public class ProjectMemberService {
 
         // 멤버 삭제
         projectMemberRelationRepository.delete(targetRelation);
+        authorizationCache.evictUser(memberKey);
 
         // 이력 저장 (강제 추방)
         ProjectMemberHistory history = ProjectMemberHistory.builder()
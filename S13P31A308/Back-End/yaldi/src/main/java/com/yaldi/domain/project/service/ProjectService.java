@@ -10,9 +10,9 @@ import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
 import com.yaldi.domain.project.repository.ProjectRepository;
 import com.yaldi.domain.team.entity.Team;
 import com.yaldi.domain.team.repository.TeamRepository;
-import com.yaldi.domain.team.repository.UserTeamRelationRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,7 +35,7 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRelationRepository projectMemberRelationRepository;
     private final TeamRepository teamRepository;
-    private final UserTeamRelationRepository userTeamRelationRepository;
+    private final AuthorizationCache authorizationCache;
 
     /**
      * 프로젝트 생성
@@ -50,7 +51,7 @@ public class ProjectService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_NOT_FOUND));
 
         // 사용자가 해당 팀의 멤버인지 확인
-        if (!userTeamRelationRepository.existsByUser_UserKeyAndTeam_TeamKey(userKey, request.teamKey())) {
+        if (!authorizationCache.isTeamMember(userKey, request.teamKey())) {
             throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
         }
 
@@ -72,6 +73,7 @@ public class ProjectService {
                 .build();
 
         projectMemberRelationRepository.save(ownerRelation);
+        authorizationCache.evictUser(userKey);
 
         // 팀 소유자를 프로젝트에 ADMIN으로 자동 추가 (생성자와 다른 경우에만)
         Integer teamOwnerId = team.getOwner().getUserKey();
@@ -83,6 +85,7 @@ public class ProjectService {
                     .build();
 
             projectMemberRelationRepository.save(adminRelation);
+            authorizationCache.evictUser(teamOwnerId);
 
             log.info("Team owner added as ADMIN: projectKey={}, teamOwner={}",
                     project.getProjectKey(), teamOwnerId);
@@ -130,21 +133,17 @@ public class ProjectService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_NOT_FOUND));
 
         // 사용자가 해당 팀의 멤버인지 확인
-        if (!userTeamRelationRepository.existsByUser_UserKeyAndTeam_TeamKey(userKey, teamKey)) {
+        if (!authorizationCache.isTeamMember(userKey, teamKey)) {
             throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
         }
 
         Page<Project> projectsPage = projectRepository.findByTeamKey(teamKey, pageable);
 
-        return projectsPage.map(project -> {
-            // 각 프로젝트에서 사용자의 역할 조회
-            ProjectMemberRole role = projectMemberRelationRepository
-                    .findByProjectKeyAndMemberKey(project.getProjectKey(), userKey)
-                    .map(ProjectMemberRelation::getRole)
-                    .orElse(null);
+        // 각 프로젝트에서 사용자의 역할 조회 (권한 캐시 일괄 조회)
+        Map<Long, ProjectMemberRole> roleMap = authorizationCache.getProjectRoles(userKey,
+                projectsPage.getContent().stream().map(Project::getProjectKey).toList());
 
-            return ProjectResponse.from(project, role);
-        });
+        return projectsPage.map(project -> ProjectResponse.from(project, roleMap.get(project.getProjectKey())));
     }
 
     /**
@@ -159,21 +158,12 @@ public class ProjectService {
         // Project를 직접 페이징하여 lastActivityAt 정렬 적용
         Page<Project> projectsPage = projectRepository.findByMemberKey(userKey, pageable);
 
-        // 각 프로젝트에 대한 사용자 역할 조회 (배치 조회)
+        // 각 프로젝트에 대한 사용자 역할 조회 (권한 캐시 일괄 조회)
         List<Long> projectKeys = projectsPage.getContent().stream()
                 .map(Project::getProjectKey)
                 .collect(Collectors.toList());
 
-        // 해당 사용자의 프로젝트별 역할만 조회
-        java.util.Map<Long, ProjectMemberRole> roleMap = new java.util.HashMap<>();
-        if (!projectKeys.isEmpty()) {
-            List<ProjectMemberRelation> relations = projectMemberRelationRepository
-                    .findByMemberKeyAndProjectKeyIn(userKey, projectKeys);
-
-            for (ProjectMemberRelation relation : relations) {
-                roleMap.put(relation.getProjectKey(), relation.getRole());
-            }
-        }
+        Map<Long, ProjectMemberRole> roleMap = authorizationCache.getProjectRoles(userKey, projectKeys);
 
         return projectsPage.map(project -> {
             ProjectMemberRole role = roleMap.get(project.getProjectKey());
@@ -274,11 +264,16 @@ public class ProjectService {
             throw new GeneralException(ErrorStatus.PROJECT_PERMISSION_DENIED);
         }
 
+        List<Integer> memberKeys = projectMemberRelationRepository.findByProjectKey(projectKey).stream()
+                .map(ProjectMemberRelation::getMemberKey)
+                .toList();
+
         // Hard Delete
         // DB의 ON DELETE CASCADE 덕분에 관련된 모든 데이터가 자동으로 삭제됨:
         // - project_member_relations (CASCADE)
         // - 그 외 soft delete 데이터는 남아있지만 스케줄러가 정리함
         projectRepository.delete(project);
+        authorizationCache.evictUsers(memberKeys);
 
         log.warn("Project FORCE deleted (HARD DELETE): projectKey={}, deletedBy={}", projectKey, userKey);
     }
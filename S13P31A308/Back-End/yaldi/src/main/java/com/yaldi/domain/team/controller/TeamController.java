@@ -14,9 +14,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Tag(name = "Team", description = "팀 관리 API")
@@ -104,6 +106,20 @@ public class TeamController {
     }
 
 
+    @Operation(summary = "특정 시점의 팀 멤버 조회", description = "멤버십 이벤트 로그를 재생해 지정한 시점의 팀 멤버를 조회합니다. 팀 오너만 조회 가능합니다")
+    @GetMapping("/{teamKey}/members/snapshot")
+    public ApiResponse<TeamMembershipSnapshotResponse> getTeamMembersAt(
+            @Parameter(description = "팀 Key", example = "1")
+            @PathVariable Integer teamKey,
+            @Parameter(description = "조회 시점 (ISO-8601)", example = "2025-11-15T00:00:00+09:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime at
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        TeamMembershipSnapshotResponse response = teamService.getTeamMembersAt(userKey, teamKey, at);
+
+        return ApiResponse.onSuccess(response);
+    }
+
     @Operation(summary = "팀 멤버 방출", description = "팀 멤버를 방출합니다(오너 권한)")
     @DeleteMapping("/{teamKey}/members/{targetUserKey}")
     public ApiResponse<String> expelTeamMember(
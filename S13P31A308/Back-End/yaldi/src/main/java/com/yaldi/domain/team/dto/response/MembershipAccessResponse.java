@@ -0,0 +1,38 @@
+package com.yaldi.domain.team.dto.response;
+
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
+import com.yaldi.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Schema(description = "특정 시점의 접근 권한 보유자")
+public record MembershipAccessResponse(
+
+        @Schema(description = "유저 Key", example = "2")
+        Integer userKey,
+
+        @Schema(description = "유저 닉네임 (탈퇴한 사용자는 null)", example = "지현")
+        String nickname,
+
+        @Schema(description = "유저 이메일 (탈퇴한 사용자는 null)", example = "user@example.com")
+        String email,
+
+        @Schema(description = "접근 시작 시각", example = "2025-11-01T10:30:00+09:00")
+        OffsetDateTime accessFrom,
+
+        @Schema(description = "접근 권한을 얻은 경로", example = "INVITE_ACCEPTED")
+        TeamMembershipEventType grantedBy
+) {
+
+    public static MembershipAccessResponse of(Integer userKey, User user, OffsetDateTime accessFrom,
+                                              TeamMembershipEventType grantedBy) {
+        return new MembershipAccessResponse(
+                userKey,
+                user != null ? user.getNickname() : null,
+                user != null ? user.getEmail() : null,
+                accessFrom,
+                grantedBy
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.yaldi.domain.team.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Schema(description = "특정 시점에 프로젝트(소속 팀)에 접근할 수 있었던 사용자 목록")
+public record ProjectAccessSnapshotResponse(
+
+        @Schema(description = "프로젝트 Key", example = "1")
+        Long projectKey,
+
+        @Schema(description = "프로젝트 소속 팀 Key", example = "1")
+        Integer teamKey,
+
+        @Schema(description = "조회 시점", example = "2025-11-15T00:00:00+09:00")
+        OffsetDateTime at,
+
+        @Schema(description = "조회 시점에 접근 가능했던 사용자")
+        List<MembershipAccessResponse> members
+) {
+}
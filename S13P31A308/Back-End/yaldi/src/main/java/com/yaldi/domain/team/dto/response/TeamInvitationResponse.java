@@ -36,7 +36,10 @@ public record TeamInvitationResponse(
         String status,
 
         @Schema(description = "초대 생성 시간", example = "2025-01-15T10:30:00+09:00")
-        OffsetDateTime createdAt
+        OffsetDateTime createdAt,
+
+        @Schema(description = "초대 만료 시간", example = "2025-01-18T10:30:00+09:00")
+        OffsetDateTime expiresAt
 ) {
 
     public static TeamInvitationResponse from(UserTeamHistory history, String teamName, String inviterNickname) {
@@ -50,7 +53,8 @@ public record TeamInvitationResponse(
                 history.getTarget().getNickname(),
                 history.getEmail(),
                 history.getActionType().getValue(),
-                history.getCreatedAt()
+                history.getCreatedAt(),
+                history.getExpiresAt()
         );
     }
 }
@@ -0,0 +1,20 @@
+package com.yaldi.domain.team.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Schema(description = "특정 시점의 팀 멤버 목록")
+public record TeamMembershipSnapshotResponse(
+
+        @Schema(description = "팀 Key", example = "1")
+        Integer teamKey,
+
+        @Schema(description = "조회 시점", example = "2025-11-15T00:00:00+09:00")
+        OffsetDateTime at,
+
+        @Schema(description = "조회 시점의 멤버")
+        List<MembershipAccessResponse> members
+) {
+}
@@ -0,0 +1,24 @@
+package com.yaldi.domain.team.entity;
+
+/**
+ * 팀 초대 상태
+ *
+ * <p>PENDING에서만 다른 상태로 전이할 수 있고, 나머지는 종료 상태입니다.</p>
+ * <pre>
+ * PENDING ─┬─ 수락 ──→ ACCEPTED
+ *          ├─ 거절 ──→ REJECTED
+ *          ├─ 취소 ──→ CANCELED
+ *          └─ 만료 ──→ EXPIRED
+ * </pre>
+ */
+public enum TeamInvitationStatus {
+    PENDING,
+    ACCEPTED,
+    REJECTED,
+    CANCELED,
+    EXPIRED;
+
+    public boolean canTransitionTo(TeamInvitationStatus target) {
+        return this == PENDING && target != PENDING;
+    }
+}
@@ -0,0 +1,54 @@
+package com.yaldi.domain.team.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 팀 멤버십 이벤트 (추가 전용 로그)
+ *
+ * <p>수정/삭제하지 않습니다. (DB 트리거로도 차단) 사용자/팀이 삭제돼도 접근 이력이 남아야 하므로
+ * 외래키 없이 키만 보관합니다.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "team_membership_events")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamMembershipEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_key")
+    private Long eventKey;
+
+    @Column(name = "team_key", nullable = false)
+    private Integer teamKey;
+
+    @Column(name = "user_key", nullable = false)
+    private Integer userKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 30, nullable = false)
+    private TeamMembershipEventType eventType;
+
+    /**
+     * 이벤트를 일으킨 사용자 (마이그레이션 적재분은 null)
+     */
+    @Column(name = "actor_key")
+    private Integer actorKey;
+
+    @Column(name = "occurred_at", nullable = false)
+    private OffsetDateTime occurredAt;
+
+    public boolean joins() {
+        return eventType.isJoins();
+    }
+}
@@ -0,0 +1,31 @@
+package com.yaldi.domain.team.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팀 멤버십 이벤트 종류
+ *
+ * <p>각 이벤트는 가입(joins=true) 또는 이탈(joins=false) 중 하나이며, 이벤트 로그를 순서대로
+ * 재생하면 user_team_relations(현재 상태)와 같은 결과가 나옵니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TeamMembershipEventType {
+    /** 팀 생성자 자동 가입 */
+    TEAM_CREATED(true),
+    /** 초대 수락 */
+    INVITE_ACCEPTED(true),
+    /** 이벤트 로그 도입 이전부터 존재하던 멤버십 (마이그레이션 시 적재) */
+    BASELINE(true),
+    /** 스스로 팀 나가기 */
+    MEMBER_EXITED(false),
+    /** 팀 오너에 의한 방출 */
+    MEMBER_EXPELLED(false),
+    /** 서비스 탈퇴 */
+    MEMBER_WITHDRAWN(false),
+    /** 팀 삭제 */
+    TEAM_DELETED(false);
+
+    private final boolean joins;
+}
@@ -8,10 +8,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 
 /**
  * UserTeamHistory 엔티티
+ *
+ * <p>INVITE_SENT 이력은 초대 자체이기도 해서, 초대 상태(invitationStatus)와 만료 시각을 함께 가집니다.
+ * 그 외 이력에서는 두 컬럼 모두 null 입니다.</p>
  */
 @Entity
 @Table(name = "user_team_history")
@@ -21,6 +25,9 @@ import java.time.OffsetDateTime;
 @Builder
 public class UserTeamHistory extends BaseAuditEntity {
 
+    /** 초대 유효 기간 */
+    public static final Duration INVITATION_TTL = Duration.ofDays(3);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_team_history_key")
@@ -49,8 +56,40 @@ public class UserTeamHistory extends BaseAuditEntity {
     @Builder.Default
     private String reason = "";
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "invitation_status", length = 20)
+    private TeamInvitationStatus invitationStatus;
+
+    @Column(name = "expires_at")
+    private OffsetDateTime expiresAt;
+
+    @Column(name = "resolved_at")
+    private OffsetDateTime resolvedAt;
+
     // 비즈니스 로직
-    public boolean isExpired() { // createdAt 기준 3일 후 만료
-        return this.getCreatedAt().plusDays(3).isBefore(OffsetDateTime.now());
+    public boolean isInvitation() {
+        return this.actionType == UserTeamActionType.INVITE_SENT && this.invitationStatus != null;
+    }
+
+    public boolean isExpiredAt(OffsetDateTime now) {
+        return this.expiresAt != null && !now.isBefore(this.expiresAt);
+    }
+
+    /**
+     * now 시점의 초대 상태 (만료 시각이 지난 PENDING은 아직 반영 전이어도 EXPIRED)
+     */
+    public TeamInvitationStatus invitationStatusAt(OffsetDateTime now) {
+        if (this.invitationStatus == TeamInvitationStatus.PENDING && isExpiredAt(now)) {
+            return TeamInvitationStatus.EXPIRED;
+        }
+        return this.invitationStatus;
+    }
+
+    public void resolveInvitation(TeamInvitationStatus target, OffsetDateTime now) {
+        if (this.invitationStatus == null || !this.invitationStatus.canTransitionTo(target)) {
+            throw new IllegalStateException("초대 상태 전이 불가: " + this.invitationStatus + " -> " + target);
+        }
+        this.invitationStatus = target;
+        this.resolvedAt = now;
     }
 }
@@ -0,0 +1,21 @@
+package com.yaldi.domain.team.repository;
+
+import com.yaldi.domain.team.entity.TeamMembershipEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface TeamMembershipEventRepository extends JpaRepository<TeamMembershipEvent, Long> {
+
+    // 팀 멤버십 이벤트 전체 (발생 순서)
+    List<TeamMembershipEvent> findByTeamKeyOrderByEventKeyAsc(Integer teamKey);
+
+    // 특정 시점까지의 팀 멤버십 이벤트 (시점 조회용 재생)
+    List<TeamMembershipEvent> findByTeamKeyAndOccurredAtLessThanEqualOrderByEventKeyAsc(
+            Integer teamKey,
+            OffsetDateTime occurredAt
+    );
+}
@@ -1,43 +1,64 @@
 package com.yaldi.domain.team.repository;
 
-import com.yaldi.domain.team.entity.UserTeamActionType;
+import com.yaldi.domain.team.entity.TeamInvitationStatus;
 import com.yaldi.domain.team.entity.UserTeamHistory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserTeamHistoryRepository extends JpaRepository<UserTeamHistory, Long> {
 
-    // 특정 팀과 이메일로 특정 액션 타입의 히스토리 조회 (초대 관련)
-    Optional<UserTeamHistory> findByTeam_TeamKeyAndEmailAndActionType(
-            Integer teamKey,
-            String email,
-            UserTeamActionType actionType
-    );
+    // 초대 상태 전이용 조회 (동시 수락/거절/취소 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM UserTeamHistory h WHERE h.userTeamHistoryKey = :invitationKey")
+    Optional<UserTeamHistory> findByIdForUpdate(@Param("invitationKey") Long invitationKey);
 
-    // 특정 팀과 이메일로 가장 최신 히스토리 조회 (초대 상태 확인용)
-    Optional<UserTeamHistory> findFirstByTeam_TeamKeyAndEmailOrderByCreatedAtDesc(
+    // 특정 팀과 이메일의 특정 상태 초대 조회 (재초대 가능 여부 확인용)
+    List<UserTeamHistory> findByTeam_TeamKeyAndEmailAndInvitationStatus(
             Integer teamKey,
-            String email
+            String email,
+            TeamInvitationStatus invitationStatus
     );
 
-    //특정 팀과 액션 타입으로 히스토리 조회 (초대 상태 확인용)
-    List<UserTeamHistory> findByTeam_TeamKeyAndActionType(Integer teamKey, UserTeamActionType actionType);
-
-    // 특정 팀과 액션 타입으로 히스토리 조회 (actor, target fetch join으로 N+1 방지)
+    // 대기 중인(만료 전) 초대 목록 (actor, target fetch join으로 N+1 방지)
     @Query("SELECT h FROM UserTeamHistory h " +
             "JOIN FETCH h.actor " +
             "JOIN FETCH h.target " +
-            "WHERE h.team.teamKey = :teamKey AND h.actionType = :actionType")
-    List<UserTeamHistory> findByTeam_TeamKeyAndActionTypeWithUsers(
+            "WHERE h.team.teamKey = :teamKey " +
+            "AND h.invitationStatus = com.yaldi.domain.team.entity.TeamInvitationStatus.PENDING " +
+            "AND h.expiresAt > :now " +
+            "ORDER BY h.createdAt DESC")
+    List<UserTeamHistory> findPendingInvitationsWithUsers(
+            @Param("teamKey") Integer teamKey,
+            @Param("now") OffsetDateTime now
+    );
+
+    // 대기 중인(만료 전) 초대의 이메일 목록 (초대 대상 검색 시 한 번에 조회)
+    @Query("SELECT h.email FROM UserTeamHistory h " +
+            "WHERE h.team.teamKey = :teamKey " +
+            "AND h.invitationStatus = com.yaldi.domain.team.entity.TeamInvitationStatus.PENDING " +
+            "AND h.expiresAt > :now")
+    Set<String> findPendingInvitationEmails(
             @Param("teamKey") Integer teamKey,
-            @Param("actionType") UserTeamActionType actionType
+            @Param("now") OffsetDateTime now
     );
 
-    List<UserTeamHistory> findByTeam_TeamKeyAndEmailOrderByCreatedAtAsc(Integer teamKey, String email);
+    // 만료 시각이 지난 대기 초대를 EXPIRED로 일괄 전이
+    @Modifying
+    @Query("UPDATE UserTeamHistory h " +
+            "SET h.invitationStatus = com.yaldi.domain.team.entity.TeamInvitationStatus.EXPIRED, " +
+            "h.resolvedAt = :now " +
+            "WHERE h.invitationStatus = com.yaldi.domain.team.entity.TeamInvitationStatus.PENDING " +
+            "AND h.expiresAt <= :now")
+    int expirePendingInvitations(@Param("now") OffsetDateTime now);
 }
@@ -26,6 +26,10 @@ public interface UserTeamRelationRepository extends JpaRepository<UserTeamRelati
     @Query("SELECT r.user.userKey FROM UserTeamRelation r WHERE r.team.teamKey = :teamKey")
     Set<Integer> findUserKeysByTeam_TeamKey(Integer teamKey);
 
+    // 특정 유저가 속한 teamKey 목록만 조회 (권한 캐시 적재용)
+    @Query("SELECT r.team.teamKey FROM UserTeamRelation r WHERE r.user.userKey = :userKey")
+    Set<Integer> findTeamKeysByUser_UserKey(Integer userKey);
+
     Optional<UserTeamRelation> findByUser_UserKeyAndTeam_TeamKey(Integer userKey, Integer teamKey);
 
     boolean existsByUser_UserKeyAndTeam_TeamKey(Integer userKey, Integer teamKey);
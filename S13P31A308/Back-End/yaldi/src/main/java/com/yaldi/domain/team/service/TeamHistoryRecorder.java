@@ -1,6 +1,7 @@
 package com.yaldi.domain.team.service;
 
 import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamInvitationStatus;
 import com.yaldi.domain.team.entity.UserTeamActionType;
 import com.yaldi.domain.team.entity.UserTeamHistory;
 import com.yaldi.domain.team.repository.UserTeamHistoryRepository;
@@ -8,13 +9,16 @@ import com.yaldi.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.OffsetDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class TeamHistoryRecorder {
 
     private final UserTeamHistoryRepository userTeamHistoryRepository;
 
-    public UserTeamHistory recordInvitationSent(Team team, User inviter, User target, String email) {
+    public UserTeamHistory recordInvitationSent(Team team, User inviter, User target, String email,
+                                                OffsetDateTime expiresAt) {
         UserTeamHistory invitation = UserTeamHistory.builder()
                 .team(team)
                 .actor(inviter)
@@ -22,6 +26,8 @@ public class TeamHistoryRecorder {
                 .email(email)
                 .actionType(UserTeamActionType.INVITE_SENT)
                 .reason("팀 초대 전송")
+                .invitationStatus(TeamInvitationStatus.PENDING)
+                .expiresAt(expiresAt)
                 .build();
         return userTeamHistoryRepository.save(invitation);
     }
@@ -62,6 +68,18 @@ public class TeamHistoryRecorder {
         userTeamHistoryRepository.save(canceledHistory);
     }
 
+    public void recordInvitationExpired(Team team, User inviter, User target, String email) {
+        UserTeamHistory expiredHistory = UserTeamHistory.builder()
+                .team(team)
+                .actor(inviter)
+                .target(target)
+                .email(email)
+                .actionType(UserTeamActionType.INVITE_EXPIRED)
+                .reason("팀 초대 만료")
+                .build();
+        userTeamHistoryRepository.save(expiredHistory);
+    }
+
     public void recordMemberExpulsion(Team team, User actor, User target) {
         UserTeamHistory expulsionHistory = UserTeamHistory.builder()
                 .team(team)
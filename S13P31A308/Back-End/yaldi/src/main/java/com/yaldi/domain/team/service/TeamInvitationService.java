@@ -1,12 +1,12 @@
 package com.yaldi.domain.team.service;
 
-import com.yaldi.domain.notification.entity.Notification;
 import com.yaldi.domain.notification.service.NotificationService;
 import com.yaldi.domain.team.dto.request.InviteTeamMemberRequest;
 import com.yaldi.domain.team.dto.response.PendingInvitationListResponse;
 import com.yaldi.domain.team.dto.response.TeamInvitationResponse;
 import com.yaldi.domain.team.dto.response.UserSearchResult;
 import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamInvitationStatus;
 import com.yaldi.domain.team.entity.UserTeamActionType;
 import com.yaldi.domain.team.entity.UserTeamHistory;
 import com.yaldi.domain.team.repository.UserTeamHistoryRepository;
@@ -19,11 +19,12 @@ import com.yaldi.global.mail.MailService;
 import com.yaldi.global.response.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -58,25 +59,27 @@ public class TeamInvitationService {
             throw new GeneralException(ErrorStatus.TEAM_DUPLICATE_MEMBER);
         }
 
-        List<UserTeamHistory> histories = userTeamHistoryRepository
-                .findByTeam_TeamKeyAndEmailOrderByCreatedAtAsc(
+        // 대기 중인 초대가 있으면 재초대 불가 (만료 시각이 지났으면 만료로 전이 후 재초대)
+        OffsetDateTime now = OffsetDateTime.now();
+        List<UserTeamHistory> pendingInvitations = userTeamHistoryRepository
+                .findByTeam_TeamKeyAndEmailAndInvitationStatus(
                         teamKey,
-                        invitedUser.getEmail()
+                        invitedUser.getEmail(),
+                        TeamInvitationStatus.PENDING
                 );
-
-        if (!histories.isEmpty()) {
-            UserTeamHistory latest = histories.get(histories.size() - 1);
-
-            // 최신 상태가 INVITE_SENT이고 만료되지 않았다면 → 재초대 불가
-            if (latest.getActionType() == UserTeamActionType.INVITE_SENT && !latest.isExpired()) {
+        for (UserTeamHistory pending : pendingInvitations) {
+            if (!pending.isExpiredAt(now)) {
                 throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_EXISTS);
             }
+            pending.resolveInvitation(TeamInvitationStatus.EXPIRED, now);
         }
+        // 팀+이메일당 PENDING 1건 유니크 인덱스: 만료 전이를 새 초대 INSERT보다 먼저 반영
+        userTeamHistoryRepository.flush();
 
         User inviter = teamValidator.getUser(userKey);
 
         UserTeamHistory savedInvitation = historyRecorder.recordInvitationSent(
-                team, inviter, invitedUser, invitedUser.getEmail());
+                team, inviter, invitedUser, invitedUser.getEmail(), now.plus(UserTeamHistory.INVITATION_TTL));
 
         notificationService.notifyUser(
                 request.targetUserKey(),
@@ -93,27 +96,36 @@ public class TeamInvitationService {
 
     @Transactional
     public void cancelInvitation(Integer userKey, Long invitationKey) {
-        UserTeamHistory invitation = userTeamHistoryRepository.findById(invitationKey)
+        UserTeamHistory invitation = userTeamHistoryRepository.findByIdForUpdate(invitationKey)
+                .filter(UserTeamHistory::isInvitation)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_INVITATION_NOT_FOUND));
 
-        Team team = teamValidator.getTeamWithOwnerCheck(invitation.getTeam().getTeamKey(), userKey);
+        teamValidator.getTeamWithOwnerCheck(invitation.getTeam().getTeamKey(), userKey);
 
-        // 이미 처리된 초대인지 확인
-        if (invitation.getActionType() != UserTeamActionType.INVITE_SENT) {
-            throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
+        OffsetDateTime now = OffsetDateTime.now();
+        switch (invitation.invitationStatusAt(now)) {
+            case CANCELED -> {
+                // 이미 취소된 초대 → 같은 결과
+                return;
+            }
+            case EXPIRED -> throw new GeneralException(ErrorStatus.TEAM_INVITATION_EXPIRED);
+            case ACCEPTED, REJECTED -> throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
+            case PENDING -> {
+            }
         }
 
+        invitation.resolveInvitation(TeamInvitationStatus.CANCELED, now);
+
         User actor = teamValidator.getUser(userKey);
 
         historyRecorder.recordInvitationCanceled(
                 invitation.getTeam(), actor, invitation.getTarget(), invitation.getEmail());
 
-        Notification notification = notificationService.getNotification(
+        notificationService.resolveNotification(
                 UserTeamActionType.INVITE_SENT.getValue(),
                 invitation.getTarget().getUserKey(),
-                invitationKey);
-        notification.markAsRead();
-        notification.changeType(UserTeamActionType.INVITE_CANCELED.getValue());
+                invitationKey,
+                UserTeamActionType.INVITE_CANCELED.getValue());
 
         log.info("팀 초대 취소 완료 :: 팀키={}, 취소한 유저={}", invitation.getTeam().getTeamKey(), userKey);
     }
@@ -128,21 +140,9 @@ public class TeamInvitationService {
         // 팀 멤버 userKey 목록 조회 (N+1 방지 - 프로젝션 쿼리)
         Set<Integer> memberUserKeys = userTeamRelationRepository.findUserKeysByTeam_TeamKey(teamKey);
 
-        // 대기 중인 초대 이메일 추출 (각 사용자별 가장 최신 상태 확인)
-        Set<String> invitedEmails = users.stream()
-                .map(User::getEmail)
-                .filter(email -> {
-                    // 각 이메일별 가장 최신 히스토리 조회
-                    Optional<UserTeamHistory> latestHistory =
-                            userTeamHistoryRepository.findFirstByTeam_TeamKeyAndEmailOrderByCreatedAtDesc(
-                                    teamKey, email);
-
-                    // 가장 최신 상태가 INVITE_SENT이면서 만료되지 않은 경우만 true
-                    return latestHistory.isPresent()
-                            && latestHistory.get().getActionType() == UserTeamActionType.INVITE_SENT
-                            && !latestHistory.get().isExpired();
-                })
-                .collect(Collectors.toSet());
+        // 대기 중인(만료 전) 초대 이메일 (한 번의 쿼리로 조회)
+        Set<String> invitedEmails = userTeamHistoryRepository.findPendingInvitationEmails(
+                teamKey, OffsetDateTime.now());
 
         // 각 사용자에 대해 상태 결정
         return users.stream()
@@ -164,36 +164,9 @@ public class TeamInvitationService {
     public PendingInvitationListResponse getPendingInvitations(Integer userKey, Integer teamKey) {
         Team team = teamValidator.getTeamWithOwnerCheck(teamKey, userKey);
 
-        // INVITE_SENT 상태이면서 만료되지 않은 초대 목록 조회 (actor, target fetch join으로 N+1 방지)
-        List<UserTeamHistory> sentInvitations = userTeamHistoryRepository
-                .findByTeam_TeamKeyAndActionTypeWithUsers(teamKey, UserTeamActionType.INVITE_SENT)
-                .stream()
-                .filter(h -> !h.isExpired())
-                .collect(Collectors.toList());
-
-        // 실제로 대기 중인 초대만 필터링 (이메일별 최신 이력이 INVITE_SENT인 경우만)
-        List<UserTeamHistory> pendingInvitations = sentInvitations.stream()
-                .filter(invitation -> {
-                    // 해당 이메일의 최신 이력 조회
-                    Optional<UserTeamHistory> latestHistory = userTeamHistoryRepository
-                            .findFirstByTeam_TeamKeyAndEmailOrderByCreatedAtDesc(
-                                    teamKey,
-                                    invitation.getEmail()
-                            );
-
-                    // 최신 이력이 없거나, 최신 이력이 현재 초대가 아니면 제외
-                    if (latestHistory.isEmpty()) {
-                        return false;
-                    }
-
-                    UserTeamHistory latest = latestHistory.get();
-
-                    // 최신 이력이 현재 조회된 INVITE_SENT와 동일한지 확인 (같은 레코드인지)
-                    // 그리고 최신 이력의 액션 타입이 INVITE_SENT인지 확인
-                    return latest.getUserTeamHistoryKey().equals(invitation.getUserTeamHistoryKey())
-                            && latest.getActionType() == UserTeamActionType.INVITE_SENT;
-                })
-                .collect(Collectors.toList());
+        // PENDING 상태이면서 만료되지 않은 초대 목록 조회 (actor, target fetch join으로 N+1 방지)
+        List<UserTeamHistory> pendingInvitations = userTeamHistoryRepository
+                .findPendingInvitationsWithUsers(teamKey, OffsetDateTime.now());
 
         // TeamInvitationResponse로 변환
         List<TeamInvitationResponse> invitationResponses = pendingInvitations.stream()
@@ -208,4 +181,18 @@ public class TeamInvitationService {
 
         return PendingInvitationListResponse.from(invitationResponses);
     }
+
+    /**
+     * 만료 시각이 지난 대기 초대를 EXPIRED로 일괄 전이
+     *
+     * <p>조회/수락 경로는 만료 시각으로 직접 판단하므로, 이 작업은 저장된 상태를 실제 상태에 맞추는 정리 작업입니다.</p>
+     */
+    @Scheduled(cron = "0 40 3 * * *")
+    @Transactional
+    public void expireStaleInvitations() {
+        int expired = userTeamHistoryRepository.expirePendingInvitations(OffsetDateTime.now());
+        if (expired > 0) {
+            log.info("만료된 팀 초대 정리 :: {}건", expired);
+        }
+    }
 }
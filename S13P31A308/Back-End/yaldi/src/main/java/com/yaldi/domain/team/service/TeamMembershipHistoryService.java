@@ -0,0 +1,170 @@
+package com.yaldi.domain.team.service;
+
+import com.yaldi.domain.project.entity.Project;
+import com.yaldi.domain.project.repository.ProjectRepository;
+import com.yaldi.domain.team.dto.response.MembershipAccessResponse;
+import com.yaldi.domain.team.dto.response.ProjectAccessSnapshotResponse;
+import com.yaldi.domain.team.dto.response.TeamMembershipSnapshotResponse;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
+import com.yaldi.domain.team.repository.TeamMembershipEventRepository;
+import com.yaldi.domain.team.service.TeamMembershipTimeline.Interval;
+import com.yaldi.domain.team.validator.TeamValidator;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.domain.user.repository.UserRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팀 멤버십 이력 조회 (시점 조회, 프로젝트 접근 리포트)
+ *
+ * <p>모든 결과는 멤버십 이벤트 로그를 재생해서 계산합니다. 프로젝트 접근 권한은 프로젝트가 속한 팀의
+ * 멤버십 기준이며, 프로젝트가 존재하던 기간(생성 ~ 삭제)으로 잘라냅니다. 프로젝트 역할 변경은
+ * project_member_history에서 따로 관리합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamMembershipHistoryService {
+
+    private static final String REPORT_HEADER =
+            "user_key,nickname,email,access_from,access_until,granted_by,revoked_by";
+
+    private final TeamMembershipEventRepository teamMembershipEventRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TeamValidator teamValidator;
+
+    /**
+     * 특정 시점의 팀 멤버 (팀 오너만 조회 가능)
+     */
+    public TeamMembershipSnapshotResponse getTeamMembersAt(Integer userKey, Integer teamKey, OffsetDateTime at) {
+        teamValidator.getTeamWithOwnerCheck(teamKey, userKey);
+
+        List<Interval> active = replayUntil(teamKey, at).activeAt(at);
+        Map<Integer, User> users = users(active.stream().map(Interval::userKey).toList());
+        return new TeamMembershipSnapshotResponse(teamKey, at, active.stream()
+                .map(interval -> MembershipAccessResponse.of(
+                        interval.userKey(), users.get(interval.userKey()), interval.joinedAt(), interval.joinedBy()))
+                .toList());
+    }
+
+    /**
+     * 특정 시점에 프로젝트에 접근할 수 있었던 사용자 (팀 오너만 조회 가능)
+     */
+    public ProjectAccessSnapshotResponse getProjectAccessAt(Integer userKey, Long projectKey, OffsetDateTime at) {
+        Project project = getProjectWithOwnerCheck(userKey, projectKey);
+
+        if (!existedAt(project, at)) {
+            return new ProjectAccessSnapshotResponse(projectKey, project.getTeamKey(), at, List.of());
+        }
+
+        List<Interval> active = replayUntil(project.getTeamKey(), at).activeAt(at);
+        Map<Integer, User> users = users(active.stream().map(Interval::userKey).toList());
+        return new ProjectAccessSnapshotResponse(projectKey, project.getTeamKey(), at, active.stream()
+                .map(interval -> MembershipAccessResponse.of(
+                        interval.userKey(),
+                        users.get(interval.userKey()),
+                        latest(interval.joinedAt(), project.getCreatedAt()),
+                        interval.joinedBy()))
+                .toList());
+    }
+
+    /**
+     * 프로젝트 접근 리포트 (CSV, 접근 구간별 1행)
+     */
+    public String exportProjectAccessReport(Integer userKey, Long projectKey) {
+        Project project = getProjectWithOwnerCheck(userKey, projectKey);
+        OffsetDateTime projectFrom = project.getCreatedAt();
+        OffsetDateTime projectUntil = project.getDeletedAt();
+
+        List<Interval> intervals = TeamMembershipTimeline.replay(
+                        teamMembershipEventRepository.findByTeamKeyOrderByEventKeyAsc(project.getTeamKey()))
+                .intervals().stream()
+                .filter(interval -> interval.leftAt() == null || interval.leftAt().isAfter(projectFrom))
+                .filter(interval -> projectUntil == null || interval.joinedAt().isBefore(projectUntil))
+                .toList();
+        Map<Integer, User> users = users(intervals.stream().map(Interval::userKey).toList());
+
+        StringBuilder csv = new StringBuilder(REPORT_HEADER).append('\n');
+        for (Interval interval : intervals) {
+            User user = users.get(interval.userKey());
+            OffsetDateTime until = earliest(interval.leftAt(), projectUntil);
+            TeamMembershipEventType revokedBy = interval.leftAt() != null && interval.leftAt().equals(until)
+                    ? interval.leftBy()
+                    : null;
+            csv.append(String.join(",",
+                    String.valueOf(interval.userKey()),
+                    csvField(user != null ? user.getNickname() : null),
+                    csvField(user != null ? user.getEmail() : null),
+                    csvField(latest(interval.joinedAt(), projectFrom)),
+                    csvField(until),
+                    csvField(interval.joinedBy()),
+                    csvField(revokedBy))).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private TeamMembershipTimeline replayUntil(Integer teamKey, OffsetDateTime at) {
+        return TeamMembershipTimeline.replay(teamMembershipEventRepository
+                .findByTeamKeyAndOccurredAtLessThanEqualOrderByEventKeyAsc(teamKey, at));
+    }
+
+    private Project getProjectWithOwnerCheck(Integer userKey, Long projectKey) {
+        Project project = projectRepository.findByIdIncludingDeleted(projectKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
+        teamValidator.getTeamWithOwnerCheck(project.getTeamKey(), userKey);
+        return project;
+    }
+
+    private Map<Integer, User> users(Collection<Integer> userKeys) {
+        if (userKeys.isEmpty()) {
+            return Map.of();
+        }
+        // 탈퇴한 사용자는 조회되지 않음 (userKey만 표시)
+        return userRepository.findAllById(userKeys.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(User::getUserKey, Function.identity()));
+    }
+
+    private static boolean existedAt(Project project, OffsetDateTime at) {
+        return !project.getCreatedAt().isAfter(at)
+                && (project.getDeletedAt() == null || project.getDeletedAt().isAfter(at));
+    }
+
+    private static OffsetDateTime latest(OffsetDateTime a, OffsetDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static OffsetDateTime earliest(OffsetDateTime a, OffsetDateTime b) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * CSV 필드 이스케이프 (스프레드시트 수식 주입 방지 포함)
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            text = "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,124 @@
+package com.yaldi.domain.team.service;
+
+import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamMembershipEvent;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
+import com.yaldi.domain.team.entity.UserTeamRelation;
+import com.yaldi.domain.team.repository.TeamMembershipEventRepository;
+import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.infra.security.authz.AuthorizationCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * 팀 멤버십 변경의 단일 진입점
+ *
+ * <p>멤버십 변경은 항상 이벤트(team_membership_events)를 추가하고, 같은 트랜잭션에서
+ * 현재 상태(user_team_relations)를 갱신한 뒤 권한 캐시를 무효화합니다. 현재 상태는 이벤트 로그의
+ * 구체화 뷰이므로 {@link TeamMembershipTimeline#replay}로 언제든 다시 만들 수 있습니다.</p>
+ *
+ * <p>user_team_relations를 직접 저장/삭제하지 말고 이 클래스를 거쳐야 이력이 빠지지 않습니다.</p>
+ */
+@Component
+public class TeamMembershipLedger {
+
+    private final UserTeamRelationRepository userTeamRelationRepository;
+    private final TeamMembershipEventRepository teamMembershipEventRepository;
+    private final AuthorizationCache authorizationCache;
+    private final Clock clock;
+
+    @Autowired
+    public TeamMembershipLedger(UserTeamRelationRepository userTeamRelationRepository,
+                                TeamMembershipEventRepository teamMembershipEventRepository,
+                                AuthorizationCache authorizationCache) {
+        this(userTeamRelationRepository, teamMembershipEventRepository, authorizationCache, Clock.systemDefaultZone());
+    }
+
+    TeamMembershipLedger(UserTeamRelationRepository userTeamRelationRepository,
+                         TeamMembershipEventRepository teamMembershipEventRepository,
+                         AuthorizationCache authorizationCache,
+                         Clock clock) {
+        this.userTeamRelationRepository = userTeamRelationRepository;
+        this.teamMembershipEventRepository = teamMembershipEventRepository;
+        this.authorizationCache = authorizationCache;
+        this.clock = clock;
+    }
+
+    /**
+     * 팀 가입 (팀 생성, 초대 수락)
+     */
+    public UserTeamRelation join(Team team, User user, TeamMembershipEventType type, Integer actorKey) {
+        requireDirection(type, true);
+        UserTeamRelation relation = userTeamRelationRepository.save(UserTeamRelation.builder()
+                .user(user)
+                .team(team)
+                .build());
+        teamMembershipEventRepository.save(event(team.getTeamKey(), user.getUserKey(), type, actorKey));
+        authorizationCache.evictUser(user.getUserKey());
+        return relation;
+    }
+
+    /**
+     * 팀 이탈 (나가기, 방출)
+     */
+    public void leave(UserTeamRelation relation, TeamMembershipEventType type, Integer actorKey) {
+        requireDirection(type, false);
+        Integer userKey = relation.getUser().getUserKey();
+        userTeamRelationRepository.delete(relation);
+        teamMembershipEventRepository.save(event(relation.getTeam().getTeamKey(), userKey, type, actorKey));
+        authorizationCache.evictUser(userKey);
+    }
+
+    /**
+     * 팀 삭제로 모든 멤버 이탈
+     *
+     * @return 이탈한 멤버 userKey 목록
+     */
+    public Set<Integer> dissolveTeam(Integer teamKey, Integer actorKey) {
+        Set<Integer> memberKeys = userTeamRelationRepository.findUserKeysByTeam_TeamKey(teamKey);
+        teamMembershipEventRepository.saveAll(memberKeys.stream()
+                .sorted()
+                .map(userKey -> event(teamKey, userKey, TeamMembershipEventType.TEAM_DELETED, actorKey))
+                .toList());
+        userTeamRelationRepository.deleteByTeam_TeamKey(teamKey);
+        authorizationCache.evictUsers(memberKeys);
+        return memberKeys;
+    }
+
+    /**
+     * 서비스 탈퇴로 모든 팀 이탈
+     *
+     * @return 이탈한 teamKey 목록
+     */
+    public Set<Integer> withdrawUser(Integer userKey) {
+        Set<Integer> teamKeys = userTeamRelationRepository.findTeamKeysByUser_UserKey(userKey);
+        teamMembershipEventRepository.saveAll(teamKeys.stream()
+                .sorted()
+                .map(teamKey -> event(teamKey, userKey, TeamMembershipEventType.MEMBER_WITHDRAWN, userKey))
+                .toList());
+        userTeamRelationRepository.deleteByUser_UserKey(userKey);
+        authorizationCache.evictUser(userKey);
+        return teamKeys;
+    }
+
+    private TeamMembershipEvent event(Integer teamKey, Integer userKey, TeamMembershipEventType type, Integer actorKey) {
+        return TeamMembershipEvent.builder()
+                .teamKey(teamKey)
+                .userKey(userKey)
+                .eventType(type)
+                .actorKey(actorKey)
+                .occurredAt(OffsetDateTime.now(clock))
+                .build();
+    }
+
+    private static void requireDirection(TeamMembershipEventType type, boolean joins) {
+        if (type.isJoins() != joins) {
+            throw new IllegalArgumentException("멤버십 이벤트 방향 불일치: " + type);
+        }
+    }
+}
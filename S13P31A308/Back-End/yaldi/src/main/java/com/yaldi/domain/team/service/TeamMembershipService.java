@@ -1,9 +1,10 @@
 package com.yaldi.domain.team.service;
 
-import com.yaldi.domain.notification.entity.Notification;
 import com.yaldi.domain.notification.service.NotificationService;
 import com.yaldi.domain.team.dto.response.InvitationActionResponse;
 import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamInvitationStatus;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
 import com.yaldi.domain.team.entity.UserTeamActionType;
 import com.yaldi.domain.team.entity.UserTeamHistory;
 import com.yaldi.domain.team.entity.UserTeamRelation;
@@ -18,6 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+
+/**
+ * 팀 멤버십 서비스 (방출, 나가기, 초대 수락/거절)
+ *
+ * <p>초대 수락/거절은 멱등입니다. 이미 수락한 초대를 다시 수락하거나 이미 거절한 초대를 다시 거절하면
+ * 부수 효과 없이 같은 결과를 돌려주고, 만료된 초대는 몇 번을 요청해도 만료 응답을 돌려줍니다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -28,6 +37,7 @@ public class TeamMembershipService {
     private final UserTeamHistoryRepository userTeamHistoryRepository;
     private final TeamValidator teamValidator;
     private final TeamHistoryRecorder historyRecorder;
+    private final TeamMembershipLedger membershipLedger;
     private final NotificationService notificationService;
 
     @Transactional
@@ -42,7 +52,7 @@ public class TeamMembershipService {
                         targetUserKey, teamKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_MEMBER_NOT_FOUND));
 
-        userTeamRelationRepository.delete(targetRelation);
+        membershipLedger.leave(targetRelation, TeamMembershipEventType.MEMBER_EXPELLED, userKey);
 
         User actor = teamValidator.getUser(userKey);
         User targetUser = teamValidator.getUser(targetUserKey);
@@ -70,7 +80,7 @@ public class TeamMembershipService {
             throw new GeneralException(ErrorStatus.TEAM_OWNER_CANNOT_LEAVE);
         }
 
-        userTeamRelationRepository.delete(userRelation);
+        membershipLedger.leave(userRelation, TeamMembershipEventType.MEMBER_EXITED, userKey);
 
         User user = teamValidator.getUser(userKey);
         historyRecorder.recordMemberExit(team, user);
@@ -81,40 +91,23 @@ public class TeamMembershipService {
     @Transactional
     public InvitationActionResponse acceptInvitation(Integer userKey, Long invitationKey) {
         User user = teamValidator.getUser(userKey);
-
-        UserTeamHistory invitation = userTeamHistoryRepository.findById(invitationKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_INVITATION_NOT_FOUND));
-
-        // 초대받은 사람이 맞는지 확인
-        if (!invitation.getEmail().equals(user.getEmail())) {
-            throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
-        }
-
-        // 이미 처리된 초대인지 확인
-        if (invitation.getActionType() != UserTeamActionType.INVITE_SENT) {
-            throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
-        }
-
+        UserTeamHistory invitation = getInvitationForUpdate(user, invitationKey);
         Team team = invitation.getTeam();
-
-        // 만료된 초대인지 확인
-        if (invitation.isExpired()) {
-            Notification notification = notificationService.getNotification(
-                    UserTeamActionType.INVITE_SENT.getValue(), userKey, invitationKey);
-            notification.markAsRead();
-            notification.changeType(UserTeamActionType.INVITE_EXPIRED.getValue());
-            return InvitationActionResponse.expired(invitationKey, team.getTeamKey());
-        }
-
-        // 취소된 초대인지 확인 (초대 이후에 취소 이력이 있는지)
-        boolean wasCanceled = userTeamHistoryRepository
-                .findByTeam_TeamKeyAndEmailAndActionType(team.getTeamKey(), invitation.getEmail(),
-                        UserTeamActionType.INVITE_CANCELED)
-                .stream()
-                .anyMatch(h -> h.getCreatedAt().isAfter(invitation.getCreatedAt()));
-
-        if (wasCanceled) {
-            throw new GeneralException(ErrorStatus.TEAM_INVITATION_CANCELED);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        switch (invitation.invitationStatusAt(now)) {
+            case ACCEPTED -> {
+                // 재요청 (중복 클릭, 재시도) → 같은 결과
+                return InvitationActionResponse.accepted(invitationKey, team.getTeamKey());
+            }
+            case EXPIRED -> {
+                expire(invitation, userKey, now);
+                return InvitationActionResponse.expired(invitationKey, team.getTeamKey());
+            }
+            case CANCELED -> throw new GeneralException(ErrorStatus.TEAM_INVITATION_CANCELED);
+            case REJECTED -> throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
+            case PENDING -> {
+            }
         }
 
         // 이미 팀 멤버인지 확인
@@ -124,19 +117,16 @@ public class TeamMembershipService {
             throw new GeneralException(ErrorStatus.TEAM_DUPLICATE_MEMBER);
         }
 
+        invitation.resolveInvitation(TeamInvitationStatus.ACCEPTED, now);
+
         // 팀 멤버로 추가
-        UserTeamRelation relation = UserTeamRelation.builder()
-                .user(user)
-                .team(team)
-                .build();
-        userTeamRelationRepository.save(relation);
+        membershipLedger.join(team, user, TeamMembershipEventType.INVITE_ACCEPTED, userKey);
 
         historyRecorder.recordInvitationAccepted(team, user, user.getEmail());
 
-        Notification notification = notificationService.getNotification(
-                UserTeamActionType.INVITE_SENT.getValue(), userKey, invitationKey);
-        notification.markAsRead();
-        notification.changeType(UserTeamActionType.INVITE_ACCEPTED.getValue());
+        notificationService.resolveNotification(
+                UserTeamActionType.INVITE_SENT.getValue(), userKey, invitationKey,
+                UserTeamActionType.INVITE_ACCEPTED.getValue());
 
         notificationService.notifyUser(
                 userKey,
@@ -153,51 +143,64 @@ public class TeamMembershipService {
     @Transactional
     public InvitationActionResponse rejectInvitation(Integer userKey, Long invitationKey) {
         User user = teamValidator.getUser(userKey);
-
-        UserTeamHistory invitation = userTeamHistoryRepository.findById(invitationKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_INVITATION_NOT_FOUND));
-
-        // 초대받은 사람이 맞는지 확인
-        if (!invitation.getEmail().equals(user.getEmail())) {
-            throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
-        }
-
-        // 이미 처리된 초대인지 확인
-        if (invitation.getActionType() != UserTeamActionType.INVITE_SENT) {
-            throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
-        }
-
+        UserTeamHistory invitation = getInvitationForUpdate(user, invitationKey);
         Team team = invitation.getTeam();
-
-        // 만료된 초대인지 확인
-        if (invitation.isExpired()) {
-            Notification notification = notificationService.getNotification(
-                    UserTeamActionType.INVITE_SENT.getValue(), userKey, invitationKey);
-            notification.markAsRead();
-            notification.changeType(UserTeamActionType.INVITE_EXPIRED.getValue());
-            return InvitationActionResponse.expired(invitationKey, team.getTeamKey());
+        OffsetDateTime now = OffsetDateTime.now();
+
+        switch (invitation.invitationStatusAt(now)) {
+            case REJECTED -> {
+                // 재요청 (중복 클릭, 재시도) → 같은 결과
+                return InvitationActionResponse.rejected(invitationKey, team.getTeamKey());
+            }
+            case EXPIRED -> {
+                expire(invitation, userKey, now);
+                return InvitationActionResponse.expired(invitationKey, team.getTeamKey());
+            }
+            case CANCELED -> throw new GeneralException(ErrorStatus.TEAM_INVITATION_CANCELED);
+            case ACCEPTED -> throw new GeneralException(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
+            case PENDING -> {
+            }
         }
 
-        // 취소된 초대인지 확인 (초대 이후에 취소 이력이 있는지)
-        boolean wasCanceled = userTeamHistoryRepository
-                .findByTeam_TeamKeyAndEmailAndActionType(team.getTeamKey(), invitation.getEmail(),
-                        UserTeamActionType.INVITE_CANCELED)
-                .stream()
-                .anyMatch(h -> h.getCreatedAt().isAfter(invitation.getCreatedAt()));
-
-        if (wasCanceled) {
-            throw new GeneralException(ErrorStatus.TEAM_INVITATION_CANCELED);
-        }
+        invitation.resolveInvitation(TeamInvitationStatus.REJECTED, now);
 
         historyRecorder.recordInvitationRejected(team, user, user.getEmail());
 
-        Notification notification = notificationService.getNotification(
-                UserTeamActionType.INVITE_SENT.getValue(), userKey, invitationKey);
-        notification.markAsRead();
-        notification.changeType(UserTeamActionType.INVITE_REJECTED.getValue());
+        notificationService.resolveNotification(
+                UserTeamActionType.INVITE_SENT.getValue(), userKey, invitationKey,
+                UserTeamActionType.INVITE_REJECTED.getValue());
 
         log.info("팀 초대 거절 완료 :: 팀키={}, 유저={}", team.getTeamKey(), userKey);
 
         return InvitationActionResponse.rejected(invitationKey, team.getTeamKey());
     }
+
+    /**
+     * 초대받은 사용자의 초대를 잠금 조회 (같은 초대에 대한 동시 수락/거절/취소를 직렬화)
+     */
+    private UserTeamHistory getInvitationForUpdate(User user, Long invitationKey) {
+        UserTeamHistory invitation = userTeamHistoryRepository.findByIdForUpdate(invitationKey)
+                .filter(UserTeamHistory::isInvitation)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.TEAM_INVITATION_NOT_FOUND));
+
+        // 초대받은 사람이 맞는지 확인
+        if (!invitation.getEmail().equals(user.getEmail())) {
+            throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
+        }
+        return invitation;
+    }
+
+    /**
+     * 만료 반영 (아직 PENDING으로 저장돼 있으면 EXPIRED로 전이하고 이력을 남김)
+     */
+    private void expire(UserTeamHistory invitation, Integer userKey, OffsetDateTime now) {
+        if (invitation.getInvitationStatus() == TeamInvitationStatus.PENDING) {
+            invitation.resolveInvitation(TeamInvitationStatus.EXPIRED, now);
+            historyRecorder.recordInvitationExpired(
+                    invitation.getTeam(), invitation.getActor(), invitation.getTarget(), invitation.getEmail());
+        }
+        notificationService.resolveNotification(
+                UserTeamActionType.INVITE_SENT.getValue(), userKey, invitation.getUserTeamHistoryKey(),
+                UserTeamActionType.INVITE_EXPIRED.getValue());
+    }
 }
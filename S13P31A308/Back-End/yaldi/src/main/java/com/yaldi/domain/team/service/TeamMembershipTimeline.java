@@ -0,0 +1,112 @@
+package com.yaldi.domain.team.service;
+
+import com.yaldi.domain.team.entity.TeamMembershipEvent;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 팀 멤버십 이벤트 로그 재생 결과 (멤버별 가입 ~ 이탈 구간)
+ *
+ * <p>이벤트는 event_key 순서로 적용합니다. 이미 멤버인 사용자의 가입, 멤버가 아닌 사용자의 이탈은
+ * 현재 상태에 영향이 없으므로 무시합니다.</p>
+ */
+public final class TeamMembershipTimeline {
+
+    /**
+     * 멤버십 구간 [joinedAt, leftAt) — 현재 멤버면 leftAt은 null
+     */
+    public record Interval(
+            Integer userKey,
+            OffsetDateTime joinedAt,
+            TeamMembershipEventType joinedBy,
+            OffsetDateTime leftAt,
+            TeamMembershipEventType leftBy
+    ) {
+
+        public boolean activeAt(OffsetDateTime at) {
+            return !joinedAt.isAfter(at) && (leftAt == null || leftAt.isAfter(at));
+        }
+
+        public boolean current() {
+            return leftAt == null;
+        }
+    }
+
+    private final List<Interval> intervals;
+
+    private TeamMembershipTimeline(List<Interval> intervals) {
+        this.intervals = intervals;
+    }
+
+    /**
+     * 한 팀의 이벤트를 재생
+     */
+    public static TeamMembershipTimeline replay(List<TeamMembershipEvent> events) {
+        List<Interval> closed = new ArrayList<>();
+        Map<Integer, TeamMembershipEvent> open = new LinkedHashMap<>();
+        events.stream()
+                .sorted(Comparator.comparing(TeamMembershipEvent::getEventKey))
+                .forEach(event -> {
+                    if (event.joins()) {
+                        open.putIfAbsent(event.getUserKey(), event);
+                        return;
+                    }
+                    TeamMembershipEvent joined = open.remove(event.getUserKey());
+                    if (joined != null) {
+                        closed.add(new Interval(event.getUserKey(), joined.getOccurredAt(), joined.getEventType(),
+                                event.getOccurredAt(), event.getEventType()));
+                    }
+                });
+
+        List<Interval> intervals = new ArrayList<>(closed);
+        open.values().forEach(joined -> intervals.add(new Interval(
+                joined.getUserKey(), joined.getOccurredAt(), joined.getEventType(), null, null)));
+        intervals.sort(Comparator.comparing(Interval::joinedAt).thenComparing(Interval::userKey));
+        return new TeamMembershipTimeline(Collections.unmodifiableList(intervals));
+    }
+
+    /**
+     * 여러 팀의 이벤트를 팀별로 재생
+     */
+    public static Map<Integer, TeamMembershipTimeline> replayByTeam(List<TeamMembershipEvent> events) {
+        Map<Integer, List<TeamMembershipEvent>> byTeam = events.stream()
+                .collect(Collectors.groupingBy(TeamMembershipEvent::getTeamKey, TreeMap::new, Collectors.toList()));
+        Map<Integer, TeamMembershipTimeline> timelines = new HashMap<>();
+        byTeam.forEach((teamKey, teamEvents) -> timelines.put(teamKey, replay(teamEvents)));
+        return timelines;
+    }
+
+    public List<Interval> intervals() {
+        return intervals;
+    }
+
+    public Set<Integer> currentMembers() {
+        return intervals.stream()
+                .filter(Interval::current)
+                .map(Interval::userKey)
+                .collect(Collectors.toSet());
+    }
+
+    public List<Interval> activeAt(OffsetDateTime at) {
+        return intervals.stream()
+                .filter(interval -> interval.activeAt(at))
+                .toList();
+    }
+
+    public Set<Integer> membersAt(OffsetDateTime at) {
+        return activeAt(at).stream()
+                .map(Interval::userKey)
+                .collect(Collectors.toSet());
+    }
+}
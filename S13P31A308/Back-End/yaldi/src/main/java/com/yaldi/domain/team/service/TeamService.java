@@ -7,6 +7,7 @@ import com.yaldi.domain.team.dto.request.InviteTeamMemberRequest;
 import com.yaldi.domain.team.dto.request.UpdateTeamNameRequest;
 import com.yaldi.domain.team.dto.response.*;
 import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
 import com.yaldi.domain.team.entity.UserTeamRelation;
 import com.yaldi.domain.team.repository.TeamRepository;
 import com.yaldi.domain.team.repository.UserTeamRelationRepository;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,6 +37,8 @@ public class TeamService {
     private final TeamMembershipService membershipService;
     private final TeamOwnershipService ownershipService;
     private final TeamInvitationService invitationService;
+    private final TeamMembershipHistoryService membershipHistoryService;
+    private final TeamMembershipLedger membershipLedger;
 
     public List<TeamResponse> getUserTeams(Integer userKey) {
         List<UserTeamRelation> userTeamRelations = userTeamRelationRepository.findByUser_UserKey(
@@ -74,12 +78,7 @@ public class TeamService {
         Team savedTeam = teamRepository.save(team);
 
         // 팀 생성자는 바로 팀 멤버로 추가
-        UserTeamRelation relation = UserTeamRelation.builder()
-                .user(owner)
-                .team(savedTeam)
-                .build();
-
-        userTeamRelationRepository.save(relation);
+        membershipLedger.join(savedTeam, owner, TeamMembershipEventType.TEAM_CREATED, userKey);
         log.info("팀생성:: 팀키={}, 팀명={}, 오너={}", savedTeam.getTeamKey(), savedTeam.getName(),
                 savedTeam.getOwner().getUserKey());
         return TeamResponse.from(savedTeam);
@@ -114,7 +113,7 @@ public class TeamService {
             projectRepository.save(project);  // 명시적 save
         });
 
-        userTeamRelationRepository.deleteByTeam_TeamKey(teamKey);
+        membershipLedger.dissolveTeam(teamKey, userKey);
 
         team.softDelete();
         teamRepository.save(team);
@@ -179,4 +178,8 @@ public class TeamService {
     public PendingInvitationListResponse getPendingInvitations(Integer userKey, Integer teamKey) {
         return invitationService.getPendingInvitations(userKey, teamKey);
     }
+
+    public TeamMembershipSnapshotResponse getTeamMembersAt(Integer userKey, Integer teamKey, OffsetDateTime at) {
+        return membershipHistoryService.getTeamMembersAt(userKey, teamKey, at);
+    }
 }
@@ -2,11 +2,11 @@ package com.yaldi.domain.team.validator;
 
 import com.yaldi.domain.team.entity.Team;
 import com.yaldi.domain.team.repository.TeamRepository;
-import com.yaldi.domain.team.repository.UserTeamRelationRepository;
 import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,7 +15,7 @@ import org.springframework.stereotype.Component;
 public class TeamValidator {
 
     private final TeamRepository teamRepository;
-    private final UserTeamRelationRepository userTeamRelationRepository;
+    private final AuthorizationCache authorizationCache;
     private final UserRepository userRepository;
 
     public Team getActiveTeam(Integer teamKey) {
@@ -29,7 +29,7 @@ public class TeamValidator {
     }
 
     public void validateTeamMembership(Integer userKey, Integer teamKey) {
-        boolean isMember = userTeamRelationRepository.existsByUser_UserKeyAndTeam_TeamKey(userKey, teamKey);
+        boolean isMember = authorizationCache.isTeamMember(userKey, teamKey);
         if (!isMember) {
             throw new GeneralException(ErrorStatus.TEAM_FORBIDDEN);
         }
@@ -7,6 +7,7 @@ import com.yaldi.domain.team.entity.UserTeamRelation;
 import com.yaldi.domain.team.repository.TeamRepository;
 import com.yaldi.domain.team.repository.UserTeamHistoryRepository;
 import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import com.yaldi.domain.team.service.TeamMembershipLedger;
 import com.yaldi.domain.team.service.TeamService;
 import com.yaldi.domain.user.dto.OwnedTeamInfoResponse;
 import com.yaldi.domain.user.dto.SocialAccountListResponse;
@@ -45,6 +46,7 @@ public class UserService {
     private final UserTeamRelationRepository userTeamRelationRepository;
     private final UserTeamHistoryRepository userTeamHistoryRepository;
     private final TeamService teamService;
+    private final TeamMembershipLedger teamMembershipLedger;
 
     /**
      * 사용자 정보 조회
@@ -205,14 +207,14 @@ public class UserService {
                     .build();
             userTeamHistoryRepository.save(withdrawalHistory);
         }
-        userTeamRelationRepository.deleteByUser_UserKey(userKey);
+        teamMembershipLedger.withdrawUser(userKey);
 
         // 3. 사용자 데이터 Soft Delete
         user.softDelete();
         userRepository.save(user);
 
-        // 4. Redis에서 Refresh Token 삭제 (즉시 로그아웃)
-        refreshTokenService.deleteRefreshToken(userKey);
+        // 4. 로그인 세션 폐기 (Refresh Token 삭제 + 발급된 Access Token 즉시 무효화)
+        refreshTokenService.revokeSession(userKey);
 
         log.info("User soft deleted and refresh token removed: userKey={}", userKey);
     }
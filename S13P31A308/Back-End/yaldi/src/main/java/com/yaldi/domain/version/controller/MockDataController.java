@@ -2,6 +2,7 @@ package com.yaldi.domain.version.controller;
 
 import com.yaldi.domain.version.dto.request.MockDataCreateRequest;
 import com.yaldi.domain.version.dto.response.MockDataResponse;
+import com.yaldi.domain.version.dto.response.MockDataScriptResponse;
 import com.yaldi.domain.version.service.MockDataService;
 import com.yaldi.global.response.ApiResponse;
 import com.yaldi.infra.security.util.SecurityUtil;
@@ -59,4 +60,16 @@ public class MockDataController {
 
         return ApiResponse.onSuccess(response);
     }
+
+    @Operation( summary = "Mock 데이터 스크립트 조회", description = "로컬 엔진으로 생성한 Mock 데이터의 INSERT 스크립트를 반환합니다. 저장된 시드로 다시 생성하므로 항상 같은 스크립트입니다")
+    @GetMapping("/{mockDataKey}/script")
+    public ApiResponse<MockDataScriptResponse> getScript(
+            @PathVariable Long versionKey,
+            @PathVariable Long mockDataKey
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        MockDataScriptResponse response = mockDataService.getScript(userKey, versionKey, mockDataKey);
+
+        return ApiResponse.onSuccess(response);
+    }
 }
@@ -1,16 +1,40 @@
 package com.yaldi.domain.version.dto.request;
 
+import com.yaldi.domain.erd.entity.SqlDialect;
+import com.yaldi.domain.version.entity.MockDataEngine;
+import com.yaldi.domain.version.mockdata.MockColumnRule;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Map;
+
 @Schema(description = "Mock 데이터 생성 요청")
 public record MockDataCreateRequest(
         @Schema(description = "테이블당 생성할 행 수", example = "100")
         @NotNull(message = "행 수는 필수입니다")
         @Min(value = 1, message = "행 수는 최소 1 이상이어야 합니다")
         @Max(value = 100, message = "행 수는 최대 100 이하여야 합니다")
-        Integer rowCount
+        Integer rowCount,
+
+        @Schema(description = "생성 엔진 (LOCAL: 즉시 생성, AI: 실제 같은 텍스트가 필요할 때 AI 서버 사용)", example = "LOCAL")
+        MockDataEngine engine,
+
+        @Schema(description = "난수 시드 (LOCAL, 미지정 시 임의 시드를 저장)", example = "42")
+        Long seed,
+
+        @Schema(description = "SQL 방언 (LOCAL)", example = "POSTGRESQL")
+        SqlDialect dialect,
+
+        @Schema(description = "테이블(물리명)별 행 수 (LOCAL, 1-10000, 테이블 100개·전체 30000행 이하)", example = "{\"users\": 50, \"orders\": 500}")
+        Map<String, Integer> tableRowCounts,
+
+        @Schema(description = "\"테이블.컬럼\"(물리명)별 생성 규칙 (LOCAL)")
+        Map<String, MockColumnRule> columnRules
 ) {
-}
\ No newline at end of file
+
+    public MockDataEngine engineOrDefault() {
+        return engine != null ? engine : MockDataEngine.LOCAL;
+    }
+}
@@ -0,0 +1,26 @@
+package com.yaldi.domain.version.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "로컬 Mock 데이터 INSERT 스크립트")
+public record MockDataScriptResponse(
+
+        @Schema(description = "파일명", example = "mock_data_v1_0_0_seed42.sql")
+        String fileName,
+
+        @Schema(description = "시드", example = "42")
+        Long seed,
+
+        @Schema(description = "테이블별 생성 행 수")
+        Map<String, Integer> rowCounts,
+
+        @Schema(description = "목표 행 수 미달, NULL 처리된 순환 참조 등")
+        List<String> warnings,
+
+        @Schema(description = "INSERT 스크립트")
+        String sql
+) {
+}
@@ -2,12 +2,16 @@ package com.yaldi.domain.version.entity;
 
 import com.yaldi.global.common.BaseSoftDeleteEntity;
 import com.yaldi.global.asyncjob.entity.AsyncJob;
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.Type;
+
+import java.util.Map;
 
 /**
  * MockData 엔티티
@@ -50,6 +54,24 @@ public class MockData extends BaseSoftDeleteEntity {
     @Column(name = "row_counts", nullable = false)
     private Short rowCounts;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "engine", length = 10, nullable = false)
+    @Builder.Default
+    private MockDataEngine engine = MockDataEngine.AI;
+
+    /**
+     * LOCAL 엔진 시드 (같은 스키마/옵션이면 같은 스크립트)
+     */
+    @Column(name = "seed")
+    private Long seed;
+
+    /**
+     * LOCAL 엔진 생성 옵션 (MockDataOptions)
+     */
+    @Type(JsonBinaryType.class)
+    @Column(name = "generation_options", columnDefinition = "jsonb")
+    private Map<String, Object> generationOptions;
+
     public void complete(String fileName, String filePath) {
         this.fileName = fileName;
         this.filePath = filePath;
@@ -0,0 +1,11 @@
+package com.yaldi.domain.version.entity;
+
+/**
+ * Mock 데이터 생성 엔진
+ */
+public enum MockDataEngine {
+    /** 서버 내 결정적 생성기 (동기, 시드/옵션만 저장하고 다운로드 시 재생성) */
+    LOCAL,
+    /** AI 서버 SQL 생성 (Kafka 비동기, 결과는 S3 업로드) - 실제 같은 텍스트가 필요할 때 */
+    AI
+}
@@ -7,12 +7,17 @@ import com.yaldi.domain.version.repository.MockDataRepository;
 import com.yaldi.global.asyncjob.entity.AsyncJob;
 import com.yaldi.global.asyncjob.enums.AsyncJobStatus;
 import com.yaldi.global.asyncjob.service.AsyncJobService;
+import com.yaldi.infra.kafka.config.KafkaTopic;
+import com.yaldi.infra.kafka.listener.BatchRecordProcessor;
 import com.yaldi.infra.s3.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -24,11 +29,15 @@ public class MockDataKafkaConsumerListener {
     private final AsyncJobService asyncJobService;
 
     @KafkaListener(
-            topics = "yaldi.mockdata.create",
+            topics = KafkaTopic.MOCK_DATA_CREATE_TOPIC,
             groupId = "yaldi-mockdata-group",
-            containerFactory = "mockDataKafkaListenerContainerFactory"
+            containerFactory = "mockDataBatchKafkaListenerContainerFactory"
     )
-    public void consumeMockDataGenerateRequest(MockDataCreateMessage message) {
+    public void consumeMockDataGenerateRequests(List<ConsumerRecord<String, MockDataCreateMessage>> records) {
+        BatchRecordProcessor.forEach(records, this::consumeMockDataGenerateRequest);
+    }
+
+    private void consumeMockDataGenerateRequest(MockDataCreateMessage message) {
         log.info("Mock 데이터 생성 요청 수신 - JobId: {}, VersionKey: {}, RowCount: {}",
                 message.jobId(), message.versionKey(), message.rowCount());
 
@@ -12,8 +12,11 @@ import com.yaldi.global.asyncjob.enums.AsyncJobStatus;
 import com.yaldi.global.asyncjob.service.AsyncJobService;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.kafka.config.KafkaTopic;
+import com.yaldi.infra.kafka.listener.BatchRecordProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -33,12 +36,19 @@ public class VersionProcessingConsumerListener {
     private final AsyncJobService asyncJobService;
     private final VersionSearchSyncService versionSearchSyncService;
 
+    /**
+     * 실패한 레코드만 단계별 재시도 후 DLT로 이동 (같은 배치의 다른 버전 처리는 계속됨)
+     */
     @KafkaListener(
-            topics = "yaldi.version.verification",
+            topics = KafkaTopic.VERSION_VERIFICATION_TOPIC,
             groupId = "yaldi-version-verification-group",
-            containerFactory = "versionProcessingKafkaListenerContainerFactory"
+            containerFactory = "versionProcessingBatchKafkaListenerContainerFactory"
     )
-    public void consumeVersionVerificationRequest(VersionProcessingMessage message) {
+    public void consumeVersionVerificationRequests(List<ConsumerRecord<String, VersionProcessingMessage>> records) {
+        BatchRecordProcessor.forEach(records, this::consumeVersionVerificationRequest);
+    }
+
+    private void consumeVersionVerificationRequest(VersionProcessingMessage message) {
         log.info("버전 처리 요청 수신 - JobId: {}, VersionKey: {}, VersionName: {}",
                 message.jobId(), message.versionKey(), message.versionName());
 
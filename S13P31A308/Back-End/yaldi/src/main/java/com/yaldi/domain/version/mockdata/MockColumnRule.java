@@ -0,0 +1,36 @@
+package com.yaldi.domain.version.mockdata;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "컬럼별 Mock 값 생성 규칙 (지정한 항목만 적용)")
+public record MockColumnRule(
+        @Schema(description = "생성기 종류", example = "NORMAL")
+        MockGeneratorType generator,
+
+        @Schema(description = "최솟값 (UNIFORM/NORMAL)", example = "0")
+        Double min,
+
+        @Schema(description = "최댓값 (UNIFORM/NORMAL)", example = "100000")
+        Double max,
+
+        @Schema(description = "평균 (NORMAL)", example = "30000")
+        Double mean,
+
+        @Schema(description = "표준편차 (NORMAL)", example = "8000")
+        Double stddev,
+
+        @Schema(description = "후보 값 (ENUM)", example = "[\"READY\", \"PAID\", \"SHIPPED\"]")
+        List<String> values,
+
+        @Schema(description = "시작 날짜/시각 (DATE, ISO-8601)", example = "2025-01-01")
+        String from,
+
+        @Schema(description = "종료 날짜/시각 (DATE, ISO-8601)", example = "2025-12-31")
+        String to,
+
+        @Schema(description = "NULL 비율 (nullable 컬럼만, 0~1)", example = "0.1")
+        Double nullRatio
+) {
+}
@@ -0,0 +1,412 @@
+package com.yaldi.domain.version.mockdata;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+import com.yaldi.domain.version.mockdata.MockSchema.Column;
+import com.yaldi.domain.version.mockdata.MockSchema.ForeignKey;
+import com.yaldi.domain.version.mockdata.MockSchema.Table;
+import com.yaldi.domain.version.mockdata.MockValueGenerators.ValueGenerator;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 로컬 Mock 데이터 생성기 (AI/Kafka/S3 없이 스키마만으로 INSERT 스크립트 생성)
+ *
+ * <ul>
+ *   <li><strong>참조 무결성:</strong> FK 그래프를 위상 정렬해 부모 테이블부터 생성하고, FK 값은 이미 생성된 부모 행에서 선택</li>
+ *   <li><strong>유일성:</strong> PK(복합 포함)와 UNIQUE 컬럼은 생성된 값 집합으로 충돌을 검사하고 재시도/대체 값 사용</li>
+ *   <li><strong>결정성:</strong> 테이블·컬럼마다 시드에서 파생한 난수열을 사용하여 같은 시드면 같은 스크립트
+ *       (테이블이 추가돼도 기존 테이블의 값은 바뀌지 않음)</li>
+ * </ul>
+ */
+@Component
+public class MockDataGenerator {
+
+    /** 행 하나를 만들 때 복합 PK 충돌 재시도 횟수 */
+    private static final int ROW_ATTEMPTS = 20;
+
+    /** 단일 컬럼 유일성 충돌 시 재생성 횟수 (이후 행 번호 기반 대체 값) */
+    private static final int VALUE_ATTEMPTS = 10;
+
+    /** nullable 일반 컬럼의 기본 NULL 비율 */
+    private static final double DEFAULT_NULL_RATIO = 0.05;
+
+    /** 자기 참조/선택적 FK의 NULL 비율 */
+    private static final double OPTIONAL_REFERENCE_NULL_RATIO = 0.1;
+
+    /** 한 번에 생성할 수 있는 테이블 수 */
+    static final int MAX_TABLE_COUNT = 100;
+
+    /** 한 번에 생성할 수 있는 전체 행 수 (테이블별 목표 행 수의 합) */
+    static final int MAX_TOTAL_ROW_COUNT = 30_000;
+
+    public MockDataScript generate(Map<String, Object> schemaData, MockDataOptions options) {
+        MockSchema schema = MockSchema.from(schemaData);
+        if (schema.tables().isEmpty()) {
+            throw new GeneralException(ErrorStatus.MOCK_DATA_EMPTY_SCHEMA);
+        }
+        validateSize(schema, options);
+
+        List<String> warnings = new ArrayList<>();
+        MockSqlWriter writer = new MockSqlWriter(options.dialect());
+        writer.header(options.seed());
+
+        Map<Long, GeneratedTable> generated = new HashMap<>();
+        Map<String, Integer> rowCounts = new LinkedHashMap<>();
+        for (Table table : insertionOrder(schema)) {
+            GeneratedTable result = generateTable(schema, table, options, generated, warnings);
+            generated.put(table.tableKey(), result);
+            rowCounts.put(table.physicalName(), result.rows().size());
+            writer.insert(table.physicalName(), table.columns(), result.rows());
+            resetSequences(writer, options.dialect(), table, result);
+        }
+        warnings.forEach(writer::comment);
+        return new MockDataScript(writer.toSql(), rowCounts, List.copyOf(warnings));
+    }
+
+    /**
+     * 생성 전에 테이블 수와 목표 행 수 합계를 제한 (요청 스레드에서 동기 생성하므로)
+     */
+    private static void validateSize(MockSchema schema, MockDataOptions options) {
+        if (schema.tables().size() > MAX_TABLE_COUNT) {
+            throw new GeneralException(ErrorStatus.MOCK_DATA_TOO_LARGE);
+        }
+        long totalRows = schema.tables().stream()
+                .mapToLong(table -> options.rowCountOf(table.physicalName()))
+                .sum();
+        if (totalRows > MAX_TOTAL_ROW_COUNT) {
+            throw new GeneralException(ErrorStatus.MOCK_DATA_TOO_LARGE);
+        }
+    }
+
+    /**
+     * 부모 → 자식 순서 (자기 참조 제외 위상 정렬, 순환이 있으면 남은 테이블은 원래 순서로)
+     */
+    static List<Table> insertionOrder(MockSchema schema) {
+        Map<Long, Set<Long>> parents = new HashMap<>();
+        for (Table table : schema.tables()) {
+            Set<Long> tableParents = new HashSet<>();
+            for (ForeignKey fk : schema.foreignKeysOf(table.tableKey())) {
+                if (!fk.selfReference()) {
+                    tableParents.add(fk.parentTableKey());
+                }
+            }
+            parents.put(table.tableKey(), tableParents);
+        }
+
+        List<Table> ordered = new ArrayList<>();
+        Set<Long> placed = new HashSet<>();
+        boolean progressed = true;
+        while (progressed && ordered.size() < schema.tables().size()) {
+            progressed = false;
+            for (Table table : schema.tables()) {
+                if (!placed.contains(table.tableKey()) && placed.containsAll(parents.get(table.tableKey()))) {
+                    ordered.add(table);
+                    placed.add(table.tableKey());
+                    progressed = true;
+                }
+            }
+        }
+        for (Table table : schema.tables()) {
+            if (placed.add(table.tableKey())) {
+                ordered.add(table);
+            }
+        }
+        return ordered;
+    }
+
+    private GeneratedTable generateTable(MockSchema schema, Table table, MockDataOptions options,
+                                         Map<Long, GeneratedTable> generated, List<String> warnings) {
+        List<Column> columns = table.columns();
+        int target = Math.max(0, options.rowCountOf(table.physicalName()));
+        SplittableRandom rowRandom = random(options.seed(), table.physicalName(), "#rows");
+
+        ColumnPlan[] plans = new ColumnPlan[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            plans[i] = plan(schema, table, columns.get(i), options, generated, warnings);
+        }
+
+        List<Integer> primaryKeyIndexes = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).primaryKey()) {
+                primaryKeyIndexes.add(i);
+            }
+        }
+        Set<List<Object>> usedPrimaryKeys = new HashSet<>();
+        List<Set<Object>> usedValues = new ArrayList<>();
+        columns.forEach(column -> usedValues.add(new HashSet<>()));
+
+        List<Object[]> rows = new ArrayList<>(target);
+        rowLoop:
+        for (int rowIndex = 0; rowIndex < target; rowIndex++) {
+            for (int attempt = 0; attempt < ROW_ATTEMPTS; attempt++) {
+                Object[] row = new Object[columns.size()];
+                boolean complete = true;
+
+                // FK가 아닌 컬럼을 먼저 채워야 자기 참조가 같은 행의 PK를 쓸 수 있음
+                for (int pass = 0; pass < 2 && complete; pass++) {
+                    for (int i = 0; i < columns.size(); i++) {
+                        if ((plans[i].reference() == null) != (pass == 0)) {
+                            continue;
+                        }
+                        Object value = plans[i].next(rowRandom, rowIndex, rows, row, usedValues.get(i));
+                        if (value == ColumnPlan.UNSATISFIABLE) {
+                            complete = false;
+                            break;
+                        }
+                        row[i] = value;
+                    }
+                }
+                if (!complete) {
+                    break;
+                }
+
+                if (primaryKeyIndexes.size() > 1) {
+                    List<Object> key = primaryKeyIndexes.stream().map(i -> row[i]).toList();
+                    if (usedPrimaryKeys.contains(key)) {
+                        continue;
+                    }
+                    usedPrimaryKeys.add(key);
+                }
+                for (int i = 0; i < columns.size(); i++) {
+                    if (row[i] != null && plans[i].unique()) {
+                        usedValues.get(i).add(row[i]);
+                    }
+                }
+                rows.add(row);
+                continue rowLoop;
+            }
+            break;
+        }
+
+        if (rows.size() < target) {
+            warnings.add(String.format("%s: 유일성/참조 제약으로 목표 %d행 중 %d행만 생성했습니다.",
+                    table.physicalName(), target, rows.size()));
+        }
+        return new GeneratedTable(columns, rows);
+    }
+
+    private ColumnPlan plan(MockSchema schema, Table table, Column column, MockDataOptions options,
+                            Map<Long, GeneratedTable> generated, List<String> warnings) {
+        MockColumnRule rule = options.ruleOf(table.physicalName(), column.physicalName());
+        boolean unique = column.unique() || (column.primaryKey() && table.primaryKeys().size() == 1);
+        double nullRatio = rule != null && rule.nullRatio() != null ? rule.nullRatio() : DEFAULT_NULL_RATIO;
+        SplittableRandom random = random(options.seed(), table.physicalName(), column.physicalName());
+
+        ForeignKey foreignKey = schema.foreignKeysOf(table.tableKey()).stream()
+                .filter(fk -> fk.childColumnKey().equals(column.columnKey()))
+                .findFirst()
+                .orElse(null);
+        if (foreignKey == null) {
+            return new ColumnPlan(column, unique, column.primaryKey() || unique ? 0 : nullRatio,
+                    MockValueGenerators.forColumn(column, rule), random, null);
+        }
+
+        Table parent = schema.table(foreignKey.parentTableKey()).orElseThrow();
+        int parentIndex = indexOf(parent, foreignKey.parentColumnKey());
+        if (foreignKey.selfReference()) {
+            return new ColumnPlan(column, unique, OPTIONAL_REFERENCE_NULL_RATIO, null, random,
+                    new Reference(parentIndex, null, true));
+        }
+
+        GeneratedTable parentRows = generated.get(parent.tableKey());
+        if (parentRows == null || parentRows.rows().isEmpty()) {
+            if (!column.nullable()) {
+                throw new GeneralException(ErrorStatus.MOCK_DATA_CYCLIC_REFERENCE);
+            }
+            warnings.add(String.format("%s.%s: 참조할 %s 행이 없어 NULL로 채웠습니다. (순환 참조)",
+                    table.physicalName(), column.physicalName(), parent.physicalName()));
+            return new ColumnPlan(column, false, 1.0, null, random, new Reference(parentIndex, List.of(), false));
+        }
+
+        List<Object> parentValues = new ArrayList<>();
+        Set<Object> seen = new HashSet<>();
+        for (Object[] parentRow : parentRows.rows()) {
+            Object value = parentRow[parentIndex];
+            if (value != null && seen.add(value)) {
+                parentValues.add(value);
+            }
+        }
+        if (unique) {
+            // 1:1 관계: 부모 값을 섞어 한 번씩만 사용
+            shuffle(parentValues, random);
+        }
+        double referenceNullRatio = column.nullable() && !column.primaryKey() ? OPTIONAL_REFERENCE_NULL_RATIO : 0;
+        return new ColumnPlan(column, unique, rule != null && rule.nullRatio() != null ? nullRatio : referenceNullRatio,
+                null, random, new Reference(parentIndex, parentValues, false));
+    }
+
+    private static void resetSequences(MockSqlWriter writer, SqlDialect dialect, Table table, GeneratedTable result) {
+        if (dialect != SqlDialect.POSTGRESQL || result.rows().isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < table.columns().size(); i++) {
+            Column column = table.columns().get(i);
+            if (!column.incremental()) {
+                continue;
+            }
+            long max = 0;
+            for (Object[] row : result.rows()) {
+                if (row[i] instanceof Number number) {
+                    max = Math.max(max, number.longValue());
+                }
+            }
+            // SERIAL 시퀀스를 명시적으로 넣은 값 이후로 이동 (이후 INSERT가 PK 충돌하지 않도록)
+            writer.comment("sequence reset");
+            writer.raw(String.format("SELECT setval(pg_get_serial_sequence(%s, %s), %d);%n%n",
+                    writer.literal(writer.identifier(table.physicalName())),
+                    writer.literal(column.physicalName()), max));
+        }
+    }
+
+    private static int indexOf(Table table, Long columnKey) {
+        for (int i = 0; i < table.columns().size(); i++) {
+            if (table.columns().get(i).columnKey().equals(columnKey)) {
+                return i;
+            }
+        }
+        throw new GeneralException(ErrorStatus.MOCK_DATA_GENERATION_FAILED);
+    }
+
+    private static void shuffle(List<Object> values, SplittableRandom random) {
+        for (int i = values.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object tmp = values.get(i);
+            values.set(i, values.get(j));
+            values.set(j, tmp);
+        }
+    }
+
+    /**
+     * 시드와 이름에서 파생한 독립 난수열 (String.hashCode는 JVM 간 동일)
+     */
+    static SplittableRandom random(long seed, String... names) {
+        long mixed = seed;
+        for (String name : names) {
+            mixed = mix(mixed * 31 + name.hashCode());
+        }
+        return new SplittableRandom(mixed);
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record GeneratedTable(List<Column> columns, List<Object[]> rows) {
+    }
+
+    /**
+     * FK 값 출처
+     *
+     * @param parentIndex  부모 테이블에서 참조 컬럼 위치
+     * @param parentValues 부모 값 (자기 참조면 null, 유일 FK면 섞인 순서대로 한 번씩 사용)
+     */
+    private record Reference(int parentIndex, List<Object> parentValues, boolean self) {
+    }
+
+    /**
+     * 컬럼 하나의 값 생성 계획
+     */
+    private static final class ColumnPlan {
+
+        static final Object UNSATISFIABLE = new Object();
+
+        private final Column column;
+        private final boolean unique;
+        private final double nullRatio;
+        private final ValueGenerator generator;
+        private final SplittableRandom random;
+        private final Reference reference;
+        private int nextParent;
+
+        private ColumnPlan(Column column, boolean unique, double nullRatio, ValueGenerator generator,
+                           SplittableRandom random, Reference reference) {
+            this.column = column;
+            this.unique = unique;
+            this.nullRatio = column.nullable() ? nullRatio : 0;
+            this.generator = generator;
+            this.random = random;
+            this.reference = reference;
+        }
+
+        Reference reference() {
+            return reference;
+        }
+
+        boolean unique() {
+            return unique;
+        }
+
+        Object next(SplittableRandom rowRandom, int rowIndex, List<Object[]> previousRows, Object[] row,
+                    Set<Object> used) {
+            if (nullRatio > 0 && random.nextDouble() < nullRatio) {
+                return null;
+            }
+            if (reference != null) {
+                return nextReference(rowRandom, previousRows, row, used);
+            }
+
+            Object value = generator.next(random, rowIndex);
+            if (!unique || value == null || !used.contains(value)) {
+                return value;
+            }
+            for (int attempt = 0; attempt < VALUE_ATTEMPTS; attempt++) {
+                value = generator.next(random, rowIndex);
+                if (!used.contains(value)) {
+                    return value;
+                }
+            }
+            Object fallback = MockValueGenerators.uniqueFallback(column, value, rowIndex);
+            if (fallback != null && !used.contains(fallback)) {
+                return fallback;
+            }
+            return column.nullable() && !column.primaryKey() ? null : UNSATISFIABLE;
+        }
+
+        private Object nextReference(SplittableRandom rowRandom, List<Object[]> previousRows, Object[] row,
+                                     Set<Object> used) {
+            if (reference.self()) {
+                List<Object> candidates = new ArrayList<>();
+                for (Object[] previous : previousRows) {
+                    Object value = previous[reference.parentIndex()];
+                    if (value != null && !(unique && used.contains(value))) {
+                        candidates.add(value);
+                    }
+                }
+                if (!candidates.isEmpty()) {
+                    return candidates.get(rowRandom.nextInt(candidates.size()));
+                }
+                // 첫 행은 자기 자신을 참조 (NOT NULL 자기 참조)
+                Object own = row[reference.parentIndex()];
+                return column.nullable() ? null : (own != null ? own : UNSATISFIABLE);
+            }
+
+            List<Object> values = reference.parentValues();
+            if (values.isEmpty()) {
+                return null;
+            }
+            if (unique) {
+                while (nextParent < values.size()) {
+                    Object value = values.get(nextParent++);
+                    if (!used.contains(value)) {
+                        return value;
+                    }
+                }
+                return column.nullable() && !column.primaryKey() ? null : UNSATISFIABLE;
+            }
+            return values.get(rowRandom.nextInt(values.size()));
+        }
+    }
+}
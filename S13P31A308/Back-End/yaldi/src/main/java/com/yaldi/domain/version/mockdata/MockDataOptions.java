@@ -0,0 +1,39 @@
+package com.yaldi.domain.version.mockdata;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+
+import java.util.Map;
+
+/**
+ * 로컬 Mock 데이터 생성 옵션
+ *
+ * <p>같은 스키마와 옵션(시드 포함)이면 항상 같은 스크립트가 생성되므로, 옵션만 저장해 두고
+ * 다운로드 시 다시 생성합니다.</p>
+ *
+ * @param seed            난수 시드
+ * @param defaultRowCount 테이블별 기본 행 수
+ * @param tableRowCounts  테이블(물리명)별 행 수
+ * @param columnRules     "테이블.컬럼" (물리명) 별 생성 규칙
+ */
+public record MockDataOptions(
+        long seed,
+        int defaultRowCount,
+        Map<String, Integer> tableRowCounts,
+        Map<String, MockColumnRule> columnRules,
+        SqlDialect dialect
+) {
+
+    public MockDataOptions {
+        tableRowCounts = tableRowCounts == null ? Map.of() : Map.copyOf(tableRowCounts);
+        columnRules = columnRules == null ? Map.of() : Map.copyOf(columnRules);
+        dialect = dialect == null ? SqlDialect.POSTGRESQL : dialect;
+    }
+
+    public int rowCountOf(String tableName) {
+        return tableRowCounts.getOrDefault(tableName, defaultRowCount);
+    }
+
+    public MockColumnRule ruleOf(String tableName, String columnName) {
+        return columnRules.get(tableName + "." + columnName);
+    }
+}
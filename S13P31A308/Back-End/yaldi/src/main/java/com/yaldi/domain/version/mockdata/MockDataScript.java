@@ -0,0 +1,13 @@
+package com.yaldi.domain.version.mockdata;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 생성된 INSERT 스크립트
+ *
+ * @param rowCounts 테이블별 실제 생성 행 수 (유일성/참조 제약으로 목표보다 적을 수 있음)
+ * @param warnings  목표 행 수 미달, 생략된 참조 등
+ */
+public record MockDataScript(String sql, Map<String, Integer> rowCounts, List<String> warnings) {
+}
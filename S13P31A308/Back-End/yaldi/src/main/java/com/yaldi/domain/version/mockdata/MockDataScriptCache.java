@@ -0,0 +1,54 @@
+package com.yaldi.domain.version.mockdata;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 엔진 Mock 데이터 스크립트 캐시
+ *
+ * <p>생성 요청에서 만든 스크립트를 그대로 보관해 다운로드마다 다시 생성하지 않습니다.
+ * 캐시에 없으면(다른 노드, 만료, 재시작) 저장된 시드/옵션으로 재생성해 채웁니다.</p>
+ * <ul>
+ *   <li><strong>크기:</strong> SQL 문자 수 합계 {@link #MAXIMUM_WEIGHT} 이내</li>
+ *   <li><strong>만료:</strong> 마지막 접근 후 {@link #EXPIRE_AFTER_ACCESS}</li>
+ * </ul>
+ */
+@Component
+public class MockDataScriptCache {
+
+    static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+    private static final long MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    private final Cache<Long, MockDataScript> cache;
+
+    @Autowired
+    public MockDataScriptCache() {
+        this(Ticker.systemTicker());
+    }
+
+    MockDataScriptCache(Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(MAXIMUM_WEIGHT)
+                .weigher((Long mockDataKey, MockDataScript script) -> script.sql().length())
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void put(Long mockDataKey, MockDataScript script) {
+        cache.put(mockDataKey, script);
+    }
+
+    /**
+     * 스크립트 (캐시에 없으면 생성해 저장)
+     */
+    public MockDataScript get(Long mockDataKey, Supplier<MockDataScript> generator) {
+        return cache.get(mockDataKey, key -> generator.get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.yaldi.domain.version.mockdata;
+
+/**
+ * 컬럼 값 생성기 종류 (지정하지 않으면 컬럼명/타입으로 추론)
+ */
+public enum MockGeneratorType {
+    /** 사람 이름 */
+    NAME,
+    EMAIL,
+    PHONE,
+    URL,
+    /** 짧은 단어/코드 */
+    WORD,
+    /** 문장 */
+    SENTENCE,
+    /** values 중 하나 (ENUM 타입은 dataDetail 사용) */
+    ENUM,
+    /** min ~ max 균등 분포 */
+    UNIFORM,
+    /** mean, stddev 정규 분포 (min/max로 절단) */
+    NORMAL,
+    /** 1부터 1씩 증가 */
+    SEQUENCE,
+    /** from ~ to 사이 날짜/시각 */
+    DATE,
+    BOOLEAN,
+    UUID
+}
@@ -0,0 +1,165 @@
+package com.yaldi.domain.version.mockdata;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.yaldi.domain.version.util.SchemaDataConverter.*;
+
+/**
+ * Mock 데이터 생성용 스키마 모델 (버전 스냅샷 schemaData에서 변환)
+ *
+ * <p>관계의 부모/자식은 컬럼 속성으로 판단합니다. 관계 생성 시 부모(from) PK를 자식(to)에 FK 컬럼으로
+ * 복사하므로 기본은 from → to 이지만, 반대로 저장된 관계(from이 FK, to가 FK 아닌 PK)도 허용합니다.
+ * 관계에 연결되지 않은 FK 컬럼은 부모 테이블의 같은 이름 PK 컬럼과 연결합니다. (복합 FK)</p>
+ */
+public record MockSchema(List<Table> tables, List<ForeignKey> foreignKeys) {
+
+    public record Table(Long tableKey, String physicalName, List<Column> columns) {
+
+        public List<Column> primaryKeys() {
+            return columns.stream().filter(Column::primaryKey).toList();
+        }
+
+        public Optional<Column> column(Long columnKey) {
+            return columns.stream().filter(column -> column.columnKey().equals(columnKey)).findFirst();
+        }
+    }
+
+    public record Column(
+            Long columnKey,
+            String physicalName,
+            String dataType,
+            List<String> dataDetail,
+            boolean nullable,
+            boolean primaryKey,
+            boolean foreignKey,
+            boolean unique,
+            boolean incremental
+    ) {
+
+        /** 대문자 타입명 (배열 표기 포함, 길이/정밀도 제외) */
+        public String baseType() {
+            String type = dataType == null ? "TEXT" : dataType.trim().toUpperCase(Locale.ROOT);
+            int paren = type.indexOf('(');
+            return paren > 0 ? type.substring(0, paren).trim() : type;
+        }
+
+        /** dataDetail의 n번째 정수 값 (없으면 기본값) */
+        public int detailInt(int index, int defaultValue) {
+            if (dataDetail == null || dataDetail.size() <= index) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(dataDetail.get(index).trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * 자식 컬럼 → 부모 컬럼 참조
+     */
+    public record ForeignKey(Long childTableKey, Long childColumnKey, Long parentTableKey, Long parentColumnKey) {
+
+        public boolean selfReference() {
+            return childTableKey.equals(parentTableKey);
+        }
+    }
+
+    public Optional<Table> table(Long tableKey) {
+        return tables.stream().filter(table -> table.tableKey().equals(tableKey)).findFirst();
+    }
+
+    public List<ForeignKey> foreignKeysOf(Long childTableKey) {
+        return foreignKeys.stream().filter(fk -> fk.childTableKey().equals(childTableKey)).toList();
+    }
+
+    public static MockSchema from(Map<String, Object> schemaData) {
+        List<Table> tables = new ArrayList<>();
+        Map<Long, Column> columnsByKey = new HashMap<>();
+        Map<Long, Long> tableOfColumn = new HashMap<>();
+
+        for (Map<String, Object> tableData : safeList(schemaData.get("tables"))) {
+            Long tableKey = toLong(tableData.get("tableKey"));
+            List<Column> columns = new ArrayList<>();
+            List<Map<String, Object>> columnData = new ArrayList<>(safeList(tableData.get("columns")));
+            columnData.sort(Comparator.comparing(data -> toInteger(data.get("columnOrder"), 0)));
+            for (Map<String, Object> data : columnData) {
+                String[] detail = toArray(data.get("dataDetail"));
+                Column column = new Column(
+                        toLong(data.get("columnKey")),
+                        toStringSafe(data.get("physicalName"), ""),
+                        toStringSafe(data.get("dataType"), "VARCHAR"),
+                        detail == null ? List.of() : List.of(detail),
+                        toBoolean(data.get("isNullable"), true),
+                        toBoolean(data.get("isPrimaryKey"), false),
+                        toBoolean(data.get("isForeignKey"), false),
+                        toBoolean(data.get("isUnique"), false),
+                        toBoolean(data.get("isIncremental"), false));
+                columns.add(column);
+                columnsByKey.put(column.columnKey(), column);
+                tableOfColumn.put(column.columnKey(), tableKey);
+            }
+            tables.add(new Table(tableKey, toStringSafe(tableData.get("physicalName"), ""), List.copyOf(columns)));
+        }
+
+        MockSchema partial = new MockSchema(List.copyOf(tables), List.of());
+        List<ForeignKey> foreignKeys = new ArrayList<>();
+        for (Map<String, Object> relation : safeList(schemaData.get("relations"))) {
+            Long fromTableKey = toLong(relation.get("fromTableKey"));
+            Long toTableKey = toLong(relation.get("toTableKey"));
+            Column fromColumn = columnsByKey.get(toLongOrNull(relation.get("fromColumnKey")));
+            Column toColumn = columnsByKey.get(toLongOrNull(relation.get("toColumnKey")));
+            if (partial.table(fromTableKey).isEmpty() || partial.table(toTableKey).isEmpty()) {
+                continue;
+            }
+
+            boolean reversed = fromColumn != null && toColumn != null
+                    && fromColumn.foreignKey() && toColumn.primaryKey() && !toColumn.foreignKey();
+            Long parentTableKey = reversed ? toTableKey : fromTableKey;
+            Long childTableKey = reversed ? fromTableKey : toTableKey;
+            Column parentColumn = reversed ? toColumn : fromColumn;
+            Column childColumn = reversed ? fromColumn : toColumn;
+
+            if (parentColumn != null && childColumn != null
+                    && tableOfColumn.get(parentColumn.columnKey()).equals(parentTableKey)
+                    && tableOfColumn.get(childColumn.columnKey()).equals(childTableKey)) {
+                addIfAbsent(foreignKeys, new ForeignKey(
+                        childTableKey, childColumn.columnKey(), parentTableKey, parentColumn.columnKey()));
+            }
+            linkByName(partial, foreignKeys, childTableKey, parentTableKey);
+        }
+        return new MockSchema(partial.tables(), List.copyOf(foreignKeys));
+    }
+
+    /**
+     * 관계에 명시되지 않은 자식 FK 컬럼을 부모 PK와 이름으로 연결
+     */
+    private static void linkByName(MockSchema schema, List<ForeignKey> foreignKeys,
+                                   Long childTableKey, Long parentTableKey) {
+        Table child = schema.table(childTableKey).orElseThrow();
+        Table parent = schema.table(parentTableKey).orElseThrow();
+        for (Column parentKey : parent.primaryKeys()) {
+            for (Column column : child.columns()) {
+                boolean linked = foreignKeys.stream().anyMatch(fk -> fk.childColumnKey().equals(column.columnKey()));
+                if (!linked && column.foreignKey() && column.physicalName().equalsIgnoreCase(parentKey.physicalName())
+                        && !(childTableKey.equals(parentTableKey) && column.primaryKey())) {
+                    foreignKeys.add(new ForeignKey(
+                            childTableKey, column.columnKey(), parentTableKey, parentKey.columnKey()));
+                }
+            }
+        }
+    }
+
+    private static void addIfAbsent(List<ForeignKey> foreignKeys, ForeignKey foreignKey) {
+        if (foreignKeys.stream().noneMatch(fk -> fk.childColumnKey().equals(foreignKey.childColumnKey()))) {
+            foreignKeys.add(foreignKey);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.yaldi.domain.version.mockdata;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+import com.yaldi.domain.version.mockdata.MockSchema.Column;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mock 데이터 INSERT 문 작성 (다중 행 INSERT, 방언별 식별자/리터럴)
+ */
+class MockSqlWriter {
+
+    /** INSERT 문 하나에 담을 최대 행 수 */
+    static final int ROWS_PER_STATEMENT = 100;
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final SqlDialect dialect;
+    private final StringBuilder sql = new StringBuilder();
+
+    MockSqlWriter(SqlDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    void header(long seed) {
+        sql.append("-- ").append(dialect.getValue()).append(" Mock Data (seed=").append(seed).append(")\n");
+        sql.append("-- 테이블은 참조 순서(부모 → 자식)로 정렬되어 있습니다.\n\n");
+    }
+
+    void comment(String text) {
+        sql.append("-- ").append(text.replace("\n", " ")).append('\n');
+    }
+
+    void insert(String tableName, List<Column> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String columnList = columns.stream().map(column -> identifier(column.physicalName()))
+                .collect(Collectors.joining(", "));
+        for (int start = 0; start < rows.size(); start += ROWS_PER_STATEMENT) {
+            List<Object[]> chunk = rows.subList(start, Math.min(rows.size(), start + ROWS_PER_STATEMENT));
+            sql.append("INSERT INTO ").append(identifier(tableName)).append(" (").append(columnList).append(") VALUES\n");
+            for (int i = 0; i < chunk.size(); i++) {
+                Object[] row = chunk.get(i);
+                sql.append("  (");
+                for (int c = 0; c < row.length; c++) {
+                    if (c > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append(literal(row[c]));
+                }
+                sql.append(i == chunk.size() - 1 ? ");\n" : "),\n");
+            }
+        }
+        sql.append('\n');
+    }
+
+    void raw(String statement) {
+        sql.append(statement);
+    }
+
+    String toSql() {
+        return sql.toString();
+    }
+
+    String identifier(String name) {
+        return dialect == SqlDialect.MYSQL
+                ? "`" + name.replace("`", "``") + "`"
+                : "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+
+    String literal(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Boolean bool) {
+            return dialect == SqlDialect.MYSQL ? (bool ? "1" : "0") : (bool ? "TRUE" : "FALSE");
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number number) {
+            return number.toString();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return quote(dateTime.format(TIMESTAMP));
+        }
+        if (value instanceof LocalDate || value instanceof LocalTime) {
+            return quote(value.toString());
+        }
+        if (value instanceof byte[] bytes) {
+            String hex = HexFormat.of().formatHex(bytes);
+            return dialect == SqlDialect.MYSQL ? "X'" + hex + "'" : "'\\x" + hex + "'";
+        }
+        if (value instanceof List<?> list) {
+            // MySQL은 배열 타입이 없어 JSON으로 내보냄 (DDL 내보내기와 동일)
+            if (dialect == SqlDialect.MYSQL) {
+                return quote(list.stream().map(this::jsonValue).collect(Collectors.joining(", ", "[", "]")));
+            }
+            return list.stream().map(this::literal).collect(Collectors.joining(", ", "ARRAY[", "]"));
+        }
+        return quote(value.toString());
+    }
+
+    private String jsonValue(Object value) {
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return "\"" + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private String quote(String text) {
+        String escaped = text.replace("'", "''");
+        if (dialect == SqlDialect.MYSQL) {
+            escaped = escaped.replace("\\", "\\\\");
+        }
+        return "'" + escaped + "'";
+    }
+}
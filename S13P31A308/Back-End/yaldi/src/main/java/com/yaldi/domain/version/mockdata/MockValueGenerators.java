@@ -0,0 +1,333 @@
+package com.yaldi.domain.version.mockdata;
+
+import com.yaldi.domain.version.mockdata.MockSchema.Column;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 컬럼 값 생성기 선택
+ *
+ * <p>규칙이 없으면 컬럼명(email, name, phone ...)과 타입, dataDetail(길이/정밀도/ENUM 값)으로 추론합니다.
+ * 모든 생성기는 전달받은 {@link SplittableRandom}만 사용하므로 시드가 같으면 결과가 같습니다.</p>
+ */
+public final class MockValueGenerators {
+
+    /** 컬럼 값 생성기 (rowIndex는 0부터) */
+    @FunctionalInterface
+    public interface ValueGenerator {
+        Object next(SplittableRandom random, int rowIndex);
+    }
+
+    private static final List<String> FAMILY_NAMES = List.of(
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황");
+    private static final List<String> GIVEN_NAMES = List.of(
+            "민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "주원", "지민",
+            "예준", "수아", "건우", "지유", "현우", "채원", "유준", "다은", "선우", "은서");
+    private static final List<String> WORDS = List.of(
+            "alpha", "bravo", "delta", "ember", "frost", "grove", "harbor", "iris", "jade", "karma",
+            "lumen", "maple", "nova", "orbit", "pixel", "quartz", "river", "solar", "tide", "urban",
+            "vivid", "willow", "xenon", "yield", "zephyr");
+    private static final List<String> SENTENCE_WORDS = List.of(
+            "데이터", "설계", "검토", "완료", "요청", "프로젝트", "테이블", "관계", "기능", "개선",
+            "오늘", "확인", "필요", "일정", "변경", "사용자", "주문", "상품", "배송", "결제");
+    private static final List<String> EMAIL_DOMAINS = List.of("example.com", "example.org", "test.kr");
+
+    private static final LocalDateTime DEFAULT_FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime DEFAULT_TO = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+
+    private MockValueGenerators() {
+    }
+
+    /**
+     * 컬럼 값 생성기 선택 (rule이 우선)
+     */
+    public static ValueGenerator forColumn(Column column, MockColumnRule rule) {
+        String baseType = column.baseType();
+        if (baseType.endsWith("[]")) {
+            return arrayOf(elementColumn(column), rule);
+        }
+        if ((baseType.equals("JSON") || baseType.equals("JSONB")) && (rule == null || rule.generator() == null)) {
+            return (random, row) -> "{\"seq\": " + (row + 1) + ", \"tag\": \"" + pick(random, WORDS) + "\"}";
+        }
+        if (baseType.equals("BLOB") || baseType.equals("BYTEA")) {
+            return (random, row) -> {
+                byte[] bytes = new byte[8];
+                random.nextBytes(bytes);
+                return bytes;
+            };
+        }
+        MockGeneratorType type = rule != null && rule.generator() != null ? rule.generator() : infer(column);
+        ValueGenerator generator = create(type, column, rule);
+        return fitToColumn(generator, column);
+    }
+
+    /**
+     * 컬럼명/타입으로 생성기 추론
+     */
+    static MockGeneratorType infer(Column column) {
+        String type = column.baseType();
+        String name = column.physicalName().toLowerCase(Locale.ROOT);
+
+        if (type.equals("ENUM") && !column.dataDetail().isEmpty()) {
+            return MockGeneratorType.ENUM;
+        }
+        if (isInteger(type) || isDecimal(type)) {
+            return column.primaryKey() || column.incremental() ? MockGeneratorType.SEQUENCE : MockGeneratorType.UNIFORM;
+        }
+        if (isTemporal(type)) {
+            return MockGeneratorType.DATE;
+        }
+        if (type.equals("BOOLEAN") || type.equals("BOOL")) {
+            return MockGeneratorType.BOOLEAN;
+        }
+        if (type.equals("UUID")) {
+            return MockGeneratorType.UUID;
+        }
+        if (name.contains("email") || name.contains("mail")) {
+            return MockGeneratorType.EMAIL;
+        }
+        if (name.contains("phone") || name.contains("tel") || name.contains("mobile")) {
+            return MockGeneratorType.PHONE;
+        }
+        if (name.contains("url") || name.contains("link") || name.contains("homepage")) {
+            return MockGeneratorType.URL;
+        }
+        if (name.contains("name") || name.equals("writer") || name.equals("author")) {
+            return MockGeneratorType.NAME;
+        }
+        if (type.equals("TEXT") || name.contains("content") || name.contains("description")
+                || name.contains("comment") || name.contains("memo") || name.contains("title")) {
+            return MockGeneratorType.SENTENCE;
+        }
+        return MockGeneratorType.WORD;
+    }
+
+    private static ValueGenerator create(MockGeneratorType type, Column column, MockColumnRule rule) {
+        return switch (type) {
+            case NAME -> (random, row) -> pick(random, FAMILY_NAMES) + pick(random, GIVEN_NAMES);
+            case EMAIL -> (random, row) -> pick(random, WORDS) + "." + pick(random, WORDS)
+                    + random.nextInt(1000) + "@" + pick(random, EMAIL_DOMAINS);
+            case PHONE -> (random, row) -> String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000));
+            case URL -> (random, row) -> "https://" + pick(random, WORDS) + ".example.com/" + pick(random, WORDS);
+            case WORD -> (random, row) -> pick(random, WORDS) + "_" + random.nextInt(1000);
+            case SENTENCE -> (random, row) -> sentence(random);
+            case ENUM -> enumGenerator(column, rule);
+            case SEQUENCE -> (random, row) -> numeric(column, row + 1);
+            case UNIFORM -> uniform(column, rule);
+            case NORMAL -> normal(column, rule);
+            case DATE -> temporal(column, rule);
+            case BOOLEAN -> (random, row) -> random.nextBoolean();
+            case UUID -> (random, row) -> new UUID(random.nextLong(), random.nextLong()).toString();
+        };
+    }
+
+    private static ValueGenerator arrayOf(Column element, MockColumnRule rule) {
+        ValueGenerator generator = forColumn(element, rule);
+        return (random, row) -> {
+            int size = 1 + random.nextInt(3);
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(generator.next(random, row));
+            }
+            return values;
+        };
+    }
+
+    private static Column elementColumn(Column column) {
+        String type = column.dataType().trim();
+        return new Column(column.columnKey(), column.physicalName(), type.substring(0, type.length() - 2),
+                column.dataDetail(), false, false, false, false, false);
+    }
+
+    /**
+     * 타입에 맞게 값 변환 (문자열 길이 제한, 숫자 타입)
+     */
+    private static ValueGenerator fitToColumn(ValueGenerator generator, Column column) {
+        String type = column.baseType();
+        if (isInteger(type) || isDecimal(type)) {
+            return (random, row) -> {
+                Object value = generator.next(random, row);
+                return value instanceof Number number ? numeric(column, number) : value;
+            };
+        }
+        int maxLength = maxLength(column);
+        if (maxLength > 0) {
+            return (random, row) -> {
+                Object value = generator.next(random, row);
+                return value instanceof String text && text.length() > maxLength ? text.substring(0, maxLength) : value;
+            };
+        }
+        return generator;
+    }
+
+    /**
+     * 유일성 충돌 시 대체 값 (행 번호를 섞어 유일하게 만듦, 불가능하면 null)
+     */
+    public static Object uniqueFallback(Column column, Object value, int rowIndex) {
+        if (value instanceof Number) {
+            return numeric(column, rowIndex + 1);
+        }
+        if (value instanceof String text) {
+            String suffix = "_" + (rowIndex + 1);
+            int maxLength = maxLength(column);
+            if (maxLength > 0 && suffix.length() >= maxLength) {
+                String digits = String.valueOf(rowIndex + 1);
+                return digits.length() <= maxLength ? digits : null;
+            }
+            String base = maxLength > 0 && text.length() + suffix.length() > maxLength
+                    ? text.substring(0, maxLength - suffix.length())
+                    : text;
+            return base + suffix;
+        }
+        if (value instanceof LocalDate) {
+            return DEFAULT_FROM.toLocalDate().plusDays(rowIndex);
+        }
+        if (value instanceof LocalDateTime) {
+            return DEFAULT_FROM.plusMinutes(rowIndex);
+        }
+        if (value instanceof LocalTime && rowIndex < 86_400) {
+            return LocalTime.ofSecondOfDay(rowIndex);
+        }
+        return null;
+    }
+
+    /**
+     * 문자열 최대 길이 (CHAR/VARCHAR 길이, 지정이 없으면 255, TEXT는 제한 없음)
+     */
+    static int maxLength(Column column) {
+        return switch (column.baseType()) {
+            case "CHAR", "CHARACTER" -> column.detailInt(0, 1);
+            case "VARCHAR", "CHARACTER VARYING", "NVARCHAR" -> column.detailInt(0, 255);
+            default -> 0;
+        };
+    }
+
+    private static ValueGenerator enumGenerator(Column column, MockColumnRule rule) {
+        List<String> values = rule != null && rule.values() != null && !rule.values().isEmpty()
+                ? rule.values()
+                : column.dataDetail();
+        if (values.isEmpty()) {
+            return (random, row) -> pick(random, WORDS);
+        }
+        return (random, row) -> pick(random, values);
+    }
+
+    private static ValueGenerator uniform(Column column, MockColumnRule rule) {
+        double[] range = numericRange(column, rule);
+        return (random, row) -> range[0] + random.nextDouble() * (range[1] - range[0]);
+    }
+
+    private static ValueGenerator normal(Column column, MockColumnRule rule) {
+        double[] range = numericRange(column, rule);
+        double mean = rule != null && rule.mean() != null ? rule.mean() : (range[0] + range[1]) / 2;
+        double stddev = rule != null && rule.stddev() != null ? rule.stddev() : (range[1] - range[0]) / 6;
+        return (random, row) -> {
+            // Box-Muller
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            double gaussian = Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+            return Math.max(range[0], Math.min(range[1], mean + gaussian * stddev));
+        };
+    }
+
+    /**
+     * 숫자 범위 (규칙 → 타입 한계 순)
+     */
+    private static double[] numericRange(Column column, MockColumnRule rule) {
+        double typeMax = switch (column.baseType()) {
+            case "TINYINT" -> 127;
+            case "SMALLINT", "SMALLSERIAL" -> 32_767;
+            case "DECIMAL", "NUMERIC" -> Math.min(Math.pow(10, column.detailInt(0, 10) - column.detailInt(1, 0)) - 1, 1_000_000);
+            default -> 1_000_000;
+        };
+        double min = rule != null && rule.min() != null ? rule.min() : 0;
+        double max = rule != null && rule.max() != null ? Math.min(rule.max(), typeMax) : Math.min(10_000, typeMax);
+        return new double[]{min, Math.max(min, max)};
+    }
+
+    private static Object numeric(Column column, Number value) {
+        String type = column.baseType();
+        if (isInteger(type)) {
+            return Math.round(value.doubleValue());
+        }
+        if (type.equals("DECIMAL") || type.equals("NUMERIC")) {
+            return BigDecimal.valueOf(value.doubleValue()).setScale(column.detailInt(1, 0), RoundingMode.HALF_UP);
+        }
+        return BigDecimal.valueOf(value.doubleValue()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static ValueGenerator temporal(Column column, MockColumnRule rule) {
+        LocalDateTime from = parseDateTime(rule != null ? rule.from() : null, DEFAULT_FROM);
+        LocalDateTime to = parseDateTime(rule != null ? rule.to() : null, DEFAULT_TO);
+        long span = Math.max(1, ChronoUnit.SECONDS.between(from, to));
+        String type = column.baseType();
+        return (random, row) -> {
+            LocalDateTime value = from.plusSeconds(random.nextLong(span));
+            return switch (type) {
+                case "DATE" -> value.toLocalDate();
+                case "TIME" -> value.toLocalTime().truncatedTo(ChronoUnit.SECONDS);
+                default -> value;
+            };
+        };
+    }
+
+    private static LocalDateTime parseDateTime(String text, LocalDateTime defaultValue) {
+        if (text == null || text.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return text.length() <= 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String sentence(SplittableRandom random) {
+        int words = 3 + random.nextInt(6);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(pick(random, SENTENCE_WORDS));
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    static boolean isInteger(String type) {
+        return switch (type) {
+            case "INT", "INTEGER", "INT4", "INT8", "BIGINT", "SMALLINT", "TINYINT", "MEDIUMINT",
+                 "SERIAL", "BIGSERIAL", "SMALLSERIAL" -> true;
+            default -> false;
+        };
+    }
+
+    static boolean isDecimal(String type) {
+        return switch (type) {
+            case "DECIMAL", "NUMERIC", "FLOAT", "DOUBLE", "REAL", "DOUBLE PRECISION" -> true;
+            default -> false;
+        };
+    }
+
+    static boolean isTemporal(String type) {
+        return switch (type) {
+            case "DATE", "TIME", "DATETIME", "TIMESTAMP", "TIMESTAMPTZ" -> true;
+            default -> false;
+        };
+    }
+}
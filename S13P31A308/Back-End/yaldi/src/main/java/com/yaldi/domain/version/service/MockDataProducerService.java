@@ -1,6 +1,7 @@
 package com.yaldi.domain.version.service;
 
 import com.yaldi.domain.version.dto.kafka.MockDataCreateMessage;
+import com.yaldi.infra.kafka.config.KafkaTopic;
 import com.yaldi.infra.kafka.service.KafkaProducerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +17,13 @@ public class MockDataProducerService {
 
     private final KafkaProducerService kafkaProducerService;
 
-    private static final String MOCK_DATA_TOPIC = "yaldi.mockdata.create";
+    private static final String MOCK_DATA_TOPIC = KafkaTopic.MOCK_DATA_CREATE_TOPIC;
 
     //Mock 데이터 생성 메시지를 Kafka로 발행
     public void publishMockDataCreateRequest(MockDataCreateMessage message) {
         log.info("Mock 데이터 생성 요청 발행 - JobId: {}, VersionKey: {}, RowCount: {}",
                 message.jobId(), message.versionKey(), message.rowCount());
 
-        kafkaProducerService.sendMessage(MOCK_DATA_TOPIC, message.jobId(), message);
+        kafkaProducerService.sendMessage(MOCK_DATA_TOPIC, String.valueOf(message.versionKey()), message);
     }
 }
@@ -1,13 +1,20 @@
 package com.yaldi.domain.version.service;
 
-import com.yaldi.domain.project.entity.ProjectMemberRelation;
-import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
 import com.yaldi.domain.version.entity.DesignVerificationStatus;
 import com.yaldi.domain.version.dto.kafka.MockDataCreateMessage;
 import com.yaldi.domain.version.dto.request.MockDataCreateRequest;
 import com.yaldi.domain.version.dto.response.MockDataResponse;
+import com.yaldi.domain.version.dto.response.MockDataScriptResponse;
 import com.yaldi.domain.version.entity.MockData;
+import com.yaldi.domain.version.entity.MockDataEngine;
 import com.yaldi.domain.version.entity.Version;
+import com.yaldi.domain.version.mockdata.MockDataGenerator;
+import com.yaldi.domain.version.mockdata.MockDataOptions;
+import com.yaldi.domain.version.mockdata.MockDataScript;
+import com.yaldi.domain.version.mockdata.MockDataScriptCache;
 import com.yaldi.domain.version.repository.MockDataRepository;
 import com.yaldi.domain.version.repository.VersionRepository;
 import com.yaldi.global.asyncjob.entity.AsyncJob;
@@ -15,30 +22,43 @@ import com.yaldi.global.asyncjob.enums.AsyncJobStatus;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.global.asyncjob.service.AsyncJobService;
-import com.yaldi.infra.s3.service.S3Service;
+import com.yaldi.infra.s3.service.PresignedUrlCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
-
+/**
+ * Mock 데이터 생성 서비스
+ *
+ * <ul>
+ *   <li><strong>LOCAL (기본):</strong> {@link MockDataGenerator}로 요청 안에서 즉시 생성. 파일 대신 시드/옵션을 저장하고
+ *       생성한 스크립트는 {@link MockDataScriptCache}에 보관, 캐시에 없을 때만 다시 생성 (S3 업로드 없음)</li>
+ *   <li><strong>AI:</strong> 실제 같은 텍스트가 필요할 때 사용하는 기존 경로 (Kafka → AI 서버 → S3)</li>
+ * </ul>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MockDataService {
 
     private static final String JOB_TYPE_MOCK_DATA = "MOCK_DATA";
+    private static final int MAX_TABLE_ROW_COUNT = 10_000;
 
     private final VersionRepository versionRepository;
-    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final ProjectAccessValidator projectAccessValidator;
     private final MockDataRepository mockDataRepository;
     private final MockDataProducerService mockDataProducerService;
     private final AsyncJobService asyncJobService;
-    private final S3Service s3Service;
+    private final MockDataGenerator mockDataGenerator;
+    private final MockDataScriptCache mockDataScriptCache;
+    private final PresignedUrlCache presignedUrlCache;
+    private final ObjectMapper objectMapper;
 
 
     @Transactional
@@ -51,10 +71,14 @@ public class MockDataService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.VERSION_NOT_FOUND));
 
         Long projectKey = version.getProjectKey();
-        validatePermission(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         if (version.getDesignVerificationStatus() != DesignVerificationStatus.SUCCESS) throw new GeneralException(ErrorStatus.VERSION_NOT_VERIFIED);
 
+        if (request.engineOrDefault() == MockDataEngine.LOCAL) {
+            return createLocalMockData(userKey, version, request);
+        }
+
         // 비동기 작업 생성 //MockData 먼저 생성 : fileName/filePath는 null, Consumer가 채움
         AsyncJob asyncJob = asyncJobService.createJob(JOB_TYPE_MOCK_DATA, userKey, versionKey);
 
@@ -64,6 +88,7 @@ public class MockDataService {
                 .fileName(null)  // Consumer에서 UPDATE
                 .filePath(null)  // Consumer에서 UPDATE
                 .rowCounts(request.rowCount().shortValue())
+                .engine(MockDataEngine.AI)
                 .build();
 
         MockData savedMockData = mockDataRepository.save(mockData);
@@ -95,7 +120,7 @@ public class MockDataService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.VERSION_NOT_FOUND));
 
         Long projectKey = version.getProjectKey();
-        validatePermission(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         List<MockData> mockDataList = mockDataRepository.findByVersionKeyOrderByCreatedAtDesc(versionKey);
 
@@ -125,16 +150,16 @@ public class MockDataService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.VERSION_NOT_FOUND));
 
         Long projectKey = version.getProjectKey();
-        validatePermission(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         AsyncJob asyncJob = mockData.getAsyncJob();
 
         String downloadUrl = null;
-        if (asyncJob.getStatus() == AsyncJobStatus.COMPLETED && mockData.getFilePath() != null) {
-            downloadUrl = s3Service.generatePresignedUrl(
-                    mockData.getFilePath(),
-                    Duration.ofHours(1)  // 1시간 유효
-            );
+        if (mockData.getEngine() == MockDataEngine.LOCAL) {
+            downloadUrl = scriptPath(versionKey, mockDataKey);
+        } else if (asyncJob.getStatus() == AsyncJobStatus.COMPLETED && mockData.getFilePath() != null) {
+            // 만료 직전까지 같은 URL 재사용 (1시간 유효)
+            downloadUrl = presignedUrlCache.get(mockData.getFilePath());
         }
 
         return new MockDataResponse(
@@ -147,9 +172,89 @@ public class MockDataService {
         );
     }
 
-    private void validatePermission(Integer userKey, Long projectKey) {
-        ProjectMemberRelation memberRelation = projectMemberRelationRepository
-                .findByProjectKeyAndMemberKey(projectKey, userKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_FORBIDDEN));
+    /**
+     * 로컬 엔진 Mock 데이터 스크립트 (캐시에 없으면 저장된 시드/옵션으로 재생성)
+     */
+    @Transactional(readOnly = true)
+    public MockDataScriptResponse getScript(Integer userKey, Long versionKey, Long mockDataKey) {
+        MockData mockData = mockDataRepository.findById(mockDataKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MOCK_DATA_NOT_FOUND));
+
+        if (!mockData.getVersionKey().equals(versionKey)) {
+            throw new GeneralException(ErrorStatus.VERSION_MOCK_DATA_MISMATCH);
+        }
+        if (mockData.getEngine() != MockDataEngine.LOCAL) {
+            throw new GeneralException(ErrorStatus.MOCK_DATA_NOT_LOCAL);
+        }
+
+        Version version = versionRepository.findById(versionKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.VERSION_NOT_FOUND));
+        projectAccessValidator.validateProjectAccess(version.getProjectKey(), userKey);
+
+        MockDataScript script = mockDataScriptCache.get(mockDataKey, () -> mockDataGenerator.generate(
+                version.getSchemaData(),
+                objectMapper.convertValue(mockData.getGenerationOptions(), MockDataOptions.class)));
+        return new MockDataScriptResponse(
+                mockData.getFileName(), mockData.getSeed(), script.rowCounts(), script.warnings(), script.sql());
+    }
+
+    /**
+     * 로컬 엔진: 요청 안에서 생성해 검증(순환 참조 등)까지 마친 뒤 시드/옵션만 저장
+     */
+    private MockDataResponse createLocalMockData(Integer userKey, Version version, MockDataCreateRequest request) {
+        validateTableRowCounts(request.tableRowCounts());
+
+        long seed = request.seed() != null ? request.seed() : ThreadLocalRandom.current().nextLong();
+        MockDataOptions options = new MockDataOptions(
+                seed, request.rowCount(), request.tableRowCounts(), request.columnRules(), request.dialect());
+        MockDataScript script = mockDataGenerator.generate(version.getSchemaData(), options);
+
+        AsyncJob asyncJob = asyncJobService.createJob(JOB_TYPE_MOCK_DATA, userKey, version.getVersionKey());
+        asyncJobService.updateStatus(asyncJob.getJobId(), AsyncJobStatus.COMPLETED);
+
+        String fileName = String.format("mock_data_%s_seed%d_%d.sql",
+                version.getName().replace(".", "_"),
+                seed,
+                System.currentTimeMillis()
+        );
+
+        MockData savedMockData = mockDataRepository.save(MockData.builder()
+                .asyncJob(asyncJob)
+                .versionKey(version.getVersionKey())
+                .fileName(fileName)
+                .filePath(null)  // 스크립트는 캐시, 없으면 재생성
+                .rowCounts(request.rowCount().shortValue())
+                .engine(MockDataEngine.LOCAL)
+                .seed(seed)
+                .generationOptions(objectMapper.convertValue(options, new TypeReference<Map<String, Object>>() {}))
+                .build());
+        mockDataScriptCache.put(savedMockData.getMockDataKey(), script);
+
+        log.info("로컬 Mock 데이터 생성 - VersionKey: {}, MockDataKey: {}, seed: {}, rows: {}",
+                version.getVersionKey(), savedMockData.getMockDataKey(), seed, script.rowCounts());
+
+        return new MockDataResponse(
+                savedMockData.getMockDataKey(),
+                AsyncJobStatus.COMPLETED,
+                version.getVersionKey(),
+                request.rowCount(),
+                fileName,
+                scriptPath(version.getVersionKey(), savedMockData.getMockDataKey())
+        );
+    }
+
+    private void validateTableRowCounts(Map<String, Integer> tableRowCounts) {
+        if (tableRowCounts == null) {
+            return;
+        }
+        for (Integer count : tableRowCounts.values()) {
+            if (count == null || count < 1 || count > MAX_TABLE_ROW_COUNT) {
+                throw new GeneralException(ErrorStatus.MOCK_DATA_INVALID_ROW_COUNT);
+            }
+        }
+    }
+
+    private static String scriptPath(Long versionKey, Long mockDataKey) {
+        return "/api/v1/versions/" + versionKey + "/mock-data/" + mockDataKey + "/script";
     }
 }
@@ -1,6 +1,6 @@
 package com.yaldi.domain.version.service;
 
-import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
 import com.yaldi.domain.project.repository.ProjectRepository;
 import com.yaldi.domain.version.dto.response.VersionResponse;
 import com.yaldi.domain.version.dto.response.compare.*;
@@ -23,7 +23,7 @@ public class VersionCompareService {
 
     private final VersionRepository versionRepository;
     private final ProjectRepository projectRepository;
-    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final ProjectAccessValidator projectAccessValidator;
 
     @Transactional(readOnly = true)
     public VersionCompareResponse compareVersion(Integer userKey, Long versionKey) {
@@ -34,7 +34,7 @@ public class VersionCompareService {
         projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         Version previousVersion = findPreviousVersion(projectKey, currentVersion);
         VersionResponse currentResponse = VersionResponse.from(currentVersion);
@@ -365,10 +365,4 @@ public class VersionCompareService {
         }
         return (Long) value;
     }
-
-    private void validateProjectMember(Integer userKey, Long projectKey) {
-        if (!projectMemberRelationRepository.existsByProjectKeyAndMemberKey(projectKey, userKey)) {
-            throw new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
-        }
-    }
 }
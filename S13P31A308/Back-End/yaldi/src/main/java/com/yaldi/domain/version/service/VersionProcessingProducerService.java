@@ -1,6 +1,7 @@
 package com.yaldi.domain.version.service;
 
 import com.yaldi.domain.version.dto.kafka.VersionProcessingMessage;
+import com.yaldi.infra.kafka.config.KafkaTopic;
 import com.yaldi.infra.kafka.service.KafkaProducerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,11 +17,11 @@ public class VersionProcessingProducerService {
 
     private final KafkaProducerService kafkaProducerService;
 
-    private static final String VERSION_VERIFICATION_TOPIC = "yaldi.version.verification";
+    private static final String VERSION_VERIFICATION_TOPIC = KafkaTopic.VERSION_VERIFICATION_TOPIC;
 
     public void publishVersionVerificationRequest(VersionProcessingMessage message) {
         log.info("버전 검증 요청 발행 - JobId: {}, VersionKey: {}, VersionName: {}", message.jobId(), message.versionKey(), message.versionName());
 
-        kafkaProducerService.sendMessage(VERSION_VERIFICATION_TOPIC, message.jobId(), message);
+        kafkaProducerService.sendMessage(VERSION_VERIFICATION_TOPIC, String.valueOf(message.projectKey()), message);
     }
 }
@@ -1,5 +1,6 @@
 package com.yaldi.domain.version.service;
 
+import com.yaldi.domain.comment.service.CommentAnchorService;
 import com.yaldi.domain.erd.entity.ErdColumn;
 import com.yaldi.domain.erd.entity.ErdRelation;
 import com.yaldi.domain.erd.entity.ErdTable;
@@ -23,6 +24,7 @@ import static com.yaldi.domain.version.util.SchemaDataConverter.*;
  * 버전 롤백 기능을 담당하는 서비스
  * - ERD 객체 삭제
  * - 스냅샷 데이터로부터 ERD 재생성 (테이블, 컬럼, 관계)
+ * - 댓글 앵커를 재생성된 ERD 객체에 다시 연결
  */
 @Slf4j
 @Service
@@ -32,6 +34,7 @@ public class VersionRollbackService {
     private final ErdTableRepository erdTableRepository;
     private final ErdColumnRepository erdColumnRepository;
     private final ErdRelationRepository erdRelationRepository;
+    private final CommentAnchorService commentAnchorService;
 
     /**
      * 특정 버전의 스냅샷 데이터를 기반으로 ERD를 롤백
@@ -44,17 +47,24 @@ public class VersionRollbackService {
         List<Map<String, Object>> tables = safeList(schemaData.get("tables"));
         List<Map<String, Object>> relations = safeList(schemaData.get("relations"));
 
+        // 0) 삭제 전 댓글 앵커의 현재 이름 경로 수집
+        Map<Long, String> anchorPaths = commentAnchorService.captureAnchorPaths(projectKey);
+
         // 1) 기존 ERD 완전 삭제
         deleteAllErdObjects(projectKey);
 
         // 2) 테이블 & 컬럼 생성
         Map<Long, Long> tableKeyMap = new HashMap<>();
         Map<Long, Long> columnKeyMap = new HashMap<>();
+        Map<Long, Long> relationKeyMap = new HashMap<>();
 
         createTablesAndColumns(projectKey, tables, tableKeyMap, columnKeyMap);
 
         // 3) 관계 재생성
-        createRelations(projectKey, relations, tableKeyMap, columnKeyMap);
+        createRelations(projectKey, relations, tableKeyMap, columnKeyMap, relationKeyMap);
+
+        // 4) 댓글 앵커 재연결
+        commentAnchorService.reattachAfterRollback(projectKey, anchorPaths, tableKeyMap, columnKeyMap, relationKeyMap);
 
         log.info("ERD 롤백 완료 - projectKey={}, 테이블 수={}, 관계 수={}",
                 projectKey, tables.size(), relations.size());
@@ -154,20 +164,23 @@ public class VersionRollbackService {
      * @param relations     스냅샷의 관계 목록
      * @param tableKeyMap   이전 테이블 키 → 새 테이블 키 매핑
      * @param columnKeyMap  이전 컬럼 키 → 새 컬럼 키 매핑
+     * @param relationKeyMap 이전 관계 키 → 새 관계 키 매핑
      */
     private void createRelations(
             Long projectKey,
             List<Map<String, Object>> relations,
             Map<Long, Long> tableKeyMap,
-            Map<Long, Long> columnKeyMap
+            Map<Long, Long> columnKeyMap,
+            Map<Long, Long> relationKeyMap
     ) {
         for (Map<String, Object> relationData : relations) {
             Long oldFromTableKey = toLong(relationData.get("fromTableKey"));
             Long oldToTableKey = toLong(relationData.get("toTableKey"));
             Long oldFromColumnKey = toLongOrNull(relationData.get("fromColumnKey"));
             Long oldToColumnKey = toLongOrNull(relationData.get("toColumnKey"));
+            Long oldRelationKey = toLongOrNull(relationData.get("relationKey"));
 
-            erdRelationRepository.save(
+            ErdRelation newRelation = erdRelationRepository.save(
                     ErdRelation.builder()
                             .projectKey(projectKey)
                             .fromTableKey(tableKeyMap.get(oldFromTableKey))
@@ -180,6 +193,10 @@ public class VersionRollbackService {
                             .onUpdateAction(toReferentialActionType(relationData.get("onUpdateAction")))
                             .build()
             );
+
+            if (oldRelationKey != null) {
+                relationKeyMap.put(oldRelationKey, newRelation.getRelationKey());
+            }
         }
         log.debug("관계 생성 완료 - 관계 수={}", relations.size());
     }
@@ -1,7 +1,8 @@
 package com.yaldi.domain.version.service;
 
+import com.yaldi.domain.erd.service.ErdLintTrigger;
 import com.yaldi.domain.project.entity.Project;
-import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
 import com.yaldi.domain.project.repository.ProjectRepository;
 import com.yaldi.domain.version.dto.kafka.VersionProcessingMessage;
 import com.yaldi.domain.version.dto.request.CreateVersionRequest;
@@ -36,17 +37,18 @@ public class VersionService {
 
     private final VersionRepository versionRepository;
     private final ProjectRepository projectRepository;
-    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final ProjectAccessValidator projectAccessValidator;
     private final AsyncJobService asyncJobService;
     private final VersionProcessingProducerService verificationProducerService;
     private final VersionRollbackService rollbackService;
+    private final ErdLintTrigger erdLintTrigger;
 
     @Transactional
     public VersionResponse createVersion(Integer userKey, Long projectKey, CreateVersionRequest request) {
         Project project = projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         Version version = Version.builder()
                 .projectKey(projectKey)
@@ -93,7 +95,7 @@ public class VersionService {
         projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         Pageable pageable = PageRequest.of(page, 10);
         Page<Version> versions = versionRepository.findByProjectKeyOrderByVersionKeyDesc(projectKey, pageable);
@@ -110,7 +112,7 @@ public class VersionService {
         projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         return VersionResponse.from(version);
     }
@@ -124,7 +126,7 @@ public class VersionService {
         projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         if (request.name() != null && !request.name().isBlank()) version.updateName(request.name());
         if (request.description() != null) version.updateDescription(request.description());
@@ -146,7 +148,7 @@ public class VersionService {
         projectRepository.findById(projectKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PROJECT_NOT_FOUND));
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         // Public/Private 설정
         if (request.isPublic()) {
@@ -201,12 +203,6 @@ public class VersionService {
         return VersionResponse.from(version);
     }
 
-    private void validateProjectMember(Integer userKey, Long projectKey) {
-        if (!projectMemberRelationRepository.existsByProjectKeyAndMemberKey(projectKey, userKey)) {
-            throw new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
-        }
-    }
-
     @Transactional
     public VersionResponse rollbackToVersion(Integer userKey, Long versionKey) {
         Version version = versionRepository.findById(versionKey)
@@ -214,12 +210,13 @@ public class VersionService {
 
         Long projectKey = version.getProjectKey();
 
-        validateProjectMember(userKey, projectKey);
+        projectAccessValidator.validateProjectAccess(projectKey, userKey);
 
         Map<String, Object> schemaData = version.getSchemaData();
 
         // VersionRollbackService에 위임
         rollbackService.rollbackErdToSnapshot(projectKey, schemaData);
+        erdLintTrigger.requestFullLint(projectKey);
 
         log.info("ERD 롤백 완료 - projectKey={}, versionKey={}", projectKey, versionKey);
         return VersionResponse.from(version);
@@ -0,0 +1,36 @@
+package com.yaldi.domain.viewer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 뷰어링크 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "viewer.link")
+public class ViewerLinkProperties {
+
+    /** 링크 서명 키 (미지정 시 JWT Secret에서 용도별 키를 파생) */
+    private String secret;
+
+    /** 링크 유효 시간 */
+    private Duration ttl = Duration.ofDays(3);
+
+    /** 링크 하나로 동시에 연결할 수 있는 뷰어 SSE 수 (노드별) */
+    private int maxConcurrentViewers = 20;
+
+    /** IP별 요청 버킷 크기 (순간 허용 요청 수) */
+    private int rateLimitCapacity = 20;
+
+    /** IP별 분당 버킷 충전량 */
+    private int rateLimitRefillPerMinute = 60;
+
+    /** 접근 기록 보관 기간 */
+    private Duration auditRetention = Duration.ofDays(30);
+}
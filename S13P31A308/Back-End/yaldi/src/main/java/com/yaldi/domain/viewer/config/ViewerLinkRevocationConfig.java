@@ -0,0 +1,29 @@
+package com.yaldi.domain.viewer.config;
+
+import com.yaldi.domain.viewer.service.ViewerLinkRevocationRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 뷰어링크 폐기 채널 구독 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ViewerLinkRevocationConfig {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ViewerLinkRevocationRegistry viewerLinkRevocationRegistry;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> viewerLinkRevocationRegistry.onRevocation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ViewerLinkRevocationRegistry.REVOCATION_CHANNEL));
+    }
+}
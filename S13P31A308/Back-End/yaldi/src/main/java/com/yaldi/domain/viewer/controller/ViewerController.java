@@ -2,9 +2,15 @@ package com.yaldi.domain.viewer.controller;
 
 import com.yaldi.domain.erd.dto.response.ErdResponse;
 import com.yaldi.domain.erd.service.ErdService;
+import com.yaldi.domain.viewer.dto.ViewerClient;
 import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.dto.response.ViewerLinkAccessLogPageResponse;
 import com.yaldi.domain.viewer.dto.response.ViewerLinkResponse;
 import com.yaldi.domain.viewer.dto.response.ViewerLinkValidationResponse;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessAction;
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+import com.yaldi.domain.viewer.service.ViewerLinkAccessService;
+import com.yaldi.domain.viewer.service.ViewerLinkAuditService;
 import com.yaldi.domain.viewer.service.ViewerLinkService;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.ApiResponse;
@@ -13,6 +19,7 @@ import com.yaldi.infra.security.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,37 +35,84 @@ import org.springframework.web.bind.annotation.*;
 public class ViewerController {
 
     private final ViewerLinkService viewerLinkService;
+    private final ViewerLinkAccessService viewerLinkAccessService;
+    private final ViewerLinkAuditService viewerLinkAuditService;
     private final ErdService erdService;
 
-    @Operation(summary = "뷰어링크 생성/조회", description = "프로젝트 멤버만 뷰어링크를 생성하거나 기존 링크를 조회할 수 있습니다. (3일 유효)")
+    @Operation(summary = "뷰어링크 생성/조회", description = "프로젝트 멤버만 뷰어링크를 생성하거나 기존 링크를 조회할 수 있습니다. (3일 유효, SNAPSHOT: ERD 조회만, LIVE: 실시간 스트림 포함)")
     @PostMapping("/projects/{projectKey}/link")
     public ApiResponse<ViewerLinkResponse> createOrGetViewerLink(
             @Parameter(description = "프로젝트 ID", required = true)
-            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey,
+            @Parameter(description = "권한 범위")
+            @RequestParam(defaultValue = "LIVE") ViewerLinkScope scope
     ) {
         Integer userKey = SecurityUtil.getCurrentUserKey();
-        log.info("뷰어링크 생성/조회 요청 - UserKey: {}, ProjectKey: {}", userKey, projectKey);
+        log.info("뷰어링크 생성/조회 요청 - UserKey: {}, ProjectKey: {}, Scope: {}", userKey, projectKey, scope);
 
-        // 프로젝트 멤버 권한 확인
-        if (!viewerLinkService.isProjectMember(projectKey, userKey)) {
-            log.warn("프로젝트 멤버가 아닌 사용자의 뷰어링크 생성 시도 - UserKey: {}, ProjectKey: {}", userKey, projectKey);
-            throw new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
-        }
+        validateMember(projectKey, userKey);
 
-        ViewerLinkResponse response = viewerLinkService.getOrCreateViewerLink(projectKey);
+        ViewerLinkResponse response = viewerLinkService.getOrCreateViewerLink(projectKey, scope);
         return ApiResponse.onSuccess(response);
     }
 
+    @Operation(summary = "뷰어링크 폐기", description = "프로젝트의 현재 뷰어링크를 모두 폐기합니다. 연결된 뷰어 스트림도 종료되며, 다음 생성 요청 시 새 링크가 발급됩니다.")
+    @DeleteMapping("/projects/{projectKey}/link")
+    public ApiResponse<Integer> revokeViewerLinks(
+            @Parameter(description = "프로젝트 ID", required = true)
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        validateMember(projectKey, userKey);
+
+        int revoked = viewerLinkService.revokeViewerLinks(projectKey);
+        log.info("뷰어링크 폐기 요청 - UserKey: {}, ProjectKey: {}, 폐기: {}", userKey, projectKey, revoked);
+        return ApiResponse.onSuccess(revoked);
+    }
+
+    @Operation(summary = "이전 뷰어링크 폐기", description = "접근 기록에 남은 링크 식별자로 이미 공유된 이전 링크를 폐기합니다.")
+    @DeleteMapping("/projects/{projectKey}/link/{linkId}")
+    public ApiResponse<Void> revokeViewerLink(
+            @Parameter(description = "프로젝트 ID", required = true)
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey,
+            @Parameter(description = "링크 식별자 (접근 기록의 linkId)", required = true)
+            @PathVariable String linkId
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        validateMember(projectKey, userKey);
+
+        viewerLinkService.revokeViewerLink(projectKey, linkId);
+        return ApiResponse.onSuccess(null);
+    }
+
+    @Operation(summary = "뷰어링크 접근 기록 조회", description = "프로젝트 뷰어링크의 접근 기록(거부 포함)을 최신순으로 조회합니다.")
+    @GetMapping("/projects/{projectKey}/link/accesses")
+    public ApiResponse<ViewerLinkAccessLogPageResponse> getAccessLogs(
+            @Parameter(description = "프로젝트 ID", required = true)
+            @PathVariable @Min(value = 1, message = "프로젝트 ID는 1 이상이어야 합니다") Long projectKey,
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)")
+            @RequestParam(required = false) Integer size
+    ) {
+        Integer userKey = SecurityUtil.getCurrentUserKey();
+        validateMember(projectKey, userKey);
+
+        return ApiResponse.onSuccess(viewerLinkAuditService.getAccessLogs(projectKey, cursor, size));
+    }
+
     @Operation( summary = "뷰어링크 검증", description = "뷰어링크의 유효성을 검증합니다 " )
     @GetMapping("/{linkId}/validate")
     public ApiResponse<ViewerLinkValidationResponse> validateViewerLink(
             @Parameter(description = "뷰어링크 ID", required = true)
-            @PathVariable String linkId
+            @PathVariable String linkId,
+            HttpServletRequest request
     ) {
-        ViewerLinkInfo linkInfo = viewerLinkService.validateAndGetLinkInfo(linkId);
-
         boolean isAuthenticated = SecurityUtil.isAuthenticated();
 
+        ViewerLinkInfo linkInfo = viewerLinkAccessService.authorize(linkId, ViewerLinkAccessAction.VALIDATE,
+                ViewerClient.from(request, isAuthenticated ? SecurityUtil.getCurrentUserKey() : null));
+
         ViewerLinkValidationResponse response;
 
         if (isAuthenticated) {
@@ -85,10 +139,29 @@ public class ViewerController {
         return ApiResponse.onSuccess(response);
     }
 
+    @Operation(summary = "뷰어링크 ERD 조회", description = "뷰어링크로 프로젝트의 전체 ERD 데이터를 조회합니다. (비회원 접근 가능)")
+    @GetMapping("/{linkId}/erd")
+    public ApiResponse<ErdResponse> getViewerErd(
+            @Parameter(description = "뷰어링크 ID", required = true)
+            @PathVariable String linkId,
+            HttpServletRequest request
+    ) {
+        ViewerLinkInfo linkInfo = viewerLinkAccessService.authorize(linkId, ViewerLinkAccessAction.ERD,
+                ViewerClient.from(request, SecurityUtil.isAuthenticated() ? SecurityUtil.getCurrentUserKey() : null));
+        return ApiResponse.onSuccess(erdService.getErdByProjectKey(linkInfo.projectKey()));
+    }
+
     @Operation(summary = "프로젝트 ERD 조회", description = "프로젝트의 전체 ERD 데이터를 조회합니다.")
     @GetMapping("/projects/{projectKey}")
     public ApiResponse<ErdResponse> getProjectErd(@PathVariable Long projectKey) {
         ErdResponse erd = erdService.getErdByProjectKey(projectKey);
         return ApiResponse.onSuccess(erd);
     }
+
+    private void validateMember(Long projectKey, Integer userKey) {
+        if (!viewerLinkService.isProjectMember(projectKey, userKey)) {
+            log.warn("프로젝트 멤버가 아닌 사용자의 뷰어링크 관리 시도 - UserKey: {}, ProjectKey: {}", userKey, projectKey);
+            throw new GeneralException(ErrorStatus.PROJECT_FORBIDDEN);
+        }
+    }
 }
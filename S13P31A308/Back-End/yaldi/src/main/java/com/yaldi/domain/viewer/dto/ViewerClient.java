@@ -0,0 +1,21 @@
+package com.yaldi.domain.viewer.dto;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 뷰어 요청자 정보 (요청 제한/접근 기록용)
+ *
+ * <p>clientIp는 {@code server.forward-headers-strategy}로 프록시 헤더가 반영된 원격 주소입니다.</p>
+ */
+public record ViewerClient(String clientIp, String userAgent, Integer userKey) {
+
+    private static final int MAX_USER_AGENT_LENGTH = 300;
+
+    public static ViewerClient from(HttpServletRequest request, Integer userKey) {
+        String userAgent = request.getHeader("User-Agent");
+        if (userAgent != null && userAgent.length() > MAX_USER_AGENT_LENGTH) {
+            userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+        }
+        return new ViewerClient(request.getRemoteAddr(), userAgent, userKey);
+    }
+}
@@ -1,8 +1,14 @@
 package com.yaldi.domain.viewer.dto;
 
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+
+import java.time.Instant;
+
 /**
  * 뷰어 링크 검증 정보
- * - linkId로부터 조회한 프로젝트 정보를 담는 DTO
+ * - 서명된 링크 토큰에서 꺼낸 값 (Redis 조회 없음)
+ *
+ * @param linkId 링크 식별자 (폐기/동시 접속/접근 기록 단위)
  */
-public record ViewerLinkInfo(Long projectKey) {
+public record ViewerLinkInfo(String linkId, Long projectKey, ViewerLinkScope scope, Instant expiresAt) {
 }
@@ -0,0 +1,18 @@
+package com.yaldi.domain.viewer.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "뷰어링크 접근 기록 페이지")
+public record ViewerLinkAccessLogPageResponse(
+        @Schema(description = "접근 기록 (최신순)")
+        List<ViewerLinkAccessLogResponse> accesses,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "1000")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+}
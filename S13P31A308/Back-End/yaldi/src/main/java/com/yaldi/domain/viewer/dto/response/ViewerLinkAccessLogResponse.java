@@ -0,0 +1,48 @@
+package com.yaldi.domain.viewer.dto.response;
+
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessAction;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessLog;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessOutcome;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Schema(description = "뷰어링크 접근 기록")
+public record ViewerLinkAccessLogResponse(
+        @Schema(description = "접근 기록 Key", example = "1024")
+        Long accessKey,
+
+        @Schema(description = "링크 식별자", example = "q3X9b2LmT0aZ8kYw")
+        String linkId,
+
+        @Schema(description = "접근 종류", example = "STREAM")
+        ViewerLinkAccessAction action,
+
+        @Schema(description = "접근 결과", example = "GRANTED")
+        ViewerLinkAccessOutcome outcome,
+
+        @Schema(description = "요청 IP", example = "203.0.113.10")
+        String clientIp,
+
+        @Schema(description = "로그인 사용자 Key (비회원이면 null)", example = "12")
+        Integer userKey,
+
+        @Schema(description = "User-Agent")
+        String userAgent,
+
+        @Schema(description = "접근 시각")
+        OffsetDateTime accessedAt
+) {
+    public static ViewerLinkAccessLogResponse from(ViewerLinkAccessLog log) {
+        return new ViewerLinkAccessLogResponse(
+                log.getAccessKey(),
+                log.getLinkId(),
+                log.getAction(),
+                log.getOutcome(),
+                log.getClientIp(),
+                log.getUserKey(),
+                log.getUserAgent(),
+                log.getCreatedAt()
+        );
+    }
+}
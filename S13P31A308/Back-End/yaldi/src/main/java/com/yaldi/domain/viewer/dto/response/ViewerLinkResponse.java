@@ -1,27 +1,31 @@
 package com.yaldi.domain.viewer.dto.response;
 
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.OffsetDateTime;
 
 @Schema(description = "뷰어링크 응답")
 public record ViewerLinkResponse(
-        @Schema(description = "뷰어링크 ID", example = "abc-123-def-456")
+        @Schema(description = "뷰어링크 토큰 (서명된 링크 값, URL 경로에 사용)", example = "djF8cTNYOWIy...Lmx0.yT1b...")
         String linkId,
 
-        @Schema(description = "뷰어 URL", example = "https://yaldi.com/viewer/abc-123-def-456")
+        @Schema(description = "뷰어 URL", example = "https://yaldi.com/viewer/djF8cTNYOWIy...Lmx0.yT1b...")
         String viewerUrl,
 
+        @Schema(description = "권한 범위", example = "LIVE")
+        ViewerLinkScope scope,
+
         @Schema(description = "남은 유효시간 (초)", example = "259200")
         Long remainingTtlSeconds,
 
         @Schema(description = "만료 시각")
         OffsetDateTime expiresAt
 ) {
-    public static ViewerLinkResponse of(String linkId, String baseUrl, Long ttlSeconds) {
+    public static ViewerLinkResponse of(String linkId, String baseUrl, ViewerLinkScope scope, Long ttlSeconds) {
         String viewerUrl = baseUrl + "/viewer/" + linkId;
         OffsetDateTime expiresAt = OffsetDateTime.now().plusSeconds(ttlSeconds);
 
-        return new ViewerLinkResponse(linkId, viewerUrl, ttlSeconds, expiresAt);
+        return new ViewerLinkResponse(linkId, viewerUrl, scope, ttlSeconds, expiresAt);
     }
 }
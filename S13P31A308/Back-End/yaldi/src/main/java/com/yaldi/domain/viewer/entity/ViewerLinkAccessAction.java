@@ -0,0 +1,10 @@
+package com.yaldi.domain.viewer.entity;
+
+/**
+ * 뷰어링크 접근 종류
+ */
+public enum ViewerLinkAccessAction {
+    VALIDATE,
+    ERD,
+    STREAM
+}
@@ -0,0 +1,51 @@
+package com.yaldi.domain.viewer.entity;
+
+import com.yaldi.global.common.BaseCreateOnlyEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뷰어링크 접근 기록 (거부된 접근 포함)
+ */
+@Entity
+@Table(name = "viewer_link_access_logs")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewerLinkAccessLog extends BaseCreateOnlyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "access_key")
+    private Long accessKey;
+
+    /**
+     * 서명 검증 전 실패(변조/형식 오류)는 null
+     */
+    @Column(name = "link_id", length = 32)
+    private String linkId;
+
+    @Column(name = "project_key")
+    private Long projectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20, nullable = false)
+    private ViewerLinkAccessAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", length = 20, nullable = false)
+    private ViewerLinkAccessOutcome outcome;
+
+    @Column(name = "client_ip", length = 45)
+    private String clientIp;
+
+    @Column(name = "user_key")
+    private Integer userKey;
+
+    @Column(name = "user_agent", length = 300)
+    private String userAgent;
+}
@@ -0,0 +1,15 @@
+package com.yaldi.domain.viewer.entity;
+
+/**
+ * 뷰어링크 접근 결과
+ *
+ * <p>IP 요청 제한으로 거부된 요청은 기록하지 않습니다. (남용 트래픽이 접근 기록을 채우지 않도록)</p>
+ */
+public enum ViewerLinkAccessOutcome {
+    GRANTED,
+    INVALID,
+    EXPIRED,
+    REVOKED,
+    SCOPE_DENIED,
+    CAPACITY_EXCEEDED
+}
@@ -0,0 +1,15 @@
+package com.yaldi.domain.viewer.entity;
+
+/**
+ * 뷰어링크 권한 범위 (서명된 토큰에 포함)
+ */
+public enum ViewerLinkScope {
+    /** ERD 조회만 */
+    SNAPSHOT,
+    /** ERD 조회 + 실시간 업데이트 스트림 */
+    LIVE;
+
+    public boolean allows(ViewerLinkAccessAction action) {
+        return action != ViewerLinkAccessAction.STREAM || this == LIVE;
+    }
+}
@@ -0,0 +1,33 @@
+package com.yaldi.domain.viewer.repository;
+
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface ViewerLinkAccessLogRepository extends JpaRepository<ViewerLinkAccessLog, Long> {
+
+    /**
+     * 프로젝트 접근 기록 (최신순, access_key 키셋)
+     */
+    @Query("SELECT l FROM ViewerLinkAccessLog l " +
+            "WHERE l.projectKey = :projectKey AND l.accessKey < :cursor " +
+            "ORDER BY l.accessKey DESC")
+    List<ViewerLinkAccessLog> findPage(
+            @Param("projectKey") Long projectKey,
+            @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    boolean existsByLinkIdAndProjectKey(String linkId, Long projectKey);
+
+    @Modifying
+    @Query("DELETE FROM ViewerLinkAccessLog l WHERE l.createdAt < :before")
+    int deleteOlderThan(@Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,103 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.domain.viewer.dto.ViewerClient;
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessAction;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessOutcome;
+import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 비회원 뷰어 접근 관문
+ *
+ * <p>뷰어 요청은 모두 이 서비스를 거칩니다.</p>
+ * <ol>
+ *   <li>IP별 요청 제한 ({@link ViewerRateLimiter})</li>
+ *   <li>서명/만료/폐기 확인 ({@link ViewerLinkService#validateAndGetLinkInfo})</li>
+ *   <li>권한 범위 확인 (SNAPSHOT 링크는 스트림 불가)</li>
+ *   <li>스트림이면 링크별 동시 접속 수 확인 ({@link ViewerSseEmitterManager})</li>
+ *   <li>결과를 접근 기록에 남김 (요청 제한 거부 제외)</li>
+ * </ol>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewerLinkAccessService {
+
+    private final ViewerLinkService viewerLinkService;
+    private final ViewerLinkTokenCodec viewerLinkTokenCodec;
+    private final ViewerRateLimiter viewerRateLimiter;
+    private final ViewerSseEmitterManager viewerSseEmitterManager;
+    private final ViewerLinkAuditService viewerLinkAuditService;
+
+    /**
+     * 링크 접근 허용 여부 확인
+     */
+    public ViewerLinkInfo authorize(String token, ViewerLinkAccessAction action, ViewerClient client) {
+        if (!viewerRateLimiter.tryAcquire(client.clientIp())) {
+            log.warn("뷰어 요청 제한 초과 - IP: {}, Action: {}", client.clientIp(), action);
+            throw new GeneralException(ErrorStatus.VIEWER_RATE_LIMIT_EXCEEDED);
+        }
+
+        ViewerLinkInfo link;
+        try {
+            link = viewerLinkService.validateAndGetLinkInfo(token);
+        } catch (GeneralException e) {
+            ViewerLinkAccessOutcome outcome = outcomeOf(e);
+            // 만료/폐기는 서명이 유효하므로 어떤 링크인지 기록
+            record(outcome == ViewerLinkAccessOutcome.INVALID ? null : viewerLinkTokenCodec.decode(token),
+                    action, outcome, client);
+            throw e;
+        }
+
+        if (!link.scope().allows(action)) {
+            record(link, action, ViewerLinkAccessOutcome.SCOPE_DENIED, client);
+            throw new GeneralException(ErrorStatus.VIEWER_LINK_SCOPE_DENIED);
+        }
+        if (action != ViewerLinkAccessAction.STREAM) {
+            record(link, action, ViewerLinkAccessOutcome.GRANTED, client);
+        }
+        return link;
+    }
+
+    /**
+     * 실시간 스트림 연결
+     */
+    public SseEmitter openStream(String token, ViewerClient client) {
+        ViewerLinkInfo link = authorize(token, ViewerLinkAccessAction.STREAM, client);
+        SseEmitter emitter;
+        try {
+            emitter = viewerSseEmitterManager.createEmitter(link);
+        } catch (GeneralException e) {
+            record(link, ViewerLinkAccessAction.STREAM, ViewerLinkAccessOutcome.CAPACITY_EXCEEDED, client);
+            throw e;
+        }
+        record(link, ViewerLinkAccessAction.STREAM, ViewerLinkAccessOutcome.GRANTED, client);
+        return emitter;
+    }
+
+    private void record(ViewerLinkInfo link, ViewerLinkAccessAction action, ViewerLinkAccessOutcome outcome,
+                        ViewerClient client) {
+        try {
+            viewerLinkAuditService.record(link, action, outcome, client);
+        } catch (TaskRejectedException e) {
+            // 기록 큐가 가득 차도 뷰어 요청은 처리
+            log.warn("뷰어링크 접근 기록 누락 (큐 포화) - LinkId: {}, Outcome: {}",
+                    link != null ? link.linkId() : null, outcome);
+        }
+    }
+
+    private static ViewerLinkAccessOutcome outcomeOf(GeneralException e) {
+        return switch (e.getErrorStatus()) {
+            case VIEWER_LINK_EXPIRED -> ViewerLinkAccessOutcome.EXPIRED;
+            case VIEWER_LINK_REVOKED -> ViewerLinkAccessOutcome.REVOKED;
+            default -> ViewerLinkAccessOutcome.INVALID;
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import com.yaldi.domain.viewer.dto.ViewerClient;
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.dto.response.ViewerLinkAccessLogPageResponse;
+import com.yaldi.domain.viewer.dto.response.ViewerLinkAccessLogResponse;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessAction;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessLog;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessOutcome;
+import com.yaldi.domain.viewer.repository.ViewerLinkAccessLogRepository;
+import com.yaldi.global.async.AsyncBulkhead;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 뷰어링크 접근 기록
+ *
+ * <p>요청 처리 경로를 막지 않도록 기록은 비동기로 저장하고, 보관 기간이 지난 기록은 매일 정리합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewerLinkAuditService {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final ViewerLinkAccessLogRepository viewerLinkAccessLogRepository;
+    private final ViewerLinkProperties viewerLinkProperties;
+
+    /**
+     * 접근 기록 저장
+     *
+     * @param link 서명 검증 전 실패면 null
+     */
+    @Async(AsyncBulkhead.DEFAULT_EXECUTOR)
+    @Transactional
+    public void record(ViewerLinkInfo link, ViewerLinkAccessAction action, ViewerLinkAccessOutcome outcome,
+                       ViewerClient client) {
+        viewerLinkAccessLogRepository.save(ViewerLinkAccessLog.builder()
+                .linkId(link != null ? link.linkId() : null)
+                .projectKey(link != null ? link.projectKey() : null)
+                .action(action)
+                .outcome(outcome)
+                .clientIp(client.clientIp())
+                .userKey(client.userKey())
+                .userAgent(client.userAgent())
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public ViewerLinkAccessLogPageResponse getAccessLogs(Long projectKey, Long cursor, Integer size) {
+        int limit = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<ViewerLinkAccessLog> fetched = viewerLinkAccessLogRepository.findPage(
+                projectKey, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        boolean hasNext = fetched.size() > limit;
+        List<ViewerLinkAccessLog> page = hasNext ? fetched.subList(0, limit) : fetched;
+
+        return new ViewerLinkAccessLogPageResponse(
+                page.stream().map(ViewerLinkAccessLogResponse::from).toList(),
+                hasNext ? page.get(page.size() - 1).getAccessKey() : null,
+                hasNext);
+    }
+
+    /**
+     * 보관 기간이 지난 접근 기록 삭제
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = viewerLinkAccessLogRepository.deleteOlderThan(
+                OffsetDateTime.now().minus(viewerLinkProperties.getAuditRetention()));
+        log.info("뷰어링크 접근 기록 정리 - 삭제: {}건", deleted);
+    }
+}
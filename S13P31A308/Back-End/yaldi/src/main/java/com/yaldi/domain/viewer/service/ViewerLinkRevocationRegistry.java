@@ -0,0 +1,104 @@
+package com.yaldi.domain.viewer.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 뷰어링크 폐기 목록 (로컬 맵 + Redis Sorted Set 복제)
+ *
+ * <ul>
+ *   <li><strong>조회:</strong> 로컬 맵만 확인 (Redis 왕복 없음)</li>
+ *   <li><strong>폐기:</strong> Redis ZSET(score = 링크 만료 시각)에 추가 후 {@link #REVOCATION_CHANNEL}로 발행
+ *       → 모든 노드가 로컬 맵에 반영</li>
+ *   <li><strong>동기화:</strong> 기동 시와 30초마다 만료 전 항목 전체를 병합 (메시지 유실/신규 노드 대비)</li>
+ *   <li><strong>정리:</strong> 링크가 만료되면 서명 검증에서 이미 거부되므로 폐기 항목도 함께 제거</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ViewerLinkRevocationRegistry {
+
+    public static final String REVOCATION_CHANNEL = "viewer:revoked";
+
+    private static final String REVOKED_KEY = "viewer:revoked:links";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+
+    /** linkId → 링크 만료 시각 (epoch seconds) */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ViewerLinkRevocationRegistry(RedisTemplate<String, String> redisTemplate) {
+        this(redisTemplate, Clock.systemUTC());
+    }
+
+    ViewerLinkRevocationRegistry(RedisTemplate<String, String> redisTemplate, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    public boolean isRevoked(String linkId) {
+        return linkId != null && revoked.containsKey(linkId);
+    }
+
+    /**
+     * 링크 폐기 (만료 시각까지만 보관)
+     */
+    public void revoke(String linkId, Instant expiresAt) {
+        long expiresAtSeconds = expiresAt.getEpochSecond();
+        revoked.put(linkId, expiresAtSeconds);
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_KEY, linkId, expiresAtSeconds);
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, linkId + ":" + expiresAtSeconds);
+        } catch (Exception e) {
+            log.warn("뷰어링크 폐기 전파 실패 (다음 동기화 때 반영) - LinkId: {}, Error: {}", linkId, e.getMessage());
+        }
+        log.info("Viewer link revoked: {}", linkId);
+    }
+
+    /**
+     * 다른 노드의 폐기 메시지 수신 ("linkId:expiresAtEpochSeconds")
+     */
+    public void onRevocation(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("잘못된 뷰어링크 폐기 메시지: {}", message);
+            return;
+        }
+        revoked.put(message.substring(0, separator), Long.parseLong(message.substring(separator + 1).trim()));
+    }
+
+    /**
+     * Redis 폐기 목록 병합 및 만료 항목 정리
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 30000)
+    public void synchronize() {
+        long now = clock.instant().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<TypedTuple<String>> entries =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_KEY, now + 1, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                for (TypedTuple<String> entry : entries) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        revoked.put(entry.getValue(), entry.getScore().longValue());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("뷰어링크 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,24 +1,33 @@
 package com.yaldi.domain.viewer.service;
 
-import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
 import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
 import com.yaldi.domain.viewer.dto.response.ViewerLinkResponse;
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+import com.yaldi.domain.viewer.repository.ViewerLinkAccessLogRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Forward Mapping (projectKey → linkId 찾기)
- * 용도: 프로젝트 멤버가 링크 생성 시, 기존 링크 있는지 확인
- * Reverse Mapping (linkId → projectKey 찾기)
- * 용도: 뷰어가 링크 클릭 시, 어떤 프로젝트인지 확인
+ * 뷰어링크 발급/검증/폐기
+ *
+ * <p>뷰어링크는 프로젝트, 권한 범위, 만료 시각을 담은 서명 토큰입니다. ({@link ViewerLinkTokenCodec})</p>
+ * <ul>
+ *   <li><strong>검증 (뷰어 접속마다):</strong> 서명/만료 확인 + 로컬 폐기 목록 확인. Redis 조회 없음</li>
+ *   <li><strong>발급 (멤버, 드묾):</strong> Forward Mapping(projectKey:scope → 토큰)으로 유효한 기존 링크를 재사용</li>
+ *   <li><strong>폐기:</strong> 폐기 목록에 추가하고 Forward Mapping 삭제 → 다음 발급 시 새 링크.
+ *       이미 재발급된 이전 링크는 접근 기록의 linkId로 폐기</li>
+ * </ul>
  */
 @Slf4j
 @Service
@@ -26,116 +35,127 @@ import java.util.concurrent.TimeUnit;
 public class ViewerLinkService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final AuthorizationCache authorizationCache;
+    private final ViewerLinkTokenCodec viewerLinkTokenCodec;
+    private final ViewerLinkRevocationRegistry viewerLinkRevocationRegistry;
+    private final ViewerLinkProperties viewerLinkProperties;
+    private final ViewerLinkAccessLogRepository viewerLinkAccessLogRepository;
 
     @Value("${app.viewer.base-url:https://yaldi.kr}")
     private String baseUrl;
 
     /**
      * Redis 키 접두사 상수
-     * - Forward Mapping: projectKey → linkId 조회용
-     * - Reverse Mapping: linkId → projectKey 조회용
+     * - Forward Mapping: projectKey:scope → 링크 토큰 조회용 (발급 시에만 사용)
      */
     private static final String REDIS_KEY_PREFIX_FORWARD = "viewer:link:";
-    private static final String REDIS_KEY_PREFIX_REVERSE = "viewer:reverse:";
 
-    private static final long LINK_TTL_DAYS = 3;
-    private static final long LINK_TTL_SECONDS = LINK_TTL_DAYS * 24 * 60 * 60; // 259200초
-
-    public ViewerLinkResponse getOrCreateViewerLink(Long projectKey) {
-        // Forward Key 생성: "viewer:link:{projectKey}"
-        String redisKey = buildRedisKey(projectKey);
-
-        // Redis에서 linkId 조회 (Forward Mapping 사용)
-        String linkId = redisTemplate.opsForValue().get(redisKey);
-
-        if (linkId != null) {
-            Long remainingTtl = redisTemplate.getExpire(redisKey, TimeUnit.SECONDS);
-
-            if (remainingTtl != null && remainingTtl > 0) {
-                log.info("기존 뷰어링크 반환 - ProjectKey: {}, LinkId: {}, TTL: {}초", projectKey, linkId, remainingTtl);
-                return ViewerLinkResponse.of(linkId, baseUrl, remainingTtl);
+    public ViewerLinkResponse getOrCreateViewerLink(Long projectKey, ViewerLinkScope scope) {
+        // Forward Key 생성: "viewer:link:{projectKey}:{scope}"
+        String forwardKey = buildForwardKey(projectKey, scope);
+
+        // 유효한 기존 링크가 있으면 재사용
+        String token = redisTemplate.opsForValue().get(forwardKey);
+        if (token != null) {
+            try {
+                ViewerLinkInfo existing = validateAndGetLinkInfo(token);
+                long remainingTtl = Duration.between(Instant.now(), existing.expiresAt()).toSeconds();
+                if (remainingTtl > 0) {
+                    log.info("기존 뷰어링크 반환 - ProjectKey: {}, LinkId: {}, TTL: {}초",
+                            projectKey, existing.linkId(), remainingTtl);
+                    return ViewerLinkResponse.of(token, baseUrl, scope, remainingTtl);
+                }
+            } catch (GeneralException e) {
+                log.info("기존 뷰어링크 사용 불가 ({}) - ProjectKey: {}", e.getErrorStatus(), projectKey);
             }
         }
 
-        linkId = UUID.randomUUID().toString();
-
-        // Redis에 Forward + Reverse 매핑 저장 (3일 TTL)
-        createWithReverseMapping(projectKey, linkId);
+        long ttlSeconds = viewerLinkProperties.getTtl().toSeconds();
+        token = viewerLinkTokenCodec.issue(projectKey, scope, Instant.now().plusSeconds(ttlSeconds));
+        redisTemplate.opsForValue().set(forwardKey, token, ttlSeconds, TimeUnit.SECONDS);
 
-        log.info("새 뷰어링크 생성 - ProjectKey: {}, LinkId: {}, TTL: {}초", projectKey, linkId, LINK_TTL_SECONDS);
+        log.info("새 뷰어링크 생성 - ProjectKey: {}, Scope: {}, TTL: {}초", projectKey, scope, ttlSeconds);
 
-        return ViewerLinkResponse.of(linkId, baseUrl, LINK_TTL_SECONDS);
+        return ViewerLinkResponse.of(token, baseUrl, scope, ttlSeconds);
     }
 
     /**
      * 뷰어가 링크를 클릭했을 때 호출됨
-     * linkId만 알고 있는 상태에서 어떤 프로젝트인지 찾기위함
      *
-     * 1. Reverse Key로 조회: "viewer:reverse:{linkId}" → projectKey
-     * 2. projectKey 발견 → 유효한 링크
-     * 3. 없으면 → 만료되었거나 잘못된 링크
+     * 1. 서명 검증 (변조 → INVALID_VIEWER_LINK)
+     * 2. 만료 확인 (→ VIEWER_LINK_EXPIRED)
+     * 3. 로컬 폐기 목록 확인 (→ VIEWER_LINK_REVOKED)
      */
-    public ViewerLinkInfo validateAndGetLinkInfo(String linkId) {
-        // Reverse Key 생성
-        String reverseKey = buildReverseKey(linkId);
-
-        // Redis에서 projectKey 조회 (Reverse Mapping 사용)
-        String projectKeyStr = redisTemplate.opsForValue().get(reverseKey);
-
-        if (projectKeyStr == null) {
-            log.warn("유효하지 않은 뷰어링크 - LinkId: {}", linkId);
-            throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
+    public ViewerLinkInfo validateAndGetLinkInfo(String token) {
+        ViewerLinkInfo info = viewerLinkTokenCodec.verify(token);
+        if (viewerLinkRevocationRegistry.isRevoked(info.linkId())) {
+            throw new GeneralException(ErrorStatus.VIEWER_LINK_REVOKED);
         }
-
-        try {
-            Long projectKey = Long.parseLong(projectKeyStr);
-            log.info("뷰어링크 검증 성공 - LinkId: {}, ProjectKey: {}", linkId, projectKey);
-            return new ViewerLinkInfo(projectKey);
-        } catch (NumberFormatException e) {
-            log.error("뷰어링크 데이터 손상 - LinkId: {}, 저장된 값: {}", linkId, projectKeyStr, e);
-            throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
-        }
-    }
-
-    public boolean isProjectMember(Long projectKey, Integer userKey) {
-        return projectMemberRelationRepository.existsByProjectKeyAndMemberKey(projectKey, userKey);
+        return info;
     }
 
     /**
-     * Forward + Reverse 매핑을 동시에 생성
+     * 프로젝트의 현재 뷰어링크 폐기 (모든 권한 범위)
+     *
+     * @return 폐기한 링크 수
      */
-    private void createWithReverseMapping(Long projectKey, String linkId) {
-        String forwardKey = buildForwardKey(projectKey);
-        String reverseKey = buildReverseKey(linkId);
-        String projectKeyStr = projectKey.toString();
-
-        // Forward: viewer:link:{projectKey} → linkId
-        redisTemplate.opsForValue().set(forwardKey, linkId, LINK_TTL_SECONDS, TimeUnit.SECONDS);
-
-        // Reverse: viewer:reverse:{linkId} → projectKey
-        redisTemplate.opsForValue().set(reverseKey, projectKeyStr, LINK_TTL_SECONDS, TimeUnit.SECONDS);
+    public int revokeViewerLinks(Long projectKey) {
+        int revoked = 0;
+        for (ViewerLinkScope scope : ViewerLinkScope.values()) {
+            String forwardKey = buildForwardKey(projectKey, scope);
+            String token = redisTemplate.opsForValue().get(forwardKey);
+            if (token == null) {
+                continue;
+            }
+            try {
+                ViewerLinkInfo info = viewerLinkTokenCodec.decode(token);
+                viewerLinkRevocationRegistry.revoke(info.linkId(), info.expiresAt());
+                revoked++;
+                log.info("뷰어링크 폐기 - ProjectKey: {}, LinkId: {}", projectKey, info.linkId());
+            } catch (GeneralException e) {
+                log.warn("손상된 뷰어링크 매핑 삭제 - ProjectKey: {}, Scope: {}", projectKey, scope);
+            }
+            redisTemplate.delete(forwardKey);
+        }
+        return revoked;
     }
 
     /**
-     * Forward Key 생성: "viewer:link:{projectKey}"
+     * 접근 기록에 남은 링크 폐기 (현재 링크를 재발급한 뒤에도 이전에 공유된 링크를 막을 때)
+     *
+     * <p>링크 만료 시각을 알 수 없으므로 지금부터 최대 유효 시간까지 폐기 목록에 보관합니다.</p>
      */
-    private String buildForwardKey(Long projectKey) {
-        return REDIS_KEY_PREFIX_FORWARD + projectKey;
+    public void revokeViewerLink(Long projectKey, String linkId) {
+        if (!viewerLinkAccessLogRepository.existsByLinkIdAndProjectKey(linkId, projectKey)) {
+            throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
+        }
+        viewerLinkRevocationRegistry.revoke(linkId, Instant.now().plus(viewerLinkProperties.getTtl()));
+        for (ViewerLinkScope scope : ViewerLinkScope.values()) {
+            String forwardKey = buildForwardKey(projectKey, scope);
+            String token = redisTemplate.opsForValue().get(forwardKey);
+            if (token != null && linkId.equals(linkIdOf(token))) {
+                redisTemplate.delete(forwardKey);
+            }
+        }
+        log.info("뷰어링크 폐기 - ProjectKey: {}, LinkId: {}", projectKey, linkId);
     }
 
-    /**
-     * Reverse Key 생성: "viewer:reverse:{linkId}"
-     */
-    private String buildReverseKey(String linkId) {
-        return REDIS_KEY_PREFIX_REVERSE + linkId;
+    private String linkIdOf(String token) {
+        try {
+            return viewerLinkTokenCodec.decode(token).linkId();
+        } catch (GeneralException e) {
+            return null;
+        }
+    }
+
+    public boolean isProjectMember(Long projectKey, Integer userKey) {
+        return authorizationCache.getProjectRole(projectKey, userKey).isPresent();
     }
 
     /**
-     * @deprecated buildForwardKey()를 사용하세요
+     * Forward Key 생성: "viewer:link:{projectKey}:{scope}"
      */
-    @Deprecated
-    private String buildRedisKey(Long projectKey) {
-        return buildForwardKey(projectKey);
+    private String buildForwardKey(Long projectKey, ViewerLinkScope scope) {
+        return REDIS_KEY_PREFIX_FORWARD + projectKey + ":" + scope.name();
     }
 }
@@ -0,0 +1,126 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.jwt.JwtProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 뷰어링크 토큰 서명/검증
+ *
+ * <p>토큰 형식: {@code base64url(v1|linkId|projectKey|scope|expiresAt)} + {@code .} + {@code base64url(HMAC-SHA256)}</p>
+ * <ul>
+ *   <li>프로젝트, 권한 범위, 만료 시각이 서명에 포함되어 있어 검증에 Redis 조회가 필요 없습니다.</li>
+ *   <li>서명 키는 {@code viewer.link.secret}, 없으면 JWT Secret에서 용도 라벨로 파생한 키를 사용합니다.
+ *       (JWT와 같은 키로 서명하지 않음)</li>
+ * </ul>
+ */
+@Component
+public class ViewerLinkTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final String KEY_LABEL = "yaldi-viewer-link";
+    private static final int LINK_ID_BYTES = 12;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Clock clock;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    public ViewerLinkTokenCodec(ViewerLinkProperties viewerLinkProperties, JwtProperties jwtProperties) {
+        this(viewerLinkProperties.getSecret() != null && !viewerLinkProperties.getSecret().isBlank()
+                ? viewerLinkProperties.getSecret()
+                : jwtProperties.getSecret(), Clock.systemUTC());
+    }
+
+    ViewerLinkTokenCodec(String secret, Clock clock) {
+        this.key = new SecretKeySpec(
+                hmac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM), KEY_LABEL), ALGORITHM);
+        this.clock = clock;
+    }
+
+    /**
+     * 새 링크 발급
+     */
+    public String issue(Long projectKey, ViewerLinkScope scope, Instant expiresAt) {
+        byte[] id = new byte[LINK_ID_BYTES];
+        secureRandom.nextBytes(id);
+        return encode(new ViewerLinkInfo(ENCODER.encodeToString(id), projectKey, scope, expiresAt));
+    }
+
+    String encode(ViewerLinkInfo info) {
+        String payload = String.join("|", VERSION, info.linkId(), info.projectKey().toString(),
+                info.scope().name(), Long.toString(info.expiresAt().getEpochSecond()));
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(hmac(key, encodedPayload));
+    }
+
+    /**
+     * 서명과 만료 검증
+     *
+     * @throws GeneralException INVALID_VIEWER_LINK (형식 오류/변조), VIEWER_LINK_EXPIRED (만료)
+     */
+    public ViewerLinkInfo verify(String token) {
+        ViewerLinkInfo info = decode(token);
+        if (!clock.instant().isBefore(info.expiresAt())) {
+            throw new GeneralException(ErrorStatus.VIEWER_LINK_EXPIRED);
+        }
+        return info;
+    }
+
+    /**
+     * 서명만 검증 (만료된 링크도 반환, 폐기 처리용)
+     */
+    public ViewerLinkInfo decode(String token) {
+        int dot = token == null ? -1 : token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
+        }
+        String encodedPayload = token.substring(0, dot);
+        // 디코딩 후 비교하면 마지막 문자의 패딩 비트만 다른 서명도 통과하므로 정규 인코딩 문자열로 비교
+        byte[] signature = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        byte[] expected = ENCODER.encodeToString(hmac(key, encodedPayload)).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(signature, expected)) {
+            throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
+        }
+        try {
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
+            }
+            return new ViewerLinkInfo(parts[1], Long.parseLong(parts[2]), ViewerLinkScope.valueOf(parts[3]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[4])));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자/enum 파싱 실패
+            throw new GeneralException(ErrorStatus.INVALID_VIEWER_LINK);
+        }
+    }
+
+    private static byte[] hmac(SecretKeySpec key, String data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
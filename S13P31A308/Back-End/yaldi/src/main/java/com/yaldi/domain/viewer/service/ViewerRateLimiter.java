@@ -0,0 +1,76 @@
+package com.yaldi.domain.viewer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * IP별 뷰어 요청 제한 (토큰 버킷, 노드 로컬)
+ *
+ * <p>버킷 크기만큼 순간 요청을 허용하고 분당 충전량만큼 다시 채웁니다.
+ * 비회원 접근이라 IP 수에 상한이 없으므로, 일정 시간 요청이 없는 IP의 버킷은 캐시에서 제거합니다.
+ * (제거된 IP는 가득 찬 버킷으로 다시 시작하므로 동작은 같음)</p>
+ */
+@Component
+public class ViewerRateLimiter {
+
+    private static final long MAXIMUM_TRACKED_IPS = 100_000;
+    private static final Duration IDLE_EVICTION = Duration.ofMinutes(10);
+
+    private final ViewerLinkProperties viewerLinkProperties;
+    private final Clock clock;
+    private final Cache<String, Bucket> buckets;
+
+    @Autowired
+    public ViewerRateLimiter(ViewerLinkProperties viewerLinkProperties) {
+        this(viewerLinkProperties, Clock.systemUTC());
+    }
+
+    ViewerRateLimiter(ViewerLinkProperties viewerLinkProperties, Clock clock) {
+        this.viewerLinkProperties = viewerLinkProperties;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_TRACKED_IPS)
+                .expireAfterAccess(IDLE_EVICTION)
+                .build();
+    }
+
+    /**
+     * 요청 1회 허용 여부 (허용 시 토큰 차감)
+     */
+    public boolean tryAcquire(String clientIp) {
+        int capacity = viewerLinkProperties.getRateLimitCapacity();
+        double refillPerMilli = viewerLinkProperties.getRateLimitRefillPerMinute() / 60_000.0;
+        long now = clock.millis();
+        return buckets.get(clientIp == null ? "unknown" : clientIp, ip -> new Bucket(capacity, now))
+                .tryConsume(now, capacity, refillPerMilli);
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        synchronized boolean tryConsume(long now, int capacity, double refillPerMilli) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerMilli);
+                refilledAt = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
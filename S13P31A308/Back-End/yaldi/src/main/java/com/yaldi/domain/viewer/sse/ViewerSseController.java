@@ -1,10 +1,12 @@
 package com.yaldi.domain.viewer.sse;
 
-import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
-import com.yaldi.domain.viewer.service.ViewerLinkService;
+import com.yaldi.domain.viewer.dto.ViewerClient;
+import com.yaldi.domain.viewer.service.ViewerLinkAccessService;
+import com.yaldi.infra.security.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -21,22 +23,18 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class ViewerSseController {
 
-    private final ViewerLinkService viewerLinkService;
-    private final ViewerSseEmitterManager viewerSseEmitterManager;
+    private final ViewerLinkAccessService viewerLinkAccessService;
 
-    @Operation(summary = "뷰어 SSE 스트림 연결", description = "뷰어링크를 통해 접속 시 실시간 ERD 업데이트를 수신하는 SSE 스트림을 시작합니다. ")
+    @Operation(summary = "뷰어 SSE 스트림 연결", description = "뷰어링크를 통해 접속 시 실시간 ERD 업데이트를 수신하는 SSE 스트림을 시작합니다. LIVE 링크만 가능하며, 링크가 폐기/만료되면 스트림이 종료됩니다.")
     @GetMapping(value = "/{linkId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter connect(
             @Parameter(description = "뷰어링크 ID", required = true)
-            @PathVariable String linkId
+            @PathVariable String linkId,
+            HttpServletRequest request
     ) {
-        log.info("뷰어 SSE 연결 요청 - LinkId: {}", linkId);
+        Integer userKey = SecurityUtil.isAuthenticated() ? SecurityUtil.getCurrentUserKey() : null;
 
-        ViewerLinkInfo linkInfo = viewerLinkService.validateAndGetLinkInfo(linkId);
-
-        log.info("뷰어 SSE 연결 성공 - LinkId: {}, ProjectKey: {}", linkId, linkInfo.projectKey());
-
-        // SSE Emitter 생성 및 반환
-        return viewerSseEmitterManager.createEmitter(linkInfo.projectKey());
+        // 요청 제한/서명/폐기/권한 범위/동시 접속 확인 후 SSE Emitter 생성 및 반환
+        return viewerLinkAccessService.openStream(linkId, ViewerClient.from(request, userKey));
     }
 }
@@ -1,15 +1,25 @@
 package com.yaldi.domain.viewer.sse;
 
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.service.ViewerLinkRevocationRegistry;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
@@ -19,61 +29,90 @@ public class ViewerSseEmitterManager {
      * 프로젝트별 SSE 연결 관리 Map
      *
      * Key: projectKey (프로젝트 ID)
-     * Value: 해당 프로젝트를 보는 뷰어들의 SseEmitter 리스트
+     * Value: 해당 프로젝트를 보는 뷰어 연결 리스트 (연결에 사용한 링크 정보 포함)
      *
      * ConcurrentHashMap + CopyOnWriteArrayList?
      *  - 여러 스레드가 동시에 연결/해제할 수 있음
      *  - ConcurrentHashMap: 맵 전체의 동시 접근 보호
      *  - CopyOnWriteArrayList: 리스트 순회 중 추가/삭제 안전
      */
-    private final Map<Long, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, CopyOnWriteArrayList<ViewerConnection>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 링크별 동시 연결 수 (노드 로컬)
+     *
+     * SSE 연결은 연결을 받은 노드에 묶여 있으므로 노드별로 제한
+     */
+    private final Map<String, Integer> linkConnections = new ConcurrentHashMap<>();
 
     // SSE 타임아웃: 무제한 (0L = timeout 없음)
     // 뷰어는 읽기 전용이므로 오래 연결되어 있어도 문제없음
     // 브라우저 탭을 닫으면 onCompletion 핸들러가 자동으로 연결 정리
-    // 프론트엔드에서 재연결 로직 불필요
+    // 링크가 만료/폐기되면 서버가 연결을 종료함
     private static final Long SSE_TIMEOUT = 0L;
 
+    private final ViewerLinkRevocationRegistry revocationRegistry;
+    private final ViewerLinkProperties viewerLinkProperties;
+    private final Clock clock;
+
+    @Autowired
+    public ViewerSseEmitterManager(ViewerLinkRevocationRegistry revocationRegistry,
+                                   ViewerLinkProperties viewerLinkProperties) {
+        this(revocationRegistry, viewerLinkProperties, Clock.systemUTC());
+    }
+
+    ViewerSseEmitterManager(ViewerLinkRevocationRegistry revocationRegistry,
+                            ViewerLinkProperties viewerLinkProperties, Clock clock) {
+        this.revocationRegistry = revocationRegistry;
+        this.viewerLinkProperties = viewerLinkProperties;
+        this.clock = clock;
+    }
+
     /**
      * SSE Emitter 생성 및 등록 : 뷰어가 링크를 통해 접속할 때 호출
      *
-     * ViewerSseController.connect() → createEmitter() 호출
+     * ViewerLinkAccessService.openStream() → createEmitter() 호출
      *
-     * 1. SseEmitter 객체 생성 (무제한 타임아웃)
-     * 2. 프로젝트별 연결 리스트에 추가
-     * 3. 생명주기 핸들러 등록 (완료/타임아웃/에러 시 cleanup)
-     * 4. 초기 연결 확인 메시지 전송
-     * 5. 클라이언트에 SseEmitter 반환
+     * 1. 링크 동시 연결 수 확인 (초과 시 VIEWER_LINK_CAPACITY_EXCEEDED)
+     * 2. SseEmitter 객체 생성 (무제한 타임아웃)
+     * 3. 프로젝트별 연결 리스트에 추가
+     * 4. 생명주기 핸들러 등록 (완료/타임아웃/에러 시 cleanup)
+     * 5. 초기 연결 확인 메시지 전송
+     * 6. 클라이언트에 SseEmitter 반환
      *
      */
-    public SseEmitter createEmitter(Long projectKey) {
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+    public SseEmitter createEmitter(ViewerLinkInfo link) {
+        acquireSlot(link.linkId());
+
+        Long projectKey = link.projectKey();
+        ViewerConnection connection = new ViewerConnection(link, new SseEmitter(SSE_TIMEOUT));
+        SseEmitter emitter = connection.emitter();
 
         //  해당 projectKey의 리스트가 없으면 새로 생성
         emitters.computeIfAbsent(projectKey, k -> new CopyOnWriteArrayList<>())
-                .add(emitter);
+                .add(connection);
 
-        log.info("SSE Emitter 생성 - ProjectKey: {}, 현재 연결 수: {}",
-                projectKey, emitters.get(projectKey).size());
+        log.info("SSE Emitter 생성 - ProjectKey: {}, LinkId: {}, 현재 연결 수: {}",
+                projectKey, link.linkId(), getViewerCount(projectKey));
 
         // 생명주기 핸들러 등록
         //  SSE 연결은 종료 시 자동으로 리스트에서 제거 (메모리 누수 방지)
 
         // 정상 종료 시 (브라우저 탭 닫기 등)
         emitter.onCompletion(() -> {
-            removeEmitter(projectKey, emitter);
+            removeEmitter(projectKey, connection);
             log.info("SSE 연결 완료 - ProjectKey: {}", projectKey);
         });
 
         // 타임아웃 시 (무제한이므로 거의 발생 안 함)
         emitter.onTimeout(() -> {
-            removeEmitter(projectKey, emitter);
+            removeEmitter(projectKey, connection);
             log.warn("SSE 연결 타임아웃 - ProjectKey: {}", projectKey);
         });
 
         // 에러 발생 시 (네트워크 끊김 등)
         emitter.onError((ex) -> {
-            removeEmitter(projectKey, emitter);
+            removeEmitter(projectKey, connection);
             log.error("SSE 연결 에러 - ProjectKey: {}, Error: {}", projectKey, ex.getMessage());
         });
 
@@ -84,7 +123,7 @@ public class ViewerSseEmitterManager {
                     .data("SSE 연결 성공"));
         } catch (IOException e) {
             log.error("SSE 초기 메시지 전송 실패 - ProjectKey: {}", projectKey, e);
-            removeEmitter(projectKey, emitter);
+            removeEmitter(projectKey, connection);
         }
 
         return emitter;
@@ -98,13 +137,14 @@ public class ViewerSseEmitterManager {
      *
      * 1. 해당 프로젝트의 뷰어 리스트 조회
      * 2. 뷰어가 없으면 early return (브로드캐스트할 대상 없음)
-     * 3. 모든 뷰어에게 동일한 이벤트 전송
-     * 4. 전송 실패한 연결은 자동 제거
+     * 3. 폐기/만료된 링크의 연결은 종료 (로컬 폐기 목록만 확인, Redis 조회 없음)
+     * 4. 나머지 뷰어에게 동일한 이벤트 전송
+     * 5. 전송 실패한 연결은 자동 제거
      *
      */
     public void sendToViewers(Long projectKey, ErdBroadcastEvent event) {
         // 1. 해당 프로젝트의 뷰어 리스트 조회
-        List<SseEmitter> projectEmitters = emitters.get(projectKey);
+        List<ViewerConnection> projectEmitters = emitters.get(projectKey);
 
         // 2. 뷰어가 없으면 종료 : 아무도 보고 있지 않음
         if (projectEmitters == null || projectEmitters.isEmpty()) {
@@ -112,31 +152,92 @@ public class ViewerSseEmitterManager {
             return;
         }
 
-        // 3. 모든 뷰어에게 이벤트 브로드캐스트
-        projectEmitters.forEach(emitter -> {
+        // 3~4. 유효한 링크로 연결된 뷰어에게만 이벤트 브로드캐스트
+        projectEmitters.forEach(connection -> {
+            if (closeIfInvalid(projectKey, connection)) {
+                return;
+            }
             try {
-                emitter.send(SseEmitter.event()
+                connection.emitter().send(SseEmitter.event()
                         .name("erd-update")
                         .data(event));
             } catch (IOException e) {
                 // 전송 실패 = 연결이 끊김 → 자동 제거
                 log.error("SSE 전송 실패 - ProjectKey: {}, 연결 제거", projectKey, e);
-                removeEmitter(projectKey, emitter);
+                removeEmitter(projectKey, connection);
             }
         });
     }
 
+    /**
+     * 폐기/만료된 링크의 연결 정리 (브로드캐스트가 없는 프로젝트 포함)
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void closeInvalidConnections() {
+        emitters.forEach((projectKey, connections) ->
+                connections.forEach(connection -> closeIfInvalid(projectKey, connection)));
+    }
+
+    private boolean closeIfInvalid(Long projectKey, ViewerConnection connection) {
+        ViewerLinkInfo link = connection.link();
+        String reason;
+        if (revocationRegistry.isRevoked(link.linkId())) {
+            reason = "link-revoked";
+        } else if (!clock.instant().isBefore(link.expiresAt())) {
+            reason = "link-expired";
+        } else {
+            return false;
+        }
+
+        try {
+            connection.emitter().send(SseEmitter.event().name(reason).data(reason));
+        } catch (IOException e) {
+            log.debug("SSE 종료 알림 전송 실패 - ProjectKey: {}", projectKey);
+        }
+        removeEmitter(projectKey, connection);
+        connection.emitter().complete();
+        log.info("뷰어링크 무효화로 SSE 연결 종료 - ProjectKey: {}, LinkId: {}, Reason: {}",
+                projectKey, link.linkId(), reason);
+        return true;
+    }
+
+    private void acquireSlot(String linkId) {
+        int cap = viewerLinkProperties.getMaxConcurrentViewers();
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        linkConnections.compute(linkId, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= cap) {
+                return count;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        if (!acquired.get()) {
+            log.warn("뷰어링크 동시 접속 초과 - LinkId: {}, Cap: {}", linkId, cap);
+            throw new GeneralException(ErrorStatus.VIEWER_LINK_CAPACITY_EXCEEDED);
+        }
+    }
+
+    private void releaseSlot(String linkId) {
+        linkConnections.computeIfPresent(linkId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
     /**
      * SSE Emitter 제거 (연결 종료 시 cleanup)
      *
      * 해당 프로젝트의 뷰어 리스트에서 emitter 제거
      * 리스트가 비면 → Map에서 프로젝트 key도 제거 (메모리 절약)
      */
-    private void removeEmitter(Long projectKey, SseEmitter emitter) {
-        List<SseEmitter> projectEmitters = emitters.get(projectKey);
+    private void removeEmitter(Long projectKey, ViewerConnection connection) {
+        // 완료/에러 콜백이 겹쳐 호출돼도 연결 수는 한 번만 반환
+        if (connection.removed().compareAndSet(false, true)) {
+            releaseSlot(connection.link().linkId());
+        }
+
+        List<ViewerConnection> projectEmitters = emitters.get(projectKey);
 
         if (projectEmitters != null) {
-            projectEmitters.remove(emitter);
+            projectEmitters.remove(connection);
 
             // 리스트가 비면 Map에서도 제거 : 메모리 최적화
             if (projectEmitters.isEmpty()) {
@@ -149,9 +250,29 @@ public class ViewerSseEmitterManager {
     }
 
     public int getViewerCount(Long projectKey) {
-        List<SseEmitter> projectEmitters = emitters.get(projectKey);
+        List<ViewerConnection> projectEmitters = emitters.get(projectKey);
         return projectEmitters != null ? projectEmitters.size() : 0;
     }
+
+    /**
+     * 프로젝트별 뷰어 연결 수 스냅샷
+     */
+    public Map<Long, Integer> getViewerCounts() {
+        Map<Long, Integer> counts = new HashMap<>();
+        emitters.forEach((projectKey, connections) -> counts.put(projectKey, connections.size()));
+        return counts;
+    }
+
+    public int getLinkConnectionCount(String linkId) {
+        return linkConnections.getOrDefault(linkId, 0);
+    }
+
+    private record ViewerConnection(ViewerLinkInfo link, SseEmitter emitter, AtomicBoolean removed) {
+
+        private ViewerConnection(ViewerLinkInfo link, SseEmitter emitter) {
+            this(link, emitter, new AtomicBoolean(false));
+        }
+    }
 }
 
 
@@ -167,7 +288,7 @@ public class ViewerSseEmitterManager {
  *    │  - 뷰어C: emitter.send(event)                                  │
  *    └────────────────────────────────────────────────────────────────┘
  *
- *    Map<Long, CopyOnWriteArrayList<SseEmitter>>
+ *    Map<Long, CopyOnWriteArrayList<ViewerConnection>>
  *    │    │                          │
  *    │    │                          └─ Thread-safe List (동시 읽기/쓰기 안전)
  *    │    └─ projectKey (123)
@@ -0,0 +1,60 @@
+package com.yaldi.global.async;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 작업 격벽(Bulkhead) 정의
+ *
+ * <p>작업 종류별로 스레드 풀과 큐를 분리하여 한 종류의 폭주가 다른 작업을 굶기지 않도록 합니다.
+ * {@code @Async}에는 Bean 이름 상수를 지정합니다. (예: {@code @Async(AsyncBulkhead.MAIL_EXECUTOR)})</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AsyncBulkhead {
+
+    /** 메일 발송 - SMTP 지연이 크므로 거부 시 호출 스레드에서 실행하여 유실 방지 */
+    MAIL("mail", AsyncBulkhead.MAIL_EXECUTOR, 2, 4, 200, RejectionPolicy.CALLER_RUNS),
+
+    /** 알림 SSE 푸시 - 알림은 DB에 저장되므로 포화 시 푸시를 버려도 목록 조회로 복구됨 */
+    NOTIFICATION("notification", AsyncBulkhead.NOTIFICATION_EXECUTOR, 2, 8, 500, RejectionPolicy.DISCARD),
+
+    /** AI 서버 호출 */
+    AI("ai", AsyncBulkhead.AI_EXECUTOR, 2, 4, 50, RejectionPolicy.ABORT),
+
+    /** 파일 내보내기 (StreamingResponseBody 등 MVC 비동기 요청 포함) */
+    EXPORT("export", AsyncBulkhead.EXPORT_EXECUTOR, 2, 4, 20, RejectionPolicy.ABORT),
+
+    /** ERD 린트 - 프로젝트당 대기 작업이 하나로 합쳐지고, 거부되어도 다음 변경이나 조회에서 다시 계산됨 */
+    LINT("lint", AsyncBulkhead.LINT_EXECUTOR, 1, 2, 100, RejectionPolicy.ABORT),
+
+    /** 격벽을 지정하지 않은 {@code @Async} */
+    DEFAULT("default", AsyncBulkhead.DEFAULT_EXECUTOR, 2, 4, 100, RejectionPolicy.ABORT);
+
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String AI_EXECUTOR = "aiExecutor";
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
+    public static final String LINT_EXECUTOR = "lintExecutor";
+    public static final String DEFAULT_EXECUTOR = "defaultAsyncExecutor";
+
+    /** 메트릭 태그 및 스레드 이름에 사용 */
+    private final String id;
+    private final String beanName;
+    private final int defaultCoreSize;
+    private final int defaultMaxSize;
+    private final int defaultQueueCapacity;
+    private final RejectionPolicy defaultRejectionPolicy;
+
+    /**
+     * 큐와 스레드가 모두 찬 경우의 처리 정책
+     */
+    public enum RejectionPolicy {
+        /** 호출자에게 TaskRejectedException 전달 */
+        ABORT,
+        /** 호출 스레드에서 직접 실행 (배압) */
+        CALLER_RUNS,
+        /** 작업 폐기 (경고 로그와 메트릭만 남김) */
+        DISCARD
+    }
+}
@@ -0,0 +1,63 @@
+package com.yaldi.global.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 비동기 격벽 설정
+ *
+ * <pre>
+ * async:
+ *   virtual-threads: false
+ *   bulkheads:
+ *     mail:
+ *       core-size: 2
+ *       max-size: 4
+ *       queue-capacity: 200
+ *       rejection-policy: caller_runs
+ * </pre>
+ *
+ * <p>지정하지 않은 값은 {@link AsyncBulkhead}의 기본값을 사용합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncProperties {
+
+    /** 가상 스레드 사용 여부 (풀 크기/큐 제한은 그대로 적용) */
+    private boolean virtualThreads = false;
+
+    private Map<AsyncBulkhead, Pool> bulkheads = new EnumMap<>(AsyncBulkhead.class);
+
+    /**
+     * 격벽 설정 조회 (미지정 항목은 기본값으로 채움)
+     */
+    public Pool getPool(AsyncBulkhead bulkhead) {
+        Pool configured = bulkheads.get(bulkhead);
+        Pool pool = new Pool();
+        pool.setCoreSize(configured != null && configured.getCoreSize() != null
+                ? configured.getCoreSize() : bulkhead.getDefaultCoreSize());
+        pool.setMaxSize(configured != null && configured.getMaxSize() != null
+                ? configured.getMaxSize() : bulkhead.getDefaultMaxSize());
+        pool.setQueueCapacity(configured != null && configured.getQueueCapacity() != null
+                ? configured.getQueueCapacity() : bulkhead.getDefaultQueueCapacity());
+        pool.setRejectionPolicy(configured != null && configured.getRejectionPolicy() != null
+                ? configured.getRejectionPolicy() : bulkhead.getDefaultRejectionPolicy());
+        return pool;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private Integer coreSize;
+        private Integer maxSize;
+        private Integer queueCapacity;
+        private AsyncBulkhead.RejectionPolicy rejectionPolicy;
+    }
+}
@@ -0,0 +1,111 @@
+package com.yaldi.global.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 격벽별 ThreadPoolTaskExecutor 생성
+ *
+ * <h4>메트릭 (tag: bulkhead):</h4>
+ * <ul>
+ *   <li>async.bulkhead.queue.size - 대기 중인 작업 수</li>
+ *   <li>async.bulkhead.queue.remaining - 남은 큐 용량</li>
+ *   <li>async.bulkhead.active - 실행 중인 스레드 수</li>
+ *   <li>async.bulkhead.pool.size - 현재 풀 크기</li>
+ *   <li>async.bulkhead.wait - 제출부터 실행 시작까지 대기 시간</li>
+ *   <li>async.bulkhead.rejected - 거부된 작업 수</li>
+ * </ul>
+ *
+ * <p>반환된 Executor는 초기화되지 않은 상태입니다. Spring Bean으로 등록하면 컨테이너가 초기화합니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BulkheadExecutorFactory {
+
+    private static final String METRIC_PREFIX = "async.bulkhead.";
+    private static final String TAG = "bulkhead";
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ThreadPoolTaskExecutor create(AsyncBulkhead bulkhead) {
+        AsyncProperties.Pool pool = properties.getPool(bulkhead);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix("async-" + bulkhead.getId() + "-");
+        executor.setVirtualThreads(properties.isVirtualThreads());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        Timer waitTimer = Timer.builder(METRIC_PREFIX + "wait")
+                .description("Time tasks spend queued before execution")
+                .tag(TAG, bulkhead.getId())
+                .register(meterRegistry);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator(waitTimer));
+
+        Counter rejected = Counter.builder(METRIC_PREFIX + "rejected")
+                .tag(TAG, bulkhead.getId())
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler(rejectionHandler(bulkhead, pool.getRejectionPolicy(), rejected));
+
+        registerGauge(bulkhead, "queue.size", executor, e -> e.getQueue().size());
+        registerGauge(bulkhead, "queue.remaining", executor, e -> e.getQueue().remainingCapacity());
+        registerGauge(bulkhead, "active", executor, ThreadPoolExecutor::getActiveCount);
+        registerGauge(bulkhead, "pool.size", executor, ThreadPoolExecutor::getPoolSize);
+
+        log.info("Async bulkhead configured: {} (core={}, max={}, queue={}, rejection={}, virtualThreads={})",
+                bulkhead.getId(), pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity(),
+                pool.getRejectionPolicy(), properties.isVirtualThreads());
+
+        return executor;
+    }
+
+    private RejectedExecutionHandler rejectionHandler(AsyncBulkhead bulkhead, AsyncBulkhead.RejectionPolicy policy,
+                                                      Counter rejected) {
+        return (task, executor) -> {
+            rejected.increment();
+            log.warn("Async bulkhead saturated: {} (policy={}, active={}, queued={})",
+                    bulkhead.getId(), policy, executor.getActiveCount(), executor.getQueue().size());
+
+            switch (policy) {
+                case CALLER_RUNS -> {
+                    if (!executor.isShutdown()) {
+                        task.run();
+                    }
+                }
+                case DISCARD -> {
+                    // 경고 로그와 메트릭만 남기고 폐기
+                }
+                case ABORT -> throw new RejectedExecutionException(
+                        "Async bulkhead '" + bulkhead.getId() + "' rejected task");
+            }
+        };
+    }
+
+    private void registerGauge(AsyncBulkhead bulkhead, String name, ThreadPoolTaskExecutor executor,
+                               ToDoubleFunction<ThreadPoolExecutor> value) {
+        Gauge.builder(METRIC_PREFIX + name, executor, e -> {
+                    try {
+                        return value.applyAsDouble(e.getThreadPoolExecutor());
+                    } catch (IllegalStateException notInitialized) {
+                        return 0;
+                    }
+                })
+                .tag(TAG, bulkhead.getId())
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+}
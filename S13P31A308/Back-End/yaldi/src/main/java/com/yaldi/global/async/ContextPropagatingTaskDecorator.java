@@ -0,0 +1,55 @@
+package com.yaldi.global.async;
+
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업 컨텍스트 전파 데코레이터
+ *
+ * <p>제출 시점의 MDC와 SecurityContext를 작업 스레드로 복사하고, 실행 후 원래 상태로 되돌립니다.
+ * 제출부터 실행 시작까지의 대기 시간을 격벽별 Timer로 기록합니다.</p>
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    private final Timer waitTimer;
+
+    public ContextPropagatingTaskDecorator(Timer waitTimer) {
+        this.waitTimer = waitTimer;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        long submittedAt = System.nanoTime();
+
+        return () -> {
+            waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            setMdc(mdc);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                runnable.run();
+            } finally {
+                setMdc(previousMdc);
+                SecurityContextHolder.setContext(previousSecurityContext);
+            }
+        };
+    }
+
+    private void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.yaldi.global.asyncjob.dto.ImportSqlRequest;
 import com.yaldi.global.asyncjob.entity.AsyncJob;
 import com.yaldi.global.asyncjob.service.AsyncJobService;
 import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.kafka.config.KafkaTopic;
 import com.yaldi.infra.kafka.dto.ImportSqlEvent;
 import com.yaldi.infra.kafka.service.KafkaProducerService;
 import com.yaldi.infra.security.util.SecurityUtil;
@@ -32,8 +33,8 @@ public class ImportSqlController {
 
         // Kafka 발행
         kafkaProducerService.sendMessage(
-                "async-job-topic",
-                job.getJobId(),
+                KafkaTopic.ASYNC_JOB_TOPIC,
+                String.valueOf(projectKey),
                 new ImportSqlEvent(
                         job.getJobId(),
                         projectKey,
@@ -48,6 +48,10 @@ public class AsyncJobSseEmitterManager {
         }
     }
 
+    public int getEmitterCount() {
+        return emitters.size();
+    }
+
     private void remove(String jobId) {
         emitters.remove(jobId);
     }
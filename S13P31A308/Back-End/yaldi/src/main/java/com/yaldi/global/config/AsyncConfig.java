@@ -1,7 +1,12 @@
 package com.yaldi.global.config;
 
+import com.yaldi.global.async.AsyncBulkhead;
+import com.yaldi.global.async.AsyncProperties;
+import com.yaldi.global.async.BulkheadExecutorFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -9,20 +14,56 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 비동기 실행 설정
+ *
+ * <p>작업 종류별 격벽({@link AsyncBulkhead})마다 독립된 스레드 풀/큐/거부 정책을 둡니다.
+ * {@code @Async}에 Executor 이름을 지정하지 않으면 {@link AsyncBulkhead#DEFAULT} 격벽에서 실행됩니다.</p>
+ */
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final BulkheadExecutorFactory executorFactory;
+
+    public AsyncConfig(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        this.executorFactory = new BulkheadExecutorFactory(asyncProperties, meterRegistry);
+    }
+
+    @Bean(name = AsyncBulkhead.MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        return executorFactory.create(AsyncBulkhead.MAIL);
+    }
+
+    @Bean(name = AsyncBulkhead.NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return executorFactory.create(AsyncBulkhead.NOTIFICATION);
+    }
+
+    @Bean(name = AsyncBulkhead.AI_EXECUTOR)
+    public ThreadPoolTaskExecutor aiExecutor() {
+        return executorFactory.create(AsyncBulkhead.AI);
+    }
+
+    @Bean(name = AsyncBulkhead.EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor exportExecutor() {
+        return executorFactory.create(AsyncBulkhead.EXPORT);
+    }
+
+    @Bean(name = AsyncBulkhead.LINT_EXECUTOR)
+    public ThreadPoolTaskExecutor lintExecutor() {
+        return executorFactory.create(AsyncBulkhead.LINT);
+    }
+
+    @Bean(name = AsyncBulkhead.DEFAULT_EXECUTOR)
+    public ThreadPoolTaskExecutor defaultAsyncExecutor() {
+        return executorFactory.create(AsyncBulkhead.DEFAULT);
+    }
+
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-mail-");
-        executor.initialize();
-        return executor;
+        return defaultAsyncExecutor();
     }
 
     @Override
@@ -1,9 +1,13 @@
 package com.yaldi.global.config;
 
+import com.yaldi.global.async.AsyncBulkhead;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -14,6 +18,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ThreadPoolTaskExecutor exportExecutor;
+
+    public WebMvcConfig(@Qualifier(AsyncBulkhead.EXPORT_EXECUTOR) ThreadPoolTaskExecutor exportExecutor) {
+        this.exportExecutor = exportExecutor;
+    }
+
+    /**
+     * StreamingResponseBody/Callable 응답은 내보내기 격벽에서 실행
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor);
+    }
+
     /**
      * Spring Security 필터가 실행되기 전에 DispatcherServlet이 404를 처리하도록 설정
      * 이렇게 하면 존재하지 않는 API 호출 시 OAuth 리다이렉트가 아닌 404 에러를 반환
@@ -1,5 +1,6 @@
 package com.yaldi.global.mail;
 
+import com.yaldi.global.async.AsyncBulkhead;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import jakarta.mail.MessagingException;
@@ -11,6 +12,10 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 @Slf4j
@@ -25,7 +30,7 @@ public class MailService {
     @Value("${frontend.url}")
     private String frontendUrl;
 
-    @Async
+    @Async(AsyncBulkhead.MAIL_EXECUTOR)
     public void sendTeamInvitation(String toEmail, String teamName, String inviterNickname) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -75,4 +80,60 @@ public class MailService {
                     toEmail, teamName, e.getMessage(), e);
         }
     }
+
+    /**
+     * 알림 일일 다이제스트 발송
+     *
+     * @param items 알림 요약 문구 (최신순)
+     * @return 발송 성공 여부 (실패 시 호출 측에서 전달 상태를 되돌림)
+     */
+    @Async(AsyncBulkhead.MAIL_EXECUTOR)
+    public CompletableFuture<Boolean> sendNotificationDigest(String toEmail, String nickname, List<String> items) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+            StringBuilder rows = new StringBuilder();
+            for (String item : items) {
+                rows.append("<li style='font-size: 14px; line-height: 1.6; margin: 6px 0;'>")
+                        .append(HtmlUtils.htmlEscape(item))
+                        .append("</li>");
+            }
+
+            helper.setTo(toEmail);
+            helper.setSubject("[Yaldi] 확인하지 않은 알림 " + items.size() + "건");
+            helper.setText(
+                    "<div style='max-width: 600px; margin: 0 auto; font-family: Arial, sans-serif; background: #f5f5f5;'>" +
+                            "<div style='background: white; padding: 40px 20px;'>" +
+
+                            "<div style='text-align: center; margin-bottom: 30px;'>" +
+                            "<img src='" + LOGO_URL + "' alt='Yaldi' style='max-width: 200px; height: auto;' />" +
+                            "</div>" +
+
+                            "<div style='color: #333; margin-bottom: 30px;'>" +
+                            "<p style='font-size: 16px; line-height: 1.6;'>" +
+                            "<strong>" + HtmlUtils.htmlEscape(nickname != null ? nickname : "") + "</strong>님, 확인하지 않은 알림이 있습니다." +
+                            "</p>" +
+                            "<ul style='padding-left: 20px;'>" + rows + "</ul>" +
+                            "</div>" +
+
+                            "<div style='text-align: center; margin: 30px 0;'>" +
+                            "<a href='" + frontendUrl + "/notification' style='display: inline-block; background: #4A90E2; color: white; padding: 15px 40px; text-decoration: none; border-radius: 8px; font-weight: bold; font-size: 16px;'>" +
+                            "알림 확인하러 가기" +
+                            "</a>" +
+                            "</div>" +
+
+                            "</div>" +
+                            "</div>",
+                    true
+            );
+
+            mailSender.send(message);
+            log.info("알림 다이제스트 발송 완료 :: 수신자={}, 건수={}", toEmail, items.size());
+            return CompletableFuture.completedFuture(true);
+        } catch (Exception e) {
+            log.error("알림 다이제스트 발송 실패 :: 수신자={}, 에러={}", toEmail, e.getMessage(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.yaldi.global.metrics;
+
+import com.yaldi.domain.notification.sse.NotificationSseEmitterManager;
+import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
+import com.yaldi.global.asyncjob.sse.AsyncJobSseEmitterManager;
+import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연결 수 게이지 (노드 로컬)
+ *
+ * <h4>메트릭:</h4>
+ * <ul>
+ *   <li>collab.ws.sessions - 프로젝트별 WebSocket 세션 수 (tag: project)</li>
+ *   <li>collab.sse.viewers - 프로젝트별 뷰어 SSE 연결 수 (tag: project)</li>
+ *   <li>collab.sse.emitters - 종류별 SSE 연결 수 (tag: type=viewer|notification|async_job)</li>
+ * </ul>
+ *
+ * <p>프로젝트 게이지는 주기적으로 다시 계산하며, 연결 수가 많은 순으로 상한까지만 태그를 붙이고 나머지는 other로 합칩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CollaborationGaugeBinder {
+
+    private final MeterRegistry meterRegistry;
+    private final CollaborationMetricsProperties properties;
+    private final WebSocketConnectionInterceptor connectionInterceptor;
+    private final ViewerSseEmitterManager viewerSseEmitterManager;
+    private final NotificationSseEmitterManager notificationSseEmitterManager;
+    private final AsyncJobSseEmitterManager asyncJobSseEmitterManager;
+
+    private MultiGauge sessionGauge;
+    private MultiGauge viewerGauge;
+
+    @PostConstruct
+    public void bind() {
+        sessionGauge = MultiGauge.builder("collab.ws.sessions")
+                .description("WebSocket sessions per project on this node")
+                .register(meterRegistry);
+        viewerGauge = MultiGauge.builder("collab.sse.viewers")
+                .description("Viewer SSE connections per project on this node")
+                .register(meterRegistry);
+
+        Gauge.builder("collab.sse.emitters", viewerSseEmitterManager,
+                        manager -> manager.getViewerCounts().values().stream().mapToInt(Integer::intValue).sum())
+                .tag("type", "viewer")
+                .register(meterRegistry);
+        Gauge.builder("collab.sse.emitters", notificationSseEmitterManager,
+                        manager -> manager.connectedUsers().size())
+                .tag("type", "notification")
+                .register(meterRegistry);
+        Gauge.builder("collab.sse.emitters", asyncJobSseEmitterManager, AsyncJobSseEmitterManager::getEmitterCount)
+                .tag("type", "async_job")
+                .register(meterRegistry);
+
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${collab.metrics.gauge-refresh-interval:15000}")
+    public void refresh() {
+        sessionGauge.register(rows(connectionInterceptor.getSessionCounts()), true);
+        viewerGauge.register(rows(viewerSseEmitterManager.getViewerCounts()), true);
+    }
+
+    List<MultiGauge.Row<?>> rows(Map<Long, Integer> counts) {
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        int limit = properties.getMaxProjectTags();
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        int other = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Long, Integer> entry = sorted.get(i);
+            if (i < limit) {
+                rows.add(MultiGauge.Row.of(Tags.of("project", String.valueOf(entry.getKey())), entry.getValue()));
+            } else {
+                other += entry.getValue();
+            }
+        }
+        if (other > 0) {
+            rows.add(MultiGauge.Row.of(Tags.of("project", CollaborationMetrics.OTHER), other));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,215 @@
+package com.yaldi.global.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 협업 경로 메트릭 기록
+ *
+ * <h4>메트릭:</h4>
+ * <ul>
+ *   <li>collab.ws.inbound - 목적지별 수신 SEND 프레임 수 (tag: destination)</li>
+ *   <li>collab.ws.handler - 목적지별 @MessageMapping 처리 시간 (tag: destination, outcome)</li>
+ *   <li>collab.broadcast.fanout - 브로드캐스트 1건당 이 노드의 수신자 수 (tag: channel=websocket|sse)</li>
+ *   <li>collab.broadcast.flush - 배치 버퍼 flush 소요 시간</li>
+ *   <li>collab.broadcast.flush.events - flush 이벤트 수 (tag: stage=buffered|published)</li>
+ *   <li>collab.event.latency - 이벤트 구간별 지연 (tag: stage=client_to_server|kafka|delivery)</li>
+ *   <li>collab.lock.acquire - 테이블 락 획득 시도 (tag: result=acquired|contended|interrupted)</li>
+ *   <li>collab.lock.hold - 테이블 락 보유 시간 (tag: reason=unlock|disconnect)</li>
+ * </ul>
+ *
+ * <p>event.latency의 kafka/delivery 구간은 서버가 이벤트를 만든 시각({@code ErdBroadcastEvent.timestamp})부터 잽니다.
+ * client_to_server 구간과 합치면 클라이언트 전송부터 STOMP 전달까지의 지연이 됩니다.</p>
+ */
+@Component
+public class CollaborationMetrics {
+
+    public static final String STAGE_CLIENT_TO_SERVER = "client_to_server";
+    public static final String STAGE_KAFKA = "kafka";
+    public static final String STAGE_DELIVERY = "delivery";
+
+    public static final String CHANNEL_WEBSOCKET = "websocket";
+    public static final String CHANNEL_SSE = "sse";
+
+    public static final String LOCK_ACQUIRED = "acquired";
+    public static final String LOCK_CONTENDED = "contended";
+    public static final String LOCK_INTERRUPTED = "interrupted";
+
+    public static final String RELEASE_UNLOCK = "unlock";
+    public static final String RELEASE_DISCONNECT = "disconnect";
+
+    static final String OTHER = "other";
+
+    private static final String PREFIX = "collab.";
+
+    private final MeterRegistry meterRegistry;
+    private final CollaborationMetricsProperties properties;
+    private final Clock clock;
+    private final Ticker ticker;
+
+    /** 태그로 구분 중인 목적지 (상한 초과분은 other) */
+    private final Set<String> destinations = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Counter> inboundCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> fanoutSummaries = new ConcurrentHashMap<>();
+
+    /**
+     * 이 노드에서 획득한 락의 획득 시각 (ticker 기준 nanos)
+     *
+     * 락은 사용자 WebSocket 세션이 붙은 노드에서 획득/해제되므로 노드 로컬로 충분하고,
+     * 다른 노드에서 강제 해제되거나 TTL로 만료된 락은 보유 시간을 기록하지 않음.
+     * 그런 락은 해제 소식이 오지 않으므로 획득/하트비트 후 {@code lockHoldTtl}이 지나면 버림
+     */
+    private final Cache<Long, Long> lockAcquiredAt;
+
+    @Autowired
+    public CollaborationMetrics(MeterRegistry meterRegistry, CollaborationMetricsProperties properties) {
+        this(meterRegistry, properties, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CollaborationMetrics(MeterRegistry meterRegistry, CollaborationMetricsProperties properties,
+                         Clock clock, Ticker ticker) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.clock = clock;
+        this.ticker = ticker;
+        this.lockAcquiredAt = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getLockHoldTtl())
+                .ticker(ticker)
+                .build();
+    }
+
+    public void recordInbound(String destination) {
+        inboundCounters.computeIfAbsent(destinationTag(destination), tag -> Counter.builder(PREFIX + "ws.inbound")
+                .description("Inbound STOMP SEND frames per destination")
+                .tag("destination", tag)
+                .register(meterRegistry)).increment();
+    }
+
+    public void recordHandler(String destination, long elapsedNanos, boolean success) {
+        String outcome = success ? "success" : "error";
+        String tag = destinationTag(destination);
+        handlerTimers.computeIfAbsent(tag + "|" + outcome, key -> latencyTimer(PREFIX + "ws.handler")
+                .description("STOMP @MessageMapping handler latency")
+                .tag("destination", tag)
+                .tag("outcome", outcome)
+                .register(meterRegistry)).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 클라이언트 전송 시각부터 서버 수신까지
+     *
+     * 클라이언트 시계가 서버보다 빠르면(음수) 기록하지 않음
+     */
+    public void recordClientLatency(long clientTimestampMillis) {
+        recordEventLatency(STAGE_CLIENT_TO_SERVER, clientTimestampMillis);
+    }
+
+    public void recordEventLatency(String stage, Long since) {
+        if (since == null) {
+            return;
+        }
+        long elapsed = clock.millis() - since;
+        if (elapsed < 0) {
+            return;
+        }
+        latencyTimers.computeIfAbsent(stage, key -> latencyTimer(PREFIX + "event.latency")
+                .description("Collaboration event latency per stage")
+                .tag("stage", key)
+                .register(meterRegistry)).record(elapsed, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordFanout(String channel, int recipients) {
+        fanoutSummaries.computeIfAbsent(channel, key -> DistributionSummary.builder(PREFIX + "broadcast.fanout")
+                .description("Recipients per broadcast on this node")
+                .tag("channel", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry)).record(recipients);
+    }
+
+    public void recordFlush(long elapsedNanos, int buffered, int published) {
+        Timer.builder(PREFIX + "broadcast.flush")
+                .description("Broadcast batch flush duration")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        flushCounter("buffered").increment(buffered);
+        flushCounter("published").increment(published);
+    }
+
+    /**
+     * @param result {@link #LOCK_ACQUIRED} | {@link #LOCK_CONTENDED} | {@link #LOCK_INTERRUPTED}
+     */
+    public void recordLockAttempt(Long tableKey, String result, long elapsedNanos) {
+        Timer.builder(PREFIX + "lock.acquire")
+                .description("Table lock acquisition attempts")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (LOCK_ACQUIRED.equals(result)) {
+            lockAcquiredAt.put(tableKey, ticker.read());
+        }
+    }
+
+    /**
+     * 이 노드가 받은 락 하트비트 (추적 중인 락의 만료를 미룸, 획득 시각은 유지)
+     */
+    public void recordLockHeartbeat(Long tableKey) {
+        lockAcquiredAt.asMap().computeIfPresent(tableKey, (key, acquiredAt) -> acquiredAt);
+    }
+
+    public void recordLockRelease(Long tableKey, String reason) {
+        Long acquiredAt = lockAcquiredAt.asMap().remove(tableKey);
+        if (acquiredAt == null) {
+            return;
+        }
+        latencyTimer(PREFIX + "lock.hold")
+                .description("Table lock hold time")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .record(ticker.read() - acquiredAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter flushCounter(String stage) {
+        return Counter.builder(PREFIX + "broadcast.flush.events")
+                .description("Events buffered and published per flush")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private Timer.Builder latencyTimer(String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(properties.getSlos().toArray(Duration[]::new));
+    }
+
+    String destinationTag(String destination) {
+        if (destination == null) {
+            return OTHER;
+        }
+        if (destinations.contains(destination)) {
+            return destination;
+        }
+        // 동시에 추가돼 상한을 조금 넘을 수 있으나 시계열 폭주는 막음
+        if (destinations.size() < properties.getMaxDestinationTags()) {
+            destinations.add(destination);
+            return destination;
+        }
+        return OTHER;
+    }
+}
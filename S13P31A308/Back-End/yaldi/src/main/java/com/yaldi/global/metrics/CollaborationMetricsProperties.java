@@ -0,0 +1,57 @@
+package com.yaldi.global.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 협업 메트릭 설정
+ *
+ * <pre>
+ * collab:
+ *   metrics:
+ *     client-timestamp-header: clientTimestamp
+ *     max-destination-tags: 64
+ *     max-project-tags: 200
+ *     slos: 50ms, 100ms, 250ms, 500ms, 1s
+ *     gauge-refresh-interval: 15000
+ *     lock-hold-ttl: 30s
+ * </pre>
+ *
+ * <p>태그 수 상한을 넘는 목적지/프로젝트는 {@code other}로 묶어 시계열이 무한히 늘어나지 않게 합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "collab.metrics")
+public class CollaborationMetricsProperties {
+
+    /** 클라이언트가 SEND 프레임에 담는 전송 시각(epoch millis) 헤더 */
+    private String clientTimestampHeader = "clientTimestamp";
+
+    /** destination 태그로 구분할 최대 목적지 수 */
+    private int maxDestinationTags = 64;
+
+    /** project 태그로 구분할 최대 프로젝트 수 (연결 수 게이지) */
+    private int maxProjectTags = 200;
+
+    /** 지연 시간 히스토그램에 명시할 SLO 경계 */
+    private List<Duration> slos = new ArrayList<>(List.of(
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1)));
+
+    /** 프로젝트별 연결 수 게이지 갱신 주기 (ms) */
+    private long gaugeRefreshInterval = 15000;
+
+    /**
+     * 락 보유 시간 추적 만료 (락 owner 키 TTL과 같게)
+     *
+     * 획득이나 하트비트 후 이 시간 동안 소식이 없으면 다른 노드에서 해제됐거나 만료된 락으로 보고 버림
+     */
+    private Duration lockHoldTtl = Duration.ofSeconds(30);
+}
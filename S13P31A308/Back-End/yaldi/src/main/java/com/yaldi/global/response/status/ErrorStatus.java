@@ -166,6 +166,7 @@ public enum ErrorStatus {
     =========================================================================
     */
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "NOTIFICATION4800", "알림을 찾을 수 없습니다."),
+    NOTIFICATION_INVALID_PREFERENCE(HttpStatus.BAD_REQUEST, "NOTIFICATION4801", "방해 금지 시간대 또는 시간대(time zone) 설정이 올바르지 않습니다."),
 
     /*
     =========================================================================
@@ -182,6 +183,7 @@ public enum ErrorStatus {
     AI_VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "AI4900", "AI 검증에 실패했습니다."),
     AI_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "AI4901", "AI 요청 제한을 초과했습니다."),
     AGENT_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "AI4902", "AI 요청을 찾을 수 없습니다."),
+    AI_CONSULTATION_FAILED(HttpStatus.BAD_GATEWAY, "AI4903", "AI 상담 응답 생성에 실패했습니다."),
 
     /*
     =========================================================================
@@ -202,6 +204,9 @@ public enum ErrorStatus {
     MOCK_DATA_INVALID_ROW_COUNT(HttpStatus.BAD_REQUEST, "MOCK5102", "rowCount는 1-10000 사이여야 합니다."),
     MOCK_DATA_EMPTY_SCHEMA(HttpStatus.BAD_REQUEST, "MOCK5103", "스키마에 테이블이 없습니다."),
     VERSION_MOCK_DATA_MISMATCH(HttpStatus.BAD_REQUEST, "MOCK5104", "Mock 데이터가 해당 버전에 속하지 않습니다."),
+    MOCK_DATA_CYCLIC_REFERENCE(HttpStatus.BAD_REQUEST, "MOCK5105", "NOT NULL 외래키가 순환 참조하여 Mock 데이터를 생성할 수 없습니다."),
+    MOCK_DATA_NOT_LOCAL(HttpStatus.BAD_REQUEST, "MOCK5106", "로컬 엔진으로 생성된 Mock 데이터만 스크립트를 바로 내려받을 수 있습니다."),
+    MOCK_DATA_TOO_LARGE(HttpStatus.BAD_REQUEST, "MOCK5107", "Mock 데이터는 한 번에 테이블 100개, 전체 30,000행까지 생성할 수 있습니다."),
 
     /*
     =========================================================================
@@ -263,7 +268,12 @@ public enum ErrorStatus {
     Viewer (5700번대)
     =========================================================================
     */
-    INVALID_VIEWER_LINK(HttpStatus.BAD_REQUEST, "VIEWER_5700", "유효하지 않은 뷰어링크입니다");
+    INVALID_VIEWER_LINK(HttpStatus.BAD_REQUEST, "VIEWER_5700", "유효하지 않은 뷰어링크입니다"),
+    VIEWER_LINK_EXPIRED(HttpStatus.GONE, "VIEWER_5701", "만료된 뷰어링크입니다"),
+    VIEWER_LINK_REVOKED(HttpStatus.GONE, "VIEWER_5702", "폐기된 뷰어링크입니다"),
+    VIEWER_LINK_SCOPE_DENIED(HttpStatus.FORBIDDEN, "VIEWER_5703", "뷰어링크 권한 범위를 벗어난 요청입니다"),
+    VIEWER_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "VIEWER_5704", "뷰어 요청 제한을 초과했습니다"),
+    VIEWER_LINK_CAPACITY_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "VIEWER_5705", "뷰어링크 동시 접속 수를 초과했습니다");
 
     private final HttpStatus httpStatus;
     private final String code;
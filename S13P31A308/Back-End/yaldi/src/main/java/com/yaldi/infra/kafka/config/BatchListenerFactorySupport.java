@@ -0,0 +1,105 @@
+package com.yaldi.infra.kafka.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 리스너 컨테이너 팩토리 생성 지원
+ *
+ * <ul>
+ *   <li>배치 크기: max.poll.records (토픽별 설정 가능)</li>
+ *   <li>동시성: 토픽 파티션 수 이하 → 같은 키의 레코드는 한 스레드에서 순서대로 처리</li>
+ *   <li>역직렬화 실패: {@link ErrorHandlingDeserializer}로 감싸 재시도 없이 DLT로 이동</li>
+ *   <li>처리 실패: 리스너가 {@link org.springframework.kafka.listener.BatchListenerFailedException}으로
+ *       실패 인덱스를 알리면 앞선 레코드는 커밋, 실패 레코드만 단계별 재시도 후 DLT로 이동
+ *       (재시도 간격은 토픽별 설정)</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchListenerFactorySupport {
+
+    private final String bootstrapServers;
+    private final ObjectMapper objectMapper;
+    private final KafkaListenerProperties properties;
+    private final KafkaOperations<?, ?> jsonTemplate;
+    private final KafkaOperations<?, ?> bytesTemplate;
+
+    public <T> ConcurrentKafkaListenerContainerFactory<String, T> create(KafkaTopic topic, String groupId, Class<T> type) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxPollRecords(topic));
+        props.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, (int) properties.getMaxPollInterval(topic).toMillis());
+
+        JsonDeserializer<T> deserializer = new JsonDeserializer<>(type, objectMapper);
+        deserializer.addTrustedPackages("*");
+
+        ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                props,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(deserializer)
+        ));
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency(topic));
+        factory.setCommonErrorHandler(deadLetterErrorHandler(jsonTemplate, bytesTemplate, properties.getRetryBackoff(topic)));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        log.info("Kafka batch listener factory: topic={}, group={}, concurrency={}, maxPollRecords={}, retryBackoff={}",
+                topic.getTopicName(), groupId, properties.getConcurrency(topic), properties.getMaxPollRecords(topic),
+                properties.getRetryBackoff(topic));
+
+        return factory;
+    }
+
+    /**
+     * DLT 발행 + 단계별 재시도 에러 핸들러
+     *
+     * <p>역직렬화에 실패한 레코드는 원본 byte[]를 그대로 보존하기 위해 byte[] 템플릿으로 발행합니다.</p>
+     *
+     * @param jsonTemplate 일반 레코드용 템플릿 (JSON)
+     * @param bytesTemplate 역직렬화 실패 레코드용 템플릿 (byte[])
+     * @param retryBackoff 재시도 간격 단계
+     */
+    public static DefaultErrorHandler deadLetterErrorHandler(KafkaOperations<?, ?> jsonTemplate,
+                                                             KafkaOperations<?, ?> bytesTemplate,
+                                                             List<Duration> retryBackoff) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, bytesTemplate);
+        templates.put(Object.class, jsonTemplate);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                (record, exception) -> {
+                    log.error("Kafka 레코드 DLT 이동 - Topic: {}, Partition: {}, Offset: {}, Key: {}, Error: {}",
+                            record.topic(), record.partition(), record.offset(), record.key(), exception.getMessage());
+                    recoverer.accept(record, exception);
+                },
+                new TieredBackOff(retryBackoff)
+        );
+        errorHandler.setRetryListeners((record, exception, deliveryAttempt) ->
+                log.warn("Kafka 레코드 재시도 - Topic: {}, Offset: {}, Attempt: {}, Error: {}",
+                        record.topic(), record.offset(), deliveryAttempt, exception.getMessage()));
+        return errorHandler;
+    }
+}
@@ -8,13 +8,19 @@ import com.yaldi.infra.kafka.dto.ImportSqlEvent;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
@@ -25,6 +31,8 @@ import java.util.Map;
 public class KafkaConsumerConfig {
 
     private final ObjectMapper objectMapper;
+    private final KafkaListenerProperties kafkaListenerProperties;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
@@ -58,112 +66,56 @@ public class KafkaConsumerConfig {
         return factory;
     }
 
+    /**
+     * ERD 협업 브로드캐스트 배치 리스너 (프로젝트 키 기준 순서 보장)
+     */
     @Bean
-    public ConsumerFactory<String, ErdBroadcastEvent> erdBroadcastConsumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "yaldi-collaboration-group");
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-
-        JsonDeserializer<ErdBroadcastEvent> deserializer = new JsonDeserializer<>(ErdBroadcastEvent.class, objectMapper);
-        deserializer.addTrustedPackages("*");
-
-        return new DefaultKafkaConsumerFactory<>(
-                props,
-                new StringDeserializer(),
-                deserializer
-        );
+    public ConcurrentKafkaListenerContainerFactory<String, ErdBroadcastEvent> erdBroadcastBatchKafkaListenerContainerFactory() {
+        return batchListenerFactorySupport().create(KafkaTopic.COLLABORATION, "yaldi-collaboration-group", ErdBroadcastEvent.class);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, ErdBroadcastEvent> erdBroadcastKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, ErdBroadcastEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(erdBroadcastConsumerFactory());
-        factory.getContainerProperties().setAckMode(
-                org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL
-        );
-        return factory;
+    public ConcurrentKafkaListenerContainerFactory<String, MockDataCreateMessage> mockDataBatchKafkaListenerContainerFactory() {
+        return batchListenerFactorySupport().create(KafkaTopic.MOCK_DATA_CREATE, "yaldi-mockdata-group", MockDataCreateMessage.class);
     }
 
     @Bean
-    public ConsumerFactory<String, MockDataCreateMessage> mockDataConsumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "yaldi-mockdata-group");
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-
-        JsonDeserializer<MockDataCreateMessage> deserializer = new JsonDeserializer<>(MockDataCreateMessage.class, objectMapper);
-        deserializer.addTrustedPackages("*");
-
-        return new DefaultKafkaConsumerFactory<>(
-                props,
-                new StringDeserializer(),
-                deserializer
-        );
+    public ConcurrentKafkaListenerContainerFactory<String, VersionProcessingMessage> versionProcessingBatchKafkaListenerContainerFactory() {
+        return batchListenerFactorySupport().create(KafkaTopic.VERSION_VERIFICATION, "yaldi-version-verification-group", VersionProcessingMessage.class);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, MockDataCreateMessage> mockDataKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, MockDataCreateMessage> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(mockDataConsumerFactory());
-        return factory;
+    public ConcurrentKafkaListenerContainerFactory<String, ImportSqlEvent> importSqlBatchKafkaListenerContainerFactory() {
+        return batchListenerFactorySupport().create(KafkaTopic.ASYNC_JOB, "yaldi-async-group", ImportSqlEvent.class);
     }
 
+    /**
+     * 재시도 소진/역직렬화 실패 레코드를 {토픽}-dlt로 발행하는 에러 핸들러
+     *
+     * <p>기본 리스너 팩토리에 적용되며, 배치 리스너 팩토리는 토픽별 재시도 간격으로 따로 생성합니다.</p>
+     */
     @Bean
-    public ConsumerFactory<String, VersionProcessingMessage> versionProcessingConsumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "yaldi-version-verification-group");
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-
-        JsonDeserializer<VersionProcessingMessage> deserializer = new JsonDeserializer<>(VersionProcessingMessage.class, objectMapper);
-        deserializer.addTrustedPackages("*");
-
-        return new DefaultKafkaConsumerFactory<>(
-                props,
-                new StringDeserializer(),
-                deserializer
+    public DefaultErrorHandler kafkaDeadLetterErrorHandler() {
+        return BatchListenerFactorySupport.deadLetterErrorHandler(
+                kafkaTemplate,
+                deadLetterBytesKafkaTemplate(),
+                kafkaListenerProperties.getRetryBackoff()
         );
     }
 
+    /**
+     * 역직렬화 실패 레코드의 원본 byte[] 발행용 템플릿
+     */
     @Bean
-    public ConsumerFactory<String, ImportSqlEvent> importSqlConsumerFactory() {
+    public KafkaTemplate<String, byte[]> deadLetterBytesKafkaTemplate() {
         Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "yaldi-async-group");
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-
-        JsonDeserializer<ImportSqlEvent> deserializer =
-                new JsonDeserializer<>(ImportSqlEvent.class, objectMapper);
-        deserializer.addTrustedPackages("*");
-
-        return new DefaultKafkaConsumerFactory<>(
-                props,
-                new StringDeserializer(),
-                deserializer
-        );
-    }
-
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, ImportSqlEvent> importSqlKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, ImportSqlEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(importSqlConsumerFactory());
-        return factory;
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new ByteArraySerializer()));
     }
 
-
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, VersionProcessingMessage> versionProcessingKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, VersionProcessingMessage> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(versionProcessingConsumerFactory());
-        return factory;
+    private BatchListenerFactorySupport batchListenerFactorySupport() {
+        return new BatchListenerFactorySupport(bootstrapServers, objectMapper, kafkaListenerProperties,
+                kafkaTemplate, deadLetterBytesKafkaTemplate());
     }
 }
@@ -0,0 +1,83 @@
+package com.yaldi.infra.kafka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 리스너 설정
+ *
+ * <pre>
+ * kafka-listener:
+ *   max-poll-records: 200
+ *   max-poll-interval: 5m
+ *   retry-backoff: 1s, 5s, 30s
+ *   topics:
+ *     version_verification:
+ *       max-poll-records: 5
+ *       max-poll-interval: 15m
+ *     collaboration:
+ *       retry-backoff: 100ms
+ * </pre>
+ *
+ * <p>토픽별 설정이 없으면 공통 값을 사용하며, 동시성은 항상 파티션 수 이하로 제한됩니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kafka-listener")
+public class KafkaListenerProperties {
+
+    /** 한 번의 poll로 가져오는 최대 레코드 수 (= 최대 배치 크기) */
+    private int maxPollRecords = 200;
+
+    /** poll 간 최대 간격 (배치 처리 시간이 이보다 길면 리밸런싱 발생) */
+    private Duration maxPollInterval = Duration.ofMinutes(5);
+
+    /** 실패 레코드 재시도 간격 (단계 수 = 재시도 횟수, 모두 실패하면 DLT로 이동) */
+    private List<Duration> retryBackoff = List.of(Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+    private Map<KafkaTopic, TopicSettings> topics = new EnumMap<>(KafkaTopic.class);
+
+    public int getMaxPollRecords(KafkaTopic topic) {
+        TopicSettings settings = topics.get(topic);
+        return settings != null && settings.getMaxPollRecords() != null ? settings.getMaxPollRecords() : maxPollRecords;
+    }
+
+    public Duration getMaxPollInterval(KafkaTopic topic) {
+        TopicSettings settings = topics.get(topic);
+        return settings != null && settings.getMaxPollInterval() != null ? settings.getMaxPollInterval() : maxPollInterval;
+    }
+
+    /**
+     * 토픽별 재시도 간격 (재시도 중에는 같은 파티션의 다음 레코드가 대기하므로 실시간 토픽은 짧게 설정)
+     */
+    public List<Duration> getRetryBackoff(KafkaTopic topic) {
+        TopicSettings settings = topics.get(topic);
+        return settings != null && settings.getRetryBackoff() != null ? settings.getRetryBackoff() : retryBackoff;
+    }
+
+    /**
+     * 리스너 동시성 (설정값과 파티션 수 중 작은 값, 미설정 시 파티션 수)
+     */
+    public int getConcurrency(KafkaTopic topic) {
+        TopicSettings settings = topics.get(topic);
+        int requested = settings != null && settings.getConcurrency() != null ? settings.getConcurrency() : topic.getPartitions();
+        return Math.max(1, Math.min(requested, topic.getPartitions()));
+    }
+
+    @Getter
+    @Setter
+    public static class TopicSettings {
+        private Integer concurrency;
+        private Integer maxPollRecords;
+        private Duration maxPollInterval;
+        private List<Duration> retryBackoff;
+    }
+}
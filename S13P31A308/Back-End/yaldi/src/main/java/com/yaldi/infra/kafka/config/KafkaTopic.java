@@ -0,0 +1,40 @@
+package com.yaldi.infra.kafka.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Kafka 토픽 정의
+ *
+ * <p>{@code @KafkaListener}에는 토픽 이름 상수를 사용합니다. (예: {@code topics = KafkaTopic.COLLABORATION_TOPIC})</p>
+ * <p>리스너 동시성은 파티션 수를 넘지 않으므로 같은 키(프로젝트)의 메시지는 항상 한 스레드에서 순서대로 처리됩니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KafkaTopic {
+
+    EXAMPLE(KafkaTopic.EXAMPLE_TOPIC, 3),
+    COLLABORATION(KafkaTopic.COLLABORATION_TOPIC, 3),
+    MOCK_DATA_CREATE(KafkaTopic.MOCK_DATA_CREATE_TOPIC, 3),
+    VERSION_VERIFICATION(KafkaTopic.VERSION_VERIFICATION_TOPIC, 3),
+    ASYNC_JOB(KafkaTopic.ASYNC_JOB_TOPIC, 3);
+
+    public static final String EXAMPLE_TOPIC = "yaldi.example.topic";
+    public static final String COLLABORATION_TOPIC = "yaldi.collaboration.topic";
+    public static final String MOCK_DATA_CREATE_TOPIC = "yaldi.mockdata.create";
+    public static final String VERSION_VERIFICATION_TOPIC = "yaldi.version.verification";
+    public static final String ASYNC_JOB_TOPIC = "async-job-topic";
+
+    /** Dead Letter 토픽 접미사 (DeadLetterPublishingRecoverer 기본값) */
+    public static final String DLT_SUFFIX = "-dlt";
+
+    private final String topicName;
+    private final int partitions;
+
+    /**
+     * Dead Letter 토픽 이름 (원본과 같은 파티션 번호로 발행되므로 파티션 수도 같음)
+     */
+    public String getDltName() {
+        return topicName + DLT_SUFFIX;
+    }
+}
@@ -1,6 +1,8 @@
 package com.yaldi.infra.kafka.config;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -23,36 +25,22 @@ public class KafkaTopicConfig {
         return new KafkaAdmin(configs);
     }
 
-    // Example topic - 필요한 토픽들을 여기에 추가하세요
+    /**
+     * 토픽 및 Dead Letter 토픽 생성 - 필요한 토픽은 {@link KafkaTopic}에 추가하세요
+     */
     @Bean
-    public NewTopic exampleTopic() {
-        return TopicBuilder.name("yaldi.example.topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
-    }
-
-    @Bean
-    public NewTopic collaborationTopic() {
-        return TopicBuilder.name("yaldi.collaboration.topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
-    }
-
-    @Bean
-    public NewTopic mockDataCreateTopic() {
-        return TopicBuilder.name("yaldi.mockdata.create")
-                .partitions(3)
-                .replicas(1)
-                .build();
-    }
-
-    @Bean
-    public NewTopic versionVerificationTopic() {
-        return TopicBuilder.name("yaldi.version.verification")
-                .partitions(3)
-                .replicas(1)
-                .build();
+    public KafkaAdmin.NewTopics yaldiTopics() {
+        List<NewTopic> topics = new ArrayList<>();
+        for (KafkaTopic topic : KafkaTopic.values()) {
+            topics.add(TopicBuilder.name(topic.getTopicName())
+                    .partitions(topic.getPartitions())
+                    .replicas(1)
+                    .build());
+            topics.add(TopicBuilder.name(topic.getDltName())
+                    .partitions(topic.getPartitions())
+                    .replicas(1)
+                    .build());
+        }
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
     }
 }
@@ -0,0 +1,38 @@
+package com.yaldi.infra.kafka.config;
+
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 단계별 재시도 간격 BackOff
+ *
+ * <p>예: [1s, 5s, 30s] → 1초 후 1차, 5초 후 2차, 30초 후 3차 재시도, 이후 중단(DLT 이동)</p>
+ */
+public class TieredBackOff implements BackOff {
+
+    private final List<Duration> intervals;
+
+    public TieredBackOff(List<Duration> intervals) {
+        this.intervals = List.copyOf(intervals);
+    }
+
+    @Override
+    public BackOffExecution start() {
+        return new BackOffExecution() {
+            private int attempt = 0;
+
+            @Override
+            public long nextBackOff() {
+                return attempt < intervals.size() ? intervals.get(attempt++).toMillis() : STOP;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "TieredBackOff" + intervals;
+    }
+}
@@ -0,0 +1,48 @@
+package com.yaldi.infra.kafka.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 배치 리스너의 레코드 단위 처리 유틸리티
+ *
+ * <p>레코드를 받은 순서대로 하나씩 처리하고, 실패하면 {@link BatchListenerFailedException}에 실패 인덱스를 담아 던집니다.
+ * 에러 핸들러는 앞선 레코드를 커밋하고 실패 레코드부터 다시 가져오므로 한 레코드의 실패가 배치 전체를 막지 않습니다.</p>
+ */
+@Slf4j
+public final class BatchRecordProcessor {
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(BatchRecordProcessor.class);
+
+    private BatchRecordProcessor() {
+    }
+
+    public static <T> void forEach(List<ConsumerRecord<String, T>> records, Consumer<T> handler) {
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, T> record = records.get(i);
+
+            if (record.value() == null) {
+                DeserializationException deserializationException = SerializationUtils.getExceptionFromHeader(
+                        record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+                if (deserializationException != null) {
+                    throw new BatchListenerFailedException("역직렬화 실패", deserializationException, i);
+                }
+                log.warn("빈 Kafka 레코드 무시 - Topic: {}, Offset: {}", record.topic(), record.offset());
+                continue;
+            }
+
+            try {
+                handler.accept(record.value());
+            } catch (Exception e) {
+                throw new BatchListenerFailedException("레코드 처리 실패: " + e.getMessage(), e, i);
+            }
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.yaldi.infra.kafka.listener;
 
 import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
+import com.yaldi.global.metrics.CollaborationMetrics;
 import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.kafka.config.KafkaTopic;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -16,19 +22,37 @@ public class ErdBroadcastKafkaConsumerListener {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ViewerSseEmitterManager viewerSseEmitterManager;
+    private final WebSocketConnectionInterceptor connectionInterceptor;
+    private final CollaborationMetrics collaborationMetrics;
 
+    /**
+     * 프로젝트 키로 파티셔닝된 이벤트를 배치로 수신하여 순서대로 브로드캐스트
+     */
     @KafkaListener(
-            topics = "yaldi.collaboration.topic",
+            topics = KafkaTopic.COLLABORATION_TOPIC,
             groupId = "yaldi-collaboration-group",
-            containerFactory = "erdBroadcastKafkaListenerContainerFactory"
+            containerFactory = "erdBroadcastBatchKafkaListenerContainerFactory"
     )
-    public void consume(ErdBroadcastEvent event) {
+    public void consume(List<ConsumerRecord<String, ErdBroadcastEvent>> records) {
+        BatchRecordProcessor.forEach(records, this::broadcast);
+    }
+
+    private void broadcast(ErdBroadcastEvent event) {
+        Long projectKey = event.getProjectKey();
+        collaborationMetrics.recordEventLatency(CollaborationMetrics.STAGE_KAFKA, event.getTimestamp());
+
         ApiResponse<ErdBroadcastEvent> response = ApiResponse.onSuccess(event);
 
         // WebSocket 브로드캐스트 (워크스페이스 편집자들에게)
-        messagingTemplate.convertAndSend("/topic/project/" + event.getProjectKey(), response);
+        messagingTemplate.convertAndSend("/topic/project/" + projectKey, response);
+        collaborationMetrics.recordFanout(CollaborationMetrics.CHANNEL_WEBSOCKET,
+                connectionInterceptor.getSessionCount(projectKey));
 
         // SSE 브로드캐스트 (뷰어링크 접속자들에게)
-        viewerSseEmitterManager.sendToViewers(event.getProjectKey(), event);
+        viewerSseEmitterManager.sendToViewers(projectKey, event);
+        collaborationMetrics.recordFanout(CollaborationMetrics.CHANNEL_SSE,
+                viewerSseEmitterManager.getViewerCount(projectKey));
+
+        collaborationMetrics.recordEventLatency(CollaborationMetrics.STAGE_DELIVERY, event.getTimestamp());
     }
 }
@@ -5,15 +5,18 @@ import com.yaldi.global.asyncjob.dto.ValidateImportRequest;
 import com.yaldi.global.asyncjob.enums.AsyncJobStatus;
 import com.yaldi.global.asyncjob.sse.AsyncJobSseEmitterManager;
 import com.yaldi.global.asyncjob.service.AsyncJobService;
+import com.yaldi.infra.kafka.config.KafkaTopic;
 import com.yaldi.infra.kafka.dto.ImportSqlEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -29,11 +32,22 @@ public class ImportSqlConsumer {
     private static final String AI_URL = "http://localhost:8000/api/v1/erd/validate-import";
 
     @KafkaListener(
-            topics = "async-job-topic",
+            topics = KafkaTopic.ASYNC_JOB_TOPIC,
             groupId = "yaldi-async-group",
-            containerFactory = "importSqlKafkaListenerContainerFactory"
+            containerFactory = "importSqlBatchKafkaListenerContainerFactory"
     )
-    public void consume(ImportSqlEvent event) throws InterruptedException {
+    public void consume(List<ConsumerRecord<String, ImportSqlEvent>> records) {
+        BatchRecordProcessor.forEach(records, event -> {
+            try {
+                process(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Import SQL 처리 중단 - JobId: " + event.getJobId(), e);
+            }
+        });
+    }
+
+    private void process(ImportSqlEvent event) throws InterruptedException {
 
         log.info("[Kafka 수신] JobId={}, ProjectKey={}", event.getJobId(), event.getProjectKey());
         asyncJobService.updateStatus(event.getJobId(), AsyncJobStatus.PROCESSING);
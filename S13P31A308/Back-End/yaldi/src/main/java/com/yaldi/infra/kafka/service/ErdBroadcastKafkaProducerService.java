@@ -1,5 +1,6 @@
 package com.yaldi.infra.kafka.service;
 
+import com.yaldi.infra.kafka.config.KafkaTopic;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +12,12 @@ import org.springframework.stereotype.Service;
 public class ErdBroadcastKafkaProducerService {
     private final KafkaProducerService kafkaProducerService;
 
-    private static final String ERD_BROADCAST_TOPIC = "yaldi.collaboration.topic";
+    private static final String ERD_BROADCAST_TOPIC = KafkaTopic.COLLABORATION_TOPIC;
 
+    /**
+     * 프로젝트 키를 메시지 키로 사용하여 같은 프로젝트의 이벤트가 한 파티션에서 순서대로 처리되도록 함
+     */
     public void publish(ErdBroadcastEvent event) {
-        kafkaProducerService.sendMessage(ERD_BROADCAST_TOPIC, event);
+        kafkaProducerService.sendMessage(ERD_BROADCAST_TOPIC, String.valueOf(event.getProjectKey()), event);
     }
 }
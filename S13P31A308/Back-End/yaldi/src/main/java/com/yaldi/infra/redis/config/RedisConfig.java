@@ -11,6 +11,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -193,29 +194,16 @@ public class RedisConfig {
      * <p>Spring의 @Cacheable, @CacheEvict, @CachePut 어노테이션을 사용하여
      * 메서드 결과를 Redis에 캐싱할 수 있도록 합니다.</p>
      *
-     * <h3>사용 목적</h3>
-     * <p>JWT 기반 인증 환경에서 권한 정보를 캐싱하여 DB 조회를 최소화합니다:</p>
-     * <ul>
-     *   <li><strong>문제:</strong> JWT에 권한 정보를 포함하면 권한 변경 시 즉시 반영 불가</li>
-     *   <li><strong>해결:</strong> JWT에는 최소 정보만 포함, 권한은 Redis 캐싱으로 조회</li>
-     *   <li><strong>성능:</strong> 매 요청마다 DB 조회 대신 Redis 조회 (평균 0.5ms)</li>
-     * </ul>
+     * <p>권한 정보는 이 캐시가 아니라 {@link com.yaldi.infra.security.authz.AuthorizationCache}
+     * (로컬 Caffeine + Redis, pub/sub 무효화)가 담당합니다.</p>
      *
      * <h3>캐시 설정</h3>
      * <ul>
-     *   <li><strong>TTL:</strong> 5분 (권한 변경 시 최대 5분 후 반영)</li>
-     *   <li><strong>Key Prefix:</strong> cache 이름 자동 추가 (예: project:member:role::123:456)</li>
+     *   <li><strong>TTL:</strong> 5분</li>
+     *   <li><strong>Key Prefix:</strong> cache 이름 자동 추가 (예: {cacheName}::{key})</li>
      *   <li><strong>Null 값 캐싱:</strong> 비활성화 (null 결과는 캐싱하지 않음)</li>
      * </ul>
      *
-     * <h3>사용 예시</h3>
-     * <pre>
-     * {@code @Cacheable(value = "project:member:role", key = "#projectKey + ':' + #userKey")}
-     * public ProjectMemberRole getMemberRole(Long projectKey, Integer userKey) {
-     *     return repository.findRole(projectKey, userKey);
-     * }
-     * </pre>
-     *
      * @param factory Redis 연결 팩토리
      * @param objectMapper JSON 직렬화용 ObjectMapper
      * @return RedisCacheManager 인스턴스
@@ -231,7 +219,7 @@ public class RedisConfig {
 
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                // TTL 5분 (권한 변경 시 최대 5분 후 반영)
+                // TTL 5분
                 .entryTtl(Duration.ofMinutes(5))
                 // Key 직렬화: String
                 .serializeKeysWith(
@@ -248,5 +236,23 @@ public class RedisConfig {
                 .cacheDefaults(defaultConfig)
                 .build();
     }
-}
 
+    /**
+     * Redis Pub/Sub 구독 컨테이너 (노드 간 캐시 무효화 메시지 수신용)
+     *
+     * <p>하나의 구독 연결을 공유하며, 각 기능은 자신의 채널 리스너를 등록합니다.</p>
+     * <ul>
+     *   <li>authz:invalidate - 권한 캐시 무효화 (AuthorizationCacheConfig)</li>
+     *   <li>jwt:revoked - 토큰 패밀리 폐기 (TokenRevocationConfig)</li>
+     * </ul>
+     *
+     * @param factory Redis 연결 팩토리
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
+}
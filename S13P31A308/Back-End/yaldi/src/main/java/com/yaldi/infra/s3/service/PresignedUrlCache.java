@@ -0,0 +1,50 @@
+package com.yaldi.infra.s3.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Presigned URL 캐시
+ *
+ * <p>같은 파일 조회마다 서명을 새로 만들지 않고, 만료 직전까지 발급한 URL을 재사용합니다.</p>
+ * <ul>
+ *   <li><strong>유효 시간:</strong> {@link #VALIDITY} (S3 서명 만료)</li>
+ *   <li><strong>재발급:</strong> 만료 {@link #REFRESH_MARGIN} 전부터 새 URL 발급 (받은 URL이 최소 그만큼은 유효)</li>
+ * </ul>
+ */
+@Component
+public class PresignedUrlCache {
+
+    static final Duration VALIDITY = Duration.ofHours(1);
+    static final Duration REFRESH_MARGIN = Duration.ofMinutes(10);
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final S3Service s3Service;
+    private final Cache<String, String> cache;
+
+    @Autowired
+    public PresignedUrlCache(S3Service s3Service) {
+        this(s3Service, Ticker.systemTicker());
+    }
+
+    PresignedUrlCache(S3Service s3Service, Ticker ticker) {
+        this.s3Service = s3Service;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(VALIDITY.minus(REFRESH_MARGIN))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 다운로드 URL (캐시에 없거나 만료가 임박하면 새로 서명)
+     */
+    public String get(String s3Url) {
+        return cache.get(s3Url, key -> s3Service.generatePresignedUrl(key, VALIDITY));
+    }
+}
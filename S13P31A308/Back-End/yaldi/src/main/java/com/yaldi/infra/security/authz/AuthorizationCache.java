@@ -0,0 +1,260 @@
+package com.yaldi.infra.security.authz;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.yaldi.domain.project.entity.ProjectMemberRelation;
+import com.yaldi.domain.project.entity.ProjectMemberRole;
+import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 2계층 권한 캐시 (로컬 Caffeine → Redis → DB)
+ *
+ * <p>사용자별 멤버십 전체(프로젝트 역할 + 소속 팀)를 하나의 스냅샷으로 캐싱합니다.
+ * 스냅샷에 없는 프로젝트/팀은 "멤버 아님"이므로 권한 거부 응답도 DB를 거치지 않습니다.</p>
+ *
+ * <h3>무효화</h3>
+ * <p>멤버십을 변경한 서비스는 {@link #evictUser(Integer)}를 호출합니다. 트랜잭션 커밋 이후
+ * Redis 키를 삭제하고 {@link #INVALIDATION_CHANNEL}로 사용자 키를 발행하면, 모든 노드가 로컬 캐시를 비우고
+ * Redis 키를 한 번 더 삭제합니다. (커밋 직전 DB를 읽은 다른 노드가 Redis에 남긴 스냅샷 제거)</p>
+ *
+ * <h3>오래된 권한 노출 시간</h3>
+ * <ul>
+ *   <li>정상: pub/sub 전달 지연</li>
+ *   <li>무효화 메시지 유실: 로컬 TTL 이내</li>
+ *   <li>Redis 장애: DB 직접 조회로 대체, 로컬 TTL 이내</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AuthorizationCache {
+
+    public static final String INVALIDATION_CHANNEL = "authz:invalidate";
+
+    private static final String KEY_PREFIX = "authz:user:";
+    private static final String LOADED_FIELD = "loaded";
+    private static final String PROJECT_FIELD_PREFIX = "p:";
+    private static final String TEAM_FIELD_PREFIX = "t:";
+    private static final String TEAM_MEMBER = "MEMBER";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProjectMemberRelationRepository projectMemberRelationRepository;
+    private final UserTeamRelationRepository userTeamRelationRepository;
+    private final AuthorizationCacheProperties properties;
+    private final Cache<Integer, UserAuthorizations> localCache;
+
+    @Autowired
+    public AuthorizationCache(RedisTemplate<String, String> redisTemplate,
+                              ProjectMemberRelationRepository projectMemberRelationRepository,
+                              UserTeamRelationRepository userTeamRelationRepository,
+                              AuthorizationCacheProperties properties) {
+        this(redisTemplate, projectMemberRelationRepository, userTeamRelationRepository, properties, Ticker.systemTicker());
+    }
+
+    AuthorizationCache(RedisTemplate<String, String> redisTemplate,
+                       ProjectMemberRelationRepository projectMemberRelationRepository,
+                       UserTeamRelationRepository userTeamRelationRepository,
+                       AuthorizationCacheProperties properties,
+                       Ticker ticker) {
+        this.redisTemplate = redisTemplate;
+        this.projectMemberRelationRepository = projectMemberRelationRepository;
+        this.userTeamRelationRepository = userTeamRelationRepository;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getLocalTtl())
+                .maximumSize(properties.getLocalMaxSize())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 프로젝트 역할 조회
+     *
+     * @return 멤버가 아니면 empty
+     */
+    public Optional<ProjectMemberRole> getProjectRole(Long projectKey, Integer userKey) {
+        return Optional.ofNullable(get(userKey).projectRole(projectKey));
+    }
+
+    /**
+     * 여러 프로젝트의 역할 일괄 조회 (목록 API용)
+     *
+     * @return 멤버인 프로젝트만 포함된 projectKey → 역할
+     */
+    public Map<Long, ProjectMemberRole> getProjectRoles(Integer userKey, Collection<Long> projectKeys) {
+        UserAuthorizations authorizations = get(userKey);
+        Map<Long, ProjectMemberRole> roles = new HashMap<>();
+        for (Long projectKey : projectKeys) {
+            ProjectMemberRole role = authorizations.projectRole(projectKey);
+            if (role != null) {
+                roles.put(projectKey, role);
+            }
+        }
+        return roles;
+    }
+
+    public boolean isTeamMember(Integer userKey, Integer teamKey) {
+        return get(userKey).isTeamMember(teamKey);
+    }
+
+    /**
+     * 사용자 멤버십 변경 알림 (트랜잭션 중이면 커밋 이후 전파)
+     */
+    public void evictUser(Integer userKey) {
+        evictUsers(List.of(userKey));
+    }
+
+    public void evictUsers(Collection<Integer> userKeys) {
+        if (userKeys.isEmpty()) {
+            return;
+        }
+        Set<Integer> keys = Set.copyOf(userKeys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(keys);
+                }
+            });
+        } else {
+            publishInvalidation(keys);
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 (자기 자신이 발행한 메시지 포함)
+     *
+     * @param message 쉼표로 구분된 사용자 키
+     */
+    public void onInvalidation(String message) {
+        Set<Integer> userKeys = Arrays.stream(message.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+
+        // 진행 중인 로딩이 끝난 뒤 제거되므로, 로딩이 Redis에 남긴 스냅샷도 아래에서 함께 삭제됨
+        localCache.invalidateAll(userKeys);
+        deleteRemote(userKeys);
+    }
+
+    private void publishInvalidation(Set<Integer> userKeys) {
+        localCache.invalidateAll(userKeys);
+        deleteRemote(userKeys);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    userKeys.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("권한 캐시 무효화 발행 실패 (로컬 TTL 이후 반영) - UserKeys: {}, Error: {}", userKeys, e.getMessage());
+        }
+    }
+
+    private UserAuthorizations get(Integer userKey) {
+        return localCache.get(userKey, this::loadRemote);
+    }
+
+    private UserAuthorizations loadRemote(Integer userKey) {
+        String key = redisKey(userKey);
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+
+        try {
+            Map<String, String> entries = hashOperations.entries(key);
+            if (entries.containsKey(LOADED_FIELD)) {
+                return decode(entries);
+            }
+        } catch (Exception e) {
+            log.warn("권한 캐시 Redis 조회 실패, DB 조회로 대체 - UserKey: {}, Error: {}", userKey, e.getMessage());
+            return loadFromDatabase(userKey);
+        }
+
+        UserAuthorizations authorizations = loadFromDatabase(userKey);
+        try {
+            storeRemote(key, encode(authorizations));
+        } catch (Exception e) {
+            log.warn("권한 캐시 Redis 저장 실패 - UserKey: {}, Error: {}", userKey, e.getMessage());
+        }
+        return authorizations;
+    }
+
+    /**
+     * 스냅샷 저장 (TTL 없는 키가 남지 않도록 저장과 만료 설정을 MULTI/EXEC로 묶음)
+     */
+    private void storeRemote(String key, Map<String, String> fields) {
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                ops.opsForHash().putAll(key, fields);
+                ops.expire(key, properties.getRedisTtl());
+                return ops.exec();
+            }
+        });
+    }
+
+    private UserAuthorizations loadFromDatabase(Integer userKey) {
+        Map<Long, ProjectMemberRole> projectRoles = projectMemberRelationRepository.findByMemberKey(userKey).stream()
+                .collect(Collectors.toMap(ProjectMemberRelation::getProjectKey, ProjectMemberRelation::getRole));
+        Set<Integer> teamKeys = userTeamRelationRepository.findTeamKeysByUser_UserKey(userKey);
+        return new UserAuthorizations(projectRoles, teamKeys);
+    }
+
+    private void deleteRemote(Set<Integer> userKeys) {
+        try {
+            redisTemplate.delete(userKeys.stream().map(this::redisKey).toList());
+        } catch (Exception e) {
+            log.warn("권한 캐시 Redis 삭제 실패 - UserKeys: {}, Error: {}", userKeys, e.getMessage());
+        }
+    }
+
+    private Map<String, String> encode(UserAuthorizations authorizations) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(LOADED_FIELD, "1");
+        authorizations.projectRoles().forEach((projectKey, role) ->
+                fields.put(PROJECT_FIELD_PREFIX + projectKey, role.name()));
+        authorizations.teamKeys().forEach(teamKey ->
+                fields.put(TEAM_FIELD_PREFIX + teamKey, TEAM_MEMBER));
+        return fields;
+    }
+
+    private UserAuthorizations decode(Map<String, String> fields) {
+        Map<Long, ProjectMemberRole> projectRoles = new HashMap<>();
+        Set<Integer> teamKeys = new HashSet<>();
+        fields.forEach((field, value) -> {
+            if (field.startsWith(PROJECT_FIELD_PREFIX)) {
+                projectRoles.put(Long.valueOf(field.substring(PROJECT_FIELD_PREFIX.length())),
+                        ProjectMemberRole.valueOf(value));
+            } else if (field.startsWith(TEAM_FIELD_PREFIX)) {
+                teamKeys.add(Integer.valueOf(field.substring(TEAM_FIELD_PREFIX.length())));
+            }
+        });
+        return new UserAuthorizations(projectRoles, teamKeys);
+    }
+
+    private String redisKey(Integer userKey) {
+        return KEY_PREFIX + userKey;
+    }
+}
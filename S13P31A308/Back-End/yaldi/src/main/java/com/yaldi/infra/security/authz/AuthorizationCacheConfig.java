@@ -0,0 +1,28 @@
+package com.yaldi.infra.security.authz;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 권한 캐시 무효화 채널 구독 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AuthorizationCacheConfig {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AuthorizationCache authorizationCache;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> authorizationCache.onInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(AuthorizationCache.INVALIDATION_CHANNEL));
+    }
+}
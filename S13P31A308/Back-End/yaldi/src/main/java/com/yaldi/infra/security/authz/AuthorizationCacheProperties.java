@@ -0,0 +1,37 @@
+package com.yaldi.infra.security.authz;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 권한 캐시 설정
+ *
+ * <pre>
+ * authorization-cache:
+ *   local-ttl: 5s
+ *   local-max-size: 10000
+ *   redis-ttl: 5m
+ * </pre>
+ *
+ * <p>무효화 메시지가 유실되어도 로컬 캐시는 {@code local-ttl}이 지나면 Redis(이미 삭제됨)를 다시 조회하므로
+ * 오래된 권한이 노출되는 시간은 {@code local-ttl} 이내로 제한됩니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "authorization-cache")
+public class AuthorizationCacheProperties {
+
+    /** 로컬(Caffeine) 캐시 TTL */
+    private Duration localTtl = Duration.ofSeconds(5);
+
+    /** 로컬 캐시에 보관할 최대 사용자 수 */
+    private long localMaxSize = 10_000;
+
+    /** Redis 캐시 TTL */
+    private Duration redisTtl = Duration.ofMinutes(5);
+}
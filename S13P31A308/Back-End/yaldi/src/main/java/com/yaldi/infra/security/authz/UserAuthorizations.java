@@ -0,0 +1,27 @@
+package com.yaldi.infra.security.authz;
+
+import com.yaldi.domain.project.entity.ProjectMemberRole;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 한 명의 멤버십 스냅샷 (프로젝트별 역할 + 소속 팀)
+ *
+ * <p>사용자의 멤버십 전체를 한 번에 적재하므로 스냅샷에 없는 프로젝트/팀은 "멤버 아님"으로 확정됩니다.</p>
+ */
+public record UserAuthorizations(Map<Long, ProjectMemberRole> projectRoles, Set<Integer> teamKeys) {
+
+    public UserAuthorizations {
+        projectRoles = Map.copyOf(projectRoles);
+        teamKeys = Set.copyOf(teamKeys);
+    }
+
+    public ProjectMemberRole projectRole(Long projectKey) {
+        return projectRoles.get(projectKey);
+    }
+
+    public boolean isTeamMember(Integer teamKey) {
+        return teamKeys.contains(teamKey);
+    }
+}
@@ -57,6 +57,7 @@ public class SecurityConfig {
                                 "/api/v1/health/**",
                                 "/api/v1/viewer/*/stream",  // 뷰어 SSE 스트리밍 (비회원 접근 가능)
                                 "/api/v1/viewer/*/validate",  // 뷰어링크 검증 (비회원 접근 가능)
+                                "/api/v1/viewer/*/erd",  // 뷰어링크 ERD 조회 (비회원 접근 가능)
                                 "/api/v1/viewer/test/**",  // 뷰어 테스트 API (개발 환경 전용)
                                 "/swagger",
                                 "/swagger/**",
@@ -1,7 +1,6 @@
 package com.yaldi.infra.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.response.ApiResponse;
 import com.yaldi.global.response.status.ErrorStatus;
@@ -34,14 +33,14 @@ import java.util.Optional;
  * OncePerRequestFilter를 상속하면 요청당 정확히 한 번만 실행됩니다.</p>
  *
  * <h3>병목현상 완화 기여</h3>
- * <p>이 필터는 JWT 서명 검증만 수행하고 <strong>DB 조회를 하지 않습니다</strong>.
- * Access Token은 서버에 저장하지 않으므로, 매 요청마다 DB나 Redis에 접근하지 않고
- * 빠르게 인증 처리가 가능합니다.</p>
+ * <p>이 필터는 <strong>DB와 Redis를 조회하지 않습니다</strong>. 같은 Access Token의 서명 검증 결과는
+ * {@link VerifiedTokenCache}에 만료 시각까지 캐싱되고, 폐기 여부는 로컬 비트맵({@link TokenRevocationRegistry})으로 확인합니다.
+ * Redis는 Access Token이 없어 Refresh Token을 회전할 때만 사용합니다.</p>
  *
  * <h3>실행 흐름</h3>
  * <ol>
  *   <li>요청에서 JWT 추출 (Authorization Header 또는 Cookie)</li>
- *   <li>JWT 서명 및 만료 시간 검증</li>
+ *   <li>JWT 서명 및 만료 시간 검증 (검증 캐시 적중 시 생략) + 패밀리 폐기 여부 확인</li>
  *   <li>유효한 경우 SecurityContext에 인증 정보 설정</li>
  *   <li>다음 필터로 요청 전달</li>
  * </ol>
@@ -63,6 +62,7 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
@@ -114,103 +114,53 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Header 또는 Cookie에서 Access Token 추출
             Optional<String> accessToken = jwtUtil.extractToken(request);
 
-            // 2. Access Token이 존재하고 유효한 경우 → 인증 처리
-            if (accessToken.isPresent() && jwtUtil.validateToken(accessToken.get())) {
-                authenticateUser(request, accessToken.get());
-            }
-            // 3. Access Token이 존재하지만 유효하지 않은 경우 (위조/손상) → 강제 로그아웃
-            else if (accessToken.isPresent()) {
-                log.warn("Invalid or malformed Access Token detected - forcing logout");
-
-                // 토큰에서 userKey 추출 시도 (손상되지 않은 경우에만 가능)
-                try {
-                    Integer userKey = jwtUtil.getUserKeyFromToken(accessToken.get());
-                    // Redis에서 Refresh Token 삭제 (강제 로그아웃)
-                    refreshTokenService.deleteRefreshToken(userKey);
-                    log.warn("Forced logout for user {} due to invalid Access Token", userKey);
-                } catch (Exception e) {
-                    log.warn("Could not extract userKey from invalid token - token is completely malformed");
+            // 2. Access Token이 존재하는 경우 → 검증 캐시 조회 (미스일 때만 서명 검증)
+            if (accessToken.isPresent()) {
+                Optional<VerifiedToken> verified = verifiedTokenCache.verifyAccessToken(accessToken.get());
+                if (verified.isPresent()) {
+                    authenticateUser(request, verified.get().userKey());
                 }
+                // 3. 유효하지 않거나 폐기된 Access Token (위조/손상/로그아웃) → 쿠키 삭제 후 에러 응답
+                else {
+                    log.warn("Invalid, malformed or revoked Access Token detected - forcing logout");
 
-                // 쿠키 삭제
-                CookieUtil.deleteCookie(request, response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME, "/");
-                CookieUtil.deleteCookie(request, response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME, "/");
+                    CookieUtil.deleteCookie(request, response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME, "/");
+                    CookieUtil.deleteCookie(request, response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME, "/");
 
-                // 에러 응답 설정
-                setErrorResponse(response, ErrorStatus.TOKEN_INVALID_ACCESS);
-                return;
+                    setErrorResponse(response, ErrorStatus.TOKEN_INVALID_ACCESS);
+                    return;
+                }
             }
-            // 4. Access Token이 없는 경우 → Refresh Token으로 자동 갱신 시도
+            // 4. Access Token이 없는 경우 → Refresh Token 회전으로 자동 갱신 시도
             else {
                 Optional<String> refreshToken = jwtUtil.extractRefreshTokenFromCookie(request);
 
-                if (refreshToken.isPresent() && jwtUtil.validateToken(refreshToken.get())) {
-                    // Refresh Token에서 userKey 추출
-                    Integer userKey = jwtUtil.getUserKeyFromToken(refreshToken.get());
-
-                    // Redis에서 Refresh Token 검증
-                    if (refreshTokenService.validateRefreshToken(userKey, refreshToken.get())) {
-                        // DB에서 사용자 조회하여 email 가져오기 (활성 사용자만)
-                        Optional<User> userOptional = userRepository.findActiveUserById(userKey);
+                if (refreshToken.isPresent()) {
+                    RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken.get());
 
-                        if (userOptional.isEmpty()) {
-                            log.warn("Deleted user attempted to refresh token: {}", userKey);
+                    if (rotation.isSuccess()) {
+                        RefreshTokenService.TokenPair tokens = rotation.tokens();
 
-                            // Redis에서 Refresh Token 삭제
-                            refreshTokenService.deleteRefreshToken(userKey);
-                            CookieUtil.deleteCookie(request, response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME, "/");
-                            CookieUtil.deleteCookie(request, response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME, "/");
-
-                            // 탈퇴한 사용자 에러 응답
-                            setErrorResponse(response, ErrorStatus.USER_DELETED);
-                            return;
-                        }
-
-                        User user = userOptional.get();
-
-                        // 새로운 Access Token 발급
-                        String newAccessToken = jwtUtil.generateAccessToken(userKey, user.getEmail());
-
-                        // 응답 쿠키에 새 Access Token 추가
+                        // 응답 쿠키에 새 토큰 추가 (동시 요청으로 판단된 경우 Access Token만)
                         CookieUtil.addCookie(response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME,
-                                newAccessToken, jwtUtil.getAccessTokenMaxAge(), "/");
+                                tokens.accessToken(), jwtUtil.getAccessTokenMaxAge(), "/");
+                        if (tokens.refreshToken() != null) {
+                            CookieUtil.addCookie(response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME,
+                                    tokens.refreshToken(), jwtUtil.getRefreshTokenMaxAge(), "/");
+                        }
 
-                        // 인증 처리
-                        authenticateUser(request, newAccessToken);
+                        authenticateUser(request, rotation.userKey());
 
-                        log.info("Access Token auto-refreshed for user: {}", userKey);
+                        log.info("Access Token auto-refreshed for user: {} ({})", rotation.userKey(), rotation.status());
                     } else {
-                        log.warn("Invalid Refresh Token in Redis for user: {} - token may have been revoked", userKey);
-
-                        // Refresh Token이 Redis와 불일치 (탈취 가능성) → 강제 로그아웃
-                        refreshTokenService.deleteRefreshToken(userKey);
                         CookieUtil.deleteCookie(request, response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME, "/");
                         CookieUtil.deleteCookie(request, response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME, "/");
 
-                        log.warn("Forced logout for user {} due to Refresh Token mismatch", userKey);
+                        log.warn("Refresh Token rejected for user {}: {}", rotation.userKey(), rotation.status());
 
-                        // 에러 응답 설정
-                        setErrorResponse(response, ErrorStatus.TOKEN_MISMATCH_REFRESH);
+                        setErrorResponse(response, refreshFailureStatus(rotation));
                         return;
                     }
-                } else if (refreshToken.isPresent()) {
-                    // Refresh Token이 존재하지만 유효하지 않음 (위조/손상) → 강제 로그아웃
-                    log.warn("Invalid or malformed Refresh Token detected - forcing logout");
-
-                    try {
-                        Integer userKey = jwtUtil.getUserKeyFromToken(refreshToken.get());
-                        refreshTokenService.deleteRefreshToken(userKey);
-                        log.warn("Forced logout for user {} due to invalid Refresh Token", userKey);
-                    } catch (Exception e) {
-                        log.warn("Could not extract userKey from invalid Refresh Token");
-                    }
-
-                    CookieUtil.deleteCookie(request, response, JwtUtil.ACCESS_TOKEN_COOKIE_NAME, "/");
-                    CookieUtil.deleteCookie(request, response, JwtUtil.REFRESH_TOKEN_COOKIE_NAME, "/");
-
-                    // 에러 응답 설정
-                    setErrorResponse(response, ErrorStatus.TOKEN_INVALID_REFRESH);
-                    return;
                 } else {
                     log.debug("No valid Refresh Token found - authentication required");
                 }
@@ -246,14 +196,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 uri.startsWith("/actuator");
     }
 
+    /**
+     * Refresh Token 거부 사유별 에러 상태
+     *
+     * <p>세션이 없는 경우에만 탈퇴 여부를 DB에서 확인합니다. (정상 갱신 경로에서는 DB 조회 없음)</p>
+     */
+    private ErrorStatus refreshFailureStatus(RefreshTokenService.Rotation rotation) {
+        return switch (rotation.status()) {
+            case REUSED -> ErrorStatus.TOKEN_FORCED_LOGOUT;
+            case SESSION_ENDED -> userRepository.findActiveUserById(rotation.userKey()).isEmpty()
+                    ? ErrorStatus.USER_DELETED
+                    : ErrorStatus.TOKEN_MISMATCH_REFRESH;
+            default -> ErrorStatus.TOKEN_INVALID_REFRESH;
+        };
+    }
+
     /**
      * SecurityContext에 사용자 인증 정보를 설정합니다.
      *
      * @param request HTTP 요청 객체
-     * @param token 유효한 JWT 토큰
+     * @param userKey 검증된 토큰의 사용자 ID
      */
-    private void authenticateUser(HttpServletRequest request, String token) {
-        Integer userKey = jwtUtil.getUserKeyFromToken(token);
+    private void authenticateUser(HttpServletRequest request, Integer userKey) {
 
         // UsernamePasswordAuthenticationToken 생성 (권한 없음)
         UsernamePasswordAuthenticationToken authentication =
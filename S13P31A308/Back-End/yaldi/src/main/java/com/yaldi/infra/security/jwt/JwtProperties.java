@@ -8,6 +8,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 @Slf4j
 @Getter
@@ -19,6 +20,15 @@ public class JwtProperties {
     private Long accessTokenExpiration;
     private Long refreshTokenExpiration;
 
+    /** 서버 간 시계 오차 허용 범위 (만료/발급 시각 검증에 적용) */
+    private Duration allowedClockSkew = Duration.ofSeconds(30);
+
+    /** 검증 완료 토큰 캐시 최대 크기 */
+    private long verifiedTokenCacheSize = 100_000;
+
+    /** Refresh Token 회전 직후 이전 토큰을 동시 요청으로 간주하는 유예 시간 (재사용 탐지 제외) */
+    private Duration refreshReuseGrace = Duration.ofSeconds(10);
+
     /** JWT Secret 최소 길이 (256비트 = 32바이트) */
     private static final int MIN_SECRET_LENGTH = 32;
 
@@ -3,13 +3,15 @@ import com.yaldi.infra.security.util.CookieUtil;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
 
@@ -18,13 +20,16 @@ import java.util.Optional;
  *
  * <p>Access Token과 Refresh Token을 생성하고 검증합니다.
  * Access Token은 서버에 저장하지 않으며, Refresh Token만 Redis에 저장하여 로그아웃 시 무효화합니다.</p>
+ *
+ * <p>서명 키와 파서는 한 번만 만들어 재사용하며, 만료/발급 시각 검증에는 {@code jwt.allowed-clock-skew}를 적용합니다.</p>
  */
-@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
+    private final Clock clock;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
 
     /** Access Token 쿠키 이름 */
     public static final String ACCESS_TOKEN_COOKIE_NAME = "accessToken";
@@ -38,98 +43,100 @@ public class JwtUtil {
     /** Bearer 토큰 접두사 */
     public static final String BEARER_PREFIX = "Bearer ";
 
-    /** JWT 서명용 Secret Key 생성 */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /** 토큰 패밀리(로그인 세션) 클레임 */
+    public static final String FAMILY_CLAIM = "fid";
+
+    @Autowired
+    public JwtUtil(JwtProperties jwtProperties) {
+        this(jwtProperties, Clock.systemUTC());
+    }
+
+    JwtUtil(JwtProperties jwtProperties, Clock clock) {
+        this.jwtProperties = jwtProperties;
+        this.clock = clock;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)  // Secret Key로 서명 검증
+                .clockSkewSeconds(jwtProperties.getAllowedClockSkew().toSeconds())
+                .clock(() -> Date.from(clock.instant()))
+                .build();
     }
 
-    /** Access Token 생성 (userKey, email 포함, 기본 1시간 유효) */
-    public String generateAccessToken(Integer userKey, String email) {
+    /** Access Token 생성 (userKey, email, 토큰 패밀리 포함, 기본 1시간 유효 → 패밀리 폐기 시 즉시 무효화) */
+    public String generateAccessToken(Integer userKey, String email, Long familyId) {
         if (userKey == null || userKey <= 0) {
             throw new IllegalArgumentException("Invalid userKey: must be positive integer");
         }
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
+        if (familyId == null) {
+            throw new IllegalArgumentException("familyId cannot be null");
+        }
 
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
 
         return Jwts.builder()
                 .subject(String.valueOf(userKey))  // 사용자 식별자를 subject에 저장
                 .claim("email", email)  // 이메일을 클레임에 추가
                 .claim("type", "access")  // 토큰 타입 명시
+                .claim(FAMILY_CLAIM, familyId)  // 토큰 패밀리 (폐기 여부 확인용)
                 .issuedAt(now)  // 발급 시각
                 .expiration(expiryDate)  // 만료 시각
-                .signWith(getSigningKey())  // 비밀 키로 서명
+                .signWith(signingKey)  // 비밀 키로 서명
                 .compact();
     }
 
-    /** Refresh Token 생성 (userKey 포함, 기본 7일 유효) */
-    public String generateRefreshToken(Integer userKey) {
+    /** Refresh Token 생성 (userKey, 토큰 패밀리, 토큰 ID 포함, 기본 7일 유효) */
+    public String generateRefreshToken(Integer userKey, Long familyId, String tokenId) {
         if (userKey == null || userKey <= 0) {
             throw new IllegalArgumentException("Invalid userKey: must be positive integer");
         }
 
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
 
         return Jwts.builder()
                 .subject(String.valueOf(userKey))  // 사용자 식별자를 subject에 저장
+                .id(tokenId)  // 회전 시 재사용 탐지용 토큰 ID
                 .claim("type", "refresh")  // 토큰 타입 명시
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(now)  // 발급 시각
                 .expiration(expiryDate)  // 만료 시각 (장기)
-                .signWith(getSigningKey())  // 비밀 키로 서명
+                .signWith(signingKey)  // 비밀 키로 서명
                 .compact();
     }
 
     /** JWT 토큰에서 Claims 추출 */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())  // Secret Key로 서명 검증
-                .build()
-                .parseSignedClaims(token)  // 서명된 토큰 파싱
+        Claims claims = parser.parseSignedClaims(token)  // 서명된 토큰 파싱
                 .getPayload();  // Payload(Claims) 반환
-    }
-
-    /** JWT 토큰에서 userKey 추출 */
-    public Integer getUserKeyFromToken(String token) {
-        return Integer.parseInt(getClaims(token).getSubject());
-    }
 
-    /** JWT 토큰에서 email 추출 */
-    public String getEmailFromToken(String token) {
-        return getClaims(token).get("email", String.class);
+        // 발급 시각이 허용 오차보다 미래인 토큰은 거부 (시계가 앞선 서버/위조 토큰)
+        Date issuedAt = claims.getIssuedAt();
+        Instant latestIssuedAt = clock.instant().plus(jwtProperties.getAllowedClockSkew());
+        if (issuedAt != null && issuedAt.toInstant().isAfter(latestIssuedAt)) {
+            throw new PrematureJwtException(null, claims, "JWT issued in the future: " + issuedAt.toInstant());
+        }
+        return claims;
     }
 
-    /** JWT 토큰 타입 추출 ("access" or "refresh") */
-    public String getTokenType(String token) {
-        return getClaims(token).get("type", String.class);
-    }
-
-    /** JWT 토큰 유효성 검증 (서명, 만료시간, 형식) */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())  // Secret Key로 서명 검증
-                    .build()
-                    .parseSignedClaims(token);  // 파싱 성공 시 유효
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            // 서명이 유효하지 않거나 JWT 형식이 잘못됨
-            log.error("Invalid JWT signature: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            // 토큰이 만료됨 (가장 흔한 케이스)
-            log.error("Expired JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            // 지원하지 않는 JWT 형식
-            log.error("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            // JWT 문자열이 비어있거나 null
-            log.error("JWT claims string is empty: {}", e.getMessage());
-        }
-        return false;
+    /**
+     * 서명/만료/발급 시각을 한 번에 검증하고 필요한 클레임을 추출
+     *
+     * @throws JwtException 유효하지 않은 토큰
+     */
+    public VerifiedToken parse(String token) {
+        Claims claims = getClaims(token);
+        Number familyId = claims.get(FAMILY_CLAIM, Number.class);
+        return new VerifiedToken(
+                Integer.parseInt(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("type", String.class),
+                familyId != null ? familyId.longValue() : null,
+                claims.getId(),
+                claims.getExpiration().toInstant());
     }
 
     /** Authorization Header에서 Bearer 토큰 추출 */
@@ -169,6 +176,11 @@ public class JwtUtil {
         return (int) (jwtProperties.getAccessTokenExpiration() / 1000);
     }
 
+    /** 시계 오차 허용 범위 */
+    public Duration getAllowedClockSkew() {
+        return jwtProperties.getAllowedClockSkew();
+    }
+
     /** Refresh Token 유효 시간 (초 단위) */
     public int getRefreshTokenMaxAge() {
         return (int) (jwtProperties.getRefreshTokenExpiration() / 1000);
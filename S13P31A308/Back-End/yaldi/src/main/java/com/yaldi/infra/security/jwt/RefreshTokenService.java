@@ -1,40 +1,49 @@
 package com.yaldi.infra.security.jwt;
 
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Refresh Token을 Redis에 저장하고 관리하는 서비스
+ * Refresh Token을 Redis에 저장하고 회전(Rotation)하는 서비스
  *
  * <h3>설계 목적</h3>
  * <p>JWT의 핵심 장점인 <strong>병목현상 완화</strong>를 달성하기 위해,
- * Access Token은 서버에 저장하지 않고 <strong>Refresh Token만 Redis에 저장</strong>합니다.</p>
+ * Access Token은 서버에 저장하지 않고 <strong>로그인 세션(토큰 패밀리) 상태만 Redis에 저장</strong>합니다.</p>
  *
- * <h3>병목현상 완화 원리</h3>
- * <ul>
- *   <li><strong>Access Token:</strong> 서버에 저장하지 않음. 매 요청마다 서명만 검증하여 DB 조회 없이 인증</li>
- *   <li><strong>Refresh Token:</strong> Redis에 저장하여 로그아웃 및 강제 만료 가능</li>
- * </ul>
- *
- * <p>동시접속자 1천만명 기준, Access Token을 서버에 저장하지 않음으로써
- * 약 2천만 개의 DB 연결을 절감할 수 있습니다.</p>
+ * <h3>토큰 패밀리</h3>
+ * <p>로그인 한 번이 하나의 패밀리를 만들고, 이후 회전으로 발급되는 모든 토큰은 같은 패밀리 ID(fid)를 가집니다.
+ * Redis에는 패밀리의 현재 Refresh Token ID(jti)만 저장합니다.</p>
+ * <pre>
+ * Key: refresh_session:{userKey}   (Hash, TTL: jwt.refresh-token-expiration)
+ * Fields: fid, jti, email, prevJti, rotatedAt
+ * </pre>
  *
- * <h3>Redis 사용 이유</h3>
+ * <h3>회전과 재사용 탐지</h3>
  * <ul>
- *   <li>In-Memory 저장으로 빠른 읽기/쓰기 성능</li>
- *   <li>TTL(Time To Live) 자동 만료 지원</li>
- *   <li>RDB 대비 낮은 부하</li>
+ *   <li>현재 jti와 일치 → 새 jti로 교체하고 새 토큰 쌍 발급 (Lua 스크립트로 원자적 처리)</li>
+ *   <li>직전 jti이고 유예 시간 이내 → 동시 요청으로 간주, Access Token만 발급</li>
+ *   <li>그 외 이전 jti → <strong>재사용(탈취) 탐지</strong>: 세션 삭제 + 패밀리 폐기로 공격자/사용자의 모든 토큰 무효화</li>
  * </ul>
  *
  * <h3>보안 고려사항</h3>
  * <ul>
- *   <li>Refresh Token은 한 사용자당 하나만 유지 (중복 로그인 방지 가능)</li>
- *   <li>로그아웃 시 Redis에서 토큰 삭제로 즉시 무효화</li>
- *   <li>Refresh Token 탈취 시 Redis 삭제로 피해 최소화</li>
+ *   <li>사용자당 하나의 세션만 유지 (새 로그인은 이전 세션의 Refresh Token을 대체)</li>
+ *   <li>로그아웃/탈퇴 시 세션 삭제 + 패밀리 폐기로 Access Token까지 즉시 무효화</li>
+ *   <li>세션에 이메일을 함께 저장하므로 토큰 갱신 시 DB를 조회하지 않음 (탈퇴 시 세션이 폐기됨)</li>
  * </ul>
  *
  * @author Yaldi Team
@@ -44,79 +53,155 @@ import java.util.concurrent.TimeUnit;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RefreshTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProperties jwtProperties;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final Clock clock;
 
-    /** Redis Key 접두사: refresh_token:{userKey} 형식으로 저장 */
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    /** Redis Key 접두사: refresh_session:{userKey} 형식으로 저장 */
+    private static final String SESSION_PREFIX = "refresh_session:";
+
+    /** 토큰 패밀리 ID 시퀀스 (폐기 비트맵 오프셋으로 사용) */
+    private static final String FAMILY_SEQUENCE_KEY = "refresh_session:family_seq";
 
     /**
-     * Refresh Token을 Redis에 저장합니다.
-     *
-     * <p>사용자별로 하나의 Refresh Token만 유지하므로,
-     * 새로운 토큰을 저장하면 기존 토큰은 자동으로 덮어씌워집니다.
-     * 이를 통해 중복 로그인을 제어할 수 있습니다.</p>
+     * 회전 스크립트
      *
-     * <h4>Redis 저장 형식:</h4>
-     * <pre>
-     * Key: refresh_token:{userKey}
-     * Value: {refreshToken}
-     * TTL: jwt.refresh-token-expiration (기본 7일)
-     * </pre>
-     *
-     * <p>TTL이 지나면 Redis에서 자동으로 삭제되므로 별도의 정리 작업이 필요 없습니다.</p>
-     *
-     * @param userKey 사용자 고유 식별자
-     * @param refreshToken 저장할 Refresh Token 문자열
+     * <p>ARGV: fid, jti, newJti, nowMillis, ttlMillis, graceMillis</p>
      */
-    public void saveRefreshToken(Integer userKey, String refreshToken) {
-        String key = REFRESH_TOKEN_PREFIX + userKey;
-        long expiration = jwtProperties.getRefreshTokenExpiration();
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local fid = redis.call('HGET', KEYS[1], 'fid')
+            if not fid or fid ~= ARGV[1] then
+              return {'SESSION_ENDED'}
+            end
+            local email = redis.call('HGET', KEYS[1], 'email')
+            if redis.call('HGET', KEYS[1], 'jti') == ARGV[2] then
+              redis.call('HSET', KEYS[1], 'jti', ARGV[3], 'prevJti', ARGV[2], 'rotatedAt', ARGV[4])
+              redis.call('PEXPIRE', KEYS[1], ARGV[5])
+              return {'ROTATED', email}
+            end
+            local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotatedAt') or '0')
+            if redis.call('HGET', KEYS[1], 'prevJti') == ARGV[2]
+                and tonumber(ARGV[4]) - rotatedAt <= tonumber(ARGV[6]) then
+              return {'CONCURRENT', email}
+            end
+            redis.call('DEL', KEYS[1])
+            return {'REUSED'}
+            """, List.class);
 
-        // Redis에 토큰 저장 (TTL 자동 설정)
-        redisTemplate.opsForValue().set(key, refreshToken, expiration, TimeUnit.MILLISECONDS);
-        log.debug("Saved refresh token for user: {}", userKey);
+    @Autowired
+    public RefreshTokenService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties,
+                               JwtUtil jwtUtil, TokenRevocationRegistry revocationRegistry) {
+        this(redisTemplate, jwtProperties, jwtUtil, revocationRegistry, Clock.systemUTC());
+    }
+
+    RefreshTokenService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties,
+                        JwtUtil jwtUtil, TokenRevocationRegistry revocationRegistry, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.jwtProperties = jwtProperties;
+        this.jwtUtil = jwtUtil;
+        this.revocationRegistry = revocationRegistry;
+        this.clock = clock;
     }
 
     /**
-     * Redis에서 사용자의 Refresh Token을 조회합니다.
+     * 새 로그인 세션(토큰 패밀리)을 만들고 토큰 쌍을 발급합니다.
      *
-     * <p>토큰 갱신 API에서 클라이언트가 전송한 Refresh Token과
-     * Redis에 저장된 토큰을 비교하여 유효성을 검증하는 데 사용됩니다.</p>
+     * <p>사용자별로 하나의 세션만 유지하므로 기존 세션의 Refresh Token은 더 이상 회전할 수 없습니다.
+     * 세션 교체(삭제/저장/TTL)는 MULTI/EXEC로 묶어 TTL 없는 세션이나 이전 필드가 섞인 세션이 남지 않게 합니다.</p>
      *
      * @param userKey 사용자 고유 식별자
-     * @return Redis에 저장된 Refresh Token. 존재하지 않거나 만료된 경우 null
+     * @param email 사용자 이메일 (Access Token 클레임)
+     * @return Access Token + Refresh Token
      */
-    public String getRefreshToken(Integer userKey) {
-        String key = REFRESH_TOKEN_PREFIX + userKey;
-        return redisTemplate.opsForValue().get(key);
+    public TokenPair startSession(Integer userKey, String email) {
+        Long familyId = redisTemplate.opsForValue().increment(FAMILY_SEQUENCE_KEY);
+        String tokenId = UUID.randomUUID().toString();
+
+        Map<String, String> session = new LinkedHashMap<>();
+        session.put("fid", String.valueOf(familyId));
+        session.put("jti", tokenId);
+        session.put("email", email);
+
+        String key = SESSION_PREFIX + userKey;
+        long ttlMillis = jwtProperties.getRefreshTokenExpiration();
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                ops.delete(key);
+                ops.opsForHash().putAll(key, session);
+                ops.expire(key, ttlMillis, TimeUnit.MILLISECONDS);
+                return ops.exec();
+            }
+        });
+        log.debug("Started token family {} for user: {}", familyId, userKey);
+
+        return new TokenPair(
+                jwtUtil.generateAccessToken(userKey, email, familyId),
+                jwtUtil.generateRefreshToken(userKey, familyId, tokenId));
     }
 
     /**
-     * 클라이언트가 전송한 Refresh Token이 유효한지 검증합니다.
+     * Refresh Token을 회전합니다.
      *
-     * <p>Redis에 저장된 토큰과 클라이언트가 전송한 토큰을 비교하여
-     * 일치 여부를 확인합니다. 이를 통해 다음을 방지합니다:</p>
-     * <ul>
-     *   <li>만료된 토큰 재사용</li>
-     *   <li>로그아웃된 사용자의 토큰 사용</li>
-     *   <li>탈취된 토큰 사용 (강제 만료 후)</li>
-     * </ul>
+     * <p>재사용이 탐지되면 세션을 삭제하고 패밀리를 폐기한 뒤 {@link RotationStatus#REUSED}를 반환합니다.</p>
      *
-     * @param userKey 사용자 고유 식별자
-     * @param refreshToken 검증할 Refresh Token 문자열
-     * @return 토큰이 유효하면 true, 그렇지 않으면 false
+     * @param refreshToken 클라이언트가 전송한 Refresh Token
+     * @return 회전 결과 (ROTATED: 토큰 쌍, CONCURRENT: Access Token만)
      */
-    public boolean validateRefreshToken(Integer userKey, String refreshToken) {
-        String savedToken = getRefreshToken(userKey);
-        return savedToken != null && savedToken.equals(refreshToken);
+    public Rotation rotate(String refreshToken) {
+        VerifiedToken verified;
+        try {
+            verified = jwtUtil.parse(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid refresh token: {}", e.getMessage());
+            return Rotation.of(RotationStatus.INVALID, null);
+        }
+
+        Integer userKey = verified.userKey();
+        if (!verified.isRefreshToken() || verified.familyId() == null || verified.tokenId() == null) {
+            return Rotation.of(RotationStatus.INVALID, userKey);
+        }
+        if (revocationRegistry.isRevoked(verified.familyId())) {
+            return Rotation.of(RotationStatus.SESSION_ENDED, userKey);
+        }
+
+        String newTokenId = UUID.randomUUID().toString();
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT, List.of(SESSION_PREFIX + userKey),
+                String.valueOf(verified.familyId()),
+                verified.tokenId(),
+                newTokenId,
+                String.valueOf(clock.millis()),
+                String.valueOf(jwtProperties.getRefreshTokenExpiration()),
+                String.valueOf(jwtProperties.getRefreshReuseGrace().toMillis()));
+
+        RotationStatus status = RotationStatus.valueOf(String.valueOf(result.get(0)));
+        String email = result.size() > 1 ? String.valueOf(result.get(1)) : null;
+
+        return switch (status) {
+            case ROTATED -> new Rotation(status, userKey, new TokenPair(
+                    jwtUtil.generateAccessToken(userKey, email, verified.familyId()),
+                    jwtUtil.generateRefreshToken(userKey, verified.familyId(), newTokenId)));
+            case CONCURRENT -> new Rotation(status, userKey, new TokenPair(
+                    jwtUtil.generateAccessToken(userKey, email, verified.familyId()), null));
+            case REUSED -> {
+                log.warn("Refresh Token reuse detected for user: {} - revoking token family {}",
+                        userKey, verified.familyId());
+                revocationRegistry.revokeFamily(verified.familyId());
+                yield Rotation.of(status, userKey);
+            }
+            default -> Rotation.of(status, userKey);
+        };
     }
 
     /**
-     * Redis에서 사용자의 Refresh Token을 삭제합니다.
+     * 사용자의 로그인 세션을 종료합니다.
      *
      * <p>다음 상황에서 호출됩니다:</p>
      * <ul>
@@ -125,42 +210,47 @@ public class RefreshTokenService {
      *   <li><strong>탈퇴:</strong> 사용자 계정이 삭제될 때</li>
      * </ul>
      *
-     * <p>삭제 후에는 해당 Refresh Token으로 Access Token을 갱신할 수 없습니다.</p>
+     * <p>세션을 삭제하고 패밀리를 폐기하므로 Refresh Token 갱신은 물론 발급된 Access Token도 즉시 거부됩니다.</p>
      *
      * @param userKey 사용자 고유 식별자
      */
-    public void deleteRefreshToken(Integer userKey) {
-        String key = REFRESH_TOKEN_PREFIX + userKey;
+    public void revokeSession(Integer userKey) {
+        String key = SESSION_PREFIX + userKey;
+        Object familyId = redisTemplate.opsForHash().get(key, "fid");
         redisTemplate.delete(key);
-        log.debug("Deleted refresh token for user: {}", userKey);
+        if (familyId != null) {
+            revocationRegistry.revokeFamily(Long.parseLong(familyId.toString()));
+        }
+        log.debug("Revoked session for user: {}", userKey);
     }
 
     /**
-     * 사용자의 Refresh Token이 Redis에 존재하는지 확인합니다.
-     *
-     * <p>로그인 상태 확인이나 중복 로그인 방지 로직에서 사용할 수 있습니다.</p>
-     *
-     * @param userKey 사용자 고유 식별자
-     * @return Refresh Token이 존재하면 true, 그렇지 않으면 false
+     * 발급된 토큰 쌍 (CONCURRENT 회전에서는 refreshToken이 null)
      */
-    public boolean hasRefreshToken(Integer userKey) {
-        String key = REFRESH_TOKEN_PREFIX + userKey;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public record TokenPair(String accessToken, String refreshToken) {
     }
 
-    /**
-     * Refresh Token의 남은 유효 시간을 조회합니다 (초 단위).
-     *
-     * <p>웹 환경에서 pre-refresh 메커니즘을 구현할 때 유용합니다.
-     * 만료 시간이 임박한 경우 자동 갱신 여부를 결정하는 데 사용할 수 있습니다.</p>
-     *
-     * <p><strong>예시:</strong> TTL이 1일 미만이면 사용자 활동 시 자동 갱신</p>
-     *
-     * @param userKey 사용자 고유 식별자
-     * @return 남은 유효 시간 (초 단위). 키가 존재하지 않으면 -2, 만료 시간이 없으면 -1
-     */
-    public Long getRefreshTokenTTL(Integer userKey) {
-        String key = REFRESH_TOKEN_PREFIX + userKey;
-        return redisTemplate.getExpire(key, TimeUnit.SECONDS);
+    public enum RotationStatus {
+        /** 새 토큰 쌍 발급 */
+        ROTATED,
+        /** 유예 시간 내 직전 토큰 사용 (동시 요청) → Access Token만 발급 */
+        CONCURRENT,
+        /** 이미 회전된 토큰 재사용 → 패밀리 폐기 */
+        REUSED,
+        /** 세션 없음 (로그아웃, 탈퇴, 새 로그인으로 대체, 만료) */
+        SESSION_ENDED,
+        /** 서명/형식/만료 검증 실패 */
+        INVALID
+    }
+
+    public record Rotation(RotationStatus status, Integer userKey, TokenPair tokens) {
+
+        static Rotation of(RotationStatus status, Integer userKey) {
+            return new Rotation(status, userKey, null);
+        }
+
+        public boolean isSuccess() {
+            return status == RotationStatus.ROTATED || status == RotationStatus.CONCURRENT;
+        }
     }
 }
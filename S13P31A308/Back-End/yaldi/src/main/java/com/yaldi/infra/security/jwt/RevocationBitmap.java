@@ -0,0 +1,69 @@
+package com.yaldi.infra.security.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 패밀리 ID 비트맵
+ *
+ * <p>패밀리 ID는 Redis INCR로 발급되는 연속된 정수이므로 패밀리 하나당 1비트면 충분합니다.
+ * (패밀리 100만 개 ≈ 122KB) 읽기는 락 없이 수행하고, 쓰기와 확장만 동기화합니다.</p>
+ *
+ * <p>Redis 비트맵(SETBIT/GET)과 같은 바이트 순서(바이트 내 최상위 비트가 가장 작은 오프셋)로 직렬화합니다.</p>
+ */
+public class RevocationBitmap {
+
+    private volatile AtomicLongArray words = new AtomicLongArray(16);
+
+    public boolean isSet(long bit) {
+        if (bit < 0) {
+            return false;
+        }
+        AtomicLongArray current = words;
+        int index = (int) (bit >>> 6);
+        return index < current.length() && (current.get(index) & (1L << bit)) != 0;
+    }
+
+    public synchronized void set(long bit) {
+        if (bit < 0) {
+            return;
+        }
+        int index = (int) (bit >>> 6);
+        ensureCapacity(index + 1);
+        long mask = 1L << bit;
+        words.getAndAccumulate(index, mask, (word, m) -> word | m);
+    }
+
+    /**
+     * Redis 비트맵 값으로 교체 (합집합, 로컬에만 있는 비트는 유지)
+     */
+    public synchronized void merge(byte[] redisBitmap) {
+        if (redisBitmap == null) {
+            return;
+        }
+        ensureCapacity((redisBitmap.length + 7) / 8);
+        for (int byteIndex = 0; byteIndex < redisBitmap.length; byteIndex++) {
+            int value = redisBitmap[byteIndex] & 0xFF;
+            if (value == 0) {
+                continue;
+            }
+            for (int bitInByte = 0; bitInByte < 8; bitInByte++) {
+                if ((value & (0x80 >>> bitInByte)) != 0) {
+                    long bit = (long) byteIndex * 8 + bitInByte;
+                    words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, m) -> word | m);
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int requiredWords) {
+        AtomicLongArray current = words;
+        if (requiredWords <= current.length()) {
+            return;
+        }
+        AtomicLongArray grown = new AtomicLongArray(Math.max(requiredWords, current.length() * 2));
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        words = grown;
+    }
+}
@@ -0,0 +1,28 @@
+package com.yaldi.infra.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토큰 패밀리 폐기 채널 구독 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TokenRevocationConfig {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> tokenRevocationRegistry.onRevocation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenRevocationRegistry.REVOCATION_CHANNEL));
+    }
+}
@@ -0,0 +1,75 @@
+package com.yaldi.infra.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토큰 패밀리 폐기 목록 (로컬 비트맵 + Redis 비트맵 복제)
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>조회:</strong> 매 요청 로컬 비트맵만 확인 (Redis 왕복 없음)</li>
+ *   <li><strong>폐기:</strong> Redis 비트맵에 SETBIT 후 {@link #REVOCATION_CHANNEL}로 발행 → 모든 노드가 로컬 비트를 설정</li>
+ *   <li><strong>동기화:</strong> 기동 시와 30초마다 Redis 비트맵 전체를 병합 (메시지 유실/신규 노드 대비)</li>
+ * </ul>
+ *
+ * <p>폐기된 패밀리의 Access Token은 만료 전이라도 즉시 거부되므로, 로그아웃/탈퇴/토큰 재사용 탐지가
+ * Access Token 유효 시간(1시간)을 기다리지 않고 반영됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+
+    public static final String REVOCATION_CHANNEL = "jwt:revoked";
+
+    private static final String BITMAP_KEY = "jwt:revoked:families";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RevocationBitmap bitmap = new RevocationBitmap();
+
+    public boolean isRevoked(Long familyId) {
+        return familyId != null && bitmap.isSet(familyId);
+    }
+
+    /**
+     * 토큰 패밀리 폐기 (해당 로그인 세션의 모든 Access/Refresh Token 무효화)
+     */
+    public void revokeFamily(long familyId) {
+        bitmap.set(familyId);
+        try {
+            redisTemplate.opsForValue().setBit(BITMAP_KEY, familyId, true);
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, String.valueOf(familyId));
+        } catch (Exception e) {
+            log.warn("토큰 패밀리 폐기 전파 실패 (다음 동기화 때 반영) - FamilyId: {}, Error: {}", familyId, e.getMessage());
+        }
+        log.info("Token family revoked: {}", familyId);
+    }
+
+    /**
+     * 다른 노드의 폐기 메시지 수신
+     */
+    public void onRevocation(String message) {
+        bitmap.set(Long.parseLong(message.trim()));
+    }
+
+    /**
+     * Redis 비트맵 전체 병합
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 30000)
+    public void synchronize() {
+        try {
+            byte[] snapshot = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(BITMAP_KEY.getBytes(StandardCharsets.UTF_8)));
+            bitmap.merge(snapshot);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
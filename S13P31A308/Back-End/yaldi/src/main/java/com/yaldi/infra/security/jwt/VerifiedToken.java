@@ -0,0 +1,31 @@
+package com.yaldi.infra.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임
+ *
+ * @param userKey 사용자 ID
+ * @param email 이메일 (Access Token만)
+ * @param type "access" 또는 "refresh"
+ * @param familyId 토큰 패밀리 (로그인 세션) ID, 패밀리 도입 이전 토큰은 null
+ * @param tokenId 토큰 ID (Refresh Token만)
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(
+        Integer userKey,
+        String email,
+        String type,
+        Long familyId,
+        String tokenId,
+        Instant expiresAt
+) {
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
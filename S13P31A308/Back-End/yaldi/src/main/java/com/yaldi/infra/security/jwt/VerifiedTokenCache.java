@@ -0,0 +1,116 @@
+package com.yaldi.infra.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 검증 완료 토큰 캐시
+ *
+ * <p>같은 Access Token은 만료 전까지 수백 번 재사용되므로 서명 검증(HMAC-SHA)과 파싱 결과를 캐싱합니다.</p>
+ * <ul>
+ *   <li><strong>Key:</strong> 토큰의 SHA-256 해시 (토큰 원문은 메모리에 보관하지 않음)</li>
+ *   <li><strong>만료:</strong> 토큰별 만료 시각 + 시계 오차 허용 범위 (파서가 허용하는 범위와 동일)</li>
+ *   <li><strong>크기:</strong> jwt.verified-token-cache-size 개로 제한</li>
+ *   <li><strong>폐기:</strong> 캐시 적중 시에도 매번 {@link TokenRevocationRegistry}를 확인</li>
+ * </ul>
+ * <p>검증에 실패한 토큰은 캐싱하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final Clock clock;
+    private final Duration allowedClockSkew;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil, TokenRevocationRegistry revocationRegistry, JwtProperties jwtProperties) {
+        this(jwtUtil, revocationRegistry, jwtProperties, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(JwtUtil jwtUtil, TokenRevocationRegistry revocationRegistry, JwtProperties jwtProperties,
+                       Clock clock, Ticker ticker) {
+        this.jwtUtil = jwtUtil;
+        this.revocationRegistry = revocationRegistry;
+        this.clock = clock;
+        this.allowedClockSkew = jwtProperties.getAllowedClockSkew();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(clock.instant(), acceptableUntil(token)).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Access Token 검증
+     *
+     * @return 유효하고 폐기되지 않은 Access Token이면 검증 결과, 아니면 empty
+     */
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
+        VerifiedToken verified;
+        try {
+            verified = cache.get(hash(token), key -> jwtUtil.parse(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        if (!verified.isAccessToken()) {
+            return Optional.empty();
+        }
+        // 캐시 만료 직전 경계와 시계 변경에 대비한 재확인
+        if (clock.instant().isAfter(acceptableUntil(verified))) {
+            return Optional.empty();
+        }
+        if (revocationRegistry.isRevoked(verified.familyId())) {
+            log.debug("Revoked token family: {}", verified.familyId());
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
+    private Instant acceptableUntil(VerifiedToken token) {
+        return token.expiresAt().plus(allowedClockSkew);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -92,20 +92,13 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             throw new GeneralException(ErrorStatus.USER_DELETED);
         }
 
-        // 5. JWT 토큰 생성
-        // Access Token: API 요청 시 사용 (짧은 유효기간)
-        String accessToken = jwtUtil.generateAccessToken(
-                user.getUserKey(),
-                user.getEmail()
-        );
-
-        // Refresh Token: Access Token 갱신용 (긴 유효기간)
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserKey());
-
-        // 6. Refresh Token을 Redis에 저장
-        // Access Token은 저장하지 않아 병목현상 완화
-        // 로그아웃 시 Redis에서 삭제하여 토큰 무효화 가능
-        refreshTokenService.saveRefreshToken(user.getUserKey(), refreshToken);
+        // 5~6. 로그인 세션(토큰 패밀리) 생성 및 JWT 발급
+        // Access Token: API 요청 시 사용 (짧은 유효기간, 서버에 저장하지 않아 병목현상 완화)
+        // Refresh Token: Access Token 갱신용 (긴 유효기간, 세션 상태만 Redis에 저장)
+        // 로그아웃 시 세션 폐기로 두 토큰 모두 무효화 가능
+        RefreshTokenService.TokenPair tokens = refreshTokenService.startSession(user.getUserKey(), user.getEmail());
+        String accessToken = tokens.accessToken();
+        String refreshToken = tokens.refreshToken();
 
         // 7. 쿠키에 토큰 저장 (보안을 위해 HttpOnly 설정)
         // HttpOnly: JavaScript에서 접근 불가 (XSS 공격 방어)
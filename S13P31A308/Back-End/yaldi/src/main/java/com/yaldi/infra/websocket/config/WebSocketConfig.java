@@ -3,6 +3,7 @@ package com.yaldi.infra.websocket.config;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
+import com.yaldi.infra.websocket.interceptor.WebSocketMetricsInterceptor;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import java.util.List;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketConnectionInterceptor connectionInterceptor;
+    private final WebSocketMetricsInterceptor metricsInterceptor;
 
     @PostConstruct
     public void init() {
@@ -48,10 +50,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
-    // Interceptor 등록 (Connect/Disconnect 감지)
+    // Interceptor 등록 (Connect/Disconnect 감지, 인바운드 메트릭)
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(connectionInterceptor);
+        registration.interceptors(connectionInterceptor, metricsInterceptor);
     }
 
     // Jackson 메시지 컨버터 설정 (JSON → BigDecimal 변환 처리)
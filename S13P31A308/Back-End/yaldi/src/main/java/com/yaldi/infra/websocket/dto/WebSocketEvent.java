@@ -12,8 +12,10 @@ import com.yaldi.domain.erd.dto.websocket.event.ColumnNewEvent;
 import com.yaldi.domain.erd.dto.websocket.event.ColumnOrderEvent;
 import com.yaldi.domain.erd.dto.websocket.event.ColumnUpdateEvent;
 import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.LintUpdatedEvent;
 import com.yaldi.domain.erd.dto.websocket.event.MemberJoinEvent;
 import com.yaldi.domain.erd.dto.websocket.event.MemberLeaveEvent;
+import com.yaldi.domain.erd.dto.websocket.event.OperationAppliedEvent;
 import com.yaldi.domain.erd.dto.websocket.event.RelationDelEvent;
 import com.yaldi.domain.erd.dto.websocket.event.RelationNewEvent;
 import com.yaldi.domain.erd.dto.websocket.event.RelationUpdateEvent;
@@ -43,8 +45,10 @@ import com.yaldi.domain.erd.dto.websocket.event.TableUnlockEvent;
         @JsonSubTypes.Type(value = CommentDeletedEvent.class, name = "COMMENT_DELETED"),
         @JsonSubTypes.Type(value = CommentResolvedEvent.class, name = "COMMENT_RESOLED"),
         @JsonSubTypes.Type(value = CursorPosEvent.class, name = "CURSOR_POS"),
+        @JsonSubTypes.Type(value = LintUpdatedEvent.class, name = "LINT_UPDATED"),
         @JsonSubTypes.Type(value = MemberJoinEvent.class, name = "MEMBER_JOIN"),
         @JsonSubTypes.Type(value = MemberLeaveEvent.class, name = "MEMBER_LEAVE"),
+        @JsonSubTypes.Type(value = OperationAppliedEvent.class, name = "OPERATION_APPLIED"),
         @JsonSubTypes.Type(value = RelationDelEvent.class, name = "RELATION_DELETED"),
         @JsonSubTypes.Type(value = RelationNewEvent.class, name = "RELATION_CREATED"),
         @JsonSubTypes.Type(value = RelationUpdateEvent.class, name = "RELATION_UPDATE"),
@@ -36,6 +36,9 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
     // 세션별 프로젝트 매핑
     private final Map<String, Long> sessionProjectMap = new ConcurrentHashMap<>();
 
+    // 프로젝트별 이 노드의 세션 수 (브로드캐스트 fan-out/게이지용)
+    private final Map<Long, Integer> projectSessionCounts = new ConcurrentHashMap<>();
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -87,7 +90,11 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
                 }
 
                 // 세션-프로젝트 매핑 저장
-                sessionProjectMap.put(sessionId, projectKey);
+                Long previous = sessionProjectMap.put(sessionId, projectKey);
+                if (previous != null) {
+                    decrementSessionCount(previous);
+                }
+                projectSessionCounts.merge(projectKey, 1, Integer::sum);
 
                 log.info("WebSocket CONNECT: user={}, project={}, session={}",
                         userEmail, projectKey, sessionId);
@@ -128,6 +135,7 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
                 Long projectKey = sessionProjectMap.remove(sessionId);
 
                 if (projectKey != null) {
+                    decrementSessionCount(projectKey);
                     log.info("WebSocket DISCONNECT: user={}, project={}, session={}",
                             userEmail, projectKey, sessionId);
 
@@ -158,6 +166,10 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
         }
     }
 
+    private void decrementSessionCount(Long projectKey) {
+        projectSessionCounts.computeIfPresent(projectKey, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
     /**
      * 사용자 색상 생성 (이메일 해시 기반)
      */
@@ -176,4 +188,18 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
     public Long getProjectKeyBySession(String sessionId) {
         return sessionProjectMap.get(sessionId);
     }
+
+    /**
+     * 이 노드에서 프로젝트에 연결된 세션 수
+     */
+    public int getSessionCount(Long projectKey) {
+        return projectSessionCounts.getOrDefault(projectKey, 0);
+    }
+
+    /**
+     * 프로젝트별 세션 수 스냅샷
+     */
+    public Map<Long, Integer> getSessionCounts() {
+        return Map.copyOf(projectSessionCounts);
+    }
 }
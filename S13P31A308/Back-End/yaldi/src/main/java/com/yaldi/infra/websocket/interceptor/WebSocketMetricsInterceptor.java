@@ -0,0 +1,86 @@
+package com.yaldi.infra.websocket.interceptor;
+
+import com.yaldi.global.metrics.CollaborationMetrics;
+import com.yaldi.global.metrics.CollaborationMetricsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 인바운드 채널 메트릭 수집
+ *
+ * <p>SEND 프레임을 목적지별로 세고, 클라이언트 전송 시각 헤더가 있으면 수신까지의 지연을 기록합니다.
+ * {@code @MessageMapping} 처리 시간은 인바운드 채널 실행 스레드에서 핸들러 호출 전후로 잽니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<Long> HANDLER_START = new ThreadLocal<>();
+
+    private final CollaborationMetrics collaborationMetrics;
+    private final CollaborationMetricsProperties properties;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor != null && StompCommand.SEND.equals(accessor.getCommand())) {
+            collaborationMetrics.recordInbound(accessor.getDestination());
+
+            String clientTimestamp = accessor.getFirstNativeHeader(properties.getClientTimestampHeader());
+            if (clientTimestamp != null) {
+                try {
+                    collaborationMetrics.recordClientLatency(Long.parseLong(clientTimestamp));
+                } catch (NumberFormatException e) {
+                    log.debug("Invalid client timestamp header: {}", clientTimestamp);
+                }
+            }
+        }
+
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (isApplicationMessage(message, handler)) {
+            HANDLER_START.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        if (!isApplicationMessage(message, handler)) {
+            return;
+        }
+        Long start = HANDLER_START.get();
+        HANDLER_START.remove();
+        if (start != null) {
+            collaborationMetrics.recordHandler(
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                    System.nanoTime() - start,
+                    ex == null);
+        }
+    }
+
+    /**
+     * 인바운드 채널은 브로커/사용자 목적지 핸들러에도 같은 메시지를 전달하므로 @MessageMapping 핸들러만 측정
+     */
+    private boolean isApplicationMessage(Message<?> message, MessageHandler handler) {
+        return handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()));
+    }
+}
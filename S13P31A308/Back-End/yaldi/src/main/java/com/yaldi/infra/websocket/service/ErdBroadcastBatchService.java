@@ -1,5 +1,6 @@
 package com.yaldi.infra.websocket.service;
 
+import com.yaldi.global.metrics.CollaborationMetrics;
 import com.yaldi.infra.kafka.service.ErdBroadcastKafkaProducerService;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import java.util.ArrayList;
@@ -7,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 public class ErdBroadcastBatchService {
 
     private final ErdBroadcastKafkaProducerService kafkaProducerService;
+    private final CollaborationMetrics collaborationMetrics;
 
     private final Map<Long, Map<String, List<ErdBroadcastEvent>>> eventBuffer = new ConcurrentHashMap<>();
 
@@ -37,6 +40,10 @@ public class ErdBroadcastBatchService {
 
     @Scheduled(fixedRate = 2000)
     public void flush() {
+        long start = System.nanoTime();
+        AtomicInteger buffered = new AtomicInteger();
+        AtomicInteger published = new AtomicInteger();
+
         eventBuffer.forEach((projectKey, senderMap) -> {
             senderMap.forEach((sender, events) -> {
                 if (events.isEmpty()) return;
@@ -77,6 +84,9 @@ public class ErdBroadcastBatchService {
                     }
                 }
 
+                buffered.addAndGet(originalCount);
+                published.addAndGet(compressedCount);
+
                 if (originalCount > compressedCount) {
                     log.info("Batch optimization: {} events → {} events ({}% reduced, projectKey={}, user={})",
                             originalCount, compressedCount,
@@ -93,5 +103,7 @@ public class ErdBroadcastBatchService {
 
         // 5. 메모리 누수 방지: 빈 프로젝트 맵 제거
         eventBuffer.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+
+        collaborationMetrics.recordFlush(System.nanoTime() - start, buffered.get(), published.get());
     }
 }
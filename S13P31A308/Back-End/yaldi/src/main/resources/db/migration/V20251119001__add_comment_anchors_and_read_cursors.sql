@@ -0,0 +1,55 @@
+-- =====================================================
+-- 댓글 앵커 확장 (테이블/컬럼/관계/캔버스) + 읽음 커서
+-- =====================================================
+
+-- 버전 롤백은 ERD 객체를 삭제 후 재생성하므로 FK CASCADE로 테이블 댓글이 함께 삭제되던 문제 제거
+-- (앵커는 롤백 후 CommentAnchorService가 재해석)
+ALTER TABLE comments DROP CONSTRAINT IF EXISTS fk_comments_table_key;
+
+ALTER TABLE comments
+    ADD COLUMN IF NOT EXISTS anchor_type  VARCHAR(20) NOT NULL DEFAULT 'CANVAS',
+    ADD COLUMN IF NOT EXISTS column_key   BIGINT,
+    ADD COLUMN IF NOT EXISTS relation_key BIGINT,
+    ADD COLUMN IF NOT EXISTS anchor_path  VARCHAR(1024),
+    ADD COLUMN IF NOT EXISTS is_detached  BOOLEAN NOT NULL DEFAULT false;
+
+-- 기존 테이블 댓글 이관
+UPDATE comments c
+SET anchor_type = 'TABLE',
+    anchor_path = t.physical_name
+FROM erd_tables t
+WHERE c.table_key = t.table_key;
+
+ALTER TABLE comments
+    ADD CONSTRAINT chk_comments_anchor_type CHECK (anchor_type IN ('CANVAS', 'TABLE', 'COLUMN', 'RELATION'));
+
+-- 스레드 키셋 페이지네이션
+CREATE INDEX IF NOT EXISTS idx_comments_project_thread
+    ON comments(project_key, comment_key DESC) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_replies_comment_thread
+    ON replies(comment_key, reply_key) WHERE deleted_at IS NULL;
+
+-- 사용자별 프로젝트 댓글 읽음 커서
+CREATE TABLE IF NOT EXISTS comment_read_cursors (
+    cursor_key    BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_key      INTEGER NOT NULL,
+    project_key   BIGINT NOT NULL,
+    last_read_at  TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (cursor_key),
+    CONSTRAINT uk_comment_read_cursors_user_project UNIQUE (user_key, project_key)
+);
+
+ALTER TABLE comment_read_cursors
+    ADD CONSTRAINT fk_comment_read_cursors_user_key
+    FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
+
+ALTER TABLE comment_read_cursors
+    ADD CONSTRAINT fk_comment_read_cursors_project_key
+    FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE;
+
+COMMENT ON COLUMN comments.anchor_type IS '앵커 종류 (CANVAS: 캔버스 좌표, TABLE/COLUMN/RELATION: ERD 객체)';
+COMMENT ON COLUMN comments.anchor_path IS '앵커 객체 이름 경로 (table / table.column / from->to:constraint), 롤백 후 재해석용';
+COMMENT ON COLUMN comments.is_detached IS '앵커 객체를 찾지 못해 분리된 댓글 여부';
+COMMENT ON COLUMN comments.x_position IS 'CANVAS: 절대 좌표, 그 외: 앵커 기준 상대 좌표';
+COMMENT ON TABLE comment_read_cursors IS '사용자별 프로젝트 댓글 읽음 위치';
@@ -0,0 +1,30 @@
+-- =====================================================
+-- ERD Consultation Chatbot
+-- 오래된 대화 요약(rolling summary) 테이블 및 키셋 조회 인덱스
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS consultation_summaries (
+    project_key             BIGINT NOT NULL,
+    summary                 TEXT NOT NULL,
+    summarized_until_key    BIGINT NOT NULL,
+    summarized_count        INTEGER NOT NULL DEFAULT 0,
+    created_at              TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at              TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (project_key)
+);
+
+ALTER TABLE consultation_summaries
+    ADD CONSTRAINT fk_consultation_summaries_project
+    FOREIGN KEY (project_key)
+    REFERENCES projects(project_key)
+    ON DELETE CASCADE;
+
+-- 히스토리 키셋 페이지네이션 / 요약 이후 메시지 조회
+CREATE INDEX IF NOT EXISTS idx_consultation_messages_project_key
+    ON consultation_messages(project_key, message_key DESC);
+
+COMMENT ON TABLE consultation_summaries IS 'ERD 상담 오래된 대화 요약 (프로젝트별 1행)';
+COMMENT ON COLUMN consultation_summaries.summary IS '요약된 대화 내용 (최신 요약이 뒤에 누적, 최대 길이 초과 시 앞부분 제거)';
+COMMENT ON COLUMN consultation_summaries.summarized_until_key IS '요약에 포함된 마지막 message_key (이후 메시지만 원문으로 컨텍스트 구성)';
+COMMENT ON COLUMN consultation_summaries.summarized_count IS '요약에 포함된 누적 메시지 수';
@@ -0,0 +1,59 @@
+-- =====================================================
+-- 알림 묶음 / 채널별 전달 상태 / 사용자 알림 설정
+-- =====================================================
+
+-- 묶음 알림: 같은 group_key의 읽지 않은 알림이 group_expires_at 전에 다시 발생하면 새 행 대신 group_count 증가
+ALTER TABLE notifications
+    ADD COLUMN IF NOT EXISTS group_key        VARCHAR(120),
+    ADD COLUMN IF NOT EXISTS group_count      INTEGER NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS last_event_at    TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS group_expires_at TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_open_group
+    ON notifications(user_key, group_key, group_expires_at DESC) WHERE read_at IS NULL AND group_key IS NOT NULL;
+
+-- 채널별 전달 상태 (SSE 실시간 푸시, 메일 다이제스트)
+CREATE TABLE IF NOT EXISTS notification_deliveries (
+    delivery_key      BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    notification_key  BIGINT NOT NULL,
+    user_key          INTEGER NOT NULL,
+    channel           VARCHAR(20) NOT NULL,
+    status            VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts          INTEGER NOT NULL DEFAULT 0,
+    delivered_at      TIMESTAMPTZ,
+    PRIMARY KEY (delivery_key),
+    CONSTRAINT uk_notification_deliveries_channel UNIQUE (notification_key, channel),
+    CONSTRAINT chk_notification_deliveries_channel CHECK (channel IN ('SSE', 'MAIL_DIGEST')),
+    CONSTRAINT chk_notification_deliveries_status CHECK (status IN ('PENDING', 'DELIVERED', 'SKIPPED'))
+);
+
+ALTER TABLE notification_deliveries
+    ADD CONSTRAINT fk_notification_deliveries_notification_key
+    FOREIGN KEY (notification_key) REFERENCES notifications(notification_key) ON DELETE CASCADE;
+
+CREATE INDEX IF NOT EXISTS idx_notification_deliveries_pending
+    ON notification_deliveries(user_key, channel, notification_key) WHERE status = 'PENDING';
+
+-- 사용자별 알림 설정 (방해 금지 시간대, 메일 다이제스트 수신 여부)
+CREATE TABLE IF NOT EXISTS notification_preferences (
+    user_key        INTEGER NOT NULL,
+    quiet_start     TIME,
+    quiet_end       TIME,
+    time_zone       VARCHAR(50) NOT NULL DEFAULT 'Asia/Seoul',
+    digest_enabled  BOOLEAN NOT NULL DEFAULT true,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_key)
+);
+
+ALTER TABLE notification_preferences
+    ADD CONSTRAINT fk_notification_preferences_user_key
+    FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
+
+COMMENT ON COLUMN notifications.group_key IS '묶음 키 (type:scope), 묶지 않는 알림은 NULL';
+COMMENT ON COLUMN notifications.group_count IS '묶인 이벤트 수';
+COMMENT ON COLUMN notifications.last_event_at IS '마지막으로 묶인 이벤트 시각';
+COMMENT ON COLUMN notifications.group_expires_at IS '이 시각 이후 이벤트는 새 알림으로 생성';
+COMMENT ON TABLE notification_deliveries IS '알림 채널별 전달 상태 (미전달 알림은 재연결/다이제스트 시 재전송)';
+COMMENT ON TABLE notification_preferences IS '사용자별 알림 설정';
+COMMENT ON COLUMN notification_preferences.quiet_start IS '방해 금지 시작 (time_zone 기준, quiet_end보다 늦으면 자정을 넘김)';
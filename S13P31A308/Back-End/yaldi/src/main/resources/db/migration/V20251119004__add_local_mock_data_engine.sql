@@ -0,0 +1,13 @@
+-- =====================================================
+-- 로컬 Mock 데이터 엔진
+-- =====================================================
+
+-- LOCAL: 서버에서 시드 기반으로 즉시 생성 (파일 대신 시드/옵션을 저장하고 다운로드 시 재생성)
+-- AI: 기존 AI 서버 생성 경로 (Kafka → S3)
+ALTER TABLE mock_data
+    ADD COLUMN IF NOT EXISTS engine             VARCHAR(10) NOT NULL DEFAULT 'AI',
+    ADD COLUMN IF NOT EXISTS seed               BIGINT,
+    ADD COLUMN IF NOT EXISTS generation_options JSONB;
+
+ALTER TABLE mock_data
+    ADD CONSTRAINT chk_mock_data_engine CHECK (engine IN ('LOCAL', 'AI'));
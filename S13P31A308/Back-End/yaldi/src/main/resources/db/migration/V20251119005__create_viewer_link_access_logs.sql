@@ -0,0 +1,22 @@
+-- =====================================================
+-- 뷰어링크 접근 기록
+-- =====================================================
+
+-- 뷰어링크는 서명 토큰이라 서버에 링크 목록이 없으므로, 접근(거부 포함)을 기록해 추적/폐기 판단에 사용
+CREATE TABLE IF NOT EXISTS viewer_link_access_logs (
+    access_key   BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    link_id      VARCHAR(32),
+    project_key  BIGINT,
+    action       VARCHAR(20) NOT NULL,
+    outcome      VARCHAR(20) NOT NULL,
+    client_ip    VARCHAR(45),
+    user_key     INTEGER,
+    user_agent   VARCHAR(300),
+    created_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (access_key),
+    CONSTRAINT chk_viewer_link_access_logs_action CHECK (action IN ('VALIDATE', 'ERD', 'STREAM')),
+    CONSTRAINT chk_viewer_link_access_logs_outcome CHECK (outcome IN ('GRANTED', 'INVALID', 'EXPIRED', 'REVOKED', 'SCOPE_DENIED', 'CAPACITY_EXCEEDED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_viewer_link_access_logs_project ON viewer_link_access_logs(project_key, access_key DESC);
+CREATE INDEX IF NOT EXISTS idx_viewer_link_access_logs_created_at ON viewer_link_access_logs(created_at);
@@ -0,0 +1,77 @@
+-- =====================================================
+-- 팀 멤버십 이벤트 로그 / 초대 상태
+-- =====================================================
+
+-- 멤버십 변경 이벤트 (추가 전용). user_team_relations는 이 로그의 현재 상태이며,
+-- 사용자/팀이 삭제돼도 접근 이력이 남아야 하므로 외래키를 두지 않음
+CREATE TABLE IF NOT EXISTS team_membership_events (
+    event_key    BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    team_key     INTEGER NOT NULL,
+    user_key     INTEGER NOT NULL,
+    event_type   VARCHAR(30) NOT NULL,
+    actor_key    INTEGER,
+    occurred_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (event_key),
+    CONSTRAINT chk_team_membership_events_type CHECK (event_type IN ('TEAM_CREATED', 'INVITE_ACCEPTED', 'BASELINE', 'MEMBER_EXITED', 'MEMBER_EXPELLED', 'MEMBER_WITHDRAWN', 'TEAM_DELETED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_team_membership_events_team ON team_membership_events(team_key, occurred_at, event_key);
+
+CREATE OR REPLACE FUNCTION prevent_team_membership_event_mutation()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'team_membership_events is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_team_membership_events_append_only
+BEFORE UPDATE OR DELETE ON team_membership_events
+FOR EACH ROW
+EXECUTE FUNCTION prevent_team_membership_event_mutation();
+
+-- 기존 멤버십을 로그의 시작점으로 적재 (가입 시각 = 관계 생성 시각)
+INSERT INTO team_membership_events (team_key, user_key, event_type, actor_key, occurred_at)
+SELECT team_key, user_key, 'BASELINE', NULL, created_at
+FROM user_team_relations
+ORDER BY created_at, user_team_relation_key;
+
+-- 초대(INVITE_SENT 이력) 상태
+ALTER TABLE user_team_history
+    ADD COLUMN IF NOT EXISTS invitation_status VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS expires_at TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS resolved_at TIMESTAMPTZ;
+
+ALTER TABLE user_team_history
+    ADD CONSTRAINT chk_user_team_history_invitation_status CHECK (invitation_status IN ('PENDING', 'ACCEPTED', 'REJECTED', 'CANCELED', 'EXPIRED'));
+
+-- 기존 초대 상태 채우기: 같은 팀/이메일의 바로 다음 이력으로 결과를 판단 (다음 이력이 재초대면 만료된 것)
+UPDATE user_team_history target
+SET invitation_status = CASE
+        WHEN nxt.action_type = 'INVITE_ACCEPTED' THEN 'ACCEPTED'
+        WHEN nxt.action_type = 'INVITE_REJECTED' THEN 'REJECTED'
+        WHEN nxt.action_type = 'INVITE_CANCELED' THEN 'CANCELED'
+        WHEN nxt.action_type IS NULL AND target.created_at + INTERVAL '3 days' > now() THEN 'PENDING'
+        ELSE 'EXPIRED'
+    END,
+    expires_at = target.created_at + INTERVAL '3 days',
+    resolved_at = CASE
+        WHEN nxt.action_type IS NULL AND target.created_at + INTERVAL '3 days' > now() THEN NULL
+        ELSE COALESCE(nxt.created_at, target.created_at + INTERVAL '3 days')
+    END
+FROM user_team_history sent
+LEFT JOIN LATERAL (
+    SELECT h.action_type, h.created_at
+    FROM user_team_history h
+    WHERE h.team_key = sent.team_key
+      AND h.email = sent.email
+      AND (h.created_at, h.user_team_history_key) > (sent.created_at, sent.user_team_history_key)
+    ORDER BY h.created_at, h.user_team_history_key
+    LIMIT 1
+) nxt ON TRUE
+WHERE target.user_team_history_key = sent.user_team_history_key
+  AND sent.action_type = 'INVITE_SENT';
+
+-- 팀+이메일당 대기 중인 초대는 1건
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_team_history_pending_invitation
+    ON user_team_history(team_key, email)
+    WHERE invitation_status = 'PENDING';
@@ -0,0 +1,42 @@
+-- =====================================================
+-- ERD 작업 동기화 (오프라인 편집 작업 로그 / 프로젝트 리비전)
+-- =====================================================
+
+-- 프로젝트 리비전 카운터 (작업 처리 시 행 잠금으로 프로젝트 단위 직렬화)
+CREATE TABLE IF NOT EXISTS erd_sync_states (
+    project_key  BIGINT NOT NULL,
+    revision     BIGINT NOT NULL DEFAULT 0,
+    created_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (project_key),
+    CONSTRAINT fk_erd_sync_states_project_key FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE
+);
+
+-- 처리한 작업 (충돌/거부 포함, 재전송 시 같은 응답). 적용된 작업만 revision을 가짐
+CREATE TABLE IF NOT EXISTS erd_operations (
+    operation_key       BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    project_key         BIGINT NOT NULL,
+    client_id           VARCHAR(64) NOT NULL,
+    client_seq          BIGINT NOT NULL,
+    base_revision       BIGINT NOT NULL,
+    revision            BIGINT,
+    ack_revision        BIGINT NOT NULL,
+    user_key            INTEGER,
+    operation_type      VARCHAR(30),
+    target_key          BIGINT,
+    table_key           BIGINT,
+    fields              JSONB,
+    outcome             VARCHAR(20) NOT NULL,
+    reason              VARCHAR(30),
+    overwritten_fields  JSONB,
+    created_at          TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (operation_key),
+    CONSTRAINT fk_erd_operations_project_key FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE,
+    CONSTRAINT uk_erd_operations_client_seq UNIQUE (project_key, client_id, client_seq),
+    CONSTRAINT chk_erd_operations_type CHECK (operation_type IN ('MOVE_TABLE', 'UPDATE_TABLE', 'UPDATE_COLUMN', 'DELETE_TABLE', 'DELETE_COLUMN', 'DELETE_RELATION')),
+    CONSTRAINT chk_erd_operations_outcome CHECK (outcome IN ('APPLIED', 'NOOP', 'CONFLICT', 'REJECTED')),
+    CONSTRAINT chk_erd_operations_revision CHECK ((outcome = 'APPLIED') = (revision IS NOT NULL))
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_erd_operations_revision ON erd_operations(project_key, revision) WHERE revision IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_erd_operations_table ON erd_operations(project_key, table_key, revision) WHERE revision IS NOT NULL;
@@ -0,0 +1,21 @@
+-- =====================================================
+-- 삭제된 ERD 객체에 앵커된 댓글 분리
+-- =====================================================
+
+-- V20251119001에서 fk_comments_table_key를 제거한 뒤 삭제 경로에서 분리하기 전까지 남은 댓글 정리
+-- (앵커 경로는 유지하여 이후 롤백에서 다시 연결될 수 있음)
+UPDATE comments c
+SET is_detached  = true,
+    table_key    = NULL,
+    column_key   = NULL,
+    relation_key = NULL
+WHERE c.anchor_type <> 'CANVAS'
+  AND c.is_detached = false
+  AND (
+        (c.table_key IS NOT NULL AND NOT EXISTS (
+            SELECT 1 FROM erd_tables t WHERE t.table_key = c.table_key AND t.deleted_at IS NULL))
+     OR (c.column_key IS NOT NULL AND NOT EXISTS (
+            SELECT 1 FROM erd_columns col WHERE col.column_key = c.column_key AND col.deleted_at IS NULL))
+     OR (c.relation_key IS NOT NULL AND NOT EXISTS (
+            SELECT 1 FROM erd_relations r WHERE r.relation_key = c.relation_key AND r.deleted_at IS NULL))
+  );
@@ -67,11 +67,25 @@ CREATE TABLE IF NOT EXISTS user_team_history (
     email                  VARCHAR(255),
     action_type            VARCHAR(50) NOT NULL CHECK (action_type IN ('INVITE_SENT', 'INVITE_ACCEPTED', 'INVITE_REJECTED', 'INVITE_CANCELED', 'INVITE_EXPIRED', 'MEMBER_JOINED', 'MEMBER_EXITED', 'MEMBER_EXPULSION', 'MEMBER_WITHDRAWAL', 'MEMBER_REJOIN', 'OWNER_CHANGED')),
     reason                 VARCHAR(255) DEFAULT '',
+    invitation_status      VARCHAR(20),
+    expires_at             TIMESTAMPTZ,
+    resolved_at            TIMESTAMPTZ,
     created_at             TIMESTAMPTZ NOT NULL DEFAULT now(),
     updated_at             TIMESTAMPTZ NOT NULL DEFAULT now(),
     PRIMARY KEY (user_team_history_key)
 );
 
+-- Team membership events (추가 전용 멤버십 이벤트 로그, user_team_relations는 이 로그의 현재 상태)
+CREATE TABLE IF NOT EXISTS team_membership_events (
+    event_key    BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    team_key     INTEGER NOT NULL,
+    user_key     INTEGER NOT NULL,
+    event_type   VARCHAR(30) NOT NULL,
+    actor_key    INTEGER,
+    occurred_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (event_key)
+);
+
 -- =====================================================
 -- PROJECT HIERARCHY
 -- =====================================================
@@ -172,6 +186,36 @@ CREATE TABLE IF NOT EXISTS erd_relations (
     PRIMARY KEY (relation_key)
 );
 
+-- ERD sync states (프로젝트 작업 리비전 카운터)
+CREATE TABLE IF NOT EXISTS erd_sync_states (
+    project_key  BIGINT NOT NULL,
+    revision     BIGINT NOT NULL DEFAULT 0,
+    created_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (project_key)
+);
+
+-- ERD operations (동기화 작업 로그, 충돌/거부 포함. 적용된 작업만 revision 보유)
+CREATE TABLE IF NOT EXISTS erd_operations (
+    operation_key       BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    project_key         BIGINT NOT NULL,
+    client_id           VARCHAR(64) NOT NULL,
+    client_seq          BIGINT NOT NULL,
+    base_revision       BIGINT NOT NULL,
+    revision            BIGINT,
+    ack_revision        BIGINT NOT NULL,
+    user_key            INTEGER,
+    operation_type      VARCHAR(30),
+    target_key          BIGINT,
+    table_key           BIGINT,
+    fields              JSONB,
+    outcome             VARCHAR(20) NOT NULL,
+    reason              VARCHAR(30),
+    overwritten_fields  JSONB,
+    created_at          TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (operation_key)
+);
+
 -- =====================================================
 -- COLLABORATION FEATURES
 -- =====================================================
@@ -182,6 +226,11 @@ CREATE TABLE IF NOT EXISTS comments (
     user_key     INTEGER NOT NULL,
     table_key    BIGINT,
     project_key  BIGINT NOT NULL,
+    anchor_type  VARCHAR(20) NOT NULL DEFAULT 'CANVAS',
+    column_key   BIGINT,
+    relation_key BIGINT,
+    anchor_path  VARCHAR(1024),
+    is_detached  BOOLEAN NOT NULL DEFAULT false,
     content      VARCHAR(1000) NOT NULL DEFAULT '',
     color_hex    VARCHAR(6),
     x_position   NUMERIC(10,2),
@@ -205,6 +254,16 @@ CREATE TABLE IF NOT EXISTS replies (
     PRIMARY KEY (reply_key)
 );
 
+-- Comment Read Cursors
+CREATE TABLE IF NOT EXISTS comment_read_cursors (
+    cursor_key    BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_key      INTEGER NOT NULL,
+    project_key   BIGINT NOT NULL,
+    last_read_at  TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (cursor_key),
+    CONSTRAINT uk_comment_read_cursors_user_project UNIQUE (user_key, project_key)
+);
+
 -- Notifications
 CREATE TABLE IF NOT EXISTS notifications (
     notification_key  BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
@@ -213,10 +272,39 @@ CREATE TABLE IF NOT EXISTS notifications (
     content           VARCHAR(50),
     target            BIGINT,
     read_at           TIMESTAMPTZ,
+    group_key         VARCHAR(120),
+    group_count       INTEGER NOT NULL DEFAULT 1,
+    last_event_at     TIMESTAMPTZ,
+    group_expires_at  TIMESTAMPTZ,
     created_at        TIMESTAMPTZ NOT NULL DEFAULT now(),
     PRIMARY KEY (notification_key)
 );
 
+-- Notification deliveries (per channel)
+CREATE TABLE IF NOT EXISTS notification_deliveries (
+    delivery_key      BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    notification_key  BIGINT NOT NULL,
+    user_key          INTEGER NOT NULL,
+    channel           VARCHAR(20) NOT NULL,
+    status            VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts          INTEGER NOT NULL DEFAULT 0,
+    delivered_at      TIMESTAMPTZ,
+    PRIMARY KEY (delivery_key),
+    CONSTRAINT uk_notification_deliveries_channel UNIQUE (notification_key, channel)
+);
+
+-- Notification preferences
+CREATE TABLE IF NOT EXISTS notification_preferences (
+    user_key        INTEGER NOT NULL,
+    quiet_start     TIME,
+    quiet_end       TIME,
+    time_zone       VARCHAR(50) NOT NULL DEFAULT 'Asia/Seoul',
+    digest_enabled  BOOLEAN NOT NULL DEFAULT true,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_key)
+);
+
 -- =====================================================
 -- ASYNC JOB TRACKING
 -- =====================================================
@@ -326,6 +414,9 @@ CREATE TABLE IF NOT EXISTS mock_data (
     file_name      VARCHAR(500),
     file_path      TEXT,
     row_counts     SMALLINT NOT NULL CHECK (row_counts > 0),
+    engine         VARCHAR(10) NOT NULL DEFAULT 'AI',
+    seed           BIGINT,
+    generation_options JSONB,
     created_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
     updated_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
     deleted_at     TIMESTAMPTZ,
@@ -333,6 +424,20 @@ CREATE TABLE IF NOT EXISTS mock_data (
     CONSTRAINT fk_mock_data_async_job FOREIGN KEY (job_id) REFERENCES async_jobs(job_id)
 );
 
+-- Viewer link access audit (서명 토큰 기반 뷰어링크 접근 기록, 거부 포함)
+CREATE TABLE IF NOT EXISTS viewer_link_access_logs (
+    access_key   BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    link_id      VARCHAR(32),
+    project_key  BIGINT,
+    action       VARCHAR(20) NOT NULL,
+    outcome      VARCHAR(20) NOT NULL,
+    client_ip    VARCHAR(45),
+    user_key     INTEGER,
+    user_agent   VARCHAR(300),
+    created_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (access_key)
+);
+
 
 -- =====================================================
 -- SCHEDULER & BATCH
@@ -68,12 +68,30 @@ ALTER TABLE IF EXISTS erd_relations
 ALTER TABLE IF EXISTS erd_relations
     ADD CONSTRAINT fk_erd_relations_to_table_key FOREIGN KEY (to_table_key) REFERENCES erd_tables(table_key) ON DELETE CASCADE;
 
+ALTER TABLE IF EXISTS erd_sync_states
+    ADD CONSTRAINT fk_erd_sync_states_project_key FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE;
+
+ALTER TABLE IF EXISTS erd_operations
+    ADD CONSTRAINT fk_erd_operations_project_key FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE;
+
+ALTER TABLE IF EXISTS erd_operations
+    ADD CONSTRAINT uk_erd_operations_client_seq UNIQUE (project_key, client_id, client_seq);
+
+ALTER TABLE IF EXISTS erd_operations
+    ADD CONSTRAINT chk_erd_operations_type CHECK (operation_type IN ('MOVE_TABLE', 'UPDATE_TABLE', 'UPDATE_COLUMN', 'DELETE_TABLE', 'DELETE_COLUMN', 'DELETE_RELATION'));
+
+ALTER TABLE IF EXISTS erd_operations
+    ADD CONSTRAINT chk_erd_operations_outcome CHECK (outcome IN ('APPLIED', 'NOOP', 'CONFLICT', 'REJECTED'));
+
+ALTER TABLE IF EXISTS erd_operations
+    ADD CONSTRAINT chk_erd_operations_revision CHECK ((outcome = 'APPLIED') = (revision IS NOT NULL));
+
 -- Comment-related constraints
 ALTER TABLE IF EXISTS comments
     ADD CONSTRAINT fk_comments_user_key FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
 
 ALTER TABLE IF EXISTS comments
-    ADD CONSTRAINT fk_comments_table_key FOREIGN KEY (table_key) REFERENCES erd_tables(table_key) ON DELETE CASCADE;
+    ADD CONSTRAINT chk_comments_anchor_type CHECK (anchor_type IN ('CANVAS', 'TABLE', 'COLUMN', 'RELATION'));
 
 ALTER TABLE IF EXISTS replies
     ADD CONSTRAINT fk_replies_comment_key FOREIGN KEY (comment_key) REFERENCES comments(comment_key) ON DELETE CASCADE;
@@ -81,6 +99,12 @@ ALTER TABLE IF EXISTS replies
 ALTER TABLE IF EXISTS replies
     ADD CONSTRAINT fk_replies_user_key FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
 
+ALTER TABLE IF EXISTS comment_read_cursors
+    ADD CONSTRAINT fk_comment_read_cursors_user_key FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
+
+ALTER TABLE IF EXISTS comment_read_cursors
+    ADD CONSTRAINT fk_comment_read_cursors_project_key FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE;
+
 -- Version-related constraints
 ALTER TABLE IF EXISTS versions
     ADD CONSTRAINT fk_versions_project_key FOREIGN KEY (project_key) REFERENCES projects(project_key) ON DELETE CASCADE;
@@ -114,7 +138,34 @@ ALTER TABLE IF EXISTS data_models
 ALTER TABLE IF EXISTS mock_data
     ADD CONSTRAINT fk_mock_data_version_key FOREIGN KEY (version_key) REFERENCES versions(version_key) ON DELETE CASCADE;
 
+ALTER TABLE IF EXISTS mock_data
+    ADD CONSTRAINT chk_mock_data_engine CHECK (engine IN ('LOCAL', 'AI'));
+
+ALTER TABLE IF EXISTS viewer_link_access_logs
+    ADD CONSTRAINT chk_viewer_link_access_logs_action CHECK (action IN ('VALIDATE', 'ERD', 'STREAM'));
+
+ALTER TABLE IF EXISTS viewer_link_access_logs
+    ADD CONSTRAINT chk_viewer_link_access_logs_outcome CHECK (outcome IN ('GRANTED', 'INVALID', 'EXPIRED', 'REVOKED', 'SCOPE_DENIED', 'CAPACITY_EXCEEDED'));
+
+ALTER TABLE IF EXISTS team_membership_events
+    ADD CONSTRAINT chk_team_membership_events_type CHECK (event_type IN ('TEAM_CREATED', 'INVITE_ACCEPTED', 'BASELINE', 'MEMBER_EXITED', 'MEMBER_EXPELLED', 'MEMBER_WITHDRAWN', 'TEAM_DELETED'));
+
+ALTER TABLE IF EXISTS user_team_history
+    ADD CONSTRAINT chk_user_team_history_invitation_status CHECK (invitation_status IN ('PENDING', 'ACCEPTED', 'REJECTED', 'CANCELED', 'EXPIRED'));
+
 -- Notification constraints
 ALTER TABLE IF EXISTS notifications
     ADD CONSTRAINT fk_notifications_user_key FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
 
+ALTER TABLE IF EXISTS notification_deliveries
+    ADD CONSTRAINT fk_notification_deliveries_notification_key FOREIGN KEY (notification_key) REFERENCES notifications(notification_key) ON DELETE CASCADE;
+
+ALTER TABLE IF EXISTS notification_deliveries
+    ADD CONSTRAINT chk_notification_deliveries_channel CHECK (channel IN ('SSE', 'MAIL_DIGEST'));
+
+ALTER TABLE IF EXISTS notification_deliveries
+    ADD CONSTRAINT chk_notification_deliveries_status CHECK (status IN ('PENDING', 'DELIVERED', 'SKIPPED'));
+
+ALTER TABLE IF EXISTS notification_preferences
+    ADD CONSTRAINT fk_notification_preferences_user_key FOREIGN KEY (user_key) REFERENCES users(user_key) ON DELETE CASCADE;
+
@@ -37,6 +37,8 @@ CREATE INDEX idx_replies_deleted_at ON replies(deleted_at) WHERE deleted_at IS N
 
 -- Composite indexes for common queries
 CREATE INDEX idx_notifications_user_read ON notifications(user_key, read_at);
+CREATE INDEX idx_notifications_open_group ON notifications(user_key, group_key, group_expires_at DESC) WHERE read_at IS NULL AND group_key IS NOT NULL;
+CREATE INDEX idx_notification_deliveries_pending ON notification_deliveries(user_key, channel, notification_key) WHERE status = 'PENDING';
 CREATE INDEX idx_versions_project_public ON versions(project_key, is_public);
 
 -- Additional performance indexes
@@ -50,9 +52,19 @@ CREATE INDEX idx_data_models_project_key ON data_models(project_key);
 CREATE INDEX idx_data_models_source_table_key ON data_models(source_table_key);
 CREATE INDEX idx_data_models_last_synced_at ON data_models(last_synced_at);
 CREATE INDEX idx_mock_data_version_key ON mock_data(version_key);
+CREATE INDEX idx_viewer_link_access_logs_project ON viewer_link_access_logs(project_key, access_key DESC);
+CREATE INDEX idx_viewer_link_access_logs_created_at ON viewer_link_access_logs(created_at);
+CREATE INDEX idx_team_membership_events_team ON team_membership_events(team_key, occurred_at, event_key);
+CREATE UNIQUE INDEX uk_user_team_history_pending_invitation ON user_team_history(team_key, email) WHERE invitation_status = 'PENDING';
+CREATE UNIQUE INDEX uk_erd_operations_revision ON erd_operations(project_key, revision) WHERE revision IS NOT NULL;
+CREATE INDEX idx_erd_operations_table ON erd_operations(project_key, table_key, revision) WHERE revision IS NOT NULL;
 
 -- Timestamp-based indexes for queries sorted by creation/update time
 CREATE INDEX idx_comments_created_at ON comments(created_at DESC);
 CREATE INDEX idx_replies_created_at ON replies(created_at DESC);
+
+-- Comment thread keyset pagination
+CREATE INDEX idx_comments_project_thread ON comments(project_key, comment_key DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_replies_comment_thread ON replies(comment_key, reply_key) WHERE deleted_at IS NULL;
 CREATE INDEX idx_notifications_created_at ON notifications(created_at DESC);
 CREATE INDEX idx_versions_created_at ON versions(created_at DESC);
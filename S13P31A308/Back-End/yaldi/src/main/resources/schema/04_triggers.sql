@@ -503,3 +503,20 @@ CREATE TRIGGER trigger_update_project_activity_on_edit_history
 AFTER INSERT ON edit_history
 FOR EACH ROW
 EXECUTE FUNCTION update_project_last_activity();
+
+-- =====================================================
+-- Append-only Tables
+-- =====================================================
+
+-- 팀 멤버십 이벤트 로그는 수정/삭제 불가
+CREATE OR REPLACE FUNCTION prevent_team_membership_event_mutation()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'team_membership_events is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_team_membership_events_append_only
+BEFORE UPDATE OR DELETE ON team_membership_events
+FOR EACH ROW
+EXECUTE FUNCTION prevent_team_membership_event_mutation();
@@ -0,0 +1,378 @@
+package com.yaldi.domain.comment.service;
+
+import com.yaldi.domain.comment.entity.Comment;
+import com.yaldi.domain.comment.entity.CommentAnchorType;
+import com.yaldi.domain.comment.repository.CommentRepository;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdRelation;
+import com.yaldi.domain.erd.entity.ErdTable;
+import com.yaldi.domain.erd.entity.RelationType;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.domain.edithistory.service.EditHistoryService;
+import com.yaldi.domain.erd.service.ErdLintTrigger;
+import com.yaldi.domain.erd.service.ErdLockService;
+import com.yaldi.domain.erd.service.ErdTableService;
+import com.yaldi.domain.version.service.VersionRollbackService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 버전 롤백/ERD 객체 삭제 후 댓글 앵커 재해석 테스트
+ *
+ * <p>ERD 저장소를 인메모리로 흉내 내고 실제 {@link VersionRollbackService}, {@link ErdTableService}로 삭제/재생성을 수행합니다.</p>
+ */
+class CommentAnchorRollbackTest {
+
+    private static final Long PROJECT = 1L;
+
+    private final AtomicLong sequence = new AtomicLong(100);
+    private final Map<Long, ErdTable> tables = new LinkedHashMap<>();
+    private final Map<Long, ErdColumn> columns = new LinkedHashMap<>();
+    private final Map<Long, ErdRelation> relations = new LinkedHashMap<>();
+    private final List<Comment> comments = new ArrayList<>();
+
+    private CommentAnchorService anchorService;
+    private VersionRollbackService rollbackService;
+    private ErdTableService tableService;
+
+    @BeforeEach
+    void setUp() {
+        ErdTableRepository tableRepository = mock(ErdTableRepository.class);
+        when(tableRepository.save(any(ErdTable.class))).thenAnswer(inv -> {
+            ErdTable table = inv.getArgument(0);
+            ReflectionTestUtils.setField(table, "tableKey", sequence.incrementAndGet());
+            tables.put(table.getTableKey(), table);
+            return table;
+        });
+        when(tableRepository.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(tables.get(inv.<Long>getArgument(0))));
+        when(tableRepository.findByProjectKey(eq(PROJECT))).thenAnswer(inv -> List.copyOf(tables.values()));
+        doAnswer(inv -> {
+            inv.<Iterable<ErdTable>>getArgument(0).forEach(t -> tables.remove(t.getTableKey()));
+            return null;
+        }).when(tableRepository).deleteAll(anyIterable());
+
+        ErdColumnRepository columnRepository = mock(ErdColumnRepository.class);
+        when(columnRepository.save(any(ErdColumn.class))).thenAnswer(inv -> {
+            ErdColumn column = inv.getArgument(0);
+            ReflectionTestUtils.setField(column, "columnKey", sequence.incrementAndGet());
+            columns.put(column.getColumnKey(), column);
+            return column;
+        });
+        when(columnRepository.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(columns.get(inv.<Long>getArgument(0))));
+        when(columnRepository.findByProjectKey(eq(PROJECT))).thenAnswer(inv -> columns.values().stream()
+                .filter(c -> tables.containsKey(c.getTableKey()))
+                .toList());
+        doAnswer(inv -> {
+            inv.<Iterable<ErdColumn>>getArgument(0).forEach(c -> columns.remove(c.getColumnKey()));
+            return null;
+        }).when(columnRepository).deleteAll(anyIterable());
+
+        ErdRelationRepository relationRepository = mock(ErdRelationRepository.class);
+        when(relationRepository.save(any(ErdRelation.class))).thenAnswer(inv -> {
+            ErdRelation relation = inv.getArgument(0);
+            ReflectionTestUtils.setField(relation, "relationKey", sequence.incrementAndGet());
+            relations.put(relation.getRelationKey(), relation);
+            return relation;
+        });
+        when(relationRepository.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(relations.get(inv.<Long>getArgument(0))));
+        when(relationRepository.findByProjectKey(eq(PROJECT))).thenAnswer(inv -> List.copyOf(relations.values()));
+        doAnswer(inv -> {
+            inv.<Iterable<ErdRelation>>getArgument(0).forEach(r -> relations.remove(r.getRelationKey()));
+            return null;
+        }).when(relationRepository).deleteAll(anyIterable());
+
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        when(commentRepository.findByProjectKeyAndAnchorTypeNot(eq(PROJECT), eq(CommentAnchorType.CANVAS)))
+                .thenAnswer(inv -> comments.stream().filter(Comment::isAnchoredToErd).toList());
+
+        anchorService = new CommentAnchorService(commentRepository, tableRepository, columnRepository, relationRepository);
+        rollbackService = new VersionRollbackService(tableRepository, columnRepository, relationRepository, anchorService);
+        tableService = new ErdTableService(tableRepository, mock(ErdLockService.class), mock(EditHistoryService.class),
+                mock(ErdLintTrigger.class), anchorService);
+    }
+
+    @Test
+    @DisplayName("스냅샷 키 매핑으로 재연결: 스냅샷 이후 이름이 바뀌었어도 같은 테이블을 찾는다")
+    void reattachesByKeyMappingAfterRename() {
+        ErdTable users = table("users");
+        ErdTable orders = table("orders");
+        Map<String, Object> snapshot = snapshot();
+
+        users.updatePhysicalName("members");
+        Comment comment = anchored(CommentAnchorType.TABLE, users.getTableKey(), null, null);
+
+        rollbackService.rollbackErdToSnapshot(PROJECT, snapshot);
+
+        ErdTable restored = tableNamed("users");
+        assertThat(restored.getTableKey()).isNotEqualTo(users.getTableKey());
+        assertThat(comment.getTableKey()).isEqualTo(restored.getTableKey());
+        assertThat(comment.getAnchorPath()).isEqualTo("users");
+        assertThat(comment.getIsDetached()).isFalse();
+        assertThat(tableNamed("orders").getTableKey()).isNotEqualTo(orders.getTableKey());
+    }
+
+    @Test
+    @DisplayName("키가 스냅샷에 없으면 롤백 직전 이름 경로로 컬럼/관계를 다시 찾는다")
+    void reattachesByLivePathWhenKeysAreUnknown() {
+        ErdTable users = table("users");
+        ErdColumn userId = column(users, "id");
+        ErdColumn email = column(users, "email");
+        ErdTable orders = table("orders");
+        ErdColumn orderUserId = column(orders, "user_id");
+        ErdRelation fk = relation(orders, orderUserId, users, userId, "fk_orders_users");
+        Map<String, Object> snapshot = snapshot();
+
+        // 한 번 롤백하여 현재 키가 스냅샷 키와 달라진 상태
+        rollbackService.rollbackErdToSnapshot(PROJECT, snapshot);
+        ErdTable currentUsers = tableNamed("users");
+        ErdColumn currentEmail = columnNamed(currentUsers, "email");
+        ErdRelation currentFk = relations.values().iterator().next();
+        Comment columnComment = anchored(CommentAnchorType.COLUMN, currentUsers.getTableKey(), currentEmail.getColumnKey(), null);
+        Comment relationComment = anchored(CommentAnchorType.RELATION, null, null, currentFk.getRelationKey());
+
+        rollbackService.rollbackErdToSnapshot(PROJECT, snapshot);
+
+        ErdTable finalUsers = tableNamed("users");
+        assertThat(columnComment.getTableKey()).isEqualTo(finalUsers.getTableKey());
+        assertThat(columnComment.getColumnKey()).isEqualTo(columnNamed(finalUsers, "email").getColumnKey());
+        assertThat(columnComment.getAnchorPath()).isEqualTo("users.email");
+        assertThat(relationComment.getRelationKey()).isEqualTo(relations.values().iterator().next().getRelationKey());
+        assertThat(relationComment.getAnchorPath()).isEqualTo("orders->users:fk_orders_users");
+        assertThat(Set.of(email.getColumnKey(), fk.getRelationKey(), currentEmail.getColumnKey()))
+                .doesNotContain(columnComment.getColumnKey(), relationComment.getRelationKey());
+    }
+
+    @Test
+    @DisplayName("대상이 없는 버전으로 롤백하면 분리되고, 대상이 있는 버전으로 다시 롤백하면 재연결된다")
+    void detachesAndLaterReattaches() {
+        table("users");
+        Map<String, Object> withoutAudit = snapshot();
+        ErdTable audit = table("audit_logs");
+        Map<String, Object> withAudit = snapshot();
+        Comment comment = anchored(CommentAnchorType.TABLE, audit.getTableKey(), null, null);
+        comment.updateContent("보관 기간 정책 필요");
+
+        rollbackService.rollbackErdToSnapshot(PROJECT, withoutAudit);
+
+        assertThat(comment.getIsDetached()).isTrue();
+        assertThat(comment.getTableKey()).isNull();
+        assertThat(comment.getAnchorPath()).isEqualTo("audit_logs");
+
+        // 이전 롤백으로 스냅샷 키가 모두 새로 발급된 상태에서도 경로로 재연결
+        rollbackService.rollbackErdToSnapshot(PROJECT, withAudit);
+
+        assertThat(comment.getIsDetached()).isFalse();
+        assertThat(comment.getTableKey()).isEqualTo(tableNamed("audit_logs").getTableKey());
+    }
+
+    @Test
+    @DisplayName("테이블을 삭제하면 테이블/컬럼/연결된 관계 댓글이 현재 경로로 분리되고, 되돌리는 롤백에서 재연결된다")
+    void detachesCommentsOfDeletedTable() {
+        ErdTable users = table("users");
+        ErdColumn userId = column(users, "id");
+        ErdTable orders = table("orders");
+        ErdColumn orderUserId = column(orders, "user_id");
+        ErdRelation fk = relation(orders, orderUserId, users, userId, "fk_orders_users");
+        users.updatePhysicalName("members");
+        Map<String, Object> beforeDelete = snapshot();
+
+        Comment tableComment = anchored(CommentAnchorType.TABLE, users.getTableKey(), null, null);
+        Comment columnComment = anchored(CommentAnchorType.COLUMN, users.getTableKey(), userId.getColumnKey(), null);
+        Comment relationComment = anchored(CommentAnchorType.RELATION, null, null, fk.getRelationKey());
+        Comment otherComment = anchored(CommentAnchorType.COLUMN, orders.getTableKey(), orderUserId.getColumnKey(), null);
+
+        tableService.deleteTable(users.getTableKey(), 1);
+        deleteWithChildren(users);
+
+        assertThat(List.of(tableComment, columnComment, relationComment))
+                .allSatisfy(comment -> {
+                    assertThat(comment.getIsDetached()).isTrue();
+                    assertThat(comment.getTableKey()).isNull();
+                    assertThat(comment.getColumnKey()).isNull();
+                    assertThat(comment.getRelationKey()).isNull();
+                });
+        assertThat(tableComment.getAnchorPath()).isEqualTo("members");
+        assertThat(columnComment.getAnchorPath()).isEqualTo("members.id");
+        assertThat(relationComment.getAnchorPath()).isEqualTo("orders->members:fk_orders_users");
+        assertThat(otherComment.getIsDetached()).isFalse();
+        assertThat(otherComment.getColumnKey()).isEqualTo(orderUserId.getColumnKey());
+
+        rollbackService.rollbackErdToSnapshot(PROJECT, beforeDelete);
+
+        ErdTable restored = tableNamed("members");
+        assertThat(tableComment.getIsDetached()).isFalse();
+        assertThat(tableComment.getTableKey()).isEqualTo(restored.getTableKey());
+        assertThat(columnComment.getColumnKey()).isEqualTo(columnNamed(restored, "id").getColumnKey());
+        assertThat(relationComment.getIsDetached()).isFalse();
+    }
+
+    @Test
+    @DisplayName("앵커 기준 상대 좌표와 캔버스 댓글은 롤백에 영향을 받지 않는다")
+    void relativeOffsetsAndCanvasCommentsAreUntouched() {
+        ErdTable users = table("users");
+        Map<String, Object> snapshot = snapshot();
+        Comment tableComment = Comment.builder()
+                .commentKey(1L).userKey(1).projectKey(PROJECT)
+                .anchorType(CommentAnchorType.TABLE).tableKey(users.getTableKey()).anchorPath("users")
+                .xPosition(new BigDecimal("12.00")).yPosition(new BigDecimal("-8.00"))
+                .build();
+        Comment canvasComment = Comment.builder()
+                .commentKey(2L).userKey(1).projectKey(PROJECT)
+                .xPosition(new BigDecimal("320.00")).yPosition(new BigDecimal("480.00"))
+                .build();
+        comments.add(tableComment);
+        comments.add(canvasComment);
+
+        users.updatePosition(new BigDecimal("999"), new BigDecimal("999"));
+        rollbackService.rollbackErdToSnapshot(PROJECT, snapshot);
+
+        assertThat(tableComment.getXPosition()).isEqualByComparingTo("12.00");
+        assertThat(tableComment.getYPosition()).isEqualByComparingTo("-8.00");
+        assertThat(canvasComment.getAnchorType()).isEqualTo(CommentAnchorType.CANVAS);
+        assertThat(canvasComment.getXPosition()).isEqualByComparingTo("320.00");
+    }
+
+    // ========== ERD / 스냅샷 픽스처 ==========
+
+    /**
+     * 테이블 soft delete 트리거 흉내 (컬럼과 연결된 관계 함께 삭제)
+     */
+    private void deleteWithChildren(ErdTable table) {
+        tables.remove(table.getTableKey());
+        columns.values().removeIf(column -> column.getTableKey().equals(table.getTableKey()));
+        relations.values().removeIf(relation -> relation.getFromTableKey().equals(table.getTableKey())
+                || relation.getToTableKey().equals(table.getTableKey()));
+    }
+
+    private ErdTable table(String physicalName) {
+        ErdTable table = ErdTable.builder()
+                .projectKey(PROJECT)
+                .logicalName(physicalName)
+                .physicalName(physicalName)
+                .build();
+        ReflectionTestUtils.setField(table, "tableKey", sequence.incrementAndGet());
+        tables.put(table.getTableKey(), table);
+        return table;
+    }
+
+    private ErdColumn column(ErdTable table, String physicalName) {
+        ErdColumn column = ErdColumn.builder()
+                .tableKey(table.getTableKey())
+                .physicalName(physicalName)
+                .logicalName(physicalName)
+                .dataType("BIGINT")
+                .build();
+        ReflectionTestUtils.setField(column, "columnKey", sequence.incrementAndGet());
+        columns.put(column.getColumnKey(), column);
+        return column;
+    }
+
+    private ErdRelation relation(ErdTable from, ErdColumn fromColumn, ErdTable to, ErdColumn toColumn, String constraint) {
+        ErdRelation relation = ErdRelation.builder()
+                .projectKey(PROJECT)
+                .fromTableKey(from.getTableKey())
+                .fromColumnKey(fromColumn.getColumnKey())
+                .toTableKey(to.getTableKey())
+                .toColumnKey(toColumn.getColumnKey())
+                .relationType(RelationType.OPTIONAL_ONE_TO_MANY)
+                .constraintName(constraint)
+                .build();
+        ReflectionTestUtils.setField(relation, "relationKey", sequence.incrementAndGet());
+        relations.put(relation.getRelationKey(), relation);
+        return relation;
+    }
+
+    private Comment anchored(CommentAnchorType type, Long tableKey, Long columnKey, Long relationKey) {
+        CommentAnchorService.ResolvedAnchor anchor = anchorService.resolve(PROJECT, type, tableKey, columnKey, relationKey);
+        Comment comment = Comment.builder()
+                .commentKey((long) comments.size() + 1)
+                .userKey(1)
+                .projectKey(PROJECT)
+                .anchorType(anchor.type())
+                .tableKey(anchor.tableKey())
+                .columnKey(anchor.columnKey())
+                .relationKey(anchor.relationKey())
+                .anchorPath(anchor.path())
+                .build();
+        comments.add(comment);
+        return comment;
+    }
+
+    /**
+     * 현재 ERD를 버전 스냅샷(JSON) 형식으로 직렬화
+     */
+    private Map<String, Object> snapshot() {
+        List<Map<String, Object>> tableData = tables.values().stream().map(table -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("tableKey", table.getTableKey());
+            data.put("logicalName", table.getLogicalName());
+            data.put("physicalName", table.getPhysicalName());
+            data.put("xPosition", table.getXPosition());
+            data.put("yPosition", table.getYPosition());
+            data.put("columns", columns.values().stream()
+                    .filter(column -> column.getTableKey().equals(table.getTableKey()))
+                    .map(column -> {
+                        Map<String, Object> columnData = new LinkedHashMap<>();
+                        columnData.put("columnKey", column.getColumnKey());
+                        columnData.put("logicalName", column.getLogicalName());
+                        columnData.put("physicalName", column.getPhysicalName());
+                        columnData.put("dataType", column.getDataType());
+                        return columnData;
+                    })
+                    .collect(Collectors.toList()));
+            return data;
+        }).collect(Collectors.toList());
+
+        List<Map<String, Object>> relationData = relations.values().stream().map(relation -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("relationKey", relation.getRelationKey());
+            data.put("fromTableKey", relation.getFromTableKey());
+            data.put("toTableKey", relation.getToTableKey());
+            data.put("fromColumnKey", relation.getFromColumnKey());
+            data.put("toColumnKey", relation.getToColumnKey());
+            data.put("relationType", relation.getRelationType().name());
+            data.put("constraintName", relation.getConstraintName());
+            return data;
+        }).collect(Collectors.toList());
+
+        return Map.of("tables", tableData, "relations", relationData);
+    }
+
+    private ErdTable tableNamed(String physicalName) {
+        return tables.values().stream()
+                .filter(table -> table.getPhysicalName().equals(physicalName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private ErdColumn columnNamed(ErdTable table, String physicalName) {
+        return columns.values().stream()
+                .filter(column -> column.getTableKey().equals(table.getTableKey()))
+                .filter(column -> physicalName.equals(column.getPhysicalName()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
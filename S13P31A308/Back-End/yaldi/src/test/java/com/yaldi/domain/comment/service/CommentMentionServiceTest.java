@@ -0,0 +1,129 @@
+package com.yaldi.domain.comment.service;
+
+import com.yaldi.domain.comment.entity.CommentNotificationType;
+import com.yaldi.domain.notification.service.NotificationService;
+import com.yaldi.domain.project.entity.ProjectMemberRelation;
+import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentMentionServiceTest {
+
+    @Test
+    @DisplayName("멘션 토큰 추출: 이메일은 제외하고 중복은 한 번만")
+    void extractsMentionTokens() {
+        Set<String> tokens = CommentMentionService.extractMentionTokens(
+                "@홍길동님 확인 부탁드려요. cc @kim_dev, @kim_dev / 메일: admin@yaldi.kr");
+
+        assertThat(tokens).containsExactly("홍길동님", "kim_dev");
+        assertThat(CommentMentionService.extractMentionTokens("멘션 없음")).isEmpty();
+        assertThat(CommentMentionService.extractMentionTokens(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닉네임 뒤에 조사가 붙어도 가장 긴 멤버 닉네임으로 매칭")
+    void matchesLongestNicknamePrefix() {
+        List<String> nicknames = List.of("홍길", "홍길동", "kim");
+
+        assertThat(CommentMentionService.matchNickname("홍길동님", nicknames)).contains("홍길동");
+        assertThat(CommentMentionService.matchNickname("홍길이", nicknames)).contains("홍길");
+        assertThat(CommentMentionService.matchNickname("park", nicknames)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버에게만 알림, 작성자 본인은 제외")
+    void notifiesProjectMembersExceptAuthor() {
+        ProjectMemberRelationRepository memberRepository = mock(ProjectMemberRelationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        NotificationService notificationService = mock(NotificationService.class);
+        CommentMentionService service = new CommentMentionService(
+                memberRepository, userRepository, notificationService, mock(PlatformTransactionManager.class));
+
+        User author = User.builder().userKey(1).nickname("작성자").build();
+        User member = User.builder().userKey(2).nickname("홍길동").build();
+        when(memberRepository.findByProjectKey(10L)).thenReturn(List.of(
+                ProjectMemberRelation.builder().projectKey(10L).memberKey(1).build(),
+                ProjectMemberRelation.builder().projectKey(10L).memberKey(2).build()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(author, member));
+        when(userRepository.findById(1)).thenReturn(Optional.of(author));
+
+        Set<Integer> notified = service.notifyMentions(10L, 55L, 1,
+                "@홍길동님 리뷰 부탁해요 @작성자 @외부인");
+
+        assertThat(notified).containsExactly(2);
+        verify(notificationService).notifyUser(eq(2), eq(CommentNotificationType.MENTIONED.getValue()), eq("작성자"), eq(55L), eq(10L));
+        verify(notificationService, never()).notifyUser(eq(1), anyString(), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("멘션이 없으면 멤버를 조회하지 않는다")
+    void skipsLookupWithoutMentions() {
+        ProjectMemberRelationRepository memberRepository = mock(ProjectMemberRelationRepository.class);
+        NotificationService notificationService = mock(NotificationService.class);
+        CommentMentionService service = new CommentMentionService(
+                memberRepository, mock(UserRepository.class), notificationService, mock(PlatformTransactionManager.class));
+
+        assertThat(service.notifyMentions(10L, 55L, 1, "일반 댓글")).isEmpty();
+        verify(memberRepository, never()).findByProjectKey(anyLong());
+        verify(notificationService, never()).notifyUser(anyInt(), anyString(), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중이면 커밋 후 대상별 새 트랜잭션으로 알림하고, 한 명의 실패가 나머지와 댓글에 영향이 없다")
+    void notifiesAfterCommitInSeparateTransactions() {
+        ProjectMemberRelationRepository memberRepository = mock(ProjectMemberRelationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        NotificationService notificationService = mock(NotificationService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        CommentMentionService service = new CommentMentionService(
+                memberRepository, userRepository, notificationService, transactionManager);
+
+        User author = User.builder().userKey(1).nickname("작성자").build();
+        User hong = User.builder().userKey(2).nickname("홍길동").build();
+        User kim = User.builder().userKey(3).nickname("kim").build();
+        when(memberRepository.findByProjectKey(10L)).thenReturn(List.of(
+                ProjectMemberRelation.builder().projectKey(10L).memberKey(1).build(),
+                ProjectMemberRelation.builder().projectKey(10L).memberKey(2).build(),
+                ProjectMemberRelation.builder().projectKey(10L).memberKey(3).build()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(author, hong, kim));
+        when(userRepository.findById(1)).thenReturn(Optional.of(author));
+        doThrow(new IllegalStateException("알림 저장 실패"))
+                .when(notificationService).notifyUser(eq(2), anyString(), anyString(), anyLong(), anyLong());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(service.notifyMentions(10L, 55L, 1, "@홍길동 @kim 확인 부탁")).containsExactlyInAnyOrder(2, 3);
+            verify(notificationService, never()).notifyUser(anyInt(), anyString(), anyString(), anyLong(), anyLong());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(notificationService).notifyUser(eq(3), eq(CommentNotificationType.MENTIONED.getValue()), eq("작성자"), eq(55L), eq(10L));
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+    }
+}
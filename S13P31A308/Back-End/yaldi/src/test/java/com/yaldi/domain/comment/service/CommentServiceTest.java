@@ -0,0 +1,71 @@
+package com.yaldi.domain.comment.service;
+
+import com.yaldi.domain.comment.repository.CommentRepository;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
+import com.yaldi.domain.team.repository.TeamRepository;
+import com.yaldi.domain.team.validator.TeamValidator;
+import com.yaldi.domain.user.repository.UserRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private CommentRepository commentRepository;
+    private CommentAnchorService commentAnchorService;
+    private CommentMentionService commentMentionService;
+    private ProjectAccessValidator projectAccessValidator;
+    private AuthorizationCache authorizationCache;
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        commentAnchorService = mock(CommentAnchorService.class);
+        commentMentionService = mock(CommentMentionService.class);
+        projectAccessValidator = mock(ProjectAccessValidator.class);
+        authorizationCache = mock(AuthorizationCache.class);
+        TeamValidator teamValidator = new TeamValidator(
+                mock(TeamRepository.class), authorizationCache, mock(UserRepository.class));
+        commentService = new CommentService(commentRepository, teamValidator,
+                mock(UserRepository.class), commentAnchorService, commentMentionService, projectAccessValidator);
+    }
+
+    @Test
+    @DisplayName("소속 팀이어도 다른 팀 프로젝트에는 댓글을 생성할 수 없다")
+    void rejectsCommentOnProjectOutsideTeam() {
+        when(authorizationCache.isTeamMember(1, 10)).thenReturn(true);
+        doThrow(new GeneralException(ErrorStatus.PROJECT_FORBIDDEN))
+                .when(projectAccessValidator).validateProjectAccess(99L, 1);
+
+        assertThatThrownBy(() -> commentService.createCommentWithoutTable(1, 10, 99L, "내용", "#FFFFFF", null, null))
+                .isInstanceOf(GeneralException.class)
+                .hasMessageContaining(ErrorStatus.PROJECT_FORBIDDEN.getMessage());
+        verifyNoInteractions(commentAnchorService, commentMentionService);
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("팀 소속 여부는 권한 캐시로 확인하고, 소속이 아니면 TEAM_FORBIDDEN")
+    void checksTeamMembershipThroughAuthorizationCache() {
+        when(authorizationCache.isTeamMember(1, 10)).thenReturn(false);
+
+        assertThatThrownBy(() -> commentService.createCommentWithoutTable(1, 10, 99L, "내용", "#FFFFFF", null, null))
+                .isInstanceOf(GeneralException.class)
+                .hasMessageContaining(ErrorStatus.TEAM_FORBIDDEN.getMessage());
+        verify(authorizationCache).isTeamMember(1, 10);
+        verifyNoInteractions(projectAccessValidator, commentAnchorService, commentMentionService);
+    }
+}
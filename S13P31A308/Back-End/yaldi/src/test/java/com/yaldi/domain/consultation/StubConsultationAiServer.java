@@ -0,0 +1,147 @@
+package com.yaldi.domain.consultation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 AI 서버 스텁 (JDK HttpServer)
+ *
+ * <p>{@code /consult/stream}은 chunked 전송으로 SSE 이벤트를 하나씩 flush하고,
+ * 클라이언트가 연결을 끊어 쓰기가 실패하면 {@link #awaitClientDisconnect}로 확인할 수 있습니다.</p>
+ */
+public class StubConsultationAiServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private final CountDownLatch clientDisconnected = new CountDownLatch(1);
+
+    private volatile List<String> tokens = List.of("안녕하세요. ", "인덱스를 ", "추천합니다.");
+    private volatile long chunkDelayMillis;
+    private volatile boolean streamingSupported = true;
+    private volatile String errorDetail;
+
+    private StubConsultationAiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/consultation/consult/stream", this::handleStream);
+        server.createContext("/api/v1/consultation/consult", this::handleConsult);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static StubConsultationAiServer start() throws IOException {
+        return new StubConsultationAiServer();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StubConsultationAiServer streaming(List<String> tokens, long chunkDelayMillis) {
+        this.tokens = tokens;
+        this.chunkDelayMillis = chunkDelayMillis;
+        return this;
+    }
+
+    /** 스트리밍 엔드포인트 404 (구버전 AI 서버) */
+    public StubConsultationAiServer withoutStreaming() {
+        this.streamingSupported = false;
+        return this;
+    }
+
+    /** 토큰 전송 후 error 이벤트 */
+    public StubConsultationAiServer failingWith(String detail) {
+        this.errorDetail = detail;
+        return this;
+    }
+
+    public List<String> requestBodies() {
+        return requestBodies;
+    }
+
+    public boolean awaitClientDisconnect(long timeoutMillis) throws InterruptedException {
+        return clientDisconnected.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void handleStream(HttpExchange exchange) throws IOException {
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        if (!streamingSupported) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0); // chunked
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String token : tokens) {
+                writeEvent(out, "token", Map.of("content", token));
+                sleep();
+            }
+            if (errorDetail != null) {
+                writeEvent(out, "error", Map.of("detail", errorDetail));
+            } else {
+                writeEvent(out, "done", finalResponse());
+            }
+        } catch (IOException e) {
+            clientDisconnected.countDown();
+        }
+    }
+
+    private void handleConsult(HttpExchange exchange) throws IOException {
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        byte[] body = OBJECT_MAPPER.writeValueAsBytes(finalResponse());
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Map<String, Object> finalResponse() {
+        return Map.of(
+                "message", String.join("", tokens),
+                "schema_modifications", List.of(Map.of("action", "ADD_INDEX", "details", Map.of("table", "orders"))),
+                "confidence", 0.9,
+                "agents_used", List.of("IndexStrategyExpert"),
+                "warnings", List.of());
+    }
+
+    private void writeEvent(OutputStream out, String name, Object data) throws IOException {
+        String event = "event: " + name + "\ndata: " + OBJECT_MAPPER.writeValueAsString(data) + "\n\n";
+        out.write(event.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void sleep() {
+        if (chunkDelayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,100 @@
+package com.yaldi.domain.consultation.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.consultation.StubConsultationAiServer;
+import com.yaldi.domain.consultation.dto.request.ConsultationAiRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsultationAiClientStreamTest {
+
+    private StubConsultationAiServer server;
+    private ConsultationAiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubConsultationAiServer.start();
+        client = new ConsultationAiClient(server.url(), 5_000, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("AI 서버가 flush한 조각을 전체 응답 전에 순서대로 전달")
+    void relaysChunksAsTheyArrive() {
+        server.streaming(List.of("PK는 ", "BIGINT ", "대리키를 ", "권장합니다."), 150);
+
+        long start = System.nanoTime();
+        ConsultationStreamChunk first = client.consultStream(request()).blockFirst(Duration.ofSeconds(5));
+        long firstChunkMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(first.content()).isEqualTo("PK는 ");
+        assertThat(firstChunkMillis).isLessThan(4 * 150);
+
+        List<ConsultationStreamChunk> chunks = client.consultStream(request()).collectList().block(Duration.ofSeconds(5));
+        assertThat(chunks).extracting(ConsultationStreamChunk::type).containsExactly(
+                ConsultationStreamChunk.Type.TOKEN, ConsultationStreamChunk.Type.TOKEN,
+                ConsultationStreamChunk.Type.TOKEN, ConsultationStreamChunk.Type.TOKEN,
+                ConsultationStreamChunk.Type.DONE);
+        assertThat(chunks.get(4).response().getMessage()).isEqualTo("PK는 BIGINT 대리키를 권장합니다.");
+        assertThat(chunks.get(4).response().getAgentsUsed()).containsExactly("IndexStrategyExpert");
+    }
+
+    @Test
+    @DisplayName("구독 취소 시 AI 서버 연결도 끊김")
+    void cancellationClosesUpstreamConnection() throws Exception {
+        server.streaming(IntStream.range(0, 200).mapToObj(i -> "t" + i + " ").toList(), 20);
+
+        List<ConsultationStreamChunk> received = client.consultStream(request())
+                .take(3)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(received).hasSize(3);
+        assertThat(server.awaitClientDisconnect(5_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("스트리밍 미지원 AI 서버는 일반 상담 응답을 한 조각으로 전달")
+    void fallsBackToBlockingEndpoint() {
+        server.withoutStreaming();
+
+        List<ConsultationStreamChunk> chunks = client.consultStream(request()).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0).content()).isEqualTo("안녕하세요. 인덱스를 추천합니다.");
+        assertThat(chunks.get(1).type()).isEqualTo(ConsultationStreamChunk.Type.DONE);
+        assertThat(server.requestBodies()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("error 이벤트는 스트림 오류로 전달")
+    void errorEventFailsStream() {
+        server.failingWith("LLM quota exceeded");
+
+        assertThatThrownBy(() -> client.consultStream(request()).collectList().block(Duration.ofSeconds(5)))
+                .hasMessageContaining("LLM quota exceeded");
+    }
+
+    private ConsultationAiRequest request() {
+        return ConsultationAiRequest.builder()
+                .projectKey(1L)
+                .message("PK 추천해줘")
+                .schemaData(Map.of("tables", List.of()))
+                .conversationHistory(List.of())
+                .build();
+    }
+}
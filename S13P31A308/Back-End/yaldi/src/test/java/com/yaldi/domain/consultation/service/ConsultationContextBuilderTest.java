@@ -0,0 +1,179 @@
+package com.yaldi.domain.consultation.service;
+
+import com.yaldi.domain.consultation.config.ConsultationProperties;
+import com.yaldi.domain.consultation.dto.request.ConsultationAiRequest;
+import com.yaldi.domain.consultation.entity.ConsultationMessage;
+import com.yaldi.domain.consultation.entity.ConsultationMessageRole;
+import com.yaldi.domain.consultation.entity.ConsultationSummary;
+import com.yaldi.domain.consultation.repository.ConsultationMessageRepository;
+import com.yaldi.domain.consultation.repository.ConsultationSummaryRepository;
+import com.yaldi.domain.consultation.service.ConsultationContextBuilder.ConsultationContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConsultationContextBuilderTest {
+
+    private ConsultationMessageRepository messageRepository;
+    private ConsultationSummaryRepository summaryRepository;
+    private ConsultationProperties properties;
+    private ConsultationContextBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = mock(ConsultationMessageRepository.class);
+        summaryRepository = mock(ConsultationSummaryRepository.class);
+        properties = new ConsultationProperties();
+        builder = new ConsultationContextBuilder(messageRepository, summaryRepository, properties);
+    }
+
+    @Test
+    @DisplayName("최근 턴은 항상, 이전 턴은 질문과 관련된 것만 시간순으로 포함")
+    void selectsRecentAndRelevantTurns() {
+        List<ConsultationMessage> messages = conversation(
+                "orders 테이블 인덱스는 어떻게 잡나요?", "orders.user_key와 created_at 복합 인덱스를 권장합니다.",
+                "회원 탈퇴는 어떻게 처리하나요?", "deleted_at 컬럼으로 soft delete 하세요.",
+                "정규화는 어디까지 해야 하나요?", "3정규형까지 권장합니다.",
+                "users 이메일에 unique를 걸까요?", "네, 부분 유니크 인덱스를 권장합니다.",
+                "created_at 타입은요?", "TIMESTAMPTZ를 사용하세요.");
+
+        List<ConsultationAiRequest.ConversationMessage> history =
+                builder.selectHistory(messages, "orders 인덱스 다시 설명해줘", 10_000);
+
+        assertThat(history).extracting(ConsultationAiRequest.ConversationMessage::getContent).containsExactly(
+                "orders 테이블 인덱스는 어떻게 잡나요?", "orders.user_key와 created_at 복합 인덱스를 권장합니다.",
+                "users 이메일에 unique를 걸까요?", "네, 부분 유니크 인덱스를 권장합니다.",
+                "created_at 타입은요?", "TIMESTAMPTZ를 사용하세요.");
+        assertThat(history).extracting(ConsultationAiRequest.ConversationMessage::getRole)
+                .containsExactly("user", "assistant", "user", "assistant", "user", "assistant");
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘는 턴은 제외하고 긴 메시지는 잘라서 전송")
+    void respectsTokenBudget() {
+        properties.setMessageMaxTokens(100);
+        List<ConsultationMessage> messages = conversation(
+                "첫 질문", "가".repeat(500),
+                "두번째 질문", "짧은 답변");
+
+        List<ConsultationAiRequest.ConversationMessage> tight = builder.selectHistory(messages, "질문", 20);
+        assertThat(tight).extracting(ConsultationAiRequest.ConversationMessage::getContent)
+                .containsExactly("두번째 질문", "짧은 답변");
+
+        List<ConsultationAiRequest.ConversationMessage> roomy = builder.selectHistory(messages, "질문", 1_000);
+        String truncated = roomy.get(1).getContent();
+        assertThat(truncated).endsWith("…");
+        assertThat(ConsultationContextBuilder.estimateTokens(truncated)).isLessThanOrEqualTo(100);
+        int total = roomy.stream().mapToInt(m -> ConsultationContextBuilder.estimateTokens(m.getContent())).sum();
+        assertThat(total).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("AI 서버 제한(20개)을 넘는 메시지는 보내지 않음")
+    void capsMessageCount() {
+        properties.setRecentTurns(30);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            texts.add("질문 " + i);
+            texts.add("답변 " + i);
+        }
+        List<ConsultationAiRequest.ConversationMessage> history =
+                builder.selectHistory(conversation(texts.toArray(String[]::new)), "질문", 100_000);
+
+        assertThat(history).hasSize(20);
+        assertThat(history.get(history.size() - 1).getContent()).isEqualTo("답변 29");
+    }
+
+    @Test
+    @DisplayName("ERD 요약: 테이블당 한 줄, 관계는 이름으로, 예산 초과 시 생략 표시")
+    void summarizesErd() {
+        Map<String, Object> schema = Map.of(
+                "tables", List.of(
+                        Map.of("tableKey", 1, "physicalName", "users", "columns", List.of(
+                                Map.of("columnKey", 11, "physicalName", "user_key", "dataType", "BIGINT", "isPrimaryKey", true),
+                                Map.of("columnKey", 12, "physicalName", "email", "dataType", "VARCHAR"))),
+                        Map.of("tableKey", 2, "logicalName", "주문", "columns", List.of(
+                                Map.of("columnKey", 21, "physicalName", "user_key", "dataType", "BIGINT")))),
+                "relations", List.of(
+                        Map.of("fromTableKey", 2, "fromColumnKey", 21, "toTableKey", 1, "toColumnKey", 11)));
+
+        assertThat(ConsultationContextBuilder.summarizeErd(schema, 1_000)).isEqualTo("""
+                users(user_key BIGINT PK, email VARCHAR)
+                주문(user_key BIGINT)
+                주문.user_key -> users.user_key""");
+        assertThat(ConsultationContextBuilder.summarizeErd(schema, 12)).startsWith("users(")
+                .endsWith("(2줄 생략)");
+        assertThat(ConsultationContextBuilder.summarizeErd(Map.of(), 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스키마 사본: 필요한 필드만 남기고 예산을 넘는 테이블과 그 관계는 생략")
+    @SuppressWarnings("unchecked")
+    void compactsSchemaData() {
+        List<Map<String, Object>> tables = new ArrayList<>();
+        for (int t = 1; t <= 50; t++) {
+            tables.add(Map.of("tableKey", t, "physicalName", "table_" + t, "xPosition", 120.5, "colorHex", "#FFFFFF",
+                    "columns", List.of(Map.of("columnKey", t * 10, "physicalName", "id", "dataType", "BIGINT",
+                            "isPrimaryKey", true, "comment", "x".repeat(200)))));
+        }
+        Map<String, Object> schema = Map.of("tables", tables, "relations", List.of(
+                Map.of("fromTableKey", 2, "fromColumnKey", 20, "toTableKey", 1, "toColumnKey", 10),
+                Map.of("fromTableKey", 50, "fromColumnKey", 500, "toTableKey", 1, "toColumnKey", 10)));
+
+        Map<String, Object> compact = ConsultationContextBuilder.compactSchema(schema, 200);
+
+        List<Map<String, Object>> kept = (List<Map<String, Object>>) compact.get("tables");
+        assertThat(kept).isNotEmpty().hasSizeLessThan(50);
+        assertThat(compact.get("omittedTables")).isEqualTo(50 - kept.size());
+        assertThat(kept.get(0)).containsOnlyKeys("tableKey", "physicalName", "columns");
+        assertThat((List<?>) compact.get("relations")).hasSize(1);
+        assertThat(ConsultationContextBuilder.estimateTokens(String.valueOf(compact))).isLessThanOrEqualTo(220);
+        assertThat(ConsultationContextBuilder.compactSchema(schema, 100_000)).doesNotContainKey("omittedTables");
+    }
+
+    @Test
+    @DisplayName("요약 이후 메시지만 후보로 조회하고 방금 저장한 질문은 제외")
+    void buildsFromMessagesAfterSummary() {
+        List<ConsultationMessage> messages = conversation("orders 질문", "orders 답변", "orders 다시");
+        when(summaryRepository.findById(1L)).thenReturn(Optional.of(ConsultationSummary.builder()
+                .projectKey(1L).summary("- Q: 예전 질문 / A: 예전 답변").summarizedUntilKey(100L).build()));
+        when(messageRepository.findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyDesc(eq(1L), eq(100L), any()))
+                .thenReturn(new ArrayList<>(messages.reversed()));
+
+        ConsultationContext context = builder.build(1L, messages.get(2).getMessageKey(), "orders 다시",
+                Map.of("tables", List.of(Map.of("physicalName", "orders"))));
+
+        assertThat(context.conversationSummary()).isEqualTo("- Q: 예전 질문 / A: 예전 답변");
+        assertThat(context.erdSummary()).isEqualTo("orders()");
+        assertThat(context.history()).extracting(ConsultationAiRequest.ConversationMessage::getContent)
+                .containsExactly("orders 질문", "orders 답변");
+        assertThat(context.estimatedTokens()).isLessThanOrEqualTo(properties.getContextMaxTokens());
+    }
+
+    /**
+     * 질문/답변을 번갈아 가며 메시지 생성 (message_key 101부터)
+     */
+    static List<ConsultationMessage> conversation(String... texts) {
+        List<ConsultationMessage> messages = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            messages.add(ConsultationMessage.builder()
+                    .messageKey(101L + i)
+                    .projectKey(1L)
+                    .role(i % 2 == 0 ? ConsultationMessageRole.USER : ConsultationMessageRole.ASSISTANT)
+                    .message(texts[i])
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,253 @@
+package com.yaldi.domain.consultation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.consultation.StubConsultationAiServer;
+import com.yaldi.domain.consultation.client.ConsultationAiClient;
+import com.yaldi.domain.consultation.config.ConsultationProperties;
+import com.yaldi.domain.consultation.controller.ConsultationController;
+import com.yaldi.domain.consultation.entity.ConsultationMessage;
+import com.yaldi.domain.consultation.entity.ConsultationMessageRole;
+import com.yaldi.domain.consultation.repository.ConsultationMessageRepository;
+import com.yaldi.domain.consultation.repository.ConsultationSummaryRepository;
+import com.yaldi.domain.consultation.validator.ConsultationValidator;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 스트리밍 상담 API 테스트 (컨트롤러 → 서비스 → 실제 WebClient → 로컬 스텁 AI 서버)
+ */
+class ConsultationStreamServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<ConsultationMessage> saved = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong(100);
+    private volatile boolean failAssistantSave;
+
+    private StubConsultationAiServer aiServer;
+    private ThreadPoolTaskExecutor aiExecutor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        aiServer = StubConsultationAiServer.start();
+
+        ConsultationMessageRepository messageRepository = mock(ConsultationMessageRepository.class);
+        when(messageRepository.save(any(ConsultationMessage.class))).thenAnswer(inv -> {
+            ConsultationMessage message = inv.getArgument(0);
+            if (failAssistantSave && message.getRole() == ConsultationMessageRole.ASSISTANT) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            ReflectionTestUtils.setField(message, "messageKey", sequence.incrementAndGet());
+            saved.add(message);
+            return message;
+        });
+        when(messageRepository.findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyDesc(any(), anyLong(), any(Pageable.class)))
+                .thenAnswer(inv -> saved.stream()
+                        .sorted(Comparator.comparing(ConsultationMessage::getMessageKey).reversed())
+                        .toList());
+        ConsultationSummaryRepository summaryRepository = mock(ConsultationSummaryRepository.class);
+        when(summaryRepository.findById(any())).thenReturn(Optional.empty());
+
+        ConsultationProperties properties = new ConsultationProperties();
+        ConsultationValidator validator = mock(ConsultationValidator.class);
+        ConsultationAiClient client = new ConsultationAiClient(aiServer.url(), 5_000, OBJECT_MAPPER);
+        ConsultationService consultationService = new ConsultationService(messageRepository, validator, client,
+                new ConsultationContextBuilder(messageRepository, summaryRepository, properties),
+                new ConsultationSummaryService(messageRepository, summaryRepository, properties));
+
+        aiExecutor = new ThreadPoolTaskExecutor();
+        aiExecutor.setCorePoolSize(2);
+        aiExecutor.initialize();
+        ConsultationStreamService streamService =
+                new ConsultationStreamService(consultationService, validator, client, properties, aiExecutor);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConsultationController(consultationService, streamService)).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("7", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        aiExecutor.shutdown();
+        aiServer.close();
+    }
+
+    @Test
+    @DisplayName("토큰을 SSE로 중계하고 완료 시 답변을 저장, 이전 대화는 컨텍스트로 전달")
+    void streamsTokensAndPersistsAnswer() throws Exception {
+        saved.add(message(ConsultationMessageRole.USER, "orders 인덱스 추천해줘"));
+        saved.add(message(ConsultationMessageRole.ASSISTANT, "orders.user_key 인덱스를 권장합니다."));
+        aiServer.streaming(List.of("복합 ", "인덱스를 ", "추천합니다."), 30);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/consultation/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(requestBody("orders 인덱스를 더 자세히")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBodyContaining(result, "event:done");
+        assertThat(eventNames(body)).containsExactly("accepted", "token", "token", "token", "done");
+
+        ConsultationMessage answer = saved.get(saved.size() - 1);
+        assertThat(answer.getRole()).isEqualTo(ConsultationMessageRole.ASSISTANT);
+        assertThat(answer.getMessage()).isEqualTo("복합 인덱스를 추천합니다.");
+        assertThat(answer.getAgentsUsed()).containsExactly("IndexStrategyExpert");
+
+        JsonNode aiRequest = OBJECT_MAPPER.readTree(aiServer.requestBodies().get(0));
+        assertThat(aiRequest.path("conversation_history")).hasSize(2);
+        assertThat(aiRequest.path("conversation_history").get(0).path("content").asText()).isEqualTo("orders 인덱스 추천해줘");
+        assertThat(aiRequest.path("erd_summary").asText()).isEqualTo("orders(user_key BIGINT)");
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊기면 AI 서버 요청을 취소하고 답변은 저장하지 않음")
+    void cancelsUpstreamOnClientDisconnect() throws Exception {
+        aiServer.streaming(IntStream.range(0, 200).mapToObj(i -> "t" + i + " ").toList(), 20);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/consultation/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody("긴 답변 부탁")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitBodyContaining(result, "event:token");
+
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : new ArrayList<>(asyncContext.getListeners())) {
+            listener.onError(new AsyncEvent(asyncContext, new java.io.IOException("Broken pipe")));
+        }
+
+        assertThat(aiServer.awaitClientDisconnect(5_000)).isTrue();
+        Thread.sleep(200);
+        assertThat(saved).extracting(ConsultationMessage::getRole).containsExactly(ConsultationMessageRole.USER);
+    }
+
+    @Test
+    @DisplayName("AI 서버 오류는 error 이벤트로 전달")
+    void relaysUpstreamError() throws Exception {
+        aiServer.failingWith("LLM quota exceeded");
+
+        MvcResult result = mockMvc.perform(post("/api/v1/consultation/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody("질문")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBodyContaining(result, "AI4903");
+        assertThat(eventNames(body)).startsWith("accepted").endsWith("error");
+        assertThat(saved).extracting(ConsultationMessage::getRole).containsExactly(ConsultationMessageRole.USER);
+    }
+
+    @Test
+    @DisplayName("답변 저장이 실패하면 error 이벤트를 보내고 응답을 완료")
+    void relaysAssistantSaveFailure() throws Exception {
+        failAssistantSave = true;
+        aiServer.streaming(List.of("복합 ", "인덱스를 ", "추천합니다."), 10);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/consultation/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody("질문")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBodyContaining(result, "AI4903");
+        assertThat(eventNames(body)).startsWith("accepted").endsWith("error").doesNotContain("done");
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (asyncContext.getDispatchedPath() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(asyncContext.getDispatchedPath()).as("emitter completed").isNotNull();
+    }
+
+    @Test
+    @DisplayName("AI 서버로 보내는 스키마는 필요한 필드만 담은 사본")
+    void sendsCompactedSchemaData() throws Exception {
+        aiServer.streaming(List.of("답변"), 0);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/consultation/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(OBJECT_MAPPER.writeValueAsString(Map.of(
+                                "projectKey", 1,
+                                "message", "질문",
+                                "schemaData", Map.of("tables", List.of(Map.of("physicalName", "orders",
+                                        "xPosition", 100, "colorHex", "#FFFFFF", "columns", List.of())))))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitBodyContaining(result, "event:done");
+
+        JsonNode schema = OBJECT_MAPPER.readTree(aiServer.requestBodies().get(0)).path("schema_data");
+        assertThat(schema.path("tables").get(0).has("physicalName")).isTrue();
+        assertThat(schema.path("tables").get(0).has("xPosition")).isFalse();
+        assertThat(schema.has("omittedTables")).isFalse();
+    }
+
+    private ConsultationMessage message(ConsultationMessageRole role, String text) {
+        return ConsultationMessage.builder()
+                .messageKey(sequence.incrementAndGet())
+                .projectKey(1L)
+                .role(role)
+                .message(text)
+                .build();
+    }
+
+    private String requestBody(String message) throws Exception {
+        return OBJECT_MAPPER.writeValueAsString(Map.of(
+                "projectKey", 1,
+                "message", message,
+                "schemaData", Map.of("tables", List.of(Map.of("physicalName", "orders", "columns",
+                        List.of(Map.of("physicalName", "user_key", "dataType", "BIGINT")))))));
+    }
+
+    private static String awaitBodyContaining(MvcResult result, String text) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(text) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(text);
+        return body;
+    }
+
+    private static List<String> eventNames(String body) {
+        return body.lines()
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()))
+                .toList();
+    }
+}
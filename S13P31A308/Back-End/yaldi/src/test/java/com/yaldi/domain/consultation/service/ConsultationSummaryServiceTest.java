@@ -0,0 +1,79 @@
+package com.yaldi.domain.consultation.service;
+
+import com.yaldi.domain.consultation.config.ConsultationProperties;
+import com.yaldi.domain.consultation.entity.ConsultationMessage;
+import com.yaldi.domain.consultation.entity.ConsultationSummary;
+import com.yaldi.domain.consultation.repository.ConsultationMessageRepository;
+import com.yaldi.domain.consultation.repository.ConsultationSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConsultationSummaryServiceTest {
+
+    private final ConsultationMessageRepository messageRepository = mock(ConsultationMessageRepository.class);
+    private final ConsultationSummaryRepository summaryRepository = mock(ConsultationSummaryRepository.class);
+    private final ConsultationProperties properties = new ConsultationProperties();
+    private final ConsultationSummaryService service =
+            new ConsultationSummaryService(messageRepository, summaryRepository, properties);
+
+    @Test
+    @DisplayName("임계치 이하이면 요약하지 않음")
+    void skipsBelowThreshold() {
+        when(summaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(messageRepository.countByProjectKeyAndMessageKeyGreaterThan(1L, 0L)).thenReturn(40L);
+
+        assertThat(service.summarizeIfNeeded(1L)).isZero();
+        verify(summaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("최근 메시지만 남기고 오래된 턴을 요약에 누적, 질문만 잘려 들어가지 않음")
+    void foldsOldestTurns() {
+        properties.setSummarizeThreshold(4);
+        properties.setKeepUnsummarized(2);
+        List<ConsultationMessage> messages = ConsultationContextBuilderTest.conversation(
+                "orders PK는? 추가 설명 부탁", "BIGINT 대리키를 권장합니다. 이유는 다음과 같습니다.",
+                "인덱스는?", "user_key에 인덱스를 추가하세요.",
+                "마지막 질문", "마지막 답변");
+        when(summaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(messageRepository.countByProjectKeyAndMessageKeyGreaterThan(1L, 0L)).thenReturn(5L);
+        // 요약 대상 3개 중 마지막이 질문이면 다음 요약으로 미룸
+        when(messageRepository.findByProjectKeyAndMessageKeyGreaterThanOrderByMessageKeyAsc(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(new ArrayList<>(messages.subList(0, 3)));
+
+        assertThat(service.summarizeIfNeeded(1L)).isEqualTo(2);
+
+        ArgumentCaptor<ConsultationSummary> saved = ArgumentCaptor.forClass(ConsultationSummary.class);
+        verify(summaryRepository).save(saved.capture());
+        assertThat(saved.getValue().getSummary()).isEqualTo("- Q: orders PK는? / A: BIGINT 대리키를 권장합니다.");
+        assertThat(saved.getValue().getSummarizedUntilKey()).isEqualTo(messages.get(1).getMessageKey());
+        assertThat(saved.getValue().getSummarizedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("누적 요약이 최대 길이를 넘으면 오래된 줄부터 제거")
+    void trimsOldestLines() {
+        ConsultationSummary summary = ConsultationSummary.builder()
+                .projectKey(1L).summary("- Q: 첫번째\n- Q: 두번째").summarizedUntilKey(10L).summarizedCount(4).build();
+
+        summary.append("- Q: 세번째", 20L, 2, 20);
+
+        assertThat(summary.getSummary()).isEqualTo("- Q: 두번째\n- Q: 세번째");
+        assertThat(summary.getSummarizedUntilKey()).isEqualTo(20L);
+        assertThat(summary.getSummarizedCount()).isEqualTo(6);
+    }
+}
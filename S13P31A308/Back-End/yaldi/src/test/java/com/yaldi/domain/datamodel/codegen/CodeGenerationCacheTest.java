@@ -0,0 +1,70 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CodeGenerationCacheTest {
+
+    @Test
+    @DisplayName("캐시 미스 시 삭제, 저장, TTL 설정을 한 트랜잭션(MULTI/EXEC)으로 실행한다")
+    @SuppressWarnings("unchecked")
+    void writesEntryInSingleTransaction() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> templateHash = mock(HashOperations.class);
+        RedisOperations<String, String> session = mock(RedisOperations.class);
+        HashOperations<String, Object, Object> sessionHash = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(templateHash);
+        when(templateHash.entries("datamodel:codegen:7")).thenReturn(Map.of());
+        when(session.<Object, Object>opsForHash()).thenReturn(sessionHash);
+        when(redisTemplate.execute(any(SessionCallback.class)))
+                .thenAnswer(invocation -> invocation.<SessionCallback<?>>getArgument(0).execute(session));
+
+        Map<String, String> code = new CodeGenerationCache(redisTemplate)
+                .getOrGenerate(7L, "hash-1", () -> Map.of("java", "class Users {}"));
+
+        assertThat(code).containsExactly(Map.entry("java", "class Users {}"));
+        InOrder order = inOrder(session, sessionHash);
+        order.verify(session).multi();
+        order.verify(session).delete("datamodel:codegen:7");
+        order.verify(sessionHash).putAll("datamodel:codegen:7", Map.of("java", "class Users {}", "_hash", "hash-1"));
+        order.verify(session).expire("datamodel:codegen:7", 24, TimeUnit.HOURS);
+        order.verify(session).exec();
+        verify(redisTemplate, never()).delete(anyString());
+        verify(templateHash, never()).putAll(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("해시가 같으면 생성기를 실행하지 않고 저장도 하지 않는다")
+    @SuppressWarnings("unchecked")
+    void returnsCachedCodeOnHashMatch() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> templateHash = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(templateHash);
+        when(templateHash.entries("datamodel:codegen:7"))
+                .thenReturn(Map.of("_hash", "hash-1", "java", "class Users {}"));
+
+        Map<String, String> code = new CodeGenerationCache(redisTemplate).getOrGenerate(7L, "hash-1", () -> {
+            throw new AssertionError("생성기가 실행되면 안 됨");
+        });
+
+        assertThat(code).containsExactly(Map.entry("java", "class Users {}"));
+        verify(redisTemplate, never()).execute(any(SessionCallback.class));
+    }
+}
@@ -0,0 +1,169 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 코드 생성기 골든 파일 테스트
+ *
+ * <p>생성기 출력이 바뀌면 골든 파일과 해당 생성기의 {@link CodeGenerator#version()}을 함께 갱신해야 합니다.
+ * 환경변수 CODEGEN_UPDATE_GOLDEN=true로 실행하면 골든 파일을 다시 씁니다.</p>
+ */
+class CodeGeneratorGoldenFileTest {
+
+    private static final Path GOLDEN_DIR = Path.of("src/test/resources/codegen/golden");
+
+    private static final ErdTable USERS = ErdTable.builder()
+            .tableKey(1L)
+            .projectKey(10L)
+            .logicalName("사용자")
+            .physicalName("users")
+            .build();
+
+    private static final ErdTable ORDERS = ErdTable.builder()
+            .tableKey(2L)
+            .projectKey(10L)
+            .logicalName("주문")
+            .physicalName("orders")
+            .build();
+
+    private static final List<ErdColumn> USER_COLUMNS = List.of(
+            ErdColumn.builder().columnKey(11L).tableKey(1L)
+                    .logicalName("사용자키").physicalName("user_key").dataType("BIGINT")
+                    .isNullable(false).isPrimaryKey(true).isIncremental(true).build(),
+            ErdColumn.builder().columnKey(12L).tableKey(1L)
+                    .logicalName("이메일").physicalName("email").dataType("VARCHAR").dataDetail(new String[]{"255"})
+                    .isNullable(false).isUnique(true).comment("로그인 ID").build(),
+            ErdColumn.builder().columnKey(13L).tableKey(1L)
+                    .logicalName("가입일시").physicalName("created_at").dataType("TIMESTAMPTZ")
+                    .isNullable(true).build()
+    );
+
+    private static final List<ErdColumn> DTO_COLUMNS = List.of(
+            USER_COLUMNS.get(1),
+            ErdColumn.builder().columnKey(21L).tableKey(2L)
+                    .logicalName("주문금액").physicalName("total_price").dataType("NUMERIC")
+                    .isNullable(false).build(),
+            ErdColumn.builder().columnKey(22L).tableKey(2L)
+                    .logicalName("결제여부").physicalName("is_paid").dataType("BOOLEAN")
+                    .isNullable(true).build()
+    );
+
+    private static final Map<Long, String> DTO_ALIASES = Map.of(12L, "email", 21L, "totalPrice", 22L, "isPaid");
+
+    private static final CodeGenModel USERS_ENTITY = CodeGenModelFactory.create(
+            "UsersEntity", DataModelType.ENTITY, USERS, USER_COLUMNS, Map.of(), Map.of());
+
+    private static final CodeGenModel ORDER_CREATE_REQUEST = CodeGenModelFactory.create(
+            "OrderCreateRequest", DataModelType.DTO_REQUEST, null, DTO_COLUMNS, DTO_ALIASES, Map.of());
+
+    private static final CodeGenModel ORDER_RESPONSE = CodeGenModelFactory.create(
+            "OrderResponse", DataModelType.DTO_RESPONSE, null, DTO_COLUMNS, DTO_ALIASES, Map.of());
+
+    @Test
+    @DisplayName("JavaEntityCodeGenerator 출력이 골든 파일과 일치")
+    void javaEntity() throws IOException {
+        assertGolden("UsersEntity.java.golden",
+                new JavaEntityCodeGenerator().generate(USERS_ENTITY));
+    }
+
+    @Test
+    @DisplayName("JavaDtoCodeGenerator(Request) 출력이 골든 파일과 일치")
+    void javaDtoRequest() throws IOException {
+        assertGolden("OrderCreateRequest.java.golden",
+                new JavaDtoCodeGenerator().generate(ORDER_CREATE_REQUEST));
+    }
+
+    @Test
+    @DisplayName("JavaDtoCodeGenerator(Response) 출력이 골든 파일과 일치")
+    void javaDtoResponse() throws IOException {
+        assertGolden("OrderResponse.java.golden",
+                new JavaDtoCodeGenerator().generate(ORDER_RESPONSE));
+    }
+
+    @Test
+    @DisplayName("TypeScriptInterfaceCodeGenerator(Entity) 출력이 골든 파일과 일치")
+    void typeScriptEntity() throws IOException {
+        assertGolden("UsersEntity.ts.golden",
+                new TypeScriptInterfaceCodeGenerator().generate(USERS_ENTITY));
+    }
+
+    @Test
+    @DisplayName("TypeScriptInterfaceCodeGenerator(DTO) 출력이 골든 파일과 일치")
+    void typeScriptDto() throws IOException {
+        assertGolden("OrderResponse.ts.golden",
+                new TypeScriptInterfaceCodeGenerator().generate(ORDER_RESPONSE));
+    }
+
+    @Test
+    @DisplayName("KotlinDataClassCodeGenerator 출력이 골든 파일과 일치")
+    void kotlinEntity() throws IOException {
+        assertGolden("UsersEntity.kt.golden", new KotlinDataClassCodeGenerator().generate(USERS_ENTITY));
+    }
+
+    @Test
+    @DisplayName("JavaRecordCodeGenerator 출력이 골든 파일과 일치")
+    void javaRecord() throws IOException {
+        assertGolden("UsersRecord.java.golden", new JavaRecordCodeGenerator().generate(USERS_ENTITY));
+    }
+
+    @Test
+    @DisplayName("OpenApiSchemaCodeGenerator 출력이 골든 파일과 일치")
+    void openApiEntity() throws IOException {
+        assertGolden("UsersEntity.yaml.golden", new OpenApiSchemaCodeGenerator().generate(USERS_ENTITY));
+    }
+
+    @Test
+    @DisplayName("ZodSchemaCodeGenerator 출력이 골든 파일과 일치")
+    void zodDto() throws IOException {
+        assertGolden("OrderResponse.schema.ts.golden", new ZodSchemaCodeGenerator().generate(ORDER_RESPONSE));
+    }
+
+    @Test
+    @DisplayName("콘텐츠 해시는 입력이 같으면 같고, 컬럼 메타데이터나 생성기 구성이 바뀌면 달라짐")
+    void contentHash() {
+        String fingerprint = "JavaEntityCodeGenerator@1";
+        String hash = CodeGenerationCache.computeHash(USERS_ENTITY, fingerprint);
+        assertThat(CodeGenerationCache.computeHash(
+                CodeGenModelFactory.create("UsersEntity", DataModelType.ENTITY, USERS, USER_COLUMNS, Map.of(), Map.of()),
+                fingerprint)).isEqualTo(hash);
+
+        ErdColumn renamed = ErdColumn.builder().columnKey(13L).tableKey(1L)
+                .logicalName("가입일시").physicalName("joined_at").dataType("TIMESTAMPTZ")
+                .isNullable(true).build();
+        List<ErdColumn> changed = List.of(USER_COLUMNS.get(0), USER_COLUMNS.get(1), renamed);
+        assertThat(CodeGenerationCache.computeHash(
+                CodeGenModelFactory.create("UsersEntity", DataModelType.ENTITY, USERS, changed, Map.of(), Map.of()),
+                fingerprint)).isNotEqualTo(hash);
+
+        ErdTable members = ErdTable.builder()
+                .tableKey(1L).projectKey(10L).logicalName("회원").physicalName("members").build();
+        assertThat(CodeGenerationCache.computeHash(
+                CodeGenModelFactory.create("UsersEntity", DataModelType.ENTITY, members, USER_COLUMNS, Map.of(), Map.of()),
+                fingerprint)).isNotEqualTo(hash);
+
+        assertThat(CodeGenerationCache.computeHash(USERS_ENTITY, fingerprint + ",KotlinDataClassCodeGenerator@1"))
+                .isNotEqualTo(hash);
+    }
+
+    private void assertGolden(String fileName, String actual) throws IOException {
+        Path golden = GOLDEN_DIR.resolve(fileName);
+        if (Boolean.parseBoolean(System.getenv("CODEGEN_UPDATE_GOLDEN"))) {
+            Files.createDirectories(GOLDEN_DIR);
+            Files.writeString(golden, actual, StandardCharsets.UTF_8);
+        }
+        assertThat(actual).isEqualTo(Files.readString(golden, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,219 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 코드 생성 target별 출력 검증 테스트
+ *
+ * <p>Java 출력은 테스트 클래스패스로 실제 컴파일하고(Entity는 Lombok 처리 포함), OpenAPI 출력은 YAML 파서로 읽어 구조를 확인합니다.
+ * Kotlin/Zod 컴파일러는 JVM 안에서 실행할 수 없어 생성 결과의 구조만 확인합니다.</p>
+ */
+class CodeGeneratorTargetsTest {
+
+    private static final ErdTable ORDERS = ErdTable.builder()
+            .tableKey(2L)
+            .projectKey(10L)
+            .logicalName("주문")
+            .physicalName("orders")
+            .build();
+
+    private static final List<ErdColumn> ORDER_COLUMNS = List.of(
+            ErdColumn.builder().columnKey(20L).tableKey(2L)
+                    .logicalName("주문키").physicalName("order_key").dataType("BIGINT")
+                    .isNullable(false).isPrimaryKey(true).isIncremental(true).build(),
+            ErdColumn.builder().columnKey(23L).tableKey(2L)
+                    .logicalName("주문자").physicalName("user_key").dataType("BIGINT")
+                    .isNullable(false).isForeignKey(true).build(),
+            ErdColumn.builder().columnKey(24L).tableKey(2L)
+                    .logicalName("메모").physicalName("memo").dataType("VARCHAR").dataDetail(new String[]{"100"})
+                    .isNullable(true).comment("배송 \"요청\" 사항").build(),
+            ErdColumn.builder().columnKey(25L).tableKey(2L)
+                    .logicalName("주문번호").physicalName("order_no").dataType("VARCHAR").dataDetail(new String[]{"20"})
+                    .isNullable(false).build()
+    );
+
+    private static final Map<Long, CodeGenField.Reference> REFERENCES =
+            Map.of(23L, new CodeGenField.Reference("users", "user_key"));
+
+    private static final CodeGenModel ORDERS_ENTITY = CodeGenModelFactory.create(
+            "OrdersEntity", DataModelType.ENTITY, ORDERS, ORDER_COLUMNS, Map.of(), REFERENCES);
+
+    private static final CodeGenModel ORDER_REQUEST = CodeGenModelFactory.create(
+            "OrderRequest", DataModelType.DTO_REQUEST, null, ORDER_COLUMNS, Map.of(), REFERENCES);
+
+    private static final String LOMBOK_PROCESSOR = "lombok.launch.AnnotationProcessorHider$AnnotationProcessor";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("JavaRecordCodeGenerator 출력은 컴파일되고 Bean Validation 어노테이션을 포함")
+    void javaRecordCompiles() throws IOException {
+        JavaRecordCodeGenerator generator = new JavaRecordCodeGenerator();
+        String code = generator.generate(ORDERS_ENTITY);
+
+        assertThat(generator.filePath(ORDERS_ENTITY)).isEqualTo("java/record/OrdersRecord.java");
+        assertThat(code)
+                .contains("public record OrdersRecord(")
+                .doesNotContain("@NotNull\n    Long orderKey")
+                .contains("@NotNull\n    Long userKey")
+                .contains("@Size(max = 100)\n    String memo")
+                .contains("@NotBlank\n    @Size(max = 20)\n    String orderNo");
+        assertCompiles("OrdersRecord", code);
+    }
+
+    @Test
+    @DisplayName("JavaEntityCodeGenerator 출력은 Lombok 처리까지 포함해 컴파일되고 생성된 빌더를 사용할 수 있음")
+    void javaEntityCompiles() throws IOException {
+        JavaEntityCodeGenerator generator = new JavaEntityCodeGenerator();
+        String code = generator.generate(ORDERS_ENTITY);
+
+        assertThat(generator.filePath(ORDERS_ENTITY)).isEqualTo("java/entity/OrdersEntity.java");
+        assertThat(code)
+                .contains("@Table(name = \"orders\")")
+                .contains("@GeneratedValue(strategy = GenerationType.IDENTITY)");
+        assertCompilesWithLombok(Map.of(
+                "OrdersEntity", code,
+                "OrdersEntityUsage", """
+                        package com.example.entity;
+
+                        class OrdersEntityUsage {
+                            String orderNo() {
+                                return OrdersEntity.builder().orderKey(1L).orderNo("A-1").build().getOrderNo();
+                            }
+                        }
+                        """));
+    }
+
+    @Test
+    @DisplayName("JavaDtoCodeGenerator 출력은 컴파일됨")
+    void javaDtoCompiles() throws IOException {
+        assertCompiles("OrderRequest", new JavaDtoCodeGenerator().generate(ORDER_REQUEST));
+    }
+
+    @Test
+    @DisplayName("OpenApiSchemaCodeGenerator 출력은 유효한 YAML이며 required/nullable/FK를 표현")
+    @SuppressWarnings("unchecked")
+    void openApiParses() {
+        String yaml = new OpenApiSchemaCodeGenerator().generate(ORDERS_ENTITY);
+
+        Map<String, Object> root = new Yaml().load(yaml);
+        Map<String, Object> schemas = (Map<String, Object>) ((Map<String, Object>) root.get("components")).get("schemas");
+        Map<String, Object> schema = (Map<String, Object>) schemas.get("OrdersEntity");
+        Map<String, Map<String, Object>> properties = (Map<String, Map<String, Object>>) schema.get("properties");
+
+        assertThat(schema.get("description")).isEqualTo("주문");
+        assertThat((List<String>) schema.get("required")).containsExactly("orderKey", "userKey", "orderNo");
+        assertThat(properties.get("orderKey"))
+                .containsEntry("type", "integer")
+                .containsEntry("format", "int64")
+                .containsEntry("readOnly", true);
+        assertThat(properties.get("userKey")).containsEntry("x-foreign-key", "users.user_key");
+        assertThat(properties.get("memo"))
+                .containsEntry("nullable", true)
+                .containsEntry("maxLength", 100)
+                .containsEntry("description", "메모 - 배송 \"요청\" 사항");
+    }
+
+    @Test
+    @DisplayName("KotlinDataClassCodeGenerator 출력은 NULL 허용 컬럼을 nullable 타입으로 선언")
+    void kotlinStructure() {
+        KotlinDataClassCodeGenerator generator = new KotlinDataClassCodeGenerator();
+        String code = generator.generate(ORDERS_ENTITY);
+
+        assertThat(generator.filePath(ORDERS_ENTITY)).endsWith("/OrdersEntity.kt");
+        assertThat(code)
+                .contains("data class OrdersEntity(")
+                .contains("val orderKey: Long,")
+                .contains("val memo: String? = null,")
+                .contains("(→ users.user_key)")
+                .doesNotContain(";");
+        assertThat(code.chars().filter(c -> c == '(').count())
+                .isEqualTo(code.chars().filter(c -> c == ')').count());
+    }
+
+    @Test
+    @DisplayName("ZodSchemaCodeGenerator 출력은 스키마와 추론 타입을 export")
+    void zodStructure() {
+        String code = new ZodSchemaCodeGenerator().generate(ORDER_REQUEST);
+
+        assertThat(code)
+                .startsWith("import { z } from 'zod';")
+                .contains("export const OrderRequestSchema = z.object({")
+                .contains("memo: z.string().max(100).nullish(),")
+                .contains("orderNo: z.string().max(20),")
+                .contains("export type OrderRequest = z.infer<typeof OrderRequestSchema>;");
+    }
+
+    @Test
+    @DisplayName("레지스트리는 모델 타입을 지원하는 생성기만 target 순으로 반환")
+    void registry() {
+        CodeGeneratorRegistry registry = new CodeGeneratorRegistry(List.of(
+                new TypeScriptInterfaceCodeGenerator(),
+                new JavaEntityCodeGenerator(),
+                new JavaDtoCodeGenerator(),
+                new JavaRecordCodeGenerator(),
+                new KotlinDataClassCodeGenerator()
+        ));
+
+        assertThat(registry.getGenerators(DataModelType.ENTITY))
+                .extracting(CodeGenerator::target)
+                .containsExactly("java", "javaRecord", "kotlin", "typescript");
+        assertThat(registry.getGenerators(DataModelType.DTO_RESPONSE))
+                .extracting(CodeGenerator::target)
+                .containsExactly("java", "kotlin", "typescript");
+        assertThat(registry.getGenerators(DataModelType.DTO_REQUEST))
+                .filteredOn(g -> g.capabilities().contains(CodeGeneratorCapability.BEAN_VALIDATION))
+                .hasSize(1);
+        assertThat(registry.fingerprint()).contains(JavaRecordCodeGenerator.class.getName() + "@");
+    }
+
+    private void assertCompiles(String className, String source) throws IOException {
+        compile(Map.of(className, source), "-proc:none");
+    }
+
+    /**
+     * Lombok 어노테이션 프로세서를 실행해 컴파일 (테스트 런타임 클래스패스의 Lombok 사용)
+     */
+    private void assertCompilesWithLombok(Map<String, String> sources) throws IOException {
+        String classPath = System.getProperty("java.class.path");
+        compile(sources, "-processorpath", classPath, "-processor", LOMBOK_PROCESSOR);
+    }
+
+    private void compile(Map<String, String> sources, String... options) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(options));
+        arguments.addAll(List.of(
+                "-encoding", "UTF-8",  // Files.writeString은 UTF-8로 저장
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", tempDir.resolve("classes").toString()));
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = tempDir.resolve(source.getKey() + ".java");
+            Files.writeString(file, source.getValue());
+            arguments.add(file.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors, arguments.toArray(String[]::new));
+
+        assertThat(result).as(errors.toString()).isZero();
+    }
+}
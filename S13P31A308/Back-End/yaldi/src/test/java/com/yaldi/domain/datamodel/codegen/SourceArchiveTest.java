@@ -0,0 +1,62 @@
+package com.yaldi.domain.datamodel.codegen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourceArchiveTest {
+
+    @Test
+    @DisplayName("상위 경로/절대 경로/역슬래시/예약 문자는 안전한 상대 경로로 정규화한다")
+    void normalizesUnsafeEntryNames() {
+        assertThat(SourceArchive.entryName("../../etc/passwd")).isEqualTo("etc/passwd");
+        assertThat(SourceArchive.entryName("/java/entity/UsersEntity.java")).isEqualTo("java/entity/UsersEntity.java");
+        assertThat(SourceArchive.entryName("java\\..\\..\\Users.java")).isEqualTo("java/Users.java");
+        assertThat(SourceArchive.entryName("C:\\temp\\./a?b.ts")).isEqualTo("C_/temp/a_b.ts");
+        assertThat(SourceArchive.entryName("..")).isEqualTo("unnamed");
+        assertThat(SourceArchive.entryName(null)).isEqualTo("unnamed");
+    }
+
+    @Test
+    @DisplayName("정규화 후 겹치는 이름은 대소문자를 무시하고 확장자 앞에 번호를 붙인다")
+    void deduplicatesCollidingEntries() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SourceArchive archive = new SourceArchive(bytes)) {
+            assertThat(archive.add("java/entity/Users.java", "a")).isEqualTo("java/entity/Users.java");
+            assertThat(archive.add("java/entity/../entity/Users.java", "b")).isEqualTo("java/entity/entity/Users.java");
+            assertThat(archive.add("/java/entity/users.java", "c")).isEqualTo("java/entity/users-2.java");
+            assertThat(archive.add("java\\entity\\Users.java", "d")).isEqualTo("java/entity/Users-3.java");
+            assertThat(archive.add("typescript/v1.0/Users", "e")).isEqualTo("typescript/v1.0/Users");
+            assertThat(archive.add("typescript/v1.0/Users", "f")).isEqualTo("typescript/v1.0/Users-2");
+        }
+
+        assertThat(readEntries(bytes.toByteArray())).containsExactly(
+                Map.entry("java/entity/Users.java", "a"),
+                Map.entry("java/entity/entity/Users.java", "b"),
+                Map.entry("java/entity/users-2.java", "c"),
+                Map.entry("java/entity/Users-3.java", "d"),
+                Map.entry("typescript/v1.0/Users", "e"),
+                Map.entry("typescript/v1.0/Users-2", "f"));
+    }
+
+    private static Map<String, String> readEntries(byte[] zipBytes) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipBytes), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
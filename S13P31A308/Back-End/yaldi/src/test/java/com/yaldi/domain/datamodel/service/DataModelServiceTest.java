@@ -0,0 +1,108 @@
+package com.yaldi.domain.datamodel.service;
+
+import com.yaldi.domain.datamodel.codegen.CodeGenerationCache;
+import com.yaldi.domain.datamodel.codegen.CodeGeneratorRegistry;
+import com.yaldi.domain.datamodel.codegen.ProjectSources;
+import com.yaldi.domain.datamodel.codegen.SourceArchive;
+import com.yaldi.domain.datamodel.codegen.TypeScriptInterfaceCodeGenerator;
+import com.yaldi.domain.datamodel.entity.DataModel;
+import com.yaldi.domain.datamodel.entity.DataModelErdColumnRelation;
+import com.yaldi.domain.datamodel.entity.DataModelType;
+import com.yaldi.domain.datamodel.repository.DataModelErdColumnRelationRepository;
+import com.yaldi.domain.datamodel.repository.DataModelRepository;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdTable;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.domain.project.service.ProjectAccessValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DataModelServiceTest {
+
+    private static final OffsetDateTime SYNCED_AT = OffsetDateTime.parse("2025-01-02T00:00:00Z");
+
+    @Test
+    @DisplayName("프로젝트 코드는 기록 시점에 모델별로 생성하고, INVALID 모델은 상세 조회처럼 캐시를 비우고 캐싱하지 않는다")
+    @SuppressWarnings("unchecked")
+    void generatesProjectSourcesLazilyWithInvalidEviction() throws IOException {
+        DataModelRepository dataModelRepository = mock(DataModelRepository.class);
+        DataModelErdColumnRelationRepository relationRepository = mock(DataModelErdColumnRelationRepository.class);
+        ErdTableRepository tableRepository = mock(ErdTableRepository.class);
+        ErdColumnRepository columnRepository = mock(ErdColumnRepository.class);
+        CodeGenerationCache cache = mock(CodeGenerationCache.class);
+        when(cache.getOrGenerate(anyLong(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Map<String, String>>>getArgument(2).get());
+
+        DataModelService service = new DataModelService(dataModelRepository, relationRepository,
+                tableRepository, columnRepository, mock(ErdRelationRepository.class),
+                mock(ProjectAccessValidator.class), cache,
+                new CodeGeneratorRegistry(List.of(new TypeScriptInterfaceCodeGenerator())));
+
+        DataModel orders = DataModel.builder().modelKey(1L).projectKey(10L).name("OrderResponse")
+                .type(DataModelType.DTO_RESPONSE).lastSyncedAt(SYNCED_AT).build();
+        DataModel users = DataModel.builder().modelKey(2L).projectKey(10L).name("UserResponse")
+                .type(DataModelType.DTO_RESPONSE).lastSyncedAt(SYNCED_AT).build();
+        when(dataModelRepository.findAllByProjectKey(10L)).thenReturn(List.of(users, orders));
+        when(relationRepository.findByModelKeyIn(any())).thenReturn(List.of(
+                DataModelErdColumnRelation.builder().modelKey(1L).columnKey(20L).build(),
+                DataModelErdColumnRelation.builder().modelKey(2L).columnKey(30L).build(),
+                DataModelErdColumnRelation.builder().modelKey(2L).columnKey(99L).build()));  // 99: 삭제된 컬럼
+        when(columnRepository.findAllById(any())).thenReturn(List.of(
+                ErdColumn.builder().columnKey(20L).tableKey(2L).logicalName("주문키").physicalName("order_key")
+                        .dataType("BIGINT").isNullable(false).isPrimaryKey(true).build(),
+                ErdColumn.builder().columnKey(30L).tableKey(3L).logicalName("사용자키").physicalName("user_key")
+                        .dataType("BIGINT").isNullable(false).isPrimaryKey(true).build()));
+        when(tableRepository.findAllById(any())).thenReturn(List.of(
+                ErdTable.builder().tableKey(2L).projectKey(10L).logicalName("주문").physicalName("orders").build(),
+                ErdTable.builder().tableKey(3L).projectKey(10L).logicalName("사용자").physicalName("users").build()));
+
+        ProjectSources sources = service.generateProjectSources(1, 10L);
+        verifyNoInteractions(cache);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SourceArchive archive = new SourceArchive(bytes)) {
+            sources.writeTo(archive);
+        }
+
+        assertThat(entryNames(bytes.toByteArray()))
+                .containsExactly("typescript/OrderResponse.ts", "typescript/UserResponse.ts");
+        verify(cache).getOrGenerate(eq(1L), anyString(), any());
+        verify(cache).evict(2L);
+        verify(cache, never()).getOrGenerate(eq(2L), anyString(), any());
+    }
+
+    private static List<String> entryNames(byte[] zipBytes) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipBytes))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
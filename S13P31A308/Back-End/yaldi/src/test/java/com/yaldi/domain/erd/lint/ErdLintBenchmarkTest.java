@@ -0,0 +1,59 @@
+package com.yaldi.domain.erd.lint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1,000 테이블 ERD 전체 검사와 단일 변경 증분 검사 비교
+ *
+ * <p>실행 시간은 CI 환경마다 달라 단언하지 않고, 증분 검사가 다시 검사하는 테이블 수와 전체 검사와의 결과 일치로 확인합니다.</p>
+ */
+class ErdLintBenchmarkTest {
+
+    private static final int TABLES = 1_000;
+    private static final int COLUMNS_PER_TABLE = 12;
+    private static final int ITERATIONS = 20;
+
+    private final ErdLintEngine engine = LintFixture.engine(new ErdLintProperties());
+
+    @Test
+    @DisplayName("1,000 테이블 ERD에서 단일 컬럼 변경의 증분 검사는 이웃 테이블만 다시 검사한다")
+    void incrementalLintOnLargeErd() {
+        LintFixture fixture = largeErd();
+        LintSchema schema = fixture.build();
+        LintReport report = engine.lint(schema);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long tableKey = 1 + (i * 37L) % TABLES;
+            long columnKey = tableKey * 100 + 3;
+            LintSchema next = fixture.changeColumn(columnKey, i % 2 == 0 ? "createdAt" : "created_at",
+                    "TIMESTAMP", false).build();
+
+            report = engine.relint(schema, report, next);
+
+            assertThat(report.evaluatedTables()).isLessThanOrEqualTo(3);
+            assertThat(report.issuesByTable()).isEqualTo(engine.lint(next).issuesByTable());
+            schema = next;
+        }
+    }
+
+    /**
+     * 테이블 t는 PK(t*100+1), FK(t*100+2)로 t-1 테이블을 참조하는 사슬 (컬럼 키 t*100+c)
+     */
+    private static LintFixture largeErd() {
+        LintFixture fixture = LintFixture.create();
+        for (long t = 1; t <= TABLES; t++) {
+            fixture.table(t, "table_" + t).pk(t * 100 + 1, t, "table_" + t + "_id", "BIGINT");
+            fixture.fk(t * 100 + 2, t, "parent_id", "BIGINT");
+            for (int c = 3; c <= COLUMNS_PER_TABLE; c++) {
+                fixture.column(t * 100 + c, t, "column_" + c, "VARCHAR");
+            }
+            if (t > 1) {
+                fixture.relation(t, (t - 1) * 100 + 1, t * 100 + 2);
+            }
+        }
+        return fixture;
+    }
+}
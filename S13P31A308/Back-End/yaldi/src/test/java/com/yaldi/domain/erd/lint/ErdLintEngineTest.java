@@ -0,0 +1,129 @@
+package com.yaldi.domain.erd.lint;
+
+import com.yaldi.domain.erd.lint.rule.MissingPrimaryKeyRule;
+import com.yaldi.domain.erd.lint.rule.OrphanTableRule;
+import com.yaldi.domain.erd.lint.rule.UnindexedForeignKeyRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErdLintEngineTest {
+
+    private static final List<String> TABLE_NAMES = List.of("member", "order", "OrderItem", "user", "payment");
+    private static final List<String> COLUMN_NAMES = List.of("id", "name", "createdAt", "key", "status", "member_id");
+    private static final List<String> DATA_TYPES = List.of("BIGINT", "INTEGER", "VARCHAR");
+
+    private final ErdLintEngine engine = LintFixture.engine(new ErdLintProperties());
+
+    @Test
+    @DisplayName("설정으로 규칙을 끄거나 심각도를 바꿀 수 있다")
+    void propertiesOverrideRules() {
+        ErdLintProperties properties = new ErdLintProperties();
+        properties.setDisabledRules(Set.of(OrphanTableRule.CODE));
+        properties.setSeverities(Map.of(UnindexedForeignKeyRule.CODE, LintSeverity.ERROR));
+        LintSchema schema = LintFixture.create()
+                .table(1, "member").pk(11, 1, "member_id", "BIGINT")
+                .table(2, "orders").fk(21, 2, "member_id", "BIGINT")
+                .table(3, "setting")
+                .relation(100, 11, 21)
+                .build();
+
+        LintReport report = LintFixture.engine(properties).lint(schema);
+
+        assertThat(report.issues()).extracting(LintIssue::ruleCode)
+                .doesNotContain(OrphanTableRule.CODE)
+                .contains(MissingPrimaryKeyRule.CODE, UnindexedForeignKeyRule.CODE);
+        assertThat(report.issues()).filteredOn(issue -> issue.ruleCode().equals(UnindexedForeignKeyRule.CODE))
+                .extracting(LintIssue::severity)
+                .containsOnly(LintSeverity.ERROR);
+    }
+
+    @Test
+    @DisplayName("부모 컬럼 타입이 바뀌면 바뀌지 않은 자식 테이블도 다시 검사한다")
+    void relintRevisitsNeighbors() {
+        LintFixture fixture = LintFixture.create()
+                .table(1, "member").pk(11, 1, "member_id", "BIGINT")
+                .table(2, "orders").pk(21, 2, "order_id", "BIGINT").fk(22, 2, "member_id", "BIGINT")
+                .table(3, "item").pk(31, 3, "item_id", "BIGINT").fk(32, 3, "order_id", "BIGINT")
+                .relation(100, 11, 22)
+                .relation(101, 21, 32);
+        LintSchema before = fixture.build();
+        LintReport previous = engine.lint(before);
+
+        LintSchema after = fixture.changeColumn(11, "member_id", "VARCHAR", true).build();
+        LintReport report = engine.relint(before, previous, after);
+
+        assertThat(report.evaluatedTables()).isEqualTo(2);
+        assertThat(report.issuesNotIn(previous)).singleElement().satisfies(issue -> {
+            assertThat(issue.tableKey()).isEqualTo(2L);
+            assertThat(issue.columnKey()).isEqualTo(22L);
+        });
+        assertThat(report.issuesByTable()).isEqualTo(engine.lint(after).issuesByTable());
+    }
+
+    @Test
+    @DisplayName("무작위 편집마다 증분 검사 결과가 전체 검사 결과와 같다")
+    void relintMatchesFullLint() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            LintFixture fixture = LintFixture.create();
+            long nextKey = 1;
+            LintSchema schema = fixture.build();
+            LintReport report = engine.lint(schema);
+
+            for (int step = 0; step < 200; step++) {
+                nextKey = mutate(fixture, random, nextKey);
+                LintSchema next = fixture.build();
+                report = engine.relint(schema, report, next);
+                schema = next;
+
+                assertThat(report.issuesByTable()).as("seed=%d step=%d", seed, step)
+                        .isEqualTo(engine.lint(schema).issuesByTable());
+            }
+        }
+    }
+
+    private static long mutate(LintFixture fixture, Random random, long nextKey) {
+        List<Long> tables = fixture.tableKeys();
+        List<Long> columns = fixture.columnKeys();
+        List<Long> relations = fixture.relationKeys();
+        int kind = random.nextInt(100);
+
+        if (kind < 15 || tables.isEmpty()) {
+            fixture.table(nextKey, pick(random, TABLE_NAMES));
+        } else if (kind < 40) {
+            long tableKey = pick(random, tables);
+            if (random.nextBoolean()) {
+                fixture.pk(nextKey, tableKey, pick(random, COLUMN_NAMES), pick(random, DATA_TYPES));
+            } else {
+                fixture.fk(nextKey, tableKey, pick(random, COLUMN_NAMES), pick(random, DATA_TYPES));
+            }
+        } else if (kind < 55 && columns.size() >= 2) {
+            fixture.relation(nextKey, pick(random, columns), pick(random, columns));
+        } else if (kind < 70 && !columns.isEmpty()) {
+            long columnKey = pick(random, columns);
+            fixture.changeColumn(columnKey, pick(random, COLUMN_NAMES), pick(random, DATA_TYPES),
+                    random.nextBoolean());
+        } else if (kind < 78) {
+            fixture.renameTable(pick(random, tables), pick(random, TABLE_NAMES));
+        } else if (kind < 85 && !columns.isEmpty()) {
+            long columnKey = pick(random, columns);
+            fixture.deleteColumn(columnKey);
+        } else if (kind < 93 && !relations.isEmpty()) {
+            fixture.deleteRelation(pick(random, relations));
+        } else {
+            fixture.deleteTable(pick(random, tables));
+        }
+        return nextKey + 1;
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
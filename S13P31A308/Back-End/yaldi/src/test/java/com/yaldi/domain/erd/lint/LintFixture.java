@@ -0,0 +1,129 @@
+package com.yaldi.domain.erd.lint;
+
+import com.yaldi.domain.erd.lint.rule.ForeignKeyTypeMismatchRule;
+import com.yaldi.domain.erd.lint.rule.MissingPrimaryKeyRule;
+import com.yaldi.domain.erd.lint.rule.NamingConventionRule;
+import com.yaldi.domain.erd.lint.rule.OrphanTableRule;
+import com.yaldi.domain.erd.lint.rule.ReservedWordRule;
+import com.yaldi.domain.erd.lint.rule.UnindexedForeignKeyRule;
+import com.yaldi.domain.erd.lint.rule.WideTableRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 린트 테스트용 ERD 모델 (변경 가능, {@link #build()}로 스냅샷 생성)
+ */
+public final class LintFixture {
+
+    private final TreeMap<Long, LintSchema.Table> tables = new TreeMap<>();
+    private final TreeMap<Long, LintSchema.Column> columns = new TreeMap<>();
+    private final TreeMap<Long, LintSchema.Relation> relations = new TreeMap<>();
+
+    public static LintFixture create() {
+        return new LintFixture();
+    }
+
+    /**
+     * 모든 규칙을 등록한 엔진
+     */
+    public static ErdLintEngine engine(ErdLintProperties properties) {
+        return new ErdLintEngine(List.of(
+                new MissingPrimaryKeyRule(),
+                new ForeignKeyTypeMismatchRule(),
+                new UnindexedForeignKeyRule(),
+                new ReservedWordRule(properties),
+                new NamingConventionRule(),
+                new WideTableRule(properties),
+                new OrphanTableRule()), properties);
+    }
+
+    public LintFixture table(long tableKey, String physicalName) {
+        tables.put(tableKey, new LintSchema.Table(tableKey, physicalName, physicalName));
+        return this;
+    }
+
+    public LintFixture pk(long columnKey, long tableKey, String name, String dataType) {
+        return put(columnKey, tableKey, name, dataType, true, false, false);
+    }
+
+    public LintFixture column(long columnKey, long tableKey, String name, String dataType) {
+        return put(columnKey, tableKey, name, dataType, false, false, false);
+    }
+
+    public LintFixture fk(long columnKey, long tableKey, String name, String dataType) {
+        return put(columnKey, tableKey, name, dataType, false, true, false);
+    }
+
+    public LintFixture uniqueFk(long columnKey, long tableKey, String name, String dataType) {
+        return put(columnKey, tableKey, name, dataType, false, true, true);
+    }
+
+    /**
+     * 부모 fromColumn → 자식 toColumn
+     */
+    public LintFixture relation(long relationKey, long fromColumnKey, long toColumnKey) {
+        relations.put(relationKey, new LintSchema.Relation(relationKey,
+                columns.get(fromColumnKey).tableKey(), fromColumnKey,
+                columns.get(toColumnKey).tableKey(), toColumnKey));
+        return this;
+    }
+
+    public LintFixture renameTable(long tableKey, String physicalName) {
+        return table(tableKey, physicalName);
+    }
+
+    public LintFixture changeColumn(long columnKey, String name, String dataType, boolean primaryKey) {
+        LintSchema.Column column = columns.get(columnKey);
+        columns.put(columnKey, new LintSchema.Column(columnKey, column.tableKey(), name, dataType,
+                column.dataDetail(), primaryKey, column.foreignKey(), column.unique(), column.columnOrder()));
+        return this;
+    }
+
+    /** 테이블 삭제 (DB 트리거처럼 컬럼과 관계도 함께 삭제) */
+    public LintFixture deleteTable(long tableKey) {
+        tables.remove(tableKey);
+        columns.values().removeIf(column -> column.tableKey() == tableKey);
+        relations.values().removeIf(relation -> relation.fromTableKey() == tableKey || relation.toTableKey() == tableKey);
+        return this;
+    }
+
+    public LintFixture deleteColumn(long columnKey) {
+        columns.remove(columnKey);
+        return this;
+    }
+
+    public LintFixture deleteRelation(long relationKey) {
+        relations.remove(relationKey);
+        return this;
+    }
+
+    public List<Long> tableKeys() {
+        return new ArrayList<>(tables.keySet());
+    }
+
+    public List<Long> columnKeys() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    public List<Long> relationKeys() {
+        return new ArrayList<>(relations.keySet());
+    }
+
+    public LintSchema.Column columnOf(long columnKey) {
+        return columns.get(columnKey);
+    }
+
+    public LintSchema build() {
+        return LintSchema.of(tables.values(), columns.values(), relations.values());
+    }
+
+    private LintFixture put(long columnKey, long tableKey, String name, String dataType,
+                            boolean primaryKey, boolean foreignKey, boolean unique) {
+        int order = (int) columns.values().stream().filter(column -> column.tableKey() == tableKey).count();
+        columns.put(columnKey, new LintSchema.Column(columnKey, tableKey, name, dataType, List.of(),
+                primaryKey, foreignKey, unique, order));
+        return this;
+    }
+}
@@ -0,0 +1,209 @@
+package com.yaldi.domain.erd.lint.rule;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+import com.yaldi.domain.erd.lint.ErdLintProperties;
+import com.yaldi.domain.erd.lint.ErdLintRule;
+import com.yaldi.domain.erd.lint.LintFinding;
+import com.yaldi.domain.erd.lint.LintFixture;
+import com.yaldi.domain.erd.lint.LintSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErdLintRulesTest {
+
+    /**
+     * member(1) ← orders(2) 관계가 있는 기본 모델 (위반 없음)
+     */
+    private static LintFixture base() {
+        return LintFixture.create()
+                .table(1, "member")
+                .pk(11, 1, "member_id", "BIGINT")
+                .column(12, 1, "email", "VARCHAR")
+                .table(2, "orders")
+                .pk(21, 2, "order_id", "BIGINT")
+                .fk(22, 2, "member_id", "BIGINT")
+                .relation(100, 11, 22);
+    }
+
+    private static List<LintFinding> check(ErdLintRule rule, LintFixture fixture, long tableKey) {
+        LintSchema schema = fixture.build();
+        LintSchema.Table table = schema.tables().stream()
+                .filter(candidate -> candidate.tableKey() == tableKey)
+                .findFirst()
+                .orElseThrow();
+        return rule.check(schema, table);
+    }
+
+    @Nested
+    class MissingPrimaryKey {
+
+        private final MissingPrimaryKeyRule rule = new MissingPrimaryKeyRule();
+
+        @Test
+        @DisplayName("PK 컬럼이 없는 테이블을 보고한다")
+        void reportsTableWithoutPrimaryKey() {
+            LintFixture fixture = base().table(3, "audit_log").column(31, 3, "message", "TEXT");
+
+            assertThat(check(rule, fixture, 3)).singleElement()
+                    .satisfies(finding -> assertThat(finding.columnKey()).isNull());
+            assertThat(check(rule, fixture, 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("컬럼이 하나도 없는 테이블도 PK 누락이다")
+        void emptyTableHasNoPrimaryKey() {
+            assertThat(check(rule, base().table(3, "draft"), 3)).hasSize(1);
+        }
+    }
+
+    @Nested
+    class ForeignKeyTypeMismatch {
+
+        private final ForeignKeyTypeMismatchRule rule = new ForeignKeyTypeMismatchRule();
+
+        @Test
+        @DisplayName("자식 FK 타입이 부모 컬럼과 다르면 자식 테이블에 부모 타입을 제안한다")
+        void reportsMismatchOnChild() {
+            LintFixture fixture = base().changeColumn(22, "member_id", "INTEGER", false);
+
+            assertThat(check(rule, fixture, 2)).singleElement().satisfies(finding -> {
+                assertThat(finding.columnKey()).isEqualTo(22L);
+                assertThat(finding.suggestion()).isEqualTo("BIGINT");
+            });
+            assertThat(check(rule, fixture, 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("대소문자만 다른 타입은 같은 타입이다")
+        void typeComparisonIgnoresCase() {
+            LintFixture fixture = base().changeColumn(22, "member_id", "bigint", false);
+
+            assertThat(check(rule, fixture, 2)).isEmpty();
+        }
+    }
+
+    @Nested
+    class UnindexedForeignKey {
+
+        private final UnindexedForeignKeyRule rule = new UnindexedForeignKeyRule();
+
+        @Test
+        @DisplayName("PK 첫 컬럼도 UNIQUE도 아닌 FK 컬럼에 인덱스 DDL을 제안한다")
+        void reportsPlainForeignKey() {
+            assertThat(check(rule, base(), 2)).singleElement().satisfies(finding -> {
+                assertThat(finding.columnKey()).isEqualTo(22L);
+                assertThat(finding.suggestion()).isEqualTo("CREATE INDEX idx_orders_member_id ON orders (member_id);");
+            });
+        }
+
+        @Test
+        @DisplayName("UNIQUE FK와 PK 첫 컬럼인 FK는 인덱스가 있는 것으로 본다")
+        void uniqueOrLeadingPrimaryKeyIsIndexed() {
+            LintFixture fixture = base()
+                    .table(3, "member_profile")
+                    .uniqueFk(31, 3, "member_id", "BIGINT")
+                    .relation(101, 11, 31)
+                    .table(4, "member_role")
+                    .pk(41, 4, "member_id", "BIGINT")
+                    .pk(42, 4, "role_id", "BIGINT")
+                    .relation(102, 11, 41);
+
+            assertThat(check(rule, fixture, 3)).isEmpty();
+            assertThat(check(rule, fixture, 4)).isEmpty();
+        }
+    }
+
+    @Nested
+    class ReservedWord {
+
+        @Test
+        @DisplayName("예약어인 테이블/컬럼 이름을 해당 DBMS와 함께 보고한다")
+        void reportsReservedIdentifiers() {
+            ReservedWordRule rule = new ReservedWordRule(new ErdLintProperties());
+            LintFixture fixture = base().renameTable(2, "order").column(23, 2, "key", "VARCHAR");
+
+            List<LintFinding> findings = check(rule, fixture, 2);
+
+            assertThat(findings).hasSize(2);
+            assertThat(findings.get(0).columnKey()).isNull();
+            assertThat(findings.get(0).message()).contains("PostgreSQL, MySQL");
+            assertThat(findings.get(0).suggestion()).isEqualTo("orders");
+            assertThat(findings.get(1).columnKey()).isEqualTo(23L);
+            assertThat(findings.get(1).message()).contains("MySQL").doesNotContain("PostgreSQL");
+        }
+
+        @Test
+        @DisplayName("검사 DBMS를 지정하면 다른 DBMS 예약어는 보고하지 않는다")
+        void onlyConfiguredDialects() {
+            ErdLintProperties properties = new ErdLintProperties();
+            properties.setDialects(List.of(SqlDialect.POSTGRESQL));
+            ReservedWordRule rule = new ReservedWordRule(properties);
+
+            assertThat(check(rule, base().column(13, 1, "key", "VARCHAR"), 1)).isEmpty();
+            assertThat(check(rule, base().column(13, 1, "user", "VARCHAR"), 1)).hasSize(1);
+        }
+    }
+
+    @Nested
+    class NamingConvention {
+
+        private final NamingConventionRule rule = new NamingConventionRule();
+
+        @Test
+        @DisplayName("snake_case가 아닌 이름에 snake_case 이름을 제안한다")
+        void suggestsSnakeCase() {
+            LintFixture fixture = base().renameTable(2, "OrderItem").column(23, 2, "createdAt", "TIMESTAMP");
+
+            List<LintFinding> findings = check(rule, fixture, 2);
+
+            assertThat(findings).extracting(LintFinding::suggestion).containsExactly("order_item", "created_at");
+        }
+
+        @Test
+        @DisplayName("코드 생성 시 같은 필드명이 되는 컬럼을 보고한다")
+        void reportsFieldNameCollision() {
+            LintFixture fixture = base().column(13, 1, "member__id", "BIGINT");
+
+            assertThat(check(rule, fixture, 1)).extracting(LintFinding::message)
+                    .anySatisfy(message -> assertThat(message).contains("memberId"));
+            assertThat(check(rule, base(), 1)).isEmpty();
+        }
+    }
+
+    @Nested
+    class WideTable {
+
+        @Test
+        @DisplayName("컬럼 수가 기준을 넘을 때만 보고한다")
+        void reportsOnlyAboveThreshold() {
+            ErdLintProperties properties = new ErdLintProperties();
+            properties.setWideTableColumns(3);
+            WideTableRule rule = new WideTableRule(properties);
+
+            assertThat(check(rule, base().column(23, 2, "status", "VARCHAR"), 2)).isEmpty();
+            assertThat(check(rule, base().column(23, 2, "status", "VARCHAR").column(24, 2, "memo", "TEXT"), 2))
+                    .hasSize(1);
+        }
+    }
+
+    @Nested
+    class OrphanTable {
+
+        private final OrphanTableRule rule = new OrphanTableRule();
+
+        @Test
+        @DisplayName("관계가 없는 테이블을 보고하되 테이블이 하나뿐이면 보고하지 않는다")
+        void reportsUnrelatedTable() {
+            LintFixture fixture = base().table(3, "setting").pk(31, 3, "setting_id", "BIGINT");
+
+            assertThat(check(rule, fixture, 3)).hasSize(1);
+            assertThat(check(rule, fixture, 1)).isEmpty();
+            assertThat(check(rule, LintFixture.create().table(1, "member"), 1)).isEmpty();
+        }
+    }
+}
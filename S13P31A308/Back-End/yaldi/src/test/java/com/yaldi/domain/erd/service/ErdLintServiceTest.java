@@ -0,0 +1,115 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.entity.ErdRelation;
+import com.yaldi.domain.erd.entity.ErdTable;
+import com.yaldi.domain.erd.lint.ErdLintEngine;
+import com.yaldi.domain.erd.lint.ErdLintProperties;
+import com.yaldi.domain.erd.lint.LintFixture;
+import com.yaldi.domain.erd.lint.LintSchema;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ErdLintServiceTest {
+
+    private static final Long PROJECT_KEY = 10L;
+
+    private static final ErdTable USERS = table(1L, "users");
+    private static final ErdTable ORDERS = table(2L, "orders");
+    private static final ErdColumn USER_KEY = column(11L, 1L, "user_key", "BIGINT", true, false);
+    private static final ErdColumn ORDER_KEY = column(21L, 2L, "order_key", "BIGINT", true, false);
+    private static final ErdColumn ORDER_USER_KEY = column(22L, 2L, "user_key", "BIGINT", false, true);
+    private static final ErdRelation USERS_ORDERS = ErdRelation.builder().relationKey(100L).projectKey(PROJECT_KEY)
+            .fromTableKey(1L).fromColumnKey(11L).toTableKey(2L).toColumnKey(22L).build();
+
+    private final ErdTableRepository tableRepository = mock(ErdTableRepository.class);
+    private final ErdColumnRepository columnRepository = mock(ErdColumnRepository.class);
+    private final ErdRelationRepository relationRepository = mock(ErdRelationRepository.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final ErdLintEngine engine = LintFixture.engine(new ErdLintProperties());
+    private final ErdLintService service = new ErdLintService(tableRepository, columnRepository, relationRepository,
+            engine, new ErdLintProperties(), redisTemplate);
+
+    @Test
+    @DisplayName("변경이 표시된 테이블만 다시 읽어도 결과는 전체 검사와 같다")
+    void relintReloadsOnlyChangedTables() {
+        stubProject(List.of(USERS, ORDERS), List.of(USER_KEY, ORDER_KEY, ORDER_USER_KEY), List.of(USERS_ORDERS));
+        service.evaluateForBroadcast(PROJECT_KEY);
+        clearInvocations(tableRepository, columnRepository, relationRepository);
+
+        // orders의 FK 타입만 바뀜
+        ErdColumn changedFk = column(22L, 2L, "user_key", "INTEGER", false, true);
+        when(tableRepository.findByProjectKeyAndTableKeyIn(eq(PROJECT_KEY), any())).thenReturn(List.of(ORDERS));
+        when(columnRepository.findByTableKeyIn(any())).thenReturn(List.of(ORDER_KEY, changedFk));
+        when(relationRepository.findByProjectKeyAndTableKeyIn(eq(PROJECT_KEY), any())).thenReturn(List.of(USERS_ORDERS));
+        service.markChanged(PROJECT_KEY, Set.of(2L));
+
+        ErdLintService.LintResult result = service.evaluateForBroadcast(PROJECT_KEY);
+
+        verify(tableRepository, never()).findByProjectKey(any());
+        verify(columnRepository, never()).findByProjectKey(any());
+        verify(relationRepository, never()).findByProjectKey(any());
+        verify(columnRepository).findByTableKeyIn(Set.of(2L));
+        verify(redisTemplate).convertAndSend(ErdLintService.CHANGE_CHANNEL, "10:2");
+        assertThat(result.report().issues()).isEqualTo(engine.lint(LintSchema.from(
+                List.of(USERS, ORDERS), List.of(USER_KEY, ORDER_KEY, changedFk), List.of(USERS_ORDERS))).issues());
+        assertThat(result.added()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 표시가 없으면 DB를 읽지 않고, 범위를 모르는 원격 변경은 전체를 다시 읽는다")
+    void skipsLoadWithoutChangesAndReloadsAllOnUnscopedChange() {
+        stubProject(List.of(USERS, ORDERS), List.of(USER_KEY, ORDER_KEY, ORDER_USER_KEY), List.of(USERS_ORDERS));
+        service.getLint(PROJECT_KEY);
+        clearInvocations(tableRepository, columnRepository, relationRepository);
+
+        service.getLint(PROJECT_KEY);
+        verifyNoInteractions(tableRepository, columnRepository, relationRepository);
+
+        // 다른 노드에서 orders 삭제 (롤백 등 범위를 모르는 변경)
+        stubProject(List.of(USERS), List.of(USER_KEY), List.of());
+        service.onChange("10:*");
+
+        ErdLintService.LintResult result = service.evaluateForBroadcast(PROJECT_KEY);
+
+        verify(tableRepository).findByProjectKey(PROJECT_KEY);
+        verify(columnRepository).findByProjectKey(PROJECT_KEY);
+        verify(relationRepository).findByProjectKey(PROJECT_KEY);
+        assertThat(result.report().issues()).isEqualTo(engine.lint(LintSchema.from(
+                List.of(USERS), List.of(USER_KEY), List.of())).issues());
+    }
+
+    private void stubProject(List<ErdTable> tables, List<ErdColumn> columns, List<ErdRelation> relations) {
+        when(tableRepository.findByProjectKey(PROJECT_KEY)).thenReturn(tables);
+        when(columnRepository.findByProjectKey(PROJECT_KEY)).thenReturn(columns);
+        when(relationRepository.findByProjectKey(PROJECT_KEY)).thenReturn(relations);
+    }
+
+    private static ErdTable table(Long tableKey, String name) {
+        return ErdTable.builder().tableKey(tableKey).projectKey(PROJECT_KEY).logicalName(name).physicalName(name).build();
+    }
+
+    private static ErdColumn column(Long columnKey, Long tableKey, String name, String dataType,
+                                    boolean primaryKey, boolean foreignKey) {
+        return ErdColumn.builder().columnKey(columnKey).tableKey(tableKey).logicalName(name).physicalName(name)
+                .dataType(dataType).isPrimaryKey(primaryKey).isForeignKey(foreignKey).build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.yaldi.domain.erd.sync;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErdOperationEngineTest {
+
+    private InMemoryErdDocument document;
+    private InMemoryErdOperationLog log;
+
+    @BeforeEach
+    void setUp() {
+        document = InMemoryErdDocument.sample(2, 2);
+        log = new InMemoryErdOperationLog();
+    }
+
+    @Test
+    @DisplayName("같은 작업 재전송은 다시 적용하지 않고 처음 응답을 돌려준다")
+    void resubmissionIsIdempotent() {
+        ErdOperation rename = op("a", 1, 0, ErdOperationType.UPDATE_TABLE, 1L, Map.of("logicalName", "회원"));
+
+        ErdOperationAck first = submit(rename);
+        ErdOperationAck second = submit(rename);
+
+        assertThat(first.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(first.revision()).isEqualTo(1);
+        assertThat(second.duplicate()).isTrue();
+        assertThat(second.asDuplicate()).isEqualTo(first.asDuplicate());
+        assertThat(log.revision()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 컬럼 필드의 동시 수정은 모두 남고, 같은 필드는 나중 작업이 이긴다")
+    void columnFieldsMergeAndSameFieldIsLastWriterWins() {
+        submit(op("a", 1, 0, ErdOperationType.UPDATE_COLUMN, 101L, Map.of("comment", "A 설명", "dataType", "TEXT")));
+        ErdOperationAck ack = submit(op("b", 1, 0, ErdOperationType.UPDATE_COLUMN, 101L,
+                Map.of("comment", "B 설명", "isNullable", false)));
+
+        assertThat(ack.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(ack.overwrittenFields()).containsExactly("comment");
+        assertThat(document.column(101L))
+                .containsEntry("comment", "B 설명")
+                .containsEntry("dataType", "TEXT")
+                .containsEntry("isNullable", false);
+    }
+
+    @Test
+    @DisplayName("위치는 마지막 작업이 이기고 덮어쓴 사실을 알린다")
+    void positionIsLastWriterWins() {
+        submit(op("a", 1, 0, ErdOperationType.MOVE_TABLE, 1L, Map.of("xPosition", 10, "yPosition", 20)));
+        ErdOperationAck ack = submit(op("b", 1, 0, ErdOperationType.MOVE_TABLE, 1L,
+                Map.of("xPosition", 30.5, "yPosition", "40")));
+
+        assertThat(ack.overwrittenFields()).containsExactly("xPosition", "yPosition");
+        assertThat(document.table(1L))
+                .containsEntry("xPosition", new BigDecimal("30.50"))
+                .containsEntry("yPosition", new BigDecimal("40.00"));
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트의 이전 작업은 동시 작업으로 보지 않는다")
+    void ownOperationsAreNotConcurrent() {
+        submit(op("a", 1, 0, ErdOperationType.UPDATE_COLUMN, 101L, Map.of("comment", "처음")));
+        ErdOperationAck update = submit(op("a", 2, 0, ErdOperationType.UPDATE_COLUMN, 101L, Map.of("comment", "수정")));
+        ErdOperationAck delete = submit(op("a", 3, 0, ErdOperationType.DELETE_COLUMN, 101L, Map.of()));
+
+        assertThat(update.overwrittenFields()).isEmpty();
+        assertThat(delete.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+    }
+
+    @Test
+    @DisplayName("동시에 삭제된 테이블의 컬럼 수정은 TARGET_NOT_FOUND 충돌이다")
+    void editOnConcurrentlyDeletedTableConflicts() {
+        submit(op("a", 1, 0, ErdOperationType.DELETE_TABLE, 1L, Map.of()));
+        ErdOperationAck ack = submit(op("b", 1, 0, ErdOperationType.UPDATE_COLUMN, 101L, Map.of("comment", "오프라인 수정")));
+
+        assertThat(ack.outcome()).isEqualTo(ErdOperationOutcome.CONFLICT);
+        assertThat(ack.reason()).isEqualTo(ErdOperationReason.TARGET_NOT_FOUND);
+        assertThat(ack.revision()).isEqualTo(1);
+        assertThat(document.hasRelation(1001L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 수정된 테이블 삭제는 CONCURRENT_MODIFICATION 충돌이고, 단순 이동은 삭제를 막지 않는다")
+    void deleteOfConcurrentlyEditedTableConflicts() {
+        submit(op("a", 1, 0, ErdOperationType.UPDATE_COLUMN, 201L, Map.of("comment", "수정")));
+        submit(op("a", 2, 1, ErdOperationType.MOVE_TABLE, 1L, Map.of("xPosition", 1, "yPosition", 1)));
+
+        ErdOperationAck blocked = submit(op("b", 1, 0, ErdOperationType.DELETE_TABLE, 2L, Map.of()));
+        ErdOperationAck allowed = submit(op("b", 2, 0, ErdOperationType.DELETE_TABLE, 1L, Map.of()));
+        ErdOperationAck rebased = submit(op("b", 3, 2, ErdOperationType.DELETE_TABLE, 2L, Map.of()));
+
+        assertThat(blocked.outcome()).isEqualTo(ErdOperationOutcome.CONFLICT);
+        assertThat(blocked.reason()).isEqualTo(ErdOperationReason.CONCURRENT_MODIFICATION);
+        assertThat(allowed.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(rebased.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(document.tableKeys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 삭제된 대상 삭제는 리비전을 올리지 않는 NOOP이다")
+    void deletingMissingTargetIsNoop() {
+        submit(op("a", 1, 0, ErdOperationType.DELETE_RELATION, 1001L, Map.of()));
+        ErdOperationAck ack = submit(op("b", 1, 0, ErdOperationType.DELETE_RELATION, 1001L, Map.of()));
+
+        assertThat(ack.outcome()).isEqualTo(ErdOperationOutcome.NOOP);
+        assertThat(log.revision()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 Lock을 잡은 테이블의 이름/컬럼 수정과 삭제는 LOCKED 충돌이고 이동/색상은 적용된다")
+    void editsOnTableLockedByOtherConflict() {
+        document.lockByOther(1L);
+
+        ErdOperationAck rename = submit(op("a", 1, 0, ErdOperationType.UPDATE_TABLE, 1L, Map.of("logicalName", "회원")));
+        ErdOperationAck column = submit(op("a", 2, 0, ErdOperationType.UPDATE_COLUMN, 101L, Map.of("comment", "설명")));
+        ErdOperationAck delete = submit(op("a", 3, 0, ErdOperationType.DELETE_TABLE, 1L, Map.of()));
+        ErdOperationAck move = submit(op("a", 4, 0, ErdOperationType.MOVE_TABLE, 1L, Map.of("xPosition", 1, "yPosition", 2)));
+        ErdOperationAck color = submit(op("a", 5, 0, ErdOperationType.UPDATE_TABLE, 1L, Map.of("colorHex", "FF0000")));
+        ErdOperationAck unlocked = submit(op("a", 6, 0, ErdOperationType.UPDATE_TABLE, 2L, Map.of("logicalName", "주문")));
+
+        assertThat(rename.outcome()).isEqualTo(ErdOperationOutcome.CONFLICT);
+        assertThat(rename.reason()).isEqualTo(ErdOperationReason.LOCKED);
+        assertThat(column.reason()).isEqualTo(ErdOperationReason.LOCKED);
+        assertThat(delete.reason()).isEqualTo(ErdOperationReason.LOCKED);
+        assertThat(move.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(color.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(unlocked.outcome()).isEqualTo(ErdOperationOutcome.APPLIED);
+        assertThat(document.table(1L)).containsEntry("logicalName", "테이블1");
+        assertThat(document.column(101L)).containsEntry("comment", null);
+        assertThat(log.revision()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("잘못된 필드, 앞선 기준 리비전, 순서가 뒤바뀐 시퀀스는 거부한다")
+    void invalidOperationsAreRejected() {
+        ErdOperationAck unknownField = submit(op("a", 1, 0, ErdOperationType.UPDATE_TABLE, 1L, Map.of("owner", "x")));
+        ErdOperationAck badName = submit(op("a", 2, 0, ErdOperationType.UPDATE_TABLE, 1L, Map.of("physicalName", "1abc")));
+        ErdOperationAck future = submit(op("a", 3, 5, ErdOperationType.DELETE_TABLE, 1L, Map.of()));
+        submit(op("b", 5, 0, ErdOperationType.DELETE_RELATION, 1001L, Map.of()));
+        ErdOperationAck outOfOrder = submit(op("b", 4, 0, ErdOperationType.DELETE_TABLE, 1L, Map.of()));
+
+        assertThat(unknownField.reason()).isEqualTo(ErdOperationReason.INVALID_OPERATION);
+        assertThat(badName.reason()).isEqualTo(ErdOperationReason.INVALID_OPERATION);
+        assertThat(future.reason()).isEqualTo(ErdOperationReason.INVALID_BASE_REVISION);
+        assertThat(outOfOrder.reason()).isEqualTo(ErdOperationReason.OUT_OF_ORDER);
+        assertThat(document.hasTable(1L)).isTrue();
+    }
+
+    private ErdOperationAck submit(ErdOperation operation) {
+        return ErdOperationEngine.submit(operation, log, document);
+    }
+
+    private static ErdOperation op(String clientId, long seq, long baseRevision, ErdOperationType type,
+                                   Long targetKey, Map<String, Object> fields) {
+        return new ErdOperation(clientId, seq, baseRevision, type, targetKey, fields);
+    }
+}
@@ -0,0 +1,255 @@
+package com.yaldi.domain.erd.sync;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 클라이언트 여러 개가 무작위 순서로 편집/오프라인/재전송/수신하는 결정적 시뮬레이션
+ *
+ * <p>클라이언트는 마지막으로 받은 리비전의 복제본을 보고 작업을 만들기 때문에 오프라인 동안 오래된 기준 리비전으로
+ * 편집하게 되고, 응답 유실 시 같은 작업을 다시 보냅니다. 모두 재연결해 대기 작업을 보내고 로그를 받으면
+ * 모든 복제본이 서버 상태와 같아야 합니다.</p>
+ */
+class ErdSyncSimulationTest {
+
+    private static final int CLIENTS = 4;
+    private static final int STEPS = 800;
+
+    private static final List<String> NAMES = List.of("member", "orders", "item", "payment");
+    private static final List<String> COMMENTS = List.of("PK", "생성일", "상태 코드", "외부 ID");
+    private static final List<String> COLORS = List.of("FF0000", "00FF00", "0000FF");
+    private static final List<String> DATA_TYPES = List.of("VARCHAR", "BIGINT", "TEXT", "TIMESTAMP");
+
+    @Test
+    @DisplayName("무작위 동시 편집/오프라인/응답 유실에도 모든 복제본이 서버 상태로 수렴한다")
+    void replicasConvergeAcrossSeeds() {
+        Map<ErdOperationOutcome, Integer> outcomes = new EnumMap<>(ErdOperationOutcome.class);
+        Map<ErdOperationReason, Integer> reasons = new EnumMap<>(ErdOperationReason.class);
+        int overwritten = 0;
+        int duplicates = 0;
+
+        for (long seed = 1; seed <= 20; seed++) {
+            Simulation simulation = new Simulation(seed);
+            simulation.run();
+            simulation.assertConverged();
+
+            for (InMemoryErdOperationLog.Entry entry : simulation.log.entries()) {
+                outcomes.merge(entry.ack().outcome(), 1, Integer::sum);
+                if (entry.ack().reason() != null) {
+                    reasons.merge(entry.ack().reason(), 1, Integer::sum);
+                }
+                if (!entry.ack().overwrittenFields().isEmpty()) {
+                    overwritten++;
+                }
+            }
+            duplicates += simulation.duplicates;
+        }
+
+        // 시뮬레이션이 모든 변환 규칙을 실제로 거치는지 확인
+        assertThat(outcomes.keySet()).containsExactlyInAnyOrder(ErdOperationOutcome.values());
+        assertThat(reasons).containsKeys(
+                ErdOperationReason.TARGET_NOT_FOUND,
+                ErdOperationReason.CONCURRENT_MODIFICATION,
+                ErdOperationReason.INVALID_OPERATION);
+        assertThat(overwritten).isPositive();
+        assertThat(duplicates).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 시드는 같은 작업 로그를 만든다")
+    void simulationIsDeterministic() {
+        Simulation first = new Simulation(42);
+        Simulation second = new Simulation(42);
+        first.run();
+        second.run();
+
+        assertThat(second.log.entries()).isEqualTo(first.log.entries());
+        assertThat(second.server).isEqualTo(first.server);
+    }
+
+    private static final class Simulation {
+
+        private final Random random;
+        private final InMemoryErdDocument initial = InMemoryErdDocument.sample(10, 5);
+        private final InMemoryErdDocument server = initial.copy();
+        private final InMemoryErdOperationLog log = new InMemoryErdOperationLog();
+        private final List<VirtualClient> clients = new ArrayList<>();
+        /** 서버가 처음 만든 응답 (클라이언트에 전달되지 않았어도 기록) */
+        private final Map<String, ErdOperationAck> firstAcks = new HashMap<>();
+        private int duplicates;
+
+        Simulation(long seed) {
+            this.random = new Random(seed);
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(new VirtualClient("client-" + i, initial.copy()));
+            }
+        }
+
+        void run() {
+            for (int step = 0; step < STEPS; step++) {
+                VirtualClient client = clients.get(random.nextInt(clients.size()));
+                int action = random.nextInt(100);
+                if (action < 35) {
+                    client.pending.add(client.nextOperation(random));
+                } else if (action < 65) {
+                    if (client.online) {
+                        send(client, random.nextInt(100) < 20);
+                    }
+                } else if (action < 88) {
+                    if (client.online) {
+                        client.pull(log, 1 + random.nextInt(8));
+                    }
+                } else {
+                    client.online = !client.online;
+                }
+            }
+
+            // 모두 재연결: 대기 작업 전송 후 남은 로그 수신
+            for (VirtualClient client : clients) {
+                client.online = true;
+                while (!client.pending.isEmpty()) {
+                    send(client, false);
+                }
+            }
+            for (VirtualClient client : clients) {
+                client.pull(log, Integer.MAX_VALUE);
+            }
+        }
+
+        private void send(VirtualClient client, boolean ackLost) {
+            ErdOperation operation = client.pending.peekFirst();
+            if (operation == null) {
+                return;
+            }
+            ErdOperationAck ack = ErdOperationEngine.submit(operation, log, server);
+            String key = operation.clientId() + ":" + operation.clientSeq();
+            if (ack.duplicate()) {
+                duplicates++;
+                assertThat(ack).isEqualTo(firstAcks.get(key).asDuplicate());
+            } else {
+                assertThat(firstAcks.put(key, ack)).isNull();
+            }
+            if (!ackLost) {
+                client.pending.pollFirst();
+            }
+        }
+
+        void assertConverged() {
+            for (VirtualClient client : clients) {
+                assertThat(client.pending).isEmpty();
+                assertThat(client.knownRevision).isEqualTo(log.revision());
+                assertThat(client.replica).as(client.clientId).isEqualTo(server);
+            }
+
+            // 전체 로그를 초기 상태에 다시 적용해도 같은 상태
+            InMemoryErdDocument replayed = initial.copy();
+            log.appliedAfter(0, Integer.MAX_VALUE).forEach(applied -> ErdOperationEngine.replay(applied, replayed));
+            assertThat(replayed).isEqualTo(server);
+
+            // 리비전은 1부터 빈틈없이 증가, 작업은 (clientId, clientSeq)당 한 번만 기록
+            List<ErdAppliedOperation> applied = log.appliedAfter(0, Integer.MAX_VALUE);
+            for (int i = 0; i < applied.size(); i++) {
+                assertThat(applied.get(i).revision()).isEqualTo(i + 1);
+            }
+            Map<String, Long> generated = new LinkedHashMap<>();
+            clients.forEach(client -> generated.put(client.clientId, client.nextSeq - 1));
+            for (InMemoryErdOperationLog.Entry entry : log.entries()) {
+                assertThat(entry.operation().clientSeq()).isLessThanOrEqualTo(generated.get(entry.operation().clientId()));
+            }
+            assertThat(log.entries()).hasSize(firstAcks.size());
+            assertThat((long) firstAcks.size()).isEqualTo(generated.values().stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    private static final class VirtualClient {
+
+        private final String clientId;
+        /** 마지막으로 받은 리비전까지 적용한 복제본 */
+        private final InMemoryErdDocument replica;
+        private final Deque<ErdOperation> pending = new ArrayDeque<>();
+        private long knownRevision;
+        private long nextSeq = 1;
+        private boolean online = true;
+
+        VirtualClient(String clientId, InMemoryErdDocument replica) {
+            this.clientId = clientId;
+            this.replica = replica;
+        }
+
+        void pull(InMemoryErdOperationLog log, int limit) {
+            for (ErdAppliedOperation applied : log.appliedAfter(knownRevision, limit)) {
+                assertThat(applied.revision()).isEqualTo(knownRevision + 1);
+                ErdOperationEngine.replay(applied, replica);
+                knownRevision = applied.revision();
+            }
+        }
+
+        ErdOperation nextOperation(Random random) {
+            List<Long> tables = replica.tableKeys();
+            List<Long> columns = replica.columnKeys();
+            List<Long> relations = replica.relationKeys();
+            int kind = random.nextInt(100);
+
+            if (kind < 3) {
+                return operation(ErdOperationType.UPDATE_TABLE, 1L, Map.of("owner", "unknown"));
+            }
+            if (kind < 33 && !tables.isEmpty()) {
+                return operation(ErdOperationType.MOVE_TABLE, pick(random, tables), Map.of(
+                        ErdOperationFields.X_POSITION, random.nextInt(2000) / 4.0,
+                        ErdOperationFields.Y_POSITION, random.nextInt(2000) / 4.0));
+            }
+            if (kind < 50 && !tables.isEmpty()) {
+                Map<String, Object> fields = new HashMap<>();
+                if (random.nextBoolean()) {
+                    fields.put("physicalName", pick(random, NAMES));
+                }
+                if (fields.isEmpty() || random.nextBoolean()) {
+                    fields.put("colorHex", random.nextInt(4) == 0 ? null : pick(random, COLORS));
+                }
+                return operation(ErdOperationType.UPDATE_TABLE, pick(random, tables), fields);
+            }
+            if (kind < 83 && !columns.isEmpty()) {
+                Map<String, Object> fields = new HashMap<>();
+                int count = 1 + random.nextInt(3);
+                for (int i = 0; i < count; i++) {
+                    switch (random.nextInt(5)) {
+                        case 0 -> fields.put("comment", pick(random, COMMENTS));
+                        case 1 -> fields.put("dataType", pick(random, DATA_TYPES));
+                        case 2 -> fields.put("dataDetail", random.nextBoolean() ? List.of("255") : null);
+                        case 3 -> fields.put("isNullable", random.nextBoolean());
+                        default -> fields.put("columnOrder", random.nextInt(5));
+                    }
+                }
+                return operation(ErdOperationType.UPDATE_COLUMN, pick(random, columns), fields);
+            }
+            if (kind < 90 && !columns.isEmpty()) {
+                return operation(ErdOperationType.DELETE_COLUMN, pick(random, columns), Map.of());
+            }
+            if (kind < 97 && !relations.isEmpty()) {
+                return operation(ErdOperationType.DELETE_RELATION, pick(random, relations), Map.of());
+            }
+            // 테이블이 모두 사라진 뒤에는 없는 대상 삭제(NOOP)가 됨
+            return operation(ErdOperationType.DELETE_TABLE, tables.isEmpty() ? 1L : pick(random, tables), Map.of());
+        }
+
+        private ErdOperation operation(ErdOperationType type, Long targetKey, Map<String, Object> fields) {
+            return new ErdOperation(clientId, nextSeq++, knownRevision, type, targetKey, fields);
+        }
+
+        private static <T> T pick(Random random, List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.yaldi.domain.erd.sync;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 메모리 ERD 복제본 (삭제는 제거, 테이블 삭제는 컬럼/관계까지 제거)
+ */
+final class InMemoryErdDocument implements ErdDocument {
+
+    private final TreeMap<Long, TreeMap<String, Object>> tables = new TreeMap<>();
+    private final TreeMap<Long, TreeMap<String, Object>> columns = new TreeMap<>();
+    private final TreeMap<Long, List<Long>> relations = new TreeMap<>();
+    private final Set<Long> lockedByOther = new HashSet<>();
+
+    /**
+     * 테이블 1..tableCount, 테이블마다 컬럼 (100 * t + c), 인접 테이블 관계 (1000 + t: t → t + 1)
+     */
+    static InMemoryErdDocument sample(int tableCount, int columnsPerTable) {
+        InMemoryErdDocument document = new InMemoryErdDocument();
+        for (long t = 1; t <= tableCount; t++) {
+            TreeMap<String, Object> table = new TreeMap<>();
+            table.put("logicalName", "테이블" + t);
+            table.put("physicalName", "table_" + t);
+            table.put("colorHex", null);
+            table.put(ErdOperationFields.X_POSITION, new BigDecimal("0.00"));
+            table.put(ErdOperationFields.Y_POSITION, new BigDecimal("0.00"));
+            document.tables.put(t, table);
+            for (int c = 1; c <= columnsPerTable; c++) {
+                TreeMap<String, Object> column = new TreeMap<>();
+                column.put("tableKey", t);
+                column.put("physicalName", "column_" + c);
+                column.put("dataType", "VARCHAR");
+                column.put("isNullable", true);
+                column.put("comment", null);
+                column.put("columnOrder", c);
+                document.columns.put(100 * t + c, column);
+            }
+            if (t < tableCount) {
+                document.relations.put(1000 + t, List.of(t, t + 1));
+            }
+        }
+        return document;
+    }
+
+    InMemoryErdDocument copy() {
+        InMemoryErdDocument copy = new InMemoryErdDocument();
+        tables.forEach((key, value) -> copy.tables.put(key, new TreeMap<>(value)));
+        columns.forEach((key, value) -> copy.columns.put(key, new TreeMap<>(value)));
+        copy.relations.putAll(relations);
+        return copy;
+    }
+
+    List<Long> tableKeys() {
+        return new ArrayList<>(tables.keySet());
+    }
+
+    List<Long> columnKeys() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    List<Long> relationKeys() {
+        return new ArrayList<>(relations.keySet());
+    }
+
+    /**
+     * 다른 사용자가 테이블 Lock을 잡은 상태로 설정
+     */
+    void lockByOther(Long tableKey) {
+        lockedByOther.add(tableKey);
+    }
+
+    Map<String, Object> table(Long tableKey) {
+        return tables.get(tableKey);
+    }
+
+    Map<String, Object> column(Long columnKey) {
+        return columns.get(columnKey);
+    }
+
+    @Override
+    public boolean hasTable(Long tableKey) {
+        return tables.containsKey(tableKey);
+    }
+
+    @Override
+    public Optional<Long> tableOfColumn(Long columnKey) {
+        return Optional.ofNullable(columns.get(columnKey)).map(column -> (Long) column.get("tableKey"));
+    }
+
+    @Override
+    public boolean hasRelation(Long relationKey) {
+        return relations.containsKey(relationKey);
+    }
+
+    @Override
+    public boolean isLockedByOther(Long tableKey) {
+        return lockedByOther.contains(tableKey);
+    }
+
+    @Override
+    public void moveTable(Long tableKey, BigDecimal xPosition, BigDecimal yPosition) {
+        TreeMap<String, Object> table = require(tables, tableKey);
+        table.put(ErdOperationFields.X_POSITION, xPosition);
+        table.put(ErdOperationFields.Y_POSITION, yPosition);
+    }
+
+    @Override
+    public void updateTable(Long tableKey, Map<String, Object> fields) {
+        require(tables, tableKey).putAll(fields);
+    }
+
+    @Override
+    public void updateColumn(Long columnKey, Map<String, Object> fields) {
+        require(columns, columnKey).putAll(fields);
+    }
+
+    @Override
+    public void deleteTable(Long tableKey) {
+        require(tables, tableKey);
+        tables.remove(tableKey);
+        columns.values().removeIf(column -> column.get("tableKey").equals(tableKey));
+        relations.values().removeIf(relation -> relation.contains(tableKey));
+    }
+
+    @Override
+    public void deleteColumn(Long columnKey) {
+        require(columns, columnKey);
+        columns.remove(columnKey);
+    }
+
+    @Override
+    public void deleteRelation(Long relationKey) {
+        if (relations.remove(relationKey) == null) {
+            throw new IllegalStateException("Missing relation " + relationKey);
+        }
+    }
+
+    private static <T> T require(Map<Long, T> entities, Long key) {
+        T entity = entities.get(key);
+        if (entity == null) {
+            throw new IllegalStateException("Missing target " + key);
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof InMemoryErdDocument document
+                && tables.equals(document.tables)
+                && columns.equals(document.columns)
+                && relations.equals(document.relations);
+    }
+
+    @Override
+    public int hashCode() {
+        return tables.hashCode() * 31 * 31 + columns.hashCode() * 31 + relations.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "tables=" + tables + ", columns=" + columns + ", relations=" + relations;
+    }
+}
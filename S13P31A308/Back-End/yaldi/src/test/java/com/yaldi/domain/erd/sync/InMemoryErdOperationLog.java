@@ -0,0 +1,86 @@
+package com.yaldi.domain.erd.sync;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 메모리 작업 로그 (조회 시 필드를 JSON으로 왕복시켜 jsonb 저장과 같은 값 타입을 돌려줌)
+ */
+final class InMemoryErdOperationLog implements ErdOperationLog {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    record Entry(ErdOperation operation, Long tableKey, Map<String, Object> fields, ErdOperationAck ack) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, ErdOperationAck> acks = new HashMap<>();
+    private final Map<String, Long> lastSeqs = new HashMap<>();
+    private final List<ErdAppliedOperation> applied = new ArrayList<>();
+
+    @Override
+    public long revision() {
+        return applied.size();
+    }
+
+    @Override
+    public Optional<ErdOperationAck> findAck(String clientId, long clientSeq) {
+        return Optional.ofNullable(acks.get(clientId + ":" + clientSeq));
+    }
+
+    @Override
+    public long lastClientSeq(String clientId) {
+        return lastSeqs.getOrDefault(clientId, 0L);
+    }
+
+    @Override
+    public List<ErdAppliedOperation> concurrentOperations(long baseRevision, String clientId, Long tableKey) {
+        return appliedAfter(baseRevision, Integer.MAX_VALUE).stream()
+                .filter(operation -> !operation.clientId().equals(clientId))
+                .filter(operation -> tableKey.equals(operation.tableKey()))
+                .toList();
+    }
+
+    @Override
+    public void append(ErdOperation operation, Long tableKey, Map<String, Object> fields, ErdOperationAck ack) {
+        String key = operation.clientId() + ":" + operation.clientSeq();
+        if (acks.containsKey(key)) {
+            throw new IllegalStateException("Operation logged twice: " + key);
+        }
+        if (ack.outcome() == ErdOperationOutcome.APPLIED) {
+            if (ack.revision() != applied.size() + 1) {
+                throw new IllegalStateException("Revision gap: " + ack.revision());
+            }
+            applied.add(new ErdAppliedOperation(ack.revision(), operation.clientId(), operation.clientSeq(),
+                    operation.type(), operation.targetKey(), tableKey, roundTrip(fields)));
+        }
+        entries.add(new Entry(operation, tableKey, fields, ack));
+        acks.put(key, ack);
+        lastSeqs.merge(operation.clientId(), operation.clientSeq(), Math::max);
+    }
+
+    List<ErdAppliedOperation> appliedAfter(long revision, int limit) {
+        return applied.subList((int) Math.min(revision, applied.size()), applied.size()).stream()
+                .limit(limit)
+                .toList();
+    }
+
+    List<Entry> entries() {
+        return entries;
+    }
+
+    private static Map<String, Object> roundTrip(Map<String, Object> fields) {
+        try {
+            return MAPPER.readValue(MAPPER.writeValueAsString(fields), new TypeReference<>() {
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
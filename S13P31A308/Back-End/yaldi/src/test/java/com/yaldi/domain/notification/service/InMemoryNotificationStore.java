@@ -0,0 +1,198 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationDelivery;
+import com.yaldi.domain.notification.entity.NotificationDeliveryStatus;
+import com.yaldi.domain.notification.repository.NotificationDeliveryRepository;
+import com.yaldi.domain.notification.repository.NotificationRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 알림/전달 상태 저장소의 메모리 구현 (Mockito answer로 리포지토리 쿼리 의미를 흉내냄)
+ */
+class InMemoryNotificationStore {
+
+    final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    final NotificationDeliveryRepository deliveryRepository = mock(NotificationDeliveryRepository.class);
+
+    private final List<Notification> notifications = new ArrayList<>();
+    private final Map<String, Delivery> deliveries = new HashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    InMemoryNotificationStore() {
+        lenient().when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            if (notification.getNotificationKey() == null) {
+                ReflectionTestUtils.setField(notification, "notificationKey", sequence.incrementAndGet());
+                notifications.add(notification);
+            }
+            return notification;
+        });
+        lenient().when(notificationRepository
+                        .findFirstByUserKeyAndGroupKeyAndReadAtIsNullAndGroupExpiresAtAfterOrderByNotificationKeyDesc(
+                                any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Integer userKey = invocation.getArgument(0);
+                    String groupKey = invocation.getArgument(1);
+                    OffsetDateTime now = invocation.getArgument(2);
+                    return notifications.stream()
+                            .filter(n -> n.getUserKey().equals(userKey) && Objects.equals(n.getGroupKey(), groupKey))
+                            .filter(n -> n.getReadAt() == null && n.getGroupExpiresAt().isAfter(now))
+                            .max(Comparator.comparing(Notification::getNotificationKey));
+                });
+        lenient().when(notificationRepository
+                        .findByUserKeyAndNotificationKeyGreaterThanAndReadAtIsNullOrderByNotificationKeyAsc(
+                                any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Integer userKey = invocation.getArgument(0);
+                    Long afterKey = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    return notifications.stream()
+                            .filter(n -> n.getUserKey().equals(userKey) && n.getNotificationKey() > afterKey)
+                            .filter(n -> n.getReadAt() == null)
+                            .sorted(Comparator.comparing(Notification::getNotificationKey))
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+
+        lenient().when(deliveryRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<NotificationDelivery> saved = invocation.getArgument(0);
+            saved.forEach(d -> deliveries.put(key(d.getNotificationKey(), d.getChannel()), new Delivery(d.getUserKey())));
+            return saved;
+        });
+        lenient().when(deliveryRepository.findPendingNotifications(any(), any(), any())).thenAnswer(invocation -> {
+            Integer userKey = invocation.getArgument(0);
+            NotificationChannel channel = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            return notifications.stream()
+                    .filter(n -> n.getUserKey().equals(userKey))
+                    .filter(n -> status(n.getNotificationKey(), channel) == NotificationDeliveryStatus.PENDING)
+                    .sorted(Comparator.comparing(Notification::getNotificationKey))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        lenient().when(deliveryRepository.findUserKeysWithPending(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<Integer> userKeys = invocation.getArgument(0);
+            return pendingUsers(invocation.getArgument(1)).stream().filter(userKeys::contains).toList();
+        });
+        lenient().when(deliveryRepository.findAllUserKeysWithPending(any()))
+                .thenAnswer(invocation -> pendingUsers(invocation.getArgument(0)));
+        lenient().when(deliveryRepository.markDelivered(anyCollection(), any(), any())).thenAnswer(invocation ->
+                transition(invocation.getArgument(0), invocation.getArgument(1),
+                        NotificationDeliveryStatus.PENDING, d -> {
+                            d.status = NotificationDeliveryStatus.DELIVERED;
+                            d.attempts++;
+                        }));
+        lenient().when(deliveryRepository.markSkipped(anyCollection(), any())).thenAnswer(invocation ->
+                transition(invocation.getArgument(0), invocation.getArgument(1),
+                        NotificationDeliveryStatus.PENDING, d -> d.status = NotificationDeliveryStatus.SKIPPED));
+        lenient().when(deliveryRepository.release(anyCollection(), any(), anyInt())).thenAnswer(invocation -> {
+            int maxAttempts = invocation.getArgument(2);
+            return transition(invocation.getArgument(0), invocation.getArgument(1),
+                    NotificationDeliveryStatus.DELIVERED, d -> d.status = d.attempts >= maxAttempts
+                            ? NotificationDeliveryStatus.SKIPPED
+                            : NotificationDeliveryStatus.PENDING);
+        });
+        lenient().when(deliveryRepository.resetToPending(anyLong())).thenAnswer(invocation -> {
+            Long notificationKey = invocation.getArgument(0);
+            int updated = 0;
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                Delivery delivery = deliveries.get(key(notificationKey, channel));
+                if (delivery != null) {
+                    delivery.status = NotificationDeliveryStatus.PENDING;
+                    updated++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    List<Notification> notifications() {
+        return notifications;
+    }
+
+    NotificationDeliveryStatus status(Long notificationKey, NotificationChannel channel) {
+        Delivery delivery = deliveries.get(key(notificationKey, channel));
+        return delivery != null ? delivery.status : null;
+    }
+
+    int attempts(Long notificationKey, NotificationChannel channel) {
+        return deliveries.get(key(notificationKey, channel)).attempts;
+    }
+
+    /**
+     * 알림과 채널별 PENDING 전달 상태를 직접 추가
+     */
+    Notification add(Integer userKey, String type, String content) {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .userKey(userKey)
+                .type(type)
+                .content(content)
+                .build());
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            deliveries.put(key(notification.getNotificationKey(), channel), new Delivery(userKey));
+        }
+        return notification;
+    }
+
+    private List<Integer> pendingUsers(NotificationChannel channel) {
+        return deliveries.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(":" + channel.name()))
+                .filter(entry -> entry.getValue().status == NotificationDeliveryStatus.PENDING)
+                .map(entry -> entry.getValue().userKey)
+                .distinct()
+                .toList();
+    }
+
+    private int transition(Collection<Long> notificationKeys, NotificationChannel channel,
+                           NotificationDeliveryStatus from, Consumer<Delivery> change) {
+        int updated = 0;
+        for (Long notificationKey : notificationKeys) {
+            Delivery delivery = deliveries.get(key(notificationKey, channel));
+            if (delivery != null && delivery.status == from) {
+                change.accept(delivery);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private static String key(Long notificationKey, NotificationChannel channel) {
+        return notificationKey + ":" + channel.name();
+    }
+
+    Optional<Notification> find(Long notificationKey) {
+        return notifications.stream().filter(n -> n.getNotificationKey().equals(notificationKey)).findFirst();
+    }
+
+    private static final class Delivery {
+        private final Integer userKey;
+        private NotificationDeliveryStatus status = NotificationDeliveryStatus.PENDING;
+        private int attempts;
+
+        private Delivery(Integer userKey) {
+            this.userKey = userKey;
+        }
+    }
+}
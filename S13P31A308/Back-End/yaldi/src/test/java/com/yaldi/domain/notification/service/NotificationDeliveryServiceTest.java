@@ -0,0 +1,211 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.config.NotificationProperties;
+import com.yaldi.domain.notification.dto.response.NotificationResponse;
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationDeliveryStatus;
+import com.yaldi.domain.notification.entity.NotificationPreference;
+import com.yaldi.domain.notification.repository.NotificationPreferenceRepository;
+import com.yaldi.domain.notification.sse.NotificationSseEmitterManager;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationDeliveryServiceTest {
+
+    private static final Integer USER = 1;
+
+    /** 23:00 KST */
+    private static final Instant LATE_NIGHT = Instant.parse("2026-01-05T14:00:00Z");
+
+    private MutableClock clock;
+    private InMemoryNotificationStore store;
+    private NotificationPreferenceRepository preferenceRepository;
+    private NotificationSseEmitterManager sseEmitterManager;
+    private NotificationProperties properties;
+    private NotificationDeliveryService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LATE_NIGHT);
+        store = new InMemoryNotificationStore();
+        preferenceRepository = mock(NotificationPreferenceRepository.class);
+        when(preferenceRepository.findById(anyInt())).thenReturn(Optional.empty());
+        sseEmitterManager = mock(NotificationSseEmitterManager.class);
+        when(sseEmitterManager.isConnected(USER)).thenReturn(true);
+        when(sseEmitterManager.connectedUsers()).thenReturn(Set.of(USER));
+        when(sseEmitterManager.send(anyInt(), anyString(), anyLong(), any())).thenReturn(true);
+
+        properties = new NotificationProperties();
+        properties.setPushRateLimit(2);
+        properties.setPushRateWindow(Duration.ofMinutes(1));
+        service = new NotificationDeliveryService(store.notificationRepository, store.deliveryRepository,
+                preferenceRepository, sseEmitterManager, new NotificationRateLimiter(properties, clock), properties, clock);
+    }
+
+    @Test
+    @DisplayName("접속 중이면 즉시 전송하고 전달 완료로 표시한다")
+    void sendsImmediatelyWhenConnected() {
+        Notification notification = store.add(USER, "COMMENT_MENTION", "작성자");
+
+        assertThat(service.pushPending(USER)).isEqualTo(1);
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(sseEmitterManager).send(eq(USER), eq(NotificationDeliveryService.EVENT_NOTIFICATION),
+                eq(notification.getNotificationKey()), data.capture());
+        assertThat(((NotificationResponse) data.getValue()).notificationKey()).isEqualTo(notification.getNotificationKey());
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("전송 실패하면 전달 대기로 남는다")
+    void staysPendingWhenSendFails() {
+        Notification notification = store.add(USER, "COMMENT_MENTION", "작성자");
+        when(sseEmitterManager.send(anyInt(), anyString(), anyLong(), any())).thenReturn(false);
+
+        assertThat(service.pushPending(USER)).isZero();
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("방해 금지 시간대에는 보류했다가 끝나면 묶어서 전송한다")
+    void holdsDuringQuietHoursThenSendsBatched() {
+        when(preferenceRepository.findById(USER)).thenReturn(Optional.of(NotificationPreference.builder()
+                .userKey(USER)
+                .quietStart(LocalTime.of(22, 0))
+                .quietEnd(LocalTime.of(8, 0))
+                .build()));
+        Notification first = store.add(USER, "COMMENT_MENTION", "작성자A");
+        Notification second = store.add(USER, "PROJECT_MEMBER_ADDED", "프로젝트");
+
+        assertThat(service.pushPending(USER)).isZero();
+        service.flushPending();
+        verify(sseEmitterManager, never()).send(anyInt(), anyString(), anyLong(), any());
+
+        clock.advance(Duration.ofHours(9)); // 08:00 KST
+        service.flushPending();
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(sseEmitterManager).send(eq(USER), eq(NotificationDeliveryService.EVENT_BATCH),
+                eq(second.getNotificationKey()), data.capture());
+        assertThat((List<?>) data.getValue()).hasSize(2);
+        assertThat(store.status(first.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+        assertThat(store.status(second.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("전송량 제한을 넘으면 윈도우가 지난 뒤 플러시에서 전송한다")
+    void sendsRateLimitedOnFlushAfterWindow() {
+        store.add(USER, "COMMENT_MENTION", "1");
+        assertThat(service.pushPending(USER)).isEqualTo(1);
+        store.add(USER, "COMMENT_MENTION", "2");
+        assertThat(service.pushPending(USER)).isEqualTo(1);
+
+        Notification third = store.add(USER, "COMMENT_MENTION", "3");
+        Notification fourth = store.add(USER, "COMMENT_MENTION", "4");
+        assertThat(service.pushPending(USER)).isZero();
+        service.flushPending();
+        assertThat(store.status(third.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.PENDING);
+
+        clock.advance(Duration.ofMinutes(1));
+        service.flushPending();
+
+        verify(sseEmitterManager).send(eq(USER), eq(NotificationDeliveryService.EVENT_BATCH),
+                eq(fourth.getNotificationKey()), any());
+        assertThat(store.status(third.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("재연결하면 마지막 이벤트 이후의 읽지 않은 알림과 미전달 알림을 재전송한다")
+    void replaysUnreadAndPendingOnReconnect() {
+        Notification received = store.add(USER, "COMMENT_MENTION", "1");
+        service.pushPending(USER);
+        Notification lost = store.add(USER, "COMMENT_MENTION", "2");
+        service.pushPending(USER);
+        Notification missed = store.add(USER, "COMMENT_MENTION", "3");
+        Notification read = store.add(USER, "COMMENT_MENTION", "4");
+        read.markAsRead();
+        store.deliveryRepository.markDelivered(List.of(read.getNotificationKey()), NotificationChannel.SSE, null);
+
+        service.replay(USER, received.getNotificationKey());
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(sseEmitterManager).send(eq(USER), eq(NotificationDeliveryService.EVENT_BATCH),
+                eq(missed.getNotificationKey()), data.capture());
+        @SuppressWarnings("unchecked")
+        List<NotificationResponse> replayed = (List<NotificationResponse>) data.getValue();
+        assertThat(replayed).extracting(NotificationResponse::notificationKey)
+                .containsExactly(lost.getNotificationKey(), missed.getNotificationKey());
+        assertThat(store.status(missed.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("재전송 한도를 넘어 잘린 미전달 알림은 전달 대기로 남는다")
+    void keepsTruncatedReplayPending() {
+        properties.setReplayLimit(3);
+        Notification received = store.add(USER, "COMMENT_MENTION", "1");
+        service.pushPending(USER);
+        Notification lost = store.add(USER, "COMMENT_MENTION", "2");
+        service.pushPending(USER);
+        Notification lostAgain = store.add(USER, "COMMENT_MENTION", "3");
+        store.deliveryRepository.markDelivered(List.of(lostAgain.getNotificationKey()), NotificationChannel.SSE, null);
+        Notification missed = store.add(USER, "COMMENT_MENTION", "4");
+        Notification dropped = store.add(USER, "COMMENT_MENTION", "5");
+
+        service.replay(USER, received.getNotificationKey());
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(sseEmitterManager).send(eq(USER), eq(NotificationDeliveryService.EVENT_BATCH),
+                eq(missed.getNotificationKey()), data.capture());
+        @SuppressWarnings("unchecked")
+        List<NotificationResponse> replayed = (List<NotificationResponse>) data.getValue();
+        assertThat(replayed).extracting(NotificationResponse::notificationKey)
+                .containsExactly(lost.getNotificationKey(), lostAgain.getNotificationKey(), missed.getNotificationKey());
+        assertThat(store.status(missed.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+        assertThat(store.status(dropped.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("접속하지 않은 사용자는 전달 대기로 남는다")
+    void staysPendingWhenDisconnected() {
+        Notification notification = store.add(2, "COMMENT_MENTION", "작성자");
+
+        assertThat(service.pushPending(2)).isZero();
+        service.flushPending();
+
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.SSE))
+                .isEqualTo(NotificationDeliveryStatus.PENDING);
+    }
+}
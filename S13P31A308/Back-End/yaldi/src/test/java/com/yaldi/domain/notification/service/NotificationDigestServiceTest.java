@@ -0,0 +1,131 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.config.NotificationProperties;
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationDeliveryStatus;
+import com.yaldi.domain.notification.entity.NotificationPreference;
+import com.yaldi.domain.notification.repository.NotificationPreferenceRepository;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.domain.user.repository.UserRepository;
+import com.yaldi.global.mail.MailService;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationDigestServiceTest {
+
+    private static final Integer USER = 1;
+
+    private InMemoryNotificationStore store;
+    private NotificationPreferenceRepository preferenceRepository;
+    private MailService mailService;
+    private NotificationDigestService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryNotificationStore();
+        preferenceRepository = mock(NotificationPreferenceRepository.class);
+        when(preferenceRepository.findById(anyInt())).thenReturn(Optional.empty());
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(USER)).thenReturn(Optional.of(
+                User.builder().userKey(USER).email("user@yaldi.kr").nickname("사용자").build()));
+        mailService = mock(MailService.class);
+        when(mailService.sendNotificationDigest(anyString(), anyString(), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        NotificationProperties properties = new NotificationProperties();
+        properties.setDigestMaxAttempts(2);
+        service = new NotificationDigestService(store.deliveryRepository, preferenceRepository, userRepository,
+                mailService, properties, new MutableClock(Instant.parse("2026-01-05T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림을 한 통으로 보내고 읽은 알림은 건너뛴다")
+    @SuppressWarnings("unchecked")
+    void sendsUnreadInOneMailAndSkipsRead() {
+        Notification first = store.add(USER, "COMMENT_MENTION", "작성자A");
+        Notification read = store.add(USER, "COMMENT_MENTION", "작성자B");
+        read.markAsRead();
+        Notification latest = store.add(USER, "PROJECT_MEMBER_ADDED", "프로젝트");
+
+        service.sendDailyDigests();
+
+        ArgumentCaptor<List<String>> items = ArgumentCaptor.forClass(List.class);
+        verify(mailService).sendNotificationDigest(eq("user@yaldi.kr"), eq("사용자"), items.capture());
+        assertThat(items.getValue()).containsExactly("[PROJECT_MEMBER_ADDED] 프로젝트", "[COMMENT_MENTION] 작성자A");
+        assertThat(store.status(first.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+        assertThat(store.status(latest.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.DELIVERED);
+        assertThat(store.status(read.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.SKIPPED);
+
+        // 다음 실행에서는 보낼 것이 없음
+        service.sendDailyDigests();
+        verify(mailService, times(1)).sendNotificationDigest(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("다이제스트를 끈 사용자는 발송하지 않고 건너뛴다")
+    void skipsUsersWithDigestDisabled() {
+        NotificationPreference preference = NotificationPreference.defaults(USER);
+        preference.update(null, null, null, false);
+        when(preferenceRepository.findById(USER)).thenReturn(Optional.of(preference));
+        Notification notification = store.add(USER, "COMMENT_MENTION", "작성자");
+
+        assertThat(service.sendDigest(USER).join()).isFalse();
+
+        verify(mailService, never()).sendNotificationDigest(anyString(), anyString(), anyList());
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("발송 실패하면 재시도하고 최대 횟수를 넘으면 건너뛴다")
+    void retriesFailedSendUntilMaxAttempts() {
+        when(mailService.sendNotificationDigest(anyString(), anyString(), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(false))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("smtp down")));
+        Notification notification = store.add(USER, "COMMENT_MENTION", "작성자");
+
+        assertThat(service.sendDigest(USER).join()).isFalse();
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.PENDING);
+        assertThat(store.attempts(notification.getNotificationKey(), NotificationChannel.MAIL_DIGEST)).isEqualTo(1);
+
+        assertThat(service.sendDigest(USER).join()).isFalse();
+        assertThat(store.status(notification.getNotificationKey(), NotificationChannel.MAIL_DIGEST))
+                .isEqualTo(NotificationDeliveryStatus.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점한 알림은 보내지 않는다")
+    void skipsNotificationsClaimedByAnotherNode() {
+        Notification notification = store.add(USER, "COMMENT_MENTION", "작성자");
+        store.deliveryRepository.markDelivered(
+                List.of(notification.getNotificationKey()), NotificationChannel.MAIL_DIGEST, null);
+
+        assertThat(service.sendDigest(USER).join()).isFalse();
+        verify(mailService, never()).sendNotificationDigest(anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,109 @@
+package com.yaldi.domain.notification.service;
+
+import com.yaldi.domain.notification.config.NotificationProperties;
+import com.yaldi.domain.notification.entity.Notification;
+import com.yaldi.domain.notification.entity.NotificationChannel;
+import com.yaldi.domain.notification.entity.NotificationDeliveryStatus;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationServiceTest {
+
+    private static final String MENTION = "COMMENT_MENTION";
+    private static final String INVITE = "INVITE_SENT";
+
+    private MutableClock clock;
+    private InMemoryNotificationStore store;
+    private NotificationDeliveryService deliveryService;
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-05T01:00:00Z"));
+        store = new InMemoryNotificationStore();
+        deliveryService = mock(NotificationDeliveryService.class);
+        NotificationProperties properties = new NotificationProperties();
+        properties.getGroupingWindows().put(MENTION, Duration.ofMinutes(10));
+        service = new NotificationService(store.notificationRepository, store.deliveryRepository,
+                deliveryService, properties, clock);
+    }
+
+    @Test
+    @DisplayName("묶음 윈도우 안의 이벤트는 하나의 알림으로 합쳐진다")
+    void mergesEventsWithinWindow() {
+        Notification first = service.notifyUser(1, MENTION, "작성자A", 100L, 7L);
+        clock.advance(Duration.ofMinutes(3));
+        Notification second = service.notifyUser(1, MENTION, "작성자B", 101L, 7L);
+
+        assertThat(second.getNotificationKey()).isEqualTo(first.getNotificationKey());
+        assertThat(store.notifications()).hasSize(1);
+        assertThat(second.getGroupCount()).isEqualTo(2);
+        assertThat(second.getContent()).isEqualTo("작성자B");
+        assertThat(second.getTarget()).isEqualTo(101L);
+        assertThat(second.getLastEventAt().toInstant()).isEqualTo(clock.instant());
+        verify(deliveryService, times(2)).deliver(1);
+    }
+
+    @Test
+    @DisplayName("묶음 윈도우가 지나면 새 알림을 만든다")
+    void createsNewNotificationAfterWindow() {
+        Notification first = service.notifyUser(1, MENTION, "작성자A", 100L, 7L);
+        clock.advance(Duration.ofMinutes(10));
+        Notification second = service.notifyUser(1, MENTION, "작성자B", 101L, 7L);
+
+        assertThat(second.getNotificationKey()).isNotEqualTo(first.getNotificationKey());
+        assertThat(first.getGroupCount()).isEqualTo(1);
+        assertThat(second.getGroupExpiresAt().toInstant()).isEqualTo(clock.instant().plus(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("범위가 다르거나 읽은 묶음이면 합치지 않는다")
+    void doesNotMergeAcrossScopeOrIntoRead() {
+        Notification first = service.notifyUser(1, MENTION, "작성자A", 100L, 7L);
+        Notification otherScope = service.notifyUser(1, MENTION, "작성자A", 200L, 8L);
+        Notification otherUser = service.notifyUser(2, MENTION, "작성자A", 100L, 7L);
+        assertThat(store.notifications()).hasSize(3);
+
+        first.markAsRead();
+        Notification afterRead = service.notifyUser(1, MENTION, "작성자B", 101L, 7L);
+        assertThat(afterRead.getNotificationKey())
+                .isNotIn(first.getNotificationKey(), otherScope.getNotificationKey(), otherUser.getNotificationKey());
+    }
+
+    @Test
+    @DisplayName("묶음 규칙이 없는 타입은 매번 새 알림이다")
+    void createsNewNotificationForTypesWithoutRule() {
+        Notification first = service.notifyUser(1, INVITE, "팀A", 3L, null);
+        Notification second = service.notifyUser(1, INVITE, "팀A", 3L, null);
+
+        assertThat(first.getNotificationKey()).isNotEqualTo(second.getNotificationKey());
+        assertThat(first.getGroupKey()).isNull();
+        assertThat(first.getGroupExpiresAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("합쳐진 알림은 모든 채널이 다시 전달 대기가 된다")
+    void resetsAllChannelsToPendingOnMerge() {
+        Notification first = service.notifyUser(1, MENTION, "작성자A", 100L, 7L);
+        Long key = first.getNotificationKey();
+        assertThat(store.status(key, NotificationChannel.SSE)).isEqualTo(NotificationDeliveryStatus.PENDING);
+        assertThat(store.status(key, NotificationChannel.MAIL_DIGEST)).isEqualTo(NotificationDeliveryStatus.PENDING);
+
+        store.deliveryRepository.markDelivered(List.of(key), NotificationChannel.SSE, null);
+        clock.advance(Duration.ofMinutes(1));
+        service.notifyUser(1, MENTION, "작성자B", 101L, 7L);
+
+        assertThat(store.status(key, NotificationChannel.SSE)).isEqualTo(NotificationDeliveryStatus.PENDING);
+    }
+}
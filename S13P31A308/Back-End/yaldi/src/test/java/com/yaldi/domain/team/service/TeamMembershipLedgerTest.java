@@ -0,0 +1,266 @@
+package com.yaldi.domain.team.service;
+
+import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamMembershipEvent;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
+import com.yaldi.domain.team.entity.UserTeamRelation;
+import com.yaldi.domain.team.repository.TeamMembershipEventRepository;
+import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import com.yaldi.domain.team.service.TeamMembershipTimeline.Interval;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.infra.security.authz.AuthorizationCache;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멤버십 이벤트 로그 테스트 (로그 재생 = 현재 상태, 시점 조회)
+ */
+class TeamMembershipLedgerTest {
+
+    private static final Instant START = Instant.parse("2025-11-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private final List<UserTeamRelation> relations = new ArrayList<>();
+    private final List<TeamMembershipEvent> events = new ArrayList<>();
+    private final Map<Integer, Team> teams = new HashMap<>();
+    private final Map<Integer, User> users = new HashMap<>();
+    private TeamMembershipLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        UserTeamRelationRepository relationRepository = mock(UserTeamRelationRepository.class);
+        when(relationRepository.save(any(UserTeamRelation.class))).thenAnswer(inv -> {
+            UserTeamRelation relation = inv.getArgument(0);
+            relations.add(relation);
+            return relation;
+        });
+        doAnswer(inv -> relations.remove(inv.<UserTeamRelation>getArgument(0)))
+                .when(relationRepository).delete(any(UserTeamRelation.class));
+        when(relationRepository.findUserKeysByTeam_TeamKey(anyInt())).thenAnswer(inv -> relations.stream()
+                .filter(r -> r.getTeam().getTeamKey().equals(inv.getArgument(0)))
+                .map(r -> r.getUser().getUserKey())
+                .collect(Collectors.toSet()));
+        when(relationRepository.findTeamKeysByUser_UserKey(anyInt())).thenAnswer(inv -> relations.stream()
+                .filter(r -> r.getUser().getUserKey().equals(inv.getArgument(0)))
+                .map(r -> r.getTeam().getTeamKey())
+                .collect(Collectors.toSet()));
+        doAnswer(inv -> relations.removeIf(r -> r.getTeam().getTeamKey().equals(inv.getArgument(0))))
+                .when(relationRepository).deleteByTeam_TeamKey(anyInt());
+        doAnswer(inv -> relations.removeIf(r -> r.getUser().getUserKey().equals(inv.getArgument(0))))
+                .when(relationRepository).deleteByUser_UserKey(anyInt());
+
+        AtomicLong sequence = new AtomicLong();
+        TeamMembershipEventRepository eventRepository = mock(TeamMembershipEventRepository.class);
+        when(eventRepository.save(any(TeamMembershipEvent.class)))
+                .thenAnswer(inv -> append(inv.getArgument(0), sequence));
+        when(eventRepository.saveAll(any())).thenAnswer(inv -> {
+            List<TeamMembershipEvent> saved = new ArrayList<>();
+            inv.<Iterable<TeamMembershipEvent>>getArgument(0).forEach(event -> saved.add(append(event, sequence)));
+            return saved;
+        });
+
+        ledger = new TeamMembershipLedger(relationRepository, eventRepository, mock(AuthorizationCache.class), clock);
+    }
+
+    @Test
+    @DisplayName("무작위 가입/이탈/팀 삭제/탈퇴 후 로그를 재생하면 현재 상태와 정확히 같다")
+    void replayReproducesCurrentState() {
+        Random random = new Random(20251119L);
+        Set<Integer> dissolvedTeams = new HashSet<>();
+        Set<Integer> withdrawnUsers = new HashSet<>();
+        Map<OffsetDateTime, Map<Integer, Set<Integer>>> snapshots = new LinkedHashMap<>();
+
+        for (int step = 0; step < 400; step++) {
+            int teamKey = 1 + random.nextInt(4);
+            int userKey = 1 + random.nextInt(8);
+            boolean teamExists = teams.containsKey(teamKey) && !dissolvedTeams.contains(teamKey);
+            boolean member = isMember(teamKey, userKey);
+
+            switch (random.nextInt(10)) {
+                case 0 -> {
+                    if (!teams.containsKey(teamKey) && !withdrawnUsers.contains(userKey)) {
+                        Team team = Team.builder().teamKey(teamKey).owner(user(userKey)).name("team-" + teamKey).build();
+                        teams.put(teamKey, team);
+                        ledger.join(team, user(userKey), TeamMembershipEventType.TEAM_CREATED, userKey);
+                    }
+                }
+                case 1, 2, 3, 4 -> {
+                    if (teamExists && !member && !withdrawnUsers.contains(userKey)) {
+                        ledger.join(teams.get(teamKey), user(userKey), TeamMembershipEventType.INVITE_ACCEPTED, userKey);
+                    }
+                }
+                case 5, 6 -> {
+                    if (member && !isOwner(teamKey, userKey)) {
+                        ledger.leave(relation(teamKey, userKey), TeamMembershipEventType.MEMBER_EXITED, userKey);
+                    }
+                }
+                case 7 -> {
+                    if (member && !isOwner(teamKey, userKey)) {
+                        Integer ownerKey = teams.get(teamKey).getOwner().getUserKey();
+                        ledger.leave(relation(teamKey, userKey), TeamMembershipEventType.MEMBER_EXPELLED, ownerKey);
+                    }
+                }
+                case 8 -> {
+                    if (teamExists && random.nextInt(4) == 0) {
+                        ledger.dissolveTeam(teamKey, teams.get(teamKey).getOwner().getUserKey());
+                        dissolvedTeams.add(teamKey);
+                    }
+                }
+                default -> {
+                    boolean ownsActiveTeam = teams.values().stream().anyMatch(team ->
+                            team.getOwner().getUserKey().equals(userKey) && !dissolvedTeams.contains(team.getTeamKey()));
+                    if (!ownsActiveTeam && !withdrawnUsers.contains(userKey) && random.nextInt(4) == 0) {
+                        ledger.withdrawUser(userKey);
+                        withdrawnUsers.add(userKey);
+                    }
+                }
+            }
+
+            snapshots.put(now(), currentState());
+            clock.advance(Duration.ofMinutes(1 + random.nextInt(30)));
+        }
+
+        assertThat(events).isNotEmpty();
+        assertThat(replayedState(events)).isEqualTo(currentState());
+
+        Map<Integer, TeamMembershipTimeline> timelines = TeamMembershipTimeline.replayByTeam(events);
+        snapshots.forEach((at, expected) -> {
+            List<TeamMembershipEvent> untilAt = events.stream().filter(event -> !event.getOccurredAt().isAfter(at)).toList();
+            assertThat(replayedState(untilAt)).as("로그 접두사 재생 @ %s", at).isEqualTo(expected);
+
+            Map<Integer, Set<Integer>> pointInTime = new TreeMap<>();
+            timelines.forEach((teamKey, timeline) -> {
+                Set<Integer> members = timeline.membersAt(at);
+                if (!members.isEmpty()) {
+                    pointInTime.put(teamKey, members);
+                }
+            });
+            assertThat(pointInTime).as("시점 조회 @ %s", at).isEqualTo(expected);
+        });
+    }
+
+    @Test
+    @DisplayName("방출 후 재가입하면 구간이 둘로 나뉘고, 팀 삭제 시 모든 구간이 닫힌다")
+    void intervalsTrackRejoinAndDissolve() {
+        Team team = Team.builder().teamKey(1).owner(user(1)).name("team").build();
+        ledger.join(team, user(1), TeamMembershipEventType.TEAM_CREATED, 1);
+        clock.advance(Duration.ofDays(1));
+        ledger.join(team, user(2), TeamMembershipEventType.INVITE_ACCEPTED, 2);
+        OffsetDateTime firstStint = now();
+        clock.advance(Duration.ofDays(1));
+        ledger.leave(relation(1, 2), TeamMembershipEventType.MEMBER_EXPELLED, 1);
+        OffsetDateTime expelled = now();
+        clock.advance(Duration.ofDays(1));
+        ledger.join(team, user(2), TeamMembershipEventType.INVITE_ACCEPTED, 2);
+        clock.advance(Duration.ofDays(1));
+        ledger.dissolveTeam(1, 1);
+        OffsetDateTime dissolved = now();
+
+        TeamMembershipTimeline timeline = TeamMembershipTimeline.replay(events);
+
+        assertThat(timeline.intervals()).filteredOn(interval -> interval.userKey() == 2)
+                .extracting(Interval::joinedBy, Interval::leftBy)
+                .containsExactly(
+                        tuple(
+                                TeamMembershipEventType.INVITE_ACCEPTED, TeamMembershipEventType.MEMBER_EXPELLED),
+                        tuple(
+                                TeamMembershipEventType.INVITE_ACCEPTED, TeamMembershipEventType.TEAM_DELETED));
+        assertThat(timeline.membersAt(firstStint)).containsExactlyInAnyOrder(1, 2);
+        assertThat(timeline.membersAt(expelled)).containsExactly(1);
+        assertThat(timeline.membersAt(dissolved)).isEmpty();
+        assertThat(timeline.currentMembers()).isEmpty();
+        assertThat(relations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가입 경로로 이탈 이벤트를 쓰면 거부한다")
+    void rejectsMismatchedDirection() {
+        Team team = Team.builder().teamKey(1).owner(user(1)).name("team").build();
+
+        assertThatThrownBy(() -> ledger.join(team, user(2), TeamMembershipEventType.MEMBER_EXITED, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(relations).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    private TeamMembershipEvent append(TeamMembershipEvent event, AtomicLong sequence) {
+        TeamMembershipEvent saved = TeamMembershipEvent.builder()
+                .eventKey(sequence.incrementAndGet())
+                .teamKey(event.getTeamKey())
+                .userKey(event.getUserKey())
+                .eventType(event.getEventType())
+                .actorKey(event.getActorKey())
+                .occurredAt(event.getOccurredAt())
+                .build();
+        events.add(saved);
+        return saved;
+    }
+
+    private static Map<Integer, Set<Integer>> replayedState(List<TeamMembershipEvent> log) {
+        Map<Integer, Set<Integer>> state = new TreeMap<>();
+        TeamMembershipTimeline.replayByTeam(log).forEach((teamKey, timeline) -> {
+            Set<Integer> members = timeline.currentMembers();
+            if (!members.isEmpty()) {
+                state.put(teamKey, members);
+            }
+        });
+        return state;
+    }
+
+    private Map<Integer, Set<Integer>> currentState() {
+        return relations.stream().collect(Collectors.groupingBy(
+                r -> r.getTeam().getTeamKey(), TreeMap::new,
+                Collectors.mapping(r -> r.getUser().getUserKey(), Collectors.toSet())));
+    }
+
+    private boolean isMember(int teamKey, int userKey) {
+        return relations.stream().anyMatch(r ->
+                r.getTeam().getTeamKey() == teamKey && r.getUser().getUserKey() == userKey);
+    }
+
+    private boolean isOwner(int teamKey, int userKey) {
+        return teams.get(teamKey).getOwner().getUserKey() == userKey;
+    }
+
+    private UserTeamRelation relation(int teamKey, int userKey) {
+        return relations.stream()
+                .filter(r -> r.getTeam().getTeamKey() == teamKey && r.getUser().getUserKey() == userKey)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private User user(int userKey) {
+        return users.computeIfAbsent(userKey, key -> User.builder().userKey(key).email("user" + key + "@yaldi.com").build());
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,150 @@
+package com.yaldi.domain.team.service;
+
+import com.yaldi.domain.notification.service.NotificationService;
+import com.yaldi.domain.team.dto.response.InvitationActionResponse;
+import com.yaldi.domain.team.entity.Team;
+import com.yaldi.domain.team.entity.TeamInvitationStatus;
+import com.yaldi.domain.team.entity.TeamMembershipEventType;
+import com.yaldi.domain.team.entity.UserTeamActionType;
+import com.yaldi.domain.team.entity.UserTeamHistory;
+import com.yaldi.domain.team.repository.UserTeamHistoryRepository;
+import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import com.yaldi.domain.team.validator.TeamValidator;
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 팀 초대 상태 머신 테스트 (멱등 수락/거절, 만료, 취소)
+ */
+class TeamMembershipServiceTest {
+
+    private static final Long INVITATION_KEY = 100L;
+
+    private final User owner = User.builder().userKey(1).email("owner@yaldi.com").build();
+    private final User invitee = User.builder().userKey(2).email("invitee@yaldi.com").build();
+    private final Team team = Team.builder().teamKey(10).owner(owner).name("team").build();
+
+    private UserTeamHistoryRepository historyRepository;
+    private TeamHistoryRecorder historyRecorder;
+    private TeamMembershipLedger membershipLedger;
+    private TeamMembershipService membershipService;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository = mock(UserTeamHistoryRepository.class);
+        historyRecorder = mock(TeamHistoryRecorder.class);
+        membershipLedger = mock(TeamMembershipLedger.class);
+        TeamValidator teamValidator = mock(TeamValidator.class);
+        when(teamValidator.getUser(2)).thenReturn(invitee);
+
+        membershipService = new TeamMembershipService(mock(UserTeamRelationRepository.class), historyRepository,
+                teamValidator, historyRecorder, membershipLedger, mock(NotificationService.class));
+    }
+
+    @Test
+    @DisplayName("이미 수락한 초대를 다시 수락하면 멤버를 중복 추가하지 않고 같은 결과를 돌려준다")
+    void acceptIsIdempotent() {
+        UserTeamHistory invitation = invitation(OffsetDateTime.now().plusDays(1));
+
+        InvitationActionResponse first = membershipService.acceptInvitation(2, INVITATION_KEY);
+        InvitationActionResponse second = membershipService.acceptInvitation(2, INVITATION_KEY);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.action()).isEqualTo(UserTeamActionType.INVITE_ACCEPTED);
+        assertThat(invitation.getInvitationStatus()).isEqualTo(TeamInvitationStatus.ACCEPTED);
+        verify(membershipLedger, times(1)).join(team, invitee, TeamMembershipEventType.INVITE_ACCEPTED, 2);
+        verify(historyRecorder, times(1)).recordInvitationAccepted(team, invitee, invitee.getEmail());
+    }
+
+    @Test
+    @DisplayName("이미 거절한 초대를 다시 거절하면 같은 결과, 수락하면 처리된 초대로 거부한다")
+    void rejectIsIdempotent() {
+        UserTeamHistory invitation = invitation(OffsetDateTime.now().plusDays(1));
+
+        membershipService.rejectInvitation(2, INVITATION_KEY);
+        InvitationActionResponse again = membershipService.rejectInvitation(2, INVITATION_KEY);
+
+        assertThat(again.action()).isEqualTo(UserTeamActionType.INVITE_REJECTED);
+        assertThat(invitation.getInvitationStatus()).isEqualTo(TeamInvitationStatus.REJECTED);
+        verify(historyRecorder, times(1)).recordInvitationRejected(team, invitee, invitee.getEmail());
+        assertThatThrownBy(() -> membershipService.acceptInvitation(2, INVITATION_KEY))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus").isEqualTo(ErrorStatus.TEAM_INVITATION_ALREADY_PROCESSED);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 초대는 EXPIRED로 한 번만 전이되고, 이후 요청도 만료 응답을 돌려준다")
+    void expiredInvitationTransitionsOnce() {
+        UserTeamHistory invitation = invitation(OffsetDateTime.now().minus(Duration.ofMinutes(1)));
+
+        InvitationActionResponse accept = membershipService.acceptInvitation(2, INVITATION_KEY);
+        InvitationActionResponse reject = membershipService.rejectInvitation(2, INVITATION_KEY);
+
+        assertThat(accept.action()).isEqualTo(UserTeamActionType.INVITE_EXPIRED);
+        assertThat(reject.action()).isEqualTo(UserTeamActionType.INVITE_EXPIRED);
+        assertThat(invitation.getInvitationStatus()).isEqualTo(TeamInvitationStatus.EXPIRED);
+        verify(historyRecorder, times(1)).recordInvitationExpired(team, owner, invitee, invitee.getEmail());
+        verify(membershipLedger, never()).join(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("취소된 초대는 수락할 수 없다")
+    void canceledInvitationCannotBeAccepted() {
+        UserTeamHistory invitation = invitation(OffsetDateTime.now().plusDays(1));
+        invitation.resolveInvitation(TeamInvitationStatus.CANCELED, OffsetDateTime.now());
+
+        assertThatThrownBy(() -> membershipService.acceptInvitation(2, INVITATION_KEY))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus").isEqualTo(ErrorStatus.TEAM_INVITATION_CANCELED);
+        verify(membershipLedger, never()).join(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("초대받은 사람이 아니면 상태를 바꾸지 않고 거부한다")
+    void rejectsOtherUser() {
+        UserTeamHistory invitation = invitation(OffsetDateTime.now().plusDays(1));
+        User stranger = User.builder().userKey(3).email("stranger@yaldi.com").build();
+        TeamValidator teamValidator = mock(TeamValidator.class);
+        when(teamValidator.getUser(3)).thenReturn(stranger);
+        TeamMembershipService service = new TeamMembershipService(mock(UserTeamRelationRepository.class),
+                historyRepository, teamValidator, historyRecorder, membershipLedger, mock(NotificationService.class));
+
+        assertThatThrownBy(() -> service.acceptInvitation(3, INVITATION_KEY))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus").isEqualTo(ErrorStatus.TEAM_FORBIDDEN);
+        assertThat(invitation.getInvitationStatus()).isEqualTo(TeamInvitationStatus.PENDING);
+    }
+
+    private UserTeamHistory invitation(OffsetDateTime expiresAt) {
+        UserTeamHistory invitation = UserTeamHistory.builder()
+                .userTeamHistoryKey(INVITATION_KEY)
+                .team(team)
+                .actor(owner)
+                .target(invitee)
+                .email(invitee.getEmail())
+                .actionType(UserTeamActionType.INVITE_SENT)
+                .invitationStatus(TeamInvitationStatus.PENDING)
+                .expiresAt(expiresAt)
+                .build();
+        when(historyRepository.findByIdForUpdate(eq(INVITATION_KEY))).thenReturn(Optional.of(invitation));
+        return invitation;
+    }
+}
@@ -0,0 +1,232 @@
+package com.yaldi.domain.version.mockdata;
+
+import com.yaldi.domain.erd.entity.SqlDialect;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 Mock 데이터 생성기 테스트
+ *
+ * <p>생성한 스크립트를 PK/UNIQUE/FK 제약이 켜진 H2에 그대로 적재해 참조 무결성과 유일성을 검증합니다.</p>
+ */
+class MockDataGeneratorTest {
+
+    private static final Map<String, MockColumnRule> STATUS_RULE = Map.of(
+            "users.status", new MockColumnRule(MockGeneratorType.ENUM, null, null, null, null,
+                    List.of("ACTIVE", "DORMANT"), null, null, 0.2));
+
+    private static final String SHOP_DDL = """
+            CREATE TABLE {users} ({id} INTEGER PRIMARY KEY, {email} VARCHAR(100) NOT NULL UNIQUE,
+                {name} VARCHAR(50) NOT NULL, {status} VARCHAR(10), {manager_id} INTEGER,
+                FOREIGN KEY ({manager_id}) REFERENCES {users}({id}));
+            CREATE TABLE {user_profiles} ({user_id} INTEGER PRIMARY KEY, {nickname} VARCHAR(8) NOT NULL UNIQUE,
+                {bio} CLOB, FOREIGN KEY ({user_id}) REFERENCES {users}({id}));
+            CREATE TABLE {orders} ({id} BIGINT PRIMARY KEY, {user_id} INTEGER NOT NULL,
+                {amount} DECIMAL(10, 2) NOT NULL, {ordered_at} TIMESTAMP NOT NULL, {paid} BOOLEAN NOT NULL,
+                FOREIGN KEY ({user_id}) REFERENCES {users}({id}));
+            CREATE TABLE {order_items} ({order_id} BIGINT NOT NULL, {line_no} INTEGER NOT NULL,
+                {quantity} SMALLINT NOT NULL, PRIMARY KEY ({order_id}, {line_no}),
+                FOREIGN KEY ({order_id}) REFERENCES {orders}({id}));
+            """;
+
+    private final MockDataGenerator generator = new MockDataGenerator();
+
+    @Test
+    @DisplayName("같은 시드와 옵션이면 같은 스크립트, 시드가 다르면 다른 스크립트")
+    void sameSeedProducesSameScript() {
+        MockDataScript first = generator.generate(MockSchemaFixture.shop(), options(42L, 30, Map.of()));
+        MockDataScript second = generator.generate(MockSchemaFixture.shop(), options(42L, 30, Map.of()));
+        MockDataScript other = generator.generate(MockSchemaFixture.shop(), options(43L, 30, Map.of()));
+
+        assertThat(second.sql()).isEqualTo(first.sql());
+        assertThat(other.sql()).isNotEqualTo(first.sql());
+    }
+
+    @Test
+    @DisplayName("부모 테이블이 자식보다 먼저 INSERT 된다 (반대 방향으로 저장된 관계 포함)")
+    void insertsParentsFirst() {
+        String sql = generator.generate(MockSchemaFixture.shop(), options(1L, 10, Map.of())).sql();
+
+        assertThat(sql.indexOf("INSERT INTO \"users\"")).isLessThan(sql.indexOf("INSERT INTO \"orders\""));
+        assertThat(sql.indexOf("INSERT INTO \"users\"")).isLessThan(sql.indexOf("INSERT INTO \"user_profiles\""));
+        assertThat(sql.indexOf("INSERT INTO \"orders\"")).isLessThan(sql.indexOf("INSERT INTO \"order_items\""));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SqlDialect.class)
+    @DisplayName("생성한 스크립트가 제약이 켜진 H2에 그대로 적재되고 테이블별 목표 행 수를 채운다")
+    void loadsIntoH2WithConstraints(SqlDialect dialect) throws SQLException {
+        MockDataOptions options = new MockDataOptions(
+                7L, 50, Map.of("orders", 300, "order_items", 500), STATUS_RULE, dialect);
+        MockDataScript script = generator.generate(MockSchemaFixture.shop(), options);
+
+        try (Connection connection = h2(dialect)) {
+            execute(connection, ddl(SHOP_DDL, dialect));
+            execute(connection, loadable(script.sql()));
+
+            assertThat(count(connection, "users")).isEqualTo(50);
+            assertThat(count(connection, "user_profiles")).isEqualTo(50);
+            assertThat(count(connection, "orders")).isEqualTo(300);
+            assertThat(count(connection, "order_items")).isEqualTo(500);
+            assertThat(script.rowCounts())
+                    .containsEntry("users", 50).containsEntry("orders", 300).containsEntry("order_items", 500);
+            assertThat(script.warnings()).isEmpty();
+
+            // 자기 참조: 첫 행 외에는 먼저 생성된 행만 참조
+            assertThat(count(connection, "users", "manager_id IS NOT NULL AND manager_id >= id")).isZero();
+            assertThat(distinct(connection, "users", "status")).containsOnly("ACTIVE", "DORMANT", null);
+        }
+    }
+
+    @Test
+    @DisplayName("1:1 FK는 부모 행 수보다 많이 만들 수 없으므로 부족분을 경고로 알린다")
+    void warnsWhenUniqueReferenceIsExhausted() throws SQLException {
+        MockDataScript script = generator.generate(MockSchemaFixture.shop(),
+                options(3L, 20, Map.of("user_profiles", 30)));
+
+        assertThat(script.rowCounts()).containsEntry("user_profiles", 20);
+        assertThat(script.warnings()).anyMatch(warning -> warning.startsWith("user_profiles"));
+
+        try (Connection connection = h2(SqlDialect.POSTGRESQL)) {
+            execute(connection, ddl(SHOP_DDL, SqlDialect.POSTGRESQL));
+            execute(connection, loadable(script.sql()));
+            assertThat(count(connection, "user_profiles")).isEqualTo(20);
+        }
+    }
+
+    @Test
+    @DisplayName("테이블이 추가돼도 기존 테이블 값은 그대로다")
+    void tableValuesAreIndependentOfOtherTables() {
+        MockDataOptions options = options(9L, 10, Map.of());
+        String withOrders = generator.generate(MockSchemaFixture.shop(), options).sql();
+        String withMoreOrders = generator.generate(MockSchemaFixture.shop(),
+                options(9L, 10, Map.of("orders", 40))).sql();
+
+        assertThat(insertBlock(withMoreOrders, "users")).isEqualTo(insertBlock(withOrders, "users"));
+        assertThat(insertBlock(withMoreOrders, "user_profiles")).isEqualTo(insertBlock(withOrders, "user_profiles"));
+    }
+
+    @Test
+    @DisplayName("NOT NULL FK 순환은 생성할 수 없다")
+    void rejectsNotNullCycle() {
+        assertThatThrownBy(() -> generator.generate(MockSchemaFixture.cycle(false), options(1L, 5, Map.of())))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.MOCK_DATA_CYCLIC_REFERENCE);
+    }
+
+    @Test
+    @DisplayName("테이블별 목표 행 수의 합이 한도를 넘으면 생성하지 않는다")
+    void rejectsTooManyRows() {
+        Map<String, Integer> tableRowCounts = Map.of(
+                "users", 10_000, "user_profiles", 10_000, "orders", 10_000, "order_items", 1);
+
+        assertThatThrownBy(() -> generator.generate(MockSchemaFixture.shop(), options(1L, 1, tableRowCounts)))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.MOCK_DATA_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("nullable FK 순환은 먼저 생성되는 테이블의 FK를 NULL로 채운다")
+    void breaksNullableCycleWithNulls() {
+        MockDataScript script = generator.generate(MockSchemaFixture.cycle(true), options(1L, 5, Map.of()));
+
+        assertThat(script.rowCounts()).containsEntry("a", 5).containsEntry("b", 5);
+        assertThat(script.warnings()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 자동 증가 컬럼은 시퀀스를 생성한 최댓값으로 이동한다")
+    void resetsSerialSequence() {
+        String sql = generator.generate(MockSchemaFixture.shop(), options(1L, 10, Map.of())).sql();
+
+        assertThat(sql).contains("SELECT setval(pg_get_serial_sequence('\"users\"', 'id'), 10);");
+    }
+
+    private static MockDataOptions options(long seed, int rows, Map<String, Integer> tableRowCounts) {
+        return new MockDataOptions(seed, rows, tableRowCounts, STATUS_RULE, SqlDialect.POSTGRESQL);
+    }
+
+    private static Connection h2(SqlDialect dialect) throws SQLException {
+        String mode = dialect == SqlDialect.MYSQL ? "MySQL" : "PostgreSQL";
+        return DriverManager.getConnection("jdbc:h2:mem:mock_" + System.nanoTime() + ";MODE=" + mode + ";DATABASE_TO_LOWER=TRUE");
+    }
+
+    private static String ddl(String template, SqlDialect dialect) {
+        String quote = dialect == SqlDialect.MYSQL ? "`" : "\"";
+        return template.replace("{", quote).replace("}", quote);
+    }
+
+    /**
+     * H2에 없는 PostgreSQL 시퀀스 함수 제외
+     */
+    private static String loadable(String sql) {
+        return Arrays.stream(sql.split("\n"))
+                .filter(line -> !line.startsWith("SELECT setval"))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String part : sql.split(";\n")) {
+                if (!part.isBlank() && !part.strip().lines().allMatch(line -> line.startsWith("--"))) {
+                    statement.execute(part);
+                }
+            }
+        }
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        return count(connection, table, "1 = 1");
+    }
+
+    private static long count(Connection connection, String table, String where) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT COUNT(*) FROM " + quoted(connection, table) + " WHERE " + where)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static List<String> distinct(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT DISTINCT " + column + " FROM " + quoted(connection, table))) {
+            List<String> values = new ArrayList<>();
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+            return values;
+        }
+    }
+
+    private static String quoted(Connection connection, String table) throws SQLException {
+        String quote = connection.getMetaData().getIdentifierQuoteString();
+        return quote + table + quote;
+    }
+
+    private static String insertBlock(String sql, String table) {
+        int start = sql.indexOf("INSERT INTO \"" + table + "\"");
+        return sql.substring(start, sql.indexOf("\n\n", start));
+    }
+}
@@ -0,0 +1,53 @@
+package com.yaldi.domain.version.mockdata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MockDataScriptCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final MockDataScriptCache cache = new MockDataScriptCache(nanos::get);
+
+    @Test
+    @DisplayName("생성 시 넣은 스크립트는 다운로드에서 재생성 없이 그대로 사용한다")
+    void returnsScriptStoredAtCreation() {
+        MockDataScript created = script("INSERT INTO users VALUES (1);");
+        cache.put(7L, created);
+
+        assertThat(cache.get(7L, this::regenerate)).isSameAs(created);
+        assertThat(generated).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("캐시에 없거나 접근 없이 만료되면 한 번 재생성해 이후 요청에 재사용한다")
+    void regeneratesOnceAfterExpiry() {
+        assertThat(cache.get(7L, this::regenerate).sql()).isEqualTo("generated-1");
+        advance(MockDataScriptCache.EXPIRE_AFTER_ACCESS.minusSeconds(1));
+        assertThat(cache.get(7L, this::regenerate).sql()).isEqualTo("generated-1");
+
+        advance(MockDataScriptCache.EXPIRE_AFTER_ACCESS);
+        assertThat(cache.get(7L, this::regenerate).sql()).isEqualTo("generated-2");
+        assertThat(generated).hasValue(2);
+    }
+
+    private MockDataScript regenerate() {
+        return script("generated-" + generated.incrementAndGet());
+    }
+
+    private static MockDataScript script(String sql) {
+        return new MockDataScript(sql, Map.of("users", 1), List.of());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
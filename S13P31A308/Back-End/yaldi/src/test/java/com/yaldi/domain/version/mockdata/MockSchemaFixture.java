@@ -0,0 +1,120 @@
+package com.yaldi.domain.version.mockdata;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전 스냅샷 schemaData 형식의 테스트 스키마
+ *
+ * <pre>
+ * users (id PK 자동증가, email UNIQUE, name, status, manager_id → users.id 자기 참조)
+ * user_profiles (user_id PK/FK → users.id 1:1, nickname UNIQUE, bio)
+ * orders (id PK, user_id NOT NULL → users.id, amount DECIMAL(10,2), ordered_at, paid)
+ * order_items (order_id PK/FK → orders.id, line_no PK, quantity)   -- 복합 PK
+ * </pre>
+ */
+final class MockSchemaFixture {
+
+    private final List<Map<String, Object>> tables = new ArrayList<>();
+    private final List<Map<String, Object>> relations = new ArrayList<>();
+    private long nextColumnKey = 1;
+
+    private MockSchemaFixture() {
+    }
+
+    static Map<String, Object> shop() {
+        MockSchemaFixture fixture = new MockSchemaFixture();
+        fixture.table(1L, "users", List.of(
+                column("id", "INTEGER", List.of(), false, true, false, false, true),
+                column("email", "VARCHAR", List.of("100"), false, false, false, true, false),
+                column("name", "VARCHAR", List.of("50"), false, false, false, false, false),
+                column("status", "VARCHAR", List.of("10"), true, false, false, false, false),
+                column("manager_id", "INTEGER", List.of(), true, false, true, false, false)));
+        fixture.table(2L, "user_profiles", List.of(
+                column("user_id", "INTEGER", List.of(), false, true, true, false, false),
+                column("nickname", "VARCHAR", List.of("8"), false, false, false, true, false),
+                column("bio", "TEXT", List.of(), true, false, false, false, false)));
+        fixture.table(3L, "orders", List.of(
+                column("id", "BIGINT", List.of(), false, true, false, false, false),
+                column("user_id", "INTEGER", List.of(), false, false, true, false, false),
+                column("amount", "DECIMAL", List.of("10", "2"), false, false, false, false, false),
+                column("ordered_at", "TIMESTAMP", List.of(), false, false, false, false, false),
+                column("paid", "BOOLEAN", List.of(), false, false, false, false, false)));
+        fixture.table(4L, "order_items", List.of(
+                column("order_id", "BIGINT", List.of(), false, true, true, false, false),
+                column("line_no", "INTEGER", List.of(), false, true, false, false, false),
+                column("quantity", "SMALLINT", List.of(), false, false, false, false, false)));
+
+        fixture.relation(1L, "id", 1L, "manager_id");
+        fixture.relation(1L, "id", 2L, "user_id");
+        fixture.relation(1L, "id", 3L, "user_id");
+        // 반대 방향으로 저장된 관계 (from이 FK, to가 PK)
+        fixture.relation(4L, "order_id", 3L, "id");
+        return fixture.build();
+    }
+
+    /**
+     * a.b_id → b.id, b.a_id → a.id 순환 (nullable이면 한쪽을 NULL로 채워 생성 가능)
+     */
+    static Map<String, Object> cycle(boolean nullable) {
+        MockSchemaFixture fixture = new MockSchemaFixture();
+        fixture.table(1L, "a", List.of(
+                column("id", "INTEGER", List.of(), false, true, false, false, false),
+                column("b_id", "INTEGER", List.of(), nullable, false, true, false, false)));
+        fixture.table(2L, "b", List.of(
+                column("id", "INTEGER", List.of(), false, true, false, false, false),
+                column("a_id", "INTEGER", List.of(), nullable, false, true, false, false)));
+        fixture.relation(2L, "id", 1L, "b_id");
+        fixture.relation(1L, "id", 2L, "a_id");
+        return fixture.build();
+    }
+
+    private static Map<String, Object> column(String name, String type, List<String> detail, boolean nullable,
+                                              boolean primaryKey, boolean foreignKey, boolean unique,
+                                              boolean incremental) {
+        Map<String, Object> column = new LinkedHashMap<>();
+        column.put("physicalName", name);
+        column.put("dataType", type);
+        column.put("dataDetail", detail);
+        column.put("isNullable", nullable);
+        column.put("isPrimaryKey", primaryKey);
+        column.put("isForeignKey", foreignKey);
+        column.put("isUnique", unique);
+        column.put("isIncremental", incremental);
+        return column;
+    }
+
+    private void table(Long tableKey, String name, List<Map<String, Object>> columns) {
+        List<Map<String, Object>> keyed = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Map<String, Object> column = new LinkedHashMap<>(columns.get(i));
+            column.put("columnKey", nextColumnKey++);
+            column.put("columnOrder", i);
+            keyed.add(column);
+        }
+        tables.add(Map.of("tableKey", tableKey, "physicalName", name, "columns", keyed));
+    }
+
+    private void relation(Long fromTableKey, String fromColumn, Long toTableKey, String toColumn) {
+        relations.add(Map.of(
+                "fromTableKey", fromTableKey, "fromColumnKey", columnKey(fromTableKey, fromColumn),
+                "toTableKey", toTableKey, "toColumnKey", columnKey(toTableKey, toColumn)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long columnKey(Long tableKey, String name) {
+        return tables.stream()
+                .filter(table -> table.get("tableKey").equals(tableKey))
+                .flatMap(table -> ((List<Map<String, Object>>) table.get("columns")).stream())
+                .filter(column -> column.get("physicalName").equals(name))
+                .map(column -> (Long) column.get("columnKey"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Map<String, Object> build() {
+        return Map.of("tables", tables, "relations", relations);
+    }
+}
@@ -0,0 +1,157 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import com.yaldi.domain.viewer.dto.ViewerClient;
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessAction;
+import com.yaldi.domain.viewer.entity.ViewerLinkAccessOutcome;
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+import com.yaldi.domain.viewer.repository.ViewerLinkAccessLogRepository;
+import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.security.authz.AuthorizationCache;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 뷰어 접근 관문 테스트 (요청 제한 → 서명/만료/폐기 → 권한 범위 → 동시 접속 → 접근 기록)
+ */
+class ViewerLinkAccessServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-20T00:00:00Z");
+    private static final ViewerClient CLIENT = new ViewerClient("203.0.113.7", "JUnit", null);
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final ViewerLinkTokenCodec codec = new ViewerLinkTokenCodec("test-secret-test-secret-test-secret-0123", clock);
+    private final List<Recorded> recorded = new ArrayList<>();
+    private ViewerLinkProperties properties;
+    private ViewerLinkRevocationRegistry revocationRegistry;
+    private ViewerLinkAccessService accessService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new ViewerLinkProperties();
+        properties.setMaxConcurrentViewers(1);
+        properties.setRateLimitCapacity(3);
+
+        revocationRegistry = new ViewerLinkRevocationRegistry(mock(RedisTemplate.class), clock);
+        ViewerLinkService linkService = new ViewerLinkService(mock(RedisTemplate.class), mock(AuthorizationCache.class),
+                codec, revocationRegistry, properties, mock(ViewerLinkAccessLogRepository.class));
+
+        ViewerLinkAuditService auditService = mock(ViewerLinkAuditService.class);
+        doAnswer(inv -> recorded.add(new Recorded(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2))))
+                .when(auditService).record(any(), any(), any(), any());
+
+        accessService = new ViewerLinkAccessService(linkService, codec, new ViewerRateLimiter(properties, clock),
+                new ViewerSseEmitterManager(revocationRegistry, properties), auditService);
+    }
+
+    @Test
+    @DisplayName("유효한 링크는 허용되고 링크 식별자와 함께 기록된다")
+    void grantsValidLink() {
+        String token = issue(ViewerLinkScope.SNAPSHOT);
+
+        ViewerLinkInfo info = accessService.authorize(token, ViewerLinkAccessAction.ERD, CLIENT);
+
+        assertThat(info.projectKey()).isEqualTo(7L);
+        assertThat(recorded).containsExactly(
+                new Recorded(info, ViewerLinkAccessAction.ERD, ViewerLinkAccessOutcome.GRANTED));
+    }
+
+    @Test
+    @DisplayName("변조된 링크는 링크 정보 없이 INVALID로 기록된다")
+    void recordsTamperedLinkAsInvalid() {
+        String token = issue(ViewerLinkScope.LIVE);
+        String tampered = "x" + token.substring(1);
+
+        assertError(() -> accessService.authorize(tampered, ViewerLinkAccessAction.VALIDATE, CLIENT),
+                ErrorStatus.INVALID_VIEWER_LINK);
+        assertThat(recorded).containsExactly(
+                new Recorded(null, ViewerLinkAccessAction.VALIDATE, ViewerLinkAccessOutcome.INVALID));
+    }
+
+    @Test
+    @DisplayName("만료/폐기된 링크는 어떤 링크인지와 함께 기록된다")
+    void recordsExpiredAndRevokedLinks() {
+        String revoked = issue(ViewerLinkScope.LIVE);
+        ViewerLinkInfo revokedInfo = codec.decode(revoked);
+        revocationRegistry.revoke(revokedInfo.linkId(), revokedInfo.expiresAt());
+        String expired = codec.issue(7L, ViewerLinkScope.LIVE, NOW.minusSeconds(1));
+
+        assertError(() -> accessService.authorize(revoked, ViewerLinkAccessAction.ERD, CLIENT),
+                ErrorStatus.VIEWER_LINK_REVOKED);
+        assertError(() -> accessService.authorize(expired, ViewerLinkAccessAction.ERD, CLIENT),
+                ErrorStatus.VIEWER_LINK_EXPIRED);
+        assertThat(recorded).containsExactly(
+                new Recorded(revokedInfo, ViewerLinkAccessAction.ERD, ViewerLinkAccessOutcome.REVOKED),
+                new Recorded(codec.decode(expired), ViewerLinkAccessAction.ERD, ViewerLinkAccessOutcome.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("SNAPSHOT 링크로는 스트림을 열 수 없다")
+    void snapshotLinkCannotStream() {
+        String token = issue(ViewerLinkScope.SNAPSHOT);
+
+        assertError(() -> accessService.openStream(token, CLIENT), ErrorStatus.VIEWER_LINK_SCOPE_DENIED);
+        assertThat(recorded).extracting(Recorded::outcome).containsExactly(ViewerLinkAccessOutcome.SCOPE_DENIED);
+    }
+
+    @Test
+    @DisplayName("동시 접속 수를 넘긴 스트림은 거부되고 CAPACITY_EXCEEDED로 기록된다")
+    void streamCapacityIsEnforced() {
+        String token = issue(ViewerLinkScope.LIVE);
+
+        accessService.openStream(token, CLIENT);
+        assertError(() -> accessService.openStream(token, CLIENT), ErrorStatus.VIEWER_LINK_CAPACITY_EXCEEDED);
+
+        assertThat(recorded).extracting(Recorded::outcome)
+                .containsExactly(ViewerLinkAccessOutcome.GRANTED, ViewerLinkAccessOutcome.CAPACITY_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("IP 요청 제한을 넘긴 요청은 링크 검증 전에 거부되고 기록하지 않는다")
+    void rateLimitedBeforeValidation() {
+        String token = issue(ViewerLinkScope.SNAPSHOT);
+        for (int i = 0; i < properties.getRateLimitCapacity(); i++) {
+            accessService.authorize(token, ViewerLinkAccessAction.ERD, CLIENT);
+        }
+
+        assertError(() -> accessService.authorize("garbage", ViewerLinkAccessAction.ERD, CLIENT),
+                ErrorStatus.VIEWER_RATE_LIMIT_EXCEEDED);
+        assertThat(recorded).hasSize(properties.getRateLimitCapacity());
+
+        ViewerClient otherIp = new ViewerClient("198.51.100.1", "JUnit", null);
+        assertThat(accessService.authorize(token, ViewerLinkAccessAction.ERD, otherIp)).isNotNull();
+    }
+
+    private String issue(ViewerLinkScope scope) {
+        return codec.issue(7L, scope, NOW.plus(Duration.ofDays(3)));
+    }
+
+    private static void assertError(Runnable call, ErrorStatus status) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(status);
+    }
+
+    private record Recorded(ViewerLinkInfo link, ViewerLinkAccessAction action, ViewerLinkAccessOutcome outcome) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 뷰어링크 폐기 전파 테스트 (노드 2개가 인메모리 Redis ZSET/pub-sub을 공유)
+ */
+class ViewerLinkRevocationRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-20T00:00:00Z");
+
+    private final Map<String, Double> revokedSet = new ConcurrentHashMap<>();
+    private final List<ViewerLinkRevocationRegistry> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dropMessages = new AtomicBoolean(false);
+    private final MutableClock clock = new MutableClock(NOW);
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenAnswer(inv -> {
+            revokedSet.put(inv.getArgument(1), inv.getArgument(2));
+            return true;
+        });
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenAnswer(inv -> {
+            double min = inv.getArgument(1);
+            double max = inv.getArgument(2);
+            revokedSet.values().removeIf(score -> score >= min && score <= max);
+            return 0L;
+        });
+        when(zSetOperations.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble())).thenAnswer(inv -> {
+            double min = inv.getArgument(1);
+            double max = inv.getArgument(2);
+            return revokedSet.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= min && entry.getValue() <= max)
+                    .map(entry -> (TypedTuple<String>) new DefaultTypedTuple<>(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toSet());
+        });
+
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(inv -> {
+            String message = inv.getArgument(1);
+            if (!dropMessages.get()) {
+                subscribers.forEach(node -> node.onRevocation(message));
+            }
+            return (long) subscribers.size();
+        });
+    }
+
+    @Test
+    @DisplayName("한 노드에서 폐기하면 pub/sub으로 다른 노드의 로컬 목록에 반영된다")
+    void revocationPropagatesToOtherNodes() {
+        ViewerLinkRevocationRegistry nodeA = node();
+        ViewerLinkRevocationRegistry nodeB = node();
+
+        nodeA.revoke("link-1", NOW.plus(Duration.ofDays(1)));
+
+        assertThat(nodeA.isRevoked("link-1")).isTrue();
+        assertThat(nodeB.isRevoked("link-1")).isTrue();
+        assertThat(nodeB.isRevoked("link-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("메시지를 놓친 노드와 새로 뜬 노드는 동기화로 Redis 목록을 가져온다")
+    void missedMessagesRecoveredBySynchronize() {
+        ViewerLinkRevocationRegistry nodeA = node();
+        ViewerLinkRevocationRegistry nodeB = node();
+
+        dropMessages.set(true);
+        nodeA.revoke("link-1", NOW.plus(Duration.ofDays(1)));
+        assertThat(nodeB.isRevoked("link-1")).isFalse();
+
+        nodeB.synchronize();
+        ViewerLinkRevocationRegistry nodeC = node();
+        nodeC.synchronize();
+
+        assertThat(nodeB.isRevoked("link-1")).isTrue();
+        assertThat(nodeC.isRevoked("link-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("링크가 만료되면 폐기 항목도 로컬/Redis에서 정리된다")
+    void expiredEntriesArePruned() {
+        ViewerLinkRevocationRegistry nodeA = node();
+        nodeA.revoke("short", NOW.plus(Duration.ofHours(1)));
+        nodeA.revoke("long", NOW.plus(Duration.ofDays(3)));
+
+        clock.advance(Duration.ofHours(2));
+        nodeA.synchronize();
+
+        assertThat(nodeA.isRevoked("short")).isFalse();
+        assertThat(nodeA.isRevoked("long")).isTrue();
+        assertThat(revokedSet).containsOnlyKeys("long");
+    }
+
+    private ViewerLinkRevocationRegistry node() {
+        ViewerLinkRevocationRegistry registry = new ViewerLinkRevocationRegistry(redisTemplate, clock);
+        subscribers.add(registry);
+        return registry;
+    }
+}
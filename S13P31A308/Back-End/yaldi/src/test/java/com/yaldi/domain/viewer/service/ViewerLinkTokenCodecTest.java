@@ -0,0 +1,111 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ViewerLinkTokenCodecTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123";
+    private static final Instant NOW = Instant.parse("2025-11-20T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final ViewerLinkTokenCodec codec = new ViewerLinkTokenCodec(SECRET, clock);
+
+    @Test
+    @DisplayName("발급한 토큰은 Redis 없이 프로젝트/권한 범위/만료 시각을 복원한다")
+    void roundTrip() {
+        String token = codec.issue(42L, ViewerLinkScope.SNAPSHOT, NOW.plus(Duration.ofDays(3)));
+
+        ViewerLinkInfo info = codec.verify(token);
+
+        assertThat(info.projectKey()).isEqualTo(42L);
+        assertThat(info.scope()).isEqualTo(ViewerLinkScope.SNAPSHOT);
+        assertThat(info.expiresAt()).isEqualTo(NOW.plus(Duration.ofDays(3)));
+        assertThat(info.linkId()).hasSize(16);
+        assertThat(codec.issue(42L, ViewerLinkScope.SNAPSHOT, NOW.plusSeconds(60))).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("페이로드를 바꾸면 (다른 프로젝트, 권한 상승, 만료 연장) 서명 검증에 실패한다")
+    void rejectsTamperedPayload() {
+        String token = codec.issue(42L, ViewerLinkScope.SNAPSHOT, NOW.plusSeconds(60));
+        ViewerLinkInfo original = codec.verify(token);
+        String signature = token.substring(token.indexOf('.'));
+
+        for (String payload : new String[]{
+                payload(original.linkId(), 43L, "SNAPSHOT", original.expiresAt()),
+                payload(original.linkId(), 42L, "LIVE", original.expiresAt()),
+                payload(original.linkId(), 42L, "SNAPSHOT", original.expiresAt().plus(Duration.ofDays(365)))}) {
+            assertInvalid(payload + signature);
+        }
+    }
+
+    @Test
+    @DisplayName("서명 변조, 다른 키로 서명, 형식 오류는 모두 INVALID_VIEWER_LINK")
+    void rejectsForgedTokens() {
+        String token = codec.issue(42L, ViewerLinkScope.LIVE, NOW.plusSeconds(60));
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String flipped = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+        String otherKey = new ViewerLinkTokenCodec("another-secret-another-secret-another-0", clock)
+                .issue(42L, ViewerLinkScope.LIVE, NOW.plusSeconds(60));
+
+        assertInvalid(flipped);
+        // 마지막 문자는 패딩 비트만 달라 같은 바이트로 디코딩되는 경우도 있으나 정규 인코딩만 허용
+        String withoutLast = token.substring(0, token.length() - 1);
+        for (char c : "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray()) {
+            if (c != token.charAt(token.length() - 1)) {
+                assertInvalid(withoutLast + c);
+            }
+        }
+        assertInvalid(otherKey);
+        assertInvalid(token.substring(0, token.indexOf('.')));
+        assertInvalid(token + ".extra");
+        assertInvalid("2b1c4e1a-8c1f-4a57-b2a3-3f9f1c0e0d11");
+        assertInvalid("%%%.%%%");
+        assertInvalid(null);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 VIEWER_LINK_EXPIRED, 서명만 확인하는 decode는 허용")
+    void rejectsExpiredToken() {
+        String token = codec.issue(42L, ViewerLinkScope.LIVE, NOW.plusSeconds(60));
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(codec.verify(token).projectKey()).isEqualTo(42L);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(() -> codec.verify(token))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.VIEWER_LINK_EXPIRED);
+        assertThat(codec.decode(token).projectKey()).isEqualTo(42L);
+    }
+
+    private void assertInvalid(String token) {
+        assertThatThrownBy(() -> codec.verify(token))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.INVALID_VIEWER_LINK);
+    }
+
+    private static String payload(String linkId, Long projectKey, String scope, Instant expiresAt) {
+        String raw = String.join("|", "v1", linkId, projectKey.toString(), scope,
+                Long.toString(expiresAt.getEpochSecond()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
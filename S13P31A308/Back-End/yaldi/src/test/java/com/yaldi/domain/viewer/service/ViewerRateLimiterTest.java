@@ -0,0 +1,44 @@
+package com.yaldi.domain.viewer.service;
+
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewerRateLimiterTest {
+
+    @Test
+    @DisplayName("IP별로 버킷 크기만큼 허용하고, 분당 충전량에 비례해 다시 허용한다")
+    void tokenBucketPerIp() {
+        ViewerLinkProperties properties = new ViewerLinkProperties();
+        properties.setRateLimitCapacity(5);
+        properties.setRateLimitRefillPerMinute(60);
+        MutableClock clock = new MutableClock(Instant.parse("2025-11-20T00:00:00Z"));
+        ViewerRateLimiter limiter = new ViewerRateLimiter(properties, clock);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("203.0.113.1")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("203.0.113.1")).isFalse();
+        assertThat(limiter.tryAcquire("203.0.113.2")).isTrue();
+
+        // 초당 1개 충전
+        clock.advance(Duration.ofMillis(999));
+        assertThat(limiter.tryAcquire("203.0.113.1")).isFalse();
+        clock.advance(Duration.ofMillis(1));
+        assertThat(limiter.tryAcquire("203.0.113.1")).isTrue();
+
+        // 오래 쉬어도 버킷 크기까지만 충전
+        clock.advance(Duration.ofMinutes(10));
+        int allowed = 0;
+        while (limiter.tryAcquire("203.0.113.1")) {
+            allowed++;
+        }
+        assertThat(allowed).isEqualTo(5);
+    }
+}
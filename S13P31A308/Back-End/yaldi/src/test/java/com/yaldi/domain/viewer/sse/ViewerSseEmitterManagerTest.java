@@ -0,0 +1,89 @@
+package com.yaldi.domain.viewer.sse;
+
+import com.yaldi.domain.viewer.config.ViewerLinkProperties;
+import com.yaldi.domain.viewer.dto.ViewerLinkInfo;
+import com.yaldi.domain.viewer.entity.ViewerLinkScope;
+import com.yaldi.domain.viewer.service.ViewerLinkRevocationRegistry;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewerSseEmitterManagerTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-20T00:00:00Z");
+    private static final Long PROJECT = 10L;
+
+    private final ViewerLinkRevocationRegistry revocationRegistry = mock(ViewerLinkRevocationRegistry.class);
+    private ViewerSseEmitterManager manager;
+
+    @BeforeEach
+    void setUp() {
+        ViewerLinkProperties properties = new ViewerLinkProperties();
+        properties.setMaxConcurrentViewers(2);
+        manager = new ViewerSseEmitterManager(revocationRegistry, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("링크별 동시 접속 수를 넘으면 VIEWER_LINK_CAPACITY_EXCEEDED, 다른 링크는 영향 없음")
+    void enforcesPerLinkCap() {
+        ViewerLinkInfo shared = link("shared", NOW.plus(Duration.ofDays(1)));
+
+        manager.createEmitter(shared);
+        manager.createEmitter(shared);
+
+        assertThatThrownBy(() -> manager.createEmitter(shared))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.VIEWER_LINK_CAPACITY_EXCEEDED);
+        assertThat(manager.getLinkConnectionCount("shared")).isEqualTo(2);
+
+        manager.createEmitter(link("other", NOW.plus(Duration.ofDays(1))));
+        assertThat(manager.getViewerCount(PROJECT)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("폐기된 링크의 연결은 다음 브로드캐스트에서 종료되고 접속 수를 반환한다")
+    void revokedLinkConnectionsAreClosed() {
+        ViewerLinkInfo revoked = link("revoked", NOW.plus(Duration.ofDays(1)));
+        ViewerLinkInfo active = link("active", NOW.plus(Duration.ofDays(1)));
+        manager.createEmitter(revoked);
+        manager.createEmitter(revoked);
+        manager.createEmitter(active);
+
+        when(revocationRegistry.isRevoked("revoked")).thenReturn(true);
+        manager.sendToViewers(PROJECT, ErdBroadcastEvent.builder().projectKey(PROJECT).build());
+
+        assertThat(manager.getViewerCount(PROJECT)).isEqualTo(1);
+        assertThat(manager.getLinkConnectionCount("revoked")).isZero();
+        assertThat(manager.getLinkConnectionCount("active")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 링크의 연결은 브로드캐스트가 없어도 주기 정리에서 종료된다")
+    void expiredLinkConnectionsAreClosedBySweep() {
+        manager.createEmitter(link("expired", NOW));
+        manager.createEmitter(link("valid", NOW.plusSeconds(1)));
+
+        manager.closeInvalidConnections();
+
+        assertThat(manager.getViewerCount(PROJECT)).isEqualTo(1);
+        assertThat(manager.getLinkConnectionCount("expired")).isZero();
+    }
+
+    private static ViewerLinkInfo link(String linkId, Instant expiresAt) {
+        return new ViewerLinkInfo(linkId, PROJECT, ViewerLinkScope.LIVE, expiresAt);
+    }
+}
@@ -0,0 +1,181 @@
+package com.yaldi.global.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 격벽 테스트
+ */
+class AsyncBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("메일 격벽이 포화되어도 알림 작업은 지연 없이 실행됨")
+    void saturatedMailDoesNotDelayNotification() throws Exception {
+        AsyncProperties properties = new AsyncProperties();
+        properties.getBulkheads().put(AsyncBulkhead.MAIL, pool(1, 1, 2, AsyncBulkhead.RejectionPolicy.DISCARD));
+        ThreadPoolTaskExecutor mail = create(properties, AsyncBulkhead.MAIL);
+        ThreadPoolTaskExecutor notification = create(properties, AsyncBulkhead.NOTIFICATION);
+
+        CountDownLatch mailStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 실행 1 + 큐 2 + 거부 3
+            for (int i = 0; i < 6; i++) {
+                mail.execute(() -> {
+                    mailStarted.countDown();
+                    await(release);
+                });
+            }
+            assertThat(mailStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 경과 시간 대신, 알림 작업이 실행되는 시점에 메일 격벽이 여전히 포화 상태인지로 격리를 확인
+            CompletableFuture<Object[]> observed = notification.submitCompletable(() -> new Object[]{
+                    Thread.currentThread().getName(), release.getCount(), mail.getActiveCount(), mail.getQueueSize()});
+
+            Object[] state = observed.get(5, TimeUnit.SECONDS);
+            assertThat((String) state[0]).startsWith("async-notification-");
+            assertThat(state[1]).as("메일 작업 해제 전").isEqualTo(1L);
+            assertThat(state[2]).as("메일 실행 중").isEqualTo(1);
+            assertThat(state[3]).as("메일 큐 대기").isEqualTo(2);
+            assertThat(gauge("async.bulkhead.queue.size", "mail")).isEqualTo(2);
+            assertThat(gauge("async.bulkhead.active", "mail")).isEqualTo(1);
+            assertThat(meterRegistry.get("async.bulkhead.rejected").tag("bulkhead", "mail").counter().count())
+                    .isEqualTo(3);
+            assertThat(meterRegistry.get("async.bulkhead.rejected").tag("bulkhead", "notification").counter().count())
+                    .isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("거부 정책: ABORT는 예외, CALLER_RUNS는 호출 스레드에서 실행")
+    void rejectionPolicies() {
+        AsyncProperties properties = new AsyncProperties();
+        properties.getBulkheads().put(AsyncBulkhead.AI, pool(1, 1, 1, AsyncBulkhead.RejectionPolicy.ABORT));
+        properties.getBulkheads().put(AsyncBulkhead.MAIL, pool(1, 1, 1, AsyncBulkhead.RejectionPolicy.CALLER_RUNS));
+        ThreadPoolTaskExecutor ai = create(properties, AsyncBulkhead.AI);
+        ThreadPoolTaskExecutor mail = create(properties, AsyncBulkhead.MAIL);
+
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ai.execute(() -> await(release));
+            ai.execute(() -> await(release));
+            assertThatThrownBy(() -> ai.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+
+            mail.execute(() -> await(release));
+            mail.execute(() -> await(release));
+            Thread caller = Thread.currentThread();
+            AtomicInteger ranOnCaller = new AtomicInteger();
+            mail.execute(() -> {
+                if (Thread.currentThread() == caller) {
+                    ranOnCaller.incrementAndGet();
+                }
+            });
+            assertThat(ranOnCaller).hasValue(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("MDC와 SecurityContext가 작업 스레드로 전파되고 실행 후 정리됨")
+    void propagatesContext() throws Exception {
+        ThreadPoolTaskExecutor executor = create(new AsyncProperties(), AsyncBulkhead.DEFAULT);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(7, null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "req-1");
+
+        CompletableFuture<Object[]> inside = executor.submitCompletable(() -> new Object[]{
+                MDC.get("requestId"), SecurityContextHolder.getContext().getAuthentication()});
+        Object[] captured = inside.get(1, TimeUnit.SECONDS);
+        assertThat(captured[0]).isEqualTo("req-1");
+        assertThat(captured[1]).isSameAs(authentication);
+
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+        CompletableFuture<Object[]> after = executor.submitCompletable(() -> new Object[]{
+                MDC.get("requestId"), SecurityContextHolder.getContext().getAuthentication()});
+        assertThat(after.get(1, TimeUnit.SECONDS)).containsOnlyNulls();
+        assertThat(meterRegistry.get("async.bulkhead.wait").tag("bulkhead", "default").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서도 격벽 크기 제한이 적용됨")
+    void virtualThreads() throws Exception {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setVirtualThreads(true);
+        properties.getBulkheads().put(AsyncBulkhead.EXPORT, pool(1, 1, 0, AsyncBulkhead.RejectionPolicy.ABORT));
+        ThreadPoolTaskExecutor export = create(properties, AsyncBulkhead.EXPORT);
+
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Boolean> virtual = export.submitCompletable(() -> {
+                await(release);
+                return Thread.currentThread().isVirtual();
+            });
+            assertThatThrownBy(() -> export.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+            release.countDown();
+            assertThat(virtual.get(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private ThreadPoolTaskExecutor create(AsyncProperties properties, AsyncBulkhead bulkhead) {
+        ThreadPoolTaskExecutor executor = new BulkheadExecutorFactory(properties, meterRegistry).create(bulkhead);
+        executor.initialize();
+        executors.add(executor);
+        return executor;
+    }
+
+    private AsyncProperties.Pool pool(int core, int max, int queue, AsyncBulkhead.RejectionPolicy policy) {
+        AsyncProperties.Pool pool = new AsyncProperties.Pool();
+        pool.setCoreSize(core);
+        pool.setMaxSize(max);
+        pool.setQueueCapacity(queue);
+        pool.setRejectionPolicy(policy);
+        return pool;
+    }
+
+    private double gauge(String name, String bulkhead) {
+        return meterRegistry.get(name).tag("bulkhead", bulkhead).gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
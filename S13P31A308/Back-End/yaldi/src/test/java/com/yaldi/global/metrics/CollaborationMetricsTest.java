@@ -0,0 +1,115 @@
+package com.yaldi.global.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollaborationMetricsTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T00:00:00Z");
+
+    private SimpleMeterRegistry registry;
+    private CollaborationMetricsProperties properties;
+    private CollaborationMetrics metrics;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new CollaborationMetricsProperties();
+        metrics = new CollaborationMetrics(registry, properties, Clock.fixed(NOW, ZoneOffset.UTC), nanos::get);
+    }
+
+    @Test
+    @DisplayName("목적지 태그 수가 상한을 넘으면 나머지는 other로 묶는다")
+    void destinationTagsAreCapped() {
+        properties.setMaxDestinationTags(2);
+
+        metrics.recordInbound("/pub/erd/table/move");
+        metrics.recordInbound("/pub/erd/cursor");
+        metrics.recordInbound("/pub/random/1");
+        metrics.recordInbound("/pub/random/2");
+        metrics.recordInbound("/pub/erd/table/move");
+
+        assertThat(registry.get("collab.ws.inbound").counters()).hasSize(3);
+        assertThat(registry.get("collab.ws.inbound").tag("destination", "/pub/erd/table/move").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("collab.ws.inbound").tag("destination", CollaborationMetrics.OTHER).counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구간 지연은 주어진 시각부터 재고, 미래 시각(시계 차이)은 버린다")
+    void eventLatencyIgnoresClockSkew() {
+        metrics.recordClientLatency(NOW.toEpochMilli() - 40);
+        metrics.recordClientLatency(NOW.toEpochMilli() + 500);
+        metrics.recordEventLatency(CollaborationMetrics.STAGE_KAFKA, null);
+
+        var timer = registry.get("collab.event.latency")
+                .tag("stage", CollaborationMetrics.STAGE_CLIENT_TO_SERVER).timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+        assertThat(registry.find("collab.event.latency").tag("stage", CollaborationMetrics.STAGE_KAFKA).timer())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("락 보유 시간은 이 노드에서 획득한 락을 해제할 때만 기록한다")
+    void lockHoldRequiresLocalAcquire() {
+        metrics.recordLockAttempt(1L, CollaborationMetrics.LOCK_ACQUIRED, 1_000);
+        metrics.recordLockAttempt(1L, CollaborationMetrics.LOCK_CONTENDED, 1_000);
+        metrics.recordLockRelease(1L, CollaborationMetrics.RELEASE_UNLOCK);
+        metrics.recordLockRelease(1L, CollaborationMetrics.RELEASE_UNLOCK);
+        metrics.recordLockRelease(2L, CollaborationMetrics.RELEASE_DISCONNECT);
+
+        assertThat(registry.get("collab.lock.acquire").tag("result", CollaborationMetrics.LOCK_CONTENDED)
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("collab.lock.hold").tag("reason", CollaborationMetrics.RELEASE_UNLOCK)
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("collab.lock.hold").tag("reason", CollaborationMetrics.RELEASE_DISCONNECT).timer())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("해제 소식 없이 락 TTL이 지난 추적은 버리고, 하트비트를 받은 락은 계속 추적한다")
+    void lockHoldTrackingExpiresWithoutHeartbeat() {
+        long step = properties.getLockHoldTtl().multipliedBy(2).dividedBy(3).toNanos();
+        metrics.recordLockAttempt(1L, CollaborationMetrics.LOCK_ACQUIRED, 1_000);
+        metrics.recordLockAttempt(2L, CollaborationMetrics.LOCK_ACQUIRED, 1_000);
+
+        nanos.addAndGet(step);
+        metrics.recordLockHeartbeat(1L);
+        nanos.addAndGet(step);
+        metrics.recordLockRelease(1L, CollaborationMetrics.RELEASE_UNLOCK);
+        metrics.recordLockRelease(2L, CollaborationMetrics.RELEASE_DISCONNECT);  // 다른 노드에서 해제/만료된 락
+
+        Timer hold = registry.get("collab.lock.hold").tag("reason", CollaborationMetrics.RELEASE_UNLOCK).timer();
+        assertThat(hold.count()).isEqualTo(1);
+        assertThat(hold.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(2.0 * step);
+        assertThat(registry.find("collab.lock.hold").tag("reason", CollaborationMetrics.RELEASE_DISCONNECT).timer())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("flush마다 버퍼 이벤트 수와 압축 후 발행 수를 누적한다")
+    void flushCountsBufferedAndPublished() {
+        metrics.recordFlush(1_000, 10, 3);
+        metrics.recordFlush(1_000, 0, 0);
+
+        assertThat(registry.get("collab.broadcast.flush").timer().count()).isEqualTo(2);
+        assertThat(registry.get("collab.broadcast.flush.events").tag("stage", "buffered").counter().count())
+                .isEqualTo(10);
+        assertThat(registry.get("collab.broadcast.flush.events").tag("stage", "published").counter().count())
+                .isEqualTo(3);
+    }
+}
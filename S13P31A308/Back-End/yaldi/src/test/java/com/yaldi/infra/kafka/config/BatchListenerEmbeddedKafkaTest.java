@@ -0,0 +1,204 @@
+package com.yaldi.infra.kafka.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.infra.kafka.listener.BatchRecordProcessor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 리스너 팩토리 Embedded Kafka 테스트 (순서 보장, 독성 메시지 격리, 처리량)
+ */
+@EmbeddedKafka(partitions = 3, topics = {
+        KafkaTopic.COLLABORATION_TOPIC, KafkaTopic.COLLABORATION_TOPIC + KafkaTopic.DLT_SUFFIX,
+        KafkaTopic.VERSION_VERIFICATION_TOPIC, KafkaTopic.VERSION_VERIFICATION_TOPIC + KafkaTopic.DLT_SUFFIX,
+        KafkaTopic.EXAMPLE_TOPIC, KafkaTopic.EXAMPLE_TOPIC + KafkaTopic.DLT_SUFFIX
+})
+class BatchListenerEmbeddedKafkaTest {
+
+    record TestEvent(Long projectKey, int seq, boolean poison) {
+    }
+
+    private EmbeddedKafkaBroker broker;
+    private KafkaTemplate<String, Object> jsonTemplate;
+    private KafkaTemplate<String, byte[]> bytesTemplate;
+    private BatchListenerFactorySupport support;
+    private final List<ConcurrentMessageListenerContainer<String, TestEvent>> containers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        jsonTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                producerProps, new StringSerializer(), new JsonSerializer<>(objectMapper)));
+        bytesTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                producerProps, new StringSerializer(), new ByteArraySerializer()));
+
+        KafkaListenerProperties properties = new KafkaListenerProperties();
+        properties.setRetryBackoff(List.of(Duration.ofMillis(10), Duration.ofMillis(10)));
+        // 협업 토픽은 대기 없이 한 번만 재시도
+        KafkaListenerProperties.TopicSettings collaboration = new KafkaListenerProperties.TopicSettings();
+        collaboration.setRetryBackoff(List.of(Duration.ZERO));
+        properties.getTopics().put(KafkaTopic.COLLABORATION, collaboration);
+
+        support = new BatchListenerFactorySupport(broker.getBrokersAsString(), objectMapper, properties,
+                jsonTemplate, bytesTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+    }
+
+    @Test
+    @DisplayName("동시성 3에서도 같은 프로젝트 이벤트는 재시도를 거쳐도 발행 순서대로 처리됨")
+    void keyOrderingUnderConcurrency() throws Exception {
+        int perProject = 100;
+        Map<Long, List<Integer>> processed = new ConcurrentHashMap<>();
+        Map<Long, String> threadsByProject = new ConcurrentHashMap<>();
+        AtomicInteger transientFailures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(3 * perProject);
+
+        start(KafkaTopic.COLLABORATION, "ordering-test", event -> {
+            // 프로젝트 2의 50번째 이벤트는 첫 시도에서 실패
+            if (event.projectKey() == 2L && event.seq() == 50 && transientFailures.getAndIncrement() == 0) {
+                throw new IllegalStateException("일시적 실패");
+            }
+            processed.computeIfAbsent(event.projectKey(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.seq());
+            threadsByProject.putIfAbsent(event.projectKey(), Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        for (int seq = 0; seq < perProject; seq++) {
+            for (long projectKey = 1; projectKey <= 3; projectKey++) {
+                jsonTemplate.send(KafkaTopic.COLLABORATION_TOPIC, String.valueOf(projectKey),
+                        new TestEvent(projectKey, seq, false));
+            }
+        }
+        jsonTemplate.flush();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = IntStream.range(0, perProject).boxed().toList();
+        for (long projectKey = 1; projectKey <= 3; projectKey++) {
+            assertThat(processed.get(projectKey)).as("project %d", projectKey).isEqualTo(expected);
+        }
+        assertThat(transientFailures.get()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("역직렬화 불가/처리 실패 레코드만 DLT로 이동하고 나머지는 정상 처리됨")
+    void poisonPillIsolation() throws Exception {
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger poisonAttempts = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(3);
+
+        start(KafkaTopic.VERSION_VERIFICATION, "poison-test", event -> {
+            if (event.poison()) {
+                poisonAttempts.incrementAndGet();
+                throw new IllegalArgumentException("처리 불가 이벤트");
+            }
+            processed.add(event.seq());
+            done.countDown();
+        });
+
+        String key = "7";
+        jsonTemplate.send(KafkaTopic.VERSION_VERIFICATION_TOPIC, key, new TestEvent(7L, 1, false));
+        bytesTemplate.send(KafkaTopic.VERSION_VERIFICATION_TOPIC, key, "{not-json".getBytes(StandardCharsets.UTF_8));
+        jsonTemplate.send(KafkaTopic.VERSION_VERIFICATION_TOPIC, key, new TestEvent(7L, 2, false));
+        jsonTemplate.send(KafkaTopic.VERSION_VERIFICATION_TOPIC, key, new TestEvent(7L, 99, true));
+        jsonTemplate.send(KafkaTopic.VERSION_VERIFICATION_TOPIC, key, new TestEvent(7L, 3, false));
+        jsonTemplate.flush();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactly(1, 2, 3);
+        // 최초 1회 + 재시도 2회
+        assertThat(poisonAttempts).hasValue(3);
+
+        try (Consumer<String, byte[]> dltConsumer = new DefaultKafkaConsumerFactory<>(
+                KafkaTestUtils.consumerProps("dlt-reader", "false", broker),
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(dltConsumer, KafkaTopic.VERSION_VERIFICATION.getDltName());
+            ConsumerRecords<String, byte[]> dlt = KafkaTestUtils.getRecords(dltConsumer, Duration.ofSeconds(10), 2);
+
+            List<String> payloads = new ArrayList<>();
+            dlt.forEach(record -> payloads.add(new String(record.value(), StandardCharsets.UTF_8)));
+            assertThat(payloads).hasSize(2);
+            assertThat(payloads).anyMatch(payload -> payload.equals("{not-json"));
+            assertThat(payloads).anyMatch(payload -> payload.contains("\"seq\":99"));
+            dlt.forEach(record -> assertThat(record.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_FQCN)).isNotNull());
+        }
+    }
+
+    @Test
+    @DisplayName("배치 수신으로 대량 메시지를 처리")
+    void throughput() throws Exception {
+        int total = 5_000;
+        AtomicInteger maxBatchSize = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+
+        ConcurrentKafkaListenerContainerFactory<String, TestEvent> factory =
+                support.create(KafkaTopic.EXAMPLE, "throughput-test", TestEvent.class);
+        ConcurrentMessageListenerContainer<String, TestEvent> container = factory.createContainer(KafkaTopic.EXAMPLE_TOPIC);
+        container.getContainerProperties().setMessageListener((BatchMessageListener<String, TestEvent>) records -> {
+            maxBatchSize.accumulateAndGet(records.size(), Math::max);
+            BatchRecordProcessor.forEach(records, event -> done.countDown());
+        });
+        container.start();
+        containers.add(container);
+        ContainerTestUtils.waitForAssignment(container, KafkaTopic.EXAMPLE.getPartitions());
+
+        for (int i = 0; i < total; i++) {
+            jsonTemplate.send(KafkaTopic.EXAMPLE_TOPIC, String.valueOf(i % 50), new TestEvent((long) (i % 50), i, false));
+        }
+        jsonTemplate.flush();
+
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxBatchSize.get()).isGreaterThan(1);
+    }
+
+    private void start(KafkaTopic topic, String groupId, java.util.function.Consumer<TestEvent> handler) {
+        ConcurrentKafkaListenerContainerFactory<String, TestEvent> factory = support.create(topic, groupId, TestEvent.class);
+        ConcurrentMessageListenerContainer<String, TestEvent> container = factory.createContainer(topic.getTopicName());
+        container.getContainerProperties().setMessageListener(
+                (BatchMessageListener<String, TestEvent>) records -> BatchRecordProcessor.forEach(records, handler));
+        container.start();
+        containers.add(container);
+        ContainerTestUtils.waitForAssignment(container, topic.getPartitions());
+    }
+}
@@ -0,0 +1,45 @@
+package com.yaldi.infra.s3.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresignedUrlCacheTest {
+
+    private static final String S3_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/mock-data/a.sql";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger signed = new AtomicInteger();
+    private final S3Service s3Service = mock(S3Service.class);
+    private final PresignedUrlCache cache = new PresignedUrlCache(s3Service, nanos::get);
+
+    @Test
+    @DisplayName("만료 여유 시간 전까지는 같은 URL을 재사용하고, 이후에는 새로 서명한다")
+    void reusesUntilNearExpiry() {
+        when(s3Service.generatePresignedUrl(anyString(), eq(PresignedUrlCache.VALIDITY)))
+                .thenAnswer(invocation -> "signed-" + signed.incrementAndGet());
+
+        assertThat(cache.get(S3_URL)).isEqualTo("signed-1");
+        advance(PresignedUrlCache.VALIDITY.minus(PresignedUrlCache.REFRESH_MARGIN).minusSeconds(1));
+        assertThat(cache.get(S3_URL)).isEqualTo("signed-1");
+
+        advance(Duration.ofSeconds(1));
+        assertThat(cache.get(S3_URL)).isEqualTo("signed-2");
+        verify(s3Service, times(2)).generatePresignedUrl(S3_URL, PresignedUrlCache.VALIDITY);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,244 @@
+package com.yaldi.infra.security.authz;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.yaldi.domain.project.entity.ProjectMemberRelation;
+import com.yaldi.domain.project.entity.ProjectMemberRole;
+import com.yaldi.domain.project.repository.ProjectMemberRelationRepository;
+import com.yaldi.domain.team.repository.UserTeamRelationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 2계층 권한 캐시 테스트 (노드 2개가 인메모리 Redis/pub-sub을 공유)
+ */
+class AuthorizationCacheTest {
+
+    private static final Integer USER = 7;
+    private static final Long PROJECT = 100L;
+    private static final Integer TEAM = 3;
+
+    private final Map<String, Map<String, String>> redisHashes = new ConcurrentHashMap<>();
+    private final List<AuthorizationCache> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dropMessages = new AtomicBoolean(false);
+    private final ScheduledExecutorService bus = Executors.newSingleThreadScheduledExecutor();
+    private final Duration busLatency = Duration.ofMillis(20);
+
+    private final Map<Integer, List<ProjectMemberRelation>> projectMembers = new ConcurrentHashMap<>();
+    private ProjectMemberRelationRepository projectMemberRelationRepository;
+    private UserTeamRelationRepository userTeamRelationRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private AuthorizationCacheProperties properties;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        projectMemberRelationRepository = mock(ProjectMemberRelationRepository.class);
+        userTeamRelationRepository = mock(UserTeamRelationRepository.class);
+        when(projectMemberRelationRepository.findByMemberKey(anyInt()))
+                .thenAnswer(inv -> projectMembers.getOrDefault(inv.<Integer>getArgument(0), List.of()));
+        when(userTeamRelationRepository.findTeamKeysByUser_UserKey(anyInt())).thenReturn(Set.of(TEAM));
+
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(hashOperations.entries(anyString()))
+                .thenAnswer(inv -> Map.copyOf(redisHashes.getOrDefault(inv.<String>getArgument(0), Map.of())));
+        doAnswer(inv -> {
+            redisHashes.computeIfAbsent(inv.getArgument(0), k -> new ConcurrentHashMap<>())
+                    .putAll(inv.getArgument(1));
+            return null;
+        }).when(hashOperations).putAll(anyString(), anyMap());
+
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.execute(any(SessionCallback.class)))
+                .thenAnswer(inv -> inv.<SessionCallback<?>>getArgument(0).execute(redisTemplate));
+        when(redisTemplate.delete(anyCollection())).thenAnswer(inv -> {
+            inv.<Collection<String>>getArgument(0).forEach(redisHashes::remove);
+            return 1L;
+        });
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(inv -> {
+            String message = inv.getArgument(1);
+            if (!dropMessages.get()) {
+                subscribers.forEach(node -> bus.schedule(
+                        () -> node.onInvalidation(message), busLatency.toMillis(), TimeUnit.MILLISECONDS));
+            }
+            return (long) subscribers.size();
+        });
+
+        properties = new AuthorizationCacheProperties();
+        properties.setLocalTtl(Duration.ofSeconds(5));
+
+        grant(ProjectMemberRole.EDITOR);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("권한 회수는 pub/sub 전달 지연 안에 다른 노드에 반영됨")
+    void revocationPropagatesToOtherNodes() throws Exception {
+        AuthorizationCache nodeA = node(Ticker.systemTicker());
+        AuthorizationCache nodeB = node(Ticker.systemTicker());
+        assertThat(nodeA.getProjectRole(PROJECT, USER)).contains(ProjectMemberRole.EDITOR);
+        assertThat(nodeB.getProjectRole(PROJECT, USER)).contains(ProjectMemberRole.EDITOR);
+
+        revoke();
+        long revokedAt = System.nanoTime();
+        nodeA.evictUser(USER);
+
+        // 발행 노드는 즉시 반영
+        assertThat(nodeA.getProjectRole(PROJECT, USER)).isEmpty();
+
+        long deadline = revokedAt + TimeUnit.SECONDS.toNanos(2);
+        while (nodeB.getProjectRole(PROJECT, USER).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        long propagationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - revokedAt);
+
+        assertThat(nodeB.getProjectRole(PROJECT, USER)).isEmpty();
+        assertThat(propagationMillis).isLessThan(properties.getLocalTtl().toMillis());
+        // 무효화 이후 재로딩이 남긴 스냅샷은 허용하되, 회수 전 역할은 남아 있지 않아야 함
+        assertThat(redisHashes.getOrDefault("authz:user:" + USER, Map.of())).doesNotContainKey("p:" + PROJECT);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지가 유실되어도 오래된 권한은 로컬 TTL 이내에만 노출됨")
+    void staleReadBoundedByLocalTtl() {
+        FakeTicker ticker = new FakeTicker();
+        AuthorizationCache nodeA = node(ticker);
+        AuthorizationCache nodeB = node(ticker);
+        nodeB.getProjectRole(PROJECT, USER);
+
+        dropMessages.set(true);
+        revoke();
+        nodeA.evictUser(USER);
+
+        // 메시지를 받지 못한 노드는 로컬 TTL 동안 이전 권한을 반환
+        ticker.advance(properties.getLocalTtl().minusMillis(1));
+        assertThat(nodeB.getProjectRole(PROJECT, USER)).contains(ProjectMemberRole.EDITOR);
+
+        // TTL이 지나면 (발행 노드가 이미 삭제한) Redis를 건너 DB에서 회수된 권한을 읽음
+        ticker.advance(Duration.ofMillis(1));
+        assertThat(nodeB.getProjectRole(PROJECT, USER)).isEmpty();
+        assertThat(nodeA.getProjectRole(PROJECT, USER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 적재한 스냅샷은 Redis에서 읽고 DB를 다시 조회하지 않음")
+    void secondNodeReadsFromRedis() {
+        AuthorizationCache nodeA = node(Ticker.systemTicker());
+        AuthorizationCache nodeB = node(Ticker.systemTicker());
+
+        assertThat(nodeA.getProjectRole(PROJECT, USER)).contains(ProjectMemberRole.EDITOR);
+        assertThat(nodeB.getProjectRole(PROJECT, USER)).contains(ProjectMemberRole.EDITOR);
+        assertThat(nodeB.isTeamMember(USER, TEAM)).isTrue();
+        assertThat(nodeB.isTeamMember(USER, TEAM + 1)).isFalse();
+
+        verify(projectMemberRelationRepository, times(1)).findByMemberKey(USER);
+        verify(userTeamRelationRepository, times(1)).findTeamKeysByUser_UserKey(USER);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 한 번의 적재로 모든 프로젝트 역할을 반환하고 비멤버 프로젝트는 제외")
+    void batchLookupUsesSingleLoad() {
+        projectMembers.put(USER, List.of(
+                relation(1L, ProjectMemberRole.OWNER),
+                relation(2L, ProjectMemberRole.ADMIN),
+                relation(3L, ProjectMemberRole.EDITOR)));
+        AuthorizationCache node = node(Ticker.systemTicker());
+
+        Map<Long, ProjectMemberRole> roles = node.getProjectRoles(USER, List.of(1L, 2L, 3L, 4L));
+        Optional<ProjectMemberRole> single = node.getProjectRole(2L, USER);
+
+        assertThat(roles).containsOnly(
+                Map.entry(1L, ProjectMemberRole.OWNER),
+                Map.entry(2L, ProjectMemberRole.ADMIN),
+                Map.entry(3L, ProjectMemberRole.EDITOR));
+        assertThat(single).contains(ProjectMemberRole.ADMIN);
+        verify(projectMemberRelationRepository, times(1)).findByMemberKey(USER);
+    }
+
+    @Test
+    @DisplayName("DB에서 적재한 스냅샷은 저장과 TTL 설정을 하나의 MULTI/EXEC로 Redis에 기록")
+    void storesSnapshotWithTtlInOneTransaction() {
+        node(Ticker.systemTicker()).getProjectRole(PROJECT, USER);
+
+        String key = "authz:user:" + USER;
+        InOrder order = inOrder(redisTemplate, redisTemplate.opsForHash());
+        order.verify(redisTemplate).multi();
+        order.verify(redisTemplate.opsForHash()).putAll(eq(key), anyMap());
+        order.verify(redisTemplate).expire(key, properties.getRedisTtl());
+        order.verify(redisTemplate).exec();
+    }
+
+    private AuthorizationCache node(Ticker ticker) {
+        AuthorizationCache cache = new AuthorizationCache(redisTemplate, projectMemberRelationRepository,
+                userTeamRelationRepository, properties, ticker);
+        subscribers.add(cache);
+        return cache;
+    }
+
+    private void grant(ProjectMemberRole role) {
+        projectMembers.put(USER, List.of(relation(PROJECT, role)));
+    }
+
+    private void revoke() {
+        projectMembers.put(USER, List.of());
+    }
+
+    private ProjectMemberRelation relation(Long projectKey, ProjectMemberRole role) {
+        return ProjectMemberRelation.builder()
+                .projectKey(projectKey)
+                .memberKey(USER)
+                .role(role)
+                .build();
+    }
+
+    private static class FakeTicker implements Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.yaldi.infra.security.jwt;
+
+import com.yaldi.infra.security.jwt.RefreshTokenService.Rotation;
+import com.yaldi.infra.security.jwt.RefreshTokenService.RotationStatus;
+import com.yaldi.infra.security.jwt.RefreshTokenService.TokenPair;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Refresh Token 회전 Lua 스크립트를 실제 Redis에서 실행하는 테스트
+ *
+ * <p>application.yml과 같은 REDIS_HOST/REDIS_PORT/REDIS_PASSWORD로 연결하고, 연결할 수 없으면 건너뜁니다.
+ * 다른 데이터와 섞이지 않도록 15번 DB를 쓰고 테스트마다 비웁니다. 패밀리 폐기는 실제 pub/sub으로 다른 노드에 전파됩니다.</p>
+ */
+class RefreshTokenRotationRedisTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-32-bytes-long!!";
+    private static final Integer USER = 1;
+    private static final String EMAIL = "user@yaldi.kr";
+    private static final int TEST_DATABASE = 15;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static boolean redisAvailable;
+
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private MutableClock clock;
+    private JwtUtil jwtUtil;
+
+    private RefreshTokenService service;
+    private VerifiedTokenCache nodeA;
+    private VerifiedTokenCache nodeB;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                env("REDIS_HOST", "localhost"), Integer.parseInt(env("REDIS_PORT", "6379")));
+        configuration.setPassword(env("REDIS_PASSWORD", "redis"));
+        configuration.setDatabase(TEST_DATABASE);
+
+        connectionFactory = new LettuceConnectionFactory(configuration,
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(2)).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            redisAvailable = "PONG".equals(connection.ping());
+        } catch (Exception e) {
+            redisAvailable = false;
+        }
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(redisAvailable, "Redis에 연결할 수 없어 건너뜀");
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(Duration.ofHours(1).toMillis());
+        properties.setRefreshTokenExpiration(Duration.ofDays(7).toMillis());
+        properties.setRefreshReuseGrace(Duration.ofSeconds(10));
+
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        jwtUtil = new JwtUtil(properties, clock);
+
+        TokenRevocationRegistry registryA = new TokenRevocationRegistry(redisTemplate);
+        TokenRevocationRegistry registryB = new TokenRevocationRegistry(redisTemplate);
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.addMessageListener(
+                (message, pattern) -> registryB.onRevocation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenRevocationRegistry.REVOCATION_CHANNEL));
+        listenerContainer.start();
+
+        service = new RefreshTokenService(redisTemplate, properties, jwtUtil, registryA, clock);
+        nodeA = new VerifiedTokenCache(jwtUtil, registryA, properties, clock, clock);
+        nodeB = new VerifiedTokenCache(jwtUtil, registryB, properties, clock, clock);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("현재 Refresh Token으로 회전하면 같은 패밀리의 새 토큰 쌍을 발급하고 세션 TTL을 갱신한다")
+    void rotatesWithinFamily() {
+        TokenPair login = service.startSession(USER, EMAIL);
+        String key = "refresh_session:" + USER;
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+
+        Rotation first = service.rotate(login.refreshToken());
+        Rotation second = service.rotate(first.tokens().refreshToken());
+
+        assertThat(first.status()).isEqualTo(RotationStatus.ROTATED);
+        assertThat(second.status()).isEqualTo(RotationStatus.ROTATED);
+        assertThat(familyOf(second.tokens().accessToken())).isEqualTo(familyOf(login.accessToken()));
+        assertThat(nodeB.verifyAccessToken(second.tokens().accessToken()))
+                .hasValueSatisfying(verified -> assertThat(verified.email()).isEqualTo(EMAIL));
+
+        Map<Object, Object> session = redisTemplate.opsForHash().entries(key);
+        assertThat(session).containsEntry("jti", jwtUtil.parse(second.tokens().refreshToken()).tokenId())
+                .containsEntry("prevJti", jwtUtil.parse(first.tokens().refreshToken()).tokenId())
+                .containsEntry("rotatedAt", String.valueOf(clock.millis()));
+        assertThat(redisTemplate.getExpire(key)).isGreaterThan(Duration.ofDays(6).toSeconds());
+    }
+
+    @Test
+    @DisplayName("유예 시간 내 직전 토큰 재사용은 동시 요청으로 보고 Access Token만 발급한다")
+    void concurrentRefreshWithinGrace() {
+        TokenPair login = service.startSession(USER, EMAIL);
+        Rotation rotated = service.rotate(login.refreshToken());
+
+        clock.advance(Duration.ofSeconds(5));
+        Rotation concurrent = service.rotate(login.refreshToken());
+
+        assertThat(concurrent.status()).isEqualTo(RotationStatus.CONCURRENT);
+        assertThat(concurrent.tokens().refreshToken()).isNull();
+        assertThat(nodeA.verifyAccessToken(concurrent.tokens().accessToken())).isPresent();
+        assertThat(service.rotate(rotated.tokens().refreshToken()).status()).isEqualTo(RotationStatus.ROTATED);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 뒤 이전 토큰을 재사용하면 패밀리 전체를 폐기하고 모든 노드에 전파한다")
+    void replayAfterGraceRevokesFamily() {
+        TokenPair login = service.startSession(USER, EMAIL);
+        Rotation rotated = service.rotate(login.refreshToken());
+        String victimAccessToken = rotated.tokens().accessToken();
+        assertThat(nodeB.verifyAccessToken(victimAccessToken)).isPresent();
+
+        clock.advance(Duration.ofSeconds(11));
+        Rotation replay = service.rotate(login.refreshToken());
+
+        assertThat(replay.status()).isEqualTo(RotationStatus.REUSED);
+        assertThat(replay.tokens()).isNull();
+        assertThat(redisTemplate.hasKey("refresh_session:" + USER)).isFalse();
+        assertThat(nodeA.verifyAccessToken(victimAccessToken)).isEmpty();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(nodeB.verifyAccessToken(victimAccessToken)).isEmpty());
+        assertThat(nodeB.verifyAccessToken(login.accessToken())).isEmpty();
+        assertThat(service.rotate(rotated.tokens().refreshToken()).status())
+                .isEqualTo(RotationStatus.SESSION_ENDED);
+    }
+
+    @Test
+    @DisplayName("두 세대 이전 토큰은 유예 시간 내라도 재사용으로 탐지한다")
+    void replayOfOlderGenerationIsDetectedImmediately() {
+        TokenPair login = service.startSession(USER, EMAIL);
+        Rotation second = service.rotate(login.refreshToken());
+        service.rotate(second.tokens().refreshToken());
+
+        assertThat(service.rotate(login.refreshToken()).status()).isEqualTo(RotationStatus.REUSED);
+    }
+
+    @Test
+    @DisplayName("새 로그인으로 대체된 세션의 토큰은 재사용이 아닌 세션 종료로 처리한다")
+    void newLoginEndsPreviousSession() {
+        TokenPair oldLogin = service.startSession(USER, EMAIL);
+        TokenPair newLogin = service.startSession(USER, EMAIL);
+
+        assertThat(redisTemplate.opsForHash().keys("refresh_session:" + USER))
+                .containsExactlyInAnyOrder("fid", "jti", "email");
+        assertThat(service.rotate(oldLogin.refreshToken()).status()).isEqualTo(RotationStatus.SESSION_ENDED);
+        assertThat(service.rotate(newLogin.refreshToken()).status()).isEqualTo(RotationStatus.ROTATED);
+    }
+
+    private Long familyOf(String accessToken) {
+        return jwtUtil.parse(accessToken).familyId();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,210 @@
+package com.yaldi.infra.security.jwt;
+
+import com.yaldi.infra.security.jwt.RefreshTokenService.Rotation;
+import com.yaldi.infra.security.jwt.RefreshTokenService.RotationStatus;
+import com.yaldi.infra.security.jwt.RefreshTokenService.TokenPair;
+import com.yaldi.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh Token 회전/재사용 탐지와 패밀리 폐기 전파 테스트
+ *
+ * <p>Redis Hash, 비트맵, pub/sub을 인메모리로 흉내 내고 노드 2개가 공유합니다.
+ * 회전 Lua 스크립트를 거치는 경우는 {@link RefreshTokenRotationRedisTest}에서 실제 Redis로 검증합니다.</p>
+ */
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-32-bytes-long!!";
+    private static final Integer USER = 1;
+    private static final String EMAIL = "user@yaldi.kr";
+
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+    private final AtomicLong familySequence = new AtomicLong();
+    private final List<TokenRevocationRegistry> subscribers = new CopyOnWriteArrayList<>();
+    private volatile byte[] revokedBitmap = new byte[0];
+
+    private MutableClock clock;
+    private RedisTemplate<String, String> redisTemplate;
+    private JwtProperties properties;
+    private JwtUtil jwtUtil;
+
+    private RefreshTokenService service;
+    private VerifiedTokenCache nodeA;
+    private VerifiedTokenCache nodeB;
+    private TokenRevocationRegistry registryB;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(Duration.ofHours(1).toMillis());
+        properties.setRefreshTokenExpiration(Duration.ofDays(7).toMillis());
+        properties.setRefreshReuseGrace(Duration.ofSeconds(10));
+
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        redisTemplate = inMemoryRedis();
+        jwtUtil = new JwtUtil(properties, clock);
+
+        TokenRevocationRegistry registryA = subscribe(new TokenRevocationRegistry(redisTemplate));
+        registryB = subscribe(new TokenRevocationRegistry(redisTemplate));
+        service = new RefreshTokenService(redisTemplate, properties, jwtUtil, registryA, clock);
+        nodeA = new VerifiedTokenCache(jwtUtil, registryA, properties, clock, clock);
+        nodeB = new VerifiedTokenCache(jwtUtil, registryB, properties, clock, clock);
+    }
+
+    @Test
+    @DisplayName("세션 교체(삭제/저장/TTL)는 하나의 MULTI/EXEC로 실행한다")
+    void startSessionReplacesSessionInOneTransaction() {
+        service.startSession(USER, EMAIL);
+
+        String key = "refresh_session:" + USER;
+        InOrder order = inOrder(redisTemplate, redisTemplate.opsForHash());
+        order.verify(redisTemplate).multi();
+        order.verify(redisTemplate).delete(key);
+        order.verify(redisTemplate.opsForHash()).putAll(eq(key), anyMap());
+        order.verify(redisTemplate).expire(key, Duration.ofDays(7).toMillis(), TimeUnit.MILLISECONDS);
+        order.verify(redisTemplate).exec();
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 Refresh Token 갱신과 발급된 Access Token이 모두 거부된다")
+    void revokeSessionInvalidatesAccessTokens() {
+        TokenPair login = service.startSession(USER, EMAIL);
+        assertThat(nodeB.verifyAccessToken(login.accessToken())).isPresent();
+
+        service.revokeSession(USER);
+
+        assertThat(nodeB.verifyAccessToken(login.accessToken())).isEmpty();
+        assertThat(service.rotate(login.refreshToken()).status()).isEqualTo(RotationStatus.SESSION_ENDED);
+    }
+
+    @Test
+    @DisplayName("Access Token이나 위조 토큰으로는 회전할 수 없다")
+    void rejectsInvalidRefreshTokens() {
+        TokenPair login = service.startSession(USER, EMAIL);
+
+        assertThat(service.rotate(login.accessToken()).status()).isEqualTo(RotationStatus.INVALID);
+        assertThat(service.rotate("garbage").status()).isEqualTo(RotationStatus.INVALID);
+    }
+
+    @Test
+    @DisplayName("pub/sub 메시지를 놓친 노드는 비트맵 동기화로 폐기 목록을 따라잡는다")
+    void lateNodeCatchesUpThroughBitmap() {
+        TokenPair first = service.startSession(USER, EMAIL);
+        TokenPair second = service.startSession(2, "other@yaldi.kr");
+        service.revokeSession(USER);
+
+        TokenRevocationRegistry lateRegistry = new TokenRevocationRegistry(redisTemplate);
+        assertThat(lateRegistry.isRevoked(familyOf(first.accessToken()))).isFalse();
+
+        lateRegistry.synchronize();
+
+        assertThat(lateRegistry.isRevoked(familyOf(first.accessToken()))).isTrue();
+        assertThat(lateRegistry.isRevoked(familyOf(second.accessToken()))).isFalse();
+        assertThat(registryB.isRevoked(familyOf(first.accessToken()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("비트맵 병합은 Redis 비트 순서(바이트 내 최상위 비트 우선)를 따른다")
+    void bitmapMergeUsesRedisBitOrder() {
+        long[] offsets = {0, 7, 8, 63, 64, 100, 1_000_000};
+        for (long offset : offsets) {
+            setRedisBit(offset);
+        }
+
+        RevocationBitmap bitmap = new RevocationBitmap();
+        bitmap.merge(revokedBitmap);
+
+        for (long offset : offsets) {
+            assertThat(bitmap.isSet(offset)).as("offset %d", offset).isTrue();
+        }
+        assertThat(bitmap.isSet(1)).isFalse();
+        assertThat(bitmap.isSet(99)).isFalse();
+        assertThat(bitmap.isSet(2_000_000)).isFalse();
+    }
+
+    private Long familyOf(String accessToken) {
+        return jwtUtil.parse(accessToken).familyId();
+    }
+
+    private TokenRevocationRegistry subscribe(TokenRevocationRegistry registry) {
+        subscribers.add(registry);
+        return registry;
+    }
+
+    private synchronized void setRedisBit(long offset) {
+        int byteIndex = (int) (offset / 8);
+        if (byteIndex >= revokedBitmap.length) {
+            revokedBitmap = Arrays.copyOf(revokedBitmap, byteIndex + 1);
+        }
+        revokedBitmap[byteIndex] |= (byte) (0x80 >>> (offset % 8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> inMemoryRedis() {
+        RedisTemplate<String, String> template = mock(RedisTemplate.class);
+
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        doAnswer(inv -> {
+            Map<String, String> hash = new ConcurrentHashMap<>();
+            inv.<Map<String, String>>getArgument(1).forEach(hash::put);
+            hashes.merge(inv.getArgument(0), hash, (existing, added) -> {
+                existing.putAll(added);
+                return existing;
+            });
+            return null;
+        }).when(hashOperations).putAll(anyString(), anyMap());
+        when(hashOperations.get(anyString(), any()))
+                .thenAnswer(inv -> hashes.getOrDefault(inv.<String>getArgument(0), Map.of())
+                        .get(inv.<Object>getArgument(1).toString()));
+        when(template.opsForHash()).thenReturn(hashOperations);
+
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(valueOperations.increment(anyString())).thenAnswer(inv -> familySequence.incrementAndGet());
+        when(valueOperations.setBit(anyString(), anyLong(), eq(true))).thenAnswer(inv -> {
+            setRedisBit(inv.getArgument(1));
+            return false;
+        });
+        when(template.opsForValue()).thenReturn(valueOperations);
+
+        when(template.delete(anyString())).thenAnswer(inv -> hashes.remove(inv.<String>getArgument(0)) != null);
+        when(template.expire(anyString(), anyLong(), any())).thenReturn(true);
+        when(template.convertAndSend(anyString(), any())).thenAnswer(inv -> {
+            subscribers.forEach(registry -> registry.onRevocation(inv.getArgument(1)));
+            return (long) subscribers.size();
+        });
+        when(template.execute(any(RedisCallback.class))).thenAnswer(inv -> revokedBitmap.clone());
+        when(template.execute(any(SessionCallback.class)))
+                .thenAnswer(inv -> inv.<SessionCallback<?>>getArgument(0).execute(template));
+        return template;
+    }
+}
@@ -0,0 +1,126 @@
+package com.yaldi.infra.security.jwt;
+
+import com.yaldi.support.MutableClock;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 검증 토큰 캐시 테스트 (시계 오차, 캐시 적중, 패밀리 폐기)
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-32-bytes-long!!";
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private MutableClock clock;
+    private JwtProperties properties;
+    private JwtUtil jwtUtil;
+    private TokenRevocationRegistry revocationRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(Duration.ofHours(1).toMillis());
+        properties.setRefreshTokenExpiration(Duration.ofDays(7).toMillis());
+        properties.setAllowedClockSkew(Duration.ofSeconds(30));
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+
+        clock = new MutableClock(START);
+        jwtUtil = spy(new JwtUtil(properties, clock));
+        revocationRegistry = new TokenRevocationRegistry(redisTemplate);
+        cache = new VerifiedTokenCache(jwtUtil, revocationRegistry, properties, clock, clock);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 파싱한다")
+    void parsesOncePerToken() {
+        String token = jwtUtil.generateAccessToken(1, "user@yaldi.kr", 10L);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.verifyAccessToken(token)).hasValueSatisfying(verified -> {
+                assertThat(verified.userKey()).isEqualTo(1);
+                assertThat(verified.familyId()).isEqualTo(10L);
+            });
+        }
+
+        verify(jwtUtil, times(1)).parse(token);
+    }
+
+    @Test
+    @DisplayName("만료 후 허용 오차 이내는 통과, 초과하면 캐시 적중이어도 거부한다")
+    void expiryHonoursClockSkew() {
+        String token = jwtUtil.generateAccessToken(1, "user@yaldi.kr", 10L);
+        assertThat(cache.verifyAccessToken(token)).isPresent();
+
+        clock.advance(Duration.ofHours(1).plusSeconds(10));
+        assertThat(cache.verifyAccessToken(token)).isPresent();
+        assertThatCode(() -> jwtUtil.parse(token)).doesNotThrowAnyException();
+
+        clock.advance(Duration.ofSeconds(50));
+        assertThat(cache.verifyAccessToken(token)).isEmpty();
+        assertThatThrownBy(() -> jwtUtil.parse(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("발급 시각이 허용 오차보다 미래인 토큰은 거부한다")
+    void rejectsTokensIssuedInTheFuture() {
+        MutableClock fastClock = new MutableClock(START.plusSeconds(20));
+        String slightlyAhead = new JwtUtil(properties, fastClock).generateAccessToken(1, "user@yaldi.kr", 10L);
+        fastClock.advance(Duration.ofSeconds(100));
+        String farAhead = new JwtUtil(properties, fastClock).generateAccessToken(1, "user@yaldi.kr", 10L);
+
+        assertThat(cache.verifyAccessToken(slightlyAhead)).isPresent();
+        assertThat(cache.verifyAccessToken(farAhead)).isEmpty();
+        assertThatThrownBy(() -> jwtUtil.parse(farAhead)).isInstanceOf(PrematureJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Refresh Token과 위조 토큰은 Access Token으로 인정하지 않는다")
+    void rejectsRefreshAndForgedTokens() {
+        String refreshToken = jwtUtil.generateRefreshToken(1, 10L, "jti-1");
+        JwtProperties otherKey = new JwtProperties();
+        otherKey.setSecret("another-secret-key-that-is-also-32-bytes-long!!");
+        otherKey.setAccessTokenExpiration(Duration.ofHours(1).toMillis());
+        String forged = new JwtUtil(otherKey, clock).generateAccessToken(1, "user@yaldi.kr", 10L);
+
+        assertThat(cache.verifyAccessToken(refreshToken)).isEmpty();
+        assertThat(cache.verifyAccessToken(forged)).isEmpty();
+        assertThat(cache.verifyAccessToken("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("패밀리가 폐기되면 캐시에 있는 토큰도 즉시 거부한다")
+    void revokedFamilyIsRejectedOnCacheHit() {
+        String revoked = jwtUtil.generateAccessToken(1, "user@yaldi.kr", 10L);
+        String other = jwtUtil.generateAccessToken(2, "other@yaldi.kr", 11L);
+        assertThat(cache.verifyAccessToken(revoked)).isPresent();
+        assertThat(cache.verifyAccessToken(other)).isPresent();
+
+        revocationRegistry.revokeFamily(10L);
+
+        assertThat(cache.verifyAccessToken(revoked)).isEmpty();
+        assertThat(cache.verifyAccessToken(other)).isPresent();
+    }
+}
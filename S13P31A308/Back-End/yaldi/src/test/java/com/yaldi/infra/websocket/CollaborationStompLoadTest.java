@@ -0,0 +1,279 @@
+package com.yaldi.infra.websocket;
+
+import com.yaldi.global.metrics.CollaborationMetrics;
+import com.yaldi.global.metrics.CollaborationMetricsProperties;
+import com.yaldi.infra.websocket.interceptor.WebSocketMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 STOMP 부하 테스트
+ *
+ * <p>가상 편집자 N명이 같은 프로젝트를 구독하고 테이블 드래그처럼 일정 간격으로 이동 프레임을 보냅니다.
+ * 서버는 실제 메트릭 인터셉터를 거쳐 프로젝트 토픽으로 즉시 브로드캐스트하고(테이블 이동과 같은 경로),
+ * 모든 편집자가 모든 프레임을 받을 때까지의 전송→수신 지연이 SLO 안인지 확인합니다.
+ * 측정값은 이 클래스 로거의 DEBUG 로그({@code [loadtest]})로 테스트 리포트에 남습니다.</p>
+ *
+ * <pre>
+ * ./gradlew test --tests '*CollaborationStompLoadTest' \
+ *     -Dloadtest.editors=50 -Dloadtest.frames=100 -Dloadtest.interval-ms=20 -Dloadtest.p95-ms=250 -Dloadtest.p99-ms=500
+ * </pre>
+ */
+@SpringBootTest(
+        classes = CollaborationStompLoadTest.LoadTestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // 애플리케이션 설정(DB/Redis/Kafka)은 읽지 않음
+        properties = {
+                "spring.config.name=collab-loadtest",
+                "logging.level.com.yaldi.infra.websocket.CollaborationStompLoadTest=DEBUG"
+        }
+)
+class CollaborationStompLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CollaborationStompLoadTest.class);
+
+    private static final int EDITORS = Integer.getInteger("loadtest.editors", 5);
+    private static final int FRAMES = Integer.getInteger("loadtest.frames", 40);
+    private static final long INTERVAL_MS = Long.getLong("loadtest.interval-ms", 50);
+    private static final long P95_MS = Long.getLong("loadtest.p95-ms", 250);
+    private static final long P99_MS = Long.getLong("loadtest.p99-ms", 500);
+
+    private static final Long PROJECT_KEY = 1L;
+    private static final String DESTINATION = "/pub/loadtest/table/move";
+
+    record MoveFrame(Long projectKey, int editor, int seq, long sentNanos) {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+    private WebSocketStompClient stompClient;
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(StompSession::disconnect);
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("가상 편집자들이 동시에 편집해도 브로드캐스트 지연이 SLO 안이고 메트릭이 모든 프레임을 센다")
+    void broadcastLatencyWithinSlo() throws Exception {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        long expected = (long) EDITORS * EDITORS * FRAMES;
+        CountDownLatch delivered = new CountDownLatch((int) expected);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch subscribed = new CountDownLatch(EDITORS);
+        for (int i = 0; i < EDITORS; i++) {
+            StompSession session = connect();
+            AtomicBoolean ready = new AtomicBoolean();
+            session.subscribe("/topic/project/" + PROJECT_KEY, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return MoveFrame.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    MoveFrame frame = (MoveFrame) payload;
+                    if (frame.seq() < 0) {
+                        if (ready.compareAndSet(false, true)) {
+                            subscribed.countDown();
+                        }
+                        return;
+                    }
+                    latencies.add(System.nanoTime() - frame.sentNanos());
+                    delivered.countDown();
+                }
+            });
+            sessions.add(session);
+        }
+        awaitSubscriptions(subscribed);
+
+        ExecutorService editors = Executors.newFixedThreadPool(EDITORS);
+        try {
+            List<CompletableFuture<Void>> sends = new ArrayList<>();
+            for (int editor = 0; editor < EDITORS; editor++) {
+                StompSession session = sessions.get(editor);
+                int editorId = editor;
+                sends.add(CompletableFuture.runAsync(() -> sendFrames(session, editorId), editors));
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+
+            assertThat(delivered.await(1, TimeUnit.MINUTES))
+                    .as("delivered %d of %d frames", expected - delivered.getCount(), expected)
+                    .isTrue();
+        } finally {
+            editors.shutdownNow();
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long p95 = TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.95));
+        long p99 = TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.99));
+        log.debug("[loadtest] editors={} frames={} deliveries={} p50={}ms p95={}ms p99={}ms max={}ms",
+                EDITORS, FRAMES, sorted.length,
+                TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.50)), p95, p99,
+                TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+
+        assertThat(p95).as("p95 latency (ms)").isLessThanOrEqualTo(P95_MS);
+        assertThat(p99).as("p99 latency (ms)").isLessThanOrEqualTo(P99_MS);
+
+        long frames = (long) EDITORS * FRAMES;
+        assertThat(meterRegistry.get("collab.ws.inbound").tag("destination", DESTINATION).counter().count())
+                .isEqualTo(frames);
+        assertThat(meterRegistry.get("collab.ws.handler").tag("destination", DESTINATION)
+                .tag("outcome", "success").timer().count())
+                .isEqualTo(frames);
+        assertThat(meterRegistry.get("collab.event.latency")
+                .tag("stage", CollaborationMetrics.STAGE_CLIENT_TO_SERVER).timer().count())
+                .isEqualTo(frames);
+    }
+
+    private void sendFrames(StompSession session, int editor) {
+        for (int seq = 0; seq < FRAMES; seq++) {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination(DESTINATION);
+            headers.add("clientTimestamp", String.valueOf(System.currentTimeMillis()));
+            session.send(headers, new MoveFrame(PROJECT_KEY, editor, seq, System.nanoTime()));
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(INTERVAL_MS));
+        }
+    }
+
+    /**
+     * 구독 등록은 비동기이므로 모든 편집자가 준비 프레임(seq = -1)을 받을 때까지 반복 전송
+     */
+    private void awaitSubscriptions(CountDownLatch subscribed) throws InterruptedException {
+        StompSession probe = connect();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (!subscribed.await(50, TimeUnit.MILLISECONDS)) {
+                assertThat(System.nanoTime()).as("subscriptions ready").isLessThan(deadline);
+                probe.send("/topic/project/" + PROJECT_KEY, new MoveFrame(PROJECT_KEY, -1, -1, System.nanoTime()));
+            }
+        } finally {
+            probe.disconnect();
+        }
+    }
+
+    private StompSession connect() {
+        return stompClient
+                .connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+                })
+                .orTimeout(10, TimeUnit.SECONDS)
+                .join();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    @Configuration
+    @EnableWebSocketMessageBroker
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            JacksonAutoConfiguration.class
+    })
+    @Import({CollaborationMetrics.class, CollaborationMetricsProperties.class, WebSocketMetricsInterceptor.class,
+            LoadTestController.class})
+    static class LoadTestConfig implements WebSocketMessageBrokerConfigurer {
+
+        @Autowired
+        private WebSocketMetricsInterceptor metricsInterceptor;
+
+        @Bean
+        static MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Override
+        public void registerStompEndpoints(StompEndpointRegistry registry) {
+            registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
+        }
+
+        @Override
+        public void configureMessageBroker(MessageBrokerRegistry registry) {
+            registry.enableSimpleBroker("/topic");
+            registry.setApplicationDestinationPrefixes("/pub");
+        }
+
+        @Override
+        public void configureClientInboundChannel(ChannelRegistration registration) {
+            registration.interceptors(metricsInterceptor);
+        }
+    }
+
+    /**
+     * ErdWebSocketController.handleTableMove와 같은 방식으로 프로젝트 토픽에 즉시 브로드캐스트
+     */
+    @Controller
+    static class LoadTestController {
+
+        private final SimpMessagingTemplate messagingTemplate;
+
+        LoadTestController(SimpMessagingTemplate messagingTemplate) {
+            this.messagingTemplate = messagingTemplate;
+        }
+
+        @MessageMapping("/loadtest/table/move")
+        public void handleTableMove(@Payload MoveFrame frame) {
+            messagingTemplate.convertAndSend("/topic/project/" + frame.projectKey(), frame);
+        }
+    }
+}